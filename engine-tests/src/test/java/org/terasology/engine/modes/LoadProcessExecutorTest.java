@@ -0,0 +1,181 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.engine.modes;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ */
+public class LoadProcessExecutorTest {
+
+    private final List<String> completed = Collections.synchronizedList(Lists.newArrayList());
+    private LoadProcessExecutor executor = new LoadProcessExecutor(2);
+
+    @After
+    public void teardown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void processesWithoutDependenciesRunInOrder() {
+        executor.add(new TestProcess("a", 2));
+        executor.add(new TestProcess("b", 1));
+        executor.add(new TestProcess("c", 3));
+
+        runToCompletion();
+
+        assertEquals(Lists.newArrayList("a", "b", "c"), completed);
+        assertEquals(1f, executor.getProgress(), 0.0001f);
+    }
+
+    @Test
+    public void mainThreadProcessRunsWhileBackgroundProcessIsBlocked() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        executor.add(new TestProcess("first", 1));
+        executor.add(new BlockingProcess("background", release, ImmutableSet.of(TestProcess.class)));
+        executor.add(new TestProcess("independent", 1) {
+            @Override
+            public Set<Class<? extends LoadProcess>> getDependencies() {
+                return ImmutableSet.of(TestProcess.class);
+            }
+        });
+        executor.add(new TestProcess("last", 1));
+
+        while (!completed.contains("independent")) {
+            assertTrue(executor.step());
+        }
+        assertFalse(completed.contains("background"));
+        assertFalse(executor.step());
+
+        release.countDown();
+        runToCompletion();
+        assertEquals("last", completed.get(completed.size() - 1));
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void backgroundFailureIsReportedOnMainThread() {
+        executor.add(new BlockingProcess("failing", null, ImmutableSet.of()));
+        runToCompletion();
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void backgroundErrorIsReportedOnMainThread() {
+        executor.add(new BlockingProcess("erroring", null, ImmutableSet.of()) {
+            @Override
+            public boolean step() {
+                throw new LinkageError("Failed to load");
+            }
+        });
+        runToCompletion();
+    }
+
+    private void runToCompletion() {
+        long timeout = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (!executor.isFinished()) {
+            if (!executor.step()) {
+                Thread.yield();
+            }
+            assertTrue("Load processes did not complete", System.currentTimeMillis() < timeout);
+        }
+    }
+
+    private class TestProcess implements LoadProcess {
+        private final String name;
+        private final int steps;
+        private int stepsDone;
+
+        TestProcess(String name, int steps) {
+            this.name = name;
+            this.steps = steps;
+        }
+
+        @Override
+        public String getMessage() {
+            return name;
+        }
+
+        @Override
+        public boolean step() {
+            stepsDone++;
+            if (stepsDone == steps) {
+                completed.add(name);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void begin() {
+        }
+
+        @Override
+        public float getProgress() {
+            return (float) stepsDone / steps;
+        }
+
+        @Override
+        public int getExpectedCost() {
+            return 1;
+        }
+    }
+
+    private class BlockingProcess extends TestProcess {
+        private final CountDownLatch release;
+        private final Set<Class<? extends LoadProcess>> dependencies;
+
+        BlockingProcess(String name, CountDownLatch release, Set<Class<? extends LoadProcess>> dependencies) {
+            super(name, 1);
+            this.release = release;
+            this.dependencies = dependencies;
+        }
+
+        @Override
+        public boolean step() {
+            if (release == null) {
+                throw new IllegalStateException("Failed to load");
+            }
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.step();
+        }
+
+        @Override
+        public boolean isThreadSafe() {
+            return true;
+        }
+
+        @Override
+        public Set<Class<? extends LoadProcess>> getDependencies() {
+            return dependencies;
+        }
+    }
+}
@@ -64,7 +64,7 @@
  */
 public class PojoEntityManagerTest {
 
-    private static Context context;
+    protected static Context context;
     private PojoEntityManager entityManager;
     private Prefab prefab;
 
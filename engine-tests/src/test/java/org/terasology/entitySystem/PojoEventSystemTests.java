@@ -43,6 +43,7 @@
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -197,6 +198,48 @@ public void testChildEventReceivedByUnfilteredHandler() {
         assertEquals(1, handler.unfilteredEvents.size());
     }
 
+    @Test
+    public void testHandlerRegisteredAfterSendReceivesEvent() {
+        entity.addComponent(new StringComponent());
+        TestEventHandler handlerNormal = new TestEventHandler();
+        eventSystem.registerEventHandler(handlerNormal);
+        entity.send(new TestEvent());
+
+        TestHighPriorityEventHandler handlerHigh = new TestHighPriorityEventHandler();
+        eventSystem.registerEventHandler(handlerHigh);
+        entity.send(new TestEvent());
+
+        assertEquals(2, handlerNormal.receivedList.size());
+        assertEquals(1, handlerHigh.receivedList.size());
+    }
+
+    @Test
+    public void testUnregisteredHandlerNoLongerReceivesEvent() {
+        entity.addComponent(new StringComponent());
+        TestEventHandler handler = new TestEventHandler();
+        eventSystem.registerEventHandler(handler);
+        entity.send(new TestEvent());
+
+        eventSystem.unregisterEventHandler(handler);
+        entity.send(new TestEvent());
+
+        assertEquals(1, handler.receivedList.size());
+    }
+
+    @Test
+    public void testHandlerReceivesComponentParameters() {
+        StringComponent stringComponent = entity.addComponent(new StringComponent());
+        IntegerComponent intComponent = entity.addComponent(new IntegerComponent());
+        TestComponentParameterEventHandler handler = new TestComponentParameterEventHandler();
+        eventSystem.registerEventHandler(handler);
+
+        entity.send(new TestEvent());
+
+        assertEquals(1, handler.receivedStrings.size());
+        assertSame(stringComponent, handler.receivedStrings.get(0));
+        assertSame(intComponent, handler.receivedIntegers.get(0));
+    }
+
     private static class TestEvent extends AbstractConsumableEvent {
 
     }
@@ -290,6 +333,18 @@ public Received(TestEvent event, EntityRef entity) {
         }
     }
 
+    public static class TestComponentParameterEventHandler extends BaseComponentSystem {
+
+        List<StringComponent> receivedStrings = Lists.newArrayList();
+        List<IntegerComponent> receivedIntegers = Lists.newArrayList();
+
+        @ReceiveEvent
+        public void handleEvent(TestEvent event, EntityRef entity, StringComponent stringComponent, IntegerComponent intComponent) {
+            receivedStrings.add(stringComponent);
+            receivedIntegers.add(intComponent);
+        }
+    }
+
     public static class TestCompoundComponentEventHandler extends BaseComponentSystem {
 
         List<Received> receivedList = Lists.newArrayList();
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.logic.ai;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AIUpdateScheduleTest {
+
+    private static final float NEAR = 0;
+    private static final float MID = (AIUpdateSchedule.MID_DISTANCE - 1) * (AIUpdateSchedule.MID_DISTANCE - 1);
+    private static final float FAR = Float.POSITIVE_INFINITY;
+
+    @Test
+    public void testNearActorsAreUpdatedEveryTick() {
+        AIUpdateSchedule<String> schedule = new AIUpdateSchedule<>();
+        Map<String, Float> distances = ImmutableMap.of("a", NEAR, "b", NEAR);
+
+        assertEquals(Arrays.asList("a", "b"), actors(schedule.selectDue(distances.keySet(), 1000, distances::get)));
+        List<AIUpdateSchedule.Update<String>> updates = schedule.selectDue(distances.keySet(), 1016, distances::get);
+        assertEquals(Arrays.asList("a", "b"), actors(updates));
+        assertEquals(16, updates.get(0).getDeltaMs());
+    }
+
+    @Test
+    public void testDistantActorsAccumulateTime() {
+        AIUpdateSchedule<String> schedule = new AIUpdateSchedule<>();
+        Map<String, Float> distances = ImmutableMap.of("mid", MID, "far", FAR);
+
+        schedule.selectDue(distances.keySet(), 0, distances::get);
+        assertTrue(schedule.selectDue(distances.keySet(), 100, distances::get).isEmpty());
+
+        List<AIUpdateSchedule.Update<String>> updates = schedule.selectDue(distances.keySet(), AIUpdateSchedule.MID_INTERVAL, distances::get);
+        assertEquals(Collections.singletonList("mid"), actors(updates));
+        assertEquals(AIUpdateSchedule.MID_INTERVAL, updates.get(0).getDeltaMs());
+
+        updates = schedule.selectDue(distances.keySet(), AIUpdateSchedule.FAR_INTERVAL, distances::get);
+        assertEquals(Arrays.asList("mid", "far"), actors(updates));
+        assertEquals(AIUpdateSchedule.FAR_INTERVAL, updates.get(1).getDeltaMs());
+    }
+
+    @Test
+    public void testBudgetDefersLeastOverdueActors() {
+        AIUpdateSchedule<String> schedule = new AIUpdateSchedule<>(2);
+        Map<String, Float> distances = ImmutableMap.of("a", NEAR, "b", NEAR, "c", NEAR);
+
+        assertEquals(Arrays.asList("a", "b"), actors(schedule.selectDue(distances.keySet(), 0, distances::get)));
+        List<AIUpdateSchedule.Update<String>> updates = schedule.selectDue(distances.keySet(), 10, distances::get);
+        assertEquals("c", updates.get(0).getActor());
+        assertEquals(10, updates.get(0).getDeltaMs());
+        assertEquals(2, updates.size());
+    }
+
+    @Test
+    public void testRemovedActorsAreForgotten() {
+        AIUpdateSchedule<String> schedule = new AIUpdateSchedule<>();
+        Map<String, Float> distances = ImmutableMap.of("a", NEAR);
+
+        schedule.selectDue(distances.keySet(), 0, distances::get);
+        schedule.selectDue(Collections.emptyList(), 500, distances::get);
+        List<AIUpdateSchedule.Update<String>> updates = schedule.selectDue(distances.keySet(), 516, distances::get);
+        assertEquals(16, updates.get(0).getDeltaMs());
+    }
+
+    private static List<String> actors(List<AIUpdateSchedule.Update<String>> updates) {
+        List<String> actors = Lists.newArrayList();
+        for (AIUpdateSchedule.Update<String> update : updates) {
+            actors.add(update.getActor());
+        }
+        return actors;
+    }
+}
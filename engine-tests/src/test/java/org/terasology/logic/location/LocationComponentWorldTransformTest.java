@@ -0,0 +1,238 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.logic.location;
+
+import com.google.common.collect.Lists;
+import org.junit.Before;
+import org.junit.Test;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.math.TeraMath;
+import org.terasology.math.geom.Quat4f;
+import org.terasology.math.geom.Vector3f;
+import org.terasology.testUtil.TeraAssert;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares the cached world transforms of location hierarchies with a walk up the parent chain.
+ */
+public class LocationComponentWorldTransformTest {
+
+    private static final float EPSILON = 0.001f;
+
+    private Random random;
+    private Location locationSystem;
+    private List<EntityRef> entities;
+    private long nextFakeEntityId = 1;
+
+    @Before
+    public void setup() {
+        random = new Random(4711);
+        locationSystem = new Location();
+        entities = Lists.newArrayList();
+    }
+
+    @Test
+    public void testRandomHierarchy() {
+        createRandomHierarchy(60);
+        assertWorldTransformsCorrect();
+    }
+
+    @Test
+    public void testChangesThroughSetters() {
+        createRandomHierarchy(60);
+        for (int i = 0; i < 300; i++) {
+            LocationComponent loc = randomLocation();
+            switch (random.nextInt(6)) {
+                case 0:
+                    loc.setLocalPosition(randomVector());
+                    break;
+                case 1:
+                    loc.setLocalRotation(randomRotation());
+                    break;
+                case 2:
+                    loc.setLocalScale(randomScale());
+                    break;
+                case 3:
+                    loc.setWorldPosition(randomVector());
+                    break;
+                case 4:
+                    loc.setWorldRotation(randomRotation());
+                    break;
+                default:
+                    loc.setWorldScale(randomScale());
+                    break;
+            }
+            // Only read some of the entities, so that caches of different ages are mixed
+            for (int j = 0; j < 5; j++) {
+                assertWorldTransformCorrect(randomLocation());
+            }
+        }
+        assertWorldTransformsCorrect();
+    }
+
+    @Test
+    public void testDirectChangesOfLocalTransform() {
+        createRandomHierarchy(30);
+        assertWorldTransformsCorrect();
+
+        for (int i = 0; i < 50; i++) {
+            EntityRef entity = entities.get(random.nextInt(entities.size()));
+            LocationComponent loc = entity.getComponent(LocationComponent.class);
+            loc.getLocalPosition().add(randomVector());
+            loc.getLocalRotation().set(randomRotation());
+            assertWorldTransformCorrect(loc);
+
+            locationSystem.onLocationChanged(null, entity, loc);
+            assertWorldTransformsCorrect();
+        }
+    }
+
+    @Test
+    public void testReparenting() {
+        createRandomHierarchy(40);
+        assertWorldTransformsCorrect();
+
+        for (int i = 0; i < 100; i++) {
+            EntityRef child = entities.get(random.nextInt(entities.size()));
+            EntityRef parent = entities.get(random.nextInt(entities.size()));
+            LocationComponent childLoc = child.getComponent(LocationComponent.class);
+            if (random.nextBoolean() && childLoc.getParent().exists()) {
+                Location.removeChild(childLoc.getParent(), child);
+            } else if (!isAncestor(child, parent)) {
+                Vector3f worldPosition = childLoc.getWorldPosition();
+                Location.attachChild(parent, child);
+                TeraAssert.assertEquals(worldPosition, childLoc.getWorldPosition(), EPSILON * 10);
+            }
+            assertWorldTransformsCorrect();
+        }
+    }
+
+    @Test
+    public void testReplacedParentComponent() {
+        EntityRef grandParent = createEntity(EntityRef.NULL);
+        EntityRef parent = createEntity(grandParent);
+        EntityRef child = createEntity(parent);
+        assertWorldTransformsCorrect();
+
+        LocationComponent oldParentLoc = parent.getComponent(LocationComponent.class);
+        LocationComponent newParentLoc = new LocationComponent(randomVector());
+        newParentLoc.parent = oldParentLoc.parent;
+        newParentLoc.children.addAll(oldParentLoc.children);
+        newParentLoc.setLocalRotation(randomRotation());
+        when(parent.getComponent(LocationComponent.class)).thenReturn(newParentLoc);
+        locationSystem.onLocationChanged(null, parent, newParentLoc);
+
+        assertWorldTransformsCorrect();
+        assertWorldTransformCorrect(child.getComponent(LocationComponent.class));
+    }
+
+    @Test
+    public void testDeactivatedParent() {
+        EntityRef parent = createEntity(EntityRef.NULL);
+        EntityRef child = createEntity(parent);
+        LocationComponent childLoc = child.getComponent(LocationComponent.class);
+        assertWorldTransformCorrect(childLoc);
+
+        locationSystem.onLocationDeactivated(null, parent, parent.getComponent(LocationComponent.class));
+        when(parent.getComponent(LocationComponent.class)).thenReturn(null);
+
+        assertEquals(childLoc.getLocalPosition(), childLoc.getWorldPosition());
+        assertEquals(childLoc.getLocalRotation(), childLoc.getWorldRotation());
+        assertEquals(childLoc.getLocalScale(), childLoc.getWorldScale(), 0);
+    }
+
+    private void createRandomHierarchy(int size) {
+        for (int i = 0; i < size; i++) {
+            EntityRef parent = entities.isEmpty() || random.nextInt(5) == 0 ? EntityRef.NULL : entities.get(random.nextInt(entities.size()));
+            createEntity(parent);
+        }
+    }
+
+    private EntityRef createEntity(EntityRef parent) {
+        LocationComponent loc = new LocationComponent(randomVector());
+        EntityRef entity = mock(EntityRef.class);
+        when(entity.getComponent(LocationComponent.class)).thenReturn(loc);
+        when(entity.exists()).thenReturn(true);
+        when(entity.getId()).thenReturn(nextFakeEntityId++);
+        if (parent.exists()) {
+            Location.attachChild(parent, entity, randomVector(), randomRotation(), randomScale());
+        } else {
+            loc.setLocalRotation(randomRotation());
+            loc.setLocalScale(randomScale());
+        }
+        entities.add(entity);
+        return entity;
+    }
+
+    private boolean isAncestor(EntityRef entity, EntityRef descendant) {
+        EntityRef current = descendant;
+        while (current.exists()) {
+            if (current == entity) {
+                return true;
+            }
+            current = current.getComponent(LocationComponent.class).getParent();
+        }
+        return false;
+    }
+
+    private LocationComponent randomLocation() {
+        return entities.get(random.nextInt(entities.size())).getComponent(LocationComponent.class);
+    }
+
+    private Vector3f randomVector() {
+        return new Vector3f(random.nextFloat() * 20 - 10, random.nextFloat() * 20 - 10, random.nextFloat() * 20 - 10);
+    }
+
+    private Quat4f randomRotation() {
+        return new Quat4f(TeraMath.DEG_TO_RAD * random.nextInt(360), TeraMath.DEG_TO_RAD * random.nextInt(360), TeraMath.DEG_TO_RAD * random.nextInt(360));
+    }
+
+    private float randomScale() {
+        return 0.5f + random.nextFloat() * 1.5f;
+    }
+
+    private void assertWorldTransformsCorrect() {
+        for (EntityRef entity : entities) {
+            assertWorldTransformCorrect(entity.getComponent(LocationComponent.class));
+        }
+    }
+
+    private void assertWorldTransformCorrect(LocationComponent loc) {
+        float expectedScale = loc.scale;
+        Quat4f expectedRotation = new Quat4f(loc.rotation);
+        Vector3f expectedPosition = new Vector3f(loc.position);
+        LocationComponent parentLoc = loc.parent.getComponent(LocationComponent.class);
+        while (parentLoc != null) {
+            expectedScale *= parentLoc.scale;
+            expectedRotation.mul(parentLoc.rotation, expectedRotation);
+            expectedPosition.scale(parentLoc.scale);
+            parentLoc.rotation.rotate(expectedPosition, expectedPosition);
+            expectedPosition.add(parentLoc.position);
+            parentLoc = parentLoc.parent.getComponent(LocationComponent.class);
+        }
+
+        float error = EPSILON * Math.max(1, expectedPosition.length());
+        assertEquals(expectedScale, loc.getWorldScale(), EPSILON * expectedScale);
+        TeraAssert.assertEquals(expectedRotation, loc.getWorldRotation(), EPSILON);
+        TeraAssert.assertEquals(expectedPosition, loc.getWorldPosition(), error);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.logic.location;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.junit.Before;
+import org.junit.Test;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.logic.players.PlayerCharacterComponent;
+import org.terasology.math.AABB;
+import org.terasology.math.geom.Vector3f;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ */
+public class SpatialEntityIndexSystemTest {
+
+    private SpatialEntityIndexSystem index;
+    private long nextFakeEntityId = 1;
+
+    @Before
+    public void setup() {
+        index = new SpatialEntityIndexSystem();
+    }
+
+    private EntityRef createFakeEntityAt(Vector3f position, boolean player) {
+        EntityRef entity = mock(EntityRef.class);
+        when(entity.getComponent(LocationComponent.class)).thenReturn(new LocationComponent(position));
+        when(entity.exists()).thenReturn(true);
+        when(entity.getId()).thenReturn(nextFakeEntityId++);
+        when(entity.hasComponent(PlayerCharacterComponent.class)).thenReturn(player);
+        index.onLocationActivated(null, entity);
+        return entity;
+    }
+
+    @Test
+    public void testEntitiesWithinRadius() {
+        EntityRef near = createFakeEntityAt(new Vector3f(1, 0, 0), false);
+        EntityRef acrossCell = createFakeEntityAt(new Vector3f(-3, 2, 0), false);
+        createFakeEntityAt(new Vector3f(20, 0, 0), false);
+
+        assertEquals(Sets.newHashSet(near, acrossCell), Sets.newHashSet(index.getEntitiesWithin(new Vector3f(), 5)));
+    }
+
+    @Test
+    public void testEntitiesWithinBox() {
+        EntityRef inside = createFakeEntityAt(new Vector3f(10, 10, 10), false);
+        createFakeEntityAt(new Vector3f(10, 30, 10), false);
+
+        assertEquals(Lists.newArrayList(inside),
+                index.getEntitiesWithin(AABB.createMinMax(new Vector3f(0, 0, 0), new Vector3f(20, 20, 20))));
+    }
+
+    @Test
+    public void testNearestEntitiesOrderedByDistance() {
+        EntityRef far = createFakeEntityAt(new Vector3f(0, 0, 300), false);
+        EntityRef middle = createFakeEntityAt(new Vector3f(0, 40, 0), false);
+        EntityRef near = createFakeEntityAt(new Vector3f(2, 0, 0), false);
+
+        assertEquals(Lists.newArrayList(near, middle), index.getNearestEntities(new Vector3f(), 2, Float.POSITIVE_INFINITY));
+        assertEquals(Lists.newArrayList(near, middle, far), index.getNearestEntities(new Vector3f(), 5, Float.POSITIVE_INFINITY));
+        assertEquals(Lists.newArrayList(near), index.getNearestEntities(new Vector3f(), 5, 10));
+    }
+
+    @Test
+    public void testNearestEntityWithComponent() {
+        createFakeEntityAt(new Vector3f(1, 0, 0), false);
+        EntityRef player = createFakeEntityAt(new Vector3f(100, 0, 0), true);
+
+        assertEquals(player, index.getNearestEntity(new Vector3f(), Float.POSITIVE_INFINITY, PlayerCharacterComponent.class));
+        assertEquals(EntityRef.NULL, index.getNearestEntity(new Vector3f(), 50, PlayerCharacterComponent.class));
+    }
+
+    @Test
+    public void testFarSingleEntityInSparseIndex() {
+        EntityRef far = createFakeEntityAt(new Vector3f(100, 0, 0), false);
+
+        assertEquals(far, index.getNearestEntity(new Vector3f(), Float.MAX_VALUE));
+        assertEquals(Lists.newArrayList(far), index.getNearestEntities(new Vector3f(), 3, Float.MAX_VALUE));
+    }
+
+    @Test
+    public void testNearestEntitiesAcrossSeveralCells() {
+        EntityRef near = createFakeEntityAt(new Vector3f(5, 0, 0), false);
+        EntityRef second = createFakeEntityAt(new Vector3f(0, -40, 0), false);
+        EntityRef third = createFakeEntityAt(new Vector3f(0, 0, 70), false);
+        createFakeEntityAt(new Vector3f(-200, 0, 0), false);
+
+        assertEquals(Lists.newArrayList(near, second), index.getNearestEntities(new Vector3f(), 2, Float.MAX_VALUE));
+        assertEquals(Lists.newArrayList(near, second, third), index.getNearestEntities(new Vector3f(), 3, 100));
+    }
+
+    @Test
+    public void testMovedAndRemovedEntities() {
+        EntityRef entity = createFakeEntityAt(new Vector3f(), false);
+        entity.getComponent(LocationComponent.class).setWorldPosition(new Vector3f(50, 0, 0));
+        index.onLocationChanged(null, entity);
+
+        assertEquals(0, index.getEntitiesWithin(new Vector3f(), 5).size());
+        assertEquals(Lists.newArrayList(entity), index.getEntitiesWithin(new Vector3f(50, 0, 0), 5));
+
+        index.onLocationDeactivated(null, entity);
+        assertEquals(0, index.getEntitiesWithin(new Vector3f(50, 0, 0), 5).size());
+    }
+}
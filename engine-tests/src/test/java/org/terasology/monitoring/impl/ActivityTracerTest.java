@@ -0,0 +1,101 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.monitoring.impl;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests {@link ActivityTracer}
+ */
+public class ActivityTracerTest {
+
+    @Test
+    public void testExportsActivitiesOfAllThreads() throws Exception {
+        ActivityTracer tracer = new ActivityTracer(16);
+        tracer.begin("Main");
+        Thread worker = new Thread(() -> {
+            tracer.begin("Work");
+            tracer.begin("Nested");
+            tracer.end();
+            tracer.end();
+        }, "Worker");
+        worker.start();
+        worker.join();
+        tracer.end();
+
+        List<JsonObject> events = export(tracer);
+        List<JsonObject> threadNames = filter(events, "M");
+        assertEquals(2, threadNames.size());
+        assertTrue(threadNames.stream().anyMatch(e -> "Worker".equals(e.getAsJsonObject("args").get("name").getAsString())));
+
+        List<JsonObject> begins = filter(events, "B");
+        assertEquals(3, begins.size());
+        assertEquals(3, filter(events, "E").size());
+        long workerThreadId = worker.getId();
+        List<String> workerActivities = begins.stream()
+                .filter(e -> e.get("tid").getAsLong() == workerThreadId)
+                .map(e -> e.get("name").getAsString())
+                .collect(Collectors.toList());
+        assertEquals(2, workerActivities.size());
+        assertEquals("Work", workerActivities.get(0));
+        assertEquals("Nested", workerActivities.get(1));
+
+        // The worker has terminated, so its events are only exported once
+        assertEquals(1, tracer.getThreadCount());
+    }
+
+    @Test
+    public void testOverwritesOldestEvents() throws IOException {
+        ActivityTracer tracer = new ActivityTracer(4);
+        tracer.begin("First");
+        for (int i = 0; i < 2; ++i) {
+            tracer.begin("Repeated");
+            tracer.end();
+        }
+        tracer.end();
+
+        // Of the last four events, the oldest could be overwritten during export and the last end has no begin
+        List<JsonObject> events = export(tracer);
+        List<JsonObject> begins = filter(events, "B");
+        assertEquals(1, begins.size());
+        assertEquals("Repeated", begins.get(0).get("name").getAsString());
+        assertEquals(1, filter(events, "E").size());
+    }
+
+    private static List<JsonObject> export(ActivityTracer tracer) throws IOException {
+        StringWriter writer = new StringWriter();
+        tracer.export(writer);
+        JsonArray events = new JsonParser().parse(writer.toString()).getAsJsonObject().getAsJsonArray("traceEvents");
+        return StreamSupport.stream(events.spliterator(), false).map(JsonElement::getAsJsonObject).collect(Collectors.toList());
+    }
+
+    private static List<JsonObject> filter(List<JsonObject> events, String phase) {
+        return events.stream().filter(e -> phase.equals(e.get("ph").getAsString())).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.network.internal;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.junit.Before;
+import org.junit.Test;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.protobuf.NetData;
+import org.terasology.world.biomes.Biome;
+import org.terasology.world.biomes.BiomeManager;
+import org.terasology.world.block.Block;
+import org.terasology.world.block.BlockManager;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyShort;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ */
+public class BlockChangeBatcherTest {
+    private BlockChangeBatcher<NetData.BlockChangeBatchMessage> batcher;
+    private BlockManager blockManager;
+    private Map<Short, Block> blocks = Maps.newHashMap();
+
+    @Before
+    public void setup() {
+        batcher = BlockChangeBatcher.forBlocks();
+        blockManager = mock(BlockManager.class);
+        when(blockManager.getBlock(anyShort())).thenAnswer(invocation -> {
+            Short id = (Short) invocation.getArguments()[0];
+            return blocks.computeIfAbsent(id, k -> mock(Block.class));
+        });
+    }
+
+    @Test
+    public void changesOfAChunkAreBatched() {
+        batcher.add(new Vector3i(0, 0, 0), 3);
+        batcher.add(new Vector3i(1, 0, 0), 3);
+        batcher.add(new Vector3i(2, 0, 0), 3);
+        batcher.add(new Vector3i(0, 0, 1), 5);
+
+        List<NetData.BlockChangeBatchMessage> batches = batcher.drain(pos -> true, 100, Lists.newArrayList());
+
+        assertEquals(1, batches.size());
+        assertEquals(Arrays.asList(0, 1, 1, 30), batches.get(0).getBlockIndexDeltaList());
+        assertEquals(Arrays.asList(3, 1), batches.get(0).getRunLengthList());
+        assertEquals(Arrays.asList(3, 5), batches.get(0).getNewBlockList());
+        assertTrue(batcher.isEmpty());
+    }
+
+    @Test
+    public void decodedBatchesContainTheLastChangeOfEachBlock() {
+        batcher.add(new Vector3i(-1, 70, 40), 2);
+        batcher.add(new Vector3i(-1, 70, 40), 4);
+        batcher.add(new Vector3i(5, 6, 7), 9);
+
+        Map<Vector3i, Block> decoded = Maps.newHashMap();
+        for (NetData.BlockChangeBatchMessage batch : batcher.drain(pos -> true, 100, Lists.newArrayList())) {
+            decoded.putAll(BlockChangeBatcher.decode(batch, blockManager));
+        }
+
+        Map<Vector3i, Block> expected = Maps.newHashMap();
+        expected.put(new Vector3i(-1, 70, 40), blockManager.getBlock((short) 4));
+        expected.put(new Vector3i(5, 6, 7), blockManager.getBlock((short) 9));
+        assertEquals(expected, decoded);
+    }
+
+    @Test
+    public void chunksWithTooManyChangesAreNotBatched() {
+        for (int x = 0; x < 4; x++) {
+            batcher.add(new Vector3i(x, 0, 0), 1);
+        }
+        batcher.add(new Vector3i(40, 0, 0), 1);
+        List<Vector3i> oversizedChunks = Lists.newArrayList();
+
+        List<NetData.BlockChangeBatchMessage> batches = batcher.drain(pos -> true, 3, oversizedChunks);
+
+        assertEquals(Collections.singletonList(new Vector3i(0, 0, 0)), oversizedChunks);
+        assertEquals(1, batches.size());
+        assertEquals(new Vector3i(1, 0, 0), NetMessageUtil.convert(batches.get(0).getChunkPos()));
+    }
+
+    @Test
+    public void changesOfFilteredChunksAreDropped() {
+        batcher.add(new Vector3i(0, 0, 0), 1);
+        batcher.add(new Vector3i(40, 0, 0), 1);
+
+        List<NetData.BlockChangeBatchMessage> batches = batcher.drain(pos -> pos.x == 1, 100, Lists.newArrayList());
+
+        assertEquals(1, batches.size());
+        assertEquals(new Vector3i(1, 0, 0), NetMessageUtil.convert(batches.get(0).getChunkPos()));
+        assertTrue(batcher.isEmpty());
+    }
+
+    @Test
+    public void biomeChangesAreBatched() {
+        BlockChangeBatcher<NetData.BiomeChangeBatchMessage> biomeBatcher = BlockChangeBatcher.forBiomes();
+        BiomeManager biomeManager = mock(BiomeManager.class);
+        Biome desert = mock(Biome.class);
+        Biome forest = mock(Biome.class);
+        when(biomeManager.getBiomeByShortId((short) 1)).thenReturn(desert);
+        when(biomeManager.getBiomeByShortId((short) 2)).thenReturn(forest);
+        biomeBatcher.add(new Vector3i(0, 0, 0), 1);
+        biomeBatcher.add(new Vector3i(1, 0, 0), 1);
+        biomeBatcher.add(new Vector3i(2, 0, 0), 2);
+
+        List<NetData.BiomeChangeBatchMessage> batches = biomeBatcher.drain(pos -> true, 100, Lists.newArrayList());
+
+        assertEquals(1, batches.size());
+        assertEquals(Arrays.asList(1, 2), batches.get(0).getNewBiomeList());
+        Map<Vector3i, Biome> expected = Maps.newHashMap();
+        expected.put(new Vector3i(0, 0, 0), desert);
+        expected.put(new Vector3i(1, 0, 0), desert);
+        expected.put(new Vector3i(2, 0, 0), forest);
+        assertEquals(expected, BlockChangeBatcher.decode(batches.get(0), biomeManager));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void malformedBatchesAreRejected() {
+        NetData.BlockChangeBatchMessage batch = NetData.BlockChangeBatchMessage.newBuilder()
+                .setChunkPos(NetMessageUtil.convert(new Vector3i()))
+                .addBlockIndexDelta(0).addBlockIndexDelta(1)
+                .addRunLength(1).addNewBlock(1)
+                .build();
+        BlockChangeBatcher.decode(batch, blockManager);
+    }
+}
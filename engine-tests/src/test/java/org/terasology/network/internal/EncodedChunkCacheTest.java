@@ -0,0 +1,135 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.network.internal;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.protobuf.EntityData;
+import org.terasology.world.chunks.Chunk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ */
+public class EncodedChunkCacheTest {
+    private static final long TIMEOUT_MS = 5000;
+
+    private EncodedChunkCache cache;
+    private Chunk chunk;
+
+    @Before
+    public void setup() {
+        cache = new EncodedChunkCache();
+        chunk = createChunk(new Vector3i(1, 2, 3));
+    }
+
+    @After
+    public void teardown() {
+        cache.shutdown();
+    }
+
+    @Test
+    public void testEncodingIsSharedWhileChunkIsUnchanged() throws InterruptedException {
+        cache.request(chunk);
+        EntityData.ChunkStore encoded = awaitEncoding(chunk);
+
+        assertSame(encoded, cache.get(chunk));
+        assertEquals(1, cache.size());
+        verify(chunk, times(1)).createEncodingSnapshot();
+    }
+
+    @Test
+    public void testChangedChunkIsEncodedAgain() throws InterruptedException {
+        EntityData.ChunkStore encoded = awaitEncoding(chunk);
+
+        when(chunk.getDataVersion()).thenReturn(2);
+        EntityData.ChunkStore reencoded = awaitEncoding(chunk);
+
+        assertNotSame(encoded, reencoded);
+        assertEquals(1, cache.size());
+        verify(chunk, times(2)).createEncodingSnapshot();
+    }
+
+    @Test
+    public void testReplacedChunkIsEncodedAgain() throws InterruptedException {
+        EntityData.ChunkStore encoded = awaitEncoding(chunk);
+
+        Chunk reloaded = createChunk(new Vector3i(1, 2, 3));
+
+        assertNotSame(encoded, awaitEncoding(reloaded));
+        verify(reloaded, times(1)).createEncodingSnapshot();
+    }
+
+    @Test
+    public void testDisposedChunksAreRemoved() throws InterruptedException {
+        awaitEncoding(chunk);
+        when(chunk.isDisposed()).thenReturn(true);
+
+        cache.removeDisposedChunks();
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEncodingsAreEvicted() throws InterruptedException {
+        cache.shutdown();
+        cache = new EncodedChunkCache(2);
+        Chunk second = createChunk(new Vector3i(4, 5, 6));
+        Chunk third = createChunk(new Vector3i(7, 8, 9));
+
+        EntityData.ChunkStore encoded = awaitEncoding(chunk);
+        awaitEncoding(second);
+        // Uses the first chunk again, so that the second one is evicted
+        assertSame(encoded, cache.get(chunk));
+        awaitEncoding(third);
+
+        assertEquals(2, cache.size());
+        assertSame(encoded, cache.get(chunk));
+        awaitEncoding(second);
+        verify(chunk, times(1)).createEncodingSnapshot();
+        verify(second, times(2)).createEncodingSnapshot();
+    }
+
+    private Chunk createChunk(Vector3i position) {
+        Chunk result = mock(Chunk.class);
+        when(result.getPosition()).thenReturn(position);
+        when(result.getDataVersion()).thenReturn(1);
+        when(result.createEncodingSnapshot()).thenReturn(EntityData.ChunkStore::newBuilder);
+        return result;
+    }
+
+    private EntityData.ChunkStore awaitEncoding(Chunk target) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        EntityData.ChunkStore encoded = cache.get(target);
+        while (encoded == null) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Chunk was not encoded in time");
+            }
+            Thread.sleep(5);
+            encoded = cache.get(target);
+        }
+        return encoded;
+    }
+}
@@ -29,12 +29,17 @@
 import org.terasology.entitySystem.entity.internal.EngineEntityManager;
 import org.terasology.entitySystem.entity.internal.PojoEntityManager;
 import org.terasology.entitySystem.metadata.EventLibrary;
+import org.terasology.logic.location.LocationComponent;
+import org.terasology.math.ChunkMath;
+import org.terasology.math.geom.Vector3f;
+import org.terasology.math.geom.Vector3i;
 import org.terasology.network.NetworkComponent;
 import org.terasology.network.NetworkSystem;
 import org.terasology.testUtil.ModuleManagerFactory;
 import org.terasology.world.BlockEntityRegistry;
 
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -181,4 +186,60 @@ public void testClientSendInitialForRelevantOwnedItems() {
         verify(client, times(1)).setNetInitial(entityA.getComponent(NetworkComponent.class).getNetworkId());
 
     }
+
+    @Test
+    public void testClientNoInitialForRelevantEntityOutOfView() {
+        connectClient();
+        when(client.isChunkRelevant(any(Vector3i.class))).thenReturn(false);
+        EntityRef entity = entityManager.create(new NetworkComponent(), new LocationComponent(new Vector3f(1000, 0, 1000)));
+
+        networkSystem.registerNetworkEntity(entity);
+
+        verify(client, times(0)).setNetInitial(entity.getComponent(NetworkComponent.class).getNetworkId());
+    }
+
+    @Test
+    public void testClientSentInitialForRelevantEntityInView() {
+        connectClient();
+        when(client.isChunkRelevant(any(Vector3i.class))).thenReturn(true);
+        EntityRef entity = entityManager.create(new NetworkComponent(), new LocationComponent(new Vector3f(1000, 0, 1000)));
+
+        networkSystem.registerNetworkEntity(entity);
+
+        verify(client).setNetInitial(entity.getComponent(NetworkComponent.class).getNetworkId());
+    }
+
+    @Test
+    public void testClientSentInitialForOwnedRelevantEntityOutOfView() {
+        connectClient();
+        when(client.isChunkRelevant(any(Vector3i.class))).thenReturn(false);
+        EntityBuilder builder = entityManager.newBuilder();
+        builder.addComponent(new NetworkComponent());
+        builder.addComponent(new LocationComponent(new Vector3f(1000, 0, 1000)));
+        builder.setOwner(clientEntity);
+        EntityRef entity = builder.build();
+
+        networkSystem.registerNetworkEntity(entity);
+
+        verify(client).setNetInitial(entity.getComponent(NetworkComponent.class).getNetworkId());
+    }
+
+    @Test
+    public void testRelevantEntityLeavesViewWhenMoved() {
+        connectClient();
+        Vector3f start = new Vector3f(0, 0, 0);
+        Vector3f end = new Vector3f(1000, 0, 1000);
+        when(client.isChunkRelevant(any(Vector3i.class))).thenReturn(false);
+        when(client.isChunkRelevant(ChunkMath.calcChunkPos(start))).thenReturn(true);
+        EntityRef entity = entityManager.create(new NetworkComponent(), new LocationComponent(start));
+        networkSystem.registerNetworkEntity(entity);
+        int netId = entity.getComponent(NetworkComponent.class).getNetworkId();
+        verify(client).setNetInitial(netId);
+
+        LocationComponent location = entity.getComponent(LocationComponent.class);
+        location.setWorldPosition(end);
+        entity.saveComponent(location);
+
+        verify(client).setEntityOutOfView(netId);
+    }
 }
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.network.internal;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Before;
+import org.junit.Test;
+import org.terasology.TerasologyTestingEnvironment;
+import org.terasology.engine.bootstrap.EntitySystemSetupUtil;
+import org.terasology.engine.module.ModuleManager;
+import org.terasology.entitySystem.Component;
+import org.terasology.entitySystem.entity.EntityManager;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.entitySystem.entity.internal.EngineEntityManager;
+import org.terasology.logic.location.LocationComponent;
+import org.terasology.math.geom.Vector3f;
+import org.terasology.network.NetworkSystem;
+import org.terasology.network.serialization.ServerComponentFieldCheck;
+import org.terasology.persistence.serializers.ComponentDelta;
+import org.terasology.persistence.serializers.NetworkEntitySerializer;
+import org.terasology.protobuf.EntityData;
+import org.terasology.testUtil.ModuleManagerFactory;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ */
+public class ReplicationBaselinesTest extends TerasologyTestingEnvironment {
+    private static final int NET_ID = 7;
+
+    private EngineEntityManager entityManager;
+    private NetworkEntitySerializer entitySerializer;
+    private ReplicationBaselines baselines;
+    private LocationComponent location;
+
+    @Before
+    public void setup() throws Exception {
+        super.setup();
+        ModuleManager moduleManager = ModuleManagerFactory.create();
+        context.put(ModuleManager.class, moduleManager);
+        context.put(NetworkSystem.class, mock(NetworkSystem.class));
+        EntitySystemSetupUtil.addReflectionBasedLibraries(context);
+        EntitySystemSetupUtil.addEntityManagementRelatedClasses(context);
+        entityManager = (EngineEntityManager) context.get(EntityManager.class);
+
+        entitySerializer = new NetworkEntitySerializer(entityManager, entityManager.getComponentLibrary(), entityManager.getTypeSerializerLibrary());
+        entitySerializer.setIdMapping(ImmutableMap.<Class<? extends Component>, Integer>of(LocationComponent.class, 1));
+        baselines = new ReplicationBaselines(entitySerializer);
+        location = new LocationComponent(new Vector3f(10.3f, -4.1f, 1000.7f));
+    }
+
+    @Test
+    public void testFirstDeltaContainsAllUpdatedFields() {
+        ReplicationBaselines.ComponentBaseline baseline = baselines.getBaseline(NET_ID, location);
+
+        ComponentDelta delta = baseline.getDelta(ReplicationBaselines.NO_VERSION, false);
+        // parent, children, position, rotation and scale
+        assertEquals(5, delta.getFieldCount());
+        assertTrue(baseline.getVersion() > ReplicationBaselines.NO_VERSION);
+    }
+
+    @Test
+    public void testDeltaContainsOnlyChangedFields() {
+        int version = baselines.getBaseline(NET_ID, location).getVersion();
+        location.setLocalPosition(new Vector3f(11, -4.1f, 1000.7f));
+        baselines.tick();
+
+        ReplicationBaselines.ComponentBaseline baseline = baselines.getBaseline(NET_ID, location);
+        ComponentDelta delta = baseline.getDelta(version, false);
+
+        assertTrue(baseline.getVersion() > version);
+        assertEquals(1, delta.getFieldCount());
+        assertEquals(11 * 256, delta.getFieldValues().get(0).getInteger(0));
+        assertEquals(0, baseline.getDelta(baseline.getVersion(), false).getFieldCount());
+    }
+
+    @Test
+    public void testDeltaSharedBetweenClientsWithSameVersion() {
+        int version = baselines.getBaseline(NET_ID, location).getVersion();
+        location.setLocalScale(2);
+        baselines.tick();
+
+        ReplicationBaselines.ComponentBaseline baseline = baselines.getBaseline(NET_ID, location);
+        assertSame(baseline.getDelta(version, false), baseline.getDelta(version, false));
+    }
+
+    @Test
+    public void testFieldsHeldBackByReplicationCheckSentOnceAllowed() {
+        int version = baselines.getBaseline(NET_ID, location).getVersion();
+        location.replicateChanges = false;
+        location.setLocalScale(2);
+        baselines.tick();
+
+        ReplicationBaselines.ComponentBaseline baseline = baselines.getBaseline(NET_ID, location);
+        assertEquals(0, baseline.getDelta(version, false).getFieldCount());
+        int sentVersion = baseline.getSentVersion(version, false);
+        assertTrue(sentVersion < baseline.getVersion());
+
+        location.replicateChanges = true;
+        baselines.tick();
+        baseline = baselines.getBaseline(NET_ID, location);
+        assertEquals(1, baseline.getDelta(sentVersion, false).getFieldCount());
+        assertEquals(baseline.getVersion(), baseline.getSentVersion(sentVersion, false));
+    }
+
+    @Test
+    public void testBaselineOnlyUpdatedOncePerTick() {
+        int version = baselines.getBaseline(NET_ID, location).getVersion();
+        location.setLocalScale(2);
+
+        assertEquals(version, baselines.getBaseline(NET_ID, location).getVersion());
+        baselines.tick();
+        assertTrue(baselines.getBaseline(NET_ID, location).getVersion() > version);
+    }
+
+    @Test
+    public void testChangesBelowPrecisionNotReplicated() {
+        int version = baselines.getBaseline(NET_ID, location).getVersion();
+        location.getLocalPosition().x += 0.0001f;
+        baselines.tick();
+
+        assertEquals(version, baselines.getBaseline(NET_ID, location).getVersion());
+    }
+
+    @Test
+    public void testReaddedComponentSentInFull() {
+        int version = baselines.getBaseline(NET_ID, location).getVersion();
+        baselines.remove(NET_ID, LocationComponent.class);
+        baselines.tick();
+
+        ReplicationBaselines.ComponentBaseline baseline = baselines.getBaseline(NET_ID, new LocationComponent(new Vector3f(10.3f, -4.1f, 1000.7f)));
+        assertEquals(5, baseline.getDelta(version, false).getFieldCount());
+    }
+
+    @Test
+    public void testQuantizedFieldsSurviveRoundTrip() {
+        EntityRef source = entityManager.create(location);
+        EntityRef target = entityManager.create();
+        ReplicationBaselines.ComponentBaseline baseline = baselines.getBaseline(NET_ID, location);
+
+        EntityData.PackedEntity packedEntity = entitySerializer.serialize(source, Collections.emptySet(),
+                Collections.singletonList(baseline.getDelta(ReplicationBaselines.NO_VERSION, false)), Collections.emptySet(),
+                new ServerComponentFieldCheck(false, false));
+        entitySerializer.deserializeOnto(target, packedEntity);
+
+        Vector3f received = target.getComponent(LocationComponent.class).getLocalPosition();
+        assertEquals(10.3f, received.x, 1f / 512);
+        assertEquals(-4.1f, received.y, 1f / 512);
+        assertEquals(1000.7f, received.z, 1f / 512);
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.persistence.internal;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ */
+public class ChunkRegionFileTest {
+    private static final int ENTRY_COUNT = 64;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testNewFileIsEmpty() throws IOException {
+        try (ChunkRegionFile regionFile = ChunkRegionFile.open(regionPath(), ENTRY_COUNT)) {
+            for (int i = 0; i < ENTRY_COUNT; i++) {
+                assertNull(regionFile.read(i));
+            }
+        }
+    }
+
+    @Test
+    public void testWriteIsInvisibleUntilCommitted() throws IOException {
+        try (ChunkRegionFile regionFile = ChunkRegionFile.open(regionPath(), ENTRY_COUNT)) {
+            regionFile.write(3, data(100, 1));
+            assertNull(regionFile.read(3));
+
+            regionFile.commit(regionFile.prepareCommit());
+            assertArrayEquals(data(100, 1), regionFile.read(3));
+        }
+    }
+
+    @Test
+    public void testCommittedDataSurvivesReopen() throws IOException {
+        Path path = regionPath();
+        try (ChunkRegionFile regionFile = ChunkRegionFile.open(path, ENTRY_COUNT)) {
+            regionFile.write(0, data(10000, 1));
+            regionFile.write(ENTRY_COUNT - 1, data(5, 2));
+            regionFile.commit(regionFile.prepareCommit());
+        }
+        try (ChunkRegionFile regionFile = ChunkRegionFile.open(path, ENTRY_COUNT)) {
+            assertEquals(1, regionFile.getGeneration());
+            assertArrayEquals(data(10000, 1), regionFile.read(0));
+            assertArrayEquals(data(5, 2), regionFile.read(ENTRY_COUNT - 1));
+        }
+    }
+
+    @Test
+    public void testUncommittedWritesAreLostOnReopen() throws IOException {
+        Path path = regionPath();
+        try (ChunkRegionFile regionFile = ChunkRegionFile.open(path, ENTRY_COUNT)) {
+            regionFile.write(1, data(300, 1));
+            regionFile.commit(regionFile.prepareCommit());
+            regionFile.write(1, data(9000, 2));
+            regionFile.prepareCommit();
+        }
+        try (ChunkRegionFile regionFile = ChunkRegionFile.open(path, ENTRY_COUNT)) {
+            assertArrayEquals(data(300, 1), regionFile.read(1));
+        }
+    }
+
+    @Test
+    public void testRepeatedCommitIsIgnored() throws IOException {
+        try (ChunkRegionFile regionFile = ChunkRegionFile.open(regionPath(), ENTRY_COUNT)) {
+            regionFile.write(1, data(300, 1));
+            ChunkRegionFile.Header first = regionFile.prepareCommit();
+            regionFile.commit(first);
+            regionFile.write(1, data(400, 2));
+            regionFile.commit(regionFile.prepareCommit());
+            regionFile.commit(first);
+
+            assertEquals(2, regionFile.getGeneration());
+            assertArrayEquals(data(400, 2), regionFile.read(1));
+        }
+    }
+
+    @Test
+    public void testRewritesReuseFreedSectors() throws IOException {
+        Path path = regionPath();
+        int entrySize = 3 * ChunkRegionFile.SECTOR_SIZE;
+        try (ChunkRegionFile regionFile = ChunkRegionFile.open(path, ENTRY_COUNT)) {
+            for (int round = 0; round < 20; round++) {
+                for (int i = 0; i < 4; i++) {
+                    regionFile.write(i, data(entrySize, round + i));
+                }
+                regionFile.commit(regionFile.prepareCommit());
+            }
+            for (int i = 0; i < 4; i++) {
+                assertArrayEquals(data(entrySize, 19 + i), regionFile.read(i));
+            }
+        }
+        // At most two versions of every entry exist at a time, next to the two header slots
+        long maxSize = 2 * 2 * ChunkRegionFile.SECTOR_SIZE + 2 * 4 * entrySize;
+        assertTrue(path.toFile().length() <= maxSize);
+    }
+
+    @Test
+    public void testEntriesSpanningSeveralMappings() throws IOException {
+        Path path = regionPath();
+        long mappingSize = 2 * ChunkRegionFile.SECTOR_SIZE;
+        int entrySize = 3 * ChunkRegionFile.SECTOR_SIZE + 100;
+        try (ChunkRegionFile regionFile = ChunkRegionFile.open(path, ENTRY_COUNT, mappingSize)) {
+            regionFile.write(0, data(entrySize, 1));
+            regionFile.commit(regionFile.prepareCommit());
+            assertArrayEquals(data(entrySize, 1), regionFile.read(0));
+
+            // Grows the file past the end of the mappings created so far
+            regionFile.write(1, data(entrySize, 2));
+            regionFile.write(2, data(10, 3));
+            regionFile.commit(regionFile.prepareCommit());
+            assertArrayEquals(data(entrySize, 1), regionFile.read(0));
+            assertArrayEquals(data(entrySize, 2), regionFile.read(1));
+            assertArrayEquals(data(10, 3), regionFile.read(2));
+        }
+        try (ChunkRegionFile regionFile = ChunkRegionFile.open(path, ENTRY_COUNT, mappingSize)) {
+            assertArrayEquals(data(entrySize, 2), regionFile.read(1));
+            assertArrayEquals(data(entrySize, 1), regionFile.read(0));
+        }
+    }
+
+    private Path regionPath() {
+        return temporaryFolder.getRoot().toPath().resolve("0.0.0.chunks.region");
+    }
+
+    private static byte[] data(int length, int seed) {
+        byte[] data = new byte[length];
+        Arrays.fill(data, (byte) seed);
+        data[0] = (byte) (seed * 31 + 7);
+        return data;
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.persistence.internal;
+
+import gnu.trove.set.TLongSet;
+import gnu.trove.set.hash.TLongHashSet;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.terasology.protobuf.EntityData;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ */
+public class GlobalStoreJournalTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private StoragePathProvider storagePathProvider;
+    private GlobalStoreJournal journal;
+
+    @Before
+    public void setup() throws IOException {
+        storagePathProvider = new StoragePathProvider(temporaryFolder.newFolder().toPath());
+        journal = new GlobalStoreJournal(storagePathProvider);
+    }
+
+    @Test
+    public void testNothingStored() throws IOException {
+        assertNull(journal.read());
+        assertTrue(journal.isSnapshotDue());
+    }
+
+    @Test
+    public void testEntriesAreReplayedOntoSnapshot() throws IOException {
+        writeSnapshot(store(1, 10, 1, 2, 3).addPrefab(prefab("a", 1)).build());
+        commit(store(2, 11, 4).addRemovedEntity(2).addPrefab(prefab("a", 2)).build());
+        commit(store(3, 12, 1).build());
+
+        EntityData.GlobalStore store = journal.read();
+        assertArrayEquals(new long[]{1, 3, 4}, entityIds(store));
+        assertEquals(1, store.getPrefabCount());
+        assertEquals(2, store.getPrefab(0).getComponentCount());
+        assertEquals(12, store.getNextEntityId());
+        assertEquals(3, store.getJournalSequence());
+        assertTrue(journal.isStored(4));
+        assertFalse(journal.isStored(2));
+        assertEquals(4, journal.getNextSequence());
+        assertFalse(journal.isSnapshotDue());
+    }
+
+    @Test
+    public void testEntriesContainedInSnapshotAreSkipped() throws IOException {
+        commit(store(1, 10, 1).build());
+        commit(store(2, 10, 2).build());
+        writeSnapshot(store(2, 10, 1, 2).build());
+        commit(store(3, 11).addRemovedEntity(1).build());
+
+        assertArrayEquals(new long[]{2}, entityIds(journal.read()));
+    }
+
+    @Test
+    public void testIncompleteLastEntryIsIgnored() throws IOException {
+        writeSnapshot(store(0, 10, 1).build());
+        commit(store(1, 10, 2).build());
+        Path journalPath = storagePathProvider.getGlobalEntityJournalPath();
+        long validSize = Files.size(journalPath);
+        commit(store(2, 10, 3).build());
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+            channel.truncate(validSize + 3);
+        }
+
+        assertArrayEquals(new long[]{1, 2}, entityIds(journal.read()));
+    }
+
+    @Test
+    public void testRepeatedCommitOverwritesInterruptedOne() throws IOException {
+        writeSnapshot(store(0, 10, 1).build());
+        journal.read();
+        Path entryPath = temporaryFolder.newFile().toPath();
+        journal.writeEntry(store(1, 10, 2).build(), entryPath);
+        Path journalPath = storagePathProvider.getGlobalEntityJournalPath();
+        GlobalStoreJournal.commitEntry(entryPath, journalPath);
+        byte[] committed = Files.readAllBytes(journalPath);
+
+        try (OutputStream out = Files.newOutputStream(journalPath, StandardOpenOption.APPEND)) {
+            out.write(new byte[]{1, 2, 3});
+        }
+        GlobalStoreJournal.commitEntry(entryPath, journalPath);
+
+        assertArrayEquals(committed, Files.readAllBytes(journalPath));
+        assertArrayEquals(new long[]{1, 2}, entityIds(journal.read()));
+    }
+
+    @Test
+    public void testSnapshotDueOnceJournalOutgrowsSnapshot() throws IOException {
+        writeSnapshot(store(0, 10, 1).build());
+        journal.read();
+        EntityData.GlobalStore.Builder entry = store(1, 10);
+        for (long id = 0; id < 300000; id++) {
+            entry.addRemovedEntity(id * 1000);
+        }
+        journal.onSaved(entry.build(), false, ids());
+        assertTrue(journal.isSnapshotDue());
+
+        journal.onSaved(store(2, 10, 1).build(), true, ids(1));
+        assertFalse(journal.isSnapshotDue());
+        assertEquals(3, journal.getNextSequence());
+    }
+
+    @Test
+    public void testSnapshotDueAfterFailedSave() throws IOException {
+        writeSnapshot(store(0, 10, 1).build());
+        journal.read();
+        journal.onSaveFailed();
+        assertTrue(journal.isSnapshotDue());
+
+        journal.onSaved(store(1, 10, 1).build(), true, ids(1));
+        assertFalse(journal.isSnapshotDue());
+    }
+
+    private void writeSnapshot(EntityData.GlobalStore snapshot) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(storagePathProvider.getGlobalEntityStorePath()))) {
+            snapshot.writeTo(out);
+        }
+    }
+
+    private void commit(EntityData.GlobalStore entry) throws IOException {
+        journal.read();
+        Path entryPath = temporaryFolder.newFile().toPath();
+        journal.writeEntry(entry, entryPath);
+        GlobalStoreJournal.commitEntry(entryPath, storagePathProvider.getGlobalEntityJournalPath());
+    }
+
+    private static EntityData.GlobalStore.Builder store(long sequence, long nextEntityId, long... entityIds) {
+        EntityData.GlobalStore.Builder store = EntityData.GlobalStore.newBuilder();
+        for (long id : entityIds) {
+            store.addEntity(EntityData.Entity.newBuilder().setId(id));
+        }
+        store.setNextEntityId(nextEntityId);
+        store.setJournalSequence(sequence);
+        return store;
+    }
+
+    private static EntityData.Prefab prefab(String name, int componentCount) {
+        EntityData.Prefab.Builder prefab = EntityData.Prefab.newBuilder().setName(name);
+        for (int i = 0; i < componentCount; i++) {
+            prefab.addComponent(EntityData.Component.newBuilder().setType("test:component" + i));
+        }
+        return prefab.build();
+    }
+
+    private static long[] entityIds(EntityData.GlobalStore store) {
+        long[] ids = store.getEntityList().stream().mapToLong(EntityData.Entity::getId).toArray();
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    private static TLongSet ids(long... ids) {
+        return new TLongHashSet(ids);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.physics.engine;
+
+import com.bulletphysics.collision.shapes.BoxShape;
+import com.bulletphysics.collision.shapes.voxel.VoxelInfo;
+import org.junit.Before;
+import org.junit.Test;
+import org.terasology.math.ChunkMath;
+import org.terasology.math.geom.Vector3f;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.world.WorldProvider;
+import org.terasology.world.block.Block;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class VoxelInfoCacheTest {
+
+    private WorldProvider world;
+    private VoxelInfoCache cache;
+    private Block air;
+    private Block solid;
+
+    @Before
+    public void setup() {
+        world = mock(WorldProvider.class);
+        air = new Block();
+        solid = new Block();
+        solid.setCollision(new Vector3f(), new BoxShape(new javax.vecmath.Vector3f(0.5f, 0.5f, 0.5f)));
+        when(world.getBlock(0, 0, 0)).thenReturn(air);
+        when(world.getBlock(5, 5, 5)).thenReturn(air);
+        when(world.getBlock(1, 2, 3)).thenReturn(solid);
+        when(world.getBlock(-1, -1, -1)).thenReturn(solid);
+        when(world.getBlock(31, 63, 31)).thenReturn(solid);
+        cache = new VoxelInfoCache(world, block -> new BlockVoxelInfo(block.getCollisionShape(), block.getCollisionOffset(),
+                block.getCollisionShape() != null, false));
+    }
+
+    @Test
+    public void testCollidingVoxelsAreReadOnceAndKnowTheirPosition() {
+        VoxelInfo info = cache.get(1, 2, 3);
+        assertTrue(info.isColliding());
+        assertEquals(new Vector3i(1, 2, 3), info.getUserData());
+        assertSame(info, cache.get(1, 2, 3));
+        verify(world, times(1)).getBlock(1, 2, 3);
+    }
+
+    @Test
+    public void testNonCollidingVoxelsShareTheirInfo() {
+        VoxelInfo info = cache.get(0, 0, 0);
+        assertFalse(info.isColliding());
+        assertNull(info.getUserData());
+        assertSame(info, cache.get(5, 5, 5));
+    }
+
+    @Test
+    public void testVoxelsAtNegativeCoordinatesAreKeptApart() {
+        VoxelInfo negative = cache.get(-1, -1, -1);
+        VoxelInfo positive = cache.get(31, 63, 31);
+        assertNotSame(negative, positive);
+        assertEquals(new Vector3i(-1, -1, -1), negative.getUserData());
+        assertEquals(new Vector3i(31, 63, 31), positive.getUserData());
+    }
+
+    @Test
+    public void testBlockChangesUpdateCachedVoxels() {
+        cache.get(1, 2, 3);
+        cache.onBlockChanged(new Vector3i(1, 2, 3), air, solid);
+        assertFalse(cache.get(1, 2, 3).isColliding());
+        verify(world, times(1)).getBlock(1, 2, 3);
+    }
+
+    @Test
+    public void testInvalidatedChunksAreReadAgain() {
+        cache.get(1, 2, 3);
+        cache.invalidateChunk(ChunkMath.calcChunkPos(new Vector3i(1, 2, 3)));
+        cache.get(1, 2, 3);
+        verify(world, times(2)).getBlock(1, 2, 3);
+    }
+}
@@ -102,4 +102,33 @@ public void testResolution() {
 
         Assert.fail();
     }
+
+    @Test
+    public void testGridMatchesPoints() {
+        float[] xs = randomCoordinates(7);
+        float[] ys = randomCoordinates(5);
+        float[] zs = randomCoordinates(3);
+
+        float[] grid2D = new float[xs.length * ys.length];
+        noiseGen.noise(xs, ys, grid2D);
+        float[] grid3D = new float[xs.length * ys.length * zs.length];
+        noiseGen.noise(xs, ys, zs, grid3D);
+
+        for (int k = 0; k < zs.length; k++) {
+            for (int j = 0; j < ys.length; j++) {
+                for (int i = 0; i < xs.length; i++) {
+                    Assert.assertEquals(noiseGen.noise(xs[i], ys[j]), grid2D[i + xs.length * j], 0);
+                    Assert.assertEquals(noiseGen.noise(xs[i], ys[j], zs[k]), grid3D[i + xs.length * (j + ys.length * k)], 0);
+                }
+            }
+        }
+    }
+
+    private float[] randomCoordinates(int count) {
+        float[] coordinates = new float[count];
+        for (int i = 0; i < count; i++) {
+            coordinates[i] = rng.nextFloat() * 200f - 100f;
+        }
+        return coordinates;
+    }
 }
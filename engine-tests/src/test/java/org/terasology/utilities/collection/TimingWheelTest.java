@@ -0,0 +1,115 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.utilities.collection;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import com.google.common.collect.TreeMultimap;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ */
+public class TimingWheelTest {
+
+    @Test
+    public void testValuesExpireAtTheirTime() {
+        TimingWheel<String> wheel = new TimingWheel<>(1000);
+        wheel.schedule("b", 1100);
+        wheel.schedule("a", 1001);
+        wheel.schedule("c", 5000000);
+
+        assertTrue(wheel.advance(1000).isEmpty());
+        assertEquals(Lists.newArrayList("a"), wheel.advance(1099));
+        assertEquals(Lists.newArrayList("b"), wheel.advance(1100));
+        assertTrue(wheel.advance(4999999).isEmpty());
+        assertEquals(Lists.newArrayList("c"), wheel.advance(5000000));
+        assertTrue(wheel.isEmpty());
+    }
+
+    @Test
+    public void testValuesScheduledInThePastExpireOnNextAdvance() {
+        TimingWheel<String> wheel = new TimingWheel<>();
+        wheel.advance(500);
+        wheel.schedule("late", 100);
+
+        assertEquals(Lists.newArrayList("late"), wheel.advance(500));
+    }
+
+    @Test
+    public void testCancel() {
+        TimingWheel<String> wheel = new TimingWheel<>();
+        TimingWheel.Timer<String> first = wheel.schedule("first", 70);
+        TimingWheel.Timer<String> second = wheel.schedule("second", 70);
+        TimingWheel.Timer<String> far = wheel.schedule("far", Long.MAX_VALUE);
+
+        assertTrue(wheel.cancel(first));
+        assertFalse(wheel.cancel(first));
+        assertTrue(wheel.cancel(far));
+        assertEquals(1, wheel.size());
+        assertEquals(Lists.newArrayList("second"), wheel.advance(100));
+        assertFalse(second.isScheduled());
+        assertFalse(wheel.cancel(second));
+    }
+
+    @Test
+    public void testMatchesSortedSchedule() {
+        Random random = new Random(17);
+        TimingWheel<Integer> wheel = new TimingWheel<>();
+        TreeMultimap<Long, Integer> reference = TreeMultimap.create(Ordering.natural(), Ordering.natural());
+        List<TimingWheel.Timer<Integer>> timers = Lists.newArrayList();
+        long time = 0;
+        int nextValue = 0;
+        for (int round = 0; round < 2000; round++) {
+            for (int i = 0; i < 20; i++) {
+                long delay = (random.nextInt(4) == 0) ? random.nextInt(100000000) : random.nextInt(5000);
+                TimingWheel.Timer<Integer> timer = wheel.schedule(nextValue, time + delay);
+                timers.add(timer);
+                reference.put(time + delay, nextValue++);
+            }
+            if (random.nextBoolean() && !timers.isEmpty()) {
+                TimingWheel.Timer<Integer> timer = timers.remove(random.nextInt(timers.size()));
+                assertEquals(timer.isScheduled(), wheel.cancel(timer));
+                reference.remove(timer.getExpiry(), timer.getValue());
+            }
+            time += (random.nextInt(10) == 0) ? random.nextInt(1000000) : random.nextInt(100);
+
+            List<Integer> expected = Lists.newArrayList();
+            Iterator<Long> expiries = reference.keySet().iterator();
+            while (expiries.hasNext()) {
+                long expiry = expiries.next();
+                if (expiry > time) {
+                    break;
+                }
+                expected.addAll(reference.get(expiry));
+                expiries.remove();
+            }
+            List<Integer> expired = wheel.advance(time);
+            assertEquals(Ordering.natural().sortedCopy(expected), Ordering.natural().sortedCopy(expired));
+            assertEquals(reference.size(), wheel.size());
+        }
+        Collection<Integer> remaining = reference.values();
+        assertEquals(remaining.size(), wheel.advance(Long.MAX_VALUE - 1).size());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.utilities.concurrency;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests {@link DynamicPriorityBlockingQueue}
+ */
+public class DynamicPriorityBlockingQueueTest {
+
+    private int center;
+
+    private final Comparator<Integer> distanceToCenter = (a, b) -> Integer.compare(Math.abs(a - center), Math.abs(b - center));
+
+    @Test
+    public void testTakesInPriorityOrder() throws InterruptedException {
+        DynamicPriorityBlockingQueue<Integer> queue = new DynamicPriorityBlockingQueue<>(distanceToCenter);
+        List<Integer> values = Lists.newArrayList();
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; ++i) {
+            int value = random.nextInt(10000) - 5000;
+            values.add(value);
+            queue.offer(value);
+        }
+        values.sort(distanceToCenter);
+
+        assertEquals(values.size(), queue.size());
+        for (Integer value : values) {
+            assertEquals(Math.abs(value), Math.abs(queue.take()));
+        }
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void testReprioritize() {
+        DynamicPriorityBlockingQueue<Integer> queue = new DynamicPriorityBlockingQueue<>(distanceToCenter);
+        for (int i = 0; i <= 100; ++i) {
+            queue.offer(i);
+        }
+        assertEquals(0, (int) queue.peek());
+
+        center = 100;
+        queue.reprioritize();
+        for (int i = 100; i >= 0; --i) {
+            assertEquals(i, (int) queue.poll());
+        }
+    }
+
+    @Test
+    public void testPollTimesOutWhenEmpty() throws InterruptedException {
+        DynamicPriorityBlockingQueue<Integer> queue = new DynamicPriorityBlockingQueue<>(distanceToCenter);
+        assertNull(queue.poll(1, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testDrainTo() {
+        DynamicPriorityBlockingQueue<Integer> queue = new DynamicPriorityBlockingQueue<>(distanceToCenter);
+        for (int i = 0; i < 10; ++i) {
+            queue.offer(i);
+        }
+        List<Integer> drained = Lists.newArrayList();
+        assertEquals(4, queue.drainTo(drained, 4));
+        assertEquals(Lists.newArrayList(0, 1, 2, 3), drained);
+        assertEquals(6, queue.size());
+    }
+}
@@ -37,8 +37,11 @@
 import org.terasology.world.chunks.Chunk;
 import org.terasology.world.chunks.ChunkConstants;
 import org.terasology.world.chunks.internal.ChunkImpl;
+import org.terasology.world.liquid.LiquidData;
+import org.terasology.world.liquid.LiquidType;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 
 
 public class ChunkTest extends TerasologyTestingEnvironment {
@@ -73,6 +76,20 @@ public void testChangeBlock() {
         assertEquals(solid, chunk.getBlock(new Vector3i(1, 2, 3)));
     }
 
+    @Test
+    public void testDataVersionChangesOnlyWithData() {
+        int version = chunk.getDataVersion();
+        chunk.setLiquid(new Vector3i(1, 2, 3), new LiquidData());
+        assertEquals(version, chunk.getDataVersion());
+
+        chunk.setLiquid(new Vector3i(1, 2, 3), new LiquidData(LiquidType.WATER, 3));
+        assertNotEquals(version, chunk.getDataVersion());
+
+        version = chunk.getDataVersion();
+        chunk.setLiquid(new Vector3i(1, 2, 3), new LiquidData(LiquidType.WATER, 3));
+        assertEquals(version, chunk.getDataVersion());
+    }
+
     @Test
     public void testGetAabb() {
         assertEquals(new Vector3f(0, 0, 0), chunk.getAABB().getMin());
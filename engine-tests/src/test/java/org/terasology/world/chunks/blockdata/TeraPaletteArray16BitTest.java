@@ -0,0 +1,180 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.chunks.blockdata;
+
+import org.junit.Test;
+import org.terasology.world.chunks.deflate.TeraStandardDeflator;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ */
+public class TeraPaletteArray16BitTest {
+
+    private static final int SIZE_X = 16;
+    private static final int SIZE_Y = 32;
+    private static final int SIZE_Z = 16;
+
+    @Test
+    public void testInitiallyZero() {
+        TeraPaletteArray16Bit array = new TeraPaletteArray16Bit(SIZE_X, SIZE_Y, SIZE_Z);
+        assertEquals(1, array.getIndexSizeInBits());
+        assertSameContent(new TeraDenseArray16Bit(SIZE_X, SIZE_Y, SIZE_Z), array);
+    }
+
+    @Test
+    public void testIndicesWidenWithDistinctValues() {
+        TeraDenseArray16Bit expected = new TeraDenseArray16Bit(SIZE_X, SIZE_Y, SIZE_Z);
+        TeraPaletteArray16Bit array = new TeraPaletteArray16Bit(SIZE_X, SIZE_Y, SIZE_Z);
+        for (int value = 1; value <= 300; value++) {
+            int pos = value * 7;
+            int x = pos % SIZE_X;
+            int z = (pos / SIZE_X) % SIZE_Z;
+            int y = pos / (SIZE_X * SIZE_Z);
+            assertEquals(expected.set(x, y, z, value), array.set(x, y, z, value));
+
+            int distinctValues = value + 1;
+            int expectedBits = 1;
+            while (expectedBits <= 8 && (1 << expectedBits) < distinctValues) {
+                expectedBits *= 2;
+            }
+            assertEquals(Math.min(expectedBits, 16), array.getIndexSizeInBits());
+        }
+        assertSameContent(expected, array);
+    }
+
+    @Test
+    public void testRandomWrites() {
+        Random random = new Random(1234);
+        for (int distinct : new int[]{2, 3, 15, 40, 300, 65536}) {
+            TeraDenseArray16Bit expected = new TeraDenseArray16Bit(SIZE_X, SIZE_Y, SIZE_Z);
+            TeraPaletteArray16Bit array = new TeraPaletteArray16Bit(SIZE_X, SIZE_Y, SIZE_Z);
+            for (int i = 0; i < 20000; i++) {
+                int x = random.nextInt(SIZE_X);
+                int y = random.nextInt(SIZE_Y);
+                int z = random.nextInt(SIZE_Z);
+                int value = (short) (random.nextInt(distinct) - distinct / 2);
+                if (random.nextInt(4) == 0) {
+                    int expectedValue = random.nextBoolean() ? expected.get(x, y, z) : value;
+                    assertEquals(expected.set(x, y, z, value, expectedValue), array.set(x, y, z, value, expectedValue));
+                } else {
+                    assertEquals(expected.set(x, y, z, value), array.set(x, y, z, value));
+                }
+            }
+            assertSameContent(expected, array);
+            assertSameContent(expected, array.copy());
+        }
+    }
+
+    @Test
+    public void testUnusedPaletteEntriesAreReused() {
+        TeraPaletteArray16Bit array = new TeraPaletteArray16Bit(SIZE_X, SIZE_Y, SIZE_Z);
+        for (int value = 1; value < 1000; value++) {
+            array.set(3, 4, 5, value);
+        }
+        assertEquals(1, array.getIndexSizeInBits());
+        assertEquals(999, array.get(3, 4, 5));
+        assertEquals(0, array.get(0, 0, 0));
+    }
+
+    @Test
+    public void testReadsDuringCompactionSeeUnchangedValues() throws InterruptedException {
+        TeraPaletteArray16Bit array = new TeraPaletteArray16Bit(SIZE_X, SIZE_Y, SIZE_Z);
+        array.set(1, 1, 1, 7);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicInteger mismatches = new AtomicInteger();
+        Thread reader = new Thread(() -> {
+            while (writing.get()) {
+                int toggled = array.get(1, 1, 1);
+                if (array.get(0, 0, 0) != 0 || (toggled != 7 && toggled != -7)) {
+                    mismatches.incrementAndGet();
+                }
+            }
+        });
+        reader.start();
+        for (int value = 8; value < 20000; value++) {
+            array.set(3, 4, 5, value);
+            // Moves the entries of the toggled values around in the palette on every compaction
+            array.set(1, 1, 1, (value % 3 == 0) ? -7 : 7);
+        }
+        writing.set(false);
+        reader.join();
+        assertEquals(0, mismatches.get());
+        assertEquals(2, array.getIndexSizeInBits());
+    }
+
+    @Test
+    public void testCreateFromValues() {
+        short[] values = new short[SIZE_X * SIZE_Y * SIZE_Z];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (short) ((i / 100) % 5 - 2);
+        }
+        TeraDenseArray16Bit expected = new TeraDenseArray16Bit(SIZE_X, SIZE_Y, SIZE_Z, values.clone());
+        TeraPaletteArray16Bit array = new TeraPaletteArray16Bit(SIZE_X, SIZE_Y, SIZE_Z, values);
+        assertEquals(4, array.getIndexSizeInBits());
+        assertSameContent(expected, array);
+        assertTrue(array.getEstimatedMemoryConsumptionInBytes() < expected.getEstimatedMemoryConsumptionInBytes() / 3);
+    }
+
+    @Test
+    public void testSerialization() {
+        Random random = new Random(99);
+        TeraPaletteArray16Bit array = new TeraPaletteArray16Bit(SIZE_X, SIZE_Y, SIZE_Z);
+        for (int i = 0; i < 500; i++) {
+            array.set(random.nextInt(SIZE_X), random.nextInt(SIZE_Y), random.nextInt(SIZE_Z), random.nextInt(6));
+        }
+        TeraPaletteArray16Bit.SerializationHandler handler = new TeraPaletteArray16Bit.SerializationHandler();
+        ByteBuffer buffer = handler.serialize(array);
+        buffer.rewind();
+        assertSameContent(array, handler.deserialize(buffer));
+    }
+
+    @Test
+    public void testStandardDeflatorPicksPaletteForMixedLayers() {
+        TeraDenseArray16Bit dense = new TeraDenseArray16Bit(SIZE_X, SIZE_Y, SIZE_Z);
+        Random random = new Random(7);
+        for (int y = 0; y < SIZE_Y; y++) {
+            for (int z = 0; z < SIZE_Z; z++) {
+                for (int x = 0; x < SIZE_X; x++) {
+                    dense.set(x, y, z, random.nextInt(3));
+                }
+            }
+        }
+        TeraArray deflated = new TeraStandardDeflator().deflate(dense);
+        assertTrue(deflated instanceof TeraPaletteArray16Bit);
+        assertSameContent(dense, deflated);
+
+        TeraArray uniform = new TeraStandardDeflator().deflate(new TeraDenseArray16Bit(SIZE_X, SIZE_Y, SIZE_Z));
+        assertFalse(uniform instanceof TeraPaletteArray16Bit);
+    }
+
+    private static void assertSameContent(TeraArray expected, TeraArray actual) {
+        for (int y = 0; y < SIZE_Y; y++) {
+            for (int z = 0; z < SIZE_Z; z++) {
+                for (int x = 0; x < SIZE_X; x++) {
+                    assertEquals(expected.get(x, y, z), actual.get(x, y, z));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.chunks.internal;
+
+import com.google.common.collect.Maps;
+import org.junit.Before;
+import org.junit.Test;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.world.chunks.Chunk;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ */
+public class ChunkLookupCacheTest {
+
+    private Map<Vector3i, Chunk> chunks;
+    private ChunkLookupCache cache;
+
+    @Before
+    public void setup() {
+        chunks = Maps.newConcurrentMap();
+        cache = new ChunkLookupCache(chunks);
+    }
+
+    private Chunk addChunk(int x, int y, int z, boolean ready) {
+        Chunk chunk = mock(Chunk.class);
+        when(chunk.isReady()).thenReturn(ready);
+        chunks.put(new Vector3i(x, y, z), chunk);
+        cache.invalidate();
+        return chunk;
+    }
+
+    @Test
+    public void testLookup() {
+        Chunk first = addChunk(0, 0, 0, true);
+        Chunk second = addChunk(1, -1, 2, true);
+
+        assertSame(first, cache.getReadyChunk(0, 0, 0));
+        assertSame(second, cache.getReadyChunk(1, -1, 2));
+        assertSame(second, cache.getReadyChunk(1, -1, 2));
+        assertSame(first, cache.getReadyChunk(0, 0, 0));
+        assertNull(cache.getReadyChunk(1, 0, 0));
+    }
+
+    @Test
+    public void testUnreadyChunk() {
+        Chunk chunk = addChunk(0, 0, 0, false);
+        assertNull(cache.getReadyChunk(0, 0, 0));
+
+        when(chunk.isReady()).thenReturn(true);
+        assertSame(chunk, cache.getReadyChunk(0, 0, 0));
+    }
+
+    @Test
+    public void testRemovedAndReplacedChunk() {
+        addChunk(0, 0, 0, true);
+        cache.getReadyChunk(0, 0, 0);
+
+        chunks.remove(new Vector3i(0, 0, 0));
+        cache.invalidate();
+        assertNull(cache.getReadyChunk(0, 0, 0));
+
+        Chunk replacement = addChunk(0, 0, 0, true);
+        assertSame(replacement, cache.getReadyChunk(0, 0, 0));
+    }
+
+    @Test
+    public void testLookupFromOtherThread() throws InterruptedException {
+        Chunk first = addChunk(0, 0, 0, true);
+        Chunk second = addChunk(0, 1, 0, true);
+        assertSame(first, cache.getReadyChunk(0, 0, 0));
+
+        AtomicReference<Chunk> result = new AtomicReference<>();
+        Thread thread = new Thread(() -> result.set(cache.getReadyChunk(0, 1, 0)));
+        thread.start();
+        thread.join();
+
+        assertSame(second, result.get());
+        assertSame(first, cache.getReadyChunk(0, 0, 0));
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.chunks.localChunkProvider;
+
+import com.google.common.collect.Lists;
+import org.junit.Before;
+import org.junit.Test;
+import org.terasology.math.Region3i;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.persistence.ChunkStore;
+import org.terasology.persistence.StorageManager;
+import org.terasology.world.block.Block;
+import org.terasology.world.chunks.Chunk;
+import org.terasology.world.chunks.pipeline.ChunkTask;
+import org.terasology.world.generation.impl.EntityBufferImpl;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ */
+public class ChunkPregeneratorTest {
+
+    private LocalChunkProvider chunkProvider;
+    private StorageManager storageManager;
+    private List<ChunkTask> submittedTasks = Lists.newArrayList();
+    private int runTasks;
+
+    @Before
+    public void setup() {
+        chunkProvider = mock(LocalChunkProvider.class);
+        storageManager = mock(StorageManager.class);
+        doAnswer(invocation -> submittedTasks.add((ChunkTask) invocation.getArguments()[0])).when(chunkProvider).submitTask(any(ChunkTask.class));
+        when(chunkProvider.generateChunk(any(Vector3i.class), any(EntityBufferImpl.class))).thenAnswer(invocation -> createChunk());
+    }
+
+    @Test
+    public void testProgressCountsGeneratedSkippedAndFailedChunks() {
+        when(chunkProvider.isChunkLoadedOrPreparing(new Vector3i(0, 0, 0))).thenReturn(true);
+        when(storageManager.loadChunkStore(new Vector3i(1, 0, 0))).thenReturn(mock(ChunkStore.class));
+        when(chunkProvider.generateChunk(any(Vector3i.class), any(EntityBufferImpl.class))).thenAnswer(invocation -> {
+            if (new Vector3i(3, 0, 0).equals(invocation.getArguments()[0])) {
+                throw new IllegalStateException("Generation failed");
+            }
+            return createChunk();
+        });
+        ChunkPregenerator pregenerator = new ChunkPregenerator(chunkProvider, storageManager, region(4), 100, 4);
+
+        runToCompletion(pregenerator);
+
+        assertEquals(4, pregenerator.getTotal());
+        assertEquals(1, pregenerator.getGenerated());
+        assertEquals(2, pregenerator.getSkipped());
+        assertEquals(1, pregenerator.getFailed());
+        assertTrue(pregenerator.getStatus().startsWith("4/4 chunks"));
+        verify(storageManager, times(1)).deactivateChunk(any(Chunk.class));
+    }
+
+    @Test
+    public void testSaveIsRequestedEveryChunksPerSave() {
+        ChunkPregenerator pregenerator = new ChunkPregenerator(chunkProvider, storageManager, region(4), 2, 1);
+
+        pregenerator.update();
+        runSubmittedTasks();
+        pregenerator.update();
+        verify(storageManager, never()).requestSaving();
+        runSubmittedTasks();
+        pregenerator.update();
+        verify(storageManager, times(1)).requestSaving();
+
+        runToCompletion(pregenerator);
+
+        // The second save for the last two chunks, then the final one
+        verify(storageManager, times(3)).requestSaving();
+        assertEquals(4, pregenerator.getGenerated());
+    }
+
+    @Test
+    public void testSaveDueDuringRunningSaveIsRequestedOnceItEnds() {
+        when(storageManager.isSaving()).thenReturn(true);
+        ChunkPregenerator pregenerator = new ChunkPregenerator(chunkProvider, storageManager, region(3), 1, 2);
+
+        pregenerator.update();
+        runSubmittedTasks();
+        pregenerator.update();
+        pregenerator.update();
+
+        // Two chunks wait for the save, so no more are submitted while the previous save is running
+        verify(storageManager, never()).requestSaving();
+        assertEquals(2, submittedTasks.size());
+        assertFalse(pregenerator.isFinished());
+
+        when(storageManager.isSaving()).thenReturn(false);
+        pregenerator.update();
+
+        verify(storageManager, times(1)).requestSaving();
+        assertEquals(3, submittedTasks.size());
+        runToCompletion(pregenerator);
+        assertEquals(3, pregenerator.getGenerated());
+    }
+
+    private void runToCompletion(ChunkPregenerator pregenerator) {
+        for (int i = 0; i < 100 && !pregenerator.isFinished(); i++) {
+            pregenerator.update();
+            runSubmittedTasks();
+        }
+        assertTrue(pregenerator.isFinished());
+    }
+
+    private void runSubmittedTasks() {
+        while (runTasks < submittedTasks.size()) {
+            submittedTasks.get(runTasks++).run();
+        }
+    }
+
+    private static Region3i region(int chunks) {
+        return Region3i.createFromMinAndSize(new Vector3i(0, 0, 0), new Vector3i(chunks, 1, 1));
+    }
+
+    private static Chunk createChunk() {
+        Block block = mock(Block.class, withSettings().stubOnly());
+        Chunk chunk = mock(Chunk.class, withSettings().stubOnly());
+        when(chunk.getBlock(anyInt(), anyInt(), anyInt())).thenReturn(block);
+        when(chunk.getBlock(any(Vector3i.class))).thenReturn(block);
+        return chunk;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.chunks.localChunkProvider;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.junit.Before;
+import org.junit.Test;
+import org.terasology.math.geom.Vector3i;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ */
+public class ChunkUnloadCandidatesTest {
+
+    private static final long BUDGET = TimeUnit.MILLISECONDS.toNanos(2);
+
+    private long time;
+    private ChunkUnloadCandidates candidates;
+    private Set<Vector3i> relevant = Sets.newHashSet();
+    private Set<Vector3i> locked = Sets.newHashSet();
+    private List<Vector3i> unloaded = Lists.newArrayList();
+
+    @Before
+    public void setup() {
+        candidates = new ChunkUnloadCandidates(() -> time);
+        for (int i = 0; i < 5; i++) {
+            candidates.add(new Vector3i(i, 0, 0));
+        }
+    }
+
+    @Test
+    public void testUnloadingIsSpreadAcrossTicks() {
+        // Every unload takes a millisecond, so two fit into the budget of a tick
+        assertEquals(2, tick(TimeUnit.MILLISECONDS.toNanos(1)));
+        assertEquals(Lists.newArrayList(new Vector3i(0, 0, 0), new Vector3i(1, 0, 0)), unloaded);
+        assertEquals(3, candidates.size());
+
+        assertEquals(2, tick(TimeUnit.MILLISECONDS.toNanos(1)));
+        assertEquals(1, tick(TimeUnit.MILLISECONDS.toNanos(1)));
+        assertEquals(0, candidates.size());
+        assertEquals(5, unloaded.size());
+        assertEquals(0, tick(TimeUnit.MILLISECONDS.toNanos(1)));
+    }
+
+    @Test
+    public void testAtLeastOneChunkIsUnloadedPerTick() {
+        // A single unload exceeds the whole budget
+        for (int i = 5; i > 0; i--) {
+            assertEquals(1, tick(TimeUnit.MILLISECONDS.toNanos(3)));
+            assertEquals(i - 1, candidates.size());
+        }
+    }
+
+    @Test
+    public void testAllCandidatesAreUnloadedWithinBudget() {
+        assertEquals(5, tick(0));
+        assertEquals(0, candidates.size());
+    }
+
+    @Test
+    public void testLockedChunksStayCandidates() {
+        Vector3i pos = new Vector3i(0, 0, 0);
+        locked.add(pos);
+
+        assertEquals(4, tick(0));
+        assertFalse(unloaded.contains(pos));
+        assertTrue(candidates.contains(pos));
+
+        locked.clear();
+        assertEquals(1, tick(0));
+        assertTrue(unloaded.contains(pos));
+        assertEquals(0, candidates.size());
+    }
+
+    @Test
+    public void testRelevantChunksAreDropped() {
+        Vector3i pos = new Vector3i(2, 0, 0);
+        relevant.add(pos);
+
+        assertEquals(4, tick(0));
+        assertFalse(unloaded.contains(pos));
+        assertFalse(candidates.contains(pos));
+    }
+
+    @Test
+    public void testRelevantChunksAreDroppedAfterBudgetIsUsedUp() {
+        relevant.add(new Vector3i(1, 0, 0));
+        relevant.add(new Vector3i(2, 0, 0));
+
+        // The relevant chunks are dropped without counting against the budget
+        assertEquals(2, tick(TimeUnit.MILLISECONDS.toNanos(1)));
+        assertEquals(Lists.newArrayList(new Vector3i(0, 0, 0), new Vector3i(3, 0, 0)), unloaded);
+        assertEquals(1, candidates.size());
+    }
+
+    /**
+     * Runs the unloading of a tick, in which every unload advances the clock by the given time.
+     */
+    private int tick(long nanosPerUnload) {
+        return candidates.unload(pos -> !relevant.contains(pos), locked::contains, pos -> {
+            time += nanosPerUnload;
+            return unloaded.add(pos);
+        }, BUDGET);
+    }
+}
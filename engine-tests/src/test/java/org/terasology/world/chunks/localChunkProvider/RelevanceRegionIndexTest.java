@@ -0,0 +1,107 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.chunks.localChunkProvider;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+import org.terasology.math.Region3i;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.world.chunks.internal.ChunkRelevanceRegion;
+
+import java.util.List;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ */
+public class RelevanceRegionIndexTest {
+
+    private static final Vector3i LEEWAY = Vector3i.one();
+
+    private RelevanceRegionIndex index = new RelevanceRegionIndex();
+
+    @Test
+    public void testChunksWithinExpandedRegionAreRelevant() {
+        index.rebuild(Lists.newArrayList(createRegion(new Vector3i(0, 0, 0), 2)), LEEWAY);
+
+        assertTrue(index.isRelevant(new Vector3i(0, 0, 0)));
+        assertTrue(index.isRelevant(new Vector3i(-3, 3, -3)));
+        assertFalse(index.isRelevant(new Vector3i(4, 0, 0)));
+        assertFalse(index.isRelevant(new Vector3i(0, -4, 0)));
+    }
+
+    @Test
+    public void testMovedRegionIsLookedUpAtNewPosition() {
+        ChunkRelevanceRegion region = createRegion(new Vector3i(0, 0, 0), 2);
+        List<ChunkRelevanceRegion> regions = Lists.newArrayList(region);
+        index.rebuild(regions, LEEWAY);
+
+        // Moves the region into other cells of the index
+        when(region.getCurrentRegion()).thenReturn(Region3i.createFromCenterExtents(new Vector3i(20, 0, -20), 2));
+        index.rebuild(regions, LEEWAY);
+
+        assertFalse(index.isRelevant(new Vector3i(0, 0, 0)));
+        assertFalse(index.isRelevant(new Vector3i(-3, 0, 0)));
+        assertTrue(index.isRelevant(new Vector3i(20, 0, -20)));
+        assertTrue(index.isRelevant(new Vector3i(23, 3, -23)));
+        assertFalse(index.isRelevant(new Vector3i(24, 0, -20)));
+    }
+
+    @Test
+    public void testRemovedRegionIsNoLongerRelevant() {
+        ChunkRelevanceRegion removed = createRegion(new Vector3i(0, 0, 0), 2);
+        ChunkRelevanceRegion remaining = createRegion(new Vector3i(4, 0, 0), 2);
+        List<ChunkRelevanceRegion> regions = Lists.newArrayList(removed, remaining);
+        index.rebuild(regions, LEEWAY);
+        assertTrue(index.isRelevant(new Vector3i(-3, 0, 0)));
+
+        regions.remove(removed);
+        index.rebuild(regions, LEEWAY);
+
+        assertFalse(index.isRelevant(new Vector3i(-3, 0, 0)));
+        assertFalse(index.isRelevant(new Vector3i(0, 0, 0)));
+        // The overlap with the remaining region stays relevant
+        assertTrue(index.isRelevant(new Vector3i(1, 0, 0)));
+        assertTrue(index.isRelevant(new Vector3i(7, 0, 0)));
+    }
+
+    @Test
+    public void testRegionsAcrossNegativeCellsAreRelevant() {
+        index.rebuild(Lists.newArrayList(createRegion(new Vector3i(-8, -8, -8), 1)), LEEWAY);
+
+        assertTrue(index.isRelevant(new Vector3i(-10, -10, -10)));
+        assertTrue(index.isRelevant(new Vector3i(-6, -6, -6)));
+        assertFalse(index.isRelevant(new Vector3i(-5, -8, -8)));
+    }
+
+    @Test
+    public void testEmptyRegionIsNotIndexed() {
+        ChunkRelevanceRegion region = mock(ChunkRelevanceRegion.class);
+        when(region.getCurrentRegion()).thenReturn(Region3i.EMPTY);
+        index.rebuild(Lists.newArrayList(region), LEEWAY);
+
+        assertFalse(index.isRelevant(new Vector3i(0, 0, 0)));
+    }
+
+    private ChunkRelevanceRegion createRegion(Vector3i center, int extent) {
+        ChunkRelevanceRegion region = mock(ChunkRelevanceRegion.class);
+        when(region.getCurrentRegion()).thenReturn(Region3i.createFromCenterExtents(center, extent));
+        return region;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.generation;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Maps;
+import org.junit.Test;
+import org.terasology.math.Region3i;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.utilities.collection.TypeMap;
+import org.terasology.world.generation.facets.base.BaseFacet2D;
+import org.terasology.world.generation.facets.base.BaseFacet3D;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ColumnFacetCacheTest {
+
+    private ListMultimap<Class<? extends WorldFacet>, FacetProvider> chains = ArrayListMultimap.create();
+
+    @Test
+    public void testFacetsAreSharedBetweenRegionsOfAColumn() {
+        chains.put(ColumnFacet.class, new ColumnFacetProvider());
+        ColumnFacetCache cache = new ColumnFacetCache(chains, Maps.newHashMap(), 16);
+        assertTrue(cache.isCacheable(ColumnFacet.class));
+
+        TypeMap<WorldFacet> lower = cache.getFacets(ColumnFacet.class, Region3i.createFromMinAndSize(new Vector3i(0, 0, 0), new Vector3i(4, 4, 4)));
+        TypeMap<WorldFacet> upper = cache.getFacets(ColumnFacet.class, Region3i.createFromMinAndSize(new Vector3i(0, 4, 0), new Vector3i(4, 4, 4)));
+        TypeMap<WorldFacet> other = cache.getFacets(ColumnFacet.class, Region3i.createFromMinAndSize(new Vector3i(4, 0, 0), new Vector3i(4, 4, 4)));
+
+        assertSame(lower.get(ColumnFacet.class), upper.get(ColumnFacet.class));
+        assertNotSame(lower.get(ColumnFacet.class), other.get(ColumnFacet.class));
+        assertEquals(1, cache.getStats().hitCount());
+        assertEquals(2, cache.getStats().missCount());
+    }
+
+    @Test
+    public void testChainWithOutputUpdatedOutsideIsNotCacheable() {
+        ColumnFacetProvider producer = new ColumnFacetProvider();
+        SecondaryFacetUpdater updater = new SecondaryFacetUpdater();
+        chains.put(ColumnFacet.class, producer);
+        chains.put(SecondaryFacet.class, producer);
+        chains.put(SecondaryFacet.class, updater);
+        ColumnFacetCache cache = new ColumnFacetCache(chains, Maps.newHashMap(), 16);
+
+        // the updater of the secondary facet is not part of the chain of the column facet, but would modify its output
+        assertFalse(cache.isCacheable(ColumnFacet.class));
+        assertTrue(cache.isCacheable(SecondaryFacet.class));
+    }
+
+    @Test
+    public void testChainWith3DOutputIsNotCacheable() {
+        chains.put(ColumnFacet.class, new ColumnFacetProvider());
+        chains.put(ColumnFacet.class, new VolumeFacetProvider());
+        ColumnFacetCache cache = new ColumnFacetCache(chains, Maps.newHashMap(), 16);
+
+        assertFalse(cache.isCacheable(ColumnFacet.class));
+    }
+
+    public static class ColumnFacet extends BaseFacet2D {
+        public ColumnFacet(Region3i targetRegion, Border3D border) {
+            super(targetRegion, border);
+        }
+    }
+
+    public static class SecondaryFacet extends BaseFacet2D {
+        public boolean updated;
+
+        public SecondaryFacet(Region3i targetRegion, Border3D border) {
+            super(targetRegion, border);
+        }
+    }
+
+    public static class VolumeFacet extends BaseFacet3D {
+        public VolumeFacet(Region3i targetRegion, Border3D border) {
+            super(targetRegion, border);
+        }
+    }
+
+    @Produces({ColumnFacet.class, SecondaryFacet.class})
+    public static class ColumnFacetProvider implements FacetProvider {
+
+        @Override
+        public void process(GeneratingRegion region) {
+            region.setRegionFacet(ColumnFacet.class, new ColumnFacet(region.getRegion(), region.getBorderForFacet(ColumnFacet.class)));
+            region.setRegionFacet(SecondaryFacet.class, new SecondaryFacet(region.getRegion(), region.getBorderForFacet(SecondaryFacet.class)));
+        }
+    }
+
+    @Updates(@Facet(SecondaryFacet.class))
+    public static class SecondaryFacetUpdater implements FacetProvider {
+
+        @Override
+        public void process(GeneratingRegion region) {
+            region.getRegionFacet(SecondaryFacet.class).updated = true;
+        }
+    }
+
+    @Produces(VolumeFacet.class)
+    @Updates(@Facet(ColumnFacet.class))
+    public static class VolumeFacetProvider implements FacetProvider {
+
+        @Override
+        public void process(GeneratingRegion region) {
+            region.setRegionFacet(VolumeFacet.class, new VolumeFacet(region.getRegion(), region.getBorderForFacet(VolumeFacet.class)));
+        }
+    }
+}
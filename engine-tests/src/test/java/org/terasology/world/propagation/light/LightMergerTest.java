@@ -0,0 +1,132 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.propagation.light;
+
+import com.google.common.collect.Lists;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.world.chunks.Chunk;
+import org.terasology.world.chunks.internal.GeneratingChunkProvider;
+
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ */
+public class LightMergerTest {
+    private static final long TIMEOUT_MS = 5000;
+
+    private GeneratingChunkProvider chunkProvider;
+    private LightMerger<String> lightMerger;
+
+    @Before
+    public void setup() {
+        chunkProvider = mock(GeneratingChunkProvider.class);
+        lightMerger = new LightMerger<>(chunkProvider, 1);
+    }
+
+    @After
+    public void teardown() {
+        lightMerger.shutdown();
+    }
+
+    @Test
+    public void testMergeLocksNeighbourhoodUntilCompleted() throws InterruptedException {
+        assertTrue(lightMerger.beginMerge(chunkAt(new Vector3i(0, 0, 0)), "merged"));
+
+        assertTrue(lightMerger.isChunkLocked(new Vector3i(1, 1, 1)));
+        assertFalse(lightMerger.isChunkLocked(new Vector3i(2, 0, 0)));
+        assertFalse(lightMerger.canBeginMerge(new Vector3i(2, 0, 0)));
+        assertTrue(lightMerger.canBeginMerge(new Vector3i(3, 0, 0)));
+        assertFalse(lightMerger.beginMerge(chunkAt(new Vector3i(1, 0, 0)), "overlapping"));
+        assertEquals(1, lightMerger.getMergesInFlight());
+
+        List<String> completed = awaitMerges();
+        assertEquals(1, completed.size());
+        assertEquals("merged", completed.get(0));
+        assertFalse(lightMerger.isChunkLocked(new Vector3i(1, 1, 1)));
+        assertEquals(0, lightMerger.getMergesInFlight());
+    }
+
+    @Test
+    public void testFailedMergeUnlocksNeighbourhood() throws InterruptedException {
+        when(chunkProvider.getChunk(anyInt(), anyInt(), anyInt())).thenThrow(new LinkageError("test"));
+        assertTrue(lightMerger.beginMerge(chunkAt(new Vector3i(0, 0, 0)), "failing"));
+
+        assertTrue(awaitMerges().isEmpty());
+        assertFalse(lightMerger.isChunkLocked(new Vector3i(0, 0, 0)));
+        assertEquals(0, lightMerger.getMergesInFlight());
+        assertTrue(lightMerger.canBeginMerge(new Vector3i(0, 0, 0)));
+    }
+
+    @Test
+    public void testFailedMergeKeepsResultsOfOtherMerges() throws InterruptedException {
+        // Only the merge of the chunk at (10, 0, 0) looks up its corner neighbour at (9, -1, -1)
+        when(chunkProvider.getChunk(9, -1, -1)).thenThrow(new LinkageError("test"));
+        assertTrue(lightMerger.beginMerge(chunkAt(new Vector3i(10, 0, 0)), "failing"));
+        assertTrue(lightMerger.beginMerge(chunkAt(new Vector3i(0, 0, 0)), "merged"));
+
+        assertEquals(Lists.newArrayList("merged"), awaitMerges());
+        assertFalse(lightMerger.isChunkLocked(new Vector3i(10, 0, 0)));
+        assertFalse(lightMerger.isChunkLocked(new Vector3i(0, 0, 0)));
+        assertEquals(0, lightMerger.getMergesInFlight());
+    }
+
+    @Test
+    public void testRejectedMergeUnlocksNeighbourhood() {
+        lightMerger.shutdown();
+        try {
+            lightMerger.beginMerge(chunkAt(new Vector3i(0, 0, 0)), "rejected");
+            fail("Expected the merge to be rejected after shutdown");
+        } catch (RejectedExecutionException e) {
+            // expected
+        }
+        assertFalse(lightMerger.isChunkLocked(new Vector3i(0, 0, 0)));
+        assertEquals(0, lightMerger.getMergesInFlight());
+    }
+
+    private Chunk chunkAt(Vector3i pos) {
+        Chunk chunk = mock(Chunk.class);
+        when(chunk.getPosition()).thenReturn(pos);
+        return chunk;
+    }
+
+    /**
+     * Completes merges until none are in flight anymore.
+     */
+    private List<String> awaitMerges() throws InterruptedException {
+        List<String> completed = Lists.newArrayList();
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (lightMerger.getMergesInFlight() > 0) {
+            completed.addAll(lightMerger.completeMerges());
+            if (System.currentTimeMillis() > deadline) {
+                fail("Merge did not complete in time");
+            }
+            Thread.sleep(5);
+        }
+        return completed;
+    }
+}
@@ -18,7 +18,9 @@
 import org.terasology.benchmark.Benchmarks;
 import org.terasology.benchmark.Benchmark;
 import org.terasology.benchmark.PrintToConsoleCallback;
+import org.terasology.world.chunks.blockdata.TeraDenseArray16Bit;
 import org.terasology.world.chunks.blockdata.TeraDenseArray8Bit;
+import org.terasology.world.chunks.blockdata.TeraPaletteArray16Bit;
 
 import java.util.LinkedList;
 import java.util.List;
@@ -36,6 +38,9 @@ public final class TeraArraysBenchmark {
     private static final byte[][] INFLATED_4_BIT = new byte[256][];
     private static final byte[] DEFLATED_4_BIT = new byte[256];
 
+    // Terrain like block ids: a few block types per layer, and air above
+    private static final short[] TERRAIN_16_BIT = new short[16 * 256 * 16];
+
     static {
         for (int i = 0; i < INFLATED_8_BIT.length; i++) {
             INFLATED_8_BIT[i] = new byte[256];
@@ -43,6 +48,14 @@ public final class TeraArraysBenchmark {
         for (int i = 0; i < INFLATED_4_BIT.length; i++) {
             INFLATED_4_BIT[i] = new byte[128];
         }
+        for (int i = 0; i < TERRAIN_16_BIT.length; i++) {
+            int y = i / 256;
+            if (y < 64) {
+                TERRAIN_16_BIT[i] = (short) ((i % 7 == 0) ? 3 : 1);
+            } else if (y < 72) {
+                TERRAIN_16_BIT[i] = (short) ((i % 3 == 0) ? 4 : 2);
+            }
+        }
     }
 
     private TeraArraysBenchmark() {
@@ -58,6 +71,15 @@ public static void main(String[] args) {
         benchmarks.add(new BenchmarkTeraArraySerializeToStreamViaByteArray(new TeraDenseArray8Bit.SerializationHandler(), new TeraDenseArray8Bit(16, 256, 16)));
         benchmarks.add(new BenchmarkTeraArraySerializeToStreamViaChannel(new TeraDenseArray8Bit.SerializationHandler(), new TeraDenseArray8Bit(16, 256, 16)));
 
+        benchmarks.add(new BenchmarkTeraArraySerializeToBuffer(new TeraDenseArray16Bit.SerializationHandler(),
+                new TeraDenseArray16Bit(16, 256, 16, TERRAIN_16_BIT.clone())));
+        benchmarks.add(new BenchmarkTeraArraySerializeToBuffer(new TeraPaletteArray16Bit.SerializationHandler(),
+                new TeraPaletteArray16Bit(16, 256, 16, TERRAIN_16_BIT)));
+        benchmarks.add(new BenchmarkTeraArrayRead(new TeraDenseArray16Bit(16, 256, 16, TERRAIN_16_BIT.clone())));
+        benchmarks.add(new BenchmarkTeraArrayRead(new TeraPaletteArray16Bit(16, 256, 16, TERRAIN_16_BIT)));
+        benchmarks.add(new BenchmarkTeraArrayWrite(new TeraDenseArray16Bit(16, 256, 16, TERRAIN_16_BIT.clone())));
+        benchmarks.add(new BenchmarkTeraArrayWrite(new TeraPaletteArray16Bit(16, 256, 16, TERRAIN_16_BIT)));
+
 //        benchmarks.add(new BenchmarkTeraArrayDeserializeFromBuffer(new TeraDenseArray8Bit.SerializationHandler(), new TeraDenseArray8Bit(16, 256, 16)));
 //
 //
@@ -15,50 +15,132 @@
  */
 package org.terasology.benchmark.chunks.cache;
 
-import org.terasology.benchmark.Benchmark;
+import com.google.common.collect.Maps;
+import org.terasology.benchmark.AbstractBenchmark;
+import org.terasology.math.ChunkMath;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.world.chunks.Chunk;
+import org.terasology.world.chunks.ChunkConstants;
+import org.terasology.world.chunks.internal.ChunkImpl;
+import org.terasology.world.chunks.internal.ChunkLookupCache;
+
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * BenchmarkChunkCache measures reading the light of blocks through a chunk lookup by block position, as the world
+ * provider does, either scattered over all loaded chunks or walking from block to block.
+ *
+ */
+public class BenchmarkChunkCache extends AbstractBenchmark {
 
-public class BenchmarkChunkCache implements Benchmark {
+    private static final int ACCESSES = 1_000_000;
+    private static final int CHUNKS_XZ = 6;
+    private static final int CHUNKS_Y = 2;
 
-    public BenchmarkChunkCache() {
-    }
+    private final LookupType lookupType;
+    private final AccessPattern accessPattern;
 
-    @Override
-    public String getTitle() {
-        return null;
-    }
+    private final Map<Vector3i, Chunk> chunks = Maps.newConcurrentMap();
+    private final ChunkLookupCache lookupCache = new ChunkLookupCache(chunks);
+    private final int[] accesses = new int[ACCESSES * 3];
+    private volatile int sink;
 
-    @Override
-    public int getWarmupRepetitions() {
-        return 1;
-    }
-
-    @Override
-    public int[] getRepetitions() {
-        return new int[]{1, 10};
+    public BenchmarkChunkCache(LookupType lookupType, AccessPattern accessPattern) {
+        super("Read light of " + ACCESSES + " blocks (" + lookupType + ", " + accessPattern + ")", 5, new int[]{20, 50});
+        this.lookupType = lookupType;
+        this.accessPattern = accessPattern;
     }
 
     @Override
     public void setup() {
-
-    }
-
-    @Override
-    public void prerun() {
-
+        for (int x = 0; x < CHUNKS_XZ; x++) {
+            for (int y = 0; y < CHUNKS_Y; y++) {
+                for (int z = 0; z < CHUNKS_XZ; z++) {
+                    Chunk chunk = new ChunkImpl(x, y, z, null, null);
+                    chunk.markReady();
+                    chunks.put(chunk.getPosition(), chunk);
+                }
+            }
+        }
+
+        int sizeX = CHUNKS_XZ * ChunkConstants.SIZE_X;
+        int sizeY = CHUNKS_Y * ChunkConstants.SIZE_Y;
+        int sizeZ = CHUNKS_XZ * ChunkConstants.SIZE_Z;
+        Random random = new Random(42);
+        int x = sizeX / 2;
+        int y = sizeY / 2;
+        int z = sizeZ / 2;
+        for (int i = 0; i < accesses.length; i += 3) {
+            if (accessPattern == AccessPattern.RANDOM) {
+                x = random.nextInt(sizeX);
+                y = random.nextInt(sizeY);
+                z = random.nextInt(sizeZ);
+            } else {
+                int step = random.nextBoolean() ? 1 : -1;
+                switch (random.nextInt(3)) {
+                    case 0:
+                        x = Math.floorMod(x + step, sizeX);
+                        break;
+                    case 1:
+                        y = Math.floorMod(y + step, sizeY);
+                        break;
+                    default:
+                        z = Math.floorMod(z + step, sizeZ);
+                        break;
+                }
+            }
+            accesses[i] = x;
+            accesses[i + 1] = y;
+            accesses[i + 2] = z;
+        }
     }
 
     @Override
     public void run() {
+        int sum = 0;
+        for (int i = 0; i < accesses.length; i += 3) {
+            int x = accesses[i];
+            int y = accesses[i + 1];
+            int z = accesses[i + 2];
+            Chunk chunk = getChunk(ChunkMath.calcChunkPosX(x), ChunkMath.calcChunkPosY(y), ChunkMath.calcChunkPosZ(z));
+            if (chunk != null) {
+                sum += chunk.getLight(ChunkMath.calcBlockPosX(x), ChunkMath.calcBlockPosY(y), ChunkMath.calcBlockPosZ(z));
+            }
+        }
+        sink = sum;
     }
 
-    @Override
-    public void postrun() {
-
+    private Chunk getChunk(int x, int y, int z) {
+        if (lookupType == LookupType.CACHED) {
+            return lookupCache.getReadyChunk(x, y, z);
+        }
+        Chunk chunk = chunks.get(new Vector3i(x, y, z));
+        return (chunk != null && chunk.isReady()) ? chunk : null;
     }
 
     @Override
     public void finish(boolean aborted) {
+        for (Chunk chunk : chunks.values()) {
+            chunk.dispose();
+        }
+        chunks.clear();
+        lookupCache.invalidate();
+    }
 
+    public enum LookupType {
+        /**
+         * A new position vector per lookup, as the chunk providers used to do.
+         */
+        ALLOCATING,
+        /**
+         * The per thread chunk lookup cache.
+         */
+        CACHED
     }
 
+    public enum AccessPattern {
+        RANDOM,
+        COHERENT
+    }
 }
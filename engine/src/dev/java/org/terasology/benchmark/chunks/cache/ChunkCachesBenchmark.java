@@ -15,13 +15,33 @@
  */
 package org.terasology.benchmark.chunks.cache;
 
+import org.terasology.benchmark.Benchmark;
+import org.terasology.benchmark.Benchmarks;
+import org.terasology.benchmark.PrintToConsoleCallback;
+
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * ChunkCachesBenchmark compares looking up chunks with a freshly allocated position vector to the per thread chunk
+ * lookup cache, for random and for coherent block accesses.
+ *
+ */
 public final class ChunkCachesBenchmark {
 
     private ChunkCachesBenchmark() {
     }
 
     public static void main(String[] args) {
+        final List<Benchmark> benchmarks = new LinkedList<>();
+
+        for (BenchmarkChunkCache.AccessPattern accessPattern : BenchmarkChunkCache.AccessPattern.values()) {
+            for (BenchmarkChunkCache.LookupType lookupType : BenchmarkChunkCache.LookupType.values()) {
+                benchmarks.add(new BenchmarkChunkCache(lookupType, accessPattern));
+            }
+        }
 
+        Benchmarks.execute(benchmarks, new PrintToConsoleCallback());
     }
 
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.benchmark.chunks.tessellation;
+
+import com.google.common.collect.Maps;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.benchmark.AbstractBenchmark;
+import org.terasology.engine.subsystem.lwjgl.GLBufferPool;
+import org.terasology.math.Side;
+import org.terasology.math.geom.Vector2f;
+import org.terasology.math.geom.Vector3f;
+import org.terasology.rendering.primitives.BlockMeshGeneratorSingleShape;
+import org.terasology.rendering.primitives.ChunkMesh;
+import org.terasology.rendering.primitives.ChunkTessellator;
+import org.terasology.world.block.Block;
+import org.terasology.world.block.BlockAppearance;
+import org.terasology.world.block.BlockPart;
+import org.terasology.world.block.shapes.BlockMeshPart;
+import org.terasology.world.chunks.ChunkConstants;
+
+import java.util.Map;
+
+/**
+ * BenchmarkChunkTessellator measures how long it takes to tessellate a chunk of terraced terrain made of cubes.
+ *
+ */
+public class BenchmarkChunkTessellator extends AbstractBenchmark {
+    private static final Logger logger = LoggerFactory.getLogger(BenchmarkChunkTessellator.class);
+
+    private static final float TILE_SIZE = 1f / 16f;
+
+    private final boolean greedyMeshing;
+    private ChunkTessellator tessellator;
+    private BenchmarkChunkView chunkView;
+
+    public BenchmarkChunkTessellator(boolean greedyMeshing) {
+        super("Tessellate chunk (" + (greedyMeshing ? "greedy" : "per block") + ")", 20, new int[]{50, 200});
+        this.greedyMeshing = greedyMeshing;
+    }
+
+    @Override
+    public void setup() {
+        tessellator = new ChunkTessellator(new GLBufferPool(false));
+        tessellator.setGreedyMeshing(greedyMeshing);
+
+        Block air = new Block();
+        air.setTranslucent(true);
+        air.setShadowCasting(false);
+        Block stone = createCube(0);
+        Block dirt = createCube(1);
+        Block sand = createCube(2);
+
+        chunkView = new BenchmarkChunkView(air);
+        for (int x = 0; x < ChunkConstants.SIZE_X; x++) {
+            for (int z = 0; z < ChunkConstants.SIZE_Z; z++) {
+                int height = 24 + (x / 6 + z / 5) % 4;
+                for (int y = 0; y < height; y++) {
+                    Block surface = ((x / 8 + z / 8) % 3 == 0) ? sand : dirt;
+                    chunkView.setBlock(x, y, z, (y < height - 3) ? stone : surface);
+                }
+                chunkView.setSurfaceHeight(x, z, height);
+            }
+        }
+
+        ChunkMesh mesh = tessellator.generateMesh(chunkView, ChunkConstants.SIZE_Y, 0);
+        logger.info("{}: {} opaque vertices", getTitle(), mesh.getVertexElements(ChunkMesh.RenderType.OPAQUE).vertexCount);
+    }
+
+    @Override
+    public void run() {
+        tessellator.generateMesh(chunkView, ChunkConstants.SIZE_Y, 0);
+    }
+
+    /**
+     * Creates a block shaped like engine:cube, textured with the given tile of the first atlas row.
+     */
+    private static Block createCube(int tile) {
+        Block block = new Block();
+        block.setTranslucent(false);
+        Map<BlockPart, BlockMeshPart> parts = Maps.newEnumMap(BlockPart.class);
+        Map<BlockPart, Vector2f> atlasPositions = Maps.newEnumMap(BlockPart.class);
+        for (BlockPart part : BlockPart.values()) {
+            atlasPositions.put(part, new Vector2f(tile * TILE_SIZE, 0));
+        }
+        parts.put(BlockPart.TOP, createSide(new float[][]{{-1, 1, 1}, {1, 1, 1}, {1, 1, -1}, {-1, 1, -1}}, new Vector3f(0, 1, 0), tile));
+        parts.put(BlockPart.BOTTOM, createSide(new float[][]{{-1, -1, 1}, {-1, -1, -1}, {1, -1, -1}, {1, -1, 1}}, new Vector3f(0, -1, 0), tile));
+        parts.put(BlockPart.FRONT, createSide(new float[][]{{-1, -1, -1}, {-1, 1, -1}, {1, 1, -1}, {1, -1, -1}}, new Vector3f(0, 0, -1), tile));
+        parts.put(BlockPart.BACK, createSide(new float[][]{{-1, 1, 1}, {-1, -1, 1}, {1, -1, 1}, {1, 1, 1}}, new Vector3f(0, 0, 1), tile));
+        parts.put(BlockPart.LEFT, createSide(new float[][]{{-1, -1, 1}, {-1, 1, 1}, {-1, 1, -1}, {-1, -1, -1}}, new Vector3f(-1, 0, 0), tile));
+        parts.put(BlockPart.RIGHT, createSide(new float[][]{{1, -1, -1}, {1, 1, -1}, {1, 1, 1}, {1, -1, 1}}, new Vector3f(1, 0, 0), tile));
+        block.setPrimaryAppearance(new BlockAppearance(parts, atlasPositions));
+        for (Side side : Side.values()) {
+            block.setFullSide(side, true);
+        }
+        block.setMeshGenerator(new BlockMeshGeneratorSingleShape(block));
+        return block;
+    }
+
+    private static BlockMeshPart createSide(float[][] corners, Vector3f normal, int tile) {
+        Vector3f[] vertices = new Vector3f[4];
+        Vector3f[] normals = new Vector3f[4];
+        for (int i = 0; i < 4; i++) {
+            vertices[i] = new Vector3f(corners[i][0] * 0.5f, corners[i][1] * 0.5f, corners[i][2] * 0.5f);
+            normals[i] = new Vector3f(normal);
+        }
+        Vector2f[] texCoords = {new Vector2f(1, 1), new Vector2f(1, 0), new Vector2f(0, 0), new Vector2f(0, 1)};
+        return new BlockMeshPart(vertices, normals, texCoords, new int[]{0, 1, 2, 0, 2, 3})
+                .mapTexCoords(new Vector2f(tile * TILE_SIZE, 0), TILE_SIZE);
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.benchmark.chunks.tessellation;
+
+import org.terasology.math.Region3i;
+import org.terasology.math.TeraMath;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.world.ChunkView;
+import org.terasology.world.biomes.Biome;
+import org.terasology.world.block.Block;
+import org.terasology.world.chunks.ChunkConstants;
+import org.terasology.world.liquid.LiquidData;
+
+/**
+ * BenchmarkChunkView is a minimal chunk view over a single chunk of blocks, lit by full sunlight above a surface height.
+ * Everything outside of the chunk is the default block.
+ *
+ */
+public class BenchmarkChunkView implements ChunkView {
+
+    private final Block defaultBlock;
+    private final Block[] blocks = new Block[ChunkConstants.SIZE_X * ChunkConstants.SIZE_Y * ChunkConstants.SIZE_Z];
+    private final int[] surfaceHeights = new int[ChunkConstants.SIZE_X * ChunkConstants.SIZE_Z];
+
+    public BenchmarkChunkView(Block defaultBlock) {
+        this.defaultBlock = defaultBlock;
+    }
+
+    public void setSurfaceHeight(int x, int z, int height) {
+        surfaceHeights[x + ChunkConstants.SIZE_X * z] = height;
+    }
+
+    private boolean isInside(int x, int y, int z) {
+        return x >= 0 && x < ChunkConstants.SIZE_X && y >= 0 && y < ChunkConstants.SIZE_Y && z >= 0 && z < ChunkConstants.SIZE_Z;
+    }
+
+    private int index(int x, int y, int z) {
+        return x + ChunkConstants.SIZE_X * (z + ChunkConstants.SIZE_Z * y);
+    }
+
+    @Override
+    public Block getBlock(float x, float y, float z) {
+        return getBlock(TeraMath.floorToInt(x + 0.5f), TeraMath.floorToInt(y + 0.5f), TeraMath.floorToInt(z + 0.5f));
+    }
+
+    @Override
+    public Block getBlock(Vector3i pos) {
+        return getBlock(pos.x, pos.y, pos.z);
+    }
+
+    @Override
+    public Block getBlock(int x, int y, int z) {
+        if (isInside(x, y, z)) {
+            Block block = blocks[index(x, y, z)];
+            if (block != null) {
+                return block;
+            }
+        }
+        return defaultBlock;
+    }
+
+    @Override
+    public Biome getBiome(float x, float y, float z) {
+        return null;
+    }
+
+    @Override
+    public Biome getBiome(Vector3i pos) {
+        return null;
+    }
+
+    @Override
+    public Biome getBiome(int x, int y, int z) {
+        return null;
+    }
+
+    @Override
+    public byte getSunlight(float x, float y, float z) {
+        return getSunlight(TeraMath.floorToInt(x + 0.5f), TeraMath.floorToInt(y + 0.5f), TeraMath.floorToInt(z + 0.5f));
+    }
+
+    @Override
+    public byte getSunlight(Vector3i pos) {
+        return getSunlight(pos.x, pos.y, pos.z);
+    }
+
+    @Override
+    public byte getSunlight(int x, int y, int z) {
+        if (isInside(x, y, z) && y < surfaceHeights[x + ChunkConstants.SIZE_X * z]) {
+            return 0;
+        }
+        return ChunkConstants.MAX_SUNLIGHT;
+    }
+
+    @Override
+    public byte getLight(float x, float y, float z) {
+        return 0;
+    }
+
+    @Override
+    public byte getLight(Vector3i pos) {
+        return 0;
+    }
+
+    @Override
+    public byte getLight(int x, int y, int z) {
+        return 0;
+    }
+
+    @Override
+    public void setBlock(Vector3i pos, Block type) {
+        setBlock(pos.x, pos.y, pos.z, type);
+    }
+
+    @Override
+    public void setBlock(int x, int y, int z, Block type) {
+        blocks[index(x, y, z)] = type;
+    }
+
+    @Override
+    public void setBiome(Vector3i pos, Biome biome) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setBiome(int x, int y, int z, Biome biome) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public LiquidData getLiquid(Vector3i pos) {
+        return new LiquidData();
+    }
+
+    @Override
+    public LiquidData getLiquid(int x, int y, int z) {
+        return new LiquidData();
+    }
+
+    @Override
+    public void setLiquid(Vector3i pos, LiquidData newState) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setLiquid(int x, int y, int z, LiquidData newState) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Vector3i toWorldPos(Vector3i localPos) {
+        return new Vector3i(localPos);
+    }
+
+    @Override
+    public Region3i getWorldRegion() {
+        return ChunkConstants.CHUNK_REGION;
+    }
+
+    @Override
+    public Region3i getChunkRegion() {
+        return Region3i.createFromMinAndSize(Vector3i.zero(), Vector3i.one());
+    }
+
+    @Override
+    public void setDirtyAround(Vector3i blockPos) {
+    }
+
+    @Override
+    public void setDirtyAround(Region3i blockRegion) {
+    }
+
+    @Override
+    public boolean isValidView() {
+        return true;
+    }
+}
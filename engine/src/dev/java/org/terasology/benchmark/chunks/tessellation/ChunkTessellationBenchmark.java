@@ -0,0 +1,43 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.benchmark.chunks.tessellation;
+
+import org.terasology.benchmark.Benchmark;
+import org.terasology.benchmark.Benchmarks;
+import org.terasology.benchmark.PrintToConsoleCallback;
+
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * ChunkTessellationBenchmark compares the regular and the greedy tessellation of a chunk of terraced terrain.
+ * Runs headless, as tessellation does not touch OpenGL until the mesh is uploaded.
+ *
+ */
+public final class ChunkTessellationBenchmark {
+
+    private ChunkTessellationBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        final List<Benchmark> benchmarks = new LinkedList<>();
+
+        benchmarks.add(new BenchmarkChunkTessellator(false));
+        benchmarks.add(new BenchmarkChunkTessellator(true));
+
+        Benchmarks.execute(benchmarks, new PrintToConsoleCallback());
+    }
+}
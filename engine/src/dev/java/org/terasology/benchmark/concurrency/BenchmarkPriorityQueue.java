@@ -0,0 +1,155 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.benchmark.concurrency;
+
+import com.google.common.collect.Lists;
+import org.terasology.benchmark.AbstractBenchmark;
+import org.terasology.utilities.concurrency.DynamicPriorityBlockingQueue;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+
+/**
+ * BenchmarkPriorityQueue measures how long it takes to queue a few thousand chunk positions and drain them again,
+ * ordered by their distance to a moving center as the chunk pipelines do.
+ * <br><br>
+ * The additional consumer threads are started once in {@link #setup()} and wait for each run, so that starting
+ * threads is not part of the measurement.
+ *
+ */
+public class BenchmarkPriorityQueue extends AbstractBenchmark {
+
+    private static final int TASKS = 4096;
+    private static final int RANGE = 64;
+
+    private final QueueType queueType;
+    private final int consumers;
+    private final boolean reprioritize;
+
+    private final int[][] positions = new int[TASKS][];
+    private volatile int centerX;
+    private volatile int centerZ;
+    private final Comparator<int[]> distanceToCenter = (a, b) -> Integer.compare(distance(a), distance(b));
+
+    private BlockingQueue<int[]> queue;
+    private final List<Thread> consumerThreads = Lists.newArrayList();
+    private CyclicBarrier runStarted;
+    private CyclicBarrier runFinished;
+
+    public BenchmarkPriorityQueue(QueueType queueType, int consumers, boolean reprioritize) {
+        super("Queue and drain " + TASKS + " tasks (" + queueType + ", " + consumers + " consumers"
+                + (reprioritize ? ", reprioritized" : "") + ")",
+                // The linked list needs quadratic time to drain, so it gets fewer repetitions
+                (queueType == QueueType.LINKED_LIST) ? 10 : 50,
+                (queueType == QueueType.LINKED_LIST) ? new int[]{20, 50} : new int[]{200, 500});
+        this.queueType = queueType;
+        this.consumers = consumers;
+        this.reprioritize = reprioritize;
+    }
+
+    @Override
+    public void setup() {
+        Random random = new Random(42);
+        for (int i = 0; i < TASKS; i++) {
+            positions[i] = new int[]{random.nextInt(2 * RANGE) - RANGE, random.nextInt(2 * RANGE) - RANGE};
+        }
+        queue = (queueType == QueueType.DYNAMIC)
+                ? new DynamicPriorityBlockingQueue<>(distanceToCenter)
+                : new LinkedListPriorityBlockingQueue<>(distanceToCenter);
+
+        runStarted = new CyclicBarrier(consumers);
+        runFinished = new CyclicBarrier(consumers);
+        for (int i = 1; i < consumers; i++) {
+            Thread thread = new Thread(this::consume, "Queue-Consumer-" + i);
+            thread.setDaemon(true);
+            thread.start();
+            consumerThreads.add(thread);
+        }
+    }
+
+    @Override
+    public void run() {
+        centerX = 0;
+        centerZ = 0;
+        for (int[] position : positions) {
+            queue.offer(position);
+        }
+        if (reprioritize) {
+            centerX = RANGE / 2;
+            centerZ = RANGE / 2;
+            // The linked list queue looks at the current order on every take anyway
+            if (queue instanceof DynamicPriorityBlockingQueue) {
+                ((DynamicPriorityBlockingQueue<int[]>) queue).reprioritize();
+            }
+        }
+
+        await(runStarted);
+        drain();
+        await(runFinished);
+    }
+
+    @Override
+    public void finish(boolean aborted) {
+        for (Thread thread : consumerThreads) {
+            thread.interrupt();
+        }
+        consumerThreads.clear();
+    }
+
+    private void consume() {
+        try {
+            while (true) {
+                runStarted.await();
+                drain();
+                runFinished.await();
+            }
+        } catch (InterruptedException | BrokenBarrierException e) {
+            // the benchmark is finished
+        }
+    }
+
+    private void drain() {
+        while (queue.poll() != null) {
+            // keep polling until empty
+        }
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the consumers", e);
+        } catch (BrokenBarrierException e) {
+            throw new IllegalStateException("A consumer stopped during the run", e);
+        }
+    }
+
+    private int distance(int[] position) {
+        int dx = position[0] - centerX;
+        int dz = position[1] - centerZ;
+        return dx * dx + dz * dz;
+    }
+
+    public enum QueueType {
+        DYNAMIC,
+        LINKED_LIST
+    }
+}
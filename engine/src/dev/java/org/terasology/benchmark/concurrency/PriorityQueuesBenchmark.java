@@ -0,0 +1,47 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.benchmark.concurrency;
+
+import org.terasology.benchmark.Benchmark;
+import org.terasology.benchmark.Benchmarks;
+import org.terasology.benchmark.PrintToConsoleCallback;
+
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * PriorityQueuesBenchmark compares the heap backing the dynamic priority task masters with the linked list they used
+ * before, under a single and under several competing consumers.
+ *
+ */
+public final class PriorityQueuesBenchmark {
+
+    private PriorityQueuesBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        final List<Benchmark> benchmarks = new LinkedList<>();
+
+        for (int consumers : new int[]{1, 4}) {
+            benchmarks.add(new BenchmarkPriorityQueue(BenchmarkPriorityQueue.QueueType.DYNAMIC, consumers, false));
+            benchmarks.add(new BenchmarkPriorityQueue(BenchmarkPriorityQueue.QueueType.DYNAMIC, consumers, true));
+            benchmarks.add(new BenchmarkPriorityQueue(BenchmarkPriorityQueue.QueueType.LINKED_LIST, consumers, false));
+            benchmarks.add(new BenchmarkPriorityQueue(BenchmarkPriorityQueue.QueueType.LINKED_LIST, consumers, true));
+        }
+
+        Benchmarks.execute(benchmarks, new PrintToConsoleCallback());
+    }
+}
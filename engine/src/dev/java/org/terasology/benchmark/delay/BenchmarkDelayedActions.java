@@ -0,0 +1,155 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.benchmark.delay;
+
+import com.google.common.collect.Ordering;
+import com.google.common.collect.SortedSetMultimap;
+import com.google.common.collect.TreeMultimap;
+import org.terasology.benchmark.AbstractBenchmark;
+import org.terasology.utilities.collection.TimingWheel;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * BenchmarkDelayedActions measures how long it takes to schedule a large number of delayed actions, move some of
+ * them to an earlier wake up, and play them back frame by frame, rescheduling half of them as periodic actions do.
+ *
+ */
+public class BenchmarkDelayedActions extends AbstractBenchmark {
+
+    private static final int TIMERS = 100000;
+    private static final long HORIZON = 60000;
+    private static final long FRAME = 16;
+
+    private final SchedulerType schedulerType;
+
+    private final long[] wakeUps = new long[TIMERS];
+    private final long[] earlierWakeUps = new long[TIMERS];
+    private final long[] periods = new long[TIMERS];
+
+    public BenchmarkDelayedActions(SchedulerType schedulerType) {
+        super("Schedule and fire " + TIMERS + " delayed actions (" + schedulerType + ")", 5, new int[]{20});
+        this.schedulerType = schedulerType;
+    }
+
+    @Override
+    public void setup() {
+        Random random = new Random(42);
+        for (int i = 0; i < TIMERS; i++) {
+            wakeUps[i] = 1 + random.nextInt((int) HORIZON);
+            earlierWakeUps[i] = (i % 10 == 0) ? 1 + random.nextInt((int) wakeUps[i]) : wakeUps[i];
+            periods[i] = (i % 2 == 0) ? 250 + random.nextInt(5000) : 0;
+        }
+    }
+
+    @Override
+    public void run() {
+        Scheduler scheduler = (schedulerType == SchedulerType.TIMING_WHEEL) ? new WheelScheduler() : new TreeScheduler();
+        int fired = 0;
+        for (int i = 0; i < TIMERS; i++) {
+            scheduler.schedule(i, wakeUps[i]);
+        }
+        for (int i = 0; i < TIMERS; i++) {
+            if (earlierWakeUps[i] != wakeUps[i]) {
+                scheduler.reschedule(i, earlierWakeUps[i]);
+            }
+        }
+        for (long now = FRAME; now <= HORIZON; now += FRAME) {
+            for (int id : scheduler.advance(now)) {
+                fired++;
+                if (periods[id] != 0 && now + periods[id] <= HORIZON) {
+                    scheduler.schedule(id, now + periods[id]);
+                }
+            }
+        }
+        if (fired < TIMERS) {
+            throw new IllegalStateException("Only " + fired + " of " + TIMERS + " actions were triggered");
+        }
+    }
+
+    public enum SchedulerType {
+        TIMING_WHEEL,
+        TREE_MULTIMAP
+    }
+
+    private interface Scheduler {
+        void schedule(int id, long wakeUp);
+
+        void reschedule(int id, long wakeUp);
+
+        List<Integer> advance(long time);
+    }
+
+    private static final class WheelScheduler implements Scheduler {
+        private final TimingWheel<Integer> wheel = new TimingWheel<>();
+        @SuppressWarnings("unchecked")
+        private final TimingWheel.Timer<Integer>[] timers = new TimingWheel.Timer[TIMERS];
+
+        @Override
+        public void schedule(int id, long wakeUp) {
+            timers[id] = wheel.schedule(id, wakeUp);
+        }
+
+        @Override
+        public void reschedule(int id, long wakeUp) {
+            wheel.cancel(timers[id]);
+            schedule(id, wakeUp);
+        }
+
+        @Override
+        public List<Integer> advance(long time) {
+            return wheel.advance(time);
+        }
+    }
+
+    /**
+     * Mirrors how the delayed action system kept its operations before the timing wheel.
+     */
+    private static final class TreeScheduler implements Scheduler {
+        private final SortedSetMultimap<Long, Integer> operations = TreeMultimap.create(Ordering.natural(), Ordering.natural());
+        private final long[] scheduled = new long[TIMERS];
+
+        @Override
+        public void schedule(int id, long wakeUp) {
+            scheduled[id] = wakeUp;
+            operations.put(wakeUp, id);
+        }
+
+        @Override
+        public void reschedule(int id, long wakeUp) {
+            operations.remove(scheduled[id], id);
+            schedule(id, wakeUp);
+        }
+
+        @Override
+        public List<Integer> advance(long time) {
+            List<Integer> operationsToInvoke = new LinkedList<>();
+            Iterator<Long> scheduledOperationsIterator = operations.keySet().iterator();
+            while (scheduledOperationsIterator.hasNext()) {
+                long processedTime = scheduledOperationsIterator.next();
+                if (processedTime > time) {
+                    break;
+                }
+                operationsToInvoke.addAll(operations.get(processedTime));
+                scheduledOperationsIterator.remove();
+            }
+            return operationsToInvoke;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.benchmark.delay;
+
+import org.terasology.benchmark.Benchmark;
+import org.terasology.benchmark.Benchmarks;
+import org.terasology.benchmark.PrintToConsoleCallback;
+
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * DelayedActionsBenchmark compares the timing wheel behind the delayed action system with the sorted multimap it
+ * replaced.
+ *
+ */
+public final class DelayedActionsBenchmark {
+
+    private DelayedActionsBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        final List<Benchmark> benchmarks = new LinkedList<>();
+
+        benchmarks.add(new BenchmarkDelayedActions(BenchmarkDelayedActions.SchedulerType.TIMING_WHEEL));
+        benchmarks.add(new BenchmarkDelayedActions(BenchmarkDelayedActions.SchedulerType.TREE_MULTIMAP));
+
+        Benchmarks.execute(benchmarks, new PrintToConsoleCallback());
+    }
+}
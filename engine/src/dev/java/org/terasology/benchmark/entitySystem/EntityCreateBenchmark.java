@@ -32,10 +32,12 @@
  */
 public class EntityCreateBenchmark extends AbstractBenchmark {
 
+    private final boolean archetypeStorage;
     private List<List<Component>> rawEntityData;
 
-    public EntityCreateBenchmark() {
-        super("Create Entities", 10000, new int[]{10000});
+    public EntityCreateBenchmark(boolean archetypeStorage) {
+        super("Create Entities" + (archetypeStorage ? " (archetypes)" : ""), 10000, new int[]{10000});
+        this.archetypeStorage = archetypeStorage;
     }
 
     @Override
@@ -59,7 +61,7 @@ public void setup() {
 
     @Override
     public void run() {
-        PojoEntityManager entityManager = new PojoEntityManager();
+        PojoEntityManager entityManager = new PojoEntityManager(archetypeStorage);
         rawEntityData.forEach(entityManager::create);
     }
 }
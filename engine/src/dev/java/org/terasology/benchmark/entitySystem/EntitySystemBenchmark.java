@@ -37,9 +37,11 @@ private EntitySystemBenchmark() {
     public static void main(String[] args) {
         final List<Benchmark> benchmarks = Lists.newArrayList();
 
-        benchmarks.add(new EntityCreateBenchmark());
-        benchmarks.add(new IterateSingleComponentBenchmark());
-        benchmarks.add(new IterateMultipleComponentBenchmark());
+        for (boolean archetypeStorage : new boolean[]{false, true}) {
+            benchmarks.add(new EntityCreateBenchmark(archetypeStorage));
+            benchmarks.add(new IterateSingleComponentBenchmark(archetypeStorage));
+            benchmarks.add(new IterateMultipleComponentBenchmark(archetypeStorage));
+        }
         Benchmarks.execute(benchmarks, new PrintToConsoleCallback());
 
     }
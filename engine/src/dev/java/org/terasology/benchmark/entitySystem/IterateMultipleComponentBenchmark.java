@@ -33,11 +33,13 @@
  */
 public class IterateMultipleComponentBenchmark extends AbstractBenchmark {
 
+    private final boolean archetypeStorage;
     private List<List<Component>> rawEntityData;
     private PojoEntityManager entityManager;
 
-    public IterateMultipleComponentBenchmark() {
-        super("Iterate entities by multiple components", 10000, new int[]{10000});
+    public IterateMultipleComponentBenchmark(boolean archetypeStorage) {
+        super("Iterate entities by multiple components" + (archetypeStorage ? " (archetypes)" : ""), 10000, new int[]{10000});
+        this.archetypeStorage = archetypeStorage;
     }
 
     @Override
@@ -58,7 +60,7 @@ public void setup() {
             rawEntityData.add(entityData);
         }
 
-        entityManager = new PojoEntityManager();
+        entityManager = new PojoEntityManager(archetypeStorage);
         for (List<Component> rawEntity : rawEntityData) {
             entityManager.create(rawEntity);
         }
@@ -32,11 +32,13 @@
  *
  */
 public class IterateSingleComponentBenchmark extends AbstractBenchmark {
+    private final boolean archetypeStorage;
     private List<List<Component>> rawEntityData;
     private PojoEntityManager entityManager;
 
-    public IterateSingleComponentBenchmark() {
-        super("Iterate Entities Single Component", 10000, new int[]{10000});
+    public IterateSingleComponentBenchmark(boolean archetypeStorage) {
+        super("Iterate Entities Single Component" + (archetypeStorage ? " (archetypes)" : ""), 10000, new int[]{10000});
+        this.archetypeStorage = archetypeStorage;
     }
 
     @Override
@@ -57,7 +59,7 @@ public void setup() {
             rawEntityData.add(entityData);
         }
 
-        entityManager = new PojoEntityManager();
+        entityManager = new PojoEntityManager(archetypeStorage);
         for (List<Component> rawEntity : rawEntityData) {
             entityManager.create(rawEntity);
         }
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.benchmark.noise;
+
+import org.terasology.benchmark.AbstractBenchmark;
+import org.terasology.utilities.procedural.BrownianNoise;
+import org.terasology.utilities.procedural.Noise;
+import org.terasology.utilities.procedural.PerlinNoise;
+import org.terasology.utilities.procedural.SimplexNoise;
+
+/**
+ * BenchmarkNoiseRegion measures how long it takes to compute 8 octaves of Brownian noise for a region, either one
+ * position at a time or with the grid methods of {@link Noise}.
+ *
+ */
+public class BenchmarkNoiseRegion extends AbstractBenchmark {
+
+    private static final int SIZE = 128;
+    private static final int OCTAVES = 8;
+    private static final float ZOOM = 0.004f;
+
+    private final NoiseType noiseType;
+    private final boolean grid;
+
+    private final float[] xs = new float[SIZE];
+    private final float[] ys = new float[SIZE];
+
+    public BenchmarkNoiseRegion(NoiseType noiseType, boolean grid) {
+        super("Brownian " + noiseType + " noise of " + SIZE + "x" + SIZE + " positions, " + (grid ? "grid" : "point by point"),
+                5, new int[]{20});
+        this.noiseType = noiseType;
+        this.grid = grid;
+    }
+
+    @Override
+    public void setup() {
+        for (int i = 0; i < SIZE; i++) {
+            xs[i] = ZOOM * (i - SIZE / 2);
+            ys[i] = ZOOM * (i + 1000);
+        }
+    }
+
+    @Override
+    public void run() {
+        Noise base = (noiseType == NoiseType.PERLIN) ? new PerlinNoise(42) : new SimplexNoise(42);
+        Noise noise = new BrownianNoise(base, OCTAVES);
+        float[] result = new float[SIZE * SIZE];
+        if (grid) {
+            noise.noise(xs, ys, result);
+        } else {
+            for (int y = 0; y < SIZE; y++) {
+                for (int x = 0; x < SIZE; x++) {
+                    result[x + SIZE * y] = noise.noise(xs[x], ys[y]);
+                }
+            }
+        }
+        if (Float.isNaN(result[SIZE * SIZE - 1])) {
+            throw new IllegalStateException("Noise is not a number");
+        }
+    }
+
+    public enum NoiseType {
+        PERLIN,
+        SIMPLEX
+    }
+}
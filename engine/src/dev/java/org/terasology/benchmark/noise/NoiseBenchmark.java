@@ -0,0 +1,44 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.benchmark.noise;
+
+import org.terasology.benchmark.Benchmark;
+import org.terasology.benchmark.Benchmarks;
+import org.terasology.benchmark.PrintToConsoleCallback;
+
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * NoiseBenchmark compares computing noise for a region position by position with computing it as a grid.
+ *
+ */
+public final class NoiseBenchmark {
+
+    private NoiseBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        final List<Benchmark> benchmarks = new LinkedList<>();
+
+        for (BenchmarkNoiseRegion.NoiseType noiseType : BenchmarkNoiseRegion.NoiseType.values()) {
+            benchmarks.add(new BenchmarkNoiseRegion(noiseType, false));
+            benchmarks.add(new BenchmarkNoiseRegion(noiseType, true));
+        }
+
+        Benchmarks.execute(benchmarks, new PrintToConsoleCallback());
+    }
+}
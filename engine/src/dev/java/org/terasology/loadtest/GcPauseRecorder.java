@@ -0,0 +1,89 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.loadtest;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the duration of every garbage collection while it is running. The durations are the ones reported by the
+ * collectors, so for concurrent collectors they include the time spent alongside the application.
+ */
+class GcPauseRecorder implements NotificationListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(GcPauseRecorder.class);
+
+    private final ValueRecorder pauses = new ValueRecorder();
+    private final Map<String, ValueRecorder> pausesByCollector = Maps.newConcurrentMap();
+    private final List<NotificationEmitter> emitters = Lists.newArrayList();
+
+    void start() {
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (collector instanceof NotificationEmitter) {
+                NotificationEmitter emitter = (NotificationEmitter) collector;
+                emitter.addNotificationListener(this, null, null);
+                emitters.add(emitter);
+            }
+        }
+        if (emitters.isEmpty()) {
+            logger.warn("The garbage collectors of this JVM do not report their collections, no pauses are recorded");
+        }
+    }
+
+    void stop() {
+        for (NotificationEmitter emitter : emitters) {
+            try {
+                emitter.removeNotificationListener(this);
+            } catch (ListenerNotFoundException e) {
+                logger.warn("Garbage collection listener was already removed", e);
+            }
+        }
+        emitters.clear();
+    }
+
+    @Override
+    public void handleNotification(Notification notification, Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            return;
+        }
+        GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        long durationNanos = TimeUnit.MILLISECONDS.toNanos(info.getGcInfo().getDuration());
+        pauses.record(durationNanos);
+        pausesByCollector.computeIfAbsent(info.getGcName(), name -> new ValueRecorder()).record(durationNanos);
+    }
+
+    ValueRecorder getPauses() {
+        return pauses;
+    }
+
+    Map<String, ValueRecorder> getPausesByCollector() {
+        return pausesByCollector;
+    }
+}
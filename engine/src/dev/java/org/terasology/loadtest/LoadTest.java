@@ -0,0 +1,87 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.engine.LoggingContext;
+import org.terasology.engine.TerasologyEngine;
+import org.terasology.engine.TerasologyEngineBuilder;
+import org.terasology.engine.paths.PathManager;
+import org.terasology.engine.subsystem.common.ConfigurationSubsystem;
+import org.terasology.engine.subsystem.headless.HeadlessAudio;
+import org.terasology.engine.subsystem.headless.HeadlessGraphics;
+import org.terasology.engine.subsystem.headless.HeadlessInput;
+import org.terasology.engine.subsystem.headless.HeadlessTimer;
+import org.terasology.engine.subsystem.headless.mode.HeadlessStateChangeListener;
+import org.terasology.engine.subsystem.headless.mode.StateHeadlessSetup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Runs a headless server on the local machine, puts it under load from simulated clients and writes the results to
+ * a JSON report. Needs neither a GPU nor a display, so it can run as part of a build.
+ * <p>
+ * Arguments:
+ * <table summary="Load test arguments">
+ * <tbody>
+ * <tr><td>-clients=&lt;count&gt;</td><td>The number of simulated clients, 8 by default.</td></tr>
+ * <tr><td>-rampUp=&lt;seconds&gt;</td><td>The time over which the clients connect, 30 by default.</td></tr>
+ * <tr><td>-duration=&lt;seconds&gt;</td><td>The time measured once all clients are connected, 60 by default.</td></tr>
+ * <tr><td>-port=&lt;port&gt;</td><td>The port the server listens on.</td></tr>
+ * <tr><td>-blocks=&lt;uri,uri...&gt;</td><td>The blocks the clients place, Core:Stone and Core:Dirt by default.</td></tr>
+ * <tr><td>-report=&lt;path&gt;</td><td>Where to write the report, loadtest-report.json by default.</td></tr>
+ * <tr><td>-homedir=&lt;path&gt;</td><td>The home directory of the server, a new temporary directory by default.</td></tr>
+ * </tbody>
+ * </table>
+ * The process exits with status 1 if the load test could not complete.
+ */
+public final class LoadTest {
+    private static final Logger logger = LoggerFactory.getLogger(LoadTest.class);
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        LoadTestSettings settings = LoadTestSettings.parse(args);
+        Path homePath = settings.getHomePath() != null ? settings.getHomePath() : Files.createTempDirectory("terasology-loadtest");
+        PathManager.getInstance().useOverrideHomePath(homePath);
+        LoggingContext.initialize(PathManager.getInstance().getLogPath());
+        System.setProperty(ConfigurationSubsystem.SERVER_PORT_PROPERTY, Integer.toString(settings.getPort()));
+
+        LoadTestSubsystem loadTestSubsystem = new LoadTestSubsystem(settings);
+        TerasologyEngine engine = new TerasologyEngineBuilder()
+                .add(new HeadlessGraphics())
+                .add(new HeadlessTimer())
+                .add(new HeadlessAudio())
+                .add(new HeadlessInput())
+                .add(loadTestSubsystem)
+                .build();
+        engine.subscribeToStateChange(new HeadlessStateChangeListener(engine));
+        engine.run(new StateHeadlessSetup());
+
+        LoadTestReport report = loadTestSubsystem.getReport();
+        if (report == null) {
+            logger.error("The load test did not complete, see the server log in {}", PathManager.getInstance().getLogPath());
+            System.exit(1);
+        }
+        report.write(settings.getReportPath());
+        logger.info("Load test report written to {}", settings.getReportPath().toAbsolutePath());
+        System.exit(0);
+    }
+}
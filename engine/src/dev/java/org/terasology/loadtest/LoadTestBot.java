@@ -0,0 +1,473 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.loadtest;
+
+import com.google.common.collect.Maps;
+import com.google.common.primitives.UnsignedBytes;
+import com.google.protobuf.ByteString;
+import org.jboss.netty.bootstrap.ClientBootstrap;
+import org.jboss.netty.channel.Channel;
+import org.jboss.netty.channel.ChannelFactory;
+import org.jboss.netty.channel.ChannelHandlerContext;
+import org.jboss.netty.channel.ChannelPipeline;
+import org.jboss.netty.channel.ChannelStateEvent;
+import org.jboss.netty.channel.Channels;
+import org.jboss.netty.channel.ExceptionEvent;
+import org.jboss.netty.channel.MessageEvent;
+import org.jboss.netty.channel.SimpleChannelUpstreamHandler;
+import org.jboss.netty.handler.codec.compression.ZlibDecoder;
+import org.jboss.netty.handler.codec.frame.LengthFieldBasedFrameDecoder;
+import org.jboss.netty.handler.codec.protobuf.ProtobufDecoder;
+import org.jboss.netty.handler.codec.protobuf.ProtobufEncoder;
+import org.jboss.netty.handler.codec.protobuf.ProtobufVarint32FrameDecoder;
+import org.jboss.netty.handler.codec.protobuf.ProtobufVarint32LengthFieldPrepender;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.identity.ClientIdentity;
+import org.terasology.identity.PublicIdentityCertificate;
+import org.terasology.network.internal.ClientHandshakeHandler;
+import org.terasology.network.internal.JoinStatusImpl;
+import org.terasology.network.internal.MetricRecordingHandler;
+import org.terasology.protobuf.EntityData;
+import org.terasology.protobuf.NetData;
+import org.terasology.rendering.nui.Color;
+import org.terasology.rendering.world.viewDistance.ViewDistance;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A simulated client. It speaks the network protocol of a real client, but instead of running a game it follows a
+ * script: once the chunks around it have arrived, it walks in circles, replaces the block it looks at and chats. The
+ * blocks are replaced through the cheat command of the same name, which the load test grants the bots.
+ * <p>
+ * Events are encoded by hand from the serialization info the server sends on join, so a bot needs none of the
+ * client-side entity system. Messages are received on Netty's threads, {@link #step()} is called from the load test's
+ * own thread.
+ */
+class LoadTestBot {
+    static final String NAME_PREFIX = "LoadTestBot";
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestBot.class);
+
+    private static final String COMMAND_EVENT = "engine:CommandEvent";
+    private static final String MOVE_EVENT = "engine:CharacterMoveInputEvent";
+    private static final String CLIENT_COMPONENT = "engine:Client";
+    private static final String NETWORK_COMPONENT = "engine:Network";
+
+    /**
+     * How long the delivery of chunks must have paused before the chunks around a new bot count as delivered.
+     */
+    private static final long CHUNK_QUIET_NANOS = TimeUnit.SECONDS.toNanos(2);
+    private static final long LOADING_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(60);
+    private static final long BLOCK_ACTION_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(2);
+    private static final long CHAT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final float TURN_DEGREES_PER_SECOND = 15;
+    private static final float LOOK_PITCH = -35;
+
+    enum State {
+        CREATED,
+        CONNECTING,
+        JOINING,
+        LOADING,
+        ACTIVE,
+        DISCONNECTED
+    }
+
+    private final String name;
+    private final List<String> blocks;
+    private final MetricRecordingHandler metrics = new MetricRecordingHandler();
+    private final ValueRecorder chunkLatencies = new ValueRecorder();
+    private final AtomicInteger chunksReceived = new AtomicInteger();
+    private final AtomicInteger blockChangesReceived = new AtomicInteger();
+    private final Map<Integer, Integer> charactersByClient = Maps.newConcurrentMap();
+
+    // Written by Netty's threads
+    private volatile State state = State.CREATED;
+    private volatile Channel channel;
+    private volatile String error;
+    private volatile boolean disconnectRequested;
+    private volatile Map<String, NetData.SerializationInfo> events = Maps.newHashMap();
+    private volatile Map<Integer, NetData.SerializationInfo> components = Maps.newHashMap();
+    private volatile long serverTimeOffset;
+    private volatile int clientNetId;
+    private volatile long connectTime;
+    private volatile long joinTime;
+    private volatile long firstChunkTime;
+    private volatile long lastChunkTime;
+
+    // Only used by the load test's thread
+    private long receivedBytes;
+    private long sentBytes;
+    private long receivedMessages;
+    private long sentMessages;
+    private long lastStep;
+    private long nextBlockAction;
+    private long nextChat;
+    private float yaw;
+    private int sequenceNumber;
+    private int moves;
+    private int blocksReplaced;
+    private int chatMessages;
+
+    /**
+     * @param index The number of the bot, to give it a unique name
+     * @param blocks The uris of the blocks to take turns placing
+     */
+    LoadTestBot(int index, List<String> blocks) {
+        this.name = NAME_PREFIX + index;
+        this.blocks = blocks;
+        this.yaw = (index * 137) % 360;
+    }
+
+    void connect(ChannelFactory channelFactory, InetSocketAddress address) {
+        ClientBootstrap bootstrap = new ClientBootstrap(channelFactory);
+        bootstrap.setPipelineFactory(this::createPipeline);
+        bootstrap.setOption("tcpNoDelay", true);
+        bootstrap.setOption("keepAlive", true);
+        state = State.CONNECTING;
+        connectTime = System.nanoTime();
+        bootstrap.connect(address).addListener(future -> {
+            if (!future.isSuccess()) {
+                fail("Failed to connect: " + future.getCause());
+            }
+        });
+    }
+
+    void disconnect() {
+        disconnectRequested = true;
+        Channel currentChannel = channel;
+        if (currentChannel != null) {
+            currentChannel.close().awaitUninterruptibly(1, TimeUnit.SECONDS);
+        }
+        state = State.DISCONNECTED;
+    }
+
+    /**
+     * Collects the bot's metrics and performs the next steps of its script.
+     */
+    void step() {
+        long now = System.nanoTime();
+        long stepNanos = lastStep != 0 ? now - lastStep : 0;
+        lastStep = now;
+        receivedBytes += metrics.getReceivedBytesSinceLastCall();
+        receivedMessages += metrics.getReceivedMessagesSinceLastCall();
+        sentBytes += metrics.getSentBytesSinceLastCall();
+        sentMessages += metrics.getSentMessagesSinceLastCall();
+
+        if (state == State.LOADING) {
+            boolean delivered = firstChunkTime != 0 && now - lastChunkTime >= CHUNK_QUIET_NANOS;
+            if (delivered || now - joinTime >= LOADING_TIMEOUT_NANOS) {
+                state = State.ACTIVE;
+                nextBlockAction = now + BLOCK_ACTION_INTERVAL_NANOS;
+                nextChat = now + CHAT_INTERVAL_NANOS;
+            }
+        } else if (state == State.ACTIVE) {
+            act(now, stepNanos);
+        }
+    }
+
+    private void act(long now, long stepNanos) {
+        Integer characterNetId = charactersByClient.get(clientNetId);
+        if (characterNetId != null && stepNanos > 0) {
+            walk(characterNetId, stepNanos);
+        }
+        if (now >= nextBlockAction) {
+            // Replacing rather than removing keeps the terrain in reach, however long the test runs
+            sendCommand("replaceBlock", blocks.get(blocksReplaced % blocks.size()));
+            blocksReplaced++;
+            nextBlockAction += BLOCK_ACTION_INTERVAL_NANOS;
+        }
+        if (now >= nextChat) {
+            sendCommand("say", "Message " + chatMessages + " from " + name);
+            chatMessages++;
+            nextChat += CHAT_INTERVAL_NANOS;
+        }
+    }
+
+    private void walk(int characterNetId, long stepNanos) {
+        float seconds = stepNanos / (float) TimeUnit.SECONDS.toNanos(1);
+        yaw = (yaw + TURN_DEGREES_PER_SECOND * seconds) % 360;
+        double yawRadians = Math.toRadians(yaw);
+        Map<String, EntityData.Value> fields = Maps.newHashMap();
+        fields.put("delta", EntityData.Value.newBuilder().addLong(TimeUnit.NANOSECONDS.toMillis(stepNanos)).build());
+        fields.put("pitch", EntityData.Value.newBuilder().addFloat(LOOK_PITCH).build());
+        fields.put("yaw", EntityData.Value.newBuilder().addFloat(yaw).build());
+        fields.put("running", EntityData.Value.newBuilder().addBoolean(false).build());
+        fields.put("crouching", EntityData.Value.newBuilder().addBoolean(false).build());
+        fields.put("jumpRequested", EntityData.Value.newBuilder().addBoolean(false).build());
+        fields.put("movementDirection", EntityData.Value.newBuilder()
+                .addFloat((float) -Math.sin(yawRadians)).addFloat(0).addFloat((float) -Math.cos(yawRadians)).build());
+        fields.put("sequenceNumber", EntityData.Value.newBuilder().addInteger(sequenceNumber++).build());
+        sendEvent(characterNetId, MOVE_EVENT, fields);
+        moves++;
+    }
+
+    private void sendCommand(String command, String... parameters) {
+        Map<String, EntityData.Value> fields = Maps.newHashMap();
+        fields.put("commandName", EntityData.Value.newBuilder().addString(command).build());
+        fields.put("parameters", EntityData.Value.newBuilder().addAllString(Arrays.asList(parameters)).build());
+        sendEvent(clientNetId, COMMAND_EVENT, fields);
+    }
+
+    private void sendEvent(int targetNetId, String eventUri, Map<String, EntityData.Value> fields) {
+        NetData.SerializationInfo info = events.get(eventUri.toLowerCase(Locale.ENGLISH));
+        if (info == null) {
+            fail("The server does not know the event " + eventUri);
+            return;
+        }
+        EntityData.Event.Builder event = EntityData.Event.newBuilder().setType(info.getId());
+        ByteString.Output fieldIds = ByteString.newOutput();
+        for (int i = 0; i < info.getFieldNameCount(); ++i) {
+            EntityData.Value value = fields.get(info.getFieldName(i));
+            if (value != null) {
+                fieldIds.write(info.getFieldIds().byteAt(i));
+                event.addFieldValue(value);
+            }
+        }
+        event.setFieldIds(fieldIds.toByteString());
+        channel.write(NetData.NetMessage.newBuilder()
+                .setTime(getServerTime())
+                .addEvent(NetData.EventMessage.newBuilder().setTargetId(targetNetId).setEvent(event))
+                .build());
+    }
+
+    private long getServerTime() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime()) + serverTimeOffset;
+    }
+
+    private ChannelPipeline createPipeline() {
+        ChannelPipeline p = Channels.pipeline();
+        p.addLast(MetricRecordingHandler.NAME, metrics);
+
+        p.addLast("lengthFrameDecoder", new LengthFieldBasedFrameDecoder(8388608, 0, 3, 0, 3));
+        p.addLast("inflateDecoder", new ZlibDecoder());
+        p.addLast("frameDecoder", new ProtobufVarint32FrameDecoder());
+        p.addLast("protobufDecoder", new ProtobufDecoder(NetData.NetMessage.getDefaultInstance()));
+
+        p.addLast("frameEncoder", new ProtobufVarint32LengthFieldPrepender());
+        p.addLast("protobufEncoder", new ProtobufEncoder());
+        p.addLast("authenticationHandler", new BotHandshakeHandler());
+        p.addLast("handler", new BotHandler());
+        return p;
+    }
+
+    private void receive(NetData.NetMessage message) {
+        long now = System.nanoTime();
+        if (message.hasServerInfo()) {
+            receivedServerInfo(message.getServerInfo());
+        }
+        if (message.hasJoinComplete()) {
+            clientNetId = message.getJoinComplete().getClientId();
+            joinTime = now;
+            state = State.LOADING;
+        }
+        for (EntityData.ChunkStore ignored : message.getChunkInfoList()) {
+            chunksReceived.incrementAndGet();
+            if (firstChunkTime == 0) {
+                firstChunkTime = now;
+            }
+            lastChunkTime = now;
+            if (state == State.LOADING) {
+                chunkLatencies.record(now - joinTime);
+            }
+        }
+        blockChangesReceived.addAndGet(message.getBlockChangeCount());
+        for (NetData.BlockChangeBatchMessage batch : message.getBlockChangeBatchList()) {
+            blockChangesReceived.addAndGet(batch.getNewBlockCount());
+        }
+        for (NetData.CreateEntityMessage createEntity : message.getCreateEntityList()) {
+            readEntity(0, createEntity.getEntity());
+        }
+        for (NetData.UpdateEntityMessage updateEntity : message.getUpdateEntityList()) {
+            readEntity(updateEntity.getNetId(), updateEntity.getEntity());
+        }
+    }
+
+    private void receivedServerInfo(NetData.ServerInfoMessage serverInfo) {
+        serverTimeOffset = serverInfo.getTime() - TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+        Map<String, NetData.SerializationInfo> eventsByName = Maps.newHashMap();
+        for (NetData.SerializationInfo info : serverInfo.getEventList()) {
+            eventsByName.put(info.getName().toLowerCase(Locale.ENGLISH), info);
+        }
+        Map<Integer, NetData.SerializationInfo> componentsById = Maps.newHashMap();
+        for (NetData.SerializationInfo info : serverInfo.getComponentList()) {
+            componentsById.put(info.getId(), info);
+        }
+        events = eventsByName;
+        components = componentsById;
+
+        channel.write(NetData.NetMessage.newBuilder().setJoin(NetData.JoinMessage.newBuilder()
+                .setName(name)
+                .setViewDistanceLevel(ViewDistance.MODERATE.getIndex())
+                .setColor(NetData.Color.newBuilder().setRgba(Color.WHITE.rgba())))
+                .build());
+        state = State.JOINING;
+    }
+
+    /**
+     * Picks the character out of the client entities, whose replicated fields are all the bot is interested in.
+     */
+    private void readEntity(int netId, EntityData.PackedEntity entity) {
+        int entityNetId = netId;
+        Integer characterNetId = null;
+        int fieldIndex = 0;
+        for (int i = 0; i < entity.getComponentIdCount(); ++i) {
+            int fieldCount = UnsignedBytes.toInt(entity.getComponentFieldCounts().byteAt(i));
+            NetData.SerializationInfo info = components.get(entity.getComponentId(i));
+            if (info != null) {
+                for (int j = fieldIndex; j < fieldIndex + fieldCount; ++j) {
+                    String field = getFieldName(info, entity.getFieldIds().byteAt(j));
+                    EntityData.Value value = entity.getFieldValue(j);
+                    if (value.getIntegerCount() == 0) {
+                        continue;
+                    }
+                    if (NETWORK_COMPONENT.equalsIgnoreCase(info.getName()) && "networkId".equals(field)) {
+                        entityNetId = value.getInteger(0);
+                    } else if (CLIENT_COMPONENT.equalsIgnoreCase(info.getName()) && "character".equals(field)) {
+                        characterNetId = value.getInteger(0);
+                    }
+                }
+            }
+            fieldIndex += fieldCount;
+        }
+        if (characterNetId != null && entityNetId != 0) {
+            charactersByClient.put(entityNetId, characterNetId);
+        }
+    }
+
+    private static String getFieldName(NetData.SerializationInfo info, byte fieldId) {
+        for (int i = 0; i < info.getFieldIds().size(); ++i) {
+            if (info.getFieldIds().byteAt(i) == fieldId) {
+                return info.getFieldName(i);
+            }
+        }
+        return null;
+    }
+
+    private void fail(String message) {
+        if (error == null) {
+            error = message;
+            logger.warn("{}: {}", name, message);
+        }
+        Channel currentChannel = channel;
+        if (currentChannel != null) {
+            currentChannel.close();
+        }
+    }
+
+    String getName() {
+        return name;
+    }
+
+    State getState() {
+        return state;
+    }
+
+    /**
+     * Restarts the traffic and action counts, so that they only cover the measurement phase.
+     */
+    void beginMeasurement() {
+        step();
+        receivedBytes = 0;
+        receivedMessages = 0;
+        sentBytes = 0;
+        sentMessages = 0;
+        moves = 0;
+        blocksReplaced = 0;
+        chatMessages = 0;
+    }
+
+    /**
+     * @param measuredSeconds The length of the measurement phase, to derive rates from
+     */
+    LoadTestReport.ClientReport createReport(double measuredSeconds) {
+        LoadTestReport.ClientReport report = new LoadTestReport.ClientReport();
+        report.name = name;
+        report.state = state.toString();
+        report.error = error;
+        report.joinMillis = joinTime != 0 ? toMillis(joinTime - connectTime) : -1;
+        report.firstChunkMillis = firstChunkTime != 0 && joinTime != 0 ? toMillis(firstChunkTime - joinTime) : -1;
+        report.chunksReceived = chunksReceived.get();
+        report.initialChunkDeliveryMillis = chunkLatencies.summarise();
+        report.blockChangesReceived = blockChangesReceived.get();
+        report.receivedBytesPerSecond = receivedBytes / measuredSeconds;
+        report.receivedMessagesPerSecond = receivedMessages / measuredSeconds;
+        report.sentBytesPerSecond = sentBytes / measuredSeconds;
+        report.sentMessagesPerSecond = sentMessages / measuredSeconds;
+        report.moves = moves;
+        report.blocksReplaced = blocksReplaced;
+        report.chatMessages = chatMessages;
+        return report;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Gets a new identity from the server on every connection, so that every bot is a different player.
+     */
+    private static class BotHandshakeHandler extends ClientHandshakeHandler {
+
+        BotHandshakeHandler() {
+            super(new JoinStatusImpl());
+        }
+
+        @Override
+        protected ClientIdentity findIdentity(PublicIdentityCertificate certificate) {
+            return null;
+        }
+
+        @Override
+        protected void storeIdentity(PublicIdentityCertificate certificate, ClientIdentity clientIdentity) {
+        }
+    }
+
+    private class BotHandler extends SimpleChannelUpstreamHandler {
+
+        @Override
+        public void channelConnected(ChannelHandlerContext ctx, ChannelStateEvent e) throws Exception {
+            channel = e.getChannel();
+            super.channelConnected(ctx, e);
+        }
+
+        @Override
+        public void messageReceived(ChannelHandlerContext ctx, MessageEvent e) {
+            receive((NetData.NetMessage) e.getMessage());
+        }
+
+        @Override
+        public void channelClosed(ChannelHandlerContext ctx, ChannelStateEvent e) throws Exception {
+            if (!disconnectRequested && error == null) {
+                error = "Disconnected by the server";
+                logger.warn("{}: {}", name, error);
+            }
+            state = State.DISCONNECTED;
+            super.channelClosed(ctx, e);
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, ExceptionEvent e) {
+            fail("Unexpected exception: " + e.getCause());
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.loadtest;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The results of a load test run, written as JSON so that builds can track and compare them. All durations are in
+ * milliseconds, all rates are per second of the measurement phase.
+ */
+class LoadTestReport {
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    Settings settings = new Settings();
+    Server server = new Server();
+    GarbageCollection gc = new GarbageCollection();
+    List<ClientReport> clients = Lists.newArrayList();
+
+    void write(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            GSON.toJson(this, writer);
+        }
+    }
+
+    static class Settings {
+        int clients;
+        int rampUpSeconds;
+        int durationSeconds;
+        List<String> blocks;
+    }
+
+    static class Server {
+        double measuredSeconds;
+        int ticks;
+        double ticksPerSecond;
+        ValueRecorder.Percentiles tickMillis;
+        int connectedClients;
+    }
+
+    static class GarbageCollection {
+        double totalPauseMillis;
+        ValueRecorder.Percentiles pauseMillis;
+        Map<String, ValueRecorder.Percentiles> pauseMillisByCollector = Maps.newTreeMap();
+    }
+
+    static class ClientReport {
+        String name;
+        String state;
+        String error;
+        double joinMillis;
+        double firstChunkMillis;
+        int chunksReceived;
+        ValueRecorder.Percentiles initialChunkDeliveryMillis;
+        int blockChangesReceived;
+        double receivedBytesPerSecond;
+        double receivedMessagesPerSecond;
+        double sentBytesPerSecond;
+        double sentMessagesPerSecond;
+        int moves;
+        int blocksReplaced;
+        int chatMessages;
+    }
+}
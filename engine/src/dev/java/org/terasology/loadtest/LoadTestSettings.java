@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.loadtest;
+
+import com.google.common.collect.ImmutableList;
+import org.terasology.engine.TerasologyConstants;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * The parameters of a load test run, as given on the command line.
+ */
+final class LoadTestSettings {
+    private static final String CLIENTS = "-clients=";
+    private static final String RAMP_UP = "-rampUp=";
+    private static final String DURATION = "-duration=";
+    private static final String PORT = "-port=";
+    private static final String BLOCKS = "-blocks=";
+    private static final String REPORT = "-report=";
+    private static final String HOME_DIR = "-homedir=";
+
+    private int clients = 8;
+    private int rampUpSeconds = 30;
+    private int durationSeconds = 60;
+    private int port = TerasologyConstants.DEFAULT_PORT;
+    private List<String> blocks = ImmutableList.of("Core:Stone", "Core:Dirt");
+    private Path reportPath = Paths.get("loadtest-report.json");
+    private Path homePath;
+
+    private LoadTestSettings() {
+    }
+
+    static LoadTestSettings parse(String[] args) {
+        LoadTestSettings settings = new LoadTestSettings();
+        for (String arg : args) {
+            if (arg.startsWith(CLIENTS)) {
+                settings.clients = parsePositive(arg, CLIENTS);
+            } else if (arg.startsWith(RAMP_UP)) {
+                settings.rampUpSeconds = parsePositive(arg, RAMP_UP);
+            } else if (arg.startsWith(DURATION)) {
+                settings.durationSeconds = parsePositive(arg, DURATION);
+            } else if (arg.startsWith(PORT)) {
+                settings.port = parsePositive(arg, PORT);
+            } else if (arg.startsWith(BLOCKS)) {
+                settings.blocks = ImmutableList.copyOf(arg.substring(BLOCKS.length()).split(","));
+            } else if (arg.startsWith(REPORT)) {
+                settings.reportPath = Paths.get(arg.substring(REPORT.length()));
+            } else if (arg.startsWith(HOME_DIR)) {
+                settings.homePath = Paths.get(arg.substring(HOME_DIR.length()));
+            } else {
+                throw new IllegalArgumentException("Unknown argument '" + arg + "', expected one of " + CLIENTS + ", "
+                        + RAMP_UP + ", " + DURATION + ", " + PORT + ", " + BLOCKS + ", " + REPORT + ", " + HOME_DIR);
+            }
+        }
+        return settings;
+    }
+
+    private static int parsePositive(String arg, String prefix) {
+        int value = Integer.parseInt(arg.substring(prefix.length()));
+        if (value <= 0) {
+            throw new IllegalArgumentException(prefix + " must be positive");
+        }
+        return value;
+    }
+
+    /**
+     * @return The number of simulated clients
+     */
+    int getClients() {
+        return clients;
+    }
+
+    /**
+     * @return The time over which the clients connect, before the measurement starts
+     */
+    int getRampUpSeconds() {
+        return rampUpSeconds;
+    }
+
+    /**
+     * @return The time over which the server and clients are measured, once all clients have connected
+     */
+    int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    int getPort() {
+        return port;
+    }
+
+    /**
+     * @return The uris of the blocks the clients take turns placing
+     */
+    List<String> getBlocks() {
+        return blocks;
+    }
+
+    Path getReportPath() {
+        return reportPath;
+    }
+
+    /**
+     * @return The home directory of the server, or null to use a new temporary directory
+     */
+    Path getHomePath() {
+        return homePath;
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.loadtest;
+
+import com.google.common.collect.Lists;
+import gnu.trove.set.TLongSet;
+import gnu.trove.set.hash.TLongHashSet;
+import org.jboss.netty.channel.socket.nio.NioClientSocketChannelFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.context.Context;
+import org.terasology.engine.GameEngine;
+import org.terasology.engine.modes.GameState;
+import org.terasology.engine.modes.StateIngame;
+import org.terasology.engine.subsystem.EngineSubsystem;
+import org.terasology.logic.permission.PermissionManager;
+import org.terasology.network.Client;
+import org.terasology.network.ClientComponent;
+import org.terasology.network.NetworkSystem;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives a load test from within the engine that hosts the server. Once the game is running, the simulated clients
+ * connect one after another over the ramp up time, then the server and clients are measured for the configured
+ * duration and the engine is shut down.
+ * <p>
+ * Tick times are taken on the main thread between engine updates, and summarised there once the measurement has ended.
+ * The clients run on a thread of their own, so that a server falling behind does not slow them down.
+ */
+class LoadTestSubsystem implements EngineSubsystem {
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestSubsystem.class);
+
+    private static final long STEP_MILLIS = 50;
+
+    private final LoadTestSettings settings;
+    private final ValueRecorder tickTimes = new ValueRecorder();
+    private final GcPauseRecorder gcPauses = new GcPauseRecorder();
+    private final List<LoadTestBot> bots = Lists.newArrayList();
+    private final TLongSet grantedClients = new TLongHashSet();
+
+    private GameEngine engine;
+    private ScheduledExecutorService scheduler;
+    private NioClientSocketChannelFactory channelFactory;
+    private long lastTick;
+    private long measurementStart;
+    private boolean shutdownRequested;
+    private volatile boolean measuring;
+    private volatile int connectedBots;
+    private volatile LoadTestReport pendingReport;
+    private volatile LoadTestReport report;
+
+    LoadTestSubsystem(LoadTestSettings settings) {
+        this.settings = settings;
+    }
+
+    @Override
+    public String getName() {
+        return "LoadTest";
+    }
+
+    @Override
+    public void initialise(GameEngine gameEngine, Context rootContext) {
+        this.engine = gameEngine;
+    }
+
+    @Override
+    public void postUpdate(GameState currentState, float delta) {
+        if (report == null && pendingReport != null) {
+            completeReport(pendingReport);
+        }
+        if (report != null) {
+            if (!shutdownRequested) {
+                shutdownRequested = true;
+                engine.shutdown();
+            }
+            return;
+        }
+        if (!(currentState instanceof StateIngame)) {
+            return;
+        }
+        NetworkSystem networkSystem = currentState.getContext().get(NetworkSystem.class);
+        if (networkSystem == null || !networkSystem.getMode().isServer()) {
+            return;
+        }
+        if (scheduler == null) {
+            start();
+        }
+
+        long now = System.nanoTime();
+        if (measuring && lastTick != 0) {
+            tickTimes.record(now - lastTick);
+        }
+        lastTick = now;
+
+        grantPermissions(currentState.getContext(), networkSystem);
+    }
+
+    /**
+     * Lets the bots use the cheat commands they change blocks with, which the players of a fresh server lack.
+     */
+    private void grantPermissions(Context context, NetworkSystem networkSystem) {
+        PermissionManager permissionManager = context.get(PermissionManager.class);
+        int bots = 0;
+        for (Client client : networkSystem.getPlayers()) {
+            if (client.getName() == null || !client.getName().startsWith(LoadTestBot.NAME_PREFIX)) {
+                continue;
+            }
+            bots++;
+            if (grantedClients.add(client.getEntity().getId())) {
+                ClientComponent clientComponent = client.getEntity().getComponent(ClientComponent.class);
+                permissionManager.addPermission(clientComponent.clientInfo, PermissionManager.CHEAT_PERMISSION);
+            }
+        }
+        connectedBots = bots;
+    }
+
+    private void start() {
+        logger.info("Starting load test with {} clients", settings.getClients());
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Load-Test");
+            thread.setDaemon(true);
+            return thread;
+        });
+        channelFactory = new NioClientSocketChannelFactory(Executors.newCachedThreadPool(), Executors.newCachedThreadPool());
+        InetSocketAddress address = new InetSocketAddress("localhost", settings.getPort());
+
+        long rampUpMillis = TimeUnit.SECONDS.toMillis(settings.getRampUpSeconds());
+        for (int i = 0; i < settings.getClients(); ++i) {
+            LoadTestBot bot = new LoadTestBot(i, settings.getBlocks());
+            bots.add(bot);
+            scheduler.schedule(() -> bot.connect(channelFactory, address), i * rampUpMillis / settings.getClients(), TimeUnit.MILLISECONDS);
+        }
+        scheduler.scheduleAtFixedRate(this::step, STEP_MILLIS, STEP_MILLIS, TimeUnit.MILLISECONDS);
+        scheduler.schedule(this::beginMeasurement, rampUpMillis, TimeUnit.MILLISECONDS);
+        scheduler.schedule(this::endMeasurement, rampUpMillis + TimeUnit.SECONDS.toMillis(settings.getDurationSeconds()),
+                TimeUnit.MILLISECONDS);
+    }
+
+    private void step() {
+        for (LoadTestBot bot : bots) {
+            try {
+                bot.step();
+            } catch (RuntimeException e) {
+                // A failing bot must not end the scheduled steps of all others
+                logger.error("Error stepping {}", bot.getName(), e);
+            }
+        }
+    }
+
+    private void beginMeasurement() {
+        logger.info("All clients connected, measuring for {} seconds", settings.getDurationSeconds());
+        for (LoadTestBot bot : bots) {
+            bot.beginMeasurement();
+        }
+        gcPauses.start();
+        measurementStart = System.nanoTime();
+        measuring = true;
+    }
+
+    private void endMeasurement() {
+        measuring = false;
+        gcPauses.stop();
+        double measuredSeconds = (System.nanoTime() - measurementStart) / (double) TimeUnit.SECONDS.toNanos(1);
+        step();
+
+        LoadTestReport result = new LoadTestReport();
+        result.settings.clients = settings.getClients();
+        result.settings.rampUpSeconds = settings.getRampUpSeconds();
+        result.settings.durationSeconds = settings.getDurationSeconds();
+        result.settings.blocks = settings.getBlocks();
+
+        result.server.measuredSeconds = measuredSeconds;
+        result.server.connectedClients = connectedBots;
+
+        result.gc.pauseMillis = gcPauses.getPauses().summarise();
+        result.gc.totalPauseMillis = gcPauses.getPauses().getTotalNanos() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        for (Map.Entry<String, ValueRecorder> collector : gcPauses.getPausesByCollector().entrySet()) {
+            result.gc.pauseMillisByCollector.put(collector.getKey(), collector.getValue().summarise());
+        }
+
+        for (LoadTestBot bot : bots) {
+            result.clients.add(bot.createReport(measuredSeconds));
+            bot.disconnect();
+        }
+        pendingReport = result;
+    }
+
+    /**
+     * Adds the tick times to the report of the ended measurement, and publishes it. The tick times are recorded on the
+     * main thread, so they are summarised there too, rather than on the thread that ended the measurement.
+     */
+    private void completeReport(LoadTestReport result) {
+        result.server.tickMillis = tickTimes.summarise();
+        result.server.ticks = tickTimes.getCount();
+        result.server.ticksPerSecond = tickTimes.getCount() / result.server.measuredSeconds;
+        logger.info("Load test finished, shutting down");
+        report = result;
+    }
+
+    @Override
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            for (LoadTestBot bot : bots) {
+                bot.disconnect();
+            }
+            channelFactory.releaseExternalResources();
+        }
+        gcPauses.stop();
+    }
+
+    /**
+     * @return The results of the load test, or null if it did not finish
+     */
+    LoadTestReport getReport() {
+        return report;
+    }
+}
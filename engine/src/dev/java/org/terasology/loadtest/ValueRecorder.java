@@ -0,0 +1,90 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.loadtest;
+
+import gnu.trove.list.TLongList;
+import gnu.trove.list.array.TLongArrayList;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects samples of a duration, to summarise them as percentiles. Samples may be recorded from any thread.
+ */
+class ValueRecorder {
+
+    private final TLongList nanos = new TLongArrayList();
+
+    synchronized void record(long durationNanos) {
+        nanos.add(durationNanos);
+    }
+
+    synchronized int getCount() {
+        return nanos.size();
+    }
+
+    synchronized long getTotalNanos() {
+        return nanos.sum();
+    }
+
+    /**
+     * @return The percentiles of the samples recorded so far, in milliseconds
+     */
+    synchronized Percentiles summarise() {
+        long[] sorted = nanos.toArray();
+        Arrays.sort(sorted);
+        return new Percentiles(sorted);
+    }
+
+    /**
+     * A summary of recorded durations in milliseconds, as written to the load test report.
+     */
+    static final class Percentiles {
+        private final int count;
+        private final double mean;
+        private final double p50;
+        private final double p90;
+        private final double p99;
+        private final double p999;
+        private final double max;
+
+        private Percentiles(long[] sortedNanos) {
+            count = sortedNanos.length;
+            long total = 0;
+            for (long value : sortedNanos) {
+                total += value;
+            }
+            mean = count > 0 ? toMillis(total) / count : 0;
+            p50 = percentile(sortedNanos, 0.5);
+            p90 = percentile(sortedNanos, 0.9);
+            p99 = percentile(sortedNanos, 0.99);
+            p999 = percentile(sortedNanos, 0.999);
+            max = count > 0 ? toMillis(sortedNanos[count - 1]) : 0;
+        }
+
+        private static double percentile(long[] sortedNanos, double fraction) {
+            if (sortedNanos.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(fraction * sortedNanos.length) - 1;
+            return toMillis(sortedNanos[Math.max(0, index)]);
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
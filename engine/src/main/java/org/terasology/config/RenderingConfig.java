@@ -76,6 +76,7 @@ public class RenderingConfig extends AbstractSubscribable {
     public static final String SCREENSHOT_FORMAT = "ScreenshotFormat";
     public static final String DUMP_SHADERS = "DumpShaders";
     public static final String VOLUMETRIC_FOG = "VolumetricFog";
+    public static final String GREEDY_MESHING = "GreedyMeshing";
 
     private PixelFormat pixelFormat;
     private int windowPosX;
@@ -121,6 +122,7 @@ public class RenderingConfig extends AbstractSubscribable {
     private int fboScale;
     private boolean dumpShaders;
     private boolean volumetricFog;
+    private boolean greedyMeshing;
     private ScreenshotSize screenshotSize;
     private String screenshotFormat;
     private PerspectiveCameraSettings cameraSettings;
@@ -657,4 +659,14 @@ public void setVolumetricFog(boolean volumetricFog) {
         propertyChangeSupport.firePropertyChange(VOLUMETRIC_FOG, oldValue, this.volumetricFog);
     }
 
+    public boolean isGreedyMeshing() {
+        return greedyMeshing;
+    }
+
+    public void setGreedyMeshing(boolean greedyMeshing) {
+        boolean oldValue = this.greedyMeshing;
+        this.greedyMeshing = greedyMeshing;
+        propertyChangeSupport.firePropertyChange(GREEDY_MESHING, oldValue, this.greedyMeshing);
+    }
+
 }
@@ -23,13 +23,19 @@
  */
 public class SystemConfig {
     public static final String SAVED_GAMES_ENABLED_PROPERTY = "org.terasology.savedGamesEnabled";
+    public static final String PERFORMANCE_TRACING_ENABLED_PROPERTY = "org.terasology.performanceTracingEnabled";
 
     private long dayNightLengthInMs;
     private int maxThreads;
     private int maxSecondsBetweenSaves;
     private int maxUnloadedChunksPercentageTillSave;
+    private int chunkMergeThreads;
+    private int maxChunkMergesPerTick;
+    private int maxChunkUnloadMillisPerTick;
+    private boolean archetypeEntityStorage;
     private boolean debugEnabled;
     private boolean monitoringEnabled;
+    private boolean performanceTracingEnabled;
     private boolean writeSaveGamesEnabled;
     private String locale;
 
@@ -65,6 +71,51 @@ public void setMaxUnloadedChunksPercentageTillSave(int maxUnloadedChunksPercenta
         this.maxUnloadedChunksPercentageTillSave = maxUnloadedChunksPercentageTillSave;
     }
 
+    /**
+     * @return The number of threads used to merge the lighting of newly available chunks, or 0 to pick one based on
+     * the number of available processors.
+     */
+    public int getChunkMergeThreads() {
+        return chunkMergeThreads;
+    }
+
+    public void setChunkMergeThreads(int chunkMergeThreads) {
+        this.chunkMergeThreads = chunkMergeThreads;
+    }
+
+    /**
+     * @return The maximum number of chunk light merges started per tick.
+     */
+    public int getMaxChunkMergesPerTick() {
+        return maxChunkMergesPerTick;
+    }
+
+    public void setMaxChunkMergesPerTick(int maxChunkMergesPerTick) {
+        this.maxChunkMergesPerTick = maxChunkMergesPerTick;
+    }
+
+    /**
+     * @return The time in milliseconds each tick may spend unloading chunks that are no longer relevant.
+     */
+    public int getMaxChunkUnloadMillisPerTick() {
+        return maxChunkUnloadMillisPerTick;
+    }
+
+    public void setMaxChunkUnloadMillisPerTick(int maxChunkUnloadMillisPerTick) {
+        this.maxChunkUnloadMillisPerTick = maxChunkUnloadMillisPerTick;
+    }
+
+    /**
+     * @return Whether the entity manager groups entities with the same set of components into dense arrays.
+     */
+    public boolean isArchetypeEntityStorage() {
+        return archetypeEntityStorage;
+    }
+
+    public void setArchetypeEntityStorage(boolean archetypeEntityStorage) {
+        this.archetypeEntityStorage = archetypeEntityStorage;
+    }
+
     public boolean isDebugEnabled() {
         return debugEnabled;
     }
@@ -81,6 +132,18 @@ public void setMonitoringEnabled(boolean monitoringEnabled) {
         this.monitoringEnabled = monitoringEnabled;
     }
 
+    public boolean isPerformanceTracingEnabled() {
+        String property = System.getProperty(PERFORMANCE_TRACING_ENABLED_PROPERTY);
+        if (property != null) {
+            return Boolean.parseBoolean(property);
+        }
+        return performanceTracingEnabled;
+    }
+
+    public void setPerformanceTracingEnabled(boolean performanceTracingEnabled) {
+        this.performanceTracingEnabled = performanceTracingEnabled;
+    }
+
     public boolean isWriteSaveGamesEnabled() {
         String property = System.getProperty(SAVED_GAMES_ENABLED_PROPERTY);
         if (property != null) {
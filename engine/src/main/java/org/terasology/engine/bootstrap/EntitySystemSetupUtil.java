@@ -16,6 +16,7 @@
 
 package org.terasology.engine.bootstrap;
 
+import org.terasology.config.Config;
 import org.terasology.context.Context;
 import org.terasology.engine.SimpleUri;
 import org.terasology.engine.module.ModuleManager;
@@ -93,7 +94,8 @@ public static void addEntityManagementRelatedClasses(Context context) {
         NetworkSystem networkSystem = context.get(NetworkSystem.class);
 
         // Entity Manager
-        PojoEntityManager entityManager = new PojoEntityManager();
+        Config config = context.get(Config.class);
+        PojoEntityManager entityManager = new PojoEntityManager(config != null && config.getSystem().isArchetypeEntityStorage());
         context.put(EntityManager.class, entityManager);
         context.put(EngineEntityManager.class, entityManager);
 
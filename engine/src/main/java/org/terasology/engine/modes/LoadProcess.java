@@ -16,6 +16,8 @@
 
 package org.terasology.engine.modes;
 
+import java.util.Set;
+
 /**
  */
 public interface LoadProcess {
@@ -46,4 +48,25 @@ public interface LoadProcess {
      * @return A relative cost for this process. A small process would have a cost of 1, a large process a bigger cost.
      */
     int getExpectedCost();
+
+    /**
+     * A thread safe process is run to completion on a worker thread, concurrently with the other processes. It must
+     * not register anything in the context, since that is not thread safe.
+     *
+     * @return Whether the process can be run off the main thread
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
+
+    /**
+     * Dependencies are transitive, so depending on a process also waits for everything that process depends on.
+     * Dependencies that are not part of the loading sequence are ignored.
+     *
+     * @return The types of the processes that have to be complete before this process begins, or null if it depends
+     * on every process that is loaded before it
+     */
+    default Set<Class<? extends LoadProcess>> getDependencies() {
+        return null;
+    }
 }
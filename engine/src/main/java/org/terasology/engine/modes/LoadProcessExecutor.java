@@ -0,0 +1,313 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.engine.modes;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Queues;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.monitoring.Activity;
+import org.terasology.monitoring.PerformanceMonitor;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs a sequence of load processes, honouring the dependencies they declare.
+ * <br><br>
+ * A process begins once all of its dependencies are complete, and processes that are ready at the same time begin
+ * in the order they were added. Thread safe processes run to completion on a pool of worker threads. All other
+ * processes are stepped on the main thread by {@link #step()}, one at a time. Processes that don't declare their
+ * dependencies wait for every process added before them, so the sequence only runs concurrently where processes
+ * opt in.
+ * <br><br>
+ * The time spent in each process is reported to the log once all processes are complete.
+ */
+public class LoadProcessExecutor {
+    public static final int DEFAULT_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadProcessExecutor.class);
+
+    private final int threads;
+    private ExecutorService executorService;
+    private volatile boolean cancelled;
+
+    private final List<Entry> entries = Lists.newArrayList();
+    private final Queue<Entry> completedInBackground = Queues.newConcurrentLinkedQueue();
+    private Entry current;
+    private int remaining;
+    private int completedCost;
+    private int totalCost;
+    private long startTime = -1;
+    private long endTime;
+
+    public LoadProcessExecutor() {
+        this(DEFAULT_THREADS);
+    }
+
+    public LoadProcessExecutor(int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Must have at least one thread.");
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * Adds a process to the end of the sequence. Processes can only be added before the first step.
+     */
+    public void add(LoadProcess process) {
+        if (startTime != -1) {
+            throw new IllegalStateException("Cannot add load processes once loading has started");
+        }
+        Entry entry = new Entry(process);
+        Set<Class<? extends LoadProcess>> dependencyTypes = process.getDependencies();
+        for (Entry earlier : entries) {
+            if (dependencyTypes == null || dependencyTypes.contains(earlier.process.getClass())) {
+                entry.dependencies.add(earlier);
+            }
+        }
+        entries.add(entry);
+        remaining++;
+        totalCost += process.getExpectedCost();
+    }
+
+    /**
+     * Begins all processes that have become ready and runs a single step of the current main thread process.
+     *
+     * @return Whether a step was run on the main thread. If not, all processes are either complete or waiting for
+     * processes running in the background.
+     */
+    public boolean step() {
+        if (startTime == -1) {
+            startTime = System.nanoTime();
+        }
+        collectBackgroundProcesses();
+        beginReadyProcesses();
+        if (current == null) {
+            return false;
+        }
+        boolean done;
+        long stepStart = System.nanoTime();
+        try (Activity ignored = PerformanceMonitor.startActivity(current.process.getMessage())) {
+            done = current.process.step();
+        }
+        current.activeTime += System.nanoTime() - stepStart;
+        if (done) {
+            current.endTime = System.nanoTime();
+            complete(current);
+            current = null;
+            beginReadyProcesses();
+        }
+        return true;
+    }
+
+    public boolean isFinished() {
+        return remaining == 0;
+    }
+
+    /**
+     * @return The message of the process currently running on the main thread, or of a running background process
+     */
+    public String getMessage() {
+        if (current != null) {
+            return current.process.getMessage();
+        }
+        for (Entry entry : entries) {
+            if (entry.state == State.RUNNING) {
+                return entry.process.getMessage();
+            }
+        }
+        for (Entry entry : entries) {
+            if (entry.state == State.WAITING) {
+                return entry.process.getMessage();
+            }
+        }
+        return "";
+    }
+
+    /**
+     * @return The overall progress of loading, between 0f and 1f inclusive, weighted by the expected cost of each process
+     */
+    public float getProgress() {
+        if (totalCost == 0) {
+            return isFinished() ? 1 : 0;
+        }
+        float progress = completedCost;
+        for (Entry entry : entries) {
+            if (entry.state == State.RUNNING) {
+                progress += entry.process.getExpectedCost() * entry.process.getProgress();
+            }
+        }
+        return progress / totalCost;
+    }
+
+    /**
+     * Stops the worker threads. Background processes that are still running are abandoned after their current step.
+     */
+    public void shutdown() {
+        cancelled = true;
+        if (executorService != null) {
+            executorService.shutdown();
+            try {
+                executorService.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                logger.error("Failed to shutdown load process threads in a timely manner");
+            }
+            executorService = null;
+        }
+    }
+
+    /**
+     * @return A table of the time spent in each process, in the order the processes were added
+     */
+    public String getTimingReport() {
+        StringBuilder report = new StringBuilder();
+        long reportEnd = isFinished() ? endTime : System.nanoTime();
+        report.append(String.format("Loading took %d ms:", toMs(reportEnd - startTime)));
+        for (Entry entry : entries) {
+            report.append(System.lineSeparator());
+            if (entry.state == State.COMPLETE) {
+                report.append(String.format("  %-40s %6d ms busy, %6d ms to %6d ms on %s", entry.process.getMessage(), toMs(entry.activeTime),
+                        toMs(entry.beginTime - startTime), toMs(entry.endTime - startTime), entry.threadName));
+            } else {
+                report.append(String.format("  %-40s %s", entry.process.getMessage(), entry.state.toString().toLowerCase(Locale.ENGLISH)));
+            }
+        }
+        return report.toString();
+    }
+
+    private void beginReadyProcesses() {
+        for (Entry entry : entries) {
+            if (entry.state == State.WAITING && entry.isReady()) {
+                if (entry.process.isThreadSafe()) {
+                    beginInBackground(entry);
+                } else if (current == null) {
+                    current = entry;
+                    beginOnMainThread(entry);
+                }
+            }
+        }
+    }
+
+    private void beginOnMainThread(Entry entry) {
+        logger.debug(entry.process.getMessage());
+        entry.state = State.RUNNING;
+        entry.threadName = Thread.currentThread().getName();
+        entry.beginTime = System.nanoTime();
+        try (Activity ignored = PerformanceMonitor.startActivity(entry.process.getMessage())) {
+            entry.process.begin();
+        }
+        entry.activeTime += System.nanoTime() - entry.beginTime;
+    }
+
+    private void beginInBackground(Entry entry) {
+        logger.debug("{} (in background)", entry.process.getMessage());
+        entry.state = State.RUNNING;
+        if (executorService == null) {
+            executorService = createExecutorService();
+        }
+        executorService.execute(() -> {
+            entry.threadName = Thread.currentThread().getName();
+            entry.beginTime = System.nanoTime();
+            try (Activity ignored = PerformanceMonitor.startActivity(entry.process.getMessage())) {
+                entry.process.begin();
+                boolean done = false;
+                while (!done && !cancelled) {
+                    done = entry.process.step();
+                }
+            } catch (Throwable e) {
+                // Reported as a failed load on the main thread, rather than lost with the worker
+                entry.error = e;
+            }
+            entry.endTime = System.nanoTime();
+            entry.activeTime = entry.endTime - entry.beginTime;
+            completedInBackground.add(entry);
+        });
+    }
+
+    private void collectBackgroundProcesses() {
+        Entry entry = completedInBackground.poll();
+        while (entry != null) {
+            if (entry.error != null) {
+                throw new RuntimeException("Error running load process: " + entry.process.getMessage(), entry.error);
+            }
+            complete(entry);
+            entry = completedInBackground.poll();
+        }
+    }
+
+    private void complete(Entry entry) {
+        entry.state = State.COMPLETE;
+        completedCost += entry.process.getExpectedCost();
+        remaining--;
+        if (remaining == 0) {
+            endTime = System.nanoTime();
+            shutdown();
+            logger.info(getTimingReport());
+        }
+    }
+
+    private ExecutorService createExecutorService() {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "Load-Process-" + threadCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return Executors.newFixedThreadPool(threads, threadFactory);
+    }
+
+    private static long toMs(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    private enum State {
+        WAITING,
+        RUNNING,
+        COMPLETE
+    }
+
+    private static final class Entry {
+        private final LoadProcess process;
+        private final List<Entry> dependencies = Lists.newArrayList();
+        private State state = State.WAITING;
+        private volatile Throwable error;
+        private volatile String threadName;
+        private volatile long beginTime;
+        private volatile long activeTime;
+        private volatile long endTime;
+
+        private Entry(LoadProcess process) {
+            this.process = process;
+        }
+
+        private boolean isReady() {
+            for (Entry dependency : dependencies) {
+                if (dependency.state != State.COMPLETE) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
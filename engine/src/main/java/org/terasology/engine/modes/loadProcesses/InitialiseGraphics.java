@@ -15,10 +15,11 @@
  */
 package org.terasology.engine.modes.loadProcesses;
 
-
+import com.google.common.collect.ImmutableSet;
 import org.terasology.assets.ResourceUrn;
 import org.terasology.context.Context;
 import org.terasology.engine.TerasologyConstants;
+import org.terasology.engine.modes.LoadProcess;
 import org.terasology.math.geom.Vector4f;
 import org.terasology.naming.Name;
 import org.terasology.rendering.nui.NUIManager;
@@ -26,6 +27,8 @@
 import org.terasology.rendering.primitives.Tessellator;
 import org.terasology.rendering.primitives.TessellatorHelper;
 
+import java.util.Set;
+
 /**
  */
 public class InitialiseGraphics extends SingleStepLoadProcess {
@@ -60,4 +63,9 @@ public boolean step() {
     public int getExpectedCost() {
         return 1;
     }
+
+    @Override
+    public Set<Class<? extends LoadProcess>> getDependencies() {
+        return ImmutableSet.of(RegisterBiomes.class);
+    }
 }
@@ -19,6 +19,7 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.terasology.config.Config;
+import org.terasology.config.SystemConfig;
 import org.terasology.context.Context;
 import org.terasology.engine.ComponentSystemManager;
 import org.terasology.engine.GameEngine;
@@ -57,6 +58,7 @@
 import org.terasology.world.internal.WorldInfo;
 import org.terasology.world.internal.WorldProviderCoreImpl;
 import org.terasology.world.internal.WorldProviderWrapper;
+import org.terasology.world.propagation.light.LightMerger;
 import org.terasology.world.sun.BasicCelestialModel;
 import org.terasology.world.sun.CelestialSystem;
 import org.terasology.world.sun.DefaultCelestialSystem;
@@ -114,7 +116,8 @@ public boolean step() {
 
         // Init. a new world
         EngineEntityManager entityManager = (EngineEntityManager) context.get(EntityManager.class);
-        boolean writeSaveGamesEnabled = context.get(Config.class).getSystem().isWriteSaveGamesEnabled();
+        SystemConfig systemConfig = context.get(Config.class).getSystem();
+        boolean writeSaveGamesEnabled = systemConfig.isWriteSaveGamesEnabled();
         Path savePath = PathManager.getInstance().getSavePath(gameManifest.getTitle());
         StorageManager storageManager;
         try {
@@ -127,8 +130,10 @@ public boolean step() {
             return true; // We need to return true, otherwise the loading state will just call us again immediately
         }
         context.put(StorageManager.class, storageManager);
+        int lightMergeThreads = systemConfig.getChunkMergeThreads() > 0 ? systemConfig.getChunkMergeThreads() : LightMerger.DEFAULT_THREADS;
         LocalChunkProvider chunkProvider = new LocalChunkProvider(storageManager, entityManager, worldGenerator,
-                blockManager, biomeManager);
+                blockManager, biomeManager, lightMergeThreads, Math.max(1, systemConfig.getMaxChunkMergesPerTick()));
+        chunkProvider.setMaxUnloadTimePerTick(systemConfig.getMaxChunkUnloadMillisPerTick());
         context.get(ComponentSystemManager.class).register(new RelevanceSystem(chunkProvider), "engine:relevanceSystem");
         Block unloadedBlock = blockManager.getBlock(BlockManager.UNLOADED_ID);
         WorldProviderCoreImpl worldProviderCore = new WorldProviderCoreImpl(worldInfo, chunkProvider, unloadedBlock, context);
@@ -15,16 +15,24 @@
  */
 package org.terasology.engine.subsystem.common;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.terasology.config.Config;
 import org.terasology.context.Context;
 import org.terasology.engine.GameEngine;
+import org.terasology.engine.paths.PathManager;
 import org.terasology.engine.subsystem.EngineSubsystem;
+import org.terasology.monitoring.PerformanceMonitor;
 import org.terasology.monitoring.gui.AdvancedMonitor;
 
+import java.io.IOException;
+import java.nio.file.Path;
+
 /**
  *
  */
 public class MonitoringSubsystem implements EngineSubsystem {
+    private static final Logger logger = LoggerFactory.getLogger(MonitoringSubsystem.class);
 
     private AdvancedMonitor advancedMonitor;
 
@@ -39,6 +47,10 @@ public void initialise(GameEngine engine, Context rootContext) {
             advancedMonitor = new AdvancedMonitor();
             advancedMonitor.setVisible(true);
         }
+        if (rootContext.get(Config.class).getSystem().isPerformanceTracingEnabled()) {
+            logger.info("Tracing the activities of all threads");
+            PerformanceMonitor.setTracingEnabled(true);
+        }
     }
 
     @Override
@@ -46,5 +58,14 @@ public void shutdown() {
         if (advancedMonitor != null) {
             advancedMonitor.setVisible(false);
         }
+        if (PerformanceMonitor.isTracingEnabled()) {
+            try {
+                Path traceFile = PerformanceMonitor.exportTrace(PathManager.getInstance().getLogPath());
+                logger.info("Performance trace written to {}", traceFile);
+            } catch (IOException e) {
+                logger.error("Failed to write performance trace", e);
+            }
+            PerformanceMonitor.setTracingEnabled(false);
+        }
     }
 }
@@ -0,0 +1,417 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.entitySystem.entity.internal;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import gnu.trove.iterator.TLongIterator;
+import gnu.trove.iterator.TLongObjectIterator;
+import gnu.trove.list.TLongList;
+import gnu.trove.list.array.TLongArrayList;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.TLongIntMap;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.TObjectIntMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gnu.trove.map.hash.TLongIntHashMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import gnu.trove.map.hash.TObjectIntHashMap;
+import org.terasology.entitySystem.Component;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * A component store that groups entities by the set of component classes they have, their archetype.
+ * <br><br>
+ * Each archetype keeps the ids and components of its entities in dense, parallel arrays. Queries for entities with
+ * a set of components only visit the archetypes containing all of them, and entity counts are kept rather than
+ * computed. In return, adding or removing a component moves the entity's components to another archetype.
+ *
+ */
+class ArchetypeComponentStore implements ComponentStore {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final TObjectIntMap<Class<?>> typeIds = new TObjectIntHashMap<>(32, 0.5f, -1);
+    private final List<List<Archetype>> archetypesByType = Lists.newArrayList();
+    private final Map<BitSet, Archetype> archetypes = Maps.newHashMap();
+
+    private final TLongObjectMap<Archetype> entityArchetypes = new TLongObjectHashMap<>();
+    private final TLongIntMap entityRows = new TLongIntHashMap();
+
+    @Override
+    public <T extends Component> T get(long entityId, Class<T> componentClass) {
+        Archetype archetype = entityArchetypes.get(entityId);
+        if (archetype != null) {
+            int column = archetype.getColumn(typeIds.get(componentClass));
+            if (column >= 0) {
+                return componentClass.cast(archetype.components[column][entityRows.get(entityId)]);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Component put(long entityId, Component component) {
+        int typeId = getOrRegisterTypeId(component.getClass());
+        Archetype archetype = entityArchetypes.get(entityId);
+        if (archetype != null) {
+            int column = archetype.getColumn(typeId);
+            if (column >= 0) {
+                int row = entityRows.get(entityId);
+                Component oldComponent = archetype.components[column][row];
+                archetype.components[column][row] = component;
+                return oldComponent;
+            }
+        }
+
+        Archetype target;
+        if (archetype == null) {
+            BitSet signature = new BitSet();
+            signature.set(typeId);
+            target = getArchetype(signature);
+        } else {
+            target = archetype.getArchetypeWith(typeId);
+        }
+        int row = move(entityId, archetype, target);
+        target.components[target.getColumn(typeId)][row] = component;
+        return null;
+    }
+
+    @Override
+    public <T extends Component> Component remove(long entityId, Class<T> componentClass) {
+        Archetype archetype = entityArchetypes.get(entityId);
+        if (archetype == null) {
+            return null;
+        }
+        int typeId = typeIds.get(componentClass);
+        int column = archetype.getColumn(typeId);
+        if (column < 0) {
+            return null;
+        }
+        Component component = archetype.components[column][entityRows.get(entityId)];
+        if (archetype.types.length == 1) {
+            remove(entityId);
+        } else {
+            move(entityId, archetype, archetype.getArchetypeWithout(typeId));
+        }
+        return component;
+    }
+
+    @Override
+    public void remove(long entityId) {
+        Archetype archetype = entityArchetypes.remove(entityId);
+        if (archetype != null) {
+            removeRow(archetype, entityRows.remove(entityId));
+        }
+    }
+
+    @Override
+    public void clear() {
+        archetypes.clear();
+        archetypesByType.forEach(List::clear);
+        entityArchetypes.clear();
+        entityRows.clear();
+    }
+
+    @Override
+    public int getComponentCount(Class<? extends Component> componentClass) {
+        int count = 0;
+        for (Archetype archetype : getArchetypesWith(typeIds.get(componentClass))) {
+            count += archetype.size;
+        }
+        return count;
+    }
+
+    @Override
+    public Iterable<Component> iterateComponents(long entityId) {
+        return getComponentsInNewList(entityId);
+    }
+
+    @Override
+    public List<Component> getComponentsInNewList(long entityId) {
+        Archetype archetype = entityArchetypes.get(entityId);
+        if (archetype == null) {
+            return Lists.newArrayList();
+        }
+        int row = entityRows.get(entityId);
+        List<Component> components = Lists.newArrayListWithCapacity(archetype.components.length);
+        for (Component[] column : archetype.components) {
+            components.add(column[row]);
+        }
+        return components;
+    }
+
+    @Override
+    public <T extends Component> TLongObjectIterator<T> componentIterator(Class<T> componentClass) {
+        int typeId = typeIds.get(componentClass);
+        List<Archetype> candidates = getArchetypesWith(typeId);
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        return new ComponentIterator<>(componentClass, typeId, candidates);
+    }
+
+    /**
+     * Only visits the archetypes containing all of the given components, and copies their ids in bulk.
+     */
+    @Override
+    public TLongList getEntityIdsWith(Class<? extends Component>[] componentClasses) {
+        TLongList idList = new TLongArrayList();
+        int[] requiredTypes = new int[componentClasses.length];
+        List<Archetype> candidates = null;
+        for (int i = 0; i < componentClasses.length; i++) {
+            requiredTypes[i] = typeIds.get(componentClasses[i]);
+            List<Archetype> archetypesWithType = getArchetypesWith(requiredTypes[i]);
+            if (candidates == null || archetypesWithType.size() < candidates.size()) {
+                candidates = archetypesWithType;
+            }
+        }
+        if (candidates == null) {
+            return idList;
+        }
+        for (Archetype archetype : candidates) {
+            if (archetype.size > 0 && archetype.hasAll(requiredTypes)) {
+                idList.add(archetype.ids, 0, archetype.size);
+            }
+        }
+        return idList;
+    }
+
+    @Override
+    public TLongIterator entityIdIterator() {
+        return TLongArrayList.wrap(entityArchetypes.keys()).iterator();
+    }
+
+    @Override
+    public int numEntities() {
+        return entityArchetypes.size();
+    }
+
+    private int getOrRegisterTypeId(Class<?> componentClass) {
+        int typeId = typeIds.get(componentClass);
+        if (typeId < 0) {
+            typeId = archetypesByType.size();
+            typeIds.put(componentClass, typeId);
+            archetypesByType.add(Lists.newArrayList());
+        }
+        return typeId;
+    }
+
+    private List<Archetype> getArchetypesWith(int typeId) {
+        if (typeId < 0) {
+            return Collections.emptyList();
+        }
+        return archetypesByType.get(typeId);
+    }
+
+    private Archetype getArchetype(BitSet signature) {
+        Archetype archetype = archetypes.get(signature);
+        if (archetype == null) {
+            archetype = new Archetype(signature);
+            archetypes.put(signature, archetype);
+            for (int typeId : archetype.types) {
+                archetypesByType.get(typeId).add(archetype);
+            }
+        }
+        return archetype;
+    }
+
+    /**
+     * Moves an entity and all components they have in common from one archetype into another.
+     *
+     * @param from the current archetype of the entity, or null if it has none
+     * @return the row of the entity in the target archetype
+     */
+    private int move(long entityId, Archetype from, Archetype to) {
+        int newRow = to.addRow(entityId);
+        if (from != null) {
+            int oldRow = entityRows.get(entityId);
+            for (int i = 0; i < from.types.length; i++) {
+                int column = to.getColumn(from.types[i]);
+                if (column >= 0) {
+                    to.components[column][newRow] = from.components[i][oldRow];
+                }
+            }
+            removeRow(from, oldRow);
+        }
+        entityArchetypes.put(entityId, to);
+        entityRows.put(entityId, newRow);
+        return newRow;
+    }
+
+    /**
+     * Removes a row from an archetype by moving its last row into it.
+     */
+    private void removeRow(Archetype archetype, int row) {
+        int last = archetype.size - 1;
+        if (row != last) {
+            long movedId = archetype.ids[last];
+            archetype.ids[row] = movedId;
+            for (Component[] column : archetype.components) {
+                column[row] = column[last];
+            }
+            entityRows.put(movedId, row);
+        }
+        for (Component[] column : archetype.components) {
+            column[last] = null;
+        }
+        archetype.size = last;
+    }
+
+    private final class Archetype {
+        private final BitSet signature;
+        /**
+         * The type ids of the component classes, in column order
+         */
+        private final int[] types;
+        private final int[] columnsByType;
+        private final TIntObjectMap<Archetype> withType = new TIntObjectHashMap<>();
+        private final TIntObjectMap<Archetype> withoutType = new TIntObjectHashMap<>();
+
+        private long[] ids = new long[INITIAL_CAPACITY];
+        private Component[][] components;
+        private int size;
+
+        private Archetype(BitSet signature) {
+            this.signature = signature;
+            this.types = signature.stream().toArray();
+            this.columnsByType = new int[signature.length()];
+            Arrays.fill(columnsByType, -1);
+            this.components = new Component[types.length][INITIAL_CAPACITY];
+            for (int i = 0; i < types.length; i++) {
+                columnsByType[types[i]] = i;
+            }
+        }
+
+        private int getColumn(int typeId) {
+            return (typeId >= 0 && typeId < columnsByType.length) ? columnsByType[typeId] : -1;
+        }
+
+        private boolean hasAll(int[] typeIds) {
+            for (int typeId : typeIds) {
+                if (getColumn(typeId) < 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private Archetype getArchetypeWith(int typeId) {
+            Archetype archetype = withType.get(typeId);
+            if (archetype == null) {
+                BitSet newSignature = (BitSet) signature.clone();
+                newSignature.set(typeId);
+                archetype = getArchetype(newSignature);
+                withType.put(typeId, archetype);
+            }
+            return archetype;
+        }
+
+        private Archetype getArchetypeWithout(int typeId) {
+            Archetype archetype = withoutType.get(typeId);
+            if (archetype == null) {
+                BitSet newSignature = (BitSet) signature.clone();
+                newSignature.clear(typeId);
+                archetype = getArchetype(newSignature);
+                withoutType.put(typeId, archetype);
+            }
+            return archetype;
+        }
+
+        private int addRow(long entityId) {
+            if (size == ids.length) {
+                int capacity = ids.length * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                for (int i = 0; i < components.length; i++) {
+                    components[i] = Arrays.copyOf(components[i], capacity);
+                }
+            }
+            ids[size] = entityId;
+            return size++;
+        }
+    }
+
+    private static final class ComponentIterator<T extends Component> implements TLongObjectIterator<T> {
+        private final Class<T> componentClass;
+        private final int typeId;
+        private final List<Archetype> archetypes;
+        private int archetypeIndex;
+        private int row = -1;
+        private Archetype current;
+
+        private ComponentIterator(Class<T> componentClass, int typeId, List<Archetype> archetypes) {
+            this.componentClass = componentClass;
+            this.typeId = typeId;
+            this.archetypes = archetypes;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (current != null && row + 1 < current.size) {
+                return true;
+            }
+            for (int i = (current == null) ? archetypeIndex : archetypeIndex + 1; i < archetypes.size(); i++) {
+                if (archetypes.get(i).size > 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void advance() {
+            if (current != null && row + 1 < current.size) {
+                row++;
+                return;
+            }
+            int next = (current == null) ? archetypeIndex : archetypeIndex + 1;
+            while (next < archetypes.size() && archetypes.get(next).size == 0) {
+                next++;
+            }
+            if (next >= archetypes.size()) {
+                throw new NoSuchElementException();
+            }
+            archetypeIndex = next;
+            current = archetypes.get(next);
+            row = 0;
+        }
+
+        @Override
+        public long key() {
+            return current.ids[row];
+        }
+
+        @Override
+        public T value() {
+            return componentClass.cast(current.components[current.getColumn(typeId)][row]);
+        }
+
+        @Override
+        public T setValue(T val) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
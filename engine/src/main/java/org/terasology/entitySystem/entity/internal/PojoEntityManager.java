@@ -24,7 +24,6 @@
 import gnu.trove.iterator.TLongIterator;
 import gnu.trove.iterator.TLongObjectIterator;
 import gnu.trove.list.TLongList;
-import gnu.trove.list.array.TLongArrayList;
 import gnu.trove.set.TLongSet;
 import gnu.trove.set.hash.TLongHashSet;
 
@@ -69,7 +68,7 @@ public class PojoEntityManager implements EngineEntityManager {
     private long nextEntityId = 1;
     private TLongSet loadedIds = new TLongHashSet();
     private Map<Long, BaseEntityRef> entityCache = new MapMaker().weakValues().concurrencyLevel(4).initialCapacity(1000).makeMap();
-    private ComponentTable store = new ComponentTable();
+    private final ComponentStore store;
 
     private Set<EntityChangeSubscriber> subscribers = Sets.newLinkedHashSet();
     private Set<EntityDestroySubscriber> destroySubscribers = Sets.newLinkedHashSet();
@@ -82,6 +81,16 @@ public class PojoEntityManager implements EngineEntityManager {
     private TypeSerializationLibrary typeSerializerLibrary;
 
     public PojoEntityManager() {
+        this(false);
+    }
+
+    /**
+     * @param archetypeStorage Whether to group entities with the same set of components into dense arrays, which
+     *                         speeds up queries for entities with several components at the cost of moving the
+     *                         components of an entity whenever one is added or removed.
+     */
+    public PojoEntityManager(boolean archetypeStorage) {
+        this.store = archetypeStorage ? new ArchetypeComponentStore() : new ComponentTable();
     }
 
     public void setTypeSerializerLibrary(TypeSerializationLibrary serializerLibrary) {
@@ -306,44 +315,10 @@ public final Iterable<EntityRef> getEntitiesWith(Class<? extends Component>... c
         if (componentClasses.length == 0) {
             return getAllEntities();
         }
-        if (componentClasses.length == 1) {
-            return iterateEntities(componentClasses[0]);
-        }
-        TLongList idList = new TLongArrayList();
-        TLongObjectIterator<? extends Component> primeIterator = store.componentIterator(componentClasses[0]);
-        if (primeIterator == null) {
-            return Collections.emptyList();
-        }
-
-        while (primeIterator.hasNext()) {
-            primeIterator.advance();
-            long id = primeIterator.key();
-            boolean discard = false;
-            for (int i = 1; i < componentClasses.length; ++i) {
-                if (store.get(id, componentClasses[i]) == null) {
-                    discard = true;
-                    break;
-                }
-            }
-            if (!discard) {
-                idList.add(primeIterator.key());
-            }
-        }
-        return new EntityIterable(idList);
-    }
-
-    private Iterable<EntityRef> iterateEntities(Class<? extends Component> componentClass) {
-        TLongList idList = new TLongArrayList();
-        TLongObjectIterator<? extends Component> primeIterator = store.componentIterator(componentClass);
-        if (primeIterator == null) {
+        TLongList idList = store.getEntityIdsWith(componentClasses);
+        if (idList.isEmpty()) {
             return Collections.emptyList();
         }
-
-        while (primeIterator.hasNext()) {
-            primeIterator.advance();
-            long id = primeIterator.key();
-            idList.add(primeIterator.key());
-        }
         return new EntityIterable(idList);
     }
 
@@ -736,7 +711,7 @@ public final int getCountOfEntitiesWith(Class<? extends Component>... componentC
             case 1:
                 return store.getComponentCount(componentClasses[0]);
             default:
-                return Lists.newArrayList(getEntitiesWith(componentClasses)).size();
+                return store.getEntityIdsWith(componentClasses).size();
         }
     }
 
@@ -15,7 +15,6 @@
  */
 package org.terasology.entitySystem.event.internal;
 
-import com.esotericsoftware.reflectasm.MethodAccess;
 import com.google.common.base.Objects;
 import com.google.common.base.Predicates;
 import com.google.common.collect.BiMap;
@@ -52,11 +51,13 @@
 import org.terasology.network.ServerEvent;
 import org.terasology.world.block.BlockComponent;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
@@ -76,6 +77,10 @@ public class EventSystemImpl implements EventSystem {
     private SetMultimap<Class<? extends Event>, EventHandlerInfo> generalHandlers = HashMultimap.create();
     private Comparator<EventHandlerInfo> priorityComparator = new EventHandlerPriorityComparator();
 
+    // Handlers for each event type in the order they are called, rebuilt when handlers are added or removed
+    private Map<Class<? extends Event>, EventHandlerInfo[]> dispatchPlans = Maps.newHashMap();
+    private Map<Class<? extends Event>, Map<Class<? extends Component>, EventHandlerInfo[]>> componentDispatchPlans = Maps.newHashMap();
+
     // Event metadata
     private BiMap<SimpleUri, Class<? extends Event>> eventIdMap = HashBiMap.create();
     private SetMultimap<Class<? extends Event>, Class<? extends Event>> childEvents = HashMultimap.create();
@@ -165,8 +170,14 @@ public void registerEventHandler(ComponentSystem handler) {
                     componentParams.add((Class<? extends Component>) types[i]);
                 }
 
-                ByteCodeEventHandlerInfo handlerInfo = new ByteCodeEventHandlerInfo(handler, method, receiveEventAnnotation.priority(),
-                        receiveEventAnnotation.activity(), requiredComponents, componentParams);
+                MethodHandleEventHandlerInfo handlerInfo;
+                try {
+                    handlerInfo = new MethodHandleEventHandlerInfo(handler, method, receiveEventAnnotation.priority(),
+                            receiveEventAnnotation.activity(), requiredComponents, componentParams);
+                } catch (IllegalAccessException e) {
+                    logger.error("Cannot access event handler method: {}", method.getName(), e);
+                    continue;
+                }
                 addEventHandler((Class<? extends Event>) types[0], handlerInfo, requiredComponents);
             }
         }
@@ -174,6 +185,7 @@ public void registerEventHandler(ComponentSystem handler) {
 
     @Override
     public void unregisterEventHandler(ComponentSystem handler) {
+        invalidateDispatchPlans();
         for (SetMultimap<Class<? extends Component>, EventHandlerInfo> eventHandlers : componentSpecificHandlers.values()) {
             Iterator<EventHandlerInfo> eventHandlerIterator = eventHandlers.values().iterator();
             while (eventHandlerIterator.hasNext()) {
@@ -194,6 +206,7 @@ public void unregisterEventHandler(ComponentSystem handler) {
     }
 
     private void addEventHandler(Class<? extends Event> type, EventHandlerInfo handler, Collection<Class<? extends Component>> components) {
+        invalidateDispatchPlans();
         if (components.isEmpty()) {
             generalHandlers.put(type, handler);
             for (Class<? extends Event> childType : childEvents.get(type)) {
@@ -231,6 +244,7 @@ public <T extends Event> void registerEventReceiver(EventReceiver<T> eventReceiv
 
     @Override
     public <T extends Event> void unregisterEventReceiver(EventReceiver<T> eventReceiver, Class<T> eventClass, Class<? extends Component>... componentTypes) {
+        invalidateDispatchPlans();
         SetMultimap<Class<? extends Component>, EventHandlerInfo> eventHandlerMap = componentSpecificHandlers.get(eventClass);
         if (eventHandlerMap != null) {
             ReceiverEventHandlerInfo testReceiver = new ReceiverEventHandlerInfo<>(eventReceiver, 0, componentTypes);
@@ -249,36 +263,43 @@ public void send(EntityRef entity, Event event) {
             pendingEvents.offer(new PendingEvent(entity, event));
         } else {
             networkReplicate(entity, event);
-
-            Set<EventHandlerInfo> selectedHandlersSet = selectEventHandlers(event.getClass(), entity);
-            List<EventHandlerInfo> selectedHandlers = Lists.newArrayList(selectedHandlersSet);
-            Collections.sort(selectedHandlers, priorityComparator);
-
-            if (event instanceof ConsumableEvent) {
-                sendConsumableEvent(entity, event, selectedHandlers);
-            } else {
-                sendStandardEvent(entity, event, selectedHandlers);
-            }
+            dispatch(entity, event, getDispatchPlan(event.getClass()));
         }
     }
 
-    private void sendStandardEvent(EntityRef entity, Event event, List<EventHandlerInfo> selectedHandlers) {
-        for (EventHandlerInfo handler : selectedHandlers) {
-            // Check isValid at each stage in case components were removed.
-            if (handler.isValidFor(entity)) {
-                handler.invoke(entity, event);
+    /**
+     * Calls the handlers that are valid for the entity, in order. As before, handlers are only called if they were
+     * valid when the event was sent and still are when their turn comes, in case components get removed.
+     * The selection is kept in a bit mask, so dispatch does not allocate unless there are more than 64 handlers.
+     */
+    private void dispatch(EntityRef entity, Event event, EventHandlerInfo[] handlers) {
+        ConsumableEvent consumableEvent = (event instanceof ConsumableEvent) ? (ConsumableEvent) event : null;
+        if (handlers.length <= Long.SIZE) {
+            long selected = 0;
+            for (int i = 0; i < handlers.length; ++i) {
+                if (handlers[i].isValidFor(entity)) {
+                    selected |= 1L << i;
+                }
             }
-        }
-    }
-
-    private void sendConsumableEvent(EntityRef entity, Event event, List<EventHandlerInfo> selectedHandlers) {
-        ConsumableEvent consumableEvent = (ConsumableEvent) event;
-        for (EventHandlerInfo handler : selectedHandlers) {
-            // Check isValid at each stage in case components were removed.
-            if (handler.isValidFor(entity)) {
-                handler.invoke(entity, event);
-                if (consumableEvent.isConsumed()) {
-                    return;
+            for (int i = 0; i < handlers.length; ++i) {
+                if ((selected & (1L << i)) != 0 && handlers[i].isValidFor(entity)) {
+                    handlers[i].invoke(entity, event);
+                    if (consumableEvent != null && consumableEvent.isConsumed()) {
+                        return;
+                    }
+                }
+            }
+        } else {
+            boolean[] selected = new boolean[handlers.length];
+            for (int i = 0; i < handlers.length; ++i) {
+                selected[i] = handlers[i].isValidFor(entity);
+            }
+            for (int i = 0; i < handlers.length; ++i) {
+                if (selected[i] && handlers[i].isValidFor(entity)) {
+                    handlers[i].invoke(entity, event);
+                    if (consumableEvent != null && consumableEvent.isConsumed()) {
+                        return;
+                    }
                 }
             }
         }
@@ -348,39 +369,64 @@ public void send(EntityRef entity, Event event, Component component) {
         if (Thread.currentThread() != mainThread) {
             pendingEvents.offer(new PendingEvent(entity, event, component));
         } else {
-            SetMultimap<Class<? extends Component>, EventHandlerInfo> handlers = componentSpecificHandlers.get(event.getClass());
-            if (handlers != null) {
-                List<EventHandlerInfo> eventHandlers = Lists.newArrayList(handlers.get(component.getClass()));
-                Collections.sort(eventHandlers, priorityComparator);
-                for (EventHandlerInfo eventHandler : eventHandlers) {
-                    if (eventHandler.isValidFor(entity)) {
-                        eventHandler.invoke(entity, event);
-                    }
+            for (EventHandlerInfo eventHandler : getDispatchPlan(event.getClass(), component.getClass())) {
+                if (eventHandler.isValidFor(entity)) {
+                    eventHandler.invoke(entity, event);
                 }
             }
         }
     }
 
-    private Set<EventHandlerInfo> selectEventHandlers(Class<? extends Event> eventType, EntityRef entity) {
-        Set<EventHandlerInfo> result = Sets.newHashSet();
-        result.addAll(generalHandlers.get(eventType));
-        SetMultimap<Class<? extends Component>, EventHandlerInfo> handlers = componentSpecificHandlers.get(eventType);
-        if (handlers == null) {
-            return result;
+    /**
+     * @return All handlers of the event type, in the order they are called
+     */
+    private EventHandlerInfo[] getDispatchPlan(Class<? extends Event> eventType) {
+        EventHandlerInfo[] plan = dispatchPlans.get(eventType);
+        if (plan == null) {
+            Set<EventHandlerInfo> handlers = Sets.newHashSet(generalHandlers.get(eventType));
+            SetMultimap<Class<? extends Component>, EventHandlerInfo> componentHandlers = componentSpecificHandlers.get(eventType);
+            if (componentHandlers != null) {
+                handlers.addAll(componentHandlers.values());
+            }
+            plan = sortByPriority(handlers);
+            dispatchPlans.put(eventType, plan);
         }
+        return plan;
+    }
 
-        for (Class<? extends Component> compClass : handlers.keySet()) {
-            if (entity.hasComponent(compClass)) {
-                for (EventHandlerInfo eventHandler : handlers.get(compClass)) {
-                    if (eventHandler.isValidFor(entity)) {
-                        result.add(eventHandler);
-                    }
-                }
+    /**
+     * @return The handlers of the event type that are specific to the component type, in the order they are called
+     */
+    private EventHandlerInfo[] getDispatchPlan(Class<? extends Event> eventType, Class<? extends Component> componentType) {
+        Map<Class<? extends Component>, EventHandlerInfo[]> plans = componentDispatchPlans.get(eventType);
+        if (plans == null) {
+            plans = Maps.newHashMap();
+            componentDispatchPlans.put(eventType, plans);
+        }
+        EventHandlerInfo[] plan = plans.get(componentType);
+        if (plan == null) {
+            SetMultimap<Class<? extends Component>, EventHandlerInfo> componentHandlers = componentSpecificHandlers.get(eventType);
+            if (componentHandlers != null) {
+                plan = sortByPriority(componentHandlers.get(componentType));
+            } else {
+                plan = new EventHandlerInfo[0];
             }
+            plans.put(componentType, plan);
         }
+        return plan;
+    }
+
+    private EventHandlerInfo[] sortByPriority(Collection<EventHandlerInfo> handlers) {
+        EventHandlerInfo[] result = handlers.toArray(new EventHandlerInfo[handlers.size()]);
+        Arrays.sort(result, priorityComparator);
         return result;
     }
 
+    private void invalidateDispatchPlans() {
+        dispatchPlans.clear();
+        componentDispatchPlans.clear();
+    }
+
     private static class EventHandlerPriorityComparator implements Comparator<EventHandlerInfo> {
 
         @Override
@@ -454,32 +500,64 @@ public ComponentSystem getHandler() {
         }
     }
 
-    private static class ByteCodeEventHandlerInfo implements EventHandlerInfo {
+    /**
+     * Calls a handler method through a method handle that takes just the event and entity, and fetches the components
+     * the method expects itself. Unlike reflective invocation this does not need a parameter array for each call.
+     */
+    private static class MethodHandleEventHandlerInfo implements EventHandlerInfo {
+        private static final MethodType INVOKER_TYPE = MethodType.methodType(void.class, Event.class, EntityRef.class);
+        private static final MethodHandle GET_COMPONENT;
+
+        static {
+            try {
+                GET_COMPONENT = MethodHandles.publicLookup().findVirtual(EntityRef.class, "getComponent",
+                        MethodType.methodType(Component.class, Class.class));
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
         private ComponentSystem handler;
         private String activity;
-        private MethodAccess methodAccess;
-        private int methodIndex;
+        private MethodHandle invoker;
         private ImmutableList<Class<? extends Component>> filterComponents;
-        private ImmutableList<Class<? extends Component>> componentParams;
         private int priority;
 
-        ByteCodeEventHandlerInfo(ComponentSystem handler,
-                                        Method method,
-                                        int priority,
-                                        String activity,
-                                        Collection<Class<? extends Component>> filterComponents,
-                                        Collection<Class<? extends Component>> componentParams) {
-
-
+        MethodHandleEventHandlerInfo(ComponentSystem handler,
+                                     Method method,
+                                     int priority,
+                                     String activity,
+                                     Collection<Class<? extends Component>> filterComponents,
+                                     List<Class<? extends Component>> componentParams) throws IllegalAccessException {
             this.handler = handler;
             this.activity = activity;
-            this.methodAccess = MethodAccess.get(handler.getClass());
-            methodIndex = methodAccess.getIndex(method.getName(), method.getParameterTypes());
+            this.invoker = createInvoker(handler, method, componentParams);
             this.filterComponents = ImmutableList.copyOf(filterComponents);
-            this.componentParams = ImmutableList.copyOf(componentParams);
             this.priority = priority;
         }
 
+        private static MethodHandle createInvoker(ComponentSystem handler, Method method,
+                                                  List<Class<? extends Component>> componentParams) throws IllegalAccessException {
+            MethodHandle target = MethodHandles.lookup().unreflect(method);
+            if (!Modifier.isStatic(method.getModifiers())) {
+                target = target.bindTo(handler);
+            }
+            target = target.asType(target.type().changeParameterType(1, EntityRef.class).changeReturnType(void.class));
+            // Replace each component parameter with a lookup of that component on the entity
+            int[] reorder = new int[2 + componentParams.size()];
+            reorder[0] = 0;
+            for (int i = 0; i < componentParams.size(); ++i) {
+                Class<? extends Component> componentType = componentParams.get(i);
+                MethodHandle getComponent = MethodHandles.insertArguments(GET_COMPONENT, 1, componentType)
+                        .asType(MethodType.methodType(componentType, EntityRef.class));
+                target = MethodHandles.filterArguments(target, 2 + i, getComponent);
+                reorder[2 + i] = 1;
+            }
+            reorder[1] = 1;
+            target = MethodHandles.permuteArguments(target, MethodType.methodType(void.class, target.type().parameterType(0), EntityRef.class), reorder);
+            return target.asType(INVOKER_TYPE);
+        }
+
         @Override
         public boolean isValidFor(EntityRef entity) {
             for (Class<? extends Component> component : filterComponents) {
@@ -492,25 +570,19 @@ public boolean isValidFor(EntityRef entity) {
 
         @Override
         public void invoke(EntityRef entity, Event event) {
+            if (!activity.isEmpty()) {
+                PerformanceMonitor.startActivity(activity);
+            }
             try {
-                Object[] params = new Object[2 + componentParams.size()];
-                params[0] = event;
-                params[1] = entity;
-                for (int i = 0; i < componentParams.size(); ++i) {
-                    params[i + 2] = entity.getComponent(componentParams.get(i));
-                }
+                invoker.invokeExact(event, entity);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable ex) {
+                logger.error("Failed to invoke event", ex);
+            } finally {
                 if (!activity.isEmpty()) {
-                    PerformanceMonitor.startActivity(activity);
-                }
-                try {
-                    methodAccess.invoke(handler, methodIndex, params);
-                } finally {
-                    if (!activity.isEmpty()) {
-                        PerformanceMonitor.endActivity();
-                    }
+                    PerformanceMonitor.endActivity();
                 }
-            } catch (Exception ex) {
-                logger.error("Failed to invoke event", ex);
             }
         }
 
@@ -21,6 +21,7 @@
 import org.terasology.reflection.reflect.InaccessibleFieldException;
 import org.terasology.reflection.reflect.ReflectFactory;
 import org.terasology.network.NoReplicate;
+import org.terasology.network.Quantized;
 import org.terasology.network.Replicate;
 
 import java.lang.reflect.Field;
@@ -33,6 +34,7 @@
 
     private boolean replicated;
     private Replicate replicationInfo;
+    private float quantization;
 
     public ReplicatedFieldMetadata(ClassMetadata<T, ?> owner, Field field, CopyStrategy<U> copyStrategy, ReflectFactory factory, boolean replicatedByDefault)
             throws InaccessibleFieldException {
@@ -45,6 +47,10 @@ public ReplicatedFieldMetadata(ClassMetadata<T, ?> owner, Field field, CopyStrat
             replicated = true;
         }
         this.replicationInfo = field.getAnnotation(Replicate.class);
+        Quantized quantized = field.getAnnotation(Quantized.class);
+        if (quantized != null && quantized.value() > 0) {
+            this.quantization = quantized.value();
+        }
     }
 
     /**
@@ -60,4 +66,18 @@ public boolean isReplicated() {
     public Replicate getReplicationInfo() {
         return replicationInfo;
     }
+
+    /**
+     * @return Whether the field is sent over the network as multiples of {@link #getQuantization()}
+     */
+    public boolean isQuantized() {
+        return quantization > 0;
+    }
+
+    /**
+     * @return The precision the field is replicated with, or 0 if it isn't marked with the Quantized annotation
+     */
+    public float getQuantization() {
+        return quantization;
+    }
 }
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.logic.ai;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import gnu.trove.impl.Constants;
+import gnu.trove.map.TObjectLongMap;
+import gnu.trove.map.hash.TObjectLongHashMap;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Decides which AI actors to update in a tick.
+ * <br><br>
+ * Actors near a player are due every tick, actors further away only every {@link #MID_INTERVAL} or
+ * {@link #FAR_INTERVAL} milliseconds. No more actors than the budget are updated per tick: if more are due, the actors
+ * deferred in the previous tick go first, then the most overdue ones, and the others stay due for the next tick. Each
+ * update carries the time passed since the previous update of its actor, so actors updated less often still progress
+ * at the same pace.
+ * <br><br>
+ * Actors are forgotten as soon as they are no longer passed to {@link #selectDue}.
+ *
+ * @param <T> The type of the actors
+ */
+public class AIUpdateSchedule<T> {
+    public static final int DEFAULT_BUDGET = 256;
+
+    public static final float NEAR_DISTANCE = 32f;
+    public static final float MID_DISTANCE = 96f;
+    public static final long MID_INTERVAL = 250;
+    public static final long FAR_INTERVAL = 1000;
+
+    private static final long NEVER = Long.MIN_VALUE;
+
+    private final int budget;
+
+    private TObjectLongMap<T> lastUpdates = createUpdateMap();
+    private TObjectLongMap<T> nextLastUpdates = createUpdateMap();
+    private Set<T> deferred = Sets.newHashSet();
+    private long lastTick = NEVER;
+
+    public AIUpdateSchedule() {
+        this(DEFAULT_BUDGET);
+    }
+
+    /**
+     * @param budget The maximum number of actors to update per tick
+     */
+    public AIUpdateSchedule(int budget) {
+        if (budget <= 0) {
+            throw new IllegalArgumentException("Budget must be positive: " + budget);
+        }
+        this.budget = budget;
+    }
+
+    /**
+     * Selects the actors to update in this tick, and marks them as updated.
+     *
+     * @param actors          All actors that currently exist
+     * @param gameTime        The current game time in milliseconds
+     * @param distanceSquared The squared distance of an actor to the nearest player
+     * @return The updates to run this tick
+     */
+    public List<Update<T>> selectDue(Iterable<T> actors, long gameTime, ToDoubleFunction<? super T> distanceSquared) {
+        long previousTick = (lastTick == NEVER) ? gameTime : lastTick;
+        List<Update<T>> due = Lists.newArrayList();
+        for (T actor : actors) {
+            long lastUpdate = lastUpdates.get(actor);
+            if (lastUpdate == NEVER) {
+                lastUpdate = previousTick;
+            }
+            nextLastUpdates.put(actor, lastUpdate);
+            long overdue = gameTime - lastUpdate - getInterval(distanceSquared.applyAsDouble(actor));
+            if (overdue >= 0) {
+                due.add(new Update<>(actor, gameTime - lastUpdate, overdue));
+            }
+        }
+        Set<T> previouslyDeferred = deferred;
+        deferred = Sets.newHashSet();
+        if (due.size() > budget) {
+            due.sort(Comparator.comparing((Update<T> update) -> !previouslyDeferred.contains(update.actor))
+                    .thenComparing(Comparator.comparingLong((Update<T> update) -> update.overdue).reversed()));
+            for (Update<T> update : due.subList(budget, due.size())) {
+                deferred.add(update.actor);
+            }
+            due = Lists.newArrayList(due.subList(0, budget));
+        }
+        for (Update<T> update : due) {
+            nextLastUpdates.put(update.actor, gameTime);
+        }
+
+        TObjectLongMap<T> previousUpdates = lastUpdates;
+        lastUpdates = nextLastUpdates;
+        nextLastUpdates = previousUpdates;
+        nextLastUpdates.clear();
+        lastTick = gameTime;
+        return due;
+    }
+
+    /**
+     * @param distanceSquared The squared distance of an actor to the nearest player
+     * @return The time in milliseconds that should pass between two updates of the actor
+     */
+    public static long getInterval(double distanceSquared) {
+        if (distanceSquared <= NEAR_DISTANCE * NEAR_DISTANCE) {
+            return 0;
+        } else if (distanceSquared <= MID_DISTANCE * MID_DISTANCE) {
+            return MID_INTERVAL;
+        }
+        return FAR_INTERVAL;
+    }
+
+    public void clear() {
+        lastUpdates.clear();
+        deferred.clear();
+        lastTick = NEVER;
+    }
+
+    private static <T> TObjectLongMap<T> createUpdateMap() {
+        return new TObjectLongHashMap<>(Constants.DEFAULT_CAPACITY, Constants.DEFAULT_LOAD_FACTOR, NEVER);
+    }
+
+    /**
+     * An actor to update in this tick.
+     */
+    public static final class Update<T> {
+        private final T actor;
+        private final long deltaMs;
+        private final long overdue;
+
+        private Update(T actor, long deltaMs, long overdue) {
+            this.actor = actor;
+            this.deltaMs = deltaMs;
+            this.overdue = overdue;
+        }
+
+        public T getActor() {
+            return actor;
+        }
+
+        /**
+         * @return The time in milliseconds since the actor was last updated
+         */
+        public long getDeltaMs() {
+            return deltaMs;
+        }
+
+        /**
+         * @return The time in seconds since the actor was last updated
+         */
+        public float getDelta() {
+            return deltaMs / 1000f;
+        }
+    }
+}
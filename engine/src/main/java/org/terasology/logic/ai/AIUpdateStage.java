@@ -0,0 +1,208 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.logic.ai;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.engine.Time;
+import org.terasology.entitySystem.entity.EntityManager;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.entitySystem.systems.BaseComponentSystem;
+import org.terasology.entitySystem.systems.RegisterMode;
+import org.terasology.entitySystem.systems.RegisterSystem;
+import org.terasology.logic.location.LocationComponent;
+import org.terasology.logic.players.PlayerCharacterComponent;
+import org.terasology.math.geom.Vector3f;
+import org.terasology.monitoring.Activity;
+import org.terasology.monitoring.PerformanceMonitor;
+import org.terasology.registry.In;
+import org.terasology.registry.Share;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Evaluates the decisions of AI actors on a pool of worker threads.
+ * <br><br>
+ * AI systems take a snapshot of everything their actors need to know on the main thread and hand the snapshots to
+ * {@link #evaluate}. The decisions are made in parallel and produce commands, which are then applied to the entities
+ * on the main thread, one actor after the other. Decisions must only read the snapshot they are given: they must not
+ * access entities, the world or other systems.
+ */
+@RegisterSystem(RegisterMode.AUTHORITY)
+@Share(AIUpdateStage.class)
+public class AIUpdateStage extends BaseComponentSystem {
+    public static final int DEFAULT_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
+    private static final int MIN_BATCH_SIZE = 32;
+
+    private static final Logger logger = LoggerFactory.getLogger(AIUpdateStage.class);
+
+    @In
+    private EntityManager entityManager;
+    @In
+    private Time time;
+
+    private final int threads;
+    private ExecutorService executorService;
+
+    private List<Vector3f> observerPositions = ImmutableList.of();
+    private long observersUpdatedAt = -1;
+
+    public AIUpdateStage() {
+        this(DEFAULT_THREADS);
+    }
+
+    public AIUpdateStage(int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Must have at least one thread.");
+        }
+        this.threads = threads;
+    }
+
+    @Override
+    public void initialise() {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "AI-Stage-" + threadCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+        executorService = Executors.newFixedThreadPool(threads, threadFactory);
+    }
+
+    @Override
+    public void shutdown() {
+        if (executorService != null) {
+            executorService.shutdown();
+            try {
+                executorService.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                logger.error("Failed to shutdown AI threads in a timely manner");
+            }
+            executorService = null;
+        }
+    }
+
+    /**
+     * Makes the decisions of the given actors in parallel, then applies them on the calling thread in the order of the
+     * actors. Actors whose decision is null are skipped.
+     *
+     * @param actors The snapshots of the actors to decide for
+     * @param decide Makes the decision of an actor. Called concurrently, so it must only read the snapshot
+     * @param apply  Applies the decision of an actor to the entity system, on the calling thread
+     * @param <A>    The type of the actor snapshots
+     * @param <C>    The type of the decisions
+     */
+    @SuppressWarnings("unchecked")
+    public <A, C> void evaluate(List<A> actors, Function<? super A, ? extends C> decide, BiConsumer<? super A, ? super C> apply) {
+        Object[] commands = new Object[actors.size()];
+        int batches = Math.min(threads + 1, (actors.size() + MIN_BATCH_SIZE - 1) / MIN_BATCH_SIZE);
+        if (batches <= 1 || executorService == null) {
+            decideBatch(actors, decide, commands, 0, actors.size());
+        } else {
+            int batchSize = (actors.size() + batches - 1) / batches;
+            List<Future<?>> futures = Lists.newArrayListWithCapacity(batches - 1);
+            for (int from = batchSize; from < actors.size(); from += batchSize) {
+                final int start = from;
+                final int end = Math.min(from + batchSize, actors.size());
+                futures.add(executorService.submit(() -> decideBatch(actors, decide, commands, start, end)));
+            }
+            RuntimeException failure = null;
+            try {
+                decideBatch(actors, decide, commands, 0, batchSize);
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    failure = new RuntimeException("Error evaluating AI decisions", e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failure = new RuntimeException("Interrupted while evaluating AI decisions", e);
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        try (Activity ignored = PerformanceMonitor.startActivity("Apply AI Decisions")) {
+            for (int i = 0; i < commands.length; i++) {
+                if (commands[i] != null) {
+                    apply.accept(actors.get(i), (C) commands[i]);
+                }
+            }
+        }
+    }
+
+    private static <A, C> void decideBatch(List<A> actors, Function<? super A, ? extends C> decide, Object[] commands, int from, int to) {
+        try (Activity ignored = PerformanceMonitor.startActivity("Make AI Decisions")) {
+            for (int i = from; i < to; i++) {
+                commands[i] = decide.apply(actors.get(i));
+            }
+        }
+    }
+
+    /**
+     * @return The world positions of all player characters in this tick. The list is never modified, so it may be
+     * shared with decisions.
+     */
+    public List<Vector3f> getObserverPositions() {
+        long now = time.getGameTimeInMs();
+        if (now != observersUpdatedAt) {
+            ImmutableList.Builder<Vector3f> positions = ImmutableList.builder();
+            for (EntityRef player : entityManager.getEntitiesWith(PlayerCharacterComponent.class, LocationComponent.class)) {
+                Vector3f position = player.getComponent(LocationComponent.class).getWorldPosition();
+                if (Float.isFinite(position.x) && Float.isFinite(position.y) && Float.isFinite(position.z)) {
+                    positions.add(position);
+                }
+            }
+            observerPositions = positions.build();
+            observersUpdatedAt = now;
+        }
+        return observerPositions;
+    }
+
+    /**
+     * @param position  A world position
+     * @param observers The positions to measure the distance to
+     * @return The squared distance to the nearest of the observers, or infinity if there are none
+     */
+    public static float distanceSquaredToNearest(Vector3f position, List<Vector3f> observers) {
+        float nearest = Float.POSITIVE_INFINITY;
+        for (int i = 0; i < observers.size(); i++) {
+            Vector3f observer = observers.get(i);
+            float dx = observer.x - position.x;
+            float dy = observer.y - position.y;
+            float dz = observer.z - position.z;
+            nearest = Math.min(nearest, dx * dx + dy * dy + dz * dz);
+        }
+        return nearest;
+    }
+}
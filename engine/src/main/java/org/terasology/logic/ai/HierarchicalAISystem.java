@@ -15,9 +15,12 @@
  */
 package org.terasology.logic.ai;
 
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import org.terasology.engine.Time;
 import org.terasology.entitySystem.entity.EntityManager;
 import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.entitySystem.entity.lifecycleEvents.BeforeDeactivateComponent;
 import org.terasology.entitySystem.event.ReceiveEvent;
 import org.terasology.entitySystem.systems.BaseComponentSystem;
 import org.terasology.entitySystem.systems.RegisterMode;
@@ -27,15 +30,22 @@
 import org.terasology.logic.characters.CharacterMovementComponent;
 import org.terasology.logic.characters.events.HorizontalCollisionEvent;
 import org.terasology.logic.location.LocationComponent;
-import org.terasology.logic.players.LocalPlayer;
+import org.terasology.logic.location.SpatialEntityIndex;
+import org.terasology.logic.players.PlayerCharacterComponent;
 import org.terasology.math.geom.Vector3f;
 import org.terasology.registry.In;
 import org.terasology.utilities.random.FastRandom;
 import org.terasology.utilities.random.Random;
 import org.terasology.world.WorldProvider;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * Hierarchical AI, idea from robotics
+ * <br><br>
+ * The actors are scheduled by an {@link AIUpdateSchedule}, so distant actors are updated less often. In between they
+ * keep their last movement, which is sent as one input per tick.
  *
  */
 @RegisterSystem(RegisterMode.AUTHORITY)
@@ -53,7 +63,14 @@ public class HierarchicalAISystem extends BaseComponentSystem implements
     private Time time;
 
     @In
-    private LocalPlayer localPlayer;
+    private SpatialEntityIndex spatialIndex;
+
+    @In
+    private AIUpdateStage aiUpdateStage;
+
+    private AIUpdateSchedule<EntityRef> schedule = new AIUpdateSchedule<>();
+    private final Vector3f tempPosition = new Vector3f();
+    private final Map<EntityRef, Move> moves = Maps.newHashMap();
 
     private boolean idling;
 
@@ -61,9 +78,12 @@ public class HierarchicalAISystem extends BaseComponentSystem implements
 
     @Override
     public void update(float delta) {
-        for (EntityRef entity : entityManager.getEntitiesWith(
+        List<Vector3f> players = aiUpdateStage.getObserverPositions();
+        for (AIUpdateSchedule.Update<EntityRef> update : schedule.selectDue(entityManager.getEntitiesWith(
                 HierarchicalAIComponent.class, CharacterMovementComponent.class,
-                LocationComponent.class)) {
+                LocationComponent.class), time.getGameTimeInMs(),
+                entity -> AIUpdateStage.distanceSquaredToNearest(entity.getComponent(LocationComponent.class).getWorldPosition(tempPosition), players))) {
+            EntityRef entity = update.getActor();
             LocationComponent location = entity
                     .getComponent(LocationComponent.class);
             Vector3f worldPos = location.getWorldPosition();
@@ -74,7 +94,18 @@ public void update(float delta) {
             }
 
             // goto Hierarchical system
-            loop(entity, location, worldPos);
+            loop(entity, location, worldPos, players);
+        }
+
+        long deltaMs = time.getGameDeltaInMs();
+        // Copied, as handlers of the input may deactivate actors
+        for (Map.Entry<EntityRef, Move> entry : Lists.newArrayList(moves.entrySet())) {
+            EntityRef entity = entry.getKey();
+            LocationComponent location = entity.getComponent(LocationComponent.class);
+            if (location != null && worldProvider.isBlockRelevant(location.getWorldPosition(tempPosition))) {
+                Move move = entry.getValue();
+                entity.send(new CharacterMoveInputEvent(0, 0, move.yaw, move.drive, false, false, deltaMs));
+            }
         }
     }
 
@@ -84,9 +115,10 @@ public void update(float delta) {
      * @param entity
      * @param location
      * @param worldPos
+     * @param players the positions of all players
      */
     private void loop(EntityRef entity, LocationComponent location,
-                      Vector3f worldPos) {
+                      Vector3f worldPos, List<Vector3f> players) {
         HierarchicalAIComponent ai = entity
                 .getComponent(HierarchicalAIComponent.class);
         long tempTime = time.getGameTimeInMs();
@@ -108,13 +140,17 @@ private void loop(EntityRef entity, LocationComponent location,
         // get movement
         Vector3f drive = new Vector3f();
 
-        // find player position
-        // TODO: shouldn't use local player, need some way to find nearest
-        // player
-        if (localPlayer != null) {
-            Vector3f dist = new Vector3f(worldPos);
-            dist.sub(localPlayer.getPosition());
-            double distanceToPlayer = dist.lengthSquared();
+        // find player position, players beyond the range the AI reacts to all count as infinitely far away
+        EntityRef player = spatialIndex.getNearestEntity(worldPos, getPlayerRange(ai), PlayerCharacterComponent.class);
+        if (player.exists() || !players.isEmpty()) {
+            Vector3f playerPos = null;
+            double distanceToPlayer = Double.POSITIVE_INFINITY;
+            if (player.exists()) {
+                playerPos = player.getComponent(LocationComponent.class).getWorldPosition();
+                Vector3f dist = new Vector3f(worldPos);
+                dist.sub(playerPos);
+                distanceToPlayer = dist.lengthSquared();
+            }
 
             ai.inDanger = false;
             if (ai.dieIfPlayerFar && distanceToPlayer > ai.dieDistance) {
@@ -128,7 +164,7 @@ private void loop(EntityRef entity, LocationComponent location,
                     if (distanceToPlayer > ai.playerdistance
                             && distanceToPlayer < ai.playerSense) {
                         // Head to player
-                        Vector3f tempTarget = localPlayer.getPosition();
+                        Vector3f tempTarget = playerPos;
                         if (ai.forgiving != 0) {
                             ai.movementTarget.set(new Vector3f(
                                     tempTarget.x + random.nextFloat(-ai.forgiving, ai.forgiving),
@@ -148,7 +184,7 @@ private void loop(EntityRef entity, LocationComponent location,
                 if (ai.wild) {
                     if (distanceToPlayer > ai.panicDistance
                             && distanceToPlayer < ai.runDistance) {
-                        runAway(entity, ai);
+                        runAway(entity, ai, playerPos);
                     }
                 }
                 ai.lastChangeOfDangerAt = time.getGameTimeInMs();
@@ -160,6 +196,7 @@ private void loop(EntityRef entity, LocationComponent location,
             //----------------eat----------
             // if anything edible is in front
             if (foodInFront()) {
+                moves.remove(entity);
                 return;
             }
 
@@ -175,6 +212,7 @@ private void loop(EntityRef entity, LocationComponent location,
                     ai.lastChangeOfidlingtAt = time.getGameTimeInMs();
                 }
                 entity.saveComponent(location);
+                moves.remove(entity);
                 ai.lastProgressedUpdateAt = time.getGameTimeInMs();
                 return;
 
@@ -186,6 +224,7 @@ private void loop(EntityRef entity, LocationComponent location,
                 moveChangeTime = (long) (ai.moveUpdateTime * random.nextDouble() * ai.hectic);
                 idling = true;
                 entity.saveComponent(location);
+                moves.remove(entity);
 
                 // mark start idling
                 ai.lastChangeOfMovementAt = time.getGameTimeInMs();
@@ -210,7 +249,7 @@ private void loop(EntityRef entity, LocationComponent location,
         drive.set(targetDirection);
 
         float yaw = (float) Math.atan2(targetDirection.x, targetDirection.z);
-        entity.send(new CharacterMoveInputEvent(0, 0, yaw, drive, false, false, time.getGameDeltaInMs()));
+        moves.put(entity, new Move(yaw, drive));
         entity.saveComponent(location);
         // System.out.print("\Destination set: " + targetDirection.x + ":" +targetDirection.z + "\n");
         // System.out.print("\nI am: " + worldPos.x + ":" + worldPos.z + "\n");
@@ -218,8 +257,26 @@ private void loop(EntityRef entity, LocationComponent location,
         ai.lastProgressedUpdateAt = time.getGameTimeInMs();
     }
 
-    private void runAway(EntityRef entity, HierarchicalAIComponent ai) {
-        Vector3f tempTarget = localPlayer.getPosition();
+    /**
+     * @return the distance beyond which players don't make a difference to the AI. The distances of the component are
+     * compared to the squared distance to the player.
+     */
+    private static float getPlayerRange(HierarchicalAIComponent ai) {
+        int range = 0;
+        if (ai.hunter) {
+            range = Math.max(range, ai.playerSense);
+        }
+        if (ai.wild) {
+            range = Math.max(range, ai.runDistance);
+        }
+        if (ai.dieIfPlayerFar) {
+            range = Math.max(range, ai.dieDistance);
+        }
+        return (float) Math.sqrt(range);
+    }
+
+    private void runAway(EntityRef entity, HierarchicalAIComponent ai, Vector3f playerPos) {
+        Vector3f tempTarget = playerPos;
         if (ai.forgiving != 0) {
             ai.movementTarget.set(new Vector3f(
                     -tempTarget.x + random.nextFloat(-ai.forgiving, ai.forgiving),
@@ -272,4 +329,21 @@ public void onBump(HorizontalCollisionEvent event, EntityRef entity) {
         }
     }
 
+    @ReceiveEvent(components = {HierarchicalAIComponent.class})
+    public void onDeactivated(BeforeDeactivateComponent event, EntityRef entity) {
+        moves.remove(entity);
+    }
+
+    /**
+     * The movement an actor keeps until its next update.
+     */
+    private static final class Move {
+        private final float yaw;
+        private final Vector3f drive;
+
+        private Move(float yaw, Vector3f drive) {
+            this.yaw = yaw;
+            this.drive = drive;
+        }
+    }
 }
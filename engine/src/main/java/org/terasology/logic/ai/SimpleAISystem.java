@@ -15,9 +15,12 @@
  */
 package org.terasology.logic.ai;
 
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import org.terasology.engine.Time;
 import org.terasology.entitySystem.entity.EntityManager;
 import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.entitySystem.entity.lifecycleEvents.BeforeDeactivateComponent;
 import org.terasology.entitySystem.event.ReceiveEvent;
 import org.terasology.entitySystem.systems.BaseComponentSystem;
 import org.terasology.entitySystem.systems.RegisterMode;
@@ -27,75 +30,139 @@
 import org.terasology.logic.characters.CharacterMovementComponent;
 import org.terasology.logic.characters.events.HorizontalCollisionEvent;
 import org.terasology.logic.location.LocationComponent;
-import org.terasology.logic.players.LocalPlayer;
 import org.terasology.math.geom.Vector3f;
 import org.terasology.registry.In;
 import org.terasology.utilities.random.FastRandom;
 import org.terasology.utilities.random.Random;
 import org.terasology.world.WorldProvider;
 
+import java.util.List;
+import java.util.Map;
+
 /**
+ * Lets entities with a {@link SimpleAIComponent} wander around, and follow players that come close.
+ * <br><br>
+ * The actors are scheduled by an {@link AIUpdateSchedule} and decide where to go in parallel on the
+ * {@link AIUpdateStage}, based on a snapshot of their position, their AI state and the positions of the players.
+ * Between two decisions an actor keeps moving in the direction it last decided on, with one movement input per tick:
+ * the server rejects inputs that cover more time than has passed since the previous one.
  */
 @RegisterSystem(RegisterMode.AUTHORITY)
 public class SimpleAISystem extends BaseComponentSystem implements UpdateSubscriberSystem {
+    private static final float PLAYER_SENSE_DISTANCE = 4f;
+
+    private static final ThreadLocal<Random> RANDOM = ThreadLocal.withInitial(FastRandom::new);
 
     @In
     private WorldProvider worldProvider;
     @In
     private EntityManager entityManager;
-    private Random random = new FastRandom();
     @In
     private Time time;
     @In
-    private LocalPlayer localPlayer;
+    private AIUpdateStage aiUpdateStage;
+
+    private AIUpdateSchedule<EntityRef> schedule = new AIUpdateSchedule<>();
+    private final Vector3f tempPosition = new Vector3f();
+    private final Map<EntityRef, Vector3f> drives = Maps.newHashMap();
 
     @Override
     public void update(float delta) {
-        for (EntityRef entity : entityManager.getEntitiesWith(SimpleAIComponent.class, CharacterMovementComponent.class, LocationComponent.class)) {
-            LocationComponent location = entity.getComponent(LocationComponent.class);
-            Vector3f worldPos = location.getWorldPosition();
+        final long currentTime = time.getGameTimeInMs();
+        final List<Vector3f> players = aiUpdateStage.getObserverPositions();
+
+        List<AIUpdateSchedule.Update<EntityRef>> updates = schedule.selectDue(
+                entityManager.getEntitiesWith(SimpleAIComponent.class, CharacterMovementComponent.class, LocationComponent.class),
+                currentTime,
+                entity -> AIUpdateStage.distanceSquaredToNearest(entity.getComponent(LocationComponent.class).getWorldPosition(tempPosition), players));
+
+        List<Actor> actors = Lists.newArrayListWithCapacity(updates.size());
+        for (AIUpdateSchedule.Update<EntityRef> update : updates) {
+            EntityRef entity = update.getActor();
+            Vector3f worldPos = entity.getComponent(LocationComponent.class).getWorldPosition();
 
             // Skip this AI if not in a loaded chunk
             if (!worldProvider.isBlockRelevant(worldPos)) {
                 continue;
             }
-            SimpleAIComponent ai = entity.getComponent(SimpleAIComponent.class);
+            actors.add(new Actor(entity, worldPos, entity.getComponent(SimpleAIComponent.class)));
+        }
+
+        aiUpdateStage.evaluate(actors, actor -> decide(actor, players, currentTime), this::apply);
 
-            Vector3f drive = new Vector3f();
-            // TODO: shouldn't use local player, need some way to find nearest player
-            if (localPlayer != null) {
-                Vector3f dist = new Vector3f(worldPos);
-                dist.sub(localPlayer.getPosition());
-                double distanceToPlayer = dist.lengthSquared();
-
-                if (distanceToPlayer > 6 && distanceToPlayer < 16) {
-                    // Head to player
-                    ai.movementTarget.set(localPlayer.getPosition());
-                    ai.followingPlayer = true;
-                    entity.saveComponent(ai);
-                } else {
-                    // Random walk
-                    if (time.getGameTimeInMs() - ai.lastChangeOfDirectionAt > 12000 || ai.followingPlayer) {
-                        ai.movementTarget.set(worldPos.x + random.nextFloat(-500.0f, 500.0f), worldPos.y, worldPos.z + random.nextFloat(-500.0f, 500.0f));
-                        ai.lastChangeOfDirectionAt = time.getGameTimeInMs();
-                        ai.followingPlayer = false;
-                        entity.saveComponent(ai);
-                    }
-                }
-
-                Vector3f targetDirection = new Vector3f();
-                targetDirection.sub(ai.movementTarget, worldPos);
-                targetDirection.normalize();
-                drive.set(targetDirection);
-
-                float yaw = (float) Math.atan2(targetDirection.x, targetDirection.z);
-                location.getLocalRotation().set(new Vector3f(0, 1, 0), yaw);
-                entity.saveComponent(location);
+        long deltaMs = time.getGameDeltaInMs();
+        // Copied, as handlers of the input may deactivate actors
+        for (Map.Entry<EntityRef, Vector3f> entry : Lists.newArrayList(drives.entrySet())) {
+            EntityRef entity = entry.getKey();
+            LocationComponent location = entity.getComponent(LocationComponent.class);
+            if (location != null && worldProvider.isBlockRelevant(location.getWorldPosition(tempPosition))) {
+                entity.send(new CharacterMoveInputEvent(0, 0, 0, entry.getValue(), false, false, deltaMs));
             }
-            entity.send(new CharacterMoveInputEvent(0, 0, 0, drive, false, false, time.getGameDeltaInMs()));
         }
     }
 
+    /**
+     * Runs on the AI stage, so it must only read the actor and the player positions.
+     */
+    private static Decision decide(Actor actor, List<Vector3f> players, long currentTime) {
+        Decision decision = new Decision(actor);
+
+        Vector3f playerPos = null;
+        double distanceToPlayer = Double.POSITIVE_INFINITY;
+        Vector3f dist = new Vector3f();
+        for (Vector3f player : players) {
+            dist.sub(actor.worldPos, player);
+            double distance = dist.lengthSquared();
+            if (distance <= PLAYER_SENSE_DISTANCE * PLAYER_SENSE_DISTANCE && distance < distanceToPlayer) {
+                playerPos = player;
+                distanceToPlayer = distance;
+            }
+        }
+
+        if (distanceToPlayer > 6 && distanceToPlayer < 16) {
+            // Head to player
+            decision.movementTarget.set(playerPos);
+            decision.followingPlayer = true;
+            decision.aiChanged = true;
+        } else {
+            // Random walk
+            if (currentTime - actor.lastChangeOfDirectionAt > 12000 || actor.followingPlayer) {
+                Random random = RANDOM.get();
+                decision.movementTarget.set(actor.worldPos.x + random.nextFloat(-500.0f, 500.0f), actor.worldPos.y,
+                        actor.worldPos.z + random.nextFloat(-500.0f, 500.0f));
+                decision.lastChangeOfDirectionAt = currentTime;
+                decision.followingPlayer = false;
+                decision.aiChanged = true;
+            }
+        }
+
+        decision.drive.sub(decision.movementTarget, actor.worldPos);
+        decision.drive.normalize();
+        decision.yaw = (float) Math.atan2(decision.drive.x, decision.drive.z);
+        return decision;
+    }
+
+    private void apply(Actor actor, Decision decision) {
+        EntityRef entity = actor.entity;
+        if (decision.aiChanged) {
+            SimpleAIComponent ai = entity.getComponent(SimpleAIComponent.class);
+            ai.movementTarget.set(decision.movementTarget);
+            ai.lastChangeOfDirectionAt = decision.lastChangeOfDirectionAt;
+            ai.followingPlayer = decision.followingPlayer;
+            entity.saveComponent(ai);
+        }
+
+        LocationComponent location = entity.getComponent(LocationComponent.class);
+        location.getLocalRotation().set(new Vector3f(0, 1, 0), decision.yaw);
+        entity.saveComponent(location);
+        drives.put(entity, decision.drive);
+    }
+
+    @ReceiveEvent(components = {SimpleAIComponent.class})
+    public void onDeactivated(BeforeDeactivateComponent event, EntityRef entity) {
+        drives.remove(entity);
+    }
+
     @ReceiveEvent(components = {SimpleAIComponent.class})
     public void onBump(HorizontalCollisionEvent event, EntityRef entity) {
         CharacterMovementComponent moveComp = entity.getComponent(CharacterMovementComponent.class);
@@ -104,4 +171,38 @@ public void onBump(HorizontalCollisionEvent event, EntityRef entity) {
             entity.saveComponent(moveComp);
         }
     }
+
+    /**
+     * What an actor knows when it decides where to go.
+     */
+    private static final class Actor {
+        private final EntityRef entity;
+        private final Vector3f worldPos;
+        private final Vector3f movementTarget;
+        private final long lastChangeOfDirectionAt;
+        private final boolean followingPlayer;
+
+        private Actor(EntityRef entity, Vector3f worldPos, SimpleAIComponent ai) {
+            this.entity = entity;
+            this.worldPos = worldPos;
+            this.movementTarget = new Vector3f(ai.movementTarget);
+            this.lastChangeOfDirectionAt = ai.lastChangeOfDirectionAt;
+            this.followingPlayer = ai.followingPlayer;
+        }
+    }
+
+    private static final class Decision {
+        private final Vector3f movementTarget;
+        private long lastChangeOfDirectionAt;
+        private boolean followingPlayer;
+        private boolean aiChanged;
+        private final Vector3f drive = new Vector3f();
+        private float yaw;
+
+        private Decision(Actor actor) {
+            this.movementTarget = new Vector3f(actor.movementTarget);
+            this.lastChangeOfDirectionAt = actor.lastChangeOfDirectionAt;
+            this.followingPlayer = actor.followingPlayer;
+        }
+    }
 }
@@ -20,6 +20,7 @@
 import org.terasology.assets.ResourceUrn;
 import org.terasology.assets.management.AssetManager;
 import org.terasology.audio.StaticSound;
+import org.terasology.engine.Time;
 import org.terasology.engine.paths.PathManager;
 import org.terasology.entitySystem.entity.EntityManager;
 import org.terasology.entitySystem.entity.EntityRef;
@@ -32,12 +33,16 @@
 import org.terasology.entitySystem.systems.RegisterMode;
 import org.terasology.entitySystem.systems.RegisterSystem;
 import org.terasology.entitySystem.systems.UpdateSubscriberSystem;
+import org.terasology.logic.ai.AIUpdateSchedule;
+import org.terasology.logic.ai.AIUpdateStage;
 import org.terasology.logic.behavior.asset.BehaviorTree;
 import org.terasology.logic.behavior.asset.BehaviorTreeData;
 import org.terasology.logic.behavior.asset.BehaviorTreeFormat;
 import org.terasology.logic.behavior.tree.Actor;
 import org.terasology.logic.behavior.tree.Interpreter;
 import org.terasology.logic.behavior.tree.Node;
+import org.terasology.logic.location.LocationComponent;
+import org.terasology.math.geom.Vector3f;
 import org.terasology.naming.Name;
 import org.terasology.registry.In;
 import org.terasology.registry.Share;
@@ -65,6 +70,7 @@
 @Share(BehaviorSystem.class)
 public class BehaviorSystem extends BaseComponentSystem implements UpdateSubscriberSystem {
     public static final Name BEHAVIORS = new Name("Behaviors");
+    private static final float MAX_TICK_DELTA = 0.1f;
 
     @In
     private EntityManager entityManager;
@@ -72,7 +78,10 @@ public class BehaviorSystem extends BaseComponentSystem implements UpdateSubscri
     private PrefabManager prefabManager;
     @In
     private AssetManager assetManager;
-
+    @In
+    private Time time;
+    @In
+    private AIUpdateStage aiUpdateStage;
 
     /*
      * A hash map that maps entity to their interpreters. Behavior tree processing
@@ -86,6 +95,14 @@ public class BehaviorSystem extends BaseComponentSystem implements UpdateSubscri
      */
     private List<Interpreter> cachedInterpreters = Lists.newArrayList();
     private List<BehaviorTree> trees = Lists.newArrayList();
+    /*
+     * Behavior tree nodes access entities and send events, so interpreters are ticked on the main thread. Actors far
+     * away from players are still ticked less often. The time passed since their last tick is then stepped through in
+     * slices of at most MAX_TICK_DELTA seconds, so timers and the nodes they guard run at a similar granularity as near
+     * actors.
+     */
+    private AIUpdateSchedule<Interpreter> schedule = new AIUpdateSchedule<>();
+    private final Vector3f tempPosition = new Vector3f();
 
     @Override
     public void initialise() {
@@ -125,9 +142,31 @@ public void update(float delta) {
         if (cachedInterpreters.isEmpty()) {
             cachedInterpreters.addAll(entityInterpreters.values());
         }
-        for (Interpreter interpreter : cachedInterpreters) {
-            interpreter.tick(delta);
+        List<Vector3f> players = aiUpdateStage.getObserverPositions();
+        for (AIUpdateSchedule.Update<Interpreter> update : schedule.selectDue(cachedInterpreters, time.getGameTimeInMs(),
+                interpreter -> distanceSquaredToPlayers(interpreter, players))) {
+            tick(update.getActor(), update.getDelta());
+        }
+    }
+
+    private static void tick(Interpreter interpreter, float delta) {
+        float remaining = delta;
+        while (remaining > MAX_TICK_DELTA) {
+            interpreter.tick(MAX_TICK_DELTA);
+            remaining -= MAX_TICK_DELTA;
+        }
+        interpreter.tick(remaining);
+    }
+
+    /**
+     * Actors without a location are treated as being near a player.
+     */
+    private float distanceSquaredToPlayers(Interpreter interpreter, List<Vector3f> players) {
+        LocationComponent location = interpreter.actor().getEntity().getComponent(LocationComponent.class);
+        if (location == null) {
+            return 0;
         }
+        return AIUpdateStage.distanceSquaredToNearest(location.getWorldPosition(tempPosition), players);
     }
 
     public BehaviorTree createTree(String name, Node root) {
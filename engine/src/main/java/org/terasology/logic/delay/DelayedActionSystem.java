@@ -15,9 +15,7 @@
  */
 package org.terasology.logic.delay;
 
-import com.google.common.collect.Ordering;
-import com.google.common.collect.SortedSetMultimap;
-import com.google.common.collect.TreeMultimap;
+import com.google.common.collect.Maps;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.terasology.engine.Time;
@@ -31,13 +29,19 @@
 import org.terasology.entitySystem.systems.UpdateSubscriberSystem;
 import org.terasology.registry.In;
 import org.terasology.registry.Share;
+import org.terasology.utilities.collection.TimingWheel;
 
-import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
+ * Schedules the delayed and periodic actions of entities.
+ * <br><br>
+ * The actions of an entity are stored in its DelayedActionComponent and PeriodicActionComponent. Each entity is
+ * scheduled once per component in a timing wheel, at the earliest wake up of its actions, so adding and cancelling
+ * actions takes constant time no matter how many actions are scheduled. The components are only saved when
+ * actions were added, triggered or cancelled.
  */
 @RegisterSystem(RegisterMode.AUTHORITY)
 @Share(value = DelayManager.class)
@@ -47,8 +51,10 @@ public class DelayedActionSystem extends BaseComponentSystem implements UpdateSu
     @In
     private Time time;
 
-    private SortedSetMultimap<Long, EntityRef> delayedOperationsSortedByTime = TreeMultimap.create(Ordering.natural(), Ordering.arbitrary());
-    private SortedSetMultimap<Long, EntityRef> periodicOperationsSortedByTime = TreeMultimap.create(Ordering.natural(), Ordering.arbitrary());
+    private TimingWheel<EntityRef> delayedOperations = new TimingWheel<>();
+    private TimingWheel<EntityRef> periodicOperations = new TimingWheel<>();
+    private Map<EntityRef, TimingWheel.Timer<EntityRef>> delayedOperationTimers = Maps.newHashMap();
+    private Map<EntityRef, TimingWheel.Timer<EntityRef>> periodicOperationTimers = Maps.newHashMap();
 
     // ONLY use this for testing. DO NOT use this during regular usage.
     void setTime(Time t) {
@@ -63,28 +69,23 @@ public void update(float delta) {
     }
 
     private void invokeDelayedOperations(long currentWorldTime) {
-        List<EntityRef> operationsToInvoke = new LinkedList<>();
-        Iterator<Long> scheduledOperationsIterator = delayedOperationsSortedByTime.keySet().iterator();
-        long processedTime;
-        while (scheduledOperationsIterator.hasNext()) {
-            processedTime = scheduledOperationsIterator.next();
-            if (processedTime > currentWorldTime) {
-                break;
+        List<EntityRef> operationsToInvoke = delayedOperations.advance(currentWorldTime);
+        for (EntityRef delayedEntity : operationsToInvoke) {
+            forgetExpiredTimer(delayedOperationTimers, delayedEntity);
+            if (!delayedEntity.exists()) {
+                continue;
             }
-            operationsToInvoke.addAll(delayedOperationsSortedByTime.get(processedTime));
-            scheduledOperationsIterator.remove();
-        }
-
-        operationsToInvoke.stream().filter(EntityRef::exists).forEach(delayedEntity -> {
             final DelayedActionComponent delayedActions = delayedEntity.getComponent(DelayedActionComponent.class);
 
             // If there is a DelayedActionComponent, proceed. Else report an error to the log.
             if (delayedActions != null) {
                 final Set<String> actionIds = delayedActions.removeActionsUpTo(currentWorldTime);
-                saveOrRemoveComponent(delayedEntity, delayedActions);
+                if (!actionIds.isEmpty()) {
+                    saveOrRemoveComponent(delayedEntity, delayedActions);
+                }
 
                 if (!delayedActions.isEmpty()) {
-                    delayedOperationsSortedByTime.put(delayedActions.getLowestWakeUp(), delayedEntity);
+                    schedule(delayedOperations, delayedOperationTimers, delayedEntity, delayedActions.getLowestWakeUp());
                 }
 
                 for (String actionId : actionIds) {
@@ -95,32 +96,27 @@ private void invokeDelayedOperations(long currentWorldTime) {
                         "So skipping delayed actions for this entity",
                         delayedEntity);
             }
-        });
+        }
     }
 
     private void invokePeriodicOperations(long currentWorldTime) {
-        List<EntityRef> operationsToInvoke = new LinkedList<>();
-        Iterator<Long> scheduledOperationsIterator = periodicOperationsSortedByTime.keySet().iterator();
-        long processedTime;
-        while (scheduledOperationsIterator.hasNext()) {
-            processedTime = scheduledOperationsIterator.next();
-            if (processedTime > currentWorldTime) {
-                break;
+        List<EntityRef> operationsToInvoke = periodicOperations.advance(currentWorldTime);
+        for (EntityRef periodicEntity : operationsToInvoke) {
+            forgetExpiredTimer(periodicOperationTimers, periodicEntity);
+            if (!periodicEntity.exists()) {
+                continue;
             }
-            operationsToInvoke.addAll(periodicOperationsSortedByTime.get(processedTime));
-            scheduledOperationsIterator.remove();
-        }
-
-        operationsToInvoke.stream().filter(EntityRef::exists).forEach(periodicEntity -> {
             final PeriodicActionComponent periodicActionComponent = periodicEntity.getComponent(PeriodicActionComponent.class);
 
             // If there is a PeriodicActionComponent, proceed. Else report an error to the log.
             if (periodicActionComponent != null) {
                 final Set<String> actionIds = periodicActionComponent.getTriggeredActionsAndReschedule(currentWorldTime);
-                saveOrRemoveComponent(periodicEntity, periodicActionComponent);
+                if (!actionIds.isEmpty()) {
+                    saveOrRemoveComponent(periodicEntity, periodicActionComponent);
+                }
 
                 if (!periodicActionComponent.isEmpty()) {
-                    periodicOperationsSortedByTime.put(periodicActionComponent.getLowestWakeUp(), periodicEntity);
+                    schedule(periodicOperations, periodicOperationTimers, periodicEntity, periodicActionComponent.getLowestWakeUp());
                 }
 
                 for (String actionId : actionIds) {
@@ -130,27 +126,62 @@ private void invokePeriodicOperations(long currentWorldTime) {
                 logger.error("ERROR: This entity is missing a DelayedActionComponent. " +
                         "So skipping delayed actions for this entity", periodicEntity);
             }
-        });
+        }
+    }
+
+    /**
+     * Schedules the entity at the given wake up, replacing its previous timer.
+     */
+    private void schedule(TimingWheel<EntityRef> operations, Map<EntityRef, TimingWheel.Timer<EntityRef>> timers, EntityRef entity, long wakeUp) {
+        TimingWheel.Timer<EntityRef> timer = timers.get(entity);
+        if (timer != null) {
+            if (timer.isScheduled() && timer.getExpiry() == wakeUp) {
+                return;
+            }
+            operations.cancel(timer);
+        }
+        timers.put(entity, operations.schedule(entity, wakeUp));
+    }
+
+    private void unschedule(TimingWheel<EntityRef> operations, Map<EntityRef, TimingWheel.Timer<EntityRef>> timers, EntityRef entity) {
+        TimingWheel.Timer<EntityRef> timer = timers.remove(entity);
+        if (timer != null) {
+            operations.cancel(timer);
+        }
+    }
+
+    /**
+     * Drops the timer of an entity after it expired, unless the entity has been scheduled again in the meantime.
+     */
+    private void forgetExpiredTimer(Map<EntityRef, TimingWheel.Timer<EntityRef>> timers, EntityRef entity) {
+        TimingWheel.Timer<EntityRef> timer = timers.get(entity);
+        if (timer != null && !timer.isScheduled()) {
+            timers.remove(entity);
+        }
     }
 
     @ReceiveEvent
     public void delayedComponentActivated(OnActivatedComponent event, EntityRef entity, DelayedActionComponent delayedActionComponent) {
-        delayedOperationsSortedByTime.put(delayedActionComponent.getLowestWakeUp(), entity);
+        if (!delayedActionComponent.isEmpty()) {
+            schedule(delayedOperations, delayedOperationTimers, entity, delayedActionComponent.getLowestWakeUp());
+        }
     }
 
     @ReceiveEvent
     public void periodicComponentActivated(OnActivatedComponent event, EntityRef entity, PeriodicActionComponent periodicActionComponent) {
-        periodicOperationsSortedByTime.put(periodicActionComponent.getLowestWakeUp(), entity);
+        if (!periodicActionComponent.isEmpty()) {
+            schedule(periodicOperations, periodicOperationTimers, entity, periodicActionComponent.getLowestWakeUp());
+        }
     }
 
     @ReceiveEvent
     public void delayedComponentDeactivated(BeforeDeactivateComponent event, EntityRef entity, DelayedActionComponent delayedActionComponent) {
-        delayedOperationsSortedByTime.remove(delayedActionComponent.getLowestWakeUp(), entity);
+        unschedule(delayedOperations, delayedOperationTimers, entity);
     }
 
     @ReceiveEvent
     public void periodicComponentDeactivated(BeforeDeactivateComponent event, EntityRef entity, PeriodicActionComponent periodicActionComponent) {
-        delayedOperationsSortedByTime.remove(periodicActionComponent.getLowestWakeUp(), entity);
+        unschedule(periodicOperations, periodicOperationTimers, entity);
     }
 
     @Override
@@ -159,23 +190,14 @@ public void addDelayedAction(EntityRef entity, String actionId, long delay) {
 
         DelayedActionComponent delayedActionComponent = entity.getComponent(DelayedActionComponent.class);
         if (delayedActionComponent != null) {
-            final long oldWakeUp = delayedActionComponent.getLowestWakeUp();
             delayedActionComponent.addActionId(actionId, scheduleTime);
             entity.saveComponent(delayedActionComponent);
-            final long newWakeUp = delayedActionComponent.getLowestWakeUp();
-            if (oldWakeUp < newWakeUp) {
-                delayedOperationsSortedByTime.remove(oldWakeUp, entity);
-                delayedOperationsSortedByTime.put(newWakeUp, entity);
-            } else {
-                // Even if the oldWakeUp time is greater than or equal to the new one, the next action should still be added
-                // to the delayedOperationsSortedByTime mapping.
-                delayedOperationsSortedByTime.put(scheduleTime, entity);
-            }
         } else {
             delayedActionComponent = new DelayedActionComponent();
             delayedActionComponent.addActionId(actionId, scheduleTime);
             entity.addComponent(delayedActionComponent);
         }
+        schedule(delayedOperations, delayedOperationTimers, entity, delayedActionComponent.getLowestWakeUp());
     }
 
     @Override
@@ -184,36 +206,24 @@ public void addPeriodicAction(EntityRef entity, String actionId, long initialDel
 
         PeriodicActionComponent periodicActionComponent = entity.getComponent(PeriodicActionComponent.class);
         if (periodicActionComponent != null) {
-            final long oldWakeUp = periodicActionComponent.getLowestWakeUp();
             periodicActionComponent.addScheduledActionId(actionId, scheduleTime, period);
             entity.saveComponent(periodicActionComponent);
-            final long newWakeUp = periodicActionComponent.getLowestWakeUp();
-            if (oldWakeUp < newWakeUp) {
-                periodicOperationsSortedByTime.remove(oldWakeUp, entity);
-                periodicOperationsSortedByTime.put(newWakeUp, entity);
-            } else {
-                // Even if the oldWakeUp time is greater than or equal to the new one, the next action should still be added
-                // to the delayedOperationsSortedByTime mapping.
-                periodicOperationsSortedByTime.put(scheduleTime, entity);
-            }
         } else {
             periodicActionComponent = new PeriodicActionComponent();
             periodicActionComponent.addScheduledActionId(actionId, scheduleTime, period);
             entity.addComponent(periodicActionComponent);
         }
+        schedule(periodicOperations, periodicOperationTimers, entity, periodicActionComponent.getLowestWakeUp());
     }
 
     @Override
     public void cancelDelayedAction(EntityRef entity, String actionId) {
         DelayedActionComponent delayedComponent = entity.getComponent(DelayedActionComponent.class);
-        long oldWakeUp = delayedComponent.getLowestWakeUp();
         delayedComponent.removeActionId(actionId);
-        long newWakeUp = delayedComponent.getLowestWakeUp();
-        if (!delayedComponent.isEmpty() && oldWakeUp < newWakeUp) {
-            delayedOperationsSortedByTime.remove(oldWakeUp, entity);
-            delayedOperationsSortedByTime.put(newWakeUp, entity);
-        } else if (delayedComponent.isEmpty()) {
-            delayedOperationsSortedByTime.remove(oldWakeUp, entity);
+        if (delayedComponent.isEmpty()) {
+            unschedule(delayedOperations, delayedOperationTimers, entity);
+        } else {
+            schedule(delayedOperations, delayedOperationTimers, entity, delayedComponent.getLowestWakeUp());
         }
         saveOrRemoveComponent(entity, delayedComponent);
     }
@@ -221,14 +231,11 @@ public void cancelDelayedAction(EntityRef entity, String actionId) {
     @Override
     public void cancelPeriodicAction(EntityRef entity, String actionId) {
         PeriodicActionComponent periodicActionComponent = entity.getComponent(PeriodicActionComponent.class);
-        long oldWakeUp = periodicActionComponent.getLowestWakeUp();
         periodicActionComponent.removeScheduledActionId(actionId);
-        long newWakeUp = periodicActionComponent.getLowestWakeUp();
-        if (!periodicActionComponent.isEmpty() && oldWakeUp < newWakeUp) {
-            periodicOperationsSortedByTime.remove(oldWakeUp, entity);
-            periodicOperationsSortedByTime.put(newWakeUp, entity);
-        } else if (periodicActionComponent.isEmpty()) {
-            periodicOperationsSortedByTime.remove(oldWakeUp, entity);
+        if (periodicActionComponent.isEmpty()) {
+            unschedule(periodicOperations, periodicOperationTimers, entity);
+        } else {
+            schedule(periodicOperations, periodicOperationTimers, entity, periodicActionComponent.getLowestWakeUp());
         }
         saveOrRemoveComponent(entity, periodicActionComponent);
     }
@@ -17,7 +17,11 @@
 package org.terasology.logic.location;
 
 import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.entitySystem.entity.lifecycleEvents.BeforeDeactivateComponent;
 import org.terasology.entitySystem.entity.lifecycleEvents.BeforeRemoveComponent;
+import org.terasology.entitySystem.entity.lifecycleEvents.OnActivatedComponent;
+import org.terasology.entitySystem.entity.lifecycleEvents.OnChangedComponent;
+import org.terasology.entitySystem.event.EventPriority;
 import org.terasology.entitySystem.event.ReceiveEvent;
 import org.terasology.entitySystem.systems.BaseComponentSystem;
 import org.terasology.entitySystem.systems.RegisterMode;
@@ -121,6 +125,25 @@ public void onDestroyed(BeforeRemoveComponent event, EntityRef entity, LocationC
         }
     }
 
+    /**
+     * The children cache their world transform, which depends on the transform of this entity. Runs before other
+     * handlers so they see up to date world transforms.
+     */
+    @ReceiveEvent(priority = EventPriority.PRIORITY_CRITICAL)
+    public void onLocationActivated(OnActivatedComponent event, EntityRef entity, LocationComponent location) {
+        location.invalidateWorldTransformHierarchy();
+    }
+
+    @ReceiveEvent(priority = EventPriority.PRIORITY_CRITICAL)
+    public void onLocationChanged(OnChangedComponent event, EntityRef entity, LocationComponent location) {
+        location.invalidateWorldTransformHierarchy();
+    }
+
+    @ReceiveEvent(priority = EventPriority.PRIORITY_CRITICAL)
+    public void onLocationDeactivated(BeforeDeactivateComponent event, EntityRef entity, LocationComponent location) {
+        location.invalidateWorldTransformHierarchy();
+    }
+
     @ReceiveEvent(netFilter = RegisterMode.REMOTE_CLIENT)
     public void onResyncLocation(LocationResynchEvent event, EntityRef entityRef, LocationComponent locationComponent) {
         locationComponent.setWorldPosition(event.getPosition());
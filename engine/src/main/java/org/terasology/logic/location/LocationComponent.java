@@ -21,6 +21,7 @@
 import org.terasology.math.Direction;
 import org.terasology.math.geom.Quat4f;
 import org.terasology.math.geom.Vector3f;
+import org.terasology.network.Quantized;
 import org.terasology.network.Replicate;
 import org.terasology.network.ReplicationCheck;
 import org.terasology.reflection.metadata.FieldMetadata;
@@ -32,7 +33,10 @@
 
 /**
  * Component represent the location and facing of an entity in the world
- *
+ * <br><br>
+ * The world transform is cached, and recomputed from the parent's world transform when the local transform or parent
+ * of this component changed, or when one of its ancestors was changed through a setter or saved. Changes made directly
+ * to the vectors returned by the local getters only reach the children once the component is saved.
  */
 public final class LocationComponent implements Component, ReplicationCheck {
 
@@ -45,15 +49,27 @@ public final class LocationComponent implements Component, ReplicationCheck {
     @Replicate
     List<EntityRef> children = Lists.newArrayList();
 
-    // Standard position/rotation
+    // Standard position/rotation, replicated to a 256th of a block and a 4096th of a rotation component
     @Replicate
+    @Quantized(1f / 256)
     @TextField
     Vector3f position = new Vector3f();
     @Replicate
+    @Quantized(1f / 4096)
     Quat4f rotation = new Quat4f(0, 0, 0, 1);
     @Replicate
     float scale = 1.0f;
 
+    // Cached world transform, and the local transform it was computed from
+    private transient boolean worldTransformDirty = true;
+    private final transient Vector3f worldPosition = new Vector3f();
+    private final transient Quat4f worldRotation = new Quat4f(0, 0, 0, 1);
+    private transient float worldScale = 1.0f;
+    private transient EntityRef cachedParent = EntityRef.NULL;
+    private final transient Vector3f cachedPosition = new Vector3f();
+    private final transient Quat4f cachedRotation = new Quat4f(0, 0, 0, 1);
+    private transient float cachedScale = 1.0f;
+
     public LocationComponent() {
     }
 
@@ -70,6 +86,7 @@ public Vector3f getLocalPosition() {
 
     public void setLocalPosition(Vector3f newPos) {
         position.set(newPos);
+        invalidateWorldTransform();
     }
 
     public Vector3f getLocalDirection() {
@@ -84,10 +101,12 @@ public Quat4f getLocalRotation() {
 
     public void setLocalRotation(Quat4f newQuat) {
         rotation.set(newQuat);
+        invalidateWorldTransform();
     }
 
     public void setLocalScale(float value) {
         this.scale = value;
+        invalidateWorldTransform();
     }
 
     public float getLocalScale() {
@@ -102,14 +121,8 @@ public Vector3f getWorldPosition() {
     }
 
     public Vector3f getWorldPosition(Vector3f output) {
-        output.set(position);
-        LocationComponent parentLoc = parent.getComponent(LocationComponent.class);
-        while (parentLoc != null) {
-            output.scale(parentLoc.scale);
-            parentLoc.getLocalRotation().rotate(output, output);
-            output.add(parentLoc.position);
-            parentLoc = parentLoc.parent.getComponent(LocationComponent.class);
-        }
+        updateWorldTransform();
+        output.set(worldPosition);
         return output;
     }
 
@@ -124,23 +137,14 @@ public Quat4f getWorldRotation() {
     }
 
     public Quat4f getWorldRotation(Quat4f output) {
-        output.set(rotation);
-        LocationComponent parentLoc = parent.getComponent(LocationComponent.class);
-        while (parentLoc != null) {
-            output.mul(parentLoc.rotation, output);
-            parentLoc = parentLoc.parent.getComponent(LocationComponent.class);
-        }
+        updateWorldTransform();
+        output.set(worldRotation);
         return output;
     }
 
     public float getWorldScale() {
-        float result = scale;
-        LocationComponent parentLoc = parent.getComponent(LocationComponent.class);
-        while (parentLoc != null) {
-            result *= parentLoc.getLocalScale();
-            parentLoc = parentLoc.parent.getComponent(LocationComponent.class);
-        }
-        return result;
+        updateWorldTransform();
+        return worldScale;
     }
 
     public void setWorldPosition(Vector3f value) {
@@ -153,6 +157,7 @@ public void setWorldPosition(Vector3f value) {
             rot.inverse(parentLoc.getWorldRotation());
             rot.rotate(this.position, this.position);
         }
+        invalidateWorldTransform();
     }
 
     public void setWorldRotation(Quat4f value) {
@@ -163,6 +168,7 @@ public void setWorldRotation(Quat4f value) {
             worldRot.inverse();
             this.rotation.mul(worldRot, this.rotation);
         }
+        invalidateWorldTransform();
     }
 
     public void setWorldScale(float value) {
@@ -171,6 +177,7 @@ public void setWorldScale(float value) {
         if (parentLoc != null) {
             this.scale /= parentLoc.getWorldScale();
         }
+        invalidateWorldTransform();
     }
 
     public EntityRef getParent() {
@@ -181,6 +188,60 @@ public Collection<EntityRef> getChildren() {
         return children;
     }
 
+    /**
+     * Marks the cached world transform of this component and its descendants as outdated. Descendants of a component
+     * with an outdated world transform are outdated as well, so they are only visited if this one was up to date.
+     */
+    private void invalidateWorldTransform() {
+        if (!worldTransformDirty) {
+            invalidateWorldTransformHierarchy();
+        }
+    }
+
+    /**
+     * Marks the cached world transform of this component and its descendants as outdated, regardless of whether it
+     * already was. Used when this component replaced another one, or the parent appeared or vanished.
+     */
+    void invalidateWorldTransformHierarchy() {
+        worldTransformDirty = true;
+        for (EntityRef child : children) {
+            LocationComponent childLoc = child.getComponent(LocationComponent.class);
+            if (childLoc != null && childLoc != this) {
+                childLoc.invalidateWorldTransform();
+            }
+        }
+    }
+
+    private void updateWorldTransform() {
+        if (!worldTransformDirty && parent == cachedParent && scale == cachedScale
+                && position.equals(cachedPosition) && rotation.equals(cachedRotation)) {
+            return;
+        }
+        if (!worldTransformDirty) {
+            // The local transform was modified directly, so the children were not told yet
+            invalidateWorldTransformHierarchy();
+        }
+        LocationComponent parentLoc = parent.getComponent(LocationComponent.class);
+        if (parentLoc != null) {
+            parentLoc.updateWorldTransform();
+            worldPosition.set(position);
+            worldPosition.scale(parentLoc.worldScale);
+            parentLoc.worldRotation.rotate(worldPosition, worldPosition);
+            worldPosition.add(parentLoc.worldPosition);
+            worldRotation.mul(parentLoc.worldRotation, rotation);
+            worldScale = scale * parentLoc.worldScale;
+        } else {
+            worldPosition.set(position);
+            worldRotation.set(rotation);
+            worldScale = scale;
+        }
+        cachedParent = parent;
+        cachedPosition.set(position);
+        cachedRotation.set(rotation);
+        cachedScale = scale;
+        worldTransformDirty = false;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
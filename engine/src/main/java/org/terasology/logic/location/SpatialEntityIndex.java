@@ -0,0 +1,64 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.logic.location;
+
+import org.terasology.entitySystem.Component;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.math.AABB;
+import org.terasology.math.geom.Vector3f;
+
+import java.util.List;
+
+/**
+ * Finds entities with a {@link LocationComponent} by their world position, without iterating over all of them.
+ * <br><br>
+ * The index is maintained by the engine. It knows the world position an entity had when its location component, or
+ * the location component of one of its ancestors, was last saved.
+ */
+public interface SpatialEntityIndex {
+
+    /**
+     * @param center             the center of the sphere to search
+     * @param radius             the radius of the sphere to search
+     * @param requiredComponents the components the entities must have
+     * @return the entities within the sphere, in no particular order
+     */
+    List<EntityRef> getEntitiesWithin(Vector3f center, float radius, Class<? extends Component>... requiredComponents);
+
+    /**
+     * @param region             the box to search
+     * @param requiredComponents the components the entities must have
+     * @return the entities within the box, in no particular order
+     */
+    List<EntityRef> getEntitiesWithin(AABB region, Class<? extends Component>... requiredComponents);
+
+    /**
+     * @param position           the position to search around
+     * @param count              the maximum number of entities to return
+     * @param maxDistance        the maximum distance of the entities, may be {@link Float#POSITIVE_INFINITY}
+     * @param requiredComponents the components the entities must have
+     * @return the entities nearest to the position, nearest first
+     */
+    List<EntityRef> getNearestEntities(Vector3f position, int count, float maxDistance, Class<? extends Component>... requiredComponents);
+
+    /**
+     * @param position           the position to search around
+     * @param maxDistance        the maximum distance of the entity, may be {@link Float#POSITIVE_INFINITY}
+     * @param requiredComponents the components the entity must have
+     * @return the entity nearest to the position, or {@link EntityRef#NULL} if there is none
+     */
+    EntityRef getNearestEntity(Vector3f position, float maxDistance, Class<? extends Component>... requiredComponents);
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.logic.location;
+
+import com.google.common.collect.Lists;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import org.terasology.entitySystem.Component;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.entitySystem.entity.lifecycleEvents.BeforeDeactivateComponent;
+import org.terasology.entitySystem.entity.lifecycleEvents.OnActivatedComponent;
+import org.terasology.entitySystem.entity.lifecycleEvents.OnChangedComponent;
+import org.terasology.entitySystem.event.ReceiveEvent;
+import org.terasology.entitySystem.systems.BaseComponentSystem;
+import org.terasology.entitySystem.systems.RegisterSystem;
+import org.terasology.math.AABB;
+import org.terasology.math.geom.Vector3f;
+import org.terasology.registry.Share;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Keeps the entities with a {@link LocationComponent} in a uniform grid of 16 block cells, keyed by cell.
+ * <br><br>
+ * Entities are moved between cells whenever their location component, or that of one of their ancestors, is saved.
+ * Queries only visit the cells overlapping the searched area, or every occupied cell if those are fewer.
+ * The index must only be used from the main thread.
+ */
+@RegisterSystem
+@Share(SpatialEntityIndex.class)
+public class SpatialEntityIndexSystem extends BaseComponentSystem implements SpatialEntityIndex {
+    private static final float CELL_SIZE = 16f;
+    private static final long KEY_MASK = (1L << 21) - 1;
+
+    private final TLongObjectMap<IndexEntry> entries = new TLongObjectHashMap<>();
+    private final TLongObjectMap<List<IndexEntry>> cells = new TLongObjectHashMap<>();
+    private final List<IndexEntry> staleEntries = Lists.newArrayList();
+    private final Vector3f tempPosition = new Vector3f();
+
+    @Override
+    public void shutdown() {
+        entries.clear();
+        cells.clear();
+    }
+
+    @ReceiveEvent(components = LocationComponent.class)
+    public void onLocationActivated(OnActivatedComponent event, EntityRef entity) {
+        update(entity);
+    }
+
+    @ReceiveEvent(components = LocationComponent.class)
+    public void onLocationChanged(OnChangedComponent event, EntityRef entity) {
+        updateWithChildren(entity);
+    }
+
+    @ReceiveEvent(components = LocationComponent.class)
+    public void onLocationDeactivated(BeforeDeactivateComponent event, EntityRef entity) {
+        remove(entity.getId());
+    }
+
+    /**
+     * Children are moved along with their parent without their own location component being saved.
+     */
+    private void updateWithChildren(EntityRef entity) {
+        LocationComponent location = update(entity);
+        if (location != null) {
+            for (EntityRef child : location.getChildren()) {
+                updateWithChildren(child);
+            }
+        }
+    }
+
+    private LocationComponent update(EntityRef entity) {
+        LocationComponent location = entity.getComponent(LocationComponent.class);
+        if (location == null) {
+            remove(entity.getId());
+            return null;
+        }
+        Vector3f position = location.getWorldPosition(tempPosition);
+        if (!Float.isFinite(position.x) || !Float.isFinite(position.y) || !Float.isFinite(position.z)) {
+            remove(entity.getId());
+            return location;
+        }
+
+        long cellKey = cellKey(cellCoord(position.x), cellCoord(position.y), cellCoord(position.z));
+        IndexEntry entry = entries.get(entity.getId());
+        if (entry == null) {
+            entry = new IndexEntry(entity);
+            entries.put(entity.getId(), entry);
+            addToCell(entry, cellKey);
+        } else if (entry.cellKey != cellKey) {
+            removeFromCell(entry);
+            addToCell(entry, cellKey);
+        }
+        entry.x = position.x;
+        entry.y = position.y;
+        entry.z = position.z;
+        return location;
+    }
+
+    private void remove(long entityId) {
+        IndexEntry entry = entries.remove(entityId);
+        if (entry != null) {
+            removeFromCell(entry);
+        }
+    }
+
+    private void addToCell(IndexEntry entry, long cellKey) {
+        List<IndexEntry> cell = cells.get(cellKey);
+        if (cell == null) {
+            cell = Lists.newArrayListWithCapacity(4);
+            cells.put(cellKey, cell);
+        }
+        cell.add(entry);
+        entry.cellKey = cellKey;
+    }
+
+    private void removeFromCell(IndexEntry entry) {
+        List<IndexEntry> cell = cells.get(entry.cellKey);
+        if (cell != null) {
+            cell.remove(entry);
+            if (cell.isEmpty()) {
+                cells.remove(entry.cellKey);
+            }
+        }
+    }
+
+    @SafeVarargs
+    @Override
+    public final List<EntityRef> getEntitiesWithin(Vector3f center, float radius, Class<? extends Component>... requiredComponents) {
+        List<IndexEntry> candidates = Lists.newArrayList();
+        collect(center.x - radius, center.y - radius, center.z - radius, center.x + radius, center.y + radius, center.z + radius, candidates);
+        float radiusSquared = radius * radius;
+        List<EntityRef> result = Lists.newArrayListWithCapacity(candidates.size());
+        for (IndexEntry entry : candidates) {
+            if (entry.distanceSquared(center) <= radiusSquared && matches(entry, requiredComponents)) {
+                result.add(entry.entity);
+            }
+        }
+        dropStaleEntries();
+        return result;
+    }
+
+    @SafeVarargs
+    @Override
+    public final List<EntityRef> getEntitiesWithin(AABB region, Class<? extends Component>... requiredComponents) {
+        List<IndexEntry> candidates = Lists.newArrayList();
+        collect(region.minX(), region.minY(), region.minZ(), region.maxX(), region.maxY(), region.maxZ(), candidates);
+        List<EntityRef> result = Lists.newArrayListWithCapacity(candidates.size());
+        for (IndexEntry entry : candidates) {
+            if (matches(entry, requiredComponents)) {
+                result.add(entry.entity);
+            }
+        }
+        dropStaleEntries();
+        return result;
+    }
+
+    /**
+     * Searches spheres of doubling radius until enough entities are found, the maximum distance is reached or all
+     * indexed entities have been visited.
+     */
+    @SafeVarargs
+    @Override
+    public final List<EntityRef> getNearestEntities(Vector3f position, int count, float maxDistance, Class<? extends Component>... requiredComponents) {
+        List<IndexEntry> candidates = Lists.newArrayList();
+        List<IndexEntry> matching = Lists.newArrayList();
+        float radius = Math.min(CELL_SIZE, maxDistance);
+        while (count > 0) {
+            candidates.clear();
+            matching.clear();
+            collect(position.x - radius, position.y - radius, position.z - radius,
+                    position.x + radius, position.y + radius, position.z + radius, candidates);
+            float radiusSquared = radius * radius;
+            int withinRadius = 0;
+            for (IndexEntry entry : candidates) {
+                if (entry.distanceSquared(position) <= radiusSquared) {
+                    withinRadius++;
+                    if (matches(entry, requiredComponents)) {
+                        matching.add(entry);
+                    }
+                }
+            }
+            // A larger sphere cannot find more once every indexed entity lies within this one
+            boolean visitedAll = withinRadius == entries.size();
+            if (matching.size() >= count || radius >= maxDistance || visitedAll) {
+                break;
+            }
+            radius = Math.min(radius * 2, maxDistance);
+        }
+        dropStaleEntries();
+
+        matching.sort(Comparator.comparingDouble(entry -> entry.distanceSquared(position)));
+        List<EntityRef> result = Lists.newArrayListWithCapacity(Math.min(count, matching.size()));
+        for (int i = 0; i < matching.size() && i < count; i++) {
+            result.add(matching.get(i).entity);
+        }
+        return result;
+    }
+
+    @SafeVarargs
+    @Override
+    public final EntityRef getNearestEntity(Vector3f position, float maxDistance, Class<? extends Component>... requiredComponents) {
+        List<EntityRef> nearest = getNearestEntities(position, 1, maxDistance, requiredComponents);
+        return nearest.isEmpty() ? EntityRef.NULL : nearest.get(0);
+    }
+
+    private void dropStaleEntries() {
+        for (IndexEntry entry : staleEntries) {
+            if (entries.get(entry.entityId) == entry) {
+                remove(entry.entityId);
+            }
+        }
+        staleEntries.clear();
+    }
+
+    /**
+     * Adds the entries within the given bounds to the output.
+     */
+    private void collect(float minX, float minY, float minZ, float maxX, float maxY, float maxZ, List<IndexEntry> output) {
+        int minCellX = cellCoord(minX);
+        int minCellY = cellCoord(minY);
+        int minCellZ = cellCoord(minZ);
+        int maxCellX = cellCoord(maxX);
+        int maxCellY = cellCoord(maxY);
+        int maxCellZ = cellCoord(maxZ);
+        double cellCount = ((double) maxCellX - minCellX + 1) * ((double) maxCellY - minCellY + 1) * ((double) maxCellZ - minCellZ + 1);
+        if (cellCount > cells.size()) {
+            for (List<IndexEntry> cell : cells.valueCollection()) {
+                collectFromCell(cell, minX, minY, minZ, maxX, maxY, maxZ, output);
+            }
+            return;
+        }
+        for (int x = minCellX; x <= maxCellX; x++) {
+            for (int y = minCellY; y <= maxCellY; y++) {
+                for (int z = minCellZ; z <= maxCellZ; z++) {
+                    List<IndexEntry> cell = cells.get(cellKey(x, y, z));
+                    if (cell != null) {
+                        collectFromCell(cell, minX, minY, minZ, maxX, maxY, maxZ, output);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void collectFromCell(List<IndexEntry> cell, float minX, float minY, float minZ, float maxX, float maxY, float maxZ,
+                                        List<IndexEntry> output) {
+        for (int i = 0; i < cell.size(); i++) {
+            IndexEntry entry = cell.get(i);
+            if (entry.x >= minX && entry.x <= maxX && entry.y >= minY && entry.y <= maxY && entry.z >= minZ && entry.z <= maxZ) {
+                output.add(entry);
+            }
+        }
+    }
+
+    /**
+     * Entities destroyed without events are only noticed here, and dropped from the index once the query is done.
+     */
+    private boolean matches(IndexEntry entry, Class<? extends Component>[] requiredComponents) {
+        if (!entry.entity.exists()) {
+            staleEntries.add(entry);
+            return false;
+        }
+        for (Class<? extends Component> component : requiredComponents) {
+            if (!entry.entity.hasComponent(component)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int cellCoord(float value) {
+        return (int) Math.floor(value / CELL_SIZE);
+    }
+
+    private static long cellKey(int x, int y, int z) {
+        return ((x & KEY_MASK) << 42) | ((y & KEY_MASK) << 21) | (z & KEY_MASK);
+    }
+
+    private static final class IndexEntry {
+        private final EntityRef entity;
+        private final long entityId;
+        private long cellKey;
+        private float x;
+        private float y;
+        private float z;
+
+        private IndexEntry(EntityRef entity) {
+            this.entity = entity;
+            this.entityId = entity.getId();
+        }
+
+        private float distanceSquared(Vector3f position) {
+            float dx = x - position.x;
+            float dy = y - position.y;
+            float dz = z - position.z;
+            return dx * dx + dy * dy + dz * dz;
+        }
+    }
+}
@@ -16,10 +16,19 @@
 package org.terasology.monitoring;
 
 import gnu.trove.map.TObjectDoubleMap;
+import org.terasology.monitoring.impl.ActivityTracer;
 import org.terasology.monitoring.impl.NullPerformanceMonitor;
 import org.terasology.monitoring.impl.PerformanceMonitorImpl;
 import org.terasology.monitoring.impl.PerformanceMonitorInternal;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
 /**
  * Maintains a running average of execution times and memory allocated by different activities.
  * Activities call to denote when they start and stop.
@@ -27,11 +36,14 @@
  * Activities may be nested, and while a nested activity is running the collection of data from outer activities
  * is paused: time passing and allocated memory are not assigned to them.
  * <br><br>
- * Performance monitor is intended only for use by the main thread of Terasology, and does not handle
- * activities being started and ended on other threads at this time.
+ * The running means and spikes only cover the main thread of Terasology. Activities started and ended on other
+ * threads are only recorded while tracing is enabled, see {@link #setTracingEnabled(boolean)}.
  */
 public final class PerformanceMonitor {
+    private static final Activity TRACED_ACTIVITY = PerformanceMonitor::endActivity;
+
     private static PerformanceMonitorInternal instance;
+    private static volatile ActivityTracer tracer;
 
     static {
         instance = new NullPerformanceMonitor();
@@ -79,7 +91,13 @@ private PerformanceMonitor() {
      * @param activityName the name of the activity starting.
      */
     public static Activity startActivity(String activityName) {
-        return instance.startActivity(activityName);
+        ActivityTracer currentTracer = tracer;
+        if (currentTracer == null) {
+            return instance.startActivity(activityName);
+        }
+        currentTracer.begin(activityName);
+        instance.startActivity(activityName);
+        return TRACED_ACTIVITY;
     }
 
     /**
@@ -87,6 +105,10 @@ public static Activity startActivity(String activityName) {
      */
     public static void endActivity() {
         instance.endActivity();
+        ActivityTracer currentTracer = tracer;
+        if (currentTracer != null) {
+            currentTracer.end();
+        }
     }
 
     /**
@@ -155,4 +177,56 @@ public static void setEnabled(boolean enabled) {
         }
     }
 
+    /**
+     * Starts or stops tracing the activities of all threads. Tracing is independent of whether the Performance
+     * Monitoring system is enabled, so it also works headless.
+     * <br><br>
+     * Starting to trace discards previously traced activities.
+     *
+     * @param enabled True starts tracing. False stops tracing and purges the traced activities.
+     */
+    public static void setTracingEnabled(boolean enabled) {
+        if (enabled && tracer == null) {
+            tracer = new ActivityTracer();
+        } else if (!enabled) {
+            tracer = null;
+        }
+    }
+
+    public static boolean isTracingEnabled() {
+        return tracer != null;
+    }
+
+    /**
+     * Writes the recently traced activities of all threads in the Chrome trace event format.
+     *
+     * @param writer the writer receiving the JSON document.
+     * @return true if tracing is enabled and the trace has been written.
+     */
+    public static boolean exportTrace(Writer writer) throws IOException {
+        ActivityTracer currentTracer = tracer;
+        if (currentTracer == null) {
+            return false;
+        }
+        currentTracer.export(writer);
+        return true;
+    }
+
+    /**
+     * Writes the recently traced activities of all threads into a new, timestamped trace file.
+     *
+     * @param directory the directory to write the trace file into.
+     * @return the trace file, or null if tracing is not enabled.
+     */
+    public static Path exportTrace(Path directory) throws IOException {
+        if (!isTracingEnabled()) {
+            return null;
+        }
+        Files.createDirectories(directory);
+        Path file = directory.resolve("trace-" + new SimpleDateFormat("yyyyMMdd-HHmmss-SSS").format(new Date()) + ".json");
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            return exportTrace(writer) ? file : null;
+        }
+    }
+
 }
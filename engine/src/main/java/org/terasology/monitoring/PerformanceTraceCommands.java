@@ -0,0 +1,62 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.monitoring;
+
+import org.terasology.engine.paths.PathManager;
+import org.terasology.entitySystem.systems.BaseComponentSystem;
+import org.terasology.entitySystem.systems.RegisterSystem;
+import org.terasology.logic.console.commandSystem.annotations.Command;
+import org.terasology.logic.permission.PermissionManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Commands to trace the activities of all threads of the engine, and to export them for chrome://tracing.
+ * They run on the server, so they can be used to profile a dedicated server.
+ */
+@RegisterSystem
+public class PerformanceTraceCommands extends BaseComponentSystem {
+
+    @Command(shortDescription = "Starts tracing the activities of all threads", runOnServer = true,
+            requiredPermission = PermissionManager.SERVER_MANAGEMENT_PERMISSION)
+    public String startPerformanceTrace() {
+        if (PerformanceMonitor.isTracingEnabled()) {
+            return "Already tracing";
+        }
+        PerformanceMonitor.setTracingEnabled(true);
+        return "Tracing the activities of all threads";
+    }
+
+    @Command(shortDescription = "Stops tracing and discards the traced activities", runOnServer = true,
+            requiredPermission = PermissionManager.SERVER_MANAGEMENT_PERMISSION)
+    public String stopPerformanceTrace() {
+        PerformanceMonitor.setTracingEnabled(false);
+        return "Tracing stopped";
+    }
+
+    @Command(shortDescription = "Writes the recently traced activities in the Chrome trace event format",
+            helpText = "Writes the activities traced since startPerformanceTrace into the log directory. " +
+                    "Open the file in chrome://tracing to view it.",
+            runOnServer = true, requiredPermission = PermissionManager.SERVER_MANAGEMENT_PERMISSION)
+    public String exportPerformanceTrace() throws IOException {
+        Path traceFile = PerformanceMonitor.exportTrace(PathManager.getInstance().getLogPath());
+        if (traceFile == null) {
+            return "Not tracing, use startPerformanceTrace first";
+        }
+        return "Trace written to " + traceFile;
+    }
+}
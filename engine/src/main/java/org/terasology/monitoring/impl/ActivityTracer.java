@@ -0,0 +1,188 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.monitoring.impl;
+
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records the start and end of activities on every thread, for export in the Chrome trace event format
+ * (chrome://tracing, or any viewer that reads it).
+ * <p>
+ * Each thread writes into its own fixed size ring buffer, so recording never locks and never allocates once a thread's
+ * buffer exists. When a buffer is full the oldest events of that thread are overwritten. Buffers can be exported
+ * from any thread while the owning threads keep recording.
+ */
+public class ActivityTracer {
+    public static final int DEFAULT_EVENTS_PER_THREAD = 1 << 15;
+
+    private static final byte BEGIN = 0;
+    private static final byte END = 1;
+    private static final int PROCESS_ID = 1;
+
+    private final int eventsPerThread;
+    private final long startTime = System.nanoTime();
+    private final Queue<ThreadBuffer> buffers = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<ThreadBuffer> currentBuffer = ThreadLocal.withInitial(this::createBuffer);
+
+    public ActivityTracer() {
+        this(DEFAULT_EVENTS_PER_THREAD);
+    }
+
+    /**
+     * @param eventsPerThread The number of events retained per thread, rounded up to a power of two
+     */
+    public ActivityTracer(int eventsPerThread) {
+        if (eventsPerThread <= 0) {
+            throw new IllegalArgumentException("Must retain at least one event per thread.");
+        }
+        int capacity = Integer.highestOneBit(eventsPerThread);
+        this.eventsPerThread = (capacity < eventsPerThread) ? capacity << 1 : capacity;
+    }
+
+    public void begin(String activityName) {
+        currentBuffer.get().add(BEGIN, activityName, System.nanoTime());
+    }
+
+    public void end() {
+        currentBuffer.get().add(END, null, System.nanoTime());
+    }
+
+    /**
+     * @return The number of threads that have recorded events and not yet been discarded.
+     */
+    public int getThreadCount() {
+        return buffers.size();
+    }
+
+    /**
+     * Writes the retained events of all threads as a Chrome trace event JSON document. Activities that started before
+     * the oldest retained event of their thread are left out, activities still running are left open.
+     * Buffers of threads that have terminated are discarded once written.
+     */
+    public void export(Writer writer) throws IOException {
+        JsonWriter json = new JsonWriter(writer);
+        json.beginObject();
+        json.name("displayTimeUnit").value("ms");
+        json.name("traceEvents").beginArray();
+        Iterator<ThreadBuffer> iterator = buffers.iterator();
+        while (iterator.hasNext()) {
+            ThreadBuffer buffer = iterator.next();
+            boolean terminated = !buffer.thread.isAlive();
+            buffer.export(json);
+            if (terminated) {
+                iterator.remove();
+            }
+        }
+        json.endArray();
+        json.endObject();
+        json.flush();
+    }
+
+    private ThreadBuffer createBuffer() {
+        ThreadBuffer buffer = new ThreadBuffer(Thread.currentThread(), eventsPerThread);
+        buffers.add(buffer);
+        return buffer;
+    }
+
+    private final class ThreadBuffer {
+        private final Thread thread;
+        private final int mask;
+        private final String[] names;
+        private final long[] times;
+        private final byte[] phases;
+
+        /**
+         * The number of events ever written. Only the owning thread writes, readers only see events published here.
+         */
+        private final AtomicLong published = new AtomicLong();
+        private long written;
+
+        private ThreadBuffer(Thread thread, int capacity) {
+            this.thread = thread;
+            this.mask = capacity - 1;
+            this.names = new String[capacity];
+            this.times = new long[capacity];
+            this.phases = new byte[capacity];
+        }
+
+        private void add(byte phase, String name, long time) {
+            int slot = (int) (written & mask);
+            names[slot] = name;
+            times[slot] = time;
+            phases[slot] = phase;
+            written++;
+            published.lazySet(written);
+        }
+
+        private void export(JsonWriter json) throws IOException {
+            int capacity = mask + 1;
+            long end = published.get();
+            long start = Math.max(0, end - capacity);
+            int count = (int) (end - start);
+            String[] copiedNames = new String[count];
+            long[] copiedTimes = new long[count];
+            byte[] copiedPhases = new byte[count];
+            for (int i = 0; i < count; ++i) {
+                int slot = (int) ((start + i) & mask);
+                copiedNames[i] = names[slot];
+                copiedTimes[i] = times[slot];
+                copiedPhases[i] = phases[slot];
+            }
+            // Events the owning thread may have overwritten while they were copied can not be trusted
+            long firstValid = Math.max(start, published.get() - capacity + 1);
+
+            long threadId = thread.getId();
+            json.beginObject();
+            json.name("name").value("thread_name");
+            json.name("ph").value("M");
+            json.name("pid").value(PROCESS_ID);
+            json.name("tid").value(threadId);
+            json.name("args").beginObject().name("name").value(thread.getName()).endObject();
+            json.endObject();
+
+            int depth = 0;
+            for (int i = (int) (firstValid - start); i < count; ++i) {
+                if (copiedPhases[i] == END) {
+                    if (depth == 0) {
+                        // The matching begin has been overwritten
+                        continue;
+                    }
+                    depth--;
+                } else {
+                    depth++;
+                }
+                json.beginObject();
+                if (copiedPhases[i] == BEGIN) {
+                    json.name("name").value(copiedNames[i]);
+                    json.name("ph").value("B");
+                } else {
+                    json.name("ph").value("E");
+                }
+                json.name("ts").value((copiedTimes[i] - startTime) / 1000.0);
+                json.name("pid").value(PROCESS_ID);
+                json.name("tid").value(threadId);
+                json.endObject();
+            }
+        }
+    }
+}
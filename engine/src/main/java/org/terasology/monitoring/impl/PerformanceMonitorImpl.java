@@ -15,7 +15,6 @@
  */
 package org.terasology.monitoring.impl;
 
-import com.google.common.collect.Lists;
 import com.google.common.collect.Queues;
 import gnu.trove.map.TObjectDoubleMap;
 import gnu.trove.map.TObjectLongMap;
@@ -29,7 +28,6 @@
 import org.terasology.registry.CoreRegistry;
 
 import java.util.Deque;
-import java.util.List;
 
 /**
  * Active implementation of Performance Monitor
@@ -49,8 +47,8 @@ public class PerformanceMonitorImpl implements PerformanceMonitorInternal {
 
     private final Deque<ActivityInfo> activityStack;
 
-    private final List<TObjectLongMap<String>> executionData;
-    private final List<TObjectLongMap<String>> allocationData;
+    private final Deque<TObjectLongMap<String>> executionData;
+    private final Deque<TObjectLongMap<String>> allocationData;
 
     private TObjectLongMap<String> currentExecutionData;
     private TObjectLongMap<String> currentAllocationData;
@@ -72,8 +70,8 @@ public class PerformanceMonitorImpl implements PerformanceMonitorInternal {
 
     public PerformanceMonitorImpl() {
         activityStack  = Queues.newArrayDeque();
-        executionData  = Lists.newLinkedList();
-        allocationData = Lists.newLinkedList();
+        executionData  = Queues.newArrayDeque();
+        allocationData = Queues.newArrayDeque();
         currentExecutionData = new TObjectLongHashMap<>();
         currentAllocationData = new TObjectLongHashMap<>();
         runningExecutionTotals = new TObjectLongHashMap<>();
@@ -102,18 +100,29 @@ public void rollCycle() {
         currentExecutionData.forEachEntry(updateExecutionTimeTotalAndSpikeData);
         currentAllocationData.forEachEntry(updateAllocatedMemoryTotal);
 
+        // The maps of expired cycles are cleared and reused for the next cycle, rather than allocated every frame
+        TObjectLongMap<String> expiredExecutionData = null;
         while (executionData.size() > RETAINED_CYCLES) {
-            executionData.get(0).forEachEntry(removeExpiredExecutionTimeValueFromTotal);
-            executionData.remove(0);
+            expiredExecutionData = executionData.removeFirst();
+            expiredExecutionData.forEachEntry(removeExpiredExecutionTimeValueFromTotal);
         }
 
+        TObjectLongMap<String> expiredAllocationData = null;
         while (allocationData.size() > RETAINED_CYCLES) {
-            allocationData.get(0).forEachEntry(removeExpiredAllocatedMemoryValueFromTotal);
-            allocationData.remove(0);
+            expiredAllocationData = allocationData.removeFirst();
+            expiredAllocationData.forEachEntry(removeExpiredAllocatedMemoryValueFromTotal);
         }
 
-        currentExecutionData = new TObjectLongHashMap<>();
-        currentAllocationData = new TObjectLongHashMap<>();
+        currentExecutionData = recycle(expiredExecutionData);
+        currentAllocationData = recycle(expiredAllocationData);
+    }
+
+    private static TObjectLongMap<String> recycle(TObjectLongMap<String> expiredData) {
+        if (expiredData == null) {
+            return new TObjectLongHashMap<>();
+        }
+        expiredData.clear();
+        return expiredData;
     }
 
     @Override
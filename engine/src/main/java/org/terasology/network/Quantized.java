@@ -0,0 +1,37 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.network;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a replicated float, or a field of a type serialized as floats such as Vector3f or Quat4f, to be sent over
+ * the network as integer multiples of the given precision instead of full floats.
+ * <br><br>
+ * Changes smaller than the precision are not replicated, so the precision should be well below what is noticeable
+ * on the receiving side.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface Quantized {
+    /**
+     * @return The step the values of the field are rounded to. Powers of two avoid any additional rounding error.
+     */
+    float value();
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.network.internal;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import gnu.trove.map.TIntIntMap;
+import gnu.trove.map.hash.TIntIntHashMap;
+import org.terasology.math.ChunkMath;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.protobuf.NetData;
+import org.terasology.world.biomes.Biome;
+import org.terasology.world.biomes.BiomeManager;
+import org.terasology.world.block.Block;
+import org.terasology.world.block.BlockManager;
+import org.terasology.world.chunks.ChunkConstants;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+/**
+ * Collects the block or biome changes sent to a client during a network tick, grouped by chunk, and encodes the changes
+ * of each chunk as a single {@link NetData.BlockChangeBatchMessage} or {@link NetData.BiomeChangeBatchMessage}. Only
+ * the last change of each block is kept.
+ * <br><br>
+ * Within a batch blocks are identified by their index in the chunk, which runs along x, then z, then y, so that changes
+ * to a horizontal area have small gaps between them. The sorted indices are stored as the gap to the previous one, and
+ * the new block ids are run length encoded over them.
+ * <br><br>
+ * This class is thread safe.
+ *
+ * @param <T> The type of the batch messages
+ */
+class BlockChangeBatcher<T> {
+    private final Map<Vector3i, TIntIntMap> changesByChunk = Maps.newLinkedHashMap();
+    private final Encoder<T> encoder;
+
+    private BlockChangeBatcher(Encoder<T> encoder) {
+        this.encoder = encoder;
+    }
+
+    public static BlockChangeBatcher<NetData.BlockChangeBatchMessage> forBlocks() {
+        return new BlockChangeBatcher<>((chunkPos, blockIndexDeltas, runLengths, values) -> NetData.BlockChangeBatchMessage.newBuilder()
+                .setChunkPos(chunkPos)
+                .addAllBlockIndexDelta(blockIndexDeltas)
+                .addAllRunLength(runLengths)
+                .addAllNewBlock(values)
+                .build());
+    }
+
+    public static BlockChangeBatcher<NetData.BiomeChangeBatchMessage> forBiomes() {
+        return new BlockChangeBatcher<>((chunkPos, blockIndexDeltas, runLengths, values) -> NetData.BiomeChangeBatchMessage.newBuilder()
+                .setChunkPos(chunkPos)
+                .addAllBlockIndexDelta(blockIndexDeltas)
+                .addAllRunLength(runLengths)
+                .addAllNewBiome(values)
+                .build());
+    }
+
+    /**
+     * @param worldPos The world position of the changed block
+     * @param value    The id of the new block or biome
+     */
+    public synchronized void add(Vector3i worldPos, int value) {
+        Vector3i chunkPos = ChunkMath.calcChunkPos(worldPos);
+        TIntIntMap changes = changesByChunk.get(chunkPos);
+        if (changes == null) {
+            changes = new TIntIntHashMap();
+            changesByChunk.put(chunkPos, changes);
+        }
+        changes.put(toIndex(ChunkMath.calcBlockPos(worldPos)), value);
+    }
+
+    public synchronized boolean isEmpty() {
+        return changesByChunk.isEmpty();
+    }
+
+    /**
+     * Encodes the collected changes and forgets them.
+     *
+     * @param chunkFilter        Which chunks to encode the changes of. The changes of other chunks are dropped.
+     * @param maxChangesPerChunk The most changes of a chunk to encode. Chunks with more changes are not encoded.
+     * @param oversizedChunks    Receives the positions of the chunks that had too many changes
+     * @return One batch per chunk with changes, in the order the chunks were first changed in
+     */
+    public synchronized List<T> drain(Predicate<Vector3i> chunkFilter, int maxChangesPerChunk, Collection<Vector3i> oversizedChunks) {
+        List<T> batches = Lists.newArrayListWithCapacity(changesByChunk.size());
+        for (Map.Entry<Vector3i, TIntIntMap> entry : changesByChunk.entrySet()) {
+            if (!chunkFilter.test(entry.getKey())) {
+                continue;
+            }
+            if (entry.getValue().size() > maxChangesPerChunk) {
+                oversizedChunks.add(entry.getKey());
+            } else {
+                batches.add(encode(entry.getKey(), entry.getValue()));
+            }
+        }
+        changesByChunk.clear();
+        return batches;
+    }
+
+    /**
+     * Decodes a batch of block changes.
+     *
+     * @param batch        The batch to decode
+     * @param blockManager The block manager to look up the new blocks with
+     * @return The new block of each changed world position, in ascending index order
+     * @throws IllegalArgumentException if the batch is malformed
+     */
+    public static Map<Vector3i, Block> decode(NetData.BlockChangeBatchMessage batch, BlockManager blockManager) {
+        return decode(batch.getChunkPos(), batch.getBlockIndexDeltaList(), batch.getRunLengthList(), batch.getNewBlockList(),
+                id -> blockManager.getBlock((short) id));
+    }
+
+    /**
+     * Decodes a batch of biome changes.
+     *
+     * @param batch        The batch to decode
+     * @param biomeManager The biome manager to look up the new biomes with
+     * @return The new biome of each changed world position, in ascending index order
+     * @throws IllegalArgumentException if the batch is malformed
+     */
+    public static Map<Vector3i, Biome> decode(NetData.BiomeChangeBatchMessage batch, BiomeManager biomeManager) {
+        return decode(batch.getChunkPos(), batch.getBlockIndexDeltaList(), batch.getRunLengthList(), batch.getNewBiomeList(),
+                id -> biomeManager.getBiomeByShortId((short) id));
+    }
+
+    private static <V> Map<Vector3i, V> decode(NetData.Vector3iData chunkPosData, List<Integer> blockIndexDeltas, List<Integer> runLengths,
+                                               List<Integer> values, IntFunction<V> lookup) {
+        if (runLengths.size() != values.size()) {
+            throw new IllegalArgumentException("Change batch has " + runLengths.size() + " run lengths but " + values.size() + " values");
+        }
+        Vector3i chunkPos = NetMessageUtil.convert(chunkPosData);
+        Vector3i chunkOrigin = new Vector3i(chunkPos.x * ChunkConstants.SIZE_X, chunkPos.y * ChunkConstants.SIZE_Y,
+                chunkPos.z * ChunkConstants.SIZE_Z);
+        Map<Vector3i, V> changes = Maps.newLinkedHashMap();
+        int index = 0;
+        int run = 0;
+        int remainingInRun = 0;
+        for (int i = 0; i < blockIndexDeltas.size(); i++) {
+            int delta = blockIndexDeltas.get(i);
+            index = (i == 0) ? delta : index + delta;
+            if (index < 0 || index >= ChunkConstants.SIZE_X * ChunkConstants.SIZE_Y * ChunkConstants.SIZE_Z || (i > 0 && delta <= 0)) {
+                throw new IllegalArgumentException("Change batch has invalid block index " + index);
+            }
+            while (remainingInRun == 0) {
+                if (run == runLengths.size()) {
+                    throw new IllegalArgumentException("Change batch has fewer values than indices");
+                }
+                remainingInRun = runLengths.get(run++);
+            }
+            remainingInRun--;
+            Vector3i worldPos = fromIndex(index);
+            worldPos.add(chunkOrigin);
+            changes.put(worldPos, lookup.apply(values.get(run - 1)));
+        }
+        return changes;
+    }
+
+    private T encode(Vector3i chunkPos, TIntIntMap changes) {
+        int[] indices = changes.keys();
+        Arrays.sort(indices);
+        List<Integer> blockIndexDeltas = Lists.newArrayListWithCapacity(indices.length);
+        List<Integer> runLengths = Lists.newArrayList();
+        List<Integer> values = Lists.newArrayList();
+        int previousIndex = 0;
+        int runValue = 0;
+        int runLength = 0;
+        for (int index : indices) {
+            blockIndexDeltas.add(index - previousIndex);
+            previousIndex = index;
+            int value = changes.get(index);
+            if (runLength > 0 && value != runValue) {
+                runLengths.add(runLength);
+                values.add(runValue);
+                runLength = 0;
+            }
+            runValue = value;
+            runLength++;
+        }
+        if (runLength > 0) {
+            runLengths.add(runLength);
+            values.add(runValue);
+        }
+        return encoder.encode(NetMessageUtil.convert(chunkPos), blockIndexDeltas, runLengths, values);
+    }
+
+    private static int toIndex(Vector3i blockPos) {
+        return blockPos.x + ChunkConstants.SIZE_X * (blockPos.z + ChunkConstants.SIZE_Z * blockPos.y);
+    }
+
+    private static Vector3i fromIndex(int index) {
+        return new Vector3i(index % ChunkConstants.SIZE_X, index / (ChunkConstants.SIZE_X * ChunkConstants.SIZE_Z),
+                (index / ChunkConstants.SIZE_X) % ChunkConstants.SIZE_Z);
+    }
+
+    /**
+     * Builds the batch message of a chunk's changes.
+     */
+    @FunctionalInterface
+    private interface Encoder<T> {
+        T encode(NetData.Vector3iData chunkPos, List<Integer> blockIndexDeltas, List<Integer> runLengths, List<Integer> values);
+    }
+}
@@ -146,16 +146,8 @@ private void processNewIdentity(NetData.ProvisionIdentity provisionIdentity, Cha
             BigInteger exponent = new BigInteger(certificateSet.getPrivateExponent().toByteArray());
             PrivateIdentityCertificate privateCert = new PrivateIdentityCertificate(publicCert.getModulus(), exponent);
 
-            // Store identity for later use
             identity = new ClientIdentity(publicCert, privateCert);
-            config.getSecurity().addIdentity(serverCertificate, identity);
-            config.save();
-
-            //Try to upload the new identity to the identity storage service (if user is logged in)
-            StorageServiceWorker storageServiceWorker = CoreRegistry.get(StorageServiceWorker.class);
-            if (storageServiceWorker != null && storageServiceWorker.getStatus() == StorageServiceWorkerStatus.LOGGED_IN) {
-                storageServiceWorker.putIdentity(serverCertificate, identity);
-            }
+            storeIdentity(serverCertificate, identity);
 
             // And we're authenticated.
             ctx.getPipeline().remove(this);
@@ -190,7 +182,7 @@ private void processServerHello(NetData.HandshakeHello helloMessage, ChannelHand
 
             clientRandom = new byte[IdentityConstants.SERVER_CLIENT_RANDOM_LENGTH];
 
-            identity = config.getSecurity().getIdentity(serverCertificate);
+            identity = findIdentity(serverCertificate);
             if (identity == null) {
                 requestIdentity(ctx);
             } else {
@@ -205,6 +197,31 @@ private void processServerHello(NetData.HandshakeHello helloMessage, ChannelHand
 
     }
 
+    /**
+     * @param certificate The certificate of the server
+     * @return The identity provisioned by the server earlier, or null to request a new one
+     */
+    protected ClientIdentity findIdentity(PublicIdentityCertificate certificate) {
+        return config.getSecurity().getIdentity(certificate);
+    }
+
+    /**
+     * Stores an identity newly provisioned by the server, for use when connecting to it again.
+     *
+     * @param certificate    The certificate of the server
+     * @param clientIdentity The identity provisioned by the server
+     */
+    protected void storeIdentity(PublicIdentityCertificate certificate, ClientIdentity clientIdentity) {
+        config.getSecurity().addIdentity(certificate, clientIdentity);
+        config.save();
+
+        //Try to upload the new identity to the identity storage service (if user is logged in)
+        StorageServiceWorker storageServiceWorker = CoreRegistry.get(StorageServiceWorker.class);
+        if (storageServiceWorker != null && storageServiceWorker.getStatus() == StorageServiceWorkerStatus.LOGGED_IN) {
+            storageServiceWorker.putIdentity(certificate, clientIdentity);
+        }
+    }
+
     private void sendCertificate(NetData.HandshakeHello helloMessage, ChannelHandlerContext ctx) {
         logger.info("Sending client certificate");
         PublicIdentityCertificate pubClientCert = identity.getPlayerPublicCertificate();
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.network.internal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.protobuf.EntityData;
+import org.terasology.utilities.concurrency.ShutdownTask;
+import org.terasology.utilities.concurrency.Task;
+import org.terasology.utilities.concurrency.TaskMaster;
+import org.terasology.world.chunks.Chunk;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Encodes chunks for sending to clients on a pool of worker threads, and caches the result for each version of a chunk
+ * so that every client that is sent the chunk shares the same encoded message.
+ * <p>
+ * Encodings are dropped once their chunk is unloaded. Beyond that, the least recently used encodings are evicted once
+ * the cache is full.
+ * <p>
+ * All methods must be called from the main thread.
+ */
+public class EncodedChunkCache {
+    private static final Logger logger = LoggerFactory.getLogger(EncodedChunkCache.class);
+
+    static final int DEFAULT_MAXIMUM_SIZE = 4096;
+
+    private static final int NUM_TASK_THREADS = 2;
+
+    private final Map<Vector3i, Entry> entries;
+    private final TaskMaster<Task> encoder = TaskMaster.createFIFOTaskMaster("Chunk-Encoder", NUM_TASK_THREADS);
+
+    public EncodedChunkCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * @param maximumSize The number of encodings to keep at most
+     */
+    EncodedChunkCache(int maximumSize) {
+        this.entries = new LinkedHashMap<Vector3i, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Vector3i, Entry> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Starts encoding the current version of the chunk, unless it is already being encoded or cached.
+     *
+     * @param chunk The chunk to encode
+     */
+    public void request(Chunk chunk) {
+        getEntry(chunk);
+    }
+
+    /**
+     * @param chunk The chunk to get the encoding of
+     * @return The encoding of the current version of the chunk, or null if it is still being encoded. In that case
+     * encoding is started if it wasn't already.
+     */
+    public EntityData.ChunkStore get(Chunk chunk) {
+        Entry entry = getEntry(chunk);
+        if (entry.failed) {
+            entries.remove(chunk.getPosition());
+            return null;
+        }
+        return entry.encoded;
+    }
+
+    /**
+     * Drops the encodings of chunks that have been unloaded.
+     */
+    public void removeDisposedChunks() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().chunk.isDisposed()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void shutdown() {
+        encoder.shutdown(new ShutdownTask(), false);
+        entries.clear();
+    }
+
+    private Entry getEntry(Chunk chunk) {
+        Entry entry = entries.get(chunk.getPosition());
+        int version = chunk.getDataVersion();
+        if (entry == null || entry.chunk != chunk || entry.version != version) {
+            entry = new Entry(chunk, version);
+            entries.put(new Vector3i(chunk.getPosition()), entry);
+            if (!encoder.offer(new EncodeChunkTask(entry, chunk.createEncodingSnapshot()))) {
+                entry.failed = true;
+            }
+        }
+        return entry;
+    }
+
+    private static final class Entry {
+        private final Chunk chunk;
+        private final int version;
+        private volatile EntityData.ChunkStore encoded;
+        private volatile boolean failed;
+
+        private Entry(Chunk chunk, int version) {
+            this.chunk = chunk;
+            this.version = version;
+        }
+    }
+
+    private static final class EncodeChunkTask implements Task {
+        private final Entry entry;
+        private final Supplier<EntityData.ChunkStore.Builder> snapshot;
+
+        private EncodeChunkTask(Entry entry, Supplier<EntityData.ChunkStore.Builder> snapshot) {
+            this.entry = entry;
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public String getName() {
+            return "Encode chunk";
+        }
+
+        @Override
+        public void run() {
+            try {
+                entry.encoded = snapshot.get().build();
+            } catch (RuntimeException e) {
+                logger.error("Failed to encode chunk {}", entry.chunk.getPosition(), e);
+                entry.failed = true;
+            }
+        }
+
+        @Override
+        public boolean isTerminateSignal() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.network.internal;
+
+import com.google.common.collect.Maps;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gnu.trove.set.TIntSet;
+import gnu.trove.set.hash.TIntHashSet;
+import org.terasology.math.geom.Vector3i;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Spatial index of the network entities that are replicated based on relevance, keyed by the chunk they are in.
+ * <p>
+ * Entities that are not in the index have no position (or are not replicated based on relevance), and are relevant
+ * to every client.
+ */
+public class EntityInterestIndex {
+    private static final TIntSet EMPTY = new TIntHashSet(0);
+
+    private final Map<Vector3i, TIntSet> entitiesByChunk = Maps.newHashMap();
+    private final TIntObjectMap<Vector3i> chunkByEntity = new TIntObjectHashMap<>();
+
+    /**
+     * Moves an entity to the given chunk.
+     *
+     * @param netId    The network id of the entity
+     * @param chunkPos The chunk the entity is now in, or null if it no longer has a position
+     * @return Whether the chunk of the entity changed
+     */
+    public boolean update(int netId, Vector3i chunkPos) {
+        Vector3i previous = chunkByEntity.get(netId);
+        if (Objects.equals(previous, chunkPos)) {
+            return false;
+        }
+        if (previous != null) {
+            removeFromChunk(netId, previous);
+        }
+        if (chunkPos != null) {
+            Vector3i pos = new Vector3i(chunkPos);
+            chunkByEntity.put(netId, pos);
+            TIntSet entities = entitiesByChunk.get(pos);
+            if (entities == null) {
+                entities = new TIntHashSet();
+                entitiesByChunk.put(pos, entities);
+            }
+            entities.add(netId);
+        } else {
+            chunkByEntity.remove(netId);
+        }
+        return true;
+    }
+
+    public void remove(int netId) {
+        Vector3i previous = chunkByEntity.remove(netId);
+        if (previous != null) {
+            removeFromChunk(netId, previous);
+        }
+    }
+
+    /**
+     * @param netId The network id of an entity
+     * @return The chunk the entity is in, or null if the entity is not tracked.
+     */
+    public Vector3i getChunk(int netId) {
+        return chunkByEntity.get(netId);
+    }
+
+    /**
+     * @param chunkPos The position of a chunk
+     * @return The network ids of the tracked entities in the chunk. This set must not be modified.
+     */
+    public TIntSet getEntitiesInChunk(Vector3i chunkPos) {
+        TIntSet entities = entitiesByChunk.get(chunkPos);
+        return (entities != null) ? entities : EMPTY;
+    }
+
+    public int size() {
+        return chunkByEntity.size();
+    }
+
+    public void clear() {
+        entitiesByChunk.clear();
+        chunkByEntity.clear();
+    }
+
+    private void removeFromChunk(int netId, Vector3i chunkPos) {
+        TIntSet entities = entitiesByChunk.get(chunkPos);
+        if (entities != null) {
+            entities.remove(netId);
+            if (entities.isEmpty()) {
+                entitiesByChunk.remove(chunkPos);
+            }
+        }
+    }
+}
@@ -17,14 +17,19 @@
 package org.terasology.network.internal;
 
 import com.google.common.base.Objects;
+import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Queues;
 import com.google.common.collect.SetMultimap;
 import com.google.common.collect.Sets;
+import com.google.common.collect.Table;
 
+import gnu.trove.iterator.TIntIntIterator;
 import gnu.trove.iterator.TIntIterator;
+import gnu.trove.map.TIntIntMap;
+import gnu.trove.map.hash.TIntIntHashMap;
 import gnu.trove.set.TIntSet;
 import gnu.trove.set.hash.TIntHashSet;
 
@@ -44,6 +49,7 @@
 import org.terasology.logic.common.DisplayNameComponent;
 import org.terasology.logic.location.LocationComponent;
 import org.terasology.math.ChunkMath;
+import org.terasology.math.Region3i;
 import org.terasology.math.geom.Vector3i;
 import org.terasology.network.Client;
 import org.terasology.network.ClientComponent;
@@ -51,6 +57,7 @@
 import org.terasology.network.NetMetricSource;
 import org.terasology.network.NetworkComponent;
 import org.terasology.network.serialization.ServerComponentFieldCheck;
+import org.terasology.persistence.serializers.ComponentDelta;
 import org.terasology.persistence.serializers.EventSerializer;
 import org.terasology.persistence.serializers.NetworkEntitySerializer;
 import org.terasology.persistence.typeHandling.DeserializationException;
@@ -68,12 +75,15 @@
 import org.terasology.world.block.BlockComponent;
 import org.terasology.world.block.family.BlockFamily;
 import org.terasology.world.chunks.Chunk;
+import org.terasology.world.chunks.ChunkProvider;
 
 import java.math.RoundingMode;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -85,6 +95,19 @@
 public class NetClient extends AbstractClient implements WorldChangeListener {
     private static final Logger logger = LoggerFactory.getLogger(NetClient.class);
     private static final float NET_TICK_RATE = 0.05f;
+    /**
+     * How many net ticks an entity has to stay out of view before it is removed from the client.
+     */
+    private static final int LEAVE_VIEW_DELAY_TICKS = 40;
+    private static final int MAX_CHUNKS_PER_TICK = 8;
+    /**
+     * How many of the nearest ready chunks are looked at per tick while waiting for their encoding to finish.
+     */
+    private static final int CHUNK_SEND_LOOKAHEAD = 16;
+    /**
+     * How many blocks of a chunk may change during a net tick before the whole chunk is sent again instead.
+     */
+    private static final int MAX_BATCHED_BLOCK_CHANGES_PER_CHUNK = 2048;
 
     private Time time;
     private NetworkSystemImpl networkSystem;
@@ -98,6 +121,7 @@ public class NetClient extends AbstractClient implements WorldChangeListener {
     // Relevance
     private Set<Vector3i> relevantChunks = Sets.newHashSet();
     private TIntSet netRelevant = new TIntHashSet();
+    private TIntIntMap leavingView = new TIntIntHashMap();
 
     // Entity replication data
     private TIntSet netInitial = new TIntHashSet();
@@ -106,6 +130,8 @@ public class NetClient extends AbstractClient implements WorldChangeListener {
     private SetMultimap<Integer, Class<? extends Component>> dirtyComponents = LinkedHashMultimap.create();
     private SetMultimap<Integer, Class<? extends Component>> addedComponents = LinkedHashMultimap.create();
     private SetMultimap<Integer, Class<? extends Component>> removedComponents = LinkedHashMultimap.create();
+    // The version of the replication baseline of each component this client has last been sent
+    private Table<Integer, Class<? extends Component>, Integer> receivedVersions = HashBasedTable.create();
 
     private String preferredName = "Player";
     private long lastReceivedTime;
@@ -117,12 +143,14 @@ public class NetClient extends AbstractClient implements WorldChangeListener {
     private PublicIdentityCertificate identity;
 
     // Outgoing messages
-    private BlockingQueue<NetData.BlockChangeMessage> queuedOutgoingBlockChanges = Queues.newLinkedBlockingQueue();
-    private BlockingQueue<NetData.BiomeChangeMessage> queuedOutgoingBiomeChanges = Queues.newLinkedBlockingQueue();
+    private BlockChangeBatcher<NetData.BlockChangeBatchMessage> queuedOutgoingBlockChanges = BlockChangeBatcher.forBlocks();
+    private BlockChangeBatcher<NetData.BiomeChangeBatchMessage> queuedOutgoingBiomeChanges = BlockChangeBatcher.forBiomes();
     private List<NetData.EventMessage> queuedOutgoingEvents = Lists.newArrayList();
     private final List<BlockFamily> newlyRegisteredFamilies = Lists.newArrayList();
 
     private Map<Vector3i, Chunk> readyChunks = Maps.newLinkedHashMap();
+    private Vector3i chunkSendCenter = new Vector3i();
+    private PriorityQueue<Vector3i> chunkSendQueue = new PriorityQueue<>(new ChunkDistanceComparator());
     private Set<Vector3i> invalidatedChunks = Sets.newLinkedHashSet();
 
 
@@ -221,6 +249,7 @@ public void update(boolean netTick) {
             sendRegisteredBlocks(message);
             sendChunkInvalidations(message);
             sendNewChunks(message);
+            updateEntitiesLeavingView();
             sendRemovedEntities(message);
             sendInitialEntities(message);
             sendDirtyEntities(message);
@@ -244,34 +273,58 @@ private void sendRegisteredBlocks(NetData.NetMessage.Builder message) {
         }
     }
 
+    /**
+     * Sends the nearest ready chunks whose encoding has finished, as many as the bandwidth available to the client
+     * allows.
+     */
     private void sendNewChunks(NetData.NetMessage.Builder message) {
         if (!readyChunks.isEmpty()) {
-            chunkSendCounter += chunkSendRate * NET_TICK_RATE * networkSystem.getBandwidthPerClient();
-            if (chunkSendCounter > 1.0f) {
-                chunkSendCounter -= 1.0f;
-                Vector3i center = new Vector3i();
-                LocationComponent loc = getEntity().getComponent(ClientComponent.class).character.getComponent(LocationComponent.class);
-                if (loc != null) {
-                    center.set(ChunkMath.calcChunkPos(new Vector3i(loc.getWorldPosition(), RoundingMode.HALF_UP)));
+            chunkSendCounter = Math.min(chunkSendCounter + chunkSendRate * NET_TICK_RATE * networkSystem.getBandwidthPerClient(), MAX_CHUNKS_PER_TICK);
+            updateChunkSendCenter();
+            EncodedChunkCache encodedChunks = networkSystem.getEncodedChunkCache();
+            List<Vector3i> pending = Lists.newArrayList();
+            while (chunkSendCounter >= 1.0f && pending.size() < CHUNK_SEND_LOOKAHEAD && !chunkSendQueue.isEmpty()) {
+                Vector3i pos = chunkSendQueue.poll();
+                Chunk chunk = readyChunks.get(pos);
+                if (chunk == null) {
+                    // No longer relevant, or already sent
+                    continue;
                 }
-                Vector3i pos = null;
-                int distance = Integer.MAX_VALUE;
-                for (Vector3i chunkPos : readyChunks.keySet()) {
-                    int chunkDistance = chunkPos.distanceSquared(center);
-                    if (pos == null || chunkDistance < distance) {
-                        pos = chunkPos;
-                        distance = chunkDistance;
-                    }
+                EntityData.ChunkStore encoded = encodedChunks.get(chunk);
+                if (encoded == null) {
+                    pending.add(pos);
+                    continue;
                 }
-                Chunk chunk = readyChunks.remove(pos);
+                chunkSendCounter -= 1.0f;
+                readyChunks.remove(pos);
                 relevantChunks.add(pos);
-                message.addChunkInfo(chunk.encode());
+                message.addChunkInfo(encoded);
+                TIntIterator entities = networkSystem.getInterestIndex().getEntitiesInChunk(pos).iterator();
+                while (entities.hasNext()) {
+                    setEntityInView(entities.next());
+                }
             }
+            chunkSendQueue.addAll(pending);
         } else {
             chunkSendCounter = 1.0f;
         }
     }
 
+    /**
+     * Reorders the chunks waiting to be sent if the client's character moved into another chunk.
+     */
+    private void updateChunkSendCenter() {
+        LocationComponent loc = getEntity().getComponent(ClientComponent.class).character.getComponent(LocationComponent.class);
+        if (loc != null) {
+            Vector3i center = ChunkMath.calcChunkPos(new Vector3i(loc.getWorldPosition(), RoundingMode.HALF_UP));
+            if (!center.equals(chunkSendCenter)) {
+                chunkSendCenter.set(center);
+                chunkSendQueue.clear();
+                chunkSendQueue.addAll(readyChunks.keySet());
+            }
+        }
+    }
+
     private void sendChunkInvalidations(NetData.NetMessage.Builder message) {
         Iterator<Vector3i> i = invalidatedChunks.iterator();
         while (i.hasNext()) {
@@ -279,23 +332,106 @@ private void sendChunkInvalidations(NetData.NetMessage.Builder message) {
             i.remove();
             relevantChunks.remove(pos);
             message.addInvalidateChunk(NetData.InvalidateChunkMessage.newBuilder().setPos(NetMessageUtil.convert(pos)));
+            TIntIterator entities = networkSystem.getInterestIndex().getEntitiesInChunk(pos).iterator();
+            while (entities.hasNext()) {
+                setEntityOutOfView(entities.next());
+            }
         }
         invalidatedChunks.clear();
     }
 
+    /**
+     * Removes the entities that have been out of view for long enough. An entity that is out of view but still next to
+     * a chunk the client has is kept until it moves further away, so entities near the edge of the client's view do
+     * not repeatedly get removed and recreated.
+     */
+    private void updateEntitiesLeavingView() {
+        EntityInterestIndex interestIndex = networkSystem.getInterestIndex();
+        TIntIntIterator iterator = leavingView.iterator();
+        while (iterator.hasNext()) {
+            iterator.advance();
+            int netId = iterator.key();
+            Vector3i chunkPos = interestIndex.getChunk(netId);
+            if (chunkPos == null || relevantChunks.contains(chunkPos)) {
+                iterator.remove();
+            } else if (!isNearRelevantChunk(chunkPos)) {
+                int ticksLeft = iterator.value() - 1;
+                if (ticksLeft > 0) {
+                    iterator.setValue(ticksLeft);
+                } else {
+                    iterator.remove();
+                    if (networkSystem.getOwner(networkSystem.getEntity(netId)) != this) {
+                        setNetRemoved(netId);
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean isNearRelevantChunk(Vector3i chunkPos) {
+        for (Vector3i pos : Region3i.createFromCenterExtents(chunkPos, 1)) {
+            if (relevantChunks.contains(pos)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param chunkPos The position of a chunk
+     * @return Whether the chunk has been sent to this client
+     */
+    public boolean isChunkRelevant(Vector3i chunkPos) {
+        return relevantChunks.contains(chunkPos);
+    }
+
+    /**
+     * Makes an entity visible to this client, if it isn't already.
+     *
+     * @param netId The network id of the entity
+     */
+    public void setEntityInView(int netId) {
+        leavingView.remove(netId);
+        if (!netRelevant.contains(netId) && !netInitial.contains(netId)) {
+            netInitial.add(netId);
+        }
+    }
+
+    /**
+     * Marks an entity as having left the view of this client. It is removed from the client if it stays out of view
+     * for a while.
+     *
+     * @param netId The network id of the entity
+     */
+    public void setEntityOutOfView(int netId) {
+        if ((netRelevant.contains(netId) || netInitial.contains(netId)) && !leavingView.containsKey(netId)) {
+            leavingView.put(netId, LEAVE_VIEW_DELAY_TICKS);
+        }
+    }
+
     public void setNetInitial(int netId) {
         netInitial.add(netId);
     }
 
     public void setNetRemoved(int netId) {
-        if (!netInitial.remove(netId)) {
+        if (!netInitial.remove(netId) && netRelevant.contains(netId)) {
             netRemoved.add(netId);
         }
+        leavingView.remove(netId);
         dirtyComponents.keySet().remove(netId);
         addedComponents.keySet().remove(netId);
         removedComponents.keySet().remove(netId);
         netDirty.remove(netId);
         netRelevant.remove(netId);
+        receivedVersions.row(netId).clear();
+    }
+
+    /**
+     * Makes the next update of each component of the entity contain all of its fields, e.g. after the ownership of
+     * the entity has changed and different fields are replicated to this client.
+     */
+    public void resetReceivedVersions(int netId) {
+        receivedVersions.row(netId).clear();
     }
 
     public void setComponentAdded(int networkId, Class<? extends Component> component) {
@@ -381,7 +517,9 @@ void send(NetData.NetMessage data) {
     @Override
     public void onChunkRelevant(Vector3i pos, Chunk chunk) {
         invalidatedChunks.remove(pos);
-        readyChunks.put(pos, chunk);
+        if (readyChunks.put(pos, chunk) == null) {
+            chunkSendQueue.add(pos);
+        }
     }
 
     @Override
@@ -394,10 +532,7 @@ public void onChunkIrrelevant(Vector3i pos) {
     public void onBlockChanged(Vector3i pos, Block newBlock, Block originalBlock) {
         Vector3i chunkPos = ChunkMath.calcChunkPos(pos);
         if (relevantChunks.contains(chunkPos)) {
-            queuedOutgoingBlockChanges.add(NetData.BlockChangeMessage.newBuilder()
-                    .setPos(NetMessageUtil.convert(pos))
-                    .setNewBlock(newBlock.getId())
-                    .build());
+            queuedOutgoingBlockChanges.add(pos, newBlock.getId());
         }
     }
 
@@ -405,10 +540,7 @@ public void onBlockChanged(Vector3i pos, Block newBlock, Block originalBlock) {
     public void onBiomeChanged(Vector3i pos, Biome newBiome, Biome originalBiome) {
         Vector3i chunkPos = ChunkMath.calcChunkPos(pos);
         if (relevantChunks.contains(chunkPos)) {
-            queuedOutgoingBiomeChanges.add(NetData.BiomeChangeMessage.newBuilder()
-                    .setPos(NetMessageUtil.convert(pos))
-                    .setNewBiome(biomeManager.getBiomeShortId(newBiome))
-                    .build());
+            queuedOutgoingBiomeChanges.add(pos, biomeManager.getBiomeShortId(newBiome));
         }
     }
 
@@ -426,18 +558,37 @@ private void processReceivedMessages() {
     }
 
     private void sendEvents(NetData.NetMessage.Builder message) {
-        List<NetData.BlockChangeMessage> blockChanges = Lists.newArrayListWithExpectedSize(queuedOutgoingBlockChanges.size());
-        queuedOutgoingBlockChanges.drainTo(blockChanges);
-        message.addAllBlockChange(blockChanges);
-
-        List<NetData.BiomeChangeMessage> biomeChanges = Lists.newArrayListWithExpectedSize(queuedOutgoingBiomeChanges.size());
-        queuedOutgoingBiomeChanges.drainTo(biomeChanges);
-        message.addAllBiomeChange(biomeChanges);
+        sendBlockChanges(message);
 
         message.addAllEvent(queuedOutgoingEvents);
         queuedOutgoingEvents.clear();
     }
 
+    /**
+     * Sends the block and biome changes of each chunk the client has as one batch each. Chunks with a lot of changes
+     * are sent again as a whole, and changes to chunks that are about to be sent are dropped, as the chunk will include
+     * them.
+     */
+    private void sendBlockChanges(NetData.NetMessage.Builder message) {
+        if (queuedOutgoingBlockChanges.isEmpty() && queuedOutgoingBiomeChanges.isEmpty()) {
+            return;
+        }
+        Set<Vector3i> oversizedChunks = Sets.newLinkedHashSet();
+        message.addAllBlockChangeBatch(queuedOutgoingBlockChanges.drain(pos -> relevantChunks.contains(pos) && !readyChunks.containsKey(pos),
+                MAX_BATCHED_BLOCK_CHANGES_PER_CHUNK, oversizedChunks));
+        message.addAllBiomeChangeBatch(queuedOutgoingBiomeChanges.drain(pos -> relevantChunks.contains(pos) && !readyChunks.containsKey(pos),
+                MAX_BATCHED_BLOCK_CHANGES_PER_CHUNK, oversizedChunks));
+        if (!oversizedChunks.isEmpty()) {
+            ChunkProvider chunkProvider = CoreRegistry.get(ChunkProvider.class);
+            for (Vector3i pos : oversizedChunks) {
+                Chunk chunk = chunkProvider.getChunk(pos);
+                if (chunk != null) {
+                    onChunkRelevant(pos, chunk);
+                }
+            }
+        }
+    }
+
     private void processEntityUpdates(NetData.NetMessage message) {
         for (NetData.UpdateEntityMessage updateMessage : message.getUpdateEntityList()) {
 
@@ -457,7 +608,22 @@ private void sendDirtyEntities(NetData.NetMessage.Builder message) {
                 logger.error("Sending non-existent entity update for netId {}", netId);
             }
             boolean isOwner = networkSystem.getOwner(entity) == this;
-            EntityData.PackedEntity entityData = entitySerializer.serialize(entity, addedComponents.get(netId), dirtyComponents.get(netId), removedComponents.get(netId),
+            List<ComponentDelta> changed = Lists.newArrayList();
+            for (Class<? extends Component> componentType : dirtyComponents.get(netId)) {
+                Component component = entity.getComponent(componentType);
+                if (component != null) {
+                    changed.add(getDeltaSinceReceived(netId, component, isOwner));
+                } else {
+                    logger.error("Non-existent component marked as changed: {}", componentType);
+                }
+            }
+            for (Class<? extends Component> componentType : addedComponents.get(netId)) {
+                receivedVersions.remove(netId, componentType);
+            }
+            for (Class<? extends Component> componentType : removedComponents.get(netId)) {
+                receivedVersions.remove(netId, componentType);
+            }
+            EntityData.PackedEntity entityData = entitySerializer.serialize(entity, addedComponents.get(netId), changed, removedComponents.get(netId),
                     new ServerComponentFieldCheck(isOwner, false));
             if (entityData != null) {
                 message.addUpdateEntity(NetData.UpdateEntityMessage.newBuilder().setEntity(entityData).setNetId(netId));
@@ -469,6 +635,15 @@ private void sendDirtyEntities(NetData.NetMessage.Builder message) {
         dirtyComponents.clear();
     }
 
+    private ComponentDelta getDeltaSinceReceived(int netId, Component component, boolean isOwner) {
+        ReplicationBaselines.ComponentBaseline baseline = networkSystem.getReplicationBaselines().getBaseline(netId, component);
+        Integer receivedVersion = receivedVersions.get(netId, component.getClass());
+        int fromVersion = receivedVersion != null ? receivedVersion : ReplicationBaselines.NO_VERSION;
+        ComponentDelta delta = baseline.getDelta(fromVersion, isOwner);
+        receivedVersions.put(netId, component.getClass(), baseline.getSentVersion(fromVersion, isOwner));
+        return delta;
+    }
+
     private void sendRemovedEntities(NetData.NetMessage.Builder message) {
         TIntIterator initialIterator = netRemoved.iterator();
         while (initialIterator.hasNext()) {
@@ -483,6 +658,7 @@ private void sendInitialEntities(NetData.NetMessage.Builder message) {
         Arrays.sort(initial);
         for (int netId : initial) {
             netRelevant.add(netId);
+            receivedVersions.row(netId).clear();
             EntityRef entity = networkSystem.getEntity(netId);
             if (!entity.hasComponent(NetworkComponent.class)) {
                 logger.error("Sending net entity with no network component: {} - {}", netId, entity);
@@ -561,4 +737,14 @@ public void blockFamilyRegistered(BlockFamily family) {
             newlyRegisteredFamilies.add(family);
         }
     }
+
+    /**
+     * Orders chunk positions by their distance to the chunk the client's character is in.
+     */
+    private class ChunkDistanceComparator implements Comparator<Vector3i> {
+        @Override
+        public int compare(Vector3i o1, Vector3i o2) {
+            return Integer.compare(o1.distanceSquared(chunkSendCenter), o2.distanceSquared(chunkSendCenter));
+        }
+    }
 }
@@ -57,6 +57,10 @@
 import org.terasology.entitySystem.metadata.ComponentMetadata;
 import org.terasology.entitySystem.metadata.EventLibrary;
 import org.terasology.entitySystem.metadata.EventMetadata;
+import org.terasology.logic.location.LocationComponent;
+import org.terasology.math.ChunkMath;
+import org.terasology.math.geom.Vector3f;
+import org.terasology.math.geom.Vector3i;
 import org.terasology.module.Module;
 import org.terasology.monitoring.PerformanceMonitor;
 import org.terasology.network.Client;
@@ -87,6 +91,7 @@
 import org.terasology.world.WorldProvider;
 import org.terasology.world.biomes.Biome;
 import org.terasology.world.biomes.BiomeManager;
+import org.terasology.world.block.BlockComponent;
 import org.terasology.world.block.BlockManager;
 import org.terasology.world.block.family.BlockFamily;
 import org.terasology.world.chunks.remoteChunkProvider.RemoteChunkProvider;
@@ -149,6 +154,9 @@ public class NetworkSystemImpl implements EntityChangeSubscriber, NetworkSystem
     private Map<EntityRef, Client> clientPlayerLookup = Maps.newHashMap();
     private Map<EntityRef, EntityRef> ownerLookup = Maps.newHashMap();
     private SetMultimap<EntityRef, EntityRef> ownedLookup = HashMultimap.create();
+    private EntityInterestIndex interestIndex = new EntityInterestIndex();
+    private EncodedChunkCache encodedChunkCache;
+    private ReplicationBaselines replicationBaselines;
     private StorageManager storageManager;
 
     // Client only
@@ -168,6 +176,7 @@ public void host(int port, boolean dedicatedServer) throws HostingFailedExceptio
                     hibernationSettings.get().setHibernationAllowed(false);
                 }
                 mode = dedicatedServer ? NetworkMode.DEDICATED_SERVER : NetworkMode.LISTEN_SERVER;
+                encodedChunkCache = new EncodedChunkCache();
                 for (EntityRef entity : entityManager.getEntitiesWith(NetworkComponent.class)) {
                     registerNetworkEntity(entity);
                 }
@@ -266,6 +275,12 @@ public void shutdown() {
         server = null;
         nextNetId = 1;
         netIdToEntityId.clear();
+        interestIndex.clear();
+        replicationBaselines = null;
+        if (encodedChunkCache != null) {
+            encodedChunkCache.shutdown();
+            encodedChunkCache = null;
+        }
         if (mode != NetworkMode.CLIENT) {
             if (this.entityManager != null) {
                 for (EntityRef entity : entityManager.getEntitiesWith(NetworkComponent.class)) {
@@ -314,6 +329,12 @@ public void update() {
                     nextNetworkTick += NET_TICK_RATE;
                     netTick = true;
                 }
+                if (netTick && encodedChunkCache != null) {
+                    encodedChunkCache.removeDisposedChunks();
+                }
+                if (netTick && replicationBaselines != null) {
+                    replicationBaselines.tick();
+                }
                 PerformanceMonitor.startActivity("Client update");
                 for (Client client : clientList) {
                     client.update(netTick);
@@ -425,9 +446,17 @@ public void registerNetworkEntity(EntityRef entity) {
                         clientPlayer.setNetInitial(netComponent.getNetworkId());
                     }
                     break;
+                case RELEVANT:
+                    interestIndex.update(netComponent.getNetworkId(), calcChunkPos(entity));
+                    NetClient owningClient = getNetOwner(entity);
+                    for (NetClient client : netClientList) {
+                        if (client == owningClient || isInView(client, netComponent.getNetworkId())) {
+                            client.setNetInitial(netComponent.getNetworkId());
+                        }
+                    }
+                    break;
                 default:
                     for (NetClient client : netClientList) {
-                        // TODO: Relevance Check
                         client.setNetInitial(netComponent.getNetworkId());
                     }
                     break;
@@ -459,8 +488,12 @@ public void updateOwnership(EntityRef entity) {
 
             if (!Objects.equal(lastOwner, newOwner)) {
                 recursiveUpdateOwnership(entity, lastOwner, newOwner);
+                if (lastOwner != null) {
+                    lastOwner.resetReceivedVersions(netComponent.getNetworkId());
+                }
                 if (newOwner != null) {
                     int id = netComponent.getNetworkId();
+                    newOwner.resetReceivedVersions(id);
                     for (Component component : entity.iterateComponents()) {
                         if (componentLibrary.getMetadata(component.getClass()).isReplicated()) {
                             newOwner.setComponentDirty(id, component.getClass());
@@ -494,6 +527,14 @@ private void recursiveUpdateOwnership(EntityRef entity, NetClient lastOwner, Net
                 if (newOwner != null) {
                     newOwner.setNetInitial(networkComponent.getNetworkId());
                 }
+            } else if (networkComponent.replicateMode == NetworkComponent.ReplicateMode.RELEVANT) {
+                // Owners can always see their entities, other clients only while they are in view
+                if (newOwner != null) {
+                    newOwner.setEntityInView(networkComponent.getNetworkId());
+                }
+                if (lastOwner != null && !isInView(lastOwner, networkComponent.getNetworkId())) {
+                    lastOwner.setEntityOutOfView(networkComponent.getNetworkId());
+                }
             }
             for (EntityRef owned : ownedLookup.get(entity)) {
                 recursiveUpdateOwnership(owned, lastOwner, newOwner);
@@ -505,13 +546,19 @@ public void unregisterClientNetworkEntity(int netId) {
         netIdToEntityId.remove(netId);
     }
 
+    ReplicationBaselines getReplicationBaselines() {
+        return replicationBaselines;
+    }
+
     public void unregisterNetworkEntity(EntityRef entity) {
         if (mode != NetworkMode.CLIENT) {
             NetworkComponent netComponent = entity.getComponent(NetworkComponent.class);
             if (netComponent != null) {
                 logger.debug("Unregistering network entity: {} with netId {}", entity, netComponent.getNetworkId());
                 netIdToEntityId.remove(netComponent.getNetworkId());
+                interestIndex.remove(netComponent.getNetworkId());
                 if (mode.isServer()) {
+                    replicationBaselines.remove(netComponent.getNetworkId());
                     for (NetClient client : netClientList) {
                         client.setNetRemoved(netComponent.getNetworkId());
                     }
@@ -546,6 +593,7 @@ public void connectToEntitySystem(EngineEntityManager newEntityManager, EventLib
         eventSerializer = new EventSerializer(eventLibrary, typeSerializationLibrary);
         entitySerializer = new NetworkEntitySerializer(newEntityManager, entityManager.getComponentLibrary(), typeSerializationLibrary);
         entitySerializer.setComponentSerializeCheck(new NetComponentSerializeCheck());
+        replicationBaselines = new ReplicationBaselines(entitySerializer);
 
         if (mode == NetworkMode.CLIENT) {
             entityManager.setEntityRefStrategy(new NetworkClientRefStrategy(this));
@@ -569,6 +617,9 @@ public void onEntityComponentAdded(EntityRef entity, Class<? extends Component>
                         client.setComponentAdded(netComp.getNetworkId(), component);
                     }
                 }
+                if (isPositionComponent(component)) {
+                    updateInterest(entity);
+                }
             }
         }
         updatedOwnedEntities(entity, component, metadata);
@@ -581,11 +632,15 @@ public void onEntityComponentRemoved(EntityRef entity, Class<? extends Component
         if (netComp != null && netComp.getNetworkId() != NULL_NET_ID) {
             if (mode.isServer()) {
                 if (metadata.isReplicated()) {
+                    replicationBaselines.remove(netComp.getNetworkId(), component);
                     for (NetClient client : netClientList) {
                         logger.info("Component {} removed from {}", component, entity);
                         client.setComponentRemoved(netComp.getNetworkId(), component);
                     }
                 }
+                if (isPositionComponent(component)) {
+                    updateInterest(entity);
+                }
             }
         }
         if (mode.isAuthority() && metadata.isReferenceOwner()) {
@@ -611,6 +666,9 @@ public void onEntityComponentChange(EntityRef entity, Class<? extends Component>
             switch (mode) {
                 case LISTEN_SERVER:
                 case DEDICATED_SERVER:
+                    if (isPositionComponent(component)) {
+                        updateInterest(entity);
+                    }
                     if (metadata.isReplicated()) {
                         for (NetClient client : netClientList) {
                             client.setComponentDirty(netComp.getNetworkId(), component);
@@ -629,6 +687,70 @@ public void onEntityComponentChange(EntityRef entity, Class<? extends Component>
         updatedOwnedEntities(entity, component, metadata);
     }
 
+    private boolean isPositionComponent(Class<? extends Component> component) {
+        return component == LocationComponent.class || component == BlockComponent.class;
+    }
+
+    /**
+     * Updates which clients can see the given entity after it moved, along with any entities attached to it.
+     *
+     * @param entity The entity that moved
+     */
+    private void updateInterest(EntityRef entity) {
+        NetworkComponent netComp = entity.getComponent(NetworkComponent.class);
+        if (netComp != null && netComp.getNetworkId() != NULL_NET_ID && netComp.replicateMode == NetworkComponent.ReplicateMode.RELEVANT) {
+            int netId = netComp.getNetworkId();
+            if (interestIndex.update(netId, calcChunkPos(entity))) {
+                NetClient owningClient = getNetOwner(entity);
+                for (NetClient client : netClientList) {
+                    if (isInView(client, netId)) {
+                        client.setEntityInView(netId);
+                    } else if (client != owningClient) {
+                        client.setEntityOutOfView(netId);
+                    }
+                }
+            }
+        }
+        LocationComponent location = entity.getComponent(LocationComponent.class);
+        if (location != null) {
+            for (EntityRef child : location.getChildren()) {
+                updateInterest(child);
+            }
+        }
+    }
+
+    private boolean isInView(NetClient client, int netId) {
+        Vector3i chunkPos = interestIndex.getChunk(netId);
+        return chunkPos == null || client.isChunkRelevant(chunkPos);
+    }
+
+    /**
+     * @param entity An entity
+     * @return The chunk the entity is in, or null if it has no position.
+     */
+    private Vector3i calcChunkPos(EntityRef entity) {
+        BlockComponent blockComp = entity.getComponent(BlockComponent.class);
+        if (blockComp != null) {
+            return ChunkMath.calcChunkPos(blockComp.getPosition());
+        }
+        LocationComponent location = entity.getComponent(LocationComponent.class);
+        if (location != null) {
+            Vector3f worldPos = location.getWorldPosition();
+            if (Float.isFinite(worldPos.x) && Float.isFinite(worldPos.y) && Float.isFinite(worldPos.z)) {
+                return ChunkMath.calcChunkPos(worldPos);
+            }
+        }
+        return null;
+    }
+
+    EntityInterestIndex getInterestIndex() {
+        return interestIndex;
+    }
+
+    EncodedChunkCache getEncodedChunkCache() {
+        return encodedChunkCache;
+    }
+
     private void updatedOwnedEntities(EntityRef entity, Class<? extends Component> component, ComponentMetadata<? extends Component> metadata) {
         if (mode.isAuthority() && metadata.isReferenceOwner()) {
             for (EntityRef ownedEntity : ownershipHelper.listOwnedEntities(entity.getComponent(component))) {
@@ -817,8 +939,13 @@ private void processNewClient(NetClient client) {
                             client.setNetInitial(netComp.getNetworkId());
                         }
                         break;
+                    case RELEVANT:
+                        // Entities in chunks that have not been sent yet are added as their chunks are sent
+                        if (client.equals(getOwner(netEntity)) || isInView(client, netComp.getNetworkId())) {
+                            client.setNetInitial(netComp.getNetworkId());
+                        }
+                        break;
                     default:
-                        // TODO: Relevance Check
                         client.setNetInitial(netComp.getNetworkId());
                         break;
                 }
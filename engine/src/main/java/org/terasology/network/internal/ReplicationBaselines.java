@@ -0,0 +1,244 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.network.internal;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import gnu.trove.list.array.TByteArrayList;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import org.terasology.entitySystem.Component;
+import org.terasology.entitySystem.metadata.ComponentLibrary;
+import org.terasology.entitySystem.metadata.ComponentMetadata;
+import org.terasology.entitySystem.metadata.ReplicatedFieldMetadata;
+import org.terasology.network.ReplicationCheck;
+import org.terasology.network.serialization.ServerComponentFieldCheck;
+import org.terasology.persistence.serializers.ComponentDelta;
+import org.terasology.persistence.serializers.NetworkEntitySerializer;
+import org.terasology.protobuf.EntityData;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds the last replicated state of the components of network entities, shared by all clients of a server.
+ * <br><br>
+ * The replicated fields of a component are serialized at most once per network tick, no matter how many clients
+ * receive it. Each field remembers the version in which its serialized value last changed. Versions are drawn from
+ * a single counter, so a version never repeats even when a component is removed and added again.
+ * <br><br>
+ * A client that has received a component up to some version only needs the fields that changed after that version.
+ * Since the connection to a client is reliable and ordered, every update sent counts as acknowledged. The deltas are
+ * cached, so all clients that have the same version of a component and the same ownership of its entity share one
+ * serialized delta.
+ * <br><br>
+ * Components with a {@link ReplicationCheck} may hold back changed fields depending on their current state. A client
+ * is then only considered up to date until the first change held back, so that it is sent once the check lets it pass.
+ * Their deltas are only shared within a tick, as the state of the check may change without any replicated field
+ * changing.
+ */
+class ReplicationBaselines {
+    /**
+     * The version of a component that a client has not received any update for yet.
+     */
+    static final int NO_VERSION = 0;
+
+    private static final ServerComponentFieldCheck OWNER_CHECK = new ServerComponentFieldCheck(true, false);
+    private static final ServerComponentFieldCheck NON_OWNER_CHECK = new ServerComponentFieldCheck(false, false);
+
+    private final NetworkEntitySerializer entitySerializer;
+    private final ComponentLibrary componentLibrary;
+    private final TIntObjectMap<Map<Class<? extends Component>, ComponentBaseline>> baselines = new TIntObjectHashMap<>();
+    private final Map<Class<? extends Component>, ReplicatedFieldMetadata<?, ?>[]> updatedFields = Maps.newHashMap();
+
+    private int lastVersion = NO_VERSION;
+    private long tick;
+
+    ReplicationBaselines(NetworkEntitySerializer entitySerializer) {
+        this.entitySerializer = entitySerializer;
+        this.componentLibrary = entitySerializer.getComponentLibrary();
+    }
+
+    /**
+     * Starts a new network tick, after which baselines are brought up to date again when requested.
+     */
+    void tick() {
+        tick++;
+    }
+
+    /**
+     * @param netId     The network id of the entity owning the component
+     * @param component The current state of the component
+     * @return The baseline of the component, brought up to date with the component if it hasn't been this tick
+     */
+    ComponentBaseline getBaseline(int netId, Component component) {
+        Map<Class<? extends Component>, ComponentBaseline> entityBaselines = baselines.get(netId);
+        if (entityBaselines == null) {
+            entityBaselines = Maps.newHashMap();
+            baselines.put(netId, entityBaselines);
+        }
+        ComponentBaseline baseline = entityBaselines.get(component.getClass());
+        if (baseline == null) {
+            baseline = new ComponentBaseline(getUpdatedFields(component.getClass()), component instanceof ReplicationCheck);
+            entityBaselines.put(component.getClass(), baseline);
+        }
+        baseline.update(component);
+        return baseline;
+    }
+
+    void remove(int netId) {
+        baselines.remove(netId);
+    }
+
+    void remove(int netId, Class<? extends Component> componentType) {
+        Map<Class<? extends Component>, ComponentBaseline> entityBaselines = baselines.get(netId);
+        if (entityBaselines != null) {
+            entityBaselines.remove(componentType);
+        }
+    }
+
+    /**
+     * Fields that are not replicated, or only replicated when a component is first sent, are never part of an update
+     * and are not tracked.
+     */
+    private ReplicatedFieldMetadata<?, ?>[] getUpdatedFields(Class<? extends Component> componentType) {
+        ReplicatedFieldMetadata<?, ?>[] fields = updatedFields.get(componentType);
+        if (fields == null) {
+            ComponentMetadata<?> metadata = componentLibrary.getMetadata(componentType);
+            List<ReplicatedFieldMetadata<?, ?>> fieldList = Lists.newArrayList();
+            for (ReplicatedFieldMetadata<?, ?> field : metadata.getFields()) {
+                if (field.isReplicated() && (field.getReplicationInfo() == null || !field.getReplicationInfo().initialOnly())) {
+                    fieldList.add(field);
+                }
+            }
+            fields = fieldList.toArray(new ReplicatedFieldMetadata<?, ?>[fieldList.size()]);
+            updatedFields.put(componentType, fields);
+        }
+        return fields;
+    }
+
+    /**
+     * The replicated state of a single component of a network entity.
+     */
+    final class ComponentBaseline {
+        private final ReplicatedFieldMetadata<?, ?>[] fields;
+        private final EntityData.Value[] values;
+        private final int[] changedInVersion;
+        private final boolean replicationChecked;
+        private Component component;
+        private int version = NO_VERSION;
+        private long updatedTick = -1;
+
+        private final TIntObjectMap<SentDelta> ownerDeltas = new TIntObjectHashMap<>();
+        private final TIntObjectMap<SentDelta> nonOwnerDeltas = new TIntObjectHashMap<>();
+
+        private ComponentBaseline(ReplicatedFieldMetadata<?, ?>[] fields, boolean replicationChecked) {
+            this.fields = fields;
+            this.replicationChecked = replicationChecked;
+            this.values = new EntityData.Value[fields.length];
+            this.changedInVersion = new int[fields.length];
+        }
+
+        private void update(Component newComponent) {
+            if (updatedTick == tick && component == newComponent) {
+                return;
+            }
+            updatedTick = tick;
+            component = newComponent;
+            if (replicationChecked) {
+                ownerDeltas.clear();
+                nonOwnerDeltas.clear();
+            }
+            EntityData.Value[] newValues = entitySerializer.serializeFieldValues(newComponent, fields);
+            int newVersion = NO_VERSION;
+            for (int i = 0; i < fields.length; ++i) {
+                if (!newValues[i].equals(values[i])) {
+                    if (newVersion == NO_VERSION) {
+                        newVersion = ++lastVersion;
+                    }
+                    values[i] = newValues[i];
+                    changedInVersion[i] = newVersion;
+                }
+            }
+            if (newVersion != NO_VERSION) {
+                version = newVersion;
+                ownerDeltas.clear();
+                nonOwnerDeltas.clear();
+            }
+        }
+
+        /**
+         * @return The version of the last change to the component, never {@link #NO_VERSION} once it has fields.
+         */
+        int getVersion() {
+            return version;
+        }
+
+        /**
+         * @param fromVersion The version of the component the client has, or {@link #NO_VERSION}
+         * @param owned       Whether the client owns the entity of the component
+         * @return The fields the client needs to be brought up to the current version
+         */
+        ComponentDelta getDelta(int fromVersion, boolean owned) {
+            return getSentDelta(fromVersion, owned).delta;
+        }
+
+        /**
+         * @param fromVersion The version of the component the client has, or {@link #NO_VERSION}
+         * @param owned       Whether the client owns the entity of the component
+         * @return The version the client has once sent {@link #getDelta(int, boolean)}. This is older than the version
+         * of the component if a {@link ReplicationCheck} held back changed fields.
+         */
+        int getSentVersion(int fromVersion, boolean owned) {
+            return getSentDelta(fromVersion, owned).version;
+        }
+
+        private SentDelta getSentDelta(int fromVersion, boolean owned) {
+            TIntObjectMap<SentDelta> deltas = owned ? ownerDeltas : nonOwnerDeltas;
+            SentDelta sentDelta = deltas.get(fromVersion);
+            if (sentDelta == null) {
+                ServerComponentFieldCheck fieldCheck = owned ? OWNER_CHECK : NON_OWNER_CHECK;
+                TByteArrayList fieldIds = new TByteArrayList();
+                List<EntityData.Value> fieldValues = Lists.newArrayList();
+                int sentVersion = version;
+                for (int i = 0; i < fields.length; ++i) {
+                    if (changedInVersion[i] <= fromVersion || !fieldCheck.isReplicatedField(fields[i], false)) {
+                        continue;
+                    }
+                    if (replicationChecked && !((ReplicationCheck) component).shouldReplicate(fields[i], false, owned)) {
+                        sentVersion = Math.min(sentVersion, changedInVersion[i] - 1);
+                        continue;
+                    }
+                    fieldIds.add(fields[i].getId());
+                    fieldValues.add(values[i]);
+                }
+                sentDelta = new SentDelta(new ComponentDelta(component.getClass(), fieldIds.toArray(), fieldValues), sentVersion);
+                deltas.put(fromVersion, sentDelta);
+            }
+            return sentDelta;
+        }
+    }
+
+    private static final class SentDelta {
+        private final ComponentDelta delta;
+        private final int version;
+
+        private SentDelta(ComponentDelta delta, int version) {
+            this.delta = delta;
+            this.version = version;
+        }
+    }
+}
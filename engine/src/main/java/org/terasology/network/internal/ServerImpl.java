@@ -16,9 +16,7 @@
 
 package org.terasology.network.internal;
 
-import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.HashMultimap;
-import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Queues;
@@ -98,8 +96,14 @@ public class ServerImpl implements Server {
     private BlockingQueue<Chunk> chunkQueue = Queues.newLinkedBlockingQueue();
     private TIntSet netDirty = new TIntHashSet();
     private SetMultimap<Integer, Class<? extends Component>> changedComponents = HashMultimap.create();
-    private ListMultimap<Vector3i, NetData.BlockChangeMessage> awaitingChunkReadyBlockUpdates = ArrayListMultimap.create();
-    private ListMultimap<Vector3i, NetData.BiomeChangeMessage> awaitingChunkReadyBiomeUpdates = ArrayListMultimap.create();
+    private Map<Vector3i, Map<Vector3i, Block>> awaitingChunkReadyBlockUpdates = Maps.newHashMap();
+    private Map<Vector3i, Map<Vector3i, Biome>> awaitingChunkReadyBiomeUpdates = Maps.newHashMap();
+    /*
+     * The latest copy received of each chunk that is not ready yet. While a chunk that is loaded already is sent again,
+     * changes to it are held back for the new copy, as they would otherwise be applied to the old copy and lost when
+     * it is replaced.
+     */
+    private Map<Vector3i, Chunk> pendingChunks = Maps.newHashMap();
 
     private EngineTime time;
 
@@ -294,47 +298,112 @@ private void processRemoveEntities(NetData.NetMessage message) {
     }
 
     private void processBlockChanges(NetData.NetMessage message) {
+        WorldProvider worldProvider = CoreRegistry.get(WorldProvider.class);
         for (NetData.BlockChangeMessage blockChange : message.getBlockChangeList()) {
             Block newBlock = blockManager.getBlock((short) blockChange.getNewBlock());
             logger.debug("Received block change to {}", newBlock);
-            // TODO: Store changes to blocks that aren't ready to be modified (the surrounding chunks aren't available)
-            WorldProvider worldProvider = CoreRegistry.get(WorldProvider.class);
             Vector3i pos = NetMessageUtil.convert(blockChange.getPos());
-            if (worldProvider.isBlockRelevant(pos)) {
+            Vector3i chunkPos = ChunkMath.calcChunkPos(pos);
+            if (isChunkModifiable(chunkPos, pos)) {
                 worldProvider.setBlock(pos, newBlock);
             } else {
-                awaitingChunkReadyBlockUpdates.put(ChunkMath.calcChunkPos(pos), blockChange);
+                getAwaitingUpdates(awaitingChunkReadyBlockUpdates, chunkPos).put(pos, newBlock);
+            }
+        }
+        for (NetData.BlockChangeBatchMessage batch : message.getBlockChangeBatchList()) {
+            Map<Vector3i, Block> blocks;
+            try {
+                blocks = BlockChangeBatcher.decode(batch, blockManager);
+            } catch (IllegalArgumentException e) {
+                logger.error("Received invalid block change batch", e);
+                continue;
+            }
+            logger.debug("Received batch of {} block changes", blocks.size());
+            if (blocks.isEmpty()) {
+                continue;
+            }
+            Vector3i chunkPos = NetMessageUtil.convert(batch.getChunkPos());
+            if (isChunkModifiable(chunkPos, blocks.keySet().iterator().next())) {
+                worldProvider.setBlocks(blocks);
+            } else {
+                getAwaitingUpdates(awaitingChunkReadyBlockUpdates, chunkPos).putAll(blocks);
             }
         }
     }
 
+    /**
+     * @return Whether changes to the given block of the chunk can be applied now, rather than once the chunk is ready
+     */
+    private boolean isChunkModifiable(Vector3i chunkPos, Vector3i blockPos) {
+        return !pendingChunks.containsKey(chunkPos) && CoreRegistry.get(WorldProvider.class).isBlockRelevant(blockPos);
+    }
+
+    private static <T> Map<Vector3i, T> getAwaitingUpdates(Map<Vector3i, Map<Vector3i, T>> awaitingUpdates, Vector3i chunkPos) {
+        Map<Vector3i, T> updates = awaitingUpdates.get(chunkPos);
+        if (updates == null) {
+            updates = Maps.newLinkedHashMap();
+            awaitingUpdates.put(chunkPos, updates);
+        }
+        return updates;
+    }
+
     private void processBiomeChanges(NetData.NetMessage message) {
+        WorldProvider worldProvider = CoreRegistry.get(WorldProvider.class);
         for (NetData.BiomeChangeMessage biomeChange : message.getBiomeChangeList()) {
-            logger.debug("Received block change to {}", blockManager.getBlock((short) biomeChange.getNewBiome()));
-            // TODO: Store changes to blocks that aren't ready to be modified (the surrounding chunks aren't available)
-            WorldProvider worldProvider = CoreRegistry.get(WorldProvider.class);
+            Biome newBiome = biomeManager.getBiomeByShortId((short) biomeChange.getNewBiome());
+            logger.debug("Received biome change to {}", newBiome);
             Vector3i pos = NetMessageUtil.convert(biomeChange.getPos());
-            if (worldProvider.isBlockRelevant(pos)) {
-                Biome newBiome = biomeManager.getBiomeByShortId((short) biomeChange.getNewBiome());
+            Vector3i chunkPos = ChunkMath.calcChunkPos(pos);
+            if (isChunkModifiable(chunkPos, pos)) {
                 worldProvider.setBiome(pos, newBiome);
             } else {
-                awaitingChunkReadyBiomeUpdates.put(ChunkMath.calcChunkPos(pos), biomeChange);
+                getAwaitingUpdates(awaitingChunkReadyBiomeUpdates, chunkPos).put(pos, newBiome);
+            }
+        }
+        for (NetData.BiomeChangeBatchMessage batch : message.getBiomeChangeBatchList()) {
+            Map<Vector3i, Biome> biomes;
+            try {
+                biomes = BlockChangeBatcher.decode(batch, biomeManager);
+            } catch (IllegalArgumentException e) {
+                logger.error("Received invalid biome change batch", e);
+                continue;
+            }
+            logger.debug("Received batch of {} biome changes", biomes.size());
+            if (biomes.isEmpty()) {
+                continue;
+            }
+            Vector3i chunkPos = NetMessageUtil.convert(batch.getChunkPos());
+            if (isChunkModifiable(chunkPos, biomes.keySet().iterator().next())) {
+                setBiomes(worldProvider, biomes);
+            } else {
+                getAwaitingUpdates(awaitingChunkReadyBiomeUpdates, chunkPos).putAll(biomes);
             }
         }
     }
 
+    private static void setBiomes(WorldProvider worldProvider, Map<Vector3i, Biome> biomes) {
+        for (Map.Entry<Vector3i, Biome> entry : biomes.entrySet()) {
+            worldProvider.setBiome(entry.getKey(), entry.getValue());
+        }
+    }
+
     private void processInvalidatedChunks(NetData.NetMessage message) {
         for (NetData.InvalidateChunkMessage chunk : message.getInvalidateChunkList()) {
             Vector3i chunkPos = NetMessageUtil.convert(chunk.getPos());
             remoteWorldProvider.invalidateChunks(chunkPos);
-            awaitingChunkReadyBlockUpdates.removeAll(chunkPos);
-            awaitingChunkReadyBiomeUpdates.removeAll(chunkPos);
+            pendingChunks.remove(chunkPos);
+            awaitingChunkReadyBlockUpdates.remove(chunkPos);
+            awaitingChunkReadyBiomeUpdates.remove(chunkPos);
         }
     }
 
     private void processReceivedChunks(NetData.NetMessage message) {
         for (EntityData.ChunkStore chunkInfo : message.getChunkInfoList()) {
             Chunk chunk = ChunkSerializer.decode(chunkInfo, blockManager, biomeManager);
+            // A chunk that is sent again already contains the changes still waiting for the previous copy
+            awaitingChunkReadyBlockUpdates.remove(chunk.getPosition());
+            awaitingChunkReadyBiomeUpdates.remove(chunk.getPosition());
+            pendingChunks.put(chunk.getPosition(), chunk);
             chunkQueue.offer(chunk);
         }
     }
@@ -409,20 +478,24 @@ public NetMetricSource getMetrics() {
 
     @Override
     public void onChunkReady(Vector3i chunkPos) {
+        Chunk pendingChunk = pendingChunks.get(chunkPos);
+        if (pendingChunk != null) {
+            if (remoteWorldProvider.getChunk(chunkPos) != pendingChunk) {
+                // An older copy became ready, the held back changes are for the newer one
+                return;
+            }
+            pendingChunks.remove(chunkPos);
+        }
         WorldProvider worldProvider = CoreRegistry.get(WorldProvider.class);
 
-        List<NetData.BlockChangeMessage> updateBlockMessages = awaitingChunkReadyBlockUpdates.removeAll(chunkPos);
-        for (NetData.BlockChangeMessage message : updateBlockMessages) {
-            Vector3i pos = NetMessageUtil.convert(message.getPos());
-            Block newBlock = blockManager.getBlock((short) message.getNewBlock());
-            worldProvider.setBlock(pos, newBlock);
+        Map<Vector3i, Block> updateBlocks = awaitingChunkReadyBlockUpdates.remove(chunkPos);
+        if (updateBlocks != null) {
+            worldProvider.setBlocks(updateBlocks);
         }
 
-        List<NetData.BiomeChangeMessage> updateBiomeMessages = awaitingChunkReadyBiomeUpdates.removeAll(chunkPos);
-        for (NetData.BiomeChangeMessage message : updateBiomeMessages) {
-            Vector3i pos = NetMessageUtil.convert(message.getPos());
-            Biome newBiome = biomeManager.getBiomeByShortId((short) message.getNewBiome());
-            worldProvider.setBiome(pos, newBiome);
+        Map<Vector3i, Biome> updateBiomes = awaitingChunkReadyBiomeUpdates.remove(chunkPos);
+        if (updateBiomes != null) {
+            setBiomes(worldProvider, updateBiomes);
         }
     }
 }
@@ -51,17 +51,26 @@ public boolean shouldSerializeField(ReplicatedFieldMetadata<?, ?> field, Compone
         // 4. The field is replicated from owner and the client doesn't own it
         // Except if the field is initialOnly and it isn't the initial send
         boolean initial = entityInitial || componentInitial;
-        boolean result = field.isReplicated() && (initial
-                || !field.getReplicationInfo().initialOnly()
-                && (field.getReplicationInfo().value() == FieldReplicateType.SERVER_TO_CLIENT
-                || (field.getReplicationInfo().value() == FieldReplicateType.SERVER_TO_OWNER && owned)
-                || (field.getReplicationInfo().value().isReplicateFromOwner() && !owned)));
+        boolean result = isReplicatedField(field, componentInitial);
         if (result && component instanceof ReplicationCheck) {
             return ((ReplicationCheck) component).shouldReplicate(field, initial, owned);
         }
         return result;
     }
 
+    /**
+     * @return Whether the field is sent by its replication settings alone, before any {@link ReplicationCheck} of the
+     * component is asked.
+     */
+    public boolean isReplicatedField(ReplicatedFieldMetadata<?, ?> field, boolean componentInitial) {
+        boolean initial = entityInitial || componentInitial;
+        return field.isReplicated() && (initial
+                || !field.getReplicationInfo().initialOnly()
+                && (field.getReplicationInfo().value() == FieldReplicateType.SERVER_TO_CLIENT
+                || (field.getReplicationInfo().value() == FieldReplicateType.SERVER_TO_OWNER && owned)
+                || (field.getReplicationInfo().value().isReplicateFromOwner() && !owned)));
+    }
+
     @Override
     public boolean shouldDeserialize(ClassMetadata<?, ?> classMetadata, FieldMetadata<?, ?> fieldMetadata) {
         // The server only accepts fields that are replicated from owner
@@ -66,30 +66,38 @@ public abstract class AbstractStorageManager implements StorageManager {
     private final PrefabSerializer prefabSerializer;
     private final OwnershipHelper helper;
 
-    private boolean storeChunksInZips = true;
+    private final ChunkRegionStorage chunkRegionStorage;
+    private final GlobalStoreJournal globalStoreJournal;
+
+    private ChunkStorageMode chunkStorageMode;
 
     public AbstractStorageManager(Path savePath, ModuleEnvironment environment, EngineEntityManager entityManager,
                                   BlockManager blockManager, BiomeManager biomeManager, boolean storeChunksInZips) {
+        this(savePath, environment, entityManager, blockManager, biomeManager,
+                storeChunksInZips ? ChunkStorageMode.ZIPS : ChunkStorageMode.LOOSE_FILES);
+    }
+
+    public AbstractStorageManager(Path savePath, ModuleEnvironment environment, EngineEntityManager entityManager,
+                                  BlockManager blockManager, BiomeManager biomeManager, ChunkStorageMode chunkStorageMode) {
         this.entityManager = entityManager;
         this.environment = environment;
-        this.storeChunksInZips = storeChunksInZips;
+        this.chunkStorageMode = chunkStorageMode;
         this.prefabSerializer = new PrefabSerializer(entityManager.getComponentLibrary(), entityManager.getTypeSerializerLibrary());
         this.blockManager = blockManager;
         this.biomeManager = biomeManager;
 
         this.storagePathProvider = new StoragePathProvider(savePath);
+        this.chunkRegionStorage = new ChunkRegionStorage(storagePathProvider);
+        this.globalStoreJournal = new GlobalStoreJournal(storagePathProvider);
         this.helper = new OwnershipHelper(entityManager.getComponentLibrary());
     }
 
     @Override
     public void loadGlobalStore() throws IOException {
-        Path globalDataFile = storagePathProvider.getGlobalEntityStorePath();
-        if (Files.isRegularFile(globalDataFile)) {
-            try (InputStream in = new BufferedInputStream(Files.newInputStream(globalDataFile))) {
-                EntityData.GlobalStore store = EntityData.GlobalStore.parseFrom(in);
-                GlobalStoreLoader loader = new GlobalStoreLoader(environment, entityManager, prefabSerializer);
-                loader.load(store);
-            }
+        EntityData.GlobalStore store = globalStoreJournal.read();
+        if (store != null) {
+            GlobalStoreLoader loader = new GlobalStoreLoader(environment, entityManager, prefabSerializer);
+            loader.load(store);
         }
     }
 
@@ -140,30 +148,64 @@ public void update() {
     }
 
     public boolean isStoreChunksInZips() {
-        return storeChunksInZips;
+        return chunkStorageMode == ChunkStorageMode.ZIPS;
     }
 
     /**
      * For tests only
      */
     void setStoreChunksInZips(boolean storeChunksInZips) {
-        this.storeChunksInZips = storeChunksInZips;
+        this.chunkStorageMode = storeChunksInZips ? ChunkStorageMode.ZIPS : ChunkStorageMode.LOOSE_FILES;
+    }
+
+    public ChunkStorageMode getChunkStorageMode() {
+        return chunkStorageMode;
+    }
+
+    /**
+     * For tests only
+     */
+    void setChunkStorageMode(ChunkStorageMode chunkStorageMode) {
+        this.chunkStorageMode = chunkStorageMode;
     }
 
     protected byte[] loadCompressedChunk(Vector3i chunkPos) {
-        if (isStoreChunksInZips()) {
-            return loadChunkZip(chunkPos);
-        } else {
-            Path chunkPath = storagePathProvider.getChunkPath(chunkPos);
-            if (Files.isRegularFile(chunkPath)) {
-                try {
-                    return Files.readAllBytes(chunkPath);
-                } catch (IOException e) {
-                    logger.error("Failed to load chunk {}", chunkPos, e);
+        switch (chunkStorageMode) {
+            case ZIPS:
+                return loadChunkZip(chunkPos);
+            case REGION_FILES:
+                byte[] chunkData = loadChunkRegion(chunkPos);
+                if (chunkData == null) {
+                    // Saves that have not been migrated yet
+                    chunkData = loadChunkZip(chunkPos);
                 }
+                if (chunkData == null) {
+                    chunkData = loadChunkFile(chunkPos);
+                }
+                return chunkData;
+            default:
+                return loadChunkFile(chunkPos);
+        }
+    }
+
+    protected byte[] loadChunkFile(Vector3i chunkPos) {
+        Path chunkPath = storagePathProvider.getChunkPath(chunkPos);
+        if (Files.isRegularFile(chunkPath)) {
+            try {
+                return Files.readAllBytes(chunkPath);
+            } catch (IOException e) {
+                logger.error("Failed to load chunk {}", chunkPos, e);
             }
         }
+        return null;
+    }
 
+    protected byte[] loadChunkRegion(Vector3i chunkPos) {
+        try {
+            return chunkRegionStorage.loadChunk(chunkPos);
+        } catch (IOException e) {
+            logger.error("Failed to load chunk {} from its region file", chunkPos, e);
+        }
         return null;
     }
 
@@ -213,6 +255,14 @@ protected void deactivateOrDestroyEntityRecursive(EntityRef entity) {
         }
     }
 
+    protected ChunkRegionStorage getChunkRegionStorage() {
+        return chunkRegionStorage;
+    }
+
+    protected GlobalStoreJournal getGlobalStoreJournal() {
+        return globalStoreJournal;
+    }
+
     protected StoragePathProvider getStoragePathProvider() {
         return storagePathProvider;
     }
@@ -0,0 +1,460 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.persistence.internal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.zip.CRC32;
+
+/**
+ * A file that stores the compressed data of a fixed number of chunks and can update them in place.
+ * <br><br>
+ * The file is divided into sectors of {@link #SECTOR_SIZE} bytes. It starts with two header slots that each contain a
+ * generation number, a checksum and a table with the first sector and the byte length of every entry. The valid
+ * slot with the highest generation is the committed header.
+ * <br><br>
+ * Writes never touch sectors that are referenced by the committed header: new entry data is appended or relocated
+ * into free sectors and only becomes visible once {@link #commit(Header)} has written a new header into the other
+ * slot. A crash at any point thus leaves either the old or the new state behind.
+ * <br><br>
+ * Committed data is read through memory mappings of the file, each covering at most {@link #MAPPING_SIZE} bytes, so
+ * that files larger than a single mapping are supported. Mappings are replaced as the file grows and released when the
+ * file is closed.
+ * <br><br>
+ * All methods are thread safe.
+ */
+public class ChunkRegionFile implements Closeable {
+    public static final int SECTOR_SIZE = 4096;
+    static final long MAPPING_SIZE = 1L << 30;
+
+    private static final Logger logger = LoggerFactory.getLogger(ChunkRegionFile.class);
+
+    private static final int MAGIC = 0x54524731;
+    private static final int VERSION = 1;
+    private static final int ENTRY_SIZE = 8;
+
+    private final Path path;
+    private final int entryCount;
+    private final int slotSectors;
+    private final int firstDataSector;
+    private final FileChannel channel;
+    private final long mappingSize;
+    private MappedByteBuffer[] mappings = new MappedByteBuffer[0];
+
+    private long generation;
+    private int[] sectorOffsets;
+    private int[] byteLengths;
+
+    private int[] stagedSectorOffsets;
+    private int[] stagedByteLengths;
+    private BitSet usedSectors;
+
+    private ChunkRegionFile(Path path, int entryCount, FileChannel channel, long mappingSize) throws IOException {
+        this.path = path;
+        this.entryCount = entryCount;
+        this.channel = channel;
+        this.mappingSize = mappingSize;
+        this.slotSectors = 1 + sectorsFor(entryCount * ENTRY_SIZE);
+        this.firstDataSector = 2 * slotSectors;
+        if (channel.size() == 0) {
+            generation = 0;
+            sectorOffsets = new int[entryCount];
+            byteLengths = new int[entryCount];
+            writeSlot(0, generation, sectorOffsets, byteLengths);
+            channel.force(true);
+        } else {
+            readCommittedHeader();
+        }
+        rebuildUsedSectors();
+    }
+
+    /**
+     * Opens the region file at the given path, creating it if necessary.
+     */
+    public static ChunkRegionFile open(Path path, int entryCount) throws IOException {
+        return open(path, entryCount, MAPPING_SIZE);
+    }
+
+    /**
+     * @param mappingSize the number of bytes covered by each memory mapping, a multiple of {@link #SECTOR_SIZE}
+     */
+    static ChunkRegionFile open(Path path, int entryCount, long mappingSize) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            return new ChunkRegionFile(path, entryCount, channel, mappingSize);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens the region file at the given path if it exists.
+     *
+     * @return the region file or null if there is no such file.
+     */
+    public static ChunkRegionFile openExisting(Path path, int entryCount) throws IOException {
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        return open(path, entryCount);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public synchronized long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * @return the committed data of the given entry or null if the entry is empty.
+     */
+    public synchronized byte[] read(int index) throws IOException {
+        checkIndex(index);
+        int length = byteLengths[index];
+        if (length == 0) {
+            return null;
+        }
+        long start = (long) sectorOffsets[index] * SECTOR_SIZE;
+        byte[] data = new byte[length];
+        int copied = 0;
+        while (copied < length) {
+            long position = start + copied;
+            int mappingIndex = (int) (position / mappingSize);
+            ByteBuffer view = getMapping(mappingIndex, start + length).duplicate();
+            view.position((int) (position - mappingIndex * mappingSize));
+            int count = Math.min(length - copied, view.remaining());
+            view.get(data, copied, count);
+            copied += count;
+        }
+        return data;
+    }
+
+    /**
+     * Writes the data of an entry into free sectors of the file. The data becomes visible to {@link #read(int)} once
+     * the header returned by {@link #prepareCommit()} has been committed.
+     */
+    public synchronized void write(int index, byte[] data) throws IOException {
+        checkIndex(index);
+        if (stagedSectorOffsets == null) {
+            stagedSectorOffsets = Arrays.copyOf(sectorOffsets, entryCount);
+            stagedByteLengths = Arrays.copyOf(byteLengths, entryCount);
+        }
+        releaseStagedSectors(index);
+        if (data.length == 0) {
+            stagedSectorOffsets[index] = 0;
+            stagedByteLengths[index] = 0;
+            return;
+        }
+        int sectorCount = sectorsFor(data.length);
+        int sector = allocate(sectorCount);
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        long position = (long) sector * SECTOR_SIZE;
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        stagedSectorOffsets[index] = sector;
+        stagedByteLengths[index] = data.length;
+    }
+
+    /**
+     * Flushes all written entry data to disk and creates the header that makes it visible.
+     *
+     * @return the header to commit or null if nothing was written since the last commit.
+     */
+    public synchronized Header prepareCommit() throws IOException {
+        if (stagedSectorOffsets == null) {
+            return null;
+        }
+        channel.force(false);
+        return new Header(generation + 1, stagedSectorOffsets.clone(), stagedByteLengths.clone());
+    }
+
+    /**
+     * Writes the given header into the inactive header slot, making it the committed one. Headers with a generation
+     * that has already been committed are ignored, so a commit can be repeated safely after a crash.
+     */
+    public synchronized void commit(Header header) throws IOException {
+        if (header.generation <= generation) {
+            return;
+        }
+        if (header.sectorOffsets.length != entryCount) {
+            throw new IOException("Header of region file " + path + " has the wrong number of entries");
+        }
+        writeSlot((int) (header.generation % 2), header.generation, header.sectorOffsets, header.byteLengths);
+        channel.force(true);
+        generation = header.generation;
+        sectorOffsets = header.sectorOffsets.clone();
+        byteLengths = header.byteLengths.clone();
+        if (stagedSectorOffsets != null && Arrays.equals(stagedSectorOffsets, sectorOffsets)
+                && Arrays.equals(stagedByteLengths, byteLengths)) {
+            stagedSectorOffsets = null;
+            stagedByteLengths = null;
+        }
+        rebuildUsedSectors();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        for (MappedByteBuffer mapping : mappings) {
+            if (mapping != null) {
+                unmap(mapping);
+            }
+        }
+        mappings = new MappedByteBuffer[0];
+        channel.close();
+    }
+
+    /**
+     * Returns the mapping with the given index, mapping it again if it does not cover the bytes up to the given end yet.
+     */
+    private MappedByteBuffer getMapping(int mappingIndex, long end) throws IOException {
+        if (mappingIndex >= mappings.length) {
+            mappings = Arrays.copyOf(mappings, mappingIndex + 1);
+        }
+        long mappingStart = mappingIndex * mappingSize;
+        long requiredSize = Math.min(mappingSize, end - mappingStart);
+        MappedByteBuffer mapping = mappings[mappingIndex];
+        if (mapping == null || mapping.capacity() < requiredSize) {
+            long fileSize = channel.size();
+            if (fileSize < mappingStart + requiredSize) {
+                throw new IOException("Region file " + path + " is shorter than its committed header");
+            }
+            if (mapping != null) {
+                unmap(mapping);
+            }
+            mapping = channel.map(FileChannel.MapMode.READ_ONLY, mappingStart, Math.min(mappingSize, fileSize - mappingStart));
+            mappings[mappingIndex] = mapping;
+        }
+        return mapping;
+    }
+
+    /**
+     * Releases a mapping right away instead of waiting for it to be garbage collected, so that the file can be deleted
+     * or replaced. The mapping must not be accessed afterwards.
+     */
+    private static void unmap(MappedByteBuffer mapping) {
+        try {
+            // Java 9 and later
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            invokeCleaner.invoke(theUnsafe.get(null), mapping);
+            return;
+        } catch (NoSuchMethodException e) {
+            // Java 8 has no invokeCleaner, the cleaner of the buffer is used below
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            logger.debug("Failed to release a mapping of a region file, leaving it to the garbage collector", e);
+            return;
+        }
+        try {
+            Method cleanerMethod = mapping.getClass().getMethod("cleaner");
+            cleanerMethod.setAccessible(true);
+            Object cleaner = cleanerMethod.invoke(mapping);
+            if (cleaner != null) {
+                cleaner.getClass().getMethod("clean").invoke(cleaner);
+            }
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            logger.debug("Failed to release a mapping of a region file, leaving it to the garbage collector", e);
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= entryCount) {
+            throw new IndexOutOfBoundsException("Invalid region entry " + index);
+        }
+    }
+
+    private void releaseStagedSectors(int index) {
+        int length = stagedByteLengths[index];
+        if (length == 0) {
+            return;
+        }
+        int sector = stagedSectorOffsets[index];
+        // Sectors of the committed header must survive until the next commit
+        if (sector == sectorOffsets[index] && length == byteLengths[index]) {
+            return;
+        }
+        usedSectors.clear(sector, sector + sectorsFor(length));
+    }
+
+    private int allocate(int sectorCount) {
+        int start = usedSectors.nextClearBit(firstDataSector);
+        while (true) {
+            int end = usedSectors.nextSetBit(start);
+            if (end == -1 || end - start >= sectorCount) {
+                usedSectors.set(start, start + sectorCount);
+                return start;
+            }
+            start = usedSectors.nextClearBit(end);
+        }
+    }
+
+    private void rebuildUsedSectors() {
+        usedSectors = new BitSet();
+        usedSectors.set(0, firstDataSector);
+        markUsed(sectorOffsets, byteLengths);
+        if (stagedSectorOffsets != null) {
+            markUsed(stagedSectorOffsets, stagedByteLengths);
+        }
+    }
+
+    private void markUsed(int[] offsets, int[] lengths) {
+        for (int i = 0; i < entryCount; i++) {
+            if (lengths[i] > 0) {
+                usedSectors.set(offsets[i], offsets[i] + sectorsFor(lengths[i]));
+            }
+        }
+    }
+
+    private void readCommittedHeader() throws IOException {
+        long bestGeneration = -1;
+        for (int slot = 0; slot < 2; slot++) {
+            ByteBuffer buffer = ByteBuffer.allocate(slotSectors * SECTOR_SIZE);
+            long position = (long) slot * slotSectors * SECTOR_SIZE;
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    break;
+                }
+            }
+            buffer.flip();
+            if (buffer.remaining() < slotSectors * SECTOR_SIZE) {
+                continue;
+            }
+            int magic = buffer.getInt();
+            int version = buffer.getInt();
+            int storedEntryCount = buffer.getInt();
+            long slotGeneration = buffer.getLong();
+            int checksum = buffer.getInt();
+            if (magic != MAGIC || version != VERSION || storedEntryCount != entryCount || slotGeneration <= bestGeneration) {
+                continue;
+            }
+            buffer.position(SECTOR_SIZE);
+            int[] offsets = new int[entryCount];
+            int[] lengths = new int[entryCount];
+            for (int i = 0; i < entryCount; i++) {
+                offsets[i] = buffer.getInt();
+                lengths[i] = buffer.getInt();
+            }
+            if (checksum(slotGeneration, offsets, lengths) == checksum) {
+                bestGeneration = slotGeneration;
+                sectorOffsets = offsets;
+                byteLengths = lengths;
+            }
+        }
+        if (bestGeneration < 0) {
+            throw new IOException("Region file " + path + " has no valid header");
+        }
+        generation = bestGeneration;
+    }
+
+    private void writeSlot(int slot, long slotGeneration, int[] offsets, int[] lengths) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(slotSectors * SECTOR_SIZE);
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putInt(entryCount);
+        buffer.putLong(slotGeneration);
+        buffer.putInt(checksum(slotGeneration, offsets, lengths));
+        buffer.position(SECTOR_SIZE);
+        for (int i = 0; i < entryCount; i++) {
+            buffer.putInt(offsets[i]);
+            buffer.putInt(lengths[i]);
+        }
+        buffer.clear();
+        long position = (long) slot * slotSectors * SECTOR_SIZE;
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, position + buffer.position());
+        }
+    }
+
+    private static int checksum(long slotGeneration, int[] offsets, int[] lengths) {
+        ByteBuffer buffer = ByteBuffer.allocate(8 + offsets.length * ENTRY_SIZE);
+        buffer.putLong(slotGeneration);
+        for (int i = 0; i < offsets.length; i++) {
+            buffer.putInt(offsets[i]);
+            buffer.putInt(lengths[i]);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array());
+        return (int) crc.getValue();
+    }
+
+    private static int sectorsFor(int bytes) {
+        return (bytes + SECTOR_SIZE - 1) / SECTOR_SIZE;
+    }
+
+    /**
+     * The table of a region file header, as created by {@link #prepareCommit()}.
+     */
+    public static final class Header {
+        private final long generation;
+        private final int[] sectorOffsets;
+        private final int[] byteLengths;
+
+        private Header(long generation, int[] sectorOffsets, int[] byteLengths) {
+            this.generation = generation;
+            this.sectorOffsets = sectorOffsets;
+            this.byteLengths = byteLengths;
+        }
+
+        public long getGeneration() {
+            return generation;
+        }
+
+        public void writeTo(DataOutputStream out) throws IOException {
+            out.writeInt(MAGIC);
+            out.writeLong(generation);
+            out.writeInt(sectorOffsets.length);
+            for (int i = 0; i < sectorOffsets.length; i++) {
+                out.writeInt(sectorOffsets[i]);
+                out.writeInt(byteLengths[i]);
+            }
+        }
+
+        public static Header readFrom(DataInputStream in) throws IOException {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a region file header");
+            }
+            long generation = in.readLong();
+            int count = in.readInt();
+            int[] offsets = new int[count];
+            int[] lengths = new int[count];
+            for (int i = 0; i < count; i++) {
+                offsets[i] = in.readInt();
+                lengths[i] = in.readInt();
+            }
+            return new Header(generation, offsets, lengths);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.persistence.internal;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.math.geom.Vector3i;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stores chunks in {@link ChunkRegionFile}s of {@link #REGION_DIM}^3 chunks each and keeps the region files open
+ * between saves.
+ */
+public class ChunkRegionStorage implements Closeable {
+    public static final int REGION_DIM = 16;
+
+    private static final Logger logger = LoggerFactory.getLogger(ChunkRegionStorage.class);
+    private static final int ENTRY_COUNT = REGION_DIM * REGION_DIM * REGION_DIM;
+    private static final String LEGACY_CHUNK_EXTENSION = ".chunk";
+    private static final String LEGACY_CHUNK_ZIP_EXTENSION = ".chunks.zip";
+
+    private final StoragePathProvider storagePathProvider;
+    private final Map<Path, ChunkRegionFile> openRegionFiles = Maps.newHashMap();
+
+    public ChunkRegionStorage(StoragePathProvider storagePathProvider) {
+        this.storagePathProvider = storagePathProvider;
+    }
+
+    /**
+     * @return the stored data of the chunk or null if the chunk has not been stored in a region file yet.
+     */
+    public byte[] loadChunk(Vector3i chunkPos) throws IOException {
+        ChunkRegionFile regionFile = getRegionFile(getRegionPath(chunkPos), false);
+        if (regionFile == null) {
+            return null;
+        }
+        return regionFile.read(getEntryIndex(chunkPos));
+    }
+
+    /**
+     * Writes the chunk data into its region file. The data becomes visible once the headers returned by
+     * {@link #prepareCommit()} have been committed.
+     */
+    public void writeChunk(Vector3i chunkPos, byte[] data) throws IOException {
+        Files.createDirectories(storagePathProvider.getWorldPath());
+        getRegionFile(getRegionPath(chunkPos), true).write(getEntryIndex(chunkPos), data);
+    }
+
+    /**
+     * @return the new headers of all region files that have been written to, by region file path.
+     */
+    public synchronized Map<Path, ChunkRegionFile.Header> prepareCommit() throws IOException {
+        Map<Path, ChunkRegionFile.Header> headers = Maps.newHashMap();
+        for (ChunkRegionFile regionFile : openRegionFiles.values()) {
+            ChunkRegionFile.Header header = regionFile.prepareCommit();
+            if (header != null) {
+                headers.put(regionFile.getPath(), header);
+            }
+        }
+        return headers;
+    }
+
+    public void commit(Path regionPath, ChunkRegionFile.Header header) throws IOException {
+        getRegionFile(regionPath, true).commit(header);
+    }
+
+    /**
+     * Commits a header that has been stored in a file by a save transaction.
+     */
+    public void commitHeaderFile(Path regionPath, Path headerPath) throws IOException {
+        ChunkRegionFile.Header header;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(headerPath)))) {
+            header = ChunkRegionFile.Header.readFrom(in);
+        }
+        commit(regionPath, header);
+    }
+
+    /**
+     * Moves the chunks of older saves, stored as loose files or in zip files, into region files. Every legacy file is
+     * deleted only after its chunks have been committed, so an interrupted migration continues on the next start.
+     *
+     * @return the number of migrated chunks
+     */
+    public int migrateLegacyChunks() throws IOException {
+        Path worldPath = storagePathProvider.getWorldPath();
+        if (!Files.isDirectory(worldPath)) {
+            return 0;
+        }
+        List<Path> legacyFiles = Lists.newArrayList();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(worldPath)) {
+            for (Path path : stream) {
+                String fileName = path.getFileName().toString();
+                if (fileName.endsWith(LEGACY_CHUNK_EXTENSION) || fileName.endsWith(LEGACY_CHUNK_ZIP_EXTENSION)) {
+                    legacyFiles.add(path);
+                }
+            }
+        }
+        int migrated = 0;
+        for (Path legacyFile : legacyFiles) {
+            if (legacyFile.getFileName().toString().endsWith(LEGACY_CHUNK_ZIP_EXTENSION)) {
+                try (FileSystem chunkZip = FileSystems.newFileSystem(legacyFile, null)) {
+                    for (Path root : chunkZip.getRootDirectories()) {
+                        try (DirectoryStream<Path> stream = Files.newDirectoryStream(root)) {
+                            for (Path chunkFile : stream) {
+                                migrated += migrateChunkFile(chunkFile);
+                            }
+                        }
+                    }
+                }
+            } else {
+                migrated += migrateChunkFile(legacyFile);
+            }
+            for (Map.Entry<Path, ChunkRegionFile.Header> entry : prepareCommit().entrySet()) {
+                commit(entry.getKey(), entry.getValue());
+            }
+            Files.delete(legacyFile);
+        }
+        if (migrated > 0) {
+            logger.info("Migrated {} chunks from {} files into region files", migrated, legacyFiles.size());
+        }
+        return migrated;
+    }
+
+    private int migrateChunkFile(Path chunkFile) throws IOException {
+        Vector3i chunkPos = parseLegacyChunkPosition(chunkFile.getFileName().toString());
+        if (chunkPos == null) {
+            logger.warn("Skipping migration of unexpected file {}", chunkFile);
+            return 0;
+        }
+        writeChunk(chunkPos, Files.readAllBytes(chunkFile));
+        return 1;
+    }
+
+    private Vector3i parseLegacyChunkPosition(String fileName) {
+        if (!fileName.endsWith(LEGACY_CHUNK_EXTENSION)) {
+            return null;
+        }
+        String[] parts = fileName.substring(0, fileName.length() - LEGACY_CHUNK_EXTENSION.length()).split("\\.");
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            return new Vector3i(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        IOException failure = null;
+        for (ChunkRegionFile regionFile : openRegionFiles.values()) {
+            try {
+                regionFile.close();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        openRegionFiles.clear();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private synchronized ChunkRegionFile getRegionFile(Path path, boolean create) throws IOException {
+        Path regionPath = path.toAbsolutePath().normalize();
+        ChunkRegionFile regionFile = openRegionFiles.get(regionPath);
+        if (regionFile == null) {
+            regionFile = create ? ChunkRegionFile.open(regionPath, ENTRY_COUNT) : ChunkRegionFile.openExisting(regionPath, ENTRY_COUNT);
+            if (regionFile != null) {
+                openRegionFiles.put(regionPath, regionFile);
+            }
+        }
+        return regionFile;
+    }
+
+    private Path getRegionPath(Vector3i chunkPos) {
+        Vector3i regionPos = new Vector3i(Math.floorDiv(chunkPos.x, REGION_DIM), Math.floorDiv(chunkPos.y, REGION_DIM),
+                Math.floorDiv(chunkPos.z, REGION_DIM));
+        return storagePathProvider.getChunkRegionPath(regionPos);
+    }
+
+    private static int getEntryIndex(Vector3i chunkPos) {
+        int x = Math.floorMod(chunkPos.x, REGION_DIM);
+        int y = Math.floorMod(chunkPos.y, REGION_DIM);
+        int z = Math.floorMod(chunkPos.z, REGION_DIM);
+        return x + REGION_DIM * (y + REGION_DIM * z);
+    }
+}
@@ -16,6 +16,7 @@
 package org.terasology.persistence.internal;
 
 import com.google.common.collect.Maps;
+import gnu.trove.set.TLongSet;
 import org.terasology.entitySystem.Component;
 import org.terasology.entitySystem.entity.EntityRef;
 import org.terasology.entitySystem.entity.internal.EngineEntityManager;
@@ -41,7 +42,12 @@ final class GlobalStoreBuilder {
         this.prefabSerializer = prefabSerializer;
     }
     
-    public EntityData.GlobalStore build(EngineEntityManager entityManager, Iterable<EntityRef> entities) {
+    /**
+     * Builds a snapshot of the global store, containing the given entities.
+     *
+     * @param journalSequence the sequence number of the last journal entry the snapshot replaces.
+     */
+    public EntityData.GlobalStore build(EngineEntityManager entityManager, Iterable<EntityRef> entities, long journalSequence) {
         EntityData.GlobalStore.Builder store = EntityData.GlobalStore.newBuilder();
 
         Map<Class<? extends Component>, Integer> componentIdTable = Maps.newHashMap();
@@ -73,8 +79,47 @@ public EntityData.GlobalStore build(EngineEntityManager entityManager, Iterable<
             }
         }
         store.setNextEntityId(nextEntityId);
+        store.setJournalSequence(journalSequence);
         return store.build();
     }
 
+    /**
+     * Builds a journal entry of the global store. Entries contain no component table, components and prefabs are
+     * stored with their names.
+     *
+     * @param entities        the entities that changed or joined the global store since the previous save.
+     * @param removedEntities the ids of the entities that left the global store since the previous save.
+     */
+    public EntityData.GlobalStore buildJournalEntry(EngineEntityManager entityManager, Iterable<EntityRef> entities,
+                                                    TLongSet removedEntities, long journalSequence) {
+        EntityData.GlobalStore.Builder entry = EntityData.GlobalStore.newBuilder();
+
+        Set<Prefab> prefabsRequiredForEntityStorage = new HashSet<>();
+        EntitySerializer entitySerializer = new EntitySerializer(entityManager);
+        for (EntityRef entity : entities) {
+            if (entity.isPersistent()) {
+                entry.addEntity(entitySerializer.serialize(entity));
+                Prefab prefab = entity.getParentPrefab();
+                if (prefab != null) {
+                    prefabsRequiredForEntityStorage.add(prefab);
+                }
+            }
+        }
+        // The shared prefab serializer might carry the component table of the last snapshot
+        PrefabSerializer namedPrefabSerializer = new PrefabSerializer(entityManager.getComponentLibrary(),
+                entityManager.getTypeSerializerLibrary());
+        for (Prefab prefab : prefabsRequiredForEntityStorage) {
+            entry.addPrefab(namedPrefabSerializer.serialize(prefab));
+        }
+
+        removedEntities.forEach(entityId -> {
+            entry.addRemovedEntity(entityId);
+            return true;
+        });
+        entry.setNextEntityId(nextEntityId);
+        entry.setJournalSequence(journalSequence);
+        return entry.build();
+    }
+
 
 }
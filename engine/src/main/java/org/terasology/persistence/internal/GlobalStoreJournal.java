@@ -0,0 +1,246 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.persistence.internal;
+
+import com.google.common.collect.Maps;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingInputStream;
+import com.google.protobuf.CodedOutputStream;
+import gnu.trove.set.TLongSet;
+import gnu.trove.set.hash.TLongHashSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.protobuf.EntityData;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+/**
+ * Keeps the global entity store as a snapshot (global.dat) plus a journal of the changes made since (global.journal).
+ * <br><br>
+ * Each save appends one entry to the journal: the global entities that changed or joined the store since the previous
+ * save, and the ids of the entities that left it. Entries refer to components by name, so they don't depend on the
+ * component table of the snapshot. Once the journal has grown larger than the snapshot, the next save writes a new
+ * snapshot instead and the journal gets deleted when that snapshot is merged into the save game.
+ * <br><br>
+ * An entry is stored in the save transaction together with the journal length it continues, and is committed by
+ * truncating the journal to that length before appending. That way an interrupted merge can simply be repeated.
+ * When reading, entries that the snapshot already contains and an incomplete last entry are skipped.
+ * <br><br>
+ * The state about what has been stored is updated by the save thread once a save transaction has been merged. A failed
+ * save forces the next one to be a snapshot, as the entities changed before it are not known anymore and the journal
+ * may or may not contain its entry.
+ */
+final class GlobalStoreJournal {
+    private static final Logger logger = LoggerFactory.getLogger(GlobalStoreJournal.class);
+
+    /**
+     * Journals smaller than this never cause a new snapshot, no matter how small the snapshot is.
+     */
+    private static final long MIN_COMPACTION_SIZE = 1024 * 1024;
+
+    private final StoragePathProvider storagePathProvider;
+
+    private final TLongSet storedEntities = new TLongHashSet();
+    private long sequence;
+    private boolean snapshotStored;
+    private boolean snapshotForced;
+    private long snapshotSize;
+    private long journalSize;
+
+    GlobalStoreJournal(StoragePathProvider storagePathProvider) {
+        this.storagePathProvider = storagePathProvider;
+    }
+
+    /**
+     * Reads the snapshot and replays the newer journal entries onto it.
+     *
+     * @return the current global store, or null if none has been saved yet.
+     */
+    public EntityData.GlobalStore read() throws IOException {
+        Path snapshotPath = storagePathProvider.getGlobalEntityStorePath();
+        Path journalPath = storagePathProvider.getGlobalEntityJournalPath();
+        boolean hasSnapshot = Files.isRegularFile(snapshotPath);
+        boolean hasJournal = Files.isRegularFile(journalPath);
+        if (!hasSnapshot && !hasJournal) {
+            return null;
+        }
+
+        EntityData.GlobalStore.Builder store = EntityData.GlobalStore.newBuilder();
+        if (hasSnapshot) {
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(snapshotPath))) {
+                store.mergeFrom(in);
+            }
+        }
+        long lastSequence = store.getJournalSequence();
+        long validJournalSize = 0;
+
+        Map<Long, EntityData.Entity> entities = Maps.newLinkedHashMap();
+        for (EntityData.Entity entity : store.getEntityList()) {
+            entities.put(entity.getId(), entity);
+        }
+        Map<String, EntityData.Prefab> prefabs = Maps.newLinkedHashMap();
+        for (EntityData.Prefab prefab : store.getPrefabList()) {
+            prefabs.put(prefab.getName(), prefab);
+        }
+
+        if (hasJournal) {
+            try (CountingInputStream in = new CountingInputStream(new BufferedInputStream(Files.newInputStream(journalPath)))) {
+                EntityData.GlobalStore entry = parseEntry(in, journalPath);
+                while (entry != null) {
+                    validJournalSize = in.getCount();
+                    if (entry.getJournalSequence() > lastSequence) {
+                        entry.getRemovedEntityList().forEach(entities::remove);
+                        for (EntityData.Entity entity : entry.getEntityList()) {
+                            entities.put(entity.getId(), entity);
+                        }
+                        for (EntityData.Prefab prefab : entry.getPrefabList()) {
+                            prefabs.put(prefab.getName(), prefab);
+                        }
+                        store.setNextEntityId(Math.max(store.getNextEntityId(), entry.getNextEntityId()));
+                        lastSequence = entry.getJournalSequence();
+                    }
+                    entry = parseEntry(in, journalPath);
+                }
+            }
+        }
+
+        store.clearEntity().addAllEntity(entities.values());
+        store.clearPrefab().addAllPrefab(prefabs.values());
+        store.setJournalSequence(lastSequence);
+
+        synchronized (this) {
+            storedEntities.clear();
+            storedEntities.addAll(entities.keySet());
+            sequence = lastSequence;
+            snapshotStored = hasSnapshot;
+            snapshotForced = false;
+            snapshotSize = hasSnapshot ? Files.size(snapshotPath) : 0;
+            journalSize = validJournalSize;
+        }
+        return store.build();
+    }
+
+    private static EntityData.GlobalStore parseEntry(InputStream in, Path journalPath) {
+        try {
+            return EntityData.GlobalStore.parseDelimitedFrom(in);
+        } catch (IOException e) {
+            logger.warn("Ignoring incomplete entry at the end of {}", journalPath, e);
+            return null;
+        }
+    }
+
+    /**
+     * @return true if the next save should write a new snapshot instead of a journal entry.
+     */
+    public synchronized boolean isSnapshotDue() {
+        return snapshotForced || !snapshotStored || journalSize > Math.max(MIN_COMPACTION_SIZE, snapshotSize);
+    }
+
+    public synchronized long getNextSequence() {
+        return sequence + 1;
+    }
+
+    /**
+     * @return true if the entity is part of the global store as of the last save.
+     */
+    public synchronized boolean isStored(long entityId) {
+        return storedEntities.contains(entityId);
+    }
+
+    /**
+     * @param globalEntities the ids of the entities that are part of the global store now.
+     * @return the ids of the entities that were part of the global store as of the last save, but are no longer.
+     */
+    public synchronized TLongSet getRemovedEntities(TLongSet globalEntities) {
+        TLongSet removed = new TLongHashSet(storedEntities);
+        removed.removeAll(globalEntities);
+        return removed;
+    }
+
+    /**
+     * Writes a journal entry into the save transaction, to be committed by {@link #commitEntry(Path, Path)}.
+     */
+    public void writeEntry(EntityData.GlobalStore entry, Path path) throws IOException {
+        long offset;
+        synchronized (this) {
+            offset = journalSize;
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            out.writeLong(offset);
+            entry.writeDelimitedTo(out);
+        }
+    }
+
+    /**
+     * Updates what the journal considers to be stored, once the save transaction containing the store got merged.
+     *
+     * @param store          the snapshot or journal entry that got saved.
+     * @param snapshot       whether the store was saved as snapshot.
+     * @param globalEntities the ids of all entities that are part of the global store now.
+     */
+    public synchronized void onSaved(EntityData.GlobalStore store, boolean snapshot, TLongSet globalEntities) {
+        storedEntities.clear();
+        storedEntities.addAll(globalEntities);
+        sequence = store.getJournalSequence();
+        int size = store.getSerializedSize();
+        if (snapshot) {
+            snapshotStored = true;
+            snapshotForced = false;
+            snapshotSize = size;
+            journalSize = 0;
+        } else {
+            journalSize += CodedOutputStream.computeRawVarint32Size(size) + size;
+        }
+    }
+
+    /**
+     * Makes the next save write a snapshot, after a save transaction failed before its store got merged completely.
+     */
+    public synchronized void onSaveFailed() {
+        snapshotForced = true;
+    }
+
+    /**
+     * Appends a journal entry written by {@link #writeEntry(EntityData.GlobalStore, Path)} to the journal. Anything the
+     * journal contains behind the length the entry continues gets dropped first, so committing the same entry again
+     * after an interruption does no harm.
+     */
+    static void commitEntry(Path entryPath, Path journalPath) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(entryPath)));
+             FileChannel journal = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            long offset = in.readLong();
+            if (journal.size() < offset) {
+                throw new IOException("Journal " + journalPath + " is shorter than the " + offset + " bytes the entry " + entryPath
+                        + " continues");
+            }
+            journal.truncate(offset);
+            journal.position(offset);
+            ByteStreams.copy(in, Channels.newOutputStream(journal));
+            journal.force(false);
+        }
+    }
+}
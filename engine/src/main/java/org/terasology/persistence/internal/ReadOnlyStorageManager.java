@@ -16,6 +16,8 @@
 
 package org.terasology.persistence.internal;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.terasology.entitySystem.entity.EntityRef;
 import org.terasology.entitySystem.entity.internal.EngineEntityManager;
 import org.terasology.module.ModuleEnvironment;
@@ -33,10 +35,11 @@
  * A {@link org.terasology.persistence.StorageManager} that performs reading only.
  */
 public final class ReadOnlyStorageManager extends AbstractStorageManager {
+    private static final Logger logger = LoggerFactory.getLogger(ReadOnlyStorageManager.class);
 
     public ReadOnlyStorageManager(Path savePath, ModuleEnvironment environment, EngineEntityManager entityManager,
                                   BlockManager blockManager, BiomeManager biomeManager) {
-        this(savePath, environment, entityManager, blockManager, biomeManager, true);
+        this(savePath, environment, entityManager, blockManager, biomeManager, ChunkStorageMode.REGION_FILES);
     }
 
     public ReadOnlyStorageManager(Path savePath, ModuleEnvironment environment, EngineEntityManager entityManager,
@@ -44,9 +47,18 @@ public ReadOnlyStorageManager(Path savePath, ModuleEnvironment environment, Engi
         super(savePath, environment, entityManager, blockManager, biomeManager, storeChunksInZips);
     }
 
+    public ReadOnlyStorageManager(Path savePath, ModuleEnvironment environment, EngineEntityManager entityManager,
+                                  BlockManager blockManager, BiomeManager biomeManager, ChunkStorageMode chunkStorageMode) {
+        super(savePath, environment, entityManager, blockManager, biomeManager, chunkStorageMode);
+    }
+
     @Override
     public void finishSavingAndShutdown() {
-        // don't care
+        try {
+            getChunkRegionStorage().close();
+        } catch (IOException e) {
+            logger.warn("Failed to close chunk region files", e);
+        }
     }
 
     @Override
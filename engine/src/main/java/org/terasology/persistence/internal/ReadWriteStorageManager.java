@@ -17,6 +17,8 @@
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import gnu.trove.set.TLongSet;
+import gnu.trove.set.hash.TLongHashSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.terasology.config.Config;
@@ -108,6 +110,10 @@ public final class ReadWriteStorageManager extends AbstractStorageManager implem
 
     private EngineEntityManager privateEntityManager;
     private EntitySetDeltaRecorder entitySetDeltaRecorder;
+    /**
+     * Ids of the persistent entities that changed since the last save, for the journal of the global store.
+     */
+    private TLongSet changedEntities = new TLongHashSet();
     /**
      * A component library that provides a copy() method that replaces {@link EntityRef}s which {@link EntityRef}s
      * that will use the privateEntityManager.
@@ -116,19 +122,25 @@ public final class ReadWriteStorageManager extends AbstractStorageManager implem
 
     public ReadWriteStorageManager(Path savePath, ModuleEnvironment environment, EngineEntityManager entityManager,
                                    BlockManager blockManager, BiomeManager biomeManager) throws IOException {
-        this(savePath, environment, entityManager, blockManager, biomeManager, true);
+        this(savePath, environment, entityManager, blockManager, biomeManager, ChunkStorageMode.REGION_FILES);
     }
 
     public ReadWriteStorageManager(Path savePath, ModuleEnvironment environment, EngineEntityManager entityManager,
                                    BlockManager blockManager, BiomeManager biomeManager, boolean storeChunksInZips) throws IOException {
-        super(savePath, environment, entityManager, blockManager, biomeManager, storeChunksInZips);
+        this(savePath, environment, entityManager, blockManager, biomeManager,
+                storeChunksInZips ? ChunkStorageMode.ZIPS : ChunkStorageMode.LOOSE_FILES);
+    }
+
+    public ReadWriteStorageManager(Path savePath, ModuleEnvironment environment, EngineEntityManager entityManager,
+                                   BlockManager blockManager, BiomeManager biomeManager, ChunkStorageMode chunkStorageMode) throws IOException {
+        super(savePath, environment, entityManager, blockManager, biomeManager, chunkStorageMode);
 
         entityManager.subscribeForDestruction(this);
         entityManager.subscribeForChanges(this);
         // TODO Ensure that the component library and the type serializer library are thread save (e.g. immutable)
         this.privateEntityManager = createPrivateEntityManager(entityManager.getComponentLibrary());
         Files.createDirectories(getStoragePathProvider().getStoragePathDirectory());
-        this.saveTransactionHelper = new SaveTransactionHelper(getStoragePathProvider());
+        this.saveTransactionHelper = new SaveTransactionHelper(getStoragePathProvider(), getChunkRegionStorage());
         this.saveThreadManager = TaskMaster.createFIFOTaskMaster("Saving", 1);
         this.config = CoreRegistry.get(Config.class);
         this.entityRefReplacingComponentLibrary = privateEntityManager.getComponentLibrary()
@@ -144,10 +156,26 @@ private static EngineEntityManager createPrivateEntityManager(ComponentLibrary c
         return pojoEntityManager;
     }
 
+    @Override
+    public void loadGlobalStore() throws IOException {
+        super.loadGlobalStore();
+        // The loaded entities are already stored and don't need to get journaled again
+        changedEntities.clear();
+    }
+
     @Override
     public void finishSavingAndShutdown() {
         saveThreadManager.shutdown(new ShutdownTask(), true);
         checkSaveTransactionAndClearUpIfItIsDone();
+        closeChunkRegionFiles();
+    }
+
+    private void closeChunkRegionFiles() {
+        try {
+            getChunkRegionStorage().close();
+        } catch (IOException e) {
+            logger.warn("Failed to close chunk region files", e);
+        }
     }
 
     private void checkSaveTransactionAndClearUpIfItIsDone() {
@@ -245,7 +273,8 @@ private void waitForCompletionOfPreviousSave() {
 
     private SaveTransaction createSaveTransaction() {
         SaveTransactionBuilder saveTransactionBuilder = new SaveTransactionBuilder(privateEntityManager,
-                entitySetDeltaRecorder, isStoreChunksInZips(), getStoragePathProvider(), worldDirectoryWriteLock);
+                entitySetDeltaRecorder, getGlobalStoreJournal(), changedEntities, getChunkStorageMode(), getStoragePathProvider(), getChunkRegionStorage(),
+                worldDirectoryWriteLock);
 
         ChunkProvider chunkProvider = CoreRegistry.get(ChunkProvider.class);
         NetworkSystem networkSystem = CoreRegistry.get(NetworkSystem.class);
@@ -254,6 +283,8 @@ private SaveTransaction createSaveTransaction() {
         addPlayersToSaveTransaction(saveTransactionBuilder, networkSystem);
         addGlobalStoreBuilderToSaveTransaction(saveTransactionBuilder);
         addGameManifestToSaveTransaction(saveTransactionBuilder);
+        // The save thread owns the set from now on
+        changedEntities = new TLongHashSet();
 
         return saveTransactionBuilder.build();
     }
@@ -466,6 +497,9 @@ public void checkAndRepairSaveIfNecessary() throws IOException {
         if (Files.exists(getStoragePathProvider().getUnmergedChangesPath())) {
             saveTransactionHelper.mergeChanges();
         }
+        if (getChunkStorageMode() == ChunkStorageMode.REGION_FILES) {
+            getChunkRegionStorage().migrateLegacyChunks();
+        }
     }
 
 
@@ -476,6 +510,7 @@ public void deleteWorld() {
         unloadedAndSavingChunkMap.clear();
         unloadedAndUnsavedPlayerMap.clear();
         unloadedAndSavingPlayerMap.clear();
+        closeChunkRegionFiles();
 
         try {
             FilesUtil.recursiveDelete(getStoragePathProvider().getWorldPath());
@@ -487,16 +522,25 @@ public void deleteWorld() {
     @Override
     public void onEntityComponentAdded(EntityRef entity, Class<? extends Component> component) {
         entitySetDeltaRecorder.onEntityComponentAdded(entity, component);
+        recordChange(entity);
     }
 
     @Override
     public void onEntityComponentChange(EntityRef entity, Class<? extends Component> component) {
         entitySetDeltaRecorder.onEntityComponentChange(entity, component);
+        recordChange(entity);
     }
 
     @Override
     public void onEntityComponentRemoved(EntityRef entity, Class<? extends Component> component) {
         entitySetDeltaRecorder.onEntityComponentRemoved(entity, component);
+        recordChange(entity);
+    }
+
+    private void recordChange(EntityRef entity) {
+        if (entity.isPersistent()) {
+            changedEntities.add(entity.getId());
+        }
     }
 
     @Override
@@ -18,6 +18,8 @@
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import gnu.trove.set.TLongSet;
+import gnu.trove.set.hash.TLongHashSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.terasology.entitySystem.Component;
@@ -34,6 +36,7 @@
 import org.terasology.world.chunks.internal.ChunkImpl;
 
 import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.URI;
@@ -77,27 +80,34 @@ public class SaveTransaction extends AbstractTask {
     private final Map<Vector3i, CompressedChunkBuilder> unloadedChunks;
     private final Map<Vector3i, ChunkImpl> loadedChunks;
     private final GlobalStoreBuilder globalStoreBuilder;
+    private final GlobalStoreJournal globalStoreJournal;
+    private final TLongSet changedEntities;
 
     // processed data:
     private EntityData.GlobalStore globalStore;
+    private boolean globalStoreIsSnapshot;
+    private TLongSet globalEntityIds;
     private Map<String, EntityData.PlayerStore> allPlayers;
     private Map<Vector3i, CompressedChunkBuilder> allChunks;
 
 
     // Save parameters:
-    private final boolean storeChunksInZips;
+    private final ChunkStorageMode chunkStorageMode;
 
     // utility classes for saving:
     private final StoragePathProvider storagePathProvider;
+    private final ChunkRegionStorage chunkRegionStorage;
     private final SaveTransactionHelper saveTransactionHelper;
 
 
     public SaveTransaction(EngineEntityManager privateEntityManager, EntitySetDeltaRecorder deltaToSave,
                            Map<String, EntityData.PlayerStore> unloadedPlayers,
                            Map<String, PlayerStoreBuilder> loadedPlayers, GlobalStoreBuilder globalStoreBuilder,
+                           GlobalStoreJournal globalStoreJournal, TLongSet changedEntities,
                            Map<Vector3i, CompressedChunkBuilder> unloadedChunks, Map<Vector3i, ChunkImpl> loadedChunks,
-                           GameManifest gameManifest, boolean storeChunksInZips,
-                           StoragePathProvider storagePathProvider, Lock worldDirectoryWriteLock) {
+                           GameManifest gameManifest, ChunkStorageMode chunkStorageMode,
+                           StoragePathProvider storagePathProvider, ChunkRegionStorage chunkRegionStorage,
+                           Lock worldDirectoryWriteLock) {
         this.privateEntityManager = privateEntityManager;
         this.deltaToSave = deltaToSave;
         this.unloadedPlayers = unloadedPlayers;
@@ -105,10 +115,13 @@ public SaveTransaction(EngineEntityManager privateEntityManager, EntitySetDeltaR
         this.unloadedChunks = unloadedChunks;
         this.loadedChunks = loadedChunks;
         this.globalStoreBuilder = globalStoreBuilder;
+        this.globalStoreJournal = globalStoreJournal;
+        this.changedEntities = changedEntities;
         this.gameManifest = gameManifest;
-        this.storeChunksInZips = storeChunksInZips;
+        this.chunkStorageMode = chunkStorageMode;
         this.storagePathProvider = storagePathProvider;
-        this.saveTransactionHelper = new SaveTransactionHelper(storagePathProvider);
+        this.chunkRegionStorage = chunkRegionStorage;
+        this.saveTransactionHelper = new SaveTransactionHelper(storagePathProvider, chunkRegionStorage);
         this.worldDirectoryWriteLock = worldDirectoryWriteLock;
     }
 
@@ -135,10 +148,13 @@ public void run() {
             saveGameManifest();
             perpareChangesForMerge();
             mergeChanges();
+            globalStoreJournal.onSaved(globalStore, globalStoreIsSnapshot, globalEntityIds);
             result = SaveTransactionResult.createSuccessResult();
             logger.info("Save game finished");
         } catch (IOException | RuntimeException t) {
             logger.error("Save game creation failed", t);
+            // the changed entities of this save are lost, so the next one has to store all global entities
+            globalStoreJournal.onSaveFailed();
             result = SaveTransactionResult.createFailureResult(t);
         }
     }
@@ -155,7 +171,34 @@ private void prepareChunksPlayersAndGlobalStore() {
         }
         preparePlayerStores(unsavedEntities);
         prepareCompressedChunkBuilders(unsavedEntities);
-        this.globalStore = globalStoreBuilder.build(privateEntityManager, unsavedEntities);
+        prepareGlobalStore(unsavedEntities);
+    }
+
+    /**
+     * Creates a journal entry with the changes of the global store since the previous save or, once the journal has
+     * grown too large, a new snapshot of it.
+     *
+     * @param globalEntities the entities that are part of the global store.
+     */
+    private void prepareGlobalStore(Set<EntityRef> globalEntities) {
+        globalEntityIds = new TLongHashSet();
+        for (EntityRef entity : globalEntities) {
+            globalEntityIds.add(entity.getId());
+        }
+        long journalSequence = globalStoreJournal.getNextSequence();
+        globalStoreIsSnapshot = globalStoreJournal.isSnapshotDue();
+        if (globalStoreIsSnapshot) {
+            globalStore = globalStoreBuilder.build(privateEntityManager, globalEntities, journalSequence);
+        } else {
+            List<EntityRef> entitiesToStore = Lists.newArrayList();
+            for (EntityRef entity : globalEntities) {
+                if (changedEntities.contains(entity.getId()) || !globalStoreJournal.isStored(entity.getId())) {
+                    entitiesToStore.add(entity);
+                }
+            }
+            globalStore = globalStoreBuilder.buildJournalEntry(privateEntityManager, entitiesToStore,
+                    globalStoreJournal.getRemovedEntities(globalEntityIds), journalSequence);
+        }
     }
 
 
@@ -339,6 +382,10 @@ private void writePlayerStores() throws IOException {
     }
 
     private void writeGlobalStore() throws IOException {
+        if (!globalStoreIsSnapshot) {
+            globalStoreJournal.writeEntry(globalStore, storagePathProvider.getGlobalEntityJournalTempPath());
+            return;
+        }
         Path path = storagePathProvider.getGlobalEntityStoreTempPath();
         try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path))) {
             globalStore.writeTo(out);
@@ -348,7 +395,9 @@ private void writeGlobalStore() throws IOException {
     private void writeChunkStores() throws IOException {
         Path chunksPath = storagePathProvider.getWorldTempPath();
         Files.createDirectories(chunksPath);
-        if (storeChunksInZips) {
+        if (chunkStorageMode == ChunkStorageMode.REGION_FILES) {
+            writeChunkRegions();
+        } else if (chunkStorageMode == ChunkStorageMode.ZIPS) {
             Map<Vector3i, FileSystem> newChunkZips = Maps.newHashMap();
             for (Map.Entry<Vector3i, CompressedChunkBuilder> entry : allChunks.entrySet()) {
                 Vector3i chunkPos = entry.getKey();
@@ -403,6 +452,22 @@ public FileVisitResult visitFile(Path file, BasicFileAttributes attrs)
         }
     }
 
+    /**
+     * Writes the chunks into free space of their region files. The new region file headers are stored in the save
+     * transaction directory and get committed into the region files when the changes get merged.
+     */
+    private void writeChunkRegions() throws IOException {
+        for (Map.Entry<Vector3i, CompressedChunkBuilder> entry : allChunks.entrySet()) {
+            chunkRegionStorage.writeChunk(entry.getKey(), entry.getValue().buildEncodedChunk());
+        }
+        for (Map.Entry<Path, ChunkRegionFile.Header> entry : chunkRegionStorage.prepareCommit().entrySet()) {
+            Path headerPath = storagePathProvider.getChunkRegionHeaderTempPath(entry.getKey());
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(headerPath)))) {
+                entry.getValue().writeTo(out);
+            }
+        }
+    }
+
     /**
      * @return the result if there is one yet or null. This method returns the value of a volatile variable and
      * can thus be used even from another thread.
@@ -16,6 +16,7 @@
 package org.terasology.persistence.internal;
 
 import com.google.common.collect.Maps;
+import gnu.trove.set.TLongSet;
 import org.terasology.entitySystem.entity.internal.EngineEntityManager;
 import org.terasology.game.GameManifest;
 import org.terasology.math.geom.Vector3i;
@@ -38,17 +39,23 @@ class SaveTransactionBuilder {
     private Map<Vector3i, CompressedChunkBuilder> unloadedChunks = Maps.newHashMap();
     private Map<Vector3i, ChunkImpl> loadedChunks = Maps.newHashMap();
     private GlobalStoreBuilder globalStoreBuilder;
-    private final boolean storeChunksInZips;
+    private final GlobalStoreJournal globalStoreJournal;
+    private final TLongSet changedEntities;
+    private final ChunkStorageMode chunkStorageMode;
     private final StoragePathProvider storagePathProvider;
+    private final ChunkRegionStorage chunkRegionStorage;
     private GameManifest gameManifest;
 
     SaveTransactionBuilder(EngineEntityManager privateEntityManager, EntitySetDeltaRecorder deltaToSave,
-                           boolean storeChunksInZips, StoragePathProvider storagePathProvider,
-                           Lock worldDirectoryWriteLock) {
+                           GlobalStoreJournal globalStoreJournal, TLongSet changedEntities, ChunkStorageMode chunkStorageMode, StoragePathProvider storagePathProvider,
+                           ChunkRegionStorage chunkRegionStorage, Lock worldDirectoryWriteLock) {
         this.privateEntityManager = privateEntityManager;
         this.deltaToSave = deltaToSave;
-        this.storeChunksInZips = storeChunksInZips;
+        this.globalStoreJournal = globalStoreJournal;
+        this.changedEntities = changedEntities;
+        this.chunkStorageMode = chunkStorageMode;
         this.storagePathProvider = storagePathProvider;
+        this.chunkRegionStorage = chunkRegionStorage;
         this.worldDirectoryWriteLock = worldDirectoryWriteLock;
     }
 
@@ -75,8 +82,8 @@ public void addLoadedChunk(final Vector3i chunkPosition, final ChunkImpl chunk)
 
     public SaveTransaction build() {
         return new SaveTransaction(privateEntityManager, deltaToSave, unloadedPlayers, loadedPlayers, globalStoreBuilder,
-                unloadedChunks, loadedChunks, gameManifest, storeChunksInZips, storagePathProvider,
-                worldDirectoryWriteLock);
+                globalStoreJournal, changedEntities, unloadedChunks, loadedChunks, gameManifest, chunkStorageMode, storagePathProvider,
+                chunkRegionStorage, worldDirectoryWriteLock);
 
     }
 
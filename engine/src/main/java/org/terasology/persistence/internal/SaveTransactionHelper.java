@@ -35,9 +35,11 @@
 public class SaveTransactionHelper {
     private static final Logger logger = LoggerFactory.getLogger(SaveTransactionHelper.class);
     private final StoragePathProvider storagePathProvider;
+    private final ChunkRegionStorage chunkRegionStorage;
 
-    public SaveTransactionHelper(StoragePathProvider storagePathProvider) {
+    public SaveTransactionHelper(StoragePathProvider storagePathProvider, ChunkRegionStorage chunkRegionStorage) {
         this.storagePathProvider = storagePathProvider;
+        this.chunkRegionStorage = chunkRegionStorage;
     }
 
     public void cleanupSaveTransactionDirectory() throws IOException {
@@ -62,7 +64,9 @@ public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOEx
 
     /**
      * Merges all outstanding changes into the save game. If this operation gets interrupted it can be started again
-     * without any file corruption when the file system supports atomic moves.
+     * without any file corruption when the file system supports atomic moves. Region file headers are committed
+     * into their region files instead of being moved, and journal entries of the global store
+     * get appended to its journal.
      * <br><br>
      * The write lock for the save directory should be acquired before this method gets called.
      */
@@ -85,6 +89,18 @@ public FileVisitResult preVisitDirectory(Path sourceSubDir, BasicFileAttributes
             @Override
             public FileVisitResult visitFile(Path sourcePath, BasicFileAttributes attrs) throws IOException {
                 Path targetPath = targetDirectory.resolve(sourceDirectory.relativize(sourcePath));
+                if (storagePathProvider.isChunkRegionHeader(sourcePath)) {
+                    // Region files get updated in place, committing the header makes the new chunk data visible
+                    chunkRegionStorage.commitHeaderFile(storagePathProvider.getChunkRegionPathOfHeader(targetPath), sourcePath);
+                    Files.delete(sourcePath);
+                    return FileVisitResult.CONTINUE;
+                }
+                if (targetPath.equals(storagePathProvider.getGlobalEntityJournalPath())) {
+                    // The journal grows by appending the new entry to it
+                    GlobalStoreJournal.commitEntry(sourcePath, targetPath);
+                    Files.delete(sourcePath);
+                    return FileVisitResult.CONTINUE;
+                }
                 try {
                     // Delete file, as behavior of atomic move is undefined if target file exists:
                     Files.deleteIfExists(targetPath);
@@ -96,6 +112,10 @@ public FileVisitResult visitFile(Path sourcePath, BasicFileAttributes attrs) thr
                     }
                     Files.move(sourcePath, targetPath);
                 }
+                if (targetPath.equals(storagePathProvider.getGlobalEntityStorePath())) {
+                    // A new snapshot contains all changes of the journal
+                    Files.deleteIfExists(storagePathProvider.getGlobalEntityJournalPath());
+                }
                 return FileVisitResult.CONTINUE;
             }
 
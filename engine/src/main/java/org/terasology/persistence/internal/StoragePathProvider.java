@@ -28,15 +28,19 @@ public class StoragePathProvider {
     private static final String WORLDS_PATH = "worlds";
     private static final String PLAYER_STORE_EXTENSION = ".player";
     private static final String GLOBAL_ENTITY_STORE = "global.dat";
+    private static final String GLOBAL_ENTITY_JOURNAL = "global.journal";
     private static final String UNFINISHED_SAVE_TRANSACTION = "unfinished-save-transaction";
     private static final String UNMERGED_CHANGED = "unmerged-changes";
     private static final int CHUNK_ZIP_DIM = 32;
+    private static final String CHUNK_REGION_EXTENSION = ".chunks.region";
+    private static final String CHUNK_REGION_HEADER_EXTENSION = ".header";
 
     private final Path storagePathDirectory;
     private final Path playersPath;
     private final Path worldsPath;
     private Path worldPath;
     private Path globalEntityStorePath;
+    private Path globalEntityJournalPath;
     private Path unfinishedSaveTransactionPath;
     private Path unmergedChangesPath;
 
@@ -47,6 +51,7 @@ public StoragePathProvider(Path storagePathDirectory) {
         this.worldsPath = storagePathDirectory.resolve(WORLDS_PATH);
         this.worldPath = worldsPath.resolve(TerasologyConstants.MAIN_WORLD);
         this.globalEntityStorePath = storagePathDirectory.resolve(GLOBAL_ENTITY_STORE);
+        this.globalEntityJournalPath = storagePathDirectory.resolve(GLOBAL_ENTITY_JOURNAL);
         this.unfinishedSaveTransactionPath = storagePathDirectory.resolve(UNFINISHED_SAVE_TRANSACTION);
         this.unmergedChangesPath = storagePathDirectory.resolve(UNMERGED_CHANGED);
     }
@@ -90,6 +95,31 @@ public Path getChunkZipTempPath(Vector3i chunkZipPos) {
         return getWorldTempPath().resolve(getChunkZipFilename(chunkZipPos));
     }
 
+    public Path getChunkRegionPath(Vector3i chunkRegionPos) {
+        return worldPath.resolve(getChunkRegionFilename(chunkRegionPos));
+    }
+
+    /**
+     * @return the path in the save transaction directory at which the new header of a region file gets stored
+     * until the save transaction gets merged.
+     */
+    public Path getChunkRegionHeaderTempPath(Path chunkRegionPath) {
+        return getWorldTempPath().resolve(chunkRegionPath.getFileName().toString() + CHUNK_REGION_HEADER_EXTENSION);
+    }
+
+    public boolean isChunkRegionHeader(Path path) {
+        return path.getFileName().toString().endsWith(CHUNK_REGION_EXTENSION + CHUNK_REGION_HEADER_EXTENSION);
+    }
+
+    /**
+     * @param headerPath the path of a region file header, relative to the directory the region file is in.
+     * @return the path of the region file the header belongs to.
+     */
+    public Path getChunkRegionPathOfHeader(Path headerPath) {
+        String fileName = headerPath.getFileName().toString();
+        return headerPath.resolveSibling(fileName.substring(0, fileName.length() - CHUNK_REGION_HEADER_EXTENSION.length()));
+    }
+
     public Path getGlobalEntityStorePath() {
         return globalEntityStorePath;
     }
@@ -98,6 +128,18 @@ public Path getGlobalEntityStoreTempPath() {
         return unfinishedSaveTransactionPath.resolve(GLOBAL_ENTITY_STORE);
     }
 
+    public Path getGlobalEntityJournalPath() {
+        return globalEntityJournalPath;
+    }
+
+    /**
+     * @return the path in the save transaction directory at which a new journal entry gets stored until the save
+     * transaction gets merged.
+     */
+    public Path getGlobalEntityJournalTempPath() {
+        return unfinishedSaveTransactionPath.resolve(GLOBAL_ENTITY_JOURNAL);
+    }
+
     public String getChunkFilename(Vector3i pos) {
         return String.format("%d.%d.%d.chunk", pos.x, pos.y, pos.z);
     }
@@ -107,6 +149,10 @@ private String getChunkZipFilename(Vector3i pos) {
         return String.format("%d.%d.%d.chunks.zip", pos.x, pos.y, pos.z);
     }
 
+    private String getChunkRegionFilename(Vector3i pos) {
+        return String.format("%d.%d.%d%s", pos.x, pos.y, pos.z, CHUNK_REGION_EXTENSION);
+    }
+
     public Vector3i getChunkZipPosition(Vector3i chunkPos) {
         Vector3i result = new Vector3i(chunkPos);
         result.div(CHUNK_ZIP_DIM);
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.persistence.serializers;
+
+import com.google.common.collect.ImmutableList;
+import org.terasology.entitySystem.Component;
+import org.terasology.protobuf.EntityData;
+
+import java.util.List;
+
+/**
+ * The already serialized fields of a component that changed between two states, as sent over the network. A delta
+ * does not depend on the receiving client, so it can be shared by all clients that have seen the same state.
+ */
+public final class ComponentDelta {
+    private final Class<? extends Component> componentType;
+    private final byte[] fieldIds;
+    private final List<EntityData.Value> fieldValues;
+
+    /**
+     * @param componentType The type of the changed component
+     * @param fieldIds      The ids of the changed fields. The array is not copied and must not be changed afterwards.
+     * @param fieldValues   The serialized values of the changed fields, in the order of the field ids
+     */
+    public ComponentDelta(Class<? extends Component> componentType, byte[] fieldIds, List<EntityData.Value> fieldValues) {
+        if (fieldIds.length != fieldValues.size()) {
+            throw new IllegalArgumentException("Expected a value for each of the " + fieldIds.length + " field ids, got " + fieldValues.size());
+        }
+        this.componentType = componentType;
+        this.fieldIds = fieldIds;
+        this.fieldValues = ImmutableList.copyOf(fieldValues);
+    }
+
+    public Class<? extends Component> getComponentType() {
+        return componentType;
+    }
+
+    public int getFieldCount() {
+        return fieldIds.length;
+    }
+
+    public boolean isEmpty() {
+        return fieldIds.length == 0;
+    }
+
+    byte[] getFieldIds() {
+        return fieldIds;
+    }
+
+    public List<EntityData.Value> getFieldValues() {
+        return fieldValues;
+    }
+}
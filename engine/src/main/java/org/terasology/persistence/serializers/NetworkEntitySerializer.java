@@ -42,6 +42,7 @@
 import org.terasology.persistence.typeHandling.protobuf.ProtobufSerializationContext;
 import org.terasology.protobuf.EntityData;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
 
@@ -160,7 +161,7 @@ private void serializeComponentDelta(Component oldComponent, Component newCompon
                     PersistedData data = serializer.serializeValue(field, newValue, serializationContext);
                     if (!data.isNull()) {
                         entityFieldIds.write(field.getId());
-                        entityData.addFieldValue(((ProtobufPersistedData) data).getValue());
+                        entityData.addFieldValue(quantize(field, ((ProtobufPersistedData) data).getValue()));
                         fieldCount++;
                     } else {
                         logger.error("Exception serializing component type: {}, field: {} - returned null", componentMetadata, field);
@@ -191,7 +192,7 @@ private void serializeComponentFull(Component component, boolean ignoreIfNoField
                 PersistedData fieldValue = serializer.serialize(field, component, serializationContext);
                 entityFieldIds.write(field.getId());
 
-                entityData.addFieldValue(((ProtobufPersistedData) fieldValue).getValue());
+                entityData.addFieldValue(quantize(field, ((ProtobufPersistedData) fieldValue).getValue()));
                 fieldCount++;
             }
         }
@@ -202,6 +203,55 @@ private void serializeComponentFull(Component component, boolean ignoreIfNoField
         }
     }
 
+    /**
+     * Serializes the given replicated fields of a component as they would be sent over the network.
+     *
+     * @param component The component to serialize
+     * @param fields    The fields to serialize, all belonging to the type of the component
+     * @return The values of the fields, in the order of the given fields
+     */
+    public EntityData.Value[] serializeFieldValues(Component component, ReplicatedFieldMetadata<?, ?>[] fields) {
+        Serializer serializer = typeSerializationLibrary.getSerializerFor(componentLibrary.getMetadata(component.getClass()));
+        EntityData.Value[] values = new EntityData.Value[fields.length];
+        for (int i = 0; i < fields.length; ++i) {
+            PersistedData fieldValue = serializer.serialize(fields[i], component, serializationContext);
+            values[i] = quantize(fields[i], ((ProtobufPersistedData) fieldValue).getValue());
+        }
+        return values;
+    }
+
+    /**
+     * Replaces the floats of a quantized field with integer multiples of its precision. Values that do not fit into an
+     * integer at that precision are left as they are.
+     */
+    private EntityData.Value quantize(ReplicatedFieldMetadata<?, ?> field, EntityData.Value value) {
+        if (!field.isQuantized() || value.getFloatCount() == 0 || value.getIntegerCount() != 0) {
+            return value;
+        }
+        float precision = field.getQuantization();
+        EntityData.Value.Builder quantized = value.toBuilder().clearFloat();
+        for (int i = 0; i < value.getFloatCount(); ++i) {
+            float steps = value.getFloat(i) / precision;
+            if (!(Math.abs(steps) < Integer.MAX_VALUE)) {
+                return value;
+            }
+            quantized.addInteger(Math.round(steps));
+        }
+        return quantized.build();
+    }
+
+    private EntityData.Value dequantize(ReplicatedFieldMetadata<?, ?> field, EntityData.Value value) {
+        if (!field.isQuantized() || value.getIntegerCount() == 0 || value.getFloatCount() != 0) {
+            return value;
+        }
+        float precision = field.getQuantization();
+        EntityData.Value.Builder dequantized = value.toBuilder().clearInteger();
+        for (int i = 0; i < value.getIntegerCount(); ++i) {
+            dequantized.addFloat(value.getInteger(i) * precision);
+        }
+        return dequantized.build();
+    }
+
     public void deserializeOnto(MutableComponentContainer entity, EntityData.PackedEntity entityData) {
         deserializeOnto(entity, entityData, FieldSerializeCheck.NullCheck.<Component>newInstance());
     }
@@ -234,7 +284,8 @@ public void deserializeOnto(MutableComponentContainer entity, EntityData.PackedE
                 ReplicatedFieldMetadata fieldMetadata = metadata.getField(fieldId);
                 if (fieldMetadata != null && fieldCheck.shouldDeserialize(metadata, fieldMetadata)) {
                     logger.trace("Deserializing field {} of component {} as value {}", fieldMetadata, metadata, entityData.getFieldValue(fieldPos));
-                    serializer.deserializeOnto(component, fieldMetadata, new ProtobufPersistedData(entityData.getFieldValue(fieldPos)), deserializationContext);
+                    EntityData.Value value = dequantize(fieldMetadata, entityData.getFieldValue(fieldPos));
+                    serializer.deserializeOnto(component, fieldMetadata, new ProtobufPersistedData(value), deserializationContext);
                 }
                 fieldPos++;
             }
@@ -303,4 +354,43 @@ public EntityData.PackedEntity serialize(EntityRef entityRef, Set<Class<? extend
             return entity.build();
         }
     }
+
+    /**
+     * Serializes the changes to an entity, with the changed components given as already serialized deltas.
+     *
+     * @return The serialized changes, or null if nothing has changed
+     */
+    public EntityData.PackedEntity serialize(EntityRef entityRef, Set<Class<? extends Component>> added, Collection<ComponentDelta> changed,
+                                             Set<Class<? extends Component>> removed, FieldSerializeCheck<Component> fieldCheck) {
+        EntityData.PackedEntity.Builder entity = EntityData.PackedEntity.newBuilder();
+
+        ByteString.Output fieldIds = ByteString.newOutput();
+        ByteString.Output componentFieldCounts = ByteString.newOutput();
+        for (Class<? extends Component> componentType : added) {
+            Component component = entityRef.getComponent(componentType);
+            if (component != null) {
+                serializeComponentFull(component, false, fieldCheck, entity, fieldIds, componentFieldCounts, true);
+            } else {
+                logger.error("Non-existent component marked as added: {}", componentType);
+            }
+        }
+        for (ComponentDelta delta : changed) {
+            if (!delta.isEmpty()) {
+                entity.addComponentId(idTable.get(delta.getComponentType()));
+                componentFieldCounts.write(delta.getFieldCount());
+                fieldIds.write(delta.getFieldIds(), 0, delta.getFieldCount());
+                entity.addAllFieldValue(delta.getFieldValues());
+            }
+        }
+        for (Class<? extends Component> componentType : removed) {
+            entity.addRemovedComponent(idTable.get(componentType));
+        }
+        entity.setFieldIds(fieldIds.toByteString());
+        entity.setComponentFieldCounts(componentFieldCounts.toByteString());
+        if (entity.getFieldIds().isEmpty() && entity.getRemovedComponentCount() == 0) {
+            return null;
+        } else {
+            return entity.build();
+        }
+    }
 }
@@ -261,6 +261,8 @@ public HitResult rayTrace(org.terasology.math.geom.Vector3f from1, org.terasolog
 
     @Override
     public void update(float delta) {
+        wrapper.update();
+        liquidWrapper.update();
         processQueuedBodies();
         applyPendingImpulsesAndForces();
         try {
@@ -436,6 +438,12 @@ public void awakenArea(org.terasology.math.geom.Vector3f pos, float radius) {
         discreteDynamicsWorld.awakenRigidBodiesInArea(min, max);
     }
 
+    @Override
+    public void invalidateChunk(Vector3i chunkPos) {
+        wrapper.invalidateChunk(chunkPos);
+        liquidWrapper.invalidateChunk(chunkPos);
+    }
+
     @Override
     public float getEpsilon() {
         return BulletGlobals.SIMD_EPSILON;
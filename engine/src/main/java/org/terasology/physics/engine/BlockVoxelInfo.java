@@ -0,0 +1,135 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.physics.engine;
+
+import com.bulletphysics.collision.shapes.CollisionShape;
+import com.bulletphysics.collision.shapes.voxel.VoxelInfo;
+import org.terasology.math.VecMath;
+import org.terasology.math.geom.Vector3f;
+import org.terasology.math.geom.Vector3i;
+
+/**
+ * The collision information of one type of block, shared by all voxels of that type.
+ * <p>
+ * Voxels that do not collide use this directly. Voxels that collide are handed to the physics engine as a
+ * {@link PositionedVoxelInfo}, since its ray tests report the position of the voxel hit through {@link #getUserData()}.
+ */
+class BlockVoxelInfo implements VoxelInfo {
+
+    private final CollisionShape shape;
+    private final javax.vecmath.Vector3f offset;
+    private final boolean colliding;
+    private final boolean blocking;
+
+    BlockVoxelInfo(CollisionShape shape, Vector3f offset, boolean colliding, boolean blocking) {
+        this.shape = shape;
+        this.offset = offset != null ? VecMath.to(offset) : new javax.vecmath.Vector3f();
+        this.colliding = colliding;
+        this.blocking = blocking;
+    }
+
+    /**
+     * @param position The position of a voxel of this type, which the returned info may keep
+     * @return The collision information for the voxel at the given position
+     */
+    VoxelInfo at(Vector3i position) {
+        return colliding ? new PositionedVoxelInfo(this, position) : this;
+    }
+
+    @Override
+    public boolean isColliding() {
+        return colliding;
+    }
+
+    @Override
+    public Object getUserData() {
+        return null;
+    }
+
+    @Override
+    public CollisionShape getCollisionShape() {
+        return shape;
+    }
+
+    /**
+     * @return The offset of the collision shape, shared by all voxels of this type and so not to be modified
+     */
+    @Override
+    public javax.vecmath.Vector3f getCollisionOffset() {
+        return offset;
+    }
+
+    @Override
+    public boolean isBlocking() {
+        return blocking;
+    }
+
+    @Override
+    public float getFriction() {
+        return 0;
+    }
+
+    @Override
+    public float getRestitution() {
+        return 0;
+    }
+
+    private static final class PositionedVoxelInfo implements VoxelInfo {
+
+        private final BlockVoxelInfo blockInfo;
+        private final Vector3i position;
+
+        PositionedVoxelInfo(BlockVoxelInfo blockInfo, Vector3i position) {
+            this.blockInfo = blockInfo;
+            this.position = position;
+        }
+
+        @Override
+        public boolean isColliding() {
+            return blockInfo.colliding;
+        }
+
+        @Override
+        public Object getUserData() {
+            return position;
+        }
+
+        @Override
+        public CollisionShape getCollisionShape() {
+            return blockInfo.shape;
+        }
+
+        @Override
+        public javax.vecmath.Vector3f getCollisionOffset() {
+            return blockInfo.offset;
+        }
+
+        @Override
+        public boolean isBlocking() {
+            return blockInfo.blocking;
+        }
+
+        @Override
+        public float getFriction() {
+            return 0;
+        }
+
+        @Override
+        public float getRestitution() {
+            return 0;
+        }
+    }
+}
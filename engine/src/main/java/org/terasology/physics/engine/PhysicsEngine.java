@@ -18,6 +18,7 @@
 
 import org.terasology.entitySystem.entity.EntityRef;
 import org.terasology.math.geom.Vector3f;
+import org.terasology.math.geom.Vector3i;
 import org.terasology.physics.CollisionGroup;
 import org.terasology.physics.Physics;
 
@@ -41,6 +42,14 @@ public interface PhysicsEngine extends Physics {
      */
     void awakenArea(Vector3f pos, float radius);
 
+    /**
+     * Discards the block collision information cached for a chunk. Changes to single blocks are picked up on their own,
+     * this is for when all blocks of a chunk change at once, as when it is loaded or unloaded.
+     *
+     * @param chunkPos The position of the chunk.
+     */
+    void invalidateChunk(Vector3i chunkPos);
+
     /**
      * Combines the flags of the given collision groups into a single flag.
      *
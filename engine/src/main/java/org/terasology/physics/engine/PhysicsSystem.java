@@ -51,9 +51,12 @@
 import org.terasology.physics.events.BlockImpactEvent;
 import org.terasology.registry.In;
 import org.terasology.world.OnChangedBlock;
+import org.terasology.world.WorldComponent;
 import org.terasology.world.WorldProvider;
 import org.terasology.world.block.Block;
 import org.terasology.world.block.BlockComponent;
+import org.terasology.world.chunks.event.BeforeChunkUnload;
+import org.terasology.world.chunks.event.OnChunkLoaded;
 
 import com.google.common.collect.Lists;
 
@@ -149,6 +152,16 @@ public void onBlockAltered(OnChangedBlock event, EntityRef entity) {
         physics.awakenArea(event.getBlockPosition().toVector3f(), 0.6f);
     }
 
+    @ReceiveEvent(components = WorldComponent.class)
+    public void onChunkLoaded(OnChunkLoaded event, EntityRef entity) {
+        physics.invalidateChunk(event.getChunkPos());
+    }
+
+    @ReceiveEvent(components = WorldComponent.class)
+    public void onChunkUnloaded(BeforeChunkUnload event, EntityRef entity) {
+        physics.invalidateChunk(event.getChunkPos());
+    }
+
     @ReceiveEvent
     public void onItemImpact(ImpactEvent event, EntityRef entity) {
         RigidBody rigidBody = physics.getRigidBody(entity);
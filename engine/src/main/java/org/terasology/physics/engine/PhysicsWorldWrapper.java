@@ -16,14 +16,10 @@
 
 package org.terasology.physics.engine;
 
-import com.bulletphysics.collision.shapes.CollisionShape;
 import com.bulletphysics.collision.shapes.voxel.VoxelInfo;
 import com.bulletphysics.collision.shapes.voxel.VoxelPhysicsWorld;
-import org.terasology.math.VecMath;
-import org.terasology.math.geom.Vector3f;
 import org.terasology.math.geom.Vector3i;
 import org.terasology.world.WorldProvider;
-import org.terasology.world.block.Block;
 
 /**
  * This class links Terasology's voxel world with the physics engine, providing it with the collision information for each block location.
@@ -31,73 +27,33 @@
  */
 public class PhysicsWorldWrapper implements VoxelPhysicsWorld {
 
-    private WorldProvider world;
+    private VoxelInfoCache cache;
 
     public PhysicsWorldWrapper(WorldProvider world) {
-        this.world = world;
+        cache = new VoxelInfoCache(world, block -> new BlockVoxelInfo(block.getCollisionShape(), block.getCollisionOffset(),
+                block.getCollisionShape() != null && block.isTargetable(), block.getCollisionShape() != null && !block.isPenetrable()));
     }
 
     @Override
     public VoxelInfo getCollisionShapeAt(int x, int y, int z) {
-        Block block = world.getBlock(x, y, z);
-        return new TeraVoxelInfo(block, block.isTargetable(), !block.isPenetrable(), new Vector3i(x, y, z));
+        return cache.get(x, y, z);
     }
 
-    public void dispose() {
-        world = null;
+    /**
+     * Drops the collision information held for a chunk whose blocks have been replaced as a whole.
+     *
+     * @param chunkPos The position of the chunk
+     */
+    public void invalidateChunk(Vector3i chunkPos) {
+        cache.invalidateChunk(chunkPos);
     }
 
-    private static class TeraVoxelInfo implements VoxelInfo {
-
-        private boolean colliding;
-        private boolean blocking;
-        private CollisionShape shape;
-        private Vector3i position;
-        private Vector3f offset;
-
-         TeraVoxelInfo(Block block, boolean colliding, boolean blocking, Vector3i position) {
-            this.shape = block.getCollisionShape();
-            this.offset = block.getCollisionOffset();
-            this.colliding = shape != null && colliding;
-            this.blocking = shape != null && blocking;
-            this.position = position;
-        }
-
-        @Override
-        public boolean isColliding() {
-            return colliding;
-        }
-
-        @Override
-        public Object getUserData() {
-            return position;
-        }
-
-        @Override
-        public CollisionShape getCollisionShape() {
-            return shape;
-        }
-
-        @Override
-        public javax.vecmath.Vector3f getCollisionOffset() {
-            return VecMath.to(offset);
-        }
-
-        @Override
-        public boolean isBlocking() {
-            return blocking;
-        }
-
-        @Override
-        public float getFriction() {
-            // TODO Auto-generated method stub
-            return 0;
-        }
+    public void update() {
+        cache.update();
+    }
 
-        @Override
-        public float getRestitution() {
-            // TODO Auto-generated method stub
-            return 0;
-        }
+    public void dispose() {
+        cache.dispose();
+        cache = null;
     }
 }
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.physics.engine;
+
+import com.bulletphysics.collision.shapes.voxel.VoxelInfo;
+import com.google.common.collect.Maps;
+import org.terasology.math.ChunkMath;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.world.WorldChangeListener;
+import org.terasology.world.WorldProvider;
+import org.terasology.world.biomes.Biome;
+import org.terasology.world.block.Block;
+import org.terasology.world.chunks.ChunkConstants;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Caches the collision information of the voxels the physics engine touches, so that its queries neither look up
+ * blocks in the world nor allocate once a voxel has been touched before.
+ * <p>
+ * The information is kept per chunk, in sections that are only allocated when a voxel in them is queried. Block
+ * changes are applied as the world reports them. Wholesale changes to a chunk, as when it is loaded, must be reported
+ * through {@link #invalidateChunk(Vector3i)}. Chunks that have not been queried for a while are dropped by
+ * {@link #update()}.
+ * <p>
+ * Like the physics engine, this is not thread safe and must only be used from the main thread.
+ */
+class VoxelInfoCache implements WorldChangeListener {
+    private static final int SECTION_POWER = 4;
+    private static final int SECTION_SIZE = 1 << SECTION_POWER;
+    private static final int SECTION_MASK = SECTION_SIZE - 1;
+    private static final int SECTIONS_X = ChunkConstants.SIZE_X >> SECTION_POWER;
+    private static final int SECTIONS_Z = ChunkConstants.SIZE_Z >> SECTION_POWER;
+    private static final int SECTION_COUNT = SECTIONS_X * SECTIONS_Z * (ChunkConstants.SIZE_Y >> SECTION_POWER);
+    private static final int SECTION_VOLUME = SECTION_SIZE * SECTION_SIZE * SECTION_SIZE;
+
+    private static final int EVICTION_INTERVAL = 64;
+    private static final int MAX_IDLE_UPDATES = 600;
+
+    private final WorldProvider world;
+    private final Function<Block, BlockVoxelInfo> blockInfoFactory;
+    private final Map<Block, BlockVoxelInfo> blockInfos = Maps.newHashMap();
+    private final Map<Vector3i, ChunkVoxels> chunks = Maps.newHashMap();
+    private final Vector3i lookupKey = new Vector3i();
+
+    private ChunkVoxels lastChunk;
+    private int updates;
+
+    /**
+     * @param world            The world to read blocks from
+     * @param blockInfoFactory Creates the collision information shared by all voxels of a block type
+     */
+    VoxelInfoCache(WorldProvider world, Function<Block, BlockVoxelInfo> blockInfoFactory) {
+        this.world = world;
+        this.blockInfoFactory = blockInfoFactory;
+        world.registerListener(this);
+    }
+
+    VoxelInfo get(int x, int y, int z) {
+        ChunkVoxels chunk = getChunk(ChunkMath.calcChunkPosX(x), ChunkMath.calcChunkPosY(y), ChunkMath.calcChunkPosZ(z), true);
+        chunk.lastUsed = updates;
+        VoxelInfo[] section = chunk.getSection(x, y, z);
+        int index = indexInSection(x, y, z);
+        VoxelInfo info = section[index];
+        if (info == null) {
+            info = getBlockInfo(world.getBlock(x, y, z)).at(new Vector3i(x, y, z));
+            section[index] = info;
+        }
+        return info;
+    }
+
+    @Override
+    public void onBlockChanged(Vector3i pos, Block newBlock, Block originalBlock) {
+        ChunkVoxels chunk = getChunk(ChunkMath.calcChunkPosX(pos.x), ChunkMath.calcChunkPosY(pos.y), ChunkMath.calcChunkPosZ(pos.z), false);
+        if (chunk != null) {
+            VoxelInfo[] section = chunk.sections[sectionIndex(pos.x, pos.y, pos.z)];
+            if (section != null) {
+                section[indexInSection(pos.x, pos.y, pos.z)] = getBlockInfo(newBlock).at(new Vector3i(pos));
+            }
+        }
+    }
+
+    @Override
+    public void onBiomeChanged(Vector3i pos, Biome newBiome, Biome originalBiome) {
+    }
+
+    /**
+     * Drops the cached information of a chunk whose blocks have changed without the world reporting each change.
+     *
+     * @param chunkPos The position of the chunk
+     */
+    void invalidateChunk(Vector3i chunkPos) {
+        if (chunks.remove(chunkPos) == lastChunk) {
+            lastChunk = null;
+        }
+    }
+
+    /**
+     * Drops the chunks that have not been queried for a while. Should be called once per physics update.
+     */
+    void update() {
+        updates++;
+        if (updates % EVICTION_INTERVAL != 0) {
+            return;
+        }
+        Iterator<ChunkVoxels> iterator = chunks.values().iterator();
+        while (iterator.hasNext()) {
+            ChunkVoxels chunk = iterator.next();
+            if (updates - chunk.lastUsed > MAX_IDLE_UPDATES) {
+                iterator.remove();
+                if (chunk == lastChunk) {
+                    lastChunk = null;
+                }
+            }
+        }
+    }
+
+    void dispose() {
+        world.unregisterListener(this);
+        chunks.clear();
+        blockInfos.clear();
+        lastChunk = null;
+    }
+
+    private ChunkVoxels getChunk(int chunkX, int chunkY, int chunkZ, boolean create) {
+        // Queries come in runs over neighbouring voxels, which mostly share a chunk
+        if (lastChunk != null && lastChunk.x == chunkX && lastChunk.y == chunkY && lastChunk.z == chunkZ) {
+            return lastChunk;
+        }
+        lookupKey.set(chunkX, chunkY, chunkZ);
+        ChunkVoxels chunk = chunks.get(lookupKey);
+        if (chunk == null) {
+            if (!create) {
+                return null;
+            }
+            chunk = new ChunkVoxels(chunkX, chunkY, chunkZ);
+            chunks.put(new Vector3i(chunkX, chunkY, chunkZ), chunk);
+        }
+        lastChunk = chunk;
+        return chunk;
+    }
+
+    private BlockVoxelInfo getBlockInfo(Block block) {
+        return blockInfos.computeIfAbsent(block, blockInfoFactory);
+    }
+
+    private static int sectionIndex(int x, int y, int z) {
+        int sectionX = ChunkMath.calcBlockPosX(x) >> SECTION_POWER;
+        int sectionY = ChunkMath.calcBlockPosY(y) >> SECTION_POWER;
+        int sectionZ = ChunkMath.calcBlockPosZ(z) >> SECTION_POWER;
+        return sectionX + SECTIONS_X * (sectionZ + SECTIONS_Z * sectionY);
+    }
+
+    private static int indexInSection(int x, int y, int z) {
+        return (x & SECTION_MASK) + SECTION_SIZE * ((z & SECTION_MASK) + SECTION_SIZE * (y & SECTION_MASK));
+    }
+
+    private static final class ChunkVoxels {
+        private final int x;
+        private final int y;
+        private final int z;
+        private final VoxelInfo[][] sections = new VoxelInfo[SECTION_COUNT][];
+        private int lastUsed;
+
+        private ChunkVoxels(int x, int y, int z) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+
+        private VoxelInfo[] getSection(int worldX, int worldY, int worldZ) {
+            int index = sectionIndex(worldX, worldY, worldZ);
+            VoxelInfo[] section = sections[index];
+            if (section == null) {
+                section = new VoxelInfo[SECTION_VOLUME];
+                sections[index] = section;
+            }
+            return section;
+        }
+    }
+}
@@ -14873,6 +14873,48 @@ org.terasology.protobuf.EntityData.PrefabOrBuilder getPrefabOrBuilder(
      */
     com.google.protobuf.ByteString
         getPrefabNameBytes(int index);
+
+    /**
+     * <code>repeated int64 removed_entity = 20 [packed = true];</code>
+     *
+     * <pre>
+     * Ids of the entities that left the store, in journal entries
+     * </pre>
+     */
+    java.util.List<java.lang.Long> getRemovedEntityList();
+    /**
+     * <code>repeated int64 removed_entity = 20 [packed = true];</code>
+     *
+     * <pre>
+     * Ids of the entities that left the store, in journal entries
+     * </pre>
+     */
+    int getRemovedEntityCount();
+    /**
+     * <code>repeated int64 removed_entity = 20 [packed = true];</code>
+     *
+     * <pre>
+     * Ids of the entities that left the store, in journal entries
+     * </pre>
+     */
+    long getRemovedEntity(int index);
+
+    /**
+     * <code>optional int64 journal_sequence = 21;</code>
+     *
+     * <pre>
+     * The number of the journal entry, or of the last journal entry contained in a snapshot
+     * </pre>
+     */
+    boolean hasJournalSequence();
+    /**
+     * <code>optional int64 journal_sequence = 21;</code>
+     *
+     * <pre>
+     * The number of the journal entry, or of the last journal entry contained in a snapshot
+     * </pre>
+     */
+    long getJournalSequence();
   }
   /**
    * Protobuf type {@code GlobalStore}
@@ -14987,6 +15029,32 @@ private GlobalStore(
               prefabName_.add(bs);
               break;
             }
+            case 160: {
+              if (!((mutable_bitField0_ & 0x00000040) == 0x00000040)) {
+                removedEntity_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000040;
+              }
+              removedEntity_.add(input.readInt64());
+              break;
+            }
+            case 162: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000040) == 0x00000040) && input.getBytesUntilLimit() > 0) {
+                removedEntity_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000040;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                removedEntity_.add(input.readInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 168: {
+              bitField0_ |= 0x00000002;
+              journalSequence_ = input.readInt64();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -15010,6 +15078,9 @@ private GlobalStore(
         if (((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
           prefabName_ = prefabName_.getUnmodifiableView();
         }
+        if (((mutable_bitField0_ & 0x00000040) == 0x00000040)) {
+          removedEntity_ = java.util.Collections.unmodifiableList(removedEntity_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
@@ -15224,6 +15295,64 @@ public java.lang.String getPrefabName(int index) {
       return prefabName_.getByteString(index);
     }
 
+    public static final int REMOVED_ENTITY_FIELD_NUMBER = 20;
+    private java.util.List<java.lang.Long> removedEntity_;
+    /**
+     * <code>repeated int64 removed_entity = 20 [packed = true];</code>
+     *
+     * <pre>
+     * Ids of the entities that left the store, in journal entries
+     * </pre>
+     */
+    public java.util.List<java.lang.Long>
+        getRemovedEntityList() {
+      return removedEntity_;
+    }
+    /**
+     * <code>repeated int64 removed_entity = 20 [packed = true];</code>
+     *
+     * <pre>
+     * Ids of the entities that left the store, in journal entries
+     * </pre>
+     */
+    public int getRemovedEntityCount() {
+      return removedEntity_.size();
+    }
+    /**
+     * <code>repeated int64 removed_entity = 20 [packed = true];</code>
+     *
+     * <pre>
+     * Ids of the entities that left the store, in journal entries
+     * </pre>
+     */
+    public long getRemovedEntity(int index) {
+      return removedEntity_.get(index);
+    }
+    private int removedEntityMemoizedSerializedSize = -1;
+
+    public static final int JOURNAL_SEQUENCE_FIELD_NUMBER = 21;
+    private long journalSequence_;
+    /**
+     * <code>optional int64 journal_sequence = 21;</code>
+     *
+     * <pre>
+     * The number of the journal entry, or of the last journal entry contained in a snapshot
+     * </pre>
+     */
+    public boolean hasJournalSequence() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional int64 journal_sequence = 21;</code>
+     *
+     * <pre>
+     * The number of the journal entry, or of the last journal entry contained in a snapshot
+     * </pre>
+     */
+    public long getJournalSequence() {
+      return journalSequence_;
+    }
+
     private void initFields() {
       entity_ = java.util.Collections.emptyList();
       prefab_ = java.util.Collections.emptyList();
@@ -15231,6 +15360,8 @@ private void initFields() {
       nextEntityId_ = 0L;
       deprecatedData17_ = java.util.Collections.emptyList();
       prefabName_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      removedEntity_ = java.util.Collections.emptyList();
+      journalSequence_ = 0L;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -15286,6 +15417,16 @@ public void writeTo(com.google.protobuf.CodedOutputStream output)
       for (int i = 0; i < prefabName_.size(); i++) {
         output.writeBytes(18, prefabName_.getByteString(i));
       }
+      if (getRemovedEntityList().size() > 0) {
+        output.writeRawVarint32(162);
+        output.writeRawVarint32(removedEntityMemoizedSerializedSize);
+      }
+      for (int i = 0; i < removedEntity_.size(); i++) {
+        output.writeInt64NoTag(removedEntity_.get(i));
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt64(21, journalSequence_);
+      }
       extensionWriter.writeUntil(536870912, output);
       getUnknownFields().writeTo(output);
     }
@@ -15340,6 +15481,24 @@ public int getSerializedSize() {
         size += dataSize;
         size += 2 * getPrefabNameList().size();
       }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < removedEntity_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt64SizeNoTag(removedEntity_.get(i));
+        }
+        size += dataSize;
+        if (!getRemovedEntityList().isEmpty()) {
+          size += 2;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        removedEntityMemoizedSerializedSize = dataSize;
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(21, journalSequence_);
+      }
       size += extensionsSerializedSize();
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -15481,6 +15640,10 @@ public Builder clear() {
         bitField0_ = (bitField0_ & ~0x00000010);
         prefabName_ = com.google.protobuf.LazyStringArrayList.EMPTY;
         bitField0_ = (bitField0_ & ~0x00000020);
+        removedEntity_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000040);
+        journalSequence_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000080);
         return this;
       }
 
@@ -15546,6 +15709,15 @@ public org.terasology.protobuf.EntityData.GlobalStore buildPartial() {
           bitField0_ = (bitField0_ & ~0x00000020);
         }
         result.prefabName_ = prefabName_;
+        if (((bitField0_ & 0x00000040) == 0x00000040)) {
+          removedEntity_ = java.util.Collections.unmodifiableList(removedEntity_);
+          bitField0_ = (bitField0_ & ~0x00000040);
+        }
+        result.removedEntity_ = removedEntity_;
+        if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.journalSequence_ = journalSequence_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -15647,6 +15819,19 @@ public Builder mergeFrom(org.terasology.protobuf.EntityData.GlobalStore other) {
           }
           onChanged();
         }
+        if (!other.removedEntity_.isEmpty()) {
+          if (removedEntity_.isEmpty()) {
+            removedEntity_ = other.removedEntity_;
+            bitField0_ = (bitField0_ & ~0x00000040);
+          } else {
+            ensureRemovedEntityIsMutable();
+            removedEntity_.addAll(other.removedEntity_);
+          }
+          onChanged();
+        }
+        if (other.hasJournalSequence()) {
+          setJournalSequence(other.getJournalSequence());
+        }
         this.mergeExtensionFields(other);
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
@@ -16491,6 +16676,148 @@ public Builder addPrefabNameBytes(
         return this;
       }
 
+      private java.util.List<java.lang.Long> removedEntity_ = java.util.Collections.emptyList();
+      private void ensureRemovedEntityIsMutable() {
+        if (!((bitField0_ & 0x00000040) == 0x00000040)) {
+          removedEntity_ = new java.util.ArrayList<java.lang.Long>(removedEntity_);
+          bitField0_ |= 0x00000040;
+         }
+      }
+      /**
+       * <code>repeated int64 removed_entity = 20 [packed = true];</code>
+       *
+       * <pre>
+       * Ids of the entities that left the store, in journal entries
+       * </pre>
+       */
+      public java.util.List<java.lang.Long>
+          getRemovedEntityList() {
+        return java.util.Collections.unmodifiableList(removedEntity_);
+      }
+      /**
+       * <code>repeated int64 removed_entity = 20 [packed = true];</code>
+       *
+       * <pre>
+       * Ids of the entities that left the store, in journal entries
+       * </pre>
+       */
+      public int getRemovedEntityCount() {
+        return removedEntity_.size();
+      }
+      /**
+       * <code>repeated int64 removed_entity = 20 [packed = true];</code>
+       *
+       * <pre>
+       * Ids of the entities that left the store, in journal entries
+       * </pre>
+       */
+      public long getRemovedEntity(int index) {
+        return removedEntity_.get(index);
+      }
+      /**
+       * <code>repeated int64 removed_entity = 20 [packed = true];</code>
+       *
+       * <pre>
+       * Ids of the entities that left the store, in journal entries
+       * </pre>
+       */
+      public Builder setRemovedEntity(
+          int index, long value) {
+        ensureRemovedEntityIsMutable();
+        removedEntity_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 removed_entity = 20 [packed = true];</code>
+       *
+       * <pre>
+       * Ids of the entities that left the store, in journal entries
+       * </pre>
+       */
+      public Builder addRemovedEntity(long value) {
+        ensureRemovedEntityIsMutable();
+        removedEntity_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 removed_entity = 20 [packed = true];</code>
+       *
+       * <pre>
+       * Ids of the entities that left the store, in journal entries
+       * </pre>
+       */
+      public Builder addAllRemovedEntity(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureRemovedEntityIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, removedEntity_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 removed_entity = 20 [packed = true];</code>
+       *
+       * <pre>
+       * Ids of the entities that left the store, in journal entries
+       * </pre>
+       */
+      public Builder clearRemovedEntity() {
+        removedEntity_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000040);
+        onChanged();
+        return this;
+      }
+
+      private long journalSequence_ ;
+      /**
+       * <code>optional int64 journal_sequence = 21;</code>
+       *
+       * <pre>
+       * The number of the journal entry, or of the last journal entry contained in a snapshot
+       * </pre>
+       */
+      public boolean hasJournalSequence() {
+        return ((bitField0_ & 0x00000080) == 0x00000080);
+      }
+      /**
+       * <code>optional int64 journal_sequence = 21;</code>
+       *
+       * <pre>
+       * The number of the journal entry, or of the last journal entry contained in a snapshot
+       * </pre>
+       */
+      public long getJournalSequence() {
+        return journalSequence_;
+      }
+      /**
+       * <code>optional int64 journal_sequence = 21;</code>
+       *
+       * <pre>
+       * The number of the journal entry, or of the last journal entry contained in a snapshot
+       * </pre>
+       */
+      public Builder setJournalSequence(long value) {
+        bitField0_ |= 0x00000080;
+        journalSequence_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 journal_sequence = 21;</code>
+       *
+       * <pre>
+       * The number of the journal entry, or of the last journal entry contained in a snapshot
+       * </pre>
+       */
+      public Builder clearJournalSequence() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        journalSequence_ = 0L;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:GlobalStore)
     }
 
@@ -16621,14 +16948,16 @@ public Builder addPrefabNameBytes(
       "\200\200\200\200\002\"L\n\023RunLengthEncoding16\022\026\n\nrunLengt" +
       "hs\030\001 \003(\021B\002\020\001\022\022\n\006values\030\002 \003(\021B\002\020\001*\t\010\210\'\020\200\200" +
       "\200\200\002\"G\n\022RunLengthEncoding8\022\026\n\nrunLengths\030" +
-      "\001 \003(\021B\002\020\001\022\016\n\006values\030\002 \001(\014*\t\010\210\'\020\200\200\200\200\002\"\260\001\n" +
+      "\001 \003(\021B\002\020\001\022\016\n\006values\030\002 \001(\014*\t\010\210\'\020\200\200\200\200\002\"\346\001\n" +
       "\013GlobalStore\022\027\n\006entity\030\001 \003(\0132\007.Entity\022\027\n" +
       "\006prefab\030\002 \003(\0132\007.Prefab\022\027\n\017component_clas" +
       "s\030\003 \003(\t\022\026\n\016next_entity_id\030\020 \001(\003\022\036\n\022depre" +
       "cated_data_17\030\021 \003(\003B\002\020\001\022\023\n\013prefab_name\030\022",
-      " \003(\t*\t\010\210\'\020\200\200\200\200\002*4\n\tStoreType\022\023\n\017PlayerSt" +
-      "oreType\020\001\022\022\n\016ChunkStoreType\020\002B\'\n\027org.ter" +
-      "asology.protobufB\nEntityDataH\001"
+      " \003(\t\022\032\n\016removed_entity\030\024 \003(\003B\002\020\001\022\030\n\020jour" +
+      "nal_sequence\030\025 \001(\003*\t\010\210\'\020\200\200\200\200\002*4\n\tStoreTy" +
+      "pe\022\023\n\017PlayerStoreType\020\001\022\022\n\016ChunkStoreTyp" +
+      "e\020\002B\'\n\027org.terasology.protobufB\nEntityDa" +
+      "taH\001"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -16719,7 +17048,7 @@ public com.google.protobuf.ExtensionRegistry assignDescriptors(
     internal_static_GlobalStore_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_GlobalStore_descriptor,
-        new java.lang.String[] { "Entity", "Prefab", "ComponentClass", "NextEntityId", "DeprecatedData17", "PrefabName", });
+        new java.lang.String[] { "Entity", "Prefab", "ComponentClass", "NextEntityId", "DeprecatedData17", "PrefabName", "RemovedEntity", "JournalSequence", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
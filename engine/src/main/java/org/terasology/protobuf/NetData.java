@@ -340,6 +340,53 @@ org.terasology.protobuf.NetData.ModuleRequestOrBuilder getModuleRequestOrBuilder
      */
     org.terasology.protobuf.NetData.JoinCompleteMessageOrBuilder getJoinCompleteOrBuilder();
 
+    /**
+     * <code>repeated .BlockChangeBatchMessage blockChangeBatch = 23;</code>
+     */
+    java.util.List<org.terasology.protobuf.NetData.BlockChangeBatchMessage> 
+        getBlockChangeBatchList();
+    /**
+     * <code>repeated .BlockChangeBatchMessage blockChangeBatch = 23;</code>
+     */
+    org.terasology.protobuf.NetData.BlockChangeBatchMessage getBlockChangeBatch(int index);
+    /**
+     * <code>repeated .BlockChangeBatchMessage blockChangeBatch = 23;</code>
+     */
+    int getBlockChangeBatchCount();
+    /**
+     * <code>repeated .BlockChangeBatchMessage blockChangeBatch = 23;</code>
+     */
+    java.util.List<? extends org.terasology.protobuf.NetData.BlockChangeBatchMessageOrBuilder> 
+        getBlockChangeBatchOrBuilderList();
+    /**
+     * <code>repeated .BlockChangeBatchMessage blockChangeBatch = 23;</code>
+     */
+    org.terasology.protobuf.NetData.BlockChangeBatchMessageOrBuilder getBlockChangeBatchOrBuilder(
+        int index);
+    /**
+     * <code>repeated .BiomeChangeBatchMessage biomeChangeBatch = 24;</code>
+     */
+    java.util.List<org.terasology.protobuf.NetData.BiomeChangeBatchMessage> 
+        getBiomeChangeBatchList();
+    /**
+     * <code>repeated .BiomeChangeBatchMessage biomeChangeBatch = 24;</code>
+     */
+    org.terasology.protobuf.NetData.BiomeChangeBatchMessage getBiomeChangeBatch(int index);
+    /**
+     * <code>repeated .BiomeChangeBatchMessage biomeChangeBatch = 24;</code>
+     */
+    int getBiomeChangeBatchCount();
+    /**
+     * <code>repeated .BiomeChangeBatchMessage biomeChangeBatch = 24;</code>
+     */
+    java.util.List<? extends org.terasology.protobuf.NetData.BiomeChangeBatchMessageOrBuilder> 
+        getBiomeChangeBatchOrBuilderList();
+    /**
+     * <code>repeated .BiomeChangeBatchMessage biomeChangeBatch = 24;</code>
+     */
+    org.terasology.protobuf.NetData.BiomeChangeBatchMessageOrBuilder getBiomeChangeBatchOrBuilder(
+        int index);
+
     /**
      * <code>optional .HandshakeHello handshakeHello = 100;</code>
      *
@@ -620,6 +667,22 @@ private NetMessage(
               bitField0_ |= 0x00000040;
               break;
             }
+            case 186: {
+              if (!((mutable_bitField0_ & 0x00020000) == 0x00020000)) {
+                blockChangeBatch_ = new java.util.ArrayList<org.terasology.protobuf.NetData.BlockChangeBatchMessage>();
+                mutable_bitField0_ |= 0x00020000;
+              }
+              blockChangeBatch_.add(input.readMessage(org.terasology.protobuf.NetData.BlockChangeBatchMessage.PARSER, extensionRegistry));
+              break;
+            }
+            case 194: {
+              if (!((mutable_bitField0_ & 0x00040000) == 0x00040000)) {
+                biomeChangeBatch_ = new java.util.ArrayList<org.terasology.protobuf.NetData.BiomeChangeBatchMessage>();
+                mutable_bitField0_ |= 0x00040000;
+              }
+              biomeChangeBatch_.add(input.readMessage(org.terasology.protobuf.NetData.BiomeChangeBatchMessage.PARSER, extensionRegistry));
+              break;
+            }
             case 802: {
               org.terasology.protobuf.NetData.HandshakeHello.Builder subBuilder = null;
               if (((bitField0_ & 0x00000080) == 0x00000080)) {
@@ -710,6 +773,12 @@ private NetMessage(
         if (((mutable_bitField0_ & 0x00002000) == 0x00002000)) {
           moduleRequest_ = java.util.Collections.unmodifiableList(moduleRequest_);
         }
+        if (((mutable_bitField0_ & 0x00020000) == 0x00020000)) {
+          blockChangeBatch_ = java.util.Collections.unmodifiableList(blockChangeBatch_);
+        }
+        if (((mutable_bitField0_ & 0x00040000) == 0x00040000)) {
+          biomeChangeBatch_ = java.util.Collections.unmodifiableList(biomeChangeBatch_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
@@ -1233,6 +1302,76 @@ public org.terasology.protobuf.NetData.JoinCompleteMessageOrBuilder getJoinCompl
       return joinComplete_;
     }
 
+    public static final int BLOCKCHANGEBATCH_FIELD_NUMBER = 23;
+    private java.util.List<org.terasology.protobuf.NetData.BlockChangeBatchMessage> blockChangeBatch_;
+    /**
+     * <code>repeated .BlockChangeBatchMessage blockChangeBatch = 23;</code>
+     */
+    public java.util.List<org.terasology.protobuf.NetData.BlockChangeBatchMessage> getBlockChangeBatchList() {
+      return blockChangeBatch_;
+    }
+    /**
+     * <code>repeated .BlockChangeBatchMessage blockChangeBatch = 23;</code>
+     */
+    public java.util.List<? extends org.terasology.protobuf.NetData.BlockChangeBatchMessageOrBuilder> 
+        getBlockChangeBatchOrBuilderList() {
+      return blockChangeBatch_;
+    }
+    /**
+     * <code>repeated .BlockChangeBatchMessage blockChangeBatch = 23;</code>
+     */
+    public int getBlockChangeBatchCount() {
+      return blockChangeBatch_.size();
+    }
+    /**
+     * <code>repeated .BlockChangeBatchMessage blockChangeBatch = 23;</code>
+     */
+    public org.terasology.protobuf.NetData.BlockChangeBatchMessage getBlockChangeBatch(int index) {
+      return blockChangeBatch_.get(index);
+    }
+    /**
+     * <code>repeated .BlockChangeBatchMessage blockChangeBatch = 23;</code>
+     */
+    public org.terasology.protobuf.NetData.BlockChangeBatchMessageOrBuilder getBlockChangeBatchOrBuilder(
+        int index) {
+      return blockChangeBatch_.get(index);
+    }
+
+    public static final int BIOMECHANGEBATCH_FIELD_NUMBER = 24;
+    private java.util.List<org.terasology.protobuf.NetData.BiomeChangeBatchMessage> biomeChangeBatch_;
+    /**
+     * <code>repeated .BiomeChangeBatchMessage biomeChangeBatch = 24;</code>
+     */
+    public java.util.List<org.terasology.protobuf.NetData.BiomeChangeBatchMessage> getBiomeChangeBatchList() {
+      return biomeChangeBatch_;
+    }
+    /**
+     * <code>repeated .BiomeChangeBatchMessage biomeChangeBatch = 24;</code>
+     */
+    public java.util.List<? extends org.terasology.protobuf.NetData.BiomeChangeBatchMessageOrBuilder> 
+        getBiomeChangeBatchOrBuilderList() {
+      return biomeChangeBatch_;
+    }
+    /**
+     * <code>repeated .BiomeChangeBatchMessage biomeChangeBatch = 24;</code>
+     */
+    public int getBiomeChangeBatchCount() {
+      return biomeChangeBatch_.size();
+    }
+    /**
+     * <code>repeated .BiomeChangeBatchMessage biomeChangeBatch = 24;</code>
+     */
+    public org.terasology.protobuf.NetData.BiomeChangeBatchMessage getBiomeChangeBatch(int index) {
+      return biomeChangeBatch_.get(index);
+    }
+    /**
+     * <code>repeated .BiomeChangeBatchMessage biomeChangeBatch = 24;</code>
+     */
+    public org.terasology.protobuf.NetData.BiomeChangeBatchMessageOrBuilder getBiomeChangeBatchOrBuilder(
+        int index) {
+      return biomeChangeBatch_.get(index);
+    }
+
     public static final int HANDSHAKEHELLO_FIELD_NUMBER = 100;
     private org.terasology.protobuf.NetData.HandshakeHello handshakeHello_;
     /**
@@ -1347,6 +1486,8 @@ private void initFields() {
       moduleDataHeader_ = org.terasology.protobuf.NetData.ModuleDataHeader.getDefaultInstance();
       moduleData_ = org.terasology.protobuf.NetData.ModuleData.getDefaultInstance();
       joinComplete_ = org.terasology.protobuf.NetData.JoinCompleteMessage.getDefaultInstance();
+      blockChangeBatch_ = java.util.Collections.emptyList();
+      biomeChangeBatch_ = java.util.Collections.emptyList();
       handshakeHello_ = org.terasology.protobuf.NetData.HandshakeHello.getDefaultInstance();
       newIdentityRequest_ = org.terasology.protobuf.NetData.NewIdentityRequest.getDefaultInstance();
       provisionIdentity_ = org.terasology.protobuf.NetData.ProvisionIdentity.getDefaultInstance();
@@ -1454,6 +1595,18 @@ public final boolean isInitialized() {
           return false;
         }
       }
+      for (int i = 0; i < getBlockChangeBatchCount(); i++) {
+        if (!getBlockChangeBatch(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      for (int i = 0; i < getBiomeChangeBatchCount(); i++) {
+        if (!getBiomeChangeBatch(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
       if (hasHandshakeHello()) {
         if (!getHandshakeHello().isInitialized()) {
           memoizedIsInitialized = 0;
@@ -1543,6 +1696,12 @@ public void writeTo(com.google.protobuf.CodedOutputStream output)
       if (((bitField0_ & 0x00000040) == 0x00000040)) {
         output.writeMessage(22, joinComplete_);
       }
+      for (int i = 0; i < blockChangeBatch_.size(); i++) {
+        output.writeMessage(23, blockChangeBatch_.get(i));
+      }
+      for (int i = 0; i < biomeChangeBatch_.size(); i++) {
+        output.writeMessage(24, biomeChangeBatch_.get(i));
+      }
       if (((bitField0_ & 0x00000080) == 0x00000080)) {
         output.writeMessage(100, handshakeHello_);
       }
@@ -1633,6 +1792,14 @@ public int getSerializedSize() {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(22, joinComplete_);
       }
+      for (int i = 0; i < blockChangeBatch_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(23, blockChangeBatch_.get(i));
+      }
+      for (int i = 0; i < biomeChangeBatch_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(24, biomeChangeBatch_.get(i));
+      }
       if (((bitField0_ & 0x00000080) == 0x00000080)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(100, handshakeHello_);
@@ -1776,6 +1943,8 @@ private void maybeForceBuilderInitialization() {
           getModuleDataHeaderFieldBuilder();
           getModuleDataFieldBuilder();
           getJoinCompleteFieldBuilder();
+          getBlockChangeBatchFieldBuilder();
+          getBiomeChangeBatchFieldBuilder();
           getHandshakeHelloFieldBuilder();
           getNewIdentityRequestFieldBuilder();
           getProvisionIdentityFieldBuilder();
@@ -1886,30 +2055,42 @@ public Builder clear() {
           joinCompleteBuilder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00010000);
+        if (blockChangeBatchBuilder_ == null) {
+          blockChangeBatch_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00020000);
+        } else {
+          blockChangeBatchBuilder_.clear();
+        }
+        if (biomeChangeBatchBuilder_ == null) {
+          biomeChangeBatch_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00040000);
+        } else {
+          biomeChangeBatchBuilder_.clear();
+        }
         if (handshakeHelloBuilder_ == null) {
           handshakeHello_ = org.terasology.protobuf.NetData.HandshakeHello.getDefaultInstance();
         } else {
           handshakeHelloBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00020000);
+        bitField0_ = (bitField0_ & ~0x00080000);
         if (newIdentityRequestBuilder_ == null) {
           newIdentityRequest_ = org.terasology.protobuf.NetData.NewIdentityRequest.getDefaultInstance();
         } else {
           newIdentityRequestBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00040000);
+        bitField0_ = (bitField0_ & ~0x00100000);
         if (provisionIdentityBuilder_ == null) {
           provisionIdentity_ = org.terasology.protobuf.NetData.ProvisionIdentity.getDefaultInstance();
         } else {
           provisionIdentityBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00080000);
+        bitField0_ = (bitField0_ & ~0x00200000);
         if (handshakeVerificationBuilder_ == null) {
           handshakeVerification_ = org.terasology.protobuf.NetData.HandshakeVerification.getDefaultInstance();
         } else {
           handshakeVerificationBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00100000);
+        bitField0_ = (bitField0_ & ~0x00400000);
         return this;
       }
 
@@ -2080,7 +2261,25 @@ public org.terasology.protobuf.NetData.NetMessage buildPartial() {
         } else {
           result.joinComplete_ = joinCompleteBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00020000) == 0x00020000)) {
+        if (blockChangeBatchBuilder_ == null) {
+          if (((bitField0_ & 0x00020000) == 0x00020000)) {
+            blockChangeBatch_ = java.util.Collections.unmodifiableList(blockChangeBatch_);
+            bitField0_ = (bitField0_ & ~0x00020000);
+          }
+          result.blockChangeBatch_ = blockChangeBatch_;
+        } else {
+          result.blockChangeBatch_ = blockChangeBatchBuilder_.build();
+        }
+        if (biomeChangeBatchBuilder_ == null) {
+          if (((bitField0_ & 0x00040000) == 0x00040000)) {
+            biomeChangeBatch_ = java.util.Collections.unmodifiableList(biomeChangeBatch_);
+            bitField0_ = (bitField0_ & ~0x00040000);
+          }
+          result.biomeChangeBatch_ = biomeChangeBatch_;
+        } else {
+          result.biomeChangeBatch_ = biomeChangeBatchBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00080000) == 0x00080000)) {
           to_bitField0_ |= 0x00000080;
         }
         if (handshakeHelloBuilder_ == null) {
@@ -2088,7 +2287,7 @@ public org.terasology.protobuf.NetData.NetMessage buildPartial() {
         } else {
           result.handshakeHello_ = handshakeHelloBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00040000) == 0x00040000)) {
+        if (((from_bitField0_ & 0x00100000) == 0x00100000)) {
           to_bitField0_ |= 0x00000100;
         }
         if (newIdentityRequestBuilder_ == null) {
@@ -2096,7 +2295,7 @@ public org.terasology.protobuf.NetData.NetMessage buildPartial() {
         } else {
           result.newIdentityRequest_ = newIdentityRequestBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00080000) == 0x00080000)) {
+        if (((from_bitField0_ & 0x00200000) == 0x00200000)) {
           to_bitField0_ |= 0x00000200;
         }
         if (provisionIdentityBuilder_ == null) {
@@ -2104,7 +2303,7 @@ public org.terasology.protobuf.NetData.NetMessage buildPartial() {
         } else {
           result.provisionIdentity_ = provisionIdentityBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00100000) == 0x00100000)) {
+        if (((from_bitField0_ & 0x00400000) == 0x00400000)) {
           to_bitField0_ |= 0x00000400;
         }
         if (handshakeVerificationBuilder_ == null) {
@@ -2409,6 +2608,58 @@ public Builder mergeFrom(org.terasology.protobuf.NetData.NetMessage other) {
         if (other.hasJoinComplete()) {
           mergeJoinComplete(other.getJoinComplete());
         }
+        if (blockChangeBatchBuilder_ == null) {
+          if (!other.blockChangeBatch_.isEmpty()) {
+            if (blockChangeBatch_.isEmpty()) {
+              blockChangeBatch_ = other.blockChangeBatch_;
+              bitField0_ = (bitField0_ & ~0x00020000);
+            } else {
+              ensureBlockChangeBatchIsMutable();
+              blockChangeBatch_.addAll(other.blockChangeBatch_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.blockChangeBatch_.isEmpty()) {
+            if (blockChangeBatchBuilder_.isEmpty()) {
+              blockChangeBatchBuilder_.dispose();
+              blockChangeBatchBuilder_ = null;
+              blockChangeBatch_ = other.blockChangeBatch_;
+              bitField0_ = (bitField0_ & ~0x00020000);
+              blockChangeBatchBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getBlockChangeBatchFieldBuilder() : null;
+            } else {
+              blockChangeBatchBuilder_.addAllMessages(other.blockChangeBatch_);
+            }
+          }
+        }
+        if (biomeChangeBatchBuilder_ == null) {
+          if (!other.biomeChangeBatch_.isEmpty()) {
+            if (biomeChangeBatch_.isEmpty()) {
+              biomeChangeBatch_ = other.biomeChangeBatch_;
+              bitField0_ = (bitField0_ & ~0x00040000);
+            } else {
+              ensureBiomeChangeBatchIsMutable();
+              biomeChangeBatch_.addAll(other.biomeChangeBatch_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.biomeChangeBatch_.isEmpty()) {
+            if (biomeChangeBatchBuilder_.isEmpty()) {
+              biomeChangeBatchBuilder_.dispose();
+              biomeChangeBatchBuilder_ = null;
+              biomeChangeBatch_ = other.biomeChangeBatch_;
+              bitField0_ = (bitField0_ & ~0x00040000);
+              biomeChangeBatchBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getBiomeChangeBatchFieldBuilder() : null;
+            } else {
+              biomeChangeBatchBuilder_.addAllMessages(other.biomeChangeBatch_);
+            }
+          }
+        }
         if (other.hasHandshakeHello()) {
           mergeHandshakeHello(other.getHandshakeHello());
         }
@@ -2523,6 +2774,18 @@ public final boolean isInitialized() {
             return false;
           }
         }
+        for (int i = 0; i < getBlockChangeBatchCount(); i++) {
+          if (!getBlockChangeBatch(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        for (int i = 0; i < getBiomeChangeBatchCount(); i++) {
+          if (!getBiomeChangeBatch(i).isInitialized()) {
+            
+            return false;
+          }
+        }
         if (hasHandshakeHello()) {
           if (!getHandshakeHello().isInitialized()) {
             
@@ -5701,574 +5964,2225 @@ public org.terasology.protobuf.NetData.JoinCompleteMessageOrBuilder getJoinCompl
         return joinCompleteBuilder_;
       }
 
-      private org.terasology.protobuf.NetData.HandshakeHello handshakeHello_ = org.terasology.protobuf.NetData.HandshakeHello.getDefaultInstance();
-      private com.google.protobuf.SingleFieldBuilder<
-          org.terasology.protobuf.NetData.HandshakeHello, org.terasology.protobuf.NetData.HandshakeHello.Builder, org.terasology.protobuf.NetData.HandshakeHelloOrBuilder> handshakeHelloBuilder_;
+      private java.util.List<org.terasology.protobuf.NetData.BlockChangeBatchMessage> blockChangeBatch_ =
+        java.util.Collections.emptyList();
+      private void ensureBlockChangeBatchIsMutable() {
+        if (!((bitField0_ & 0x00020000) == 0x00020000)) {
+          blockChangeBatch_ = new java.util.ArrayList<org.terasology.protobuf.NetData.BlockChangeBatchMessage>(blockChangeBatch_);
+          bitField0_ |= 0x00020000;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.terasology.protobuf.NetData.BlockChangeBatchMessage, org.terasology.protobuf.NetData.BlockChangeBatchMessage.Builder, org.terasology.protobuf.NetData.BlockChangeBatchMessageOrBuilder> blockChangeBatchBuilder_;
+
       /**
-       * <code>optional .HandshakeHello handshakeHello = 100;</code>
-       *
-       * <pre>
-       * Authentication
-       * </pre>
+       * <code>repeated .BlockChangeBatchMessage blockChangeBatch = 23;</code>
        */
-      public boolean hasHandshakeHello() {
-        return ((bitField0_ & 0x00020000) == 0x00020000);
+      public java.util.List<org.terasology.protobuf.NetData.BlockChangeBatchMessage> getBlockChangeBatchList() {
+        if (blockChangeBatchBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(blockChangeBatch_);
+        } else {
+          return blockChangeBatchBuilder_.getMessageList();
+        }
       }
       /**
-       * <code>optional .HandshakeHello handshakeHello = 100;</code>
-       *
-       * <pre>
-       * Authentication
-       * </pre>
+       * <code>repeated .BlockChangeBatchMessage blockChangeBatch = 23;</code>
        */
-      public org.terasology.protobuf.NetData.HandshakeHello getHandshakeHello() {
-        if (handshakeHelloBuilder_ == null) {
-          return handshakeHello_;
+      public int getBlockChangeBatchCount() {
+        if (blockChangeBatchBuilder_ == null) {
+          return blockChangeBatch_.size();
         } else {
-          return handshakeHelloBuilder_.getMessage();
+          return blockChangeBatchBuilder_.getCount();
         }
       }
       /**
-       * <code>optional .HandshakeHello handshakeHello = 100;</code>
-       *
-       * <pre>
-       * Authentication
-       * </pre>
+       * <code>repeated .BlockChangeBatchMessage blockChangeBatch = 23;</code>
        */
-      public Builder setHandshakeHello(org.terasology.protobuf.NetData.HandshakeHello value) {
-        if (handshakeHelloBuilder_ == null) {
+      public org.terasology.protobuf.NetData.BlockChangeBatchMessage getBlockChangeBatch(int index) {
+        if (blockChangeBatchBuilder_ == null) {
+          return blockChangeBatch_.get(index);
+        } else {
+          return blockChangeBatchBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .BlockChangeBatchMessage blockChangeBatch = 23;</code>
+       */
+      public Builder setBlockChangeBatch(
+          int index, org.terasology.protobuf.NetData.BlockChangeBatchMessage value) {
+        if (blockChangeBatchBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          handshakeHello_ = value;
+          ensureBlockChangeBatchIsMutable();
+          blockChangeBatch_.set(index, value);
           onChanged();
         } else {
-          handshakeHelloBuilder_.setMessage(value);
+          blockChangeBatchBuilder_.setMessage(index, value);
         }
-        bitField0_ |= 0x00020000;
         return this;
       }
       /**
-       * <code>optional .HandshakeHello handshakeHello = 100;</code>
-       *
-       * <pre>
-       * Authentication
-       * </pre>
+       * <code>repeated .BlockChangeBatchMessage blockChangeBatch = 23;</code>
        */
-      public Builder setHandshakeHello(
-          org.terasology.protobuf.NetData.HandshakeHello.Builder builderForValue) {
-        if (handshakeHelloBuilder_ == null) {
-          handshakeHello_ = builderForValue.build();
+      public Builder setBlockChangeBatch(
+          int index, org.terasology.protobuf.NetData.BlockChangeBatchMessage.Builder builderForValue) {
+        if (blockChangeBatchBuilder_ == null) {
+          ensureBlockChangeBatchIsMutable();
+          blockChangeBatch_.set(index, builderForValue.build());
           onChanged();
         } else {
-          handshakeHelloBuilder_.setMessage(builderForValue.build());
+          blockChangeBatchBuilder_.setMessage(index, builderForValue.build());
         }
-        bitField0_ |= 0x00020000;
         return this;
       }
       /**
-       * <code>optional .HandshakeHello handshakeHello = 100;</code>
-       *
-       * <pre>
-       * Authentication
-       * </pre>
+       * <code>repeated .BlockChangeBatchMessage blockChangeBatch = 23;</code>
        */
-      public Builder mergeHandshakeHello(org.terasology.protobuf.NetData.HandshakeHello value) {
-        if (handshakeHelloBuilder_ == null) {
-          if (((bitField0_ & 0x00020000) == 0x00020000) &&
-              handshakeHello_ != org.terasology.protobuf.NetData.HandshakeHello.getDefaultInstance()) {
-            handshakeHello_ =
-              org.terasology.protobuf.NetData.HandshakeHello.newBuilder(handshakeHello_).mergeFrom(value).buildPartial();
-          } else {
-            handshakeHello_ = value;
+      public Builder addBlockChangeBatch(org.terasology.protobuf.NetData.BlockChangeBatchMessage value) {
+        if (blockChangeBatchBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
+          ensureBlockChangeBatchIsMutable();
+          blockChangeBatch_.add(value);
           onChanged();
         } else {
-          handshakeHelloBuilder_.mergeFrom(value);
+          blockChangeBatchBuilder_.addMessage(value);
         }
-        bitField0_ |= 0x00020000;
         return this;
       }
       /**
-       * <code>optional .HandshakeHello handshakeHello = 100;</code>
-       *
-       * <pre>
-       * Authentication
-       * </pre>
+       * <code>repeated .BlockChangeBatchMessage blockChangeBatch = 23;</code>
        */
-      public Builder clearHandshakeHello() {
-        if (handshakeHelloBuilder_ == null) {
-          handshakeHello_ = org.terasology.protobuf.NetData.HandshakeHello.getDefaultInstance();
+      public Builder addBlockChangeBatch(
+          int index, org.terasology.protobuf.NetData.BlockChangeBatchMessage value) {
+        if (blockChangeBatchBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureBlockChangeBatchIsMutable();
+          blockChangeBatch_.add(index, value);
           onChanged();
         } else {
-          handshakeHelloBuilder_.clear();
+          blockChangeBatchBuilder_.addMessage(index, value);
         }
-        bitField0_ = (bitField0_ & ~0x00020000);
         return this;
       }
       /**
-       * <code>optional .HandshakeHello handshakeHello = 100;</code>
-       *
-       * <pre>
-       * Authentication
-       * </pre>
+       * <code>repeated .BlockChangeBatchMessage blockChangeBatch = 23;</code>
        */
-      public org.terasology.protobuf.NetData.HandshakeHello.Builder getHandshakeHelloBuilder() {
-        bitField0_ |= 0x00020000;
-        onChanged();
-        return getHandshakeHelloFieldBuilder().getBuilder();
+      public Builder addBlockChangeBatch(
+          org.terasology.protobuf.NetData.BlockChangeBatchMessage.Builder builderForValue) {
+        if (blockChangeBatchBuilder_ == null) {
+          ensureBlockChangeBatchIsMutable();
+          blockChangeBatch_.add(builderForValue.build());
+          onChanged();
+        } else {
+          blockChangeBatchBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
       }
       /**
-       * <code>optional .HandshakeHello handshakeHello = 100;</code>
-       *
-       * <pre>
-       * Authentication
-       * </pre>
+       * <code>repeated .BlockChangeBatchMessage blockChangeBatch = 23;</code>
        */
-      public org.terasology.protobuf.NetData.HandshakeHelloOrBuilder getHandshakeHelloOrBuilder() {
-        if (handshakeHelloBuilder_ != null) {
-          return handshakeHelloBuilder_.getMessageOrBuilder();
+      public Builder addBlockChangeBatch(
+          int index, org.terasology.protobuf.NetData.BlockChangeBatchMessage.Builder builderForValue) {
+        if (blockChangeBatchBuilder_ == null) {
+          ensureBlockChangeBatchIsMutable();
+          blockChangeBatch_.add(index, builderForValue.build());
+          onChanged();
         } else {
-          return handshakeHello_;
+          blockChangeBatchBuilder_.addMessage(index, builderForValue.build());
         }
+        return this;
       }
       /**
-       * <code>optional .HandshakeHello handshakeHello = 100;</code>
-       *
-       * <pre>
-       * Authentication
-       * </pre>
+       * <code>repeated .BlockChangeBatchMessage blockChangeBatch = 23;</code>
        */
-      private com.google.protobuf.SingleFieldBuilder<
-          org.terasology.protobuf.NetData.HandshakeHello, org.terasology.protobuf.NetData.HandshakeHello.Builder, org.terasology.protobuf.NetData.HandshakeHelloOrBuilder> 
-          getHandshakeHelloFieldBuilder() {
-        if (handshakeHelloBuilder_ == null) {
-          handshakeHelloBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              org.terasology.protobuf.NetData.HandshakeHello, org.terasology.protobuf.NetData.HandshakeHello.Builder, org.terasology.protobuf.NetData.HandshakeHelloOrBuilder>(
-                  getHandshakeHello(),
-                  getParentForChildren(),
-                  isClean());
-          handshakeHello_ = null;
+      public Builder addAllBlockChangeBatch(
+          java.lang.Iterable<? extends org.terasology.protobuf.NetData.BlockChangeBatchMessage> values) {
+        if (blockChangeBatchBuilder_ == null) {
+          ensureBlockChangeBatchIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, blockChangeBatch_);
+          onChanged();
+        } else {
+          blockChangeBatchBuilder_.addAllMessages(values);
         }
-        return handshakeHelloBuilder_;
+        return this;
       }
-
-      private org.terasology.protobuf.NetData.NewIdentityRequest newIdentityRequest_ = org.terasology.protobuf.NetData.NewIdentityRequest.getDefaultInstance();
-      private com.google.protobuf.SingleFieldBuilder<
-          org.terasology.protobuf.NetData.NewIdentityRequest, org.terasology.protobuf.NetData.NewIdentityRequest.Builder, org.terasology.protobuf.NetData.NewIdentityRequestOrBuilder> newIdentityRequestBuilder_;
       /**
-       * <code>optional .NewIdentityRequest newIdentityRequest = 101;</code>
+       * <code>repeated .BlockChangeBatchMessage blockChangeBatch = 23;</code>
        */
-      public boolean hasNewIdentityRequest() {
-        return ((bitField0_ & 0x00040000) == 0x00040000);
+      public Builder clearBlockChangeBatch() {
+        if (blockChangeBatchBuilder_ == null) {
+          blockChangeBatch_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00020000);
+          onChanged();
+        } else {
+          blockChangeBatchBuilder_.clear();
+        }
+        return this;
       }
       /**
-       * <code>optional .NewIdentityRequest newIdentityRequest = 101;</code>
+       * <code>repeated .BlockChangeBatchMessage blockChangeBatch = 23;</code>
        */
-      public org.terasology.protobuf.NetData.NewIdentityRequest getNewIdentityRequest() {
-        if (newIdentityRequestBuilder_ == null) {
-          return newIdentityRequest_;
-        } else {
-          return newIdentityRequestBuilder_.getMessage();
-        }
-      }
-      /**
-       * <code>optional .NewIdentityRequest newIdentityRequest = 101;</code>
-       */
-      public Builder setNewIdentityRequest(org.terasology.protobuf.NetData.NewIdentityRequest value) {
-        if (newIdentityRequestBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          newIdentityRequest_ = value;
+      public Builder removeBlockChangeBatch(int index) {
+        if (blockChangeBatchBuilder_ == null) {
+          ensureBlockChangeBatchIsMutable();
+          blockChangeBatch_.remove(index);
           onChanged();
         } else {
-          newIdentityRequestBuilder_.setMessage(value);
+          blockChangeBatchBuilder_.remove(index);
         }
-        bitField0_ |= 0x00040000;
         return this;
       }
       /**
-       * <code>optional .NewIdentityRequest newIdentityRequest = 101;</code>
+       * <code>repeated .BlockChangeBatchMessage blockChangeBatch = 23;</code>
        */
-      public Builder setNewIdentityRequest(
-          org.terasology.protobuf.NetData.NewIdentityRequest.Builder builderForValue) {
-        if (newIdentityRequestBuilder_ == null) {
-          newIdentityRequest_ = builderForValue.build();
-          onChanged();
-        } else {
-          newIdentityRequestBuilder_.setMessage(builderForValue.build());
-        }
-        bitField0_ |= 0x00040000;
-        return this;
+      public org.terasology.protobuf.NetData.BlockChangeBatchMessage.Builder getBlockChangeBatchBuilder(
+          int index) {
+        return getBlockChangeBatchFieldBuilder().getBuilder(index);
       }
       /**
-       * <code>optional .NewIdentityRequest newIdentityRequest = 101;</code>
+       * <code>repeated .BlockChangeBatchMessage blockChangeBatch = 23;</code>
        */
-      public Builder mergeNewIdentityRequest(org.terasology.protobuf.NetData.NewIdentityRequest value) {
-        if (newIdentityRequestBuilder_ == null) {
-          if (((bitField0_ & 0x00040000) == 0x00040000) &&
-              newIdentityRequest_ != org.terasology.protobuf.NetData.NewIdentityRequest.getDefaultInstance()) {
-            newIdentityRequest_ =
-              org.terasology.protobuf.NetData.NewIdentityRequest.newBuilder(newIdentityRequest_).mergeFrom(value).buildPartial();
-          } else {
-            newIdentityRequest_ = value;
-          }
-          onChanged();
-        } else {
-          newIdentityRequestBuilder_.mergeFrom(value);
+      public org.terasology.protobuf.NetData.BlockChangeBatchMessageOrBuilder getBlockChangeBatchOrBuilder(
+          int index) {
+        if (blockChangeBatchBuilder_ == null) {
+          return blockChangeBatch_.get(index);  } else {
+          return blockChangeBatchBuilder_.getMessageOrBuilder(index);
         }
-        bitField0_ |= 0x00040000;
-        return this;
       }
       /**
-       * <code>optional .NewIdentityRequest newIdentityRequest = 101;</code>
+       * <code>repeated .BlockChangeBatchMessage blockChangeBatch = 23;</code>
        */
-      public Builder clearNewIdentityRequest() {
-        if (newIdentityRequestBuilder_ == null) {
-          newIdentityRequest_ = org.terasology.protobuf.NetData.NewIdentityRequest.getDefaultInstance();
-          onChanged();
+      public java.util.List<? extends org.terasology.protobuf.NetData.BlockChangeBatchMessageOrBuilder> 
+           getBlockChangeBatchOrBuilderList() {
+        if (blockChangeBatchBuilder_ != null) {
+          return blockChangeBatchBuilder_.getMessageOrBuilderList();
         } else {
-          newIdentityRequestBuilder_.clear();
+          return java.util.Collections.unmodifiableList(blockChangeBatch_);
         }
-        bitField0_ = (bitField0_ & ~0x00040000);
-        return this;
       }
       /**
-       * <code>optional .NewIdentityRequest newIdentityRequest = 101;</code>
+       * <code>repeated .BlockChangeBatchMessage blockChangeBatch = 23;</code>
        */
-      public org.terasology.protobuf.NetData.NewIdentityRequest.Builder getNewIdentityRequestBuilder() {
-        bitField0_ |= 0x00040000;
-        onChanged();
-        return getNewIdentityRequestFieldBuilder().getBuilder();
+      public org.terasology.protobuf.NetData.BlockChangeBatchMessage.Builder addBlockChangeBatchBuilder() {
+        return getBlockChangeBatchFieldBuilder().addBuilder(
+            org.terasology.protobuf.NetData.BlockChangeBatchMessage.getDefaultInstance());
       }
       /**
-       * <code>optional .NewIdentityRequest newIdentityRequest = 101;</code>
+       * <code>repeated .BlockChangeBatchMessage blockChangeBatch = 23;</code>
        */
-      public org.terasology.protobuf.NetData.NewIdentityRequestOrBuilder getNewIdentityRequestOrBuilder() {
-        if (newIdentityRequestBuilder_ != null) {
-          return newIdentityRequestBuilder_.getMessageOrBuilder();
-        } else {
-          return newIdentityRequest_;
-        }
+      public org.terasology.protobuf.NetData.BlockChangeBatchMessage.Builder addBlockChangeBatchBuilder(
+          int index) {
+        return getBlockChangeBatchFieldBuilder().addBuilder(
+            index, org.terasology.protobuf.NetData.BlockChangeBatchMessage.getDefaultInstance());
       }
       /**
-       * <code>optional .NewIdentityRequest newIdentityRequest = 101;</code>
+       * <code>repeated .BlockChangeBatchMessage blockChangeBatch = 23;</code>
        */
-      private com.google.protobuf.SingleFieldBuilder<
-          org.terasology.protobuf.NetData.NewIdentityRequest, org.terasology.protobuf.NetData.NewIdentityRequest.Builder, org.terasology.protobuf.NetData.NewIdentityRequestOrBuilder> 
-          getNewIdentityRequestFieldBuilder() {
-        if (newIdentityRequestBuilder_ == null) {
-          newIdentityRequestBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              org.terasology.protobuf.NetData.NewIdentityRequest, org.terasology.protobuf.NetData.NewIdentityRequest.Builder, org.terasology.protobuf.NetData.NewIdentityRequestOrBuilder>(
-                  getNewIdentityRequest(),
+      public java.util.List<org.terasology.protobuf.NetData.BlockChangeBatchMessage.Builder> 
+           getBlockChangeBatchBuilderList() {
+        return getBlockChangeBatchFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.terasology.protobuf.NetData.BlockChangeBatchMessage, org.terasology.protobuf.NetData.BlockChangeBatchMessage.Builder, org.terasology.protobuf.NetData.BlockChangeBatchMessageOrBuilder> 
+          getBlockChangeBatchFieldBuilder() {
+        if (blockChangeBatchBuilder_ == null) {
+          blockChangeBatchBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.terasology.protobuf.NetData.BlockChangeBatchMessage, org.terasology.protobuf.NetData.BlockChangeBatchMessage.Builder, org.terasology.protobuf.NetData.BlockChangeBatchMessageOrBuilder>(
+                  blockChangeBatch_,
+                  ((bitField0_ & 0x00020000) == 0x00020000),
                   getParentForChildren(),
                   isClean());
-          newIdentityRequest_ = null;
+          blockChangeBatch_ = null;
         }
-        return newIdentityRequestBuilder_;
+        return blockChangeBatchBuilder_;
+      }
+      private java.util.List<org.terasology.protobuf.NetData.BiomeChangeBatchMessage> biomeChangeBatch_ =
+        java.util.Collections.emptyList();
+      private void ensureBiomeChangeBatchIsMutable() {
+        if (!((bitField0_ & 0x00040000) == 0x00040000)) {
+          biomeChangeBatch_ = new java.util.ArrayList<org.terasology.protobuf.NetData.BiomeChangeBatchMessage>(biomeChangeBatch_);
+          bitField0_ |= 0x00040000;
+         }
       }
 
-      private org.terasology.protobuf.NetData.ProvisionIdentity provisionIdentity_ = org.terasology.protobuf.NetData.ProvisionIdentity.getDefaultInstance();
-      private com.google.protobuf.SingleFieldBuilder<
-          org.terasology.protobuf.NetData.ProvisionIdentity, org.terasology.protobuf.NetData.ProvisionIdentity.Builder, org.terasology.protobuf.NetData.ProvisionIdentityOrBuilder> provisionIdentityBuilder_;
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.terasology.protobuf.NetData.BiomeChangeBatchMessage, org.terasology.protobuf.NetData.BiomeChangeBatchMessage.Builder, org.terasology.protobuf.NetData.BiomeChangeBatchMessageOrBuilder> biomeChangeBatchBuilder_;
+
       /**
-       * <code>optional .ProvisionIdentity provisionIdentity = 102;</code>
+       * <code>repeated .BiomeChangeBatchMessage biomeChangeBatch = 24;</code>
        */
-      public boolean hasProvisionIdentity() {
-        return ((bitField0_ & 0x00080000) == 0x00080000);
+      public java.util.List<org.terasology.protobuf.NetData.BiomeChangeBatchMessage> getBiomeChangeBatchList() {
+        if (biomeChangeBatchBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(biomeChangeBatch_);
+        } else {
+          return biomeChangeBatchBuilder_.getMessageList();
+        }
       }
       /**
-       * <code>optional .ProvisionIdentity provisionIdentity = 102;</code>
+       * <code>repeated .BiomeChangeBatchMessage biomeChangeBatch = 24;</code>
        */
-      public org.terasology.protobuf.NetData.ProvisionIdentity getProvisionIdentity() {
-        if (provisionIdentityBuilder_ == null) {
-          return provisionIdentity_;
+      public int getBiomeChangeBatchCount() {
+        if (biomeChangeBatchBuilder_ == null) {
+          return biomeChangeBatch_.size();
         } else {
-          return provisionIdentityBuilder_.getMessage();
+          return biomeChangeBatchBuilder_.getCount();
         }
       }
       /**
-       * <code>optional .ProvisionIdentity provisionIdentity = 102;</code>
+       * <code>repeated .BiomeChangeBatchMessage biomeChangeBatch = 24;</code>
        */
-      public Builder setProvisionIdentity(org.terasology.protobuf.NetData.ProvisionIdentity value) {
-        if (provisionIdentityBuilder_ == null) {
+      public org.terasology.protobuf.NetData.BiomeChangeBatchMessage getBiomeChangeBatch(int index) {
+        if (biomeChangeBatchBuilder_ == null) {
+          return biomeChangeBatch_.get(index);
+        } else {
+          return biomeChangeBatchBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .BiomeChangeBatchMessage biomeChangeBatch = 24;</code>
+       */
+      public Builder setBiomeChangeBatch(
+          int index, org.terasology.protobuf.NetData.BiomeChangeBatchMessage value) {
+        if (biomeChangeBatchBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          provisionIdentity_ = value;
+          ensureBiomeChangeBatchIsMutable();
+          biomeChangeBatch_.set(index, value);
           onChanged();
         } else {
-          provisionIdentityBuilder_.setMessage(value);
+          biomeChangeBatchBuilder_.setMessage(index, value);
         }
-        bitField0_ |= 0x00080000;
         return this;
       }
       /**
-       * <code>optional .ProvisionIdentity provisionIdentity = 102;</code>
+       * <code>repeated .BiomeChangeBatchMessage biomeChangeBatch = 24;</code>
        */
-      public Builder setProvisionIdentity(
-          org.terasology.protobuf.NetData.ProvisionIdentity.Builder builderForValue) {
-        if (provisionIdentityBuilder_ == null) {
-          provisionIdentity_ = builderForValue.build();
+      public Builder setBiomeChangeBatch(
+          int index, org.terasology.protobuf.NetData.BiomeChangeBatchMessage.Builder builderForValue) {
+        if (biomeChangeBatchBuilder_ == null) {
+          ensureBiomeChangeBatchIsMutable();
+          biomeChangeBatch_.set(index, builderForValue.build());
           onChanged();
         } else {
-          provisionIdentityBuilder_.setMessage(builderForValue.build());
+          biomeChangeBatchBuilder_.setMessage(index, builderForValue.build());
         }
-        bitField0_ |= 0x00080000;
         return this;
       }
       /**
-       * <code>optional .ProvisionIdentity provisionIdentity = 102;</code>
+       * <code>repeated .BiomeChangeBatchMessage biomeChangeBatch = 24;</code>
        */
-      public Builder mergeProvisionIdentity(org.terasology.protobuf.NetData.ProvisionIdentity value) {
-        if (provisionIdentityBuilder_ == null) {
-          if (((bitField0_ & 0x00080000) == 0x00080000) &&
-              provisionIdentity_ != org.terasology.protobuf.NetData.ProvisionIdentity.getDefaultInstance()) {
-            provisionIdentity_ =
-              org.terasology.protobuf.NetData.ProvisionIdentity.newBuilder(provisionIdentity_).mergeFrom(value).buildPartial();
-          } else {
-            provisionIdentity_ = value;
+      public Builder addBiomeChangeBatch(org.terasology.protobuf.NetData.BiomeChangeBatchMessage value) {
+        if (biomeChangeBatchBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
+          ensureBiomeChangeBatchIsMutable();
+          biomeChangeBatch_.add(value);
           onChanged();
         } else {
-          provisionIdentityBuilder_.mergeFrom(value);
+          biomeChangeBatchBuilder_.addMessage(value);
         }
-        bitField0_ |= 0x00080000;
         return this;
       }
       /**
-       * <code>optional .ProvisionIdentity provisionIdentity = 102;</code>
+       * <code>repeated .BiomeChangeBatchMessage biomeChangeBatch = 24;</code>
        */
-      public Builder clearProvisionIdentity() {
-        if (provisionIdentityBuilder_ == null) {
-          provisionIdentity_ = org.terasology.protobuf.NetData.ProvisionIdentity.getDefaultInstance();
+      public Builder addBiomeChangeBatch(
+          int index, org.terasology.protobuf.NetData.BiomeChangeBatchMessage value) {
+        if (biomeChangeBatchBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureBiomeChangeBatchIsMutable();
+          biomeChangeBatch_.add(index, value);
           onChanged();
         } else {
-          provisionIdentityBuilder_.clear();
+          biomeChangeBatchBuilder_.addMessage(index, value);
         }
-        bitField0_ = (bitField0_ & ~0x00080000);
         return this;
       }
       /**
-       * <code>optional .ProvisionIdentity provisionIdentity = 102;</code>
-       */
-      public org.terasology.protobuf.NetData.ProvisionIdentity.Builder getProvisionIdentityBuilder() {
-        bitField0_ |= 0x00080000;
-        onChanged();
-        return getProvisionIdentityFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>optional .ProvisionIdentity provisionIdentity = 102;</code>
+       * <code>repeated .BiomeChangeBatchMessage biomeChangeBatch = 24;</code>
        */
-      public org.terasology.protobuf.NetData.ProvisionIdentityOrBuilder getProvisionIdentityOrBuilder() {
-        if (provisionIdentityBuilder_ != null) {
-          return provisionIdentityBuilder_.getMessageOrBuilder();
+      public Builder addBiomeChangeBatch(
+          org.terasology.protobuf.NetData.BiomeChangeBatchMessage.Builder builderForValue) {
+        if (biomeChangeBatchBuilder_ == null) {
+          ensureBiomeChangeBatchIsMutable();
+          biomeChangeBatch_.add(builderForValue.build());
+          onChanged();
         } else {
-          return provisionIdentity_;
+          biomeChangeBatchBuilder_.addMessage(builderForValue.build());
         }
+        return this;
       }
       /**
-       * <code>optional .ProvisionIdentity provisionIdentity = 102;</code>
+       * <code>repeated .BiomeChangeBatchMessage biomeChangeBatch = 24;</code>
        */
-      private com.google.protobuf.SingleFieldBuilder<
-          org.terasology.protobuf.NetData.ProvisionIdentity, org.terasology.protobuf.NetData.ProvisionIdentity.Builder, org.terasology.protobuf.NetData.ProvisionIdentityOrBuilder> 
-          getProvisionIdentityFieldBuilder() {
-        if (provisionIdentityBuilder_ == null) {
-          provisionIdentityBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              org.terasology.protobuf.NetData.ProvisionIdentity, org.terasology.protobuf.NetData.ProvisionIdentity.Builder, org.terasology.protobuf.NetData.ProvisionIdentityOrBuilder>(
-                  getProvisionIdentity(),
-                  getParentForChildren(),
-                  isClean());
-          provisionIdentity_ = null;
+      public Builder addBiomeChangeBatch(
+          int index, org.terasology.protobuf.NetData.BiomeChangeBatchMessage.Builder builderForValue) {
+        if (biomeChangeBatchBuilder_ == null) {
+          ensureBiomeChangeBatchIsMutable();
+          biomeChangeBatch_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          biomeChangeBatchBuilder_.addMessage(index, builderForValue.build());
         }
-        return provisionIdentityBuilder_;
-      }
-
-      private org.terasology.protobuf.NetData.HandshakeVerification handshakeVerification_ = org.terasology.protobuf.NetData.HandshakeVerification.getDefaultInstance();
-      private com.google.protobuf.SingleFieldBuilder<
-          org.terasology.protobuf.NetData.HandshakeVerification, org.terasology.protobuf.NetData.HandshakeVerification.Builder, org.terasology.protobuf.NetData.HandshakeVerificationOrBuilder> handshakeVerificationBuilder_;
-      /**
-       * <code>optional .HandshakeVerification handshakeVerification = 103;</code>
-       */
-      public boolean hasHandshakeVerification() {
-        return ((bitField0_ & 0x00100000) == 0x00100000);
+        return this;
       }
       /**
-       * <code>optional .HandshakeVerification handshakeVerification = 103;</code>
+       * <code>repeated .BiomeChangeBatchMessage biomeChangeBatch = 24;</code>
        */
-      public org.terasology.protobuf.NetData.HandshakeVerification getHandshakeVerification() {
-        if (handshakeVerificationBuilder_ == null) {
-          return handshakeVerification_;
+      public Builder addAllBiomeChangeBatch(
+          java.lang.Iterable<? extends org.terasology.protobuf.NetData.BiomeChangeBatchMessage> values) {
+        if (biomeChangeBatchBuilder_ == null) {
+          ensureBiomeChangeBatchIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, biomeChangeBatch_);
+          onChanged();
         } else {
-          return handshakeVerificationBuilder_.getMessage();
+          biomeChangeBatchBuilder_.addAllMessages(values);
         }
+        return this;
       }
       /**
-       * <code>optional .HandshakeVerification handshakeVerification = 103;</code>
+       * <code>repeated .BiomeChangeBatchMessage biomeChangeBatch = 24;</code>
        */
-      public Builder setHandshakeVerification(org.terasology.protobuf.NetData.HandshakeVerification value) {
-        if (handshakeVerificationBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          handshakeVerification_ = value;
+      public Builder clearBiomeChangeBatch() {
+        if (biomeChangeBatchBuilder_ == null) {
+          biomeChangeBatch_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00040000);
           onChanged();
         } else {
-          handshakeVerificationBuilder_.setMessage(value);
+          biomeChangeBatchBuilder_.clear();
         }
-        bitField0_ |= 0x00100000;
         return this;
       }
       /**
-       * <code>optional .HandshakeVerification handshakeVerification = 103;</code>
+       * <code>repeated .BiomeChangeBatchMessage biomeChangeBatch = 24;</code>
        */
-      public Builder setHandshakeVerification(
-          org.terasology.protobuf.NetData.HandshakeVerification.Builder builderForValue) {
-        if (handshakeVerificationBuilder_ == null) {
-          handshakeVerification_ = builderForValue.build();
+      public Builder removeBiomeChangeBatch(int index) {
+        if (biomeChangeBatchBuilder_ == null) {
+          ensureBiomeChangeBatchIsMutable();
+          biomeChangeBatch_.remove(index);
           onChanged();
         } else {
-          handshakeVerificationBuilder_.setMessage(builderForValue.build());
+          biomeChangeBatchBuilder_.remove(index);
         }
-        bitField0_ |= 0x00100000;
         return this;
       }
       /**
-       * <code>optional .HandshakeVerification handshakeVerification = 103;</code>
+       * <code>repeated .BiomeChangeBatchMessage biomeChangeBatch = 24;</code>
        */
-      public Builder mergeHandshakeVerification(org.terasology.protobuf.NetData.HandshakeVerification value) {
-        if (handshakeVerificationBuilder_ == null) {
-          if (((bitField0_ & 0x00100000) == 0x00100000) &&
-              handshakeVerification_ != org.terasology.protobuf.NetData.HandshakeVerification.getDefaultInstance()) {
-            handshakeVerification_ =
-              org.terasology.protobuf.NetData.HandshakeVerification.newBuilder(handshakeVerification_).mergeFrom(value).buildPartial();
-          } else {
-            handshakeVerification_ = value;
-          }
-          onChanged();
-        } else {
-          handshakeVerificationBuilder_.mergeFrom(value);
+      public org.terasology.protobuf.NetData.BiomeChangeBatchMessage.Builder getBiomeChangeBatchBuilder(
+          int index) {
+        return getBiomeChangeBatchFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .BiomeChangeBatchMessage biomeChangeBatch = 24;</code>
+       */
+      public org.terasology.protobuf.NetData.BiomeChangeBatchMessageOrBuilder getBiomeChangeBatchOrBuilder(
+          int index) {
+        if (biomeChangeBatchBuilder_ == null) {
+          return biomeChangeBatch_.get(index);  } else {
+          return biomeChangeBatchBuilder_.getMessageOrBuilder(index);
         }
-        bitField0_ |= 0x00100000;
-        return this;
       }
       /**
-       * <code>optional .HandshakeVerification handshakeVerification = 103;</code>
+       * <code>repeated .BiomeChangeBatchMessage biomeChangeBatch = 24;</code>
        */
-      public Builder clearHandshakeVerification() {
-        if (handshakeVerificationBuilder_ == null) {
-          handshakeVerification_ = org.terasology.protobuf.NetData.HandshakeVerification.getDefaultInstance();
-          onChanged();
+      public java.util.List<? extends org.terasology.protobuf.NetData.BiomeChangeBatchMessageOrBuilder> 
+           getBiomeChangeBatchOrBuilderList() {
+        if (biomeChangeBatchBuilder_ != null) {
+          return biomeChangeBatchBuilder_.getMessageOrBuilderList();
         } else {
-          handshakeVerificationBuilder_.clear();
+          return java.util.Collections.unmodifiableList(biomeChangeBatch_);
         }
-        bitField0_ = (bitField0_ & ~0x00100000);
-        return this;
       }
       /**
-       * <code>optional .HandshakeVerification handshakeVerification = 103;</code>
+       * <code>repeated .BiomeChangeBatchMessage biomeChangeBatch = 24;</code>
        */
-      public org.terasology.protobuf.NetData.HandshakeVerification.Builder getHandshakeVerificationBuilder() {
-        bitField0_ |= 0x00100000;
-        onChanged();
-        return getHandshakeVerificationFieldBuilder().getBuilder();
+      public org.terasology.protobuf.NetData.BiomeChangeBatchMessage.Builder addBiomeChangeBatchBuilder() {
+        return getBiomeChangeBatchFieldBuilder().addBuilder(
+            org.terasology.protobuf.NetData.BiomeChangeBatchMessage.getDefaultInstance());
       }
       /**
-       * <code>optional .HandshakeVerification handshakeVerification = 103;</code>
+       * <code>repeated .BiomeChangeBatchMessage biomeChangeBatch = 24;</code>
        */
-      public org.terasology.protobuf.NetData.HandshakeVerificationOrBuilder getHandshakeVerificationOrBuilder() {
-        if (handshakeVerificationBuilder_ != null) {
-          return handshakeVerificationBuilder_.getMessageOrBuilder();
-        } else {
-          return handshakeVerification_;
-        }
+      public org.terasology.protobuf.NetData.BiomeChangeBatchMessage.Builder addBiomeChangeBatchBuilder(
+          int index) {
+        return getBiomeChangeBatchFieldBuilder().addBuilder(
+            index, org.terasology.protobuf.NetData.BiomeChangeBatchMessage.getDefaultInstance());
       }
       /**
-       * <code>optional .HandshakeVerification handshakeVerification = 103;</code>
+       * <code>repeated .BiomeChangeBatchMessage biomeChangeBatch = 24;</code>
        */
-      private com.google.protobuf.SingleFieldBuilder<
-          org.terasology.protobuf.NetData.HandshakeVerification, org.terasology.protobuf.NetData.HandshakeVerification.Builder, org.terasology.protobuf.NetData.HandshakeVerificationOrBuilder> 
-          getHandshakeVerificationFieldBuilder() {
-        if (handshakeVerificationBuilder_ == null) {
-          handshakeVerificationBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              org.terasology.protobuf.NetData.HandshakeVerification, org.terasology.protobuf.NetData.HandshakeVerification.Builder, org.terasology.protobuf.NetData.HandshakeVerificationOrBuilder>(
-                  getHandshakeVerification(),
+      public java.util.List<org.terasology.protobuf.NetData.BiomeChangeBatchMessage.Builder> 
+           getBiomeChangeBatchBuilderList() {
+        return getBiomeChangeBatchFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.terasology.protobuf.NetData.BiomeChangeBatchMessage, org.terasology.protobuf.NetData.BiomeChangeBatchMessage.Builder, org.terasology.protobuf.NetData.BiomeChangeBatchMessageOrBuilder> 
+          getBiomeChangeBatchFieldBuilder() {
+        if (biomeChangeBatchBuilder_ == null) {
+          biomeChangeBatchBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.terasology.protobuf.NetData.BiomeChangeBatchMessage, org.terasology.protobuf.NetData.BiomeChangeBatchMessage.Builder, org.terasology.protobuf.NetData.BiomeChangeBatchMessageOrBuilder>(
+                  biomeChangeBatch_,
+                  ((bitField0_ & 0x00040000) == 0x00040000),
                   getParentForChildren(),
                   isClean());
-          handshakeVerification_ = null;
+          biomeChangeBatch_ = null;
         }
-        return handshakeVerificationBuilder_;
+        return biomeChangeBatchBuilder_;
       }
 
-      // @@protoc_insertion_point(builder_scope:NetMessage)
-    }
-
-    static {
-      defaultInstance = new NetMessage(true);
-      defaultInstance.initFields();
-    }
-
+      private org.terasology.protobuf.NetData.HandshakeHello handshakeHello_ = org.terasology.protobuf.NetData.HandshakeHello.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.terasology.protobuf.NetData.HandshakeHello, org.terasology.protobuf.NetData.HandshakeHello.Builder, org.terasology.protobuf.NetData.HandshakeHelloOrBuilder> handshakeHelloBuilder_;
+      /**
+       * <code>optional .HandshakeHello handshakeHello = 100;</code>
+       *
+       * <pre>
+       * Authentication
+       * </pre>
+       */
+      public boolean hasHandshakeHello() {
+        return ((bitField0_ & 0x00080000) == 0x00080000);
+      }
+      /**
+       * <code>optional .HandshakeHello handshakeHello = 100;</code>
+       *
+       * <pre>
+       * Authentication
+       * </pre>
+       */
+      public org.terasology.protobuf.NetData.HandshakeHello getHandshakeHello() {
+        if (handshakeHelloBuilder_ == null) {
+          return handshakeHello_;
+        } else {
+          return handshakeHelloBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .HandshakeHello handshakeHello = 100;</code>
+       *
+       * <pre>
+       * Authentication
+       * </pre>
+       */
+      public Builder setHandshakeHello(org.terasology.protobuf.NetData.HandshakeHello value) {
+        if (handshakeHelloBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          handshakeHello_ = value;
+          onChanged();
+        } else {
+          handshakeHelloBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00080000;
+        return this;
+      }
+      /**
+       * <code>optional .HandshakeHello handshakeHello = 100;</code>
+       *
+       * <pre>
+       * Authentication
+       * </pre>
+       */
+      public Builder setHandshakeHello(
+          org.terasology.protobuf.NetData.HandshakeHello.Builder builderForValue) {
+        if (handshakeHelloBuilder_ == null) {
+          handshakeHello_ = builderForValue.build();
+          onChanged();
+        } else {
+          handshakeHelloBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00080000;
+        return this;
+      }
+      /**
+       * <code>optional .HandshakeHello handshakeHello = 100;</code>
+       *
+       * <pre>
+       * Authentication
+       * </pre>
+       */
+      public Builder mergeHandshakeHello(org.terasology.protobuf.NetData.HandshakeHello value) {
+        if (handshakeHelloBuilder_ == null) {
+          if (((bitField0_ & 0x00080000) == 0x00080000) &&
+              handshakeHello_ != org.terasology.protobuf.NetData.HandshakeHello.getDefaultInstance()) {
+            handshakeHello_ =
+              org.terasology.protobuf.NetData.HandshakeHello.newBuilder(handshakeHello_).mergeFrom(value).buildPartial();
+          } else {
+            handshakeHello_ = value;
+          }
+          onChanged();
+        } else {
+          handshakeHelloBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00080000;
+        return this;
+      }
+      /**
+       * <code>optional .HandshakeHello handshakeHello = 100;</code>
+       *
+       * <pre>
+       * Authentication
+       * </pre>
+       */
+      public Builder clearHandshakeHello() {
+        if (handshakeHelloBuilder_ == null) {
+          handshakeHello_ = org.terasology.protobuf.NetData.HandshakeHello.getDefaultInstance();
+          onChanged();
+        } else {
+          handshakeHelloBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00080000);
+        return this;
+      }
+      /**
+       * <code>optional .HandshakeHello handshakeHello = 100;</code>
+       *
+       * <pre>
+       * Authentication
+       * </pre>
+       */
+      public org.terasology.protobuf.NetData.HandshakeHello.Builder getHandshakeHelloBuilder() {
+        bitField0_ |= 0x00080000;
+        onChanged();
+        return getHandshakeHelloFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .HandshakeHello handshakeHello = 100;</code>
+       *
+       * <pre>
+       * Authentication
+       * </pre>
+       */
+      public org.terasology.protobuf.NetData.HandshakeHelloOrBuilder getHandshakeHelloOrBuilder() {
+        if (handshakeHelloBuilder_ != null) {
+          return handshakeHelloBuilder_.getMessageOrBuilder();
+        } else {
+          return handshakeHello_;
+        }
+      }
+      /**
+       * <code>optional .HandshakeHello handshakeHello = 100;</code>
+       *
+       * <pre>
+       * Authentication
+       * </pre>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.terasology.protobuf.NetData.HandshakeHello, org.terasology.protobuf.NetData.HandshakeHello.Builder, org.terasology.protobuf.NetData.HandshakeHelloOrBuilder> 
+          getHandshakeHelloFieldBuilder() {
+        if (handshakeHelloBuilder_ == null) {
+          handshakeHelloBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.terasology.protobuf.NetData.HandshakeHello, org.terasology.protobuf.NetData.HandshakeHello.Builder, org.terasology.protobuf.NetData.HandshakeHelloOrBuilder>(
+                  getHandshakeHello(),
+                  getParentForChildren(),
+                  isClean());
+          handshakeHello_ = null;
+        }
+        return handshakeHelloBuilder_;
+      }
+
+      private org.terasology.protobuf.NetData.NewIdentityRequest newIdentityRequest_ = org.terasology.protobuf.NetData.NewIdentityRequest.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.terasology.protobuf.NetData.NewIdentityRequest, org.terasology.protobuf.NetData.NewIdentityRequest.Builder, org.terasology.protobuf.NetData.NewIdentityRequestOrBuilder> newIdentityRequestBuilder_;
+      /**
+       * <code>optional .NewIdentityRequest newIdentityRequest = 101;</code>
+       */
+      public boolean hasNewIdentityRequest() {
+        return ((bitField0_ & 0x00100000) == 0x00100000);
+      }
+      /**
+       * <code>optional .NewIdentityRequest newIdentityRequest = 101;</code>
+       */
+      public org.terasology.protobuf.NetData.NewIdentityRequest getNewIdentityRequest() {
+        if (newIdentityRequestBuilder_ == null) {
+          return newIdentityRequest_;
+        } else {
+          return newIdentityRequestBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .NewIdentityRequest newIdentityRequest = 101;</code>
+       */
+      public Builder setNewIdentityRequest(org.terasology.protobuf.NetData.NewIdentityRequest value) {
+        if (newIdentityRequestBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          newIdentityRequest_ = value;
+          onChanged();
+        } else {
+          newIdentityRequestBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00100000;
+        return this;
+      }
+      /**
+       * <code>optional .NewIdentityRequest newIdentityRequest = 101;</code>
+       */
+      public Builder setNewIdentityRequest(
+          org.terasology.protobuf.NetData.NewIdentityRequest.Builder builderForValue) {
+        if (newIdentityRequestBuilder_ == null) {
+          newIdentityRequest_ = builderForValue.build();
+          onChanged();
+        } else {
+          newIdentityRequestBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00100000;
+        return this;
+      }
+      /**
+       * <code>optional .NewIdentityRequest newIdentityRequest = 101;</code>
+       */
+      public Builder mergeNewIdentityRequest(org.terasology.protobuf.NetData.NewIdentityRequest value) {
+        if (newIdentityRequestBuilder_ == null) {
+          if (((bitField0_ & 0x00100000) == 0x00100000) &&
+              newIdentityRequest_ != org.terasology.protobuf.NetData.NewIdentityRequest.getDefaultInstance()) {
+            newIdentityRequest_ =
+              org.terasology.protobuf.NetData.NewIdentityRequest.newBuilder(newIdentityRequest_).mergeFrom(value).buildPartial();
+          } else {
+            newIdentityRequest_ = value;
+          }
+          onChanged();
+        } else {
+          newIdentityRequestBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00100000;
+        return this;
+      }
+      /**
+       * <code>optional .NewIdentityRequest newIdentityRequest = 101;</code>
+       */
+      public Builder clearNewIdentityRequest() {
+        if (newIdentityRequestBuilder_ == null) {
+          newIdentityRequest_ = org.terasology.protobuf.NetData.NewIdentityRequest.getDefaultInstance();
+          onChanged();
+        } else {
+          newIdentityRequestBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00100000);
+        return this;
+      }
+      /**
+       * <code>optional .NewIdentityRequest newIdentityRequest = 101;</code>
+       */
+      public org.terasology.protobuf.NetData.NewIdentityRequest.Builder getNewIdentityRequestBuilder() {
+        bitField0_ |= 0x00100000;
+        onChanged();
+        return getNewIdentityRequestFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .NewIdentityRequest newIdentityRequest = 101;</code>
+       */
+      public org.terasology.protobuf.NetData.NewIdentityRequestOrBuilder getNewIdentityRequestOrBuilder() {
+        if (newIdentityRequestBuilder_ != null) {
+          return newIdentityRequestBuilder_.getMessageOrBuilder();
+        } else {
+          return newIdentityRequest_;
+        }
+      }
+      /**
+       * <code>optional .NewIdentityRequest newIdentityRequest = 101;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.terasology.protobuf.NetData.NewIdentityRequest, org.terasology.protobuf.NetData.NewIdentityRequest.Builder, org.terasology.protobuf.NetData.NewIdentityRequestOrBuilder> 
+          getNewIdentityRequestFieldBuilder() {
+        if (newIdentityRequestBuilder_ == null) {
+          newIdentityRequestBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.terasology.protobuf.NetData.NewIdentityRequest, org.terasology.protobuf.NetData.NewIdentityRequest.Builder, org.terasology.protobuf.NetData.NewIdentityRequestOrBuilder>(
+                  getNewIdentityRequest(),
+                  getParentForChildren(),
+                  isClean());
+          newIdentityRequest_ = null;
+        }
+        return newIdentityRequestBuilder_;
+      }
+
+      private org.terasology.protobuf.NetData.ProvisionIdentity provisionIdentity_ = org.terasology.protobuf.NetData.ProvisionIdentity.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.terasology.protobuf.NetData.ProvisionIdentity, org.terasology.protobuf.NetData.ProvisionIdentity.Builder, org.terasology.protobuf.NetData.ProvisionIdentityOrBuilder> provisionIdentityBuilder_;
+      /**
+       * <code>optional .ProvisionIdentity provisionIdentity = 102;</code>
+       */
+      public boolean hasProvisionIdentity() {
+        return ((bitField0_ & 0x00200000) == 0x00200000);
+      }
+      /**
+       * <code>optional .ProvisionIdentity provisionIdentity = 102;</code>
+       */
+      public org.terasology.protobuf.NetData.ProvisionIdentity getProvisionIdentity() {
+        if (provisionIdentityBuilder_ == null) {
+          return provisionIdentity_;
+        } else {
+          return provisionIdentityBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .ProvisionIdentity provisionIdentity = 102;</code>
+       */
+      public Builder setProvisionIdentity(org.terasology.protobuf.NetData.ProvisionIdentity value) {
+        if (provisionIdentityBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          provisionIdentity_ = value;
+          onChanged();
+        } else {
+          provisionIdentityBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00200000;
+        return this;
+      }
+      /**
+       * <code>optional .ProvisionIdentity provisionIdentity = 102;</code>
+       */
+      public Builder setProvisionIdentity(
+          org.terasology.protobuf.NetData.ProvisionIdentity.Builder builderForValue) {
+        if (provisionIdentityBuilder_ == null) {
+          provisionIdentity_ = builderForValue.build();
+          onChanged();
+        } else {
+          provisionIdentityBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00200000;
+        return this;
+      }
+      /**
+       * <code>optional .ProvisionIdentity provisionIdentity = 102;</code>
+       */
+      public Builder mergeProvisionIdentity(org.terasology.protobuf.NetData.ProvisionIdentity value) {
+        if (provisionIdentityBuilder_ == null) {
+          if (((bitField0_ & 0x00200000) == 0x00200000) &&
+              provisionIdentity_ != org.terasology.protobuf.NetData.ProvisionIdentity.getDefaultInstance()) {
+            provisionIdentity_ =
+              org.terasology.protobuf.NetData.ProvisionIdentity.newBuilder(provisionIdentity_).mergeFrom(value).buildPartial();
+          } else {
+            provisionIdentity_ = value;
+          }
+          onChanged();
+        } else {
+          provisionIdentityBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00200000;
+        return this;
+      }
+      /**
+       * <code>optional .ProvisionIdentity provisionIdentity = 102;</code>
+       */
+      public Builder clearProvisionIdentity() {
+        if (provisionIdentityBuilder_ == null) {
+          provisionIdentity_ = org.terasology.protobuf.NetData.ProvisionIdentity.getDefaultInstance();
+          onChanged();
+        } else {
+          provisionIdentityBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00200000);
+        return this;
+      }
+      /**
+       * <code>optional .ProvisionIdentity provisionIdentity = 102;</code>
+       */
+      public org.terasology.protobuf.NetData.ProvisionIdentity.Builder getProvisionIdentityBuilder() {
+        bitField0_ |= 0x00200000;
+        onChanged();
+        return getProvisionIdentityFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .ProvisionIdentity provisionIdentity = 102;</code>
+       */
+      public org.terasology.protobuf.NetData.ProvisionIdentityOrBuilder getProvisionIdentityOrBuilder() {
+        if (provisionIdentityBuilder_ != null) {
+          return provisionIdentityBuilder_.getMessageOrBuilder();
+        } else {
+          return provisionIdentity_;
+        }
+      }
+      /**
+       * <code>optional .ProvisionIdentity provisionIdentity = 102;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.terasology.protobuf.NetData.ProvisionIdentity, org.terasology.protobuf.NetData.ProvisionIdentity.Builder, org.terasology.protobuf.NetData.ProvisionIdentityOrBuilder> 
+          getProvisionIdentityFieldBuilder() {
+        if (provisionIdentityBuilder_ == null) {
+          provisionIdentityBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.terasology.protobuf.NetData.ProvisionIdentity, org.terasology.protobuf.NetData.ProvisionIdentity.Builder, org.terasology.protobuf.NetData.ProvisionIdentityOrBuilder>(
+                  getProvisionIdentity(),
+                  getParentForChildren(),
+                  isClean());
+          provisionIdentity_ = null;
+        }
+        return provisionIdentityBuilder_;
+      }
+
+      private org.terasology.protobuf.NetData.HandshakeVerification handshakeVerification_ = org.terasology.protobuf.NetData.HandshakeVerification.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.terasology.protobuf.NetData.HandshakeVerification, org.terasology.protobuf.NetData.HandshakeVerification.Builder, org.terasology.protobuf.NetData.HandshakeVerificationOrBuilder> handshakeVerificationBuilder_;
+      /**
+       * <code>optional .HandshakeVerification handshakeVerification = 103;</code>
+       */
+      public boolean hasHandshakeVerification() {
+        return ((bitField0_ & 0x00400000) == 0x00400000);
+      }
+      /**
+       * <code>optional .HandshakeVerification handshakeVerification = 103;</code>
+       */
+      public org.terasology.protobuf.NetData.HandshakeVerification getHandshakeVerification() {
+        if (handshakeVerificationBuilder_ == null) {
+          return handshakeVerification_;
+        } else {
+          return handshakeVerificationBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .HandshakeVerification handshakeVerification = 103;</code>
+       */
+      public Builder setHandshakeVerification(org.terasology.protobuf.NetData.HandshakeVerification value) {
+        if (handshakeVerificationBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          handshakeVerification_ = value;
+          onChanged();
+        } else {
+          handshakeVerificationBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00400000;
+        return this;
+      }
+      /**
+       * <code>optional .HandshakeVerification handshakeVerification = 103;</code>
+       */
+      public Builder setHandshakeVerification(
+          org.terasology.protobuf.NetData.HandshakeVerification.Builder builderForValue) {
+        if (handshakeVerificationBuilder_ == null) {
+          handshakeVerification_ = builderForValue.build();
+          onChanged();
+        } else {
+          handshakeVerificationBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00400000;
+        return this;
+      }
+      /**
+       * <code>optional .HandshakeVerification handshakeVerification = 103;</code>
+       */
+      public Builder mergeHandshakeVerification(org.terasology.protobuf.NetData.HandshakeVerification value) {
+        if (handshakeVerificationBuilder_ == null) {
+          if (((bitField0_ & 0x00400000) == 0x00400000) &&
+              handshakeVerification_ != org.terasology.protobuf.NetData.HandshakeVerification.getDefaultInstance()) {
+            handshakeVerification_ =
+              org.terasology.protobuf.NetData.HandshakeVerification.newBuilder(handshakeVerification_).mergeFrom(value).buildPartial();
+          } else {
+            handshakeVerification_ = value;
+          }
+          onChanged();
+        } else {
+          handshakeVerificationBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00400000;
+        return this;
+      }
+      /**
+       * <code>optional .HandshakeVerification handshakeVerification = 103;</code>
+       */
+      public Builder clearHandshakeVerification() {
+        if (handshakeVerificationBuilder_ == null) {
+          handshakeVerification_ = org.terasology.protobuf.NetData.HandshakeVerification.getDefaultInstance();
+          onChanged();
+        } else {
+          handshakeVerificationBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00400000);
+        return this;
+      }
+      /**
+       * <code>optional .HandshakeVerification handshakeVerification = 103;</code>
+       */
+      public org.terasology.protobuf.NetData.HandshakeVerification.Builder getHandshakeVerificationBuilder() {
+        bitField0_ |= 0x00400000;
+        onChanged();
+        return getHandshakeVerificationFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .HandshakeVerification handshakeVerification = 103;</code>
+       */
+      public org.terasology.protobuf.NetData.HandshakeVerificationOrBuilder getHandshakeVerificationOrBuilder() {
+        if (handshakeVerificationBuilder_ != null) {
+          return handshakeVerificationBuilder_.getMessageOrBuilder();
+        } else {
+          return handshakeVerification_;
+        }
+      }
+      /**
+       * <code>optional .HandshakeVerification handshakeVerification = 103;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.terasology.protobuf.NetData.HandshakeVerification, org.terasology.protobuf.NetData.HandshakeVerification.Builder, org.terasology.protobuf.NetData.HandshakeVerificationOrBuilder> 
+          getHandshakeVerificationFieldBuilder() {
+        if (handshakeVerificationBuilder_ == null) {
+          handshakeVerificationBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.terasology.protobuf.NetData.HandshakeVerification, org.terasology.protobuf.NetData.HandshakeVerification.Builder, org.terasology.protobuf.NetData.HandshakeVerificationOrBuilder>(
+                  getHandshakeVerification(),
+                  getParentForChildren(),
+                  isClean());
+          handshakeVerification_ = null;
+        }
+        return handshakeVerificationBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:NetMessage)
+    }
+
+    static {
+      defaultInstance = new NetMessage(true);
+      defaultInstance.initFields();
+    }
+
     // @@protoc_insertion_point(class_scope:NetMessage)
   }
 
-  public interface HandshakeHelloOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:HandshakeHello)
-      com.google.protobuf.GeneratedMessage.
-          ExtendableMessageOrBuilder<HandshakeHello> {
+  public interface HandshakeHelloOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:HandshakeHello)
+      com.google.protobuf.GeneratedMessage.
+          ExtendableMessageOrBuilder<HandshakeHello> {
+
+    /**
+     * <code>optional bytes random = 1;</code>
+     */
+    boolean hasRandom();
+    /**
+     * <code>optional bytes random = 1;</code>
+     */
+    com.google.protobuf.ByteString getRandom();
+
+    /**
+     * <code>optional .Certificate certificate = 2;</code>
+     */
+    boolean hasCertificate();
+    /**
+     * <code>optional .Certificate certificate = 2;</code>
+     */
+    org.terasology.protobuf.NetData.Certificate getCertificate();
+    /**
+     * <code>optional .Certificate certificate = 2;</code>
+     */
+    org.terasology.protobuf.NetData.CertificateOrBuilder getCertificateOrBuilder();
+
+    /**
+     * <code>optional sint64 timestamp = 3;</code>
+     */
+    boolean hasTimestamp();
+    /**
+     * <code>optional sint64 timestamp = 3;</code>
+     */
+    long getTimestamp();
+  }
+  /**
+   * Protobuf type {@code HandshakeHello}
+   */
+  public static final class HandshakeHello extends
+      com.google.protobuf.GeneratedMessage.ExtendableMessage<
+        HandshakeHello> implements
+      // @@protoc_insertion_point(message_implements:HandshakeHello)
+      HandshakeHelloOrBuilder {
+    // Use HandshakeHello.newBuilder() to construct.
+    private HandshakeHello(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.HandshakeHello, ?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private HandshakeHello(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final HandshakeHello defaultInstance;
+    public static HandshakeHello getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public HandshakeHello getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private HandshakeHello(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              random_ = input.readBytes();
+              break;
+            }
+            case 18: {
+              org.terasology.protobuf.NetData.Certificate.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000002) == 0x00000002)) {
+                subBuilder = certificate_.toBuilder();
+              }
+              certificate_ = input.readMessage(org.terasology.protobuf.NetData.Certificate.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(certificate_);
+                certificate_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000002;
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              timestamp_ = input.readSInt64();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.terasology.protobuf.NetData.internal_static_HandshakeHello_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.terasology.protobuf.NetData.internal_static_HandshakeHello_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.terasology.protobuf.NetData.HandshakeHello.class, org.terasology.protobuf.NetData.HandshakeHello.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<HandshakeHello> PARSER =
+        new com.google.protobuf.AbstractParser<HandshakeHello>() {
+      public HandshakeHello parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new HandshakeHello(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<HandshakeHello> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int RANDOM_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString random_;
+    /**
+     * <code>optional bytes random = 1;</code>
+     */
+    public boolean hasRandom() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional bytes random = 1;</code>
+     */
+    public com.google.protobuf.ByteString getRandom() {
+      return random_;
+    }
+
+    public static final int CERTIFICATE_FIELD_NUMBER = 2;
+    private org.terasology.protobuf.NetData.Certificate certificate_;
+    /**
+     * <code>optional .Certificate certificate = 2;</code>
+     */
+    public boolean hasCertificate() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional .Certificate certificate = 2;</code>
+     */
+    public org.terasology.protobuf.NetData.Certificate getCertificate() {
+      return certificate_;
+    }
+    /**
+     * <code>optional .Certificate certificate = 2;</code>
+     */
+    public org.terasology.protobuf.NetData.CertificateOrBuilder getCertificateOrBuilder() {
+      return certificate_;
+    }
+
+    public static final int TIMESTAMP_FIELD_NUMBER = 3;
+    private long timestamp_;
+    /**
+     * <code>optional sint64 timestamp = 3;</code>
+     */
+    public boolean hasTimestamp() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional sint64 timestamp = 3;</code>
+     */
+    public long getTimestamp() {
+      return timestamp_;
+    }
+
+    private void initFields() {
+      random_ = com.google.protobuf.ByteString.EMPTY;
+      certificate_ = org.terasology.protobuf.NetData.Certificate.getDefaultInstance();
+      timestamp_ = 0L;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (hasCertificate()) {
+        if (!getCertificate().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      if (!extensionsAreInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      com.google.protobuf.GeneratedMessage
+        .ExtendableMessage<org.terasology.protobuf.NetData.HandshakeHello>.ExtensionWriter extensionWriter =
+          newExtensionWriter();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, random_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeMessage(2, certificate_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeSInt64(3, timestamp_);
+      }
+      extensionWriter.writeUntil(536870912, output);
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, random_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, certificate_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeSInt64Size(3, timestamp_);
+      }
+      size += extensionsSerializedSize();
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.terasology.protobuf.NetData.HandshakeHello parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.terasology.protobuf.NetData.HandshakeHello parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.terasology.protobuf.NetData.HandshakeHello parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.terasology.protobuf.NetData.HandshakeHello parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.terasology.protobuf.NetData.HandshakeHello parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.terasology.protobuf.NetData.HandshakeHello parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.terasology.protobuf.NetData.HandshakeHello parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.terasology.protobuf.NetData.HandshakeHello parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.terasology.protobuf.NetData.HandshakeHello parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.terasology.protobuf.NetData.HandshakeHello parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.terasology.protobuf.NetData.HandshakeHello prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code HandshakeHello}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.ExtendableBuilder<
+          org.terasology.protobuf.NetData.HandshakeHello, Builder> implements
+        // @@protoc_insertion_point(builder_implements:HandshakeHello)
+        org.terasology.protobuf.NetData.HandshakeHelloOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.terasology.protobuf.NetData.internal_static_HandshakeHello_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.terasology.protobuf.NetData.internal_static_HandshakeHello_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.terasology.protobuf.NetData.HandshakeHello.class, org.terasology.protobuf.NetData.HandshakeHello.Builder.class);
+      }
+
+      // Construct using org.terasology.protobuf.NetData.HandshakeHello.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getCertificateFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        random_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (certificateBuilder_ == null) {
+          certificate_ = org.terasology.protobuf.NetData.Certificate.getDefaultInstance();
+        } else {
+          certificateBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        timestamp_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.terasology.protobuf.NetData.internal_static_HandshakeHello_descriptor;
+      }
+
+      public org.terasology.protobuf.NetData.HandshakeHello getDefaultInstanceForType() {
+        return org.terasology.protobuf.NetData.HandshakeHello.getDefaultInstance();
+      }
+
+      public org.terasology.protobuf.NetData.HandshakeHello build() {
+        org.terasology.protobuf.NetData.HandshakeHello result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.terasology.protobuf.NetData.HandshakeHello buildPartial() {
+        org.terasology.protobuf.NetData.HandshakeHello result = new org.terasology.protobuf.NetData.HandshakeHello(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.random_ = random_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        if (certificateBuilder_ == null) {
+          result.certificate_ = certificate_;
+        } else {
+          result.certificate_ = certificateBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.timestamp_ = timestamp_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.terasology.protobuf.NetData.HandshakeHello) {
+          return mergeFrom((org.terasology.protobuf.NetData.HandshakeHello)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.terasology.protobuf.NetData.HandshakeHello other) {
+        if (other == org.terasology.protobuf.NetData.HandshakeHello.getDefaultInstance()) return this;
+        if (other.hasRandom()) {
+          setRandom(other.getRandom());
+        }
+        if (other.hasCertificate()) {
+          mergeCertificate(other.getCertificate());
+        }
+        if (other.hasTimestamp()) {
+          setTimestamp(other.getTimestamp());
+        }
+        this.mergeExtensionFields(other);
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (hasCertificate()) {
+          if (!getCertificate().isInitialized()) {
+            
+            return false;
+          }
+        }
+        if (!extensionsAreInitialized()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.terasology.protobuf.NetData.HandshakeHello parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.terasology.protobuf.NetData.HandshakeHello) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.ByteString random_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes random = 1;</code>
+       */
+      public boolean hasRandom() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional bytes random = 1;</code>
+       */
+      public com.google.protobuf.ByteString getRandom() {
+        return random_;
+      }
+      /**
+       * <code>optional bytes random = 1;</code>
+       */
+      public Builder setRandom(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        random_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes random = 1;</code>
+       */
+      public Builder clearRandom() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        random_ = getDefaultInstance().getRandom();
+        onChanged();
+        return this;
+      }
+
+      private org.terasology.protobuf.NetData.Certificate certificate_ = org.terasology.protobuf.NetData.Certificate.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.terasology.protobuf.NetData.Certificate, org.terasology.protobuf.NetData.Certificate.Builder, org.terasology.protobuf.NetData.CertificateOrBuilder> certificateBuilder_;
+      /**
+       * <code>optional .Certificate certificate = 2;</code>
+       */
+      public boolean hasCertificate() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional .Certificate certificate = 2;</code>
+       */
+      public org.terasology.protobuf.NetData.Certificate getCertificate() {
+        if (certificateBuilder_ == null) {
+          return certificate_;
+        } else {
+          return certificateBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .Certificate certificate = 2;</code>
+       */
+      public Builder setCertificate(org.terasology.protobuf.NetData.Certificate value) {
+        if (certificateBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          certificate_ = value;
+          onChanged();
+        } else {
+          certificateBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .Certificate certificate = 2;</code>
+       */
+      public Builder setCertificate(
+          org.terasology.protobuf.NetData.Certificate.Builder builderForValue) {
+        if (certificateBuilder_ == null) {
+          certificate_ = builderForValue.build();
+          onChanged();
+        } else {
+          certificateBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .Certificate certificate = 2;</code>
+       */
+      public Builder mergeCertificate(org.terasology.protobuf.NetData.Certificate value) {
+        if (certificateBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002) &&
+              certificate_ != org.terasology.protobuf.NetData.Certificate.getDefaultInstance()) {
+            certificate_ =
+              org.terasology.protobuf.NetData.Certificate.newBuilder(certificate_).mergeFrom(value).buildPartial();
+          } else {
+            certificate_ = value;
+          }
+          onChanged();
+        } else {
+          certificateBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .Certificate certificate = 2;</code>
+       */
+      public Builder clearCertificate() {
+        if (certificateBuilder_ == null) {
+          certificate_ = org.terasology.protobuf.NetData.Certificate.getDefaultInstance();
+          onChanged();
+        } else {
+          certificateBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+      /**
+       * <code>optional .Certificate certificate = 2;</code>
+       */
+      public org.terasology.protobuf.NetData.Certificate.Builder getCertificateBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getCertificateFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .Certificate certificate = 2;</code>
+       */
+      public org.terasology.protobuf.NetData.CertificateOrBuilder getCertificateOrBuilder() {
+        if (certificateBuilder_ != null) {
+          return certificateBuilder_.getMessageOrBuilder();
+        } else {
+          return certificate_;
+        }
+      }
+      /**
+       * <code>optional .Certificate certificate = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.terasology.protobuf.NetData.Certificate, org.terasology.protobuf.NetData.Certificate.Builder, org.terasology.protobuf.NetData.CertificateOrBuilder> 
+          getCertificateFieldBuilder() {
+        if (certificateBuilder_ == null) {
+          certificateBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.terasology.protobuf.NetData.Certificate, org.terasology.protobuf.NetData.Certificate.Builder, org.terasology.protobuf.NetData.CertificateOrBuilder>(
+                  getCertificate(),
+                  getParentForChildren(),
+                  isClean());
+          certificate_ = null;
+        }
+        return certificateBuilder_;
+      }
+
+      private long timestamp_ ;
+      /**
+       * <code>optional sint64 timestamp = 3;</code>
+       */
+      public boolean hasTimestamp() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional sint64 timestamp = 3;</code>
+       */
+      public long getTimestamp() {
+        return timestamp_;
+      }
+      /**
+       * <code>optional sint64 timestamp = 3;</code>
+       */
+      public Builder setTimestamp(long value) {
+        bitField0_ |= 0x00000004;
+        timestamp_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional sint64 timestamp = 3;</code>
+       */
+      public Builder clearTimestamp() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        timestamp_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:HandshakeHello)
+    }
+
+    static {
+      defaultInstance = new HandshakeHello(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:HandshakeHello)
+  }
+
+  public interface NewIdentityRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:NewIdentityRequest)
+      com.google.protobuf.GeneratedMessage.
+          ExtendableMessageOrBuilder<NewIdentityRequest> {
+
+    /**
+     * <code>optional bytes preMasterSecret = 1;</code>
+     */
+    boolean hasPreMasterSecret();
+    /**
+     * <code>optional bytes preMasterSecret = 1;</code>
+     */
+    com.google.protobuf.ByteString getPreMasterSecret();
+
+    /**
+     * <code>optional bytes random = 2;</code>
+     */
+    boolean hasRandom();
+    /**
+     * <code>optional bytes random = 2;</code>
+     */
+    com.google.protobuf.ByteString getRandom();
+  }
+  /**
+   * Protobuf type {@code NewIdentityRequest}
+   */
+  public static final class NewIdentityRequest extends
+      com.google.protobuf.GeneratedMessage.ExtendableMessage<
+        NewIdentityRequest> implements
+      // @@protoc_insertion_point(message_implements:NewIdentityRequest)
+      NewIdentityRequestOrBuilder {
+    // Use NewIdentityRequest.newBuilder() to construct.
+    private NewIdentityRequest(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.NewIdentityRequest, ?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private NewIdentityRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final NewIdentityRequest defaultInstance;
+    public static NewIdentityRequest getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public NewIdentityRequest getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private NewIdentityRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              preMasterSecret_ = input.readBytes();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              random_ = input.readBytes();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.terasology.protobuf.NetData.internal_static_NewIdentityRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.terasology.protobuf.NetData.internal_static_NewIdentityRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.terasology.protobuf.NetData.NewIdentityRequest.class, org.terasology.protobuf.NetData.NewIdentityRequest.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<NewIdentityRequest> PARSER =
+        new com.google.protobuf.AbstractParser<NewIdentityRequest>() {
+      public NewIdentityRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new NewIdentityRequest(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<NewIdentityRequest> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int PREMASTERSECRET_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString preMasterSecret_;
+    /**
+     * <code>optional bytes preMasterSecret = 1;</code>
+     */
+    public boolean hasPreMasterSecret() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional bytes preMasterSecret = 1;</code>
+     */
+    public com.google.protobuf.ByteString getPreMasterSecret() {
+      return preMasterSecret_;
+    }
+
+    public static final int RANDOM_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString random_;
+    /**
+     * <code>optional bytes random = 2;</code>
+     */
+    public boolean hasRandom() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional bytes random = 2;</code>
+     */
+    public com.google.protobuf.ByteString getRandom() {
+      return random_;
+    }
+
+    private void initFields() {
+      preMasterSecret_ = com.google.protobuf.ByteString.EMPTY;
+      random_ = com.google.protobuf.ByteString.EMPTY;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!extensionsAreInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      com.google.protobuf.GeneratedMessage
+        .ExtendableMessage<org.terasology.protobuf.NetData.NewIdentityRequest>.ExtensionWriter extensionWriter =
+          newExtensionWriter();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, preMasterSecret_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, random_);
+      }
+      extensionWriter.writeUntil(536870912, output);
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, preMasterSecret_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, random_);
+      }
+      size += extensionsSerializedSize();
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.terasology.protobuf.NetData.NewIdentityRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.terasology.protobuf.NetData.NewIdentityRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.terasology.protobuf.NetData.NewIdentityRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.terasology.protobuf.NetData.NewIdentityRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.terasology.protobuf.NetData.NewIdentityRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.terasology.protobuf.NetData.NewIdentityRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.terasology.protobuf.NetData.NewIdentityRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.terasology.protobuf.NetData.NewIdentityRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.terasology.protobuf.NetData.NewIdentityRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.terasology.protobuf.NetData.NewIdentityRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.terasology.protobuf.NetData.NewIdentityRequest prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code NewIdentityRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.ExtendableBuilder<
+          org.terasology.protobuf.NetData.NewIdentityRequest, Builder> implements
+        // @@protoc_insertion_point(builder_implements:NewIdentityRequest)
+        org.terasology.protobuf.NetData.NewIdentityRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.terasology.protobuf.NetData.internal_static_NewIdentityRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.terasology.protobuf.NetData.internal_static_NewIdentityRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.terasology.protobuf.NetData.NewIdentityRequest.class, org.terasology.protobuf.NetData.NewIdentityRequest.Builder.class);
+      }
+
+      // Construct using org.terasology.protobuf.NetData.NewIdentityRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        preMasterSecret_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        random_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.terasology.protobuf.NetData.internal_static_NewIdentityRequest_descriptor;
+      }
+
+      public org.terasology.protobuf.NetData.NewIdentityRequest getDefaultInstanceForType() {
+        return org.terasology.protobuf.NetData.NewIdentityRequest.getDefaultInstance();
+      }
+
+      public org.terasology.protobuf.NetData.NewIdentityRequest build() {
+        org.terasology.protobuf.NetData.NewIdentityRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.terasology.protobuf.NetData.NewIdentityRequest buildPartial() {
+        org.terasology.protobuf.NetData.NewIdentityRequest result = new org.terasology.protobuf.NetData.NewIdentityRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.preMasterSecret_ = preMasterSecret_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.random_ = random_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.terasology.protobuf.NetData.NewIdentityRequest) {
+          return mergeFrom((org.terasology.protobuf.NetData.NewIdentityRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.terasology.protobuf.NetData.NewIdentityRequest other) {
+        if (other == org.terasology.protobuf.NetData.NewIdentityRequest.getDefaultInstance()) return this;
+        if (other.hasPreMasterSecret()) {
+          setPreMasterSecret(other.getPreMasterSecret());
+        }
+        if (other.hasRandom()) {
+          setRandom(other.getRandom());
+        }
+        this.mergeExtensionFields(other);
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!extensionsAreInitialized()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.terasology.protobuf.NetData.NewIdentityRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.terasology.protobuf.NetData.NewIdentityRequest) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.ByteString preMasterSecret_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes preMasterSecret = 1;</code>
+       */
+      public boolean hasPreMasterSecret() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional bytes preMasterSecret = 1;</code>
+       */
+      public com.google.protobuf.ByteString getPreMasterSecret() {
+        return preMasterSecret_;
+      }
+      /**
+       * <code>optional bytes preMasterSecret = 1;</code>
+       */
+      public Builder setPreMasterSecret(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        preMasterSecret_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes preMasterSecret = 1;</code>
+       */
+      public Builder clearPreMasterSecret() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        preMasterSecret_ = getDefaultInstance().getPreMasterSecret();
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString random_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes random = 2;</code>
+       */
+      public boolean hasRandom() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional bytes random = 2;</code>
+       */
+      public com.google.protobuf.ByteString getRandom() {
+        return random_;
+      }
+      /**
+       * <code>optional bytes random = 2;</code>
+       */
+      public Builder setRandom(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        random_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes random = 2;</code>
+       */
+      public Builder clearRandom() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        random_ = getDefaultInstance().getRandom();
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:NewIdentityRequest)
+    }
 
-    /**
-     * <code>optional bytes random = 1;</code>
-     */
-    boolean hasRandom();
-    /**
-     * <code>optional bytes random = 1;</code>
-     */
-    com.google.protobuf.ByteString getRandom();
+    static {
+      defaultInstance = new NewIdentityRequest(true);
+      defaultInstance.initFields();
+    }
 
-    /**
-     * <code>optional .Certificate certificate = 2;</code>
-     */
-    boolean hasCertificate();
-    /**
-     * <code>optional .Certificate certificate = 2;</code>
-     */
-    org.terasology.protobuf.NetData.Certificate getCertificate();
-    /**
-     * <code>optional .Certificate certificate = 2;</code>
-     */
-    org.terasology.protobuf.NetData.CertificateOrBuilder getCertificateOrBuilder();
+    // @@protoc_insertion_point(class_scope:NewIdentityRequest)
+  }
+
+  public interface ProvisionIdentityOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ProvisionIdentity)
+      com.google.protobuf.GeneratedMessage.
+          ExtendableMessageOrBuilder<ProvisionIdentity> {
 
     /**
-     * <code>optional sint64 timestamp = 3;</code>
+     * <code>optional bytes encryptedCertificates = 1;</code>
      */
-    boolean hasTimestamp();
+    boolean hasEncryptedCertificates();
     /**
-     * <code>optional sint64 timestamp = 3;</code>
+     * <code>optional bytes encryptedCertificates = 1;</code>
      */
-    long getTimestamp();
+    com.google.protobuf.ByteString getEncryptedCertificates();
   }
   /**
-   * Protobuf type {@code HandshakeHello}
+   * Protobuf type {@code ProvisionIdentity}
    */
-  public static final class HandshakeHello extends
+  public static final class ProvisionIdentity extends
       com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        HandshakeHello> implements
-      // @@protoc_insertion_point(message_implements:HandshakeHello)
-      HandshakeHelloOrBuilder {
-    // Use HandshakeHello.newBuilder() to construct.
-    private HandshakeHello(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.HandshakeHello, ?> builder) {
+        ProvisionIdentity> implements
+      // @@protoc_insertion_point(message_implements:ProvisionIdentity)
+      ProvisionIdentityOrBuilder {
+    // Use ProvisionIdentity.newBuilder() to construct.
+    private ProvisionIdentity(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.ProvisionIdentity, ?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private HandshakeHello(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private ProvisionIdentity(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final HandshakeHello defaultInstance;
-    public static HandshakeHello getDefaultInstance() {
+    private static final ProvisionIdentity defaultInstance;
+    public static ProvisionIdentity getDefaultInstance() {
       return defaultInstance;
     }
 
-    public HandshakeHello getDefaultInstanceForType() {
+    public ProvisionIdentity getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -6278,7 +8192,7 @@ public HandshakeHello getDefaultInstanceForType() {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private HandshakeHello(
+    private ProvisionIdentity(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -6303,25 +8217,7 @@ private HandshakeHello(
             }
             case 10: {
               bitField0_ |= 0x00000001;
-              random_ = input.readBytes();
-              break;
-            }
-            case 18: {
-              org.terasology.protobuf.NetData.Certificate.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000002) == 0x00000002)) {
-                subBuilder = certificate_.toBuilder();
-              }
-              certificate_ = input.readMessage(org.terasology.protobuf.NetData.Certificate.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(certificate_);
-                certificate_ = subBuilder.buildPartial();
-              }
-              bitField0_ |= 0x00000002;
-              break;
-            }
-            case 24: {
-              bitField0_ |= 0x00000004;
-              timestamp_ = input.readSInt64();
+              encryptedCertificates_ = input.readBytes();
               break;
             }
           }
@@ -6338,87 +8234,49 @@ private HandshakeHello(
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.terasology.protobuf.NetData.internal_static_HandshakeHello_descriptor;
+      return org.terasology.protobuf.NetData.internal_static_ProvisionIdentity_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.terasology.protobuf.NetData.internal_static_HandshakeHello_fieldAccessorTable
+      return org.terasology.protobuf.NetData.internal_static_ProvisionIdentity_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.terasology.protobuf.NetData.HandshakeHello.class, org.terasology.protobuf.NetData.HandshakeHello.Builder.class);
+              org.terasology.protobuf.NetData.ProvisionIdentity.class, org.terasology.protobuf.NetData.ProvisionIdentity.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<HandshakeHello> PARSER =
-        new com.google.protobuf.AbstractParser<HandshakeHello>() {
-      public HandshakeHello parsePartialFrom(
+    public static com.google.protobuf.Parser<ProvisionIdentity> PARSER =
+        new com.google.protobuf.AbstractParser<ProvisionIdentity>() {
+      public ProvisionIdentity parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new HandshakeHello(input, extensionRegistry);
+        return new ProvisionIdentity(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<HandshakeHello> getParserForType() {
+    public com.google.protobuf.Parser<ProvisionIdentity> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    public static final int RANDOM_FIELD_NUMBER = 1;
-    private com.google.protobuf.ByteString random_;
+    public static final int ENCRYPTEDCERTIFICATES_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString encryptedCertificates_;
     /**
-     * <code>optional bytes random = 1;</code>
+     * <code>optional bytes encryptedCertificates = 1;</code>
      */
-    public boolean hasRandom() {
+    public boolean hasEncryptedCertificates() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>optional bytes random = 1;</code>
-     */
-    public com.google.protobuf.ByteString getRandom() {
-      return random_;
-    }
-
-    public static final int CERTIFICATE_FIELD_NUMBER = 2;
-    private org.terasology.protobuf.NetData.Certificate certificate_;
-    /**
-     * <code>optional .Certificate certificate = 2;</code>
-     */
-    public boolean hasCertificate() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
-    }
-    /**
-     * <code>optional .Certificate certificate = 2;</code>
-     */
-    public org.terasology.protobuf.NetData.Certificate getCertificate() {
-      return certificate_;
-    }
-    /**
-     * <code>optional .Certificate certificate = 2;</code>
-     */
-    public org.terasology.protobuf.NetData.CertificateOrBuilder getCertificateOrBuilder() {
-      return certificate_;
-    }
-
-    public static final int TIMESTAMP_FIELD_NUMBER = 3;
-    private long timestamp_;
-    /**
-     * <code>optional sint64 timestamp = 3;</code>
-     */
-    public boolean hasTimestamp() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
-    }
-    /**
-     * <code>optional sint64 timestamp = 3;</code>
+     * <code>optional bytes encryptedCertificates = 1;</code>
      */
-    public long getTimestamp() {
-      return timestamp_;
+    public com.google.protobuf.ByteString getEncryptedCertificates() {
+      return encryptedCertificates_;
     }
 
     private void initFields() {
-      random_ = com.google.protobuf.ByteString.EMPTY;
-      certificate_ = org.terasology.protobuf.NetData.Certificate.getDefaultInstance();
-      timestamp_ = 0L;
+      encryptedCertificates_ = com.google.protobuf.ByteString.EMPTY;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -6426,12 +8284,6 @@ public final boolean isInitialized() {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
-      if (hasCertificate()) {
-        if (!getCertificate().isInitialized()) {
-          memoizedIsInitialized = 0;
-          return false;
-        }
-      }
       if (!extensionsAreInitialized()) {
         memoizedIsInitialized = 0;
         return false;
@@ -6444,16 +8296,10 @@ public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       getSerializedSize();
       com.google.protobuf.GeneratedMessage
-        .ExtendableMessage<org.terasology.protobuf.NetData.HandshakeHello>.ExtensionWriter extensionWriter =
+        .ExtendableMessage<org.terasology.protobuf.NetData.ProvisionIdentity>.ExtensionWriter extensionWriter =
           newExtensionWriter();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, random_);
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeMessage(2, certificate_);
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeSInt64(3, timestamp_);
+        output.writeBytes(1, encryptedCertificates_);
       }
       extensionWriter.writeUntil(536870912, output);
       getUnknownFields().writeTo(output);
@@ -6467,15 +8313,7 @@ public int getSerializedSize() {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, random_);
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(2, certificate_);
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeSInt64Size(3, timestamp_);
+          .computeBytesSize(1, encryptedCertificates_);
       }
       size += extensionsSerializedSize();
       size += getUnknownFields().getSerializedSize();
@@ -6490,53 +8328,53 @@ protected java.lang.Object writeReplace()
       return super.writeReplace();
     }
 
-    public static org.terasology.protobuf.NetData.HandshakeHello parseFrom(
+    public static org.terasology.protobuf.NetData.ProvisionIdentity parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.terasology.protobuf.NetData.HandshakeHello parseFrom(
+    public static org.terasology.protobuf.NetData.ProvisionIdentity parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.HandshakeHello parseFrom(byte[] data)
+    public static org.terasology.protobuf.NetData.ProvisionIdentity parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.terasology.protobuf.NetData.HandshakeHello parseFrom(
+    public static org.terasology.protobuf.NetData.ProvisionIdentity parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.HandshakeHello parseFrom(java.io.InputStream input)
+    public static org.terasology.protobuf.NetData.ProvisionIdentity parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.terasology.protobuf.NetData.HandshakeHello parseFrom(
+    public static org.terasology.protobuf.NetData.ProvisionIdentity parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.HandshakeHello parseDelimitedFrom(java.io.InputStream input)
+    public static org.terasology.protobuf.NetData.ProvisionIdentity parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.terasology.protobuf.NetData.HandshakeHello parseDelimitedFrom(
+    public static org.terasology.protobuf.NetData.ProvisionIdentity parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.HandshakeHello parseFrom(
+    public static org.terasology.protobuf.NetData.ProvisionIdentity parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.terasology.protobuf.NetData.HandshakeHello parseFrom(
+    public static org.terasology.protobuf.NetData.ProvisionIdentity parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -6545,7 +8383,7 @@ public static org.terasology.protobuf.NetData.HandshakeHello parseFrom(
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.terasology.protobuf.NetData.HandshakeHello prototype) {
+    public static Builder newBuilder(org.terasology.protobuf.NetData.ProvisionIdentity prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -6557,26 +8395,26 @@ protected Builder newBuilderForType(
       return builder;
     }
     /**
-     * Protobuf type {@code HandshakeHello}
+     * Protobuf type {@code ProvisionIdentity}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.HandshakeHello, Builder> implements
-        // @@protoc_insertion_point(builder_implements:HandshakeHello)
-        org.terasology.protobuf.NetData.HandshakeHelloOrBuilder {
+          org.terasology.protobuf.NetData.ProvisionIdentity, Builder> implements
+        // @@protoc_insertion_point(builder_implements:ProvisionIdentity)
+        org.terasology.protobuf.NetData.ProvisionIdentityOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.terasology.protobuf.NetData.internal_static_HandshakeHello_descriptor;
+        return org.terasology.protobuf.NetData.internal_static_ProvisionIdentity_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.terasology.protobuf.NetData.internal_static_HandshakeHello_fieldAccessorTable
+        return org.terasology.protobuf.NetData.internal_static_ProvisionIdentity_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.terasology.protobuf.NetData.HandshakeHello.class, org.terasology.protobuf.NetData.HandshakeHello.Builder.class);
+                org.terasology.protobuf.NetData.ProvisionIdentity.class, org.terasology.protobuf.NetData.ProvisionIdentity.Builder.class);
       }
 
-      // Construct using org.terasology.protobuf.NetData.HandshakeHello.newBuilder()
+      // Construct using org.terasology.protobuf.NetData.ProvisionIdentity.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -6588,7 +8426,6 @@ private Builder(
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getCertificateFieldBuilder();
         }
       }
       private static Builder create() {
@@ -6597,16 +8434,8 @@ private static Builder create() {
 
       public Builder clear() {
         super.clear();
-        random_ = com.google.protobuf.ByteString.EMPTY;
+        encryptedCertificates_ = com.google.protobuf.ByteString.EMPTY;
         bitField0_ = (bitField0_ & ~0x00000001);
-        if (certificateBuilder_ == null) {
-          certificate_ = org.terasology.protobuf.NetData.Certificate.getDefaultInstance();
-        } else {
-          certificateBuilder_.clear();
-        }
-        bitField0_ = (bitField0_ & ~0x00000002);
-        timestamp_ = 0L;
-        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
@@ -6616,65 +8445,47 @@ public Builder clone() {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.terasology.protobuf.NetData.internal_static_HandshakeHello_descriptor;
+        return org.terasology.protobuf.NetData.internal_static_ProvisionIdentity_descriptor;
       }
 
-      public org.terasology.protobuf.NetData.HandshakeHello getDefaultInstanceForType() {
-        return org.terasology.protobuf.NetData.HandshakeHello.getDefaultInstance();
+      public org.terasology.protobuf.NetData.ProvisionIdentity getDefaultInstanceForType() {
+        return org.terasology.protobuf.NetData.ProvisionIdentity.getDefaultInstance();
       }
 
-      public org.terasology.protobuf.NetData.HandshakeHello build() {
-        org.terasology.protobuf.NetData.HandshakeHello result = buildPartial();
+      public org.terasology.protobuf.NetData.ProvisionIdentity build() {
+        org.terasology.protobuf.NetData.ProvisionIdentity result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.terasology.protobuf.NetData.HandshakeHello buildPartial() {
-        org.terasology.protobuf.NetData.HandshakeHello result = new org.terasology.protobuf.NetData.HandshakeHello(this);
+      public org.terasology.protobuf.NetData.ProvisionIdentity buildPartial() {
+        org.terasology.protobuf.NetData.ProvisionIdentity result = new org.terasology.protobuf.NetData.ProvisionIdentity(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.random_ = random_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-          to_bitField0_ |= 0x00000002;
-        }
-        if (certificateBuilder_ == null) {
-          result.certificate_ = certificate_;
-        } else {
-          result.certificate_ = certificateBuilder_.build();
-        }
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
-          to_bitField0_ |= 0x00000004;
-        }
-        result.timestamp_ = timestamp_;
+        result.encryptedCertificates_ = encryptedCertificates_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.terasology.protobuf.NetData.HandshakeHello) {
-          return mergeFrom((org.terasology.protobuf.NetData.HandshakeHello)other);
+        if (other instanceof org.terasology.protobuf.NetData.ProvisionIdentity) {
+          return mergeFrom((org.terasology.protobuf.NetData.ProvisionIdentity)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.terasology.protobuf.NetData.HandshakeHello other) {
-        if (other == org.terasology.protobuf.NetData.HandshakeHello.getDefaultInstance()) return this;
-        if (other.hasRandom()) {
-          setRandom(other.getRandom());
-        }
-        if (other.hasCertificate()) {
-          mergeCertificate(other.getCertificate());
-        }
-        if (other.hasTimestamp()) {
-          setTimestamp(other.getTimestamp());
+      public Builder mergeFrom(org.terasology.protobuf.NetData.ProvisionIdentity other) {
+        if (other == org.terasology.protobuf.NetData.ProvisionIdentity.getDefaultInstance()) return this;
+        if (other.hasEncryptedCertificates()) {
+          setEncryptedCertificates(other.getEncryptedCertificates());
         }
         this.mergeExtensionFields(other);
         this.mergeUnknownFields(other.getUnknownFields());
@@ -6682,12 +8493,6 @@ public Builder mergeFrom(org.terasology.protobuf.NetData.HandshakeHello other) {
       }
 
       public final boolean isInitialized() {
-        if (hasCertificate()) {
-          if (!getCertificate().isInitialized()) {
-            
-            return false;
-          }
-        }
         if (!extensionsAreInitialized()) {
           
           return false;
@@ -6699,11 +8504,11 @@ public Builder mergeFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.terasology.protobuf.NetData.HandshakeHello parsedMessage = null;
+        org.terasology.protobuf.NetData.ProvisionIdentity parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.terasology.protobuf.NetData.HandshakeHello) e.getUnfinishedMessage();
+          parsedMessage = (org.terasology.protobuf.NetData.ProvisionIdentity) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -6714,244 +8519,100 @@ public Builder mergeFrom(
       }
       private int bitField0_;
 
-      private com.google.protobuf.ByteString random_ = com.google.protobuf.ByteString.EMPTY;
+      private com.google.protobuf.ByteString encryptedCertificates_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>optional bytes random = 1;</code>
+       * <code>optional bytes encryptedCertificates = 1;</code>
        */
-      public boolean hasRandom() {
+      public boolean hasEncryptedCertificates() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>optional bytes random = 1;</code>
+       * <code>optional bytes encryptedCertificates = 1;</code>
        */
-      public com.google.protobuf.ByteString getRandom() {
-        return random_;
+      public com.google.protobuf.ByteString getEncryptedCertificates() {
+        return encryptedCertificates_;
       }
       /**
-       * <code>optional bytes random = 1;</code>
+       * <code>optional bytes encryptedCertificates = 1;</code>
        */
-      public Builder setRandom(com.google.protobuf.ByteString value) {
+      public Builder setEncryptedCertificates(com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   bitField0_ |= 0x00000001;
-        random_ = value;
+        encryptedCertificates_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional bytes random = 1;</code>
+       * <code>optional bytes encryptedCertificates = 1;</code>
        */
-      public Builder clearRandom() {
+      public Builder clearEncryptedCertificates() {
         bitField0_ = (bitField0_ & ~0x00000001);
-        random_ = getDefaultInstance().getRandom();
-        onChanged();
-        return this;
-      }
-
-      private org.terasology.protobuf.NetData.Certificate certificate_ = org.terasology.protobuf.NetData.Certificate.getDefaultInstance();
-      private com.google.protobuf.SingleFieldBuilder<
-          org.terasology.protobuf.NetData.Certificate, org.terasology.protobuf.NetData.Certificate.Builder, org.terasology.protobuf.NetData.CertificateOrBuilder> certificateBuilder_;
-      /**
-       * <code>optional .Certificate certificate = 2;</code>
-       */
-      public boolean hasCertificate() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
-      }
-      /**
-       * <code>optional .Certificate certificate = 2;</code>
-       */
-      public org.terasology.protobuf.NetData.Certificate getCertificate() {
-        if (certificateBuilder_ == null) {
-          return certificate_;
-        } else {
-          return certificateBuilder_.getMessage();
-        }
-      }
-      /**
-       * <code>optional .Certificate certificate = 2;</code>
-       */
-      public Builder setCertificate(org.terasology.protobuf.NetData.Certificate value) {
-        if (certificateBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          certificate_ = value;
-          onChanged();
-        } else {
-          certificateBuilder_.setMessage(value);
-        }
-        bitField0_ |= 0x00000002;
-        return this;
-      }
-      /**
-       * <code>optional .Certificate certificate = 2;</code>
-       */
-      public Builder setCertificate(
-          org.terasology.protobuf.NetData.Certificate.Builder builderForValue) {
-        if (certificateBuilder_ == null) {
-          certificate_ = builderForValue.build();
-          onChanged();
-        } else {
-          certificateBuilder_.setMessage(builderForValue.build());
-        }
-        bitField0_ |= 0x00000002;
-        return this;
-      }
-      /**
-       * <code>optional .Certificate certificate = 2;</code>
-       */
-      public Builder mergeCertificate(org.terasology.protobuf.NetData.Certificate value) {
-        if (certificateBuilder_ == null) {
-          if (((bitField0_ & 0x00000002) == 0x00000002) &&
-              certificate_ != org.terasology.protobuf.NetData.Certificate.getDefaultInstance()) {
-            certificate_ =
-              org.terasology.protobuf.NetData.Certificate.newBuilder(certificate_).mergeFrom(value).buildPartial();
-          } else {
-            certificate_ = value;
-          }
-          onChanged();
-        } else {
-          certificateBuilder_.mergeFrom(value);
-        }
-        bitField0_ |= 0x00000002;
-        return this;
-      }
-      /**
-       * <code>optional .Certificate certificate = 2;</code>
-       */
-      public Builder clearCertificate() {
-        if (certificateBuilder_ == null) {
-          certificate_ = org.terasology.protobuf.NetData.Certificate.getDefaultInstance();
-          onChanged();
-        } else {
-          certificateBuilder_.clear();
-        }
-        bitField0_ = (bitField0_ & ~0x00000002);
-        return this;
-      }
-      /**
-       * <code>optional .Certificate certificate = 2;</code>
-       */
-      public org.terasology.protobuf.NetData.Certificate.Builder getCertificateBuilder() {
-        bitField0_ |= 0x00000002;
-        onChanged();
-        return getCertificateFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>optional .Certificate certificate = 2;</code>
-       */
-      public org.terasology.protobuf.NetData.CertificateOrBuilder getCertificateOrBuilder() {
-        if (certificateBuilder_ != null) {
-          return certificateBuilder_.getMessageOrBuilder();
-        } else {
-          return certificate_;
-        }
-      }
-      /**
-       * <code>optional .Certificate certificate = 2;</code>
-       */
-      private com.google.protobuf.SingleFieldBuilder<
-          org.terasology.protobuf.NetData.Certificate, org.terasology.protobuf.NetData.Certificate.Builder, org.terasology.protobuf.NetData.CertificateOrBuilder> 
-          getCertificateFieldBuilder() {
-        if (certificateBuilder_ == null) {
-          certificateBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              org.terasology.protobuf.NetData.Certificate, org.terasology.protobuf.NetData.Certificate.Builder, org.terasology.protobuf.NetData.CertificateOrBuilder>(
-                  getCertificate(),
-                  getParentForChildren(),
-                  isClean());
-          certificate_ = null;
-        }
-        return certificateBuilder_;
-      }
-
-      private long timestamp_ ;
-      /**
-       * <code>optional sint64 timestamp = 3;</code>
-       */
-      public boolean hasTimestamp() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
-      }
-      /**
-       * <code>optional sint64 timestamp = 3;</code>
-       */
-      public long getTimestamp() {
-        return timestamp_;
-      }
-      /**
-       * <code>optional sint64 timestamp = 3;</code>
-       */
-      public Builder setTimestamp(long value) {
-        bitField0_ |= 0x00000004;
-        timestamp_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional sint64 timestamp = 3;</code>
-       */
-      public Builder clearTimestamp() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        timestamp_ = 0L;
+        encryptedCertificates_ = getDefaultInstance().getEncryptedCertificates();
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:HandshakeHello)
+      // @@protoc_insertion_point(builder_scope:ProvisionIdentity)
     }
 
     static {
-      defaultInstance = new HandshakeHello(true);
+      defaultInstance = new ProvisionIdentity(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:HandshakeHello)
+    // @@protoc_insertion_point(class_scope:ProvisionIdentity)
   }
-
-  public interface NewIdentityRequestOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:NewIdentityRequest)
+
+  public interface CertificateSetOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CertificateSet)
       com.google.protobuf.GeneratedMessage.
-          ExtendableMessageOrBuilder<NewIdentityRequest> {
+          ExtendableMessageOrBuilder<CertificateSet> {
 
     /**
-     * <code>optional bytes preMasterSecret = 1;</code>
+     * <code>optional .Certificate publicCertificate = 1;</code>
      */
-    boolean hasPreMasterSecret();
+    boolean hasPublicCertificate();
     /**
-     * <code>optional bytes preMasterSecret = 1;</code>
+     * <code>optional .Certificate publicCertificate = 1;</code>
      */
-    com.google.protobuf.ByteString getPreMasterSecret();
+    org.terasology.protobuf.NetData.Certificate getPublicCertificate();
+    /**
+     * <code>optional .Certificate publicCertificate = 1;</code>
+     */
+    org.terasology.protobuf.NetData.CertificateOrBuilder getPublicCertificateOrBuilder();
 
     /**
-     * <code>optional bytes random = 2;</code>
+     * <code>optional bytes privateExponent = 2;</code>
      */
-    boolean hasRandom();
+    boolean hasPrivateExponent();
     /**
-     * <code>optional bytes random = 2;</code>
+     * <code>optional bytes privateExponent = 2;</code>
      */
-    com.google.protobuf.ByteString getRandom();
+    com.google.protobuf.ByteString getPrivateExponent();
   }
   /**
-   * Protobuf type {@code NewIdentityRequest}
+   * Protobuf type {@code CertificateSet}
    */
-  public static final class NewIdentityRequest extends
+  public static final class CertificateSet extends
       com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        NewIdentityRequest> implements
-      // @@protoc_insertion_point(message_implements:NewIdentityRequest)
-      NewIdentityRequestOrBuilder {
-    // Use NewIdentityRequest.newBuilder() to construct.
-    private NewIdentityRequest(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.NewIdentityRequest, ?> builder) {
+        CertificateSet> implements
+      // @@protoc_insertion_point(message_implements:CertificateSet)
+      CertificateSetOrBuilder {
+    // Use CertificateSet.newBuilder() to construct.
+    private CertificateSet(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.CertificateSet, ?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private NewIdentityRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private CertificateSet(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final NewIdentityRequest defaultInstance;
-    public static NewIdentityRequest getDefaultInstance() {
+    private static final CertificateSet defaultInstance;
+    public static CertificateSet getDefaultInstance() {
       return defaultInstance;
     }
 
-    public NewIdentityRequest getDefaultInstanceForType() {
+    public CertificateSet getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -6961,7 +8622,7 @@ public NewIdentityRequest getDefaultInstanceForType() {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private NewIdentityRequest(
+    private CertificateSet(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -6985,13 +8646,21 @@ private NewIdentityRequest(
               break;
             }
             case 10: {
+              org.terasology.protobuf.NetData.Certificate.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                subBuilder = publicCertificate_.toBuilder();
+              }
+              publicCertificate_ = input.readMessage(org.terasology.protobuf.NetData.Certificate.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(publicCertificate_);
+                publicCertificate_ = subBuilder.buildPartial();
+              }
               bitField0_ |= 0x00000001;
-              preMasterSecret_ = input.readBytes();
               break;
             }
             case 18: {
               bitField0_ |= 0x00000002;
-              random_ = input.readBytes();
+              privateExponent_ = input.readBytes();
               break;
             }
           }
@@ -7008,65 +8677,71 @@ private NewIdentityRequest(
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.terasology.protobuf.NetData.internal_static_NewIdentityRequest_descriptor;
+      return org.terasology.protobuf.NetData.internal_static_CertificateSet_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.terasology.protobuf.NetData.internal_static_NewIdentityRequest_fieldAccessorTable
+      return org.terasology.protobuf.NetData.internal_static_CertificateSet_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.terasology.protobuf.NetData.NewIdentityRequest.class, org.terasology.protobuf.NetData.NewIdentityRequest.Builder.class);
+              org.terasology.protobuf.NetData.CertificateSet.class, org.terasology.protobuf.NetData.CertificateSet.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<NewIdentityRequest> PARSER =
-        new com.google.protobuf.AbstractParser<NewIdentityRequest>() {
-      public NewIdentityRequest parsePartialFrom(
+    public static com.google.protobuf.Parser<CertificateSet> PARSER =
+        new com.google.protobuf.AbstractParser<CertificateSet>() {
+      public CertificateSet parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new NewIdentityRequest(input, extensionRegistry);
+        return new CertificateSet(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<NewIdentityRequest> getParserForType() {
+    public com.google.protobuf.Parser<CertificateSet> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    public static final int PREMASTERSECRET_FIELD_NUMBER = 1;
-    private com.google.protobuf.ByteString preMasterSecret_;
+    public static final int PUBLICCERTIFICATE_FIELD_NUMBER = 1;
+    private org.terasology.protobuf.NetData.Certificate publicCertificate_;
     /**
-     * <code>optional bytes preMasterSecret = 1;</code>
+     * <code>optional .Certificate publicCertificate = 1;</code>
      */
-    public boolean hasPreMasterSecret() {
+    public boolean hasPublicCertificate() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>optional bytes preMasterSecret = 1;</code>
+     * <code>optional .Certificate publicCertificate = 1;</code>
      */
-    public com.google.protobuf.ByteString getPreMasterSecret() {
-      return preMasterSecret_;
+    public org.terasology.protobuf.NetData.Certificate getPublicCertificate() {
+      return publicCertificate_;
+    }
+    /**
+     * <code>optional .Certificate publicCertificate = 1;</code>
+     */
+    public org.terasology.protobuf.NetData.CertificateOrBuilder getPublicCertificateOrBuilder() {
+      return publicCertificate_;
     }
 
-    public static final int RANDOM_FIELD_NUMBER = 2;
-    private com.google.protobuf.ByteString random_;
+    public static final int PRIVATEEXPONENT_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString privateExponent_;
     /**
-     * <code>optional bytes random = 2;</code>
+     * <code>optional bytes privateExponent = 2;</code>
      */
-    public boolean hasRandom() {
+    public boolean hasPrivateExponent() {
       return ((bitField0_ & 0x00000002) == 0x00000002);
     }
     /**
-     * <code>optional bytes random = 2;</code>
+     * <code>optional bytes privateExponent = 2;</code>
      */
-    public com.google.protobuf.ByteString getRandom() {
-      return random_;
+    public com.google.protobuf.ByteString getPrivateExponent() {
+      return privateExponent_;
     }
 
     private void initFields() {
-      preMasterSecret_ = com.google.protobuf.ByteString.EMPTY;
-      random_ = com.google.protobuf.ByteString.EMPTY;
+      publicCertificate_ = org.terasology.protobuf.NetData.Certificate.getDefaultInstance();
+      privateExponent_ = com.google.protobuf.ByteString.EMPTY;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -7074,6 +8749,12 @@ public final boolean isInitialized() {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
+      if (hasPublicCertificate()) {
+        if (!getPublicCertificate().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
       if (!extensionsAreInitialized()) {
         memoizedIsInitialized = 0;
         return false;
@@ -7086,13 +8767,13 @@ public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       getSerializedSize();
       com.google.protobuf.GeneratedMessage
-        .ExtendableMessage<org.terasology.protobuf.NetData.NewIdentityRequest>.ExtensionWriter extensionWriter =
+        .ExtendableMessage<org.terasology.protobuf.NetData.CertificateSet>.ExtensionWriter extensionWriter =
           newExtensionWriter();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, preMasterSecret_);
+        output.writeMessage(1, publicCertificate_);
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeBytes(2, random_);
+        output.writeBytes(2, privateExponent_);
       }
       extensionWriter.writeUntil(536870912, output);
       getUnknownFields().writeTo(output);
@@ -7106,11 +8787,11 @@ public int getSerializedSize() {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, preMasterSecret_);
+          .computeMessageSize(1, publicCertificate_);
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(2, random_);
+          .computeBytesSize(2, privateExponent_);
       }
       size += extensionsSerializedSize();
       size += getUnknownFields().getSerializedSize();
@@ -7125,53 +8806,53 @@ protected java.lang.Object writeReplace()
       return super.writeReplace();
     }
 
-    public static org.terasology.protobuf.NetData.NewIdentityRequest parseFrom(
+    public static org.terasology.protobuf.NetData.CertificateSet parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.terasology.protobuf.NetData.NewIdentityRequest parseFrom(
+    public static org.terasology.protobuf.NetData.CertificateSet parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.NewIdentityRequest parseFrom(byte[] data)
+    public static org.terasology.protobuf.NetData.CertificateSet parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.terasology.protobuf.NetData.NewIdentityRequest parseFrom(
+    public static org.terasology.protobuf.NetData.CertificateSet parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.NewIdentityRequest parseFrom(java.io.InputStream input)
+    public static org.terasology.protobuf.NetData.CertificateSet parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.terasology.protobuf.NetData.NewIdentityRequest parseFrom(
+    public static org.terasology.protobuf.NetData.CertificateSet parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.NewIdentityRequest parseDelimitedFrom(java.io.InputStream input)
+    public static org.terasology.protobuf.NetData.CertificateSet parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.terasology.protobuf.NetData.NewIdentityRequest parseDelimitedFrom(
+    public static org.terasology.protobuf.NetData.CertificateSet parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.NewIdentityRequest parseFrom(
+    public static org.terasology.protobuf.NetData.CertificateSet parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.terasology.protobuf.NetData.NewIdentityRequest parseFrom(
+    public static org.terasology.protobuf.NetData.CertificateSet parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -7180,7 +8861,7 @@ public static org.terasology.protobuf.NetData.NewIdentityRequest parseFrom(
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.terasology.protobuf.NetData.NewIdentityRequest prototype) {
+    public static Builder newBuilder(org.terasology.protobuf.NetData.CertificateSet prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -7192,26 +8873,26 @@ protected Builder newBuilderForType(
       return builder;
     }
     /**
-     * Protobuf type {@code NewIdentityRequest}
+     * Protobuf type {@code CertificateSet}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.NewIdentityRequest, Builder> implements
-        // @@protoc_insertion_point(builder_implements:NewIdentityRequest)
-        org.terasology.protobuf.NetData.NewIdentityRequestOrBuilder {
+          org.terasology.protobuf.NetData.CertificateSet, Builder> implements
+        // @@protoc_insertion_point(builder_implements:CertificateSet)
+        org.terasology.protobuf.NetData.CertificateSetOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.terasology.protobuf.NetData.internal_static_NewIdentityRequest_descriptor;
+        return org.terasology.protobuf.NetData.internal_static_CertificateSet_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.terasology.protobuf.NetData.internal_static_NewIdentityRequest_fieldAccessorTable
+        return org.terasology.protobuf.NetData.internal_static_CertificateSet_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.terasology.protobuf.NetData.NewIdentityRequest.class, org.terasology.protobuf.NetData.NewIdentityRequest.Builder.class);
+                org.terasology.protobuf.NetData.CertificateSet.class, org.terasology.protobuf.NetData.CertificateSet.Builder.class);
       }
 
-      // Construct using org.terasology.protobuf.NetData.NewIdentityRequest.newBuilder()
+      // Construct using org.terasology.protobuf.NetData.CertificateSet.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -7223,6 +8904,7 @@ private Builder(
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getPublicCertificateFieldBuilder();
         }
       }
       private static Builder create() {
@@ -7231,9 +8913,13 @@ private static Builder create() {
 
       public Builder clear() {
         super.clear();
-        preMasterSecret_ = com.google.protobuf.ByteString.EMPTY;
+        if (publicCertificateBuilder_ == null) {
+          publicCertificate_ = org.terasology.protobuf.NetData.Certificate.getDefaultInstance();
+        } else {
+          publicCertificateBuilder_.clear();
+        }
         bitField0_ = (bitField0_ & ~0x00000001);
-        random_ = com.google.protobuf.ByteString.EMPTY;
+        privateExponent_ = com.google.protobuf.ByteString.EMPTY;
         bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
@@ -7244,54 +8930,58 @@ public Builder clone() {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.terasology.protobuf.NetData.internal_static_NewIdentityRequest_descriptor;
+        return org.terasology.protobuf.NetData.internal_static_CertificateSet_descriptor;
       }
 
-      public org.terasology.protobuf.NetData.NewIdentityRequest getDefaultInstanceForType() {
-        return org.terasology.protobuf.NetData.NewIdentityRequest.getDefaultInstance();
+      public org.terasology.protobuf.NetData.CertificateSet getDefaultInstanceForType() {
+        return org.terasology.protobuf.NetData.CertificateSet.getDefaultInstance();
       }
 
-      public org.terasology.protobuf.NetData.NewIdentityRequest build() {
-        org.terasology.protobuf.NetData.NewIdentityRequest result = buildPartial();
+      public org.terasology.protobuf.NetData.CertificateSet build() {
+        org.terasology.protobuf.NetData.CertificateSet result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.terasology.protobuf.NetData.NewIdentityRequest buildPartial() {
-        org.terasology.protobuf.NetData.NewIdentityRequest result = new org.terasology.protobuf.NetData.NewIdentityRequest(this);
+      public org.terasology.protobuf.NetData.CertificateSet buildPartial() {
+        org.terasology.protobuf.NetData.CertificateSet result = new org.terasology.protobuf.NetData.CertificateSet(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.preMasterSecret_ = preMasterSecret_;
+        if (publicCertificateBuilder_ == null) {
+          result.publicCertificate_ = publicCertificate_;
+        } else {
+          result.publicCertificate_ = publicCertificateBuilder_.build();
+        }
         if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
           to_bitField0_ |= 0x00000002;
         }
-        result.random_ = random_;
+        result.privateExponent_ = privateExponent_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.terasology.protobuf.NetData.NewIdentityRequest) {
-          return mergeFrom((org.terasology.protobuf.NetData.NewIdentityRequest)other);
+        if (other instanceof org.terasology.protobuf.NetData.CertificateSet) {
+          return mergeFrom((org.terasology.protobuf.NetData.CertificateSet)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.terasology.protobuf.NetData.NewIdentityRequest other) {
-        if (other == org.terasology.protobuf.NetData.NewIdentityRequest.getDefaultInstance()) return this;
-        if (other.hasPreMasterSecret()) {
-          setPreMasterSecret(other.getPreMasterSecret());
+      public Builder mergeFrom(org.terasology.protobuf.NetData.CertificateSet other) {
+        if (other == org.terasology.protobuf.NetData.CertificateSet.getDefaultInstance()) return this;
+        if (other.hasPublicCertificate()) {
+          mergePublicCertificate(other.getPublicCertificate());
         }
-        if (other.hasRandom()) {
-          setRandom(other.getRandom());
+        if (other.hasPrivateExponent()) {
+          setPrivateExponent(other.getPrivateExponent());
         }
         this.mergeExtensionFields(other);
         this.mergeUnknownFields(other.getUnknownFields());
@@ -7299,6 +8989,12 @@ public Builder mergeFrom(org.terasology.protobuf.NetData.NewIdentityRequest othe
       }
 
       public final boolean isInitialized() {
+        if (hasPublicCertificate()) {
+          if (!getPublicCertificate().isInitialized()) {
+            
+            return false;
+          }
+        }
         if (!extensionsAreInitialized()) {
           
           return false;
@@ -7310,11 +9006,11 @@ public Builder mergeFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.terasology.protobuf.NetData.NewIdentityRequest parsedMessage = null;
+        org.terasology.protobuf.NetData.CertificateSet parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.terasology.protobuf.NetData.NewIdentityRequest) e.getUnfinishedMessage();
+          parsedMessage = (org.terasology.protobuf.NetData.CertificateSet) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -7323,124 +9019,205 @@ public Builder mergeFrom(
         }
         return this;
       }
-      private int bitField0_;
-
-      private com.google.protobuf.ByteString preMasterSecret_ = com.google.protobuf.ByteString.EMPTY;
+      private int bitField0_;
+
+      private org.terasology.protobuf.NetData.Certificate publicCertificate_ = org.terasology.protobuf.NetData.Certificate.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.terasology.protobuf.NetData.Certificate, org.terasology.protobuf.NetData.Certificate.Builder, org.terasology.protobuf.NetData.CertificateOrBuilder> publicCertificateBuilder_;
+      /**
+       * <code>optional .Certificate publicCertificate = 1;</code>
+       */
+      public boolean hasPublicCertificate() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional .Certificate publicCertificate = 1;</code>
+       */
+      public org.terasology.protobuf.NetData.Certificate getPublicCertificate() {
+        if (publicCertificateBuilder_ == null) {
+          return publicCertificate_;
+        } else {
+          return publicCertificateBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .Certificate publicCertificate = 1;</code>
+       */
+      public Builder setPublicCertificate(org.terasology.protobuf.NetData.Certificate value) {
+        if (publicCertificateBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          publicCertificate_ = value;
+          onChanged();
+        } else {
+          publicCertificateBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
       /**
-       * <code>optional bytes preMasterSecret = 1;</code>
+       * <code>optional .Certificate publicCertificate = 1;</code>
        */
-      public boolean hasPreMasterSecret() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+      public Builder setPublicCertificate(
+          org.terasology.protobuf.NetData.Certificate.Builder builderForValue) {
+        if (publicCertificateBuilder_ == null) {
+          publicCertificate_ = builderForValue.build();
+          onChanged();
+        } else {
+          publicCertificateBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        return this;
       }
       /**
-       * <code>optional bytes preMasterSecret = 1;</code>
+       * <code>optional .Certificate publicCertificate = 1;</code>
        */
-      public com.google.protobuf.ByteString getPreMasterSecret() {
-        return preMasterSecret_;
+      public Builder mergePublicCertificate(org.terasology.protobuf.NetData.Certificate value) {
+        if (publicCertificateBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001) &&
+              publicCertificate_ != org.terasology.protobuf.NetData.Certificate.getDefaultInstance()) {
+            publicCertificate_ =
+              org.terasology.protobuf.NetData.Certificate.newBuilder(publicCertificate_).mergeFrom(value).buildPartial();
+          } else {
+            publicCertificate_ = value;
+          }
+          onChanged();
+        } else {
+          publicCertificateBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
       }
       /**
-       * <code>optional bytes preMasterSecret = 1;</code>
+       * <code>optional .Certificate publicCertificate = 1;</code>
        */
-      public Builder setPreMasterSecret(com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        preMasterSecret_ = value;
-        onChanged();
+      public Builder clearPublicCertificate() {
+        if (publicCertificateBuilder_ == null) {
+          publicCertificate_ = org.terasology.protobuf.NetData.Certificate.getDefaultInstance();
+          onChanged();
+        } else {
+          publicCertificateBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
       /**
-       * <code>optional bytes preMasterSecret = 1;</code>
+       * <code>optional .Certificate publicCertificate = 1;</code>
        */
-      public Builder clearPreMasterSecret() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        preMasterSecret_ = getDefaultInstance().getPreMasterSecret();
+      public org.terasology.protobuf.NetData.Certificate.Builder getPublicCertificateBuilder() {
+        bitField0_ |= 0x00000001;
         onChanged();
-        return this;
+        return getPublicCertificateFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .Certificate publicCertificate = 1;</code>
+       */
+      public org.terasology.protobuf.NetData.CertificateOrBuilder getPublicCertificateOrBuilder() {
+        if (publicCertificateBuilder_ != null) {
+          return publicCertificateBuilder_.getMessageOrBuilder();
+        } else {
+          return publicCertificate_;
+        }
+      }
+      /**
+       * <code>optional .Certificate publicCertificate = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.terasology.protobuf.NetData.Certificate, org.terasology.protobuf.NetData.Certificate.Builder, org.terasology.protobuf.NetData.CertificateOrBuilder> 
+          getPublicCertificateFieldBuilder() {
+        if (publicCertificateBuilder_ == null) {
+          publicCertificateBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.terasology.protobuf.NetData.Certificate, org.terasology.protobuf.NetData.Certificate.Builder, org.terasology.protobuf.NetData.CertificateOrBuilder>(
+                  getPublicCertificate(),
+                  getParentForChildren(),
+                  isClean());
+          publicCertificate_ = null;
+        }
+        return publicCertificateBuilder_;
       }
 
-      private com.google.protobuf.ByteString random_ = com.google.protobuf.ByteString.EMPTY;
+      private com.google.protobuf.ByteString privateExponent_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>optional bytes random = 2;</code>
+       * <code>optional bytes privateExponent = 2;</code>
        */
-      public boolean hasRandom() {
+      public boolean hasPrivateExponent() {
         return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>optional bytes random = 2;</code>
+       * <code>optional bytes privateExponent = 2;</code>
        */
-      public com.google.protobuf.ByteString getRandom() {
-        return random_;
+      public com.google.protobuf.ByteString getPrivateExponent() {
+        return privateExponent_;
       }
       /**
-       * <code>optional bytes random = 2;</code>
+       * <code>optional bytes privateExponent = 2;</code>
        */
-      public Builder setRandom(com.google.protobuf.ByteString value) {
+      public Builder setPrivateExponent(com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   bitField0_ |= 0x00000002;
-        random_ = value;
+        privateExponent_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional bytes random = 2;</code>
+       * <code>optional bytes privateExponent = 2;</code>
        */
-      public Builder clearRandom() {
+      public Builder clearPrivateExponent() {
         bitField0_ = (bitField0_ & ~0x00000002);
-        random_ = getDefaultInstance().getRandom();
+        privateExponent_ = getDefaultInstance().getPrivateExponent();
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:NewIdentityRequest)
+      // @@protoc_insertion_point(builder_scope:CertificateSet)
     }
 
     static {
-      defaultInstance = new NewIdentityRequest(true);
+      defaultInstance = new CertificateSet(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:NewIdentityRequest)
+    // @@protoc_insertion_point(class_scope:CertificateSet)
   }
 
-  public interface ProvisionIdentityOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:ProvisionIdentity)
+  public interface HandshakeVerificationOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:HandshakeVerification)
       com.google.protobuf.GeneratedMessage.
-          ExtendableMessageOrBuilder<ProvisionIdentity> {
+          ExtendableMessageOrBuilder<HandshakeVerification> {
 
     /**
-     * <code>optional bytes encryptedCertificates = 1;</code>
+     * <code>optional bytes signature = 1;</code>
      */
-    boolean hasEncryptedCertificates();
+    boolean hasSignature();
     /**
-     * <code>optional bytes encryptedCertificates = 1;</code>
+     * <code>optional bytes signature = 1;</code>
      */
-    com.google.protobuf.ByteString getEncryptedCertificates();
+    com.google.protobuf.ByteString getSignature();
   }
   /**
-   * Protobuf type {@code ProvisionIdentity}
+   * Protobuf type {@code HandshakeVerification}
    */
-  public static final class ProvisionIdentity extends
+  public static final class HandshakeVerification extends
       com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        ProvisionIdentity> implements
-      // @@protoc_insertion_point(message_implements:ProvisionIdentity)
-      ProvisionIdentityOrBuilder {
-    // Use ProvisionIdentity.newBuilder() to construct.
-    private ProvisionIdentity(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.ProvisionIdentity, ?> builder) {
+        HandshakeVerification> implements
+      // @@protoc_insertion_point(message_implements:HandshakeVerification)
+      HandshakeVerificationOrBuilder {
+    // Use HandshakeVerification.newBuilder() to construct.
+    private HandshakeVerification(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.HandshakeVerification, ?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private ProvisionIdentity(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private HandshakeVerification(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final ProvisionIdentity defaultInstance;
-    public static ProvisionIdentity getDefaultInstance() {
+    private static final HandshakeVerification defaultInstance;
+    public static HandshakeVerification getDefaultInstance() {
       return defaultInstance;
     }
 
-    public ProvisionIdentity getDefaultInstanceForType() {
+    public HandshakeVerification getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -7450,7 +9227,7 @@ public ProvisionIdentity getDefaultInstanceForType() {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private ProvisionIdentity(
+    private HandshakeVerification(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -7475,7 +9252,7 @@ private ProvisionIdentity(
             }
             case 10: {
               bitField0_ |= 0x00000001;
-              encryptedCertificates_ = input.readBytes();
+              signature_ = input.readBytes();
               break;
             }
           }
@@ -7492,49 +9269,49 @@ private ProvisionIdentity(
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.terasology.protobuf.NetData.internal_static_ProvisionIdentity_descriptor;
+      return org.terasology.protobuf.NetData.internal_static_HandshakeVerification_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.terasology.protobuf.NetData.internal_static_ProvisionIdentity_fieldAccessorTable
+      return org.terasology.protobuf.NetData.internal_static_HandshakeVerification_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.terasology.protobuf.NetData.ProvisionIdentity.class, org.terasology.protobuf.NetData.ProvisionIdentity.Builder.class);
+              org.terasology.protobuf.NetData.HandshakeVerification.class, org.terasology.protobuf.NetData.HandshakeVerification.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<ProvisionIdentity> PARSER =
-        new com.google.protobuf.AbstractParser<ProvisionIdentity>() {
-      public ProvisionIdentity parsePartialFrom(
+    public static com.google.protobuf.Parser<HandshakeVerification> PARSER =
+        new com.google.protobuf.AbstractParser<HandshakeVerification>() {
+      public HandshakeVerification parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new ProvisionIdentity(input, extensionRegistry);
+        return new HandshakeVerification(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<ProvisionIdentity> getParserForType() {
+    public com.google.protobuf.Parser<HandshakeVerification> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    public static final int ENCRYPTEDCERTIFICATES_FIELD_NUMBER = 1;
-    private com.google.protobuf.ByteString encryptedCertificates_;
+    public static final int SIGNATURE_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString signature_;
     /**
-     * <code>optional bytes encryptedCertificates = 1;</code>
+     * <code>optional bytes signature = 1;</code>
      */
-    public boolean hasEncryptedCertificates() {
+    public boolean hasSignature() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>optional bytes encryptedCertificates = 1;</code>
+     * <code>optional bytes signature = 1;</code>
      */
-    public com.google.protobuf.ByteString getEncryptedCertificates() {
-      return encryptedCertificates_;
+    public com.google.protobuf.ByteString getSignature() {
+      return signature_;
     }
 
     private void initFields() {
-      encryptedCertificates_ = com.google.protobuf.ByteString.EMPTY;
+      signature_ = com.google.protobuf.ByteString.EMPTY;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -7554,10 +9331,10 @@ public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       getSerializedSize();
       com.google.protobuf.GeneratedMessage
-        .ExtendableMessage<org.terasology.protobuf.NetData.ProvisionIdentity>.ExtensionWriter extensionWriter =
+        .ExtendableMessage<org.terasology.protobuf.NetData.HandshakeVerification>.ExtensionWriter extensionWriter =
           newExtensionWriter();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, encryptedCertificates_);
+        output.writeBytes(1, signature_);
       }
       extensionWriter.writeUntil(536870912, output);
       getUnknownFields().writeTo(output);
@@ -7571,7 +9348,7 @@ public int getSerializedSize() {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, encryptedCertificates_);
+          .computeBytesSize(1, signature_);
       }
       size += extensionsSerializedSize();
       size += getUnknownFields().getSerializedSize();
@@ -7586,53 +9363,53 @@ protected java.lang.Object writeReplace()
       return super.writeReplace();
     }
 
-    public static org.terasology.protobuf.NetData.ProvisionIdentity parseFrom(
+    public static org.terasology.protobuf.NetData.HandshakeVerification parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.terasology.protobuf.NetData.ProvisionIdentity parseFrom(
+    public static org.terasology.protobuf.NetData.HandshakeVerification parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.ProvisionIdentity parseFrom(byte[] data)
+    public static org.terasology.protobuf.NetData.HandshakeVerification parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.terasology.protobuf.NetData.ProvisionIdentity parseFrom(
+    public static org.terasology.protobuf.NetData.HandshakeVerification parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.ProvisionIdentity parseFrom(java.io.InputStream input)
+    public static org.terasology.protobuf.NetData.HandshakeVerification parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.terasology.protobuf.NetData.ProvisionIdentity parseFrom(
+    public static org.terasology.protobuf.NetData.HandshakeVerification parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.ProvisionIdentity parseDelimitedFrom(java.io.InputStream input)
+    public static org.terasology.protobuf.NetData.HandshakeVerification parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.terasology.protobuf.NetData.ProvisionIdentity parseDelimitedFrom(
+    public static org.terasology.protobuf.NetData.HandshakeVerification parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.ProvisionIdentity parseFrom(
+    public static org.terasology.protobuf.NetData.HandshakeVerification parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.terasology.protobuf.NetData.ProvisionIdentity parseFrom(
+    public static org.terasology.protobuf.NetData.HandshakeVerification parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -7641,7 +9418,7 @@ public static org.terasology.protobuf.NetData.ProvisionIdentity parseFrom(
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.terasology.protobuf.NetData.ProvisionIdentity prototype) {
+    public static Builder newBuilder(org.terasology.protobuf.NetData.HandshakeVerification prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -7653,26 +9430,26 @@ protected Builder newBuilderForType(
       return builder;
     }
     /**
-     * Protobuf type {@code ProvisionIdentity}
+     * Protobuf type {@code HandshakeVerification}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.ProvisionIdentity, Builder> implements
-        // @@protoc_insertion_point(builder_implements:ProvisionIdentity)
-        org.terasology.protobuf.NetData.ProvisionIdentityOrBuilder {
+          org.terasology.protobuf.NetData.HandshakeVerification, Builder> implements
+        // @@protoc_insertion_point(builder_implements:HandshakeVerification)
+        org.terasology.protobuf.NetData.HandshakeVerificationOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.terasology.protobuf.NetData.internal_static_ProvisionIdentity_descriptor;
+        return org.terasology.protobuf.NetData.internal_static_HandshakeVerification_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.terasology.protobuf.NetData.internal_static_ProvisionIdentity_fieldAccessorTable
+        return org.terasology.protobuf.NetData.internal_static_HandshakeVerification_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.terasology.protobuf.NetData.ProvisionIdentity.class, org.terasology.protobuf.NetData.ProvisionIdentity.Builder.class);
+                org.terasology.protobuf.NetData.HandshakeVerification.class, org.terasology.protobuf.NetData.HandshakeVerification.Builder.class);
       }
 
-      // Construct using org.terasology.protobuf.NetData.ProvisionIdentity.newBuilder()
+      // Construct using org.terasology.protobuf.NetData.HandshakeVerification.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -7692,7 +9469,7 @@ private static Builder create() {
 
       public Builder clear() {
         super.clear();
-        encryptedCertificates_ = com.google.protobuf.ByteString.EMPTY;
+        signature_ = com.google.protobuf.ByteString.EMPTY;
         bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
@@ -7703,47 +9480,47 @@ public Builder clone() {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.terasology.protobuf.NetData.internal_static_ProvisionIdentity_descriptor;
+        return org.terasology.protobuf.NetData.internal_static_HandshakeVerification_descriptor;
       }
 
-      public org.terasology.protobuf.NetData.ProvisionIdentity getDefaultInstanceForType() {
-        return org.terasology.protobuf.NetData.ProvisionIdentity.getDefaultInstance();
+      public org.terasology.protobuf.NetData.HandshakeVerification getDefaultInstanceForType() {
+        return org.terasology.protobuf.NetData.HandshakeVerification.getDefaultInstance();
       }
 
-      public org.terasology.protobuf.NetData.ProvisionIdentity build() {
-        org.terasology.protobuf.NetData.ProvisionIdentity result = buildPartial();
+      public org.terasology.protobuf.NetData.HandshakeVerification build() {
+        org.terasology.protobuf.NetData.HandshakeVerification result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.terasology.protobuf.NetData.ProvisionIdentity buildPartial() {
-        org.terasology.protobuf.NetData.ProvisionIdentity result = new org.terasology.protobuf.NetData.ProvisionIdentity(this);
+      public org.terasology.protobuf.NetData.HandshakeVerification buildPartial() {
+        org.terasology.protobuf.NetData.HandshakeVerification result = new org.terasology.protobuf.NetData.HandshakeVerification(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.encryptedCertificates_ = encryptedCertificates_;
+        result.signature_ = signature_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.terasology.protobuf.NetData.ProvisionIdentity) {
-          return mergeFrom((org.terasology.protobuf.NetData.ProvisionIdentity)other);
+        if (other instanceof org.terasology.protobuf.NetData.HandshakeVerification) {
+          return mergeFrom((org.terasology.protobuf.NetData.HandshakeVerification)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.terasology.protobuf.NetData.ProvisionIdentity other) {
-        if (other == org.terasology.protobuf.NetData.ProvisionIdentity.getDefaultInstance()) return this;
-        if (other.hasEncryptedCertificates()) {
-          setEncryptedCertificates(other.getEncryptedCertificates());
+      public Builder mergeFrom(org.terasology.protobuf.NetData.HandshakeVerification other) {
+        if (other == org.terasology.protobuf.NetData.HandshakeVerification.getDefaultInstance()) return this;
+        if (other.hasSignature()) {
+          setSignature(other.getSignature());
         }
         this.mergeExtensionFields(other);
         this.mergeUnknownFields(other.getUnknownFields());
@@ -7762,11 +9539,11 @@ public Builder mergeFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.terasology.protobuf.NetData.ProvisionIdentity parsedMessage = null;
+        org.terasology.protobuf.NetData.HandshakeVerification parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.terasology.protobuf.NetData.ProvisionIdentity) e.getUnfinishedMessage();
+          parsedMessage = (org.terasology.protobuf.NetData.HandshakeVerification) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -7777,100 +9554,119 @@ public Builder mergeFrom(
       }
       private int bitField0_;
 
-      private com.google.protobuf.ByteString encryptedCertificates_ = com.google.protobuf.ByteString.EMPTY;
+      private com.google.protobuf.ByteString signature_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>optional bytes encryptedCertificates = 1;</code>
+       * <code>optional bytes signature = 1;</code>
        */
-      public boolean hasEncryptedCertificates() {
+      public boolean hasSignature() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>optional bytes encryptedCertificates = 1;</code>
+       * <code>optional bytes signature = 1;</code>
        */
-      public com.google.protobuf.ByteString getEncryptedCertificates() {
-        return encryptedCertificates_;
+      public com.google.protobuf.ByteString getSignature() {
+        return signature_;
       }
       /**
-       * <code>optional bytes encryptedCertificates = 1;</code>
+       * <code>optional bytes signature = 1;</code>
        */
-      public Builder setEncryptedCertificates(com.google.protobuf.ByteString value) {
+      public Builder setSignature(com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   bitField0_ |= 0x00000001;
-        encryptedCertificates_ = value;
+        signature_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional bytes encryptedCertificates = 1;</code>
+       * <code>optional bytes signature = 1;</code>
        */
-      public Builder clearEncryptedCertificates() {
+      public Builder clearSignature() {
         bitField0_ = (bitField0_ & ~0x00000001);
-        encryptedCertificates_ = getDefaultInstance().getEncryptedCertificates();
+        signature_ = getDefaultInstance().getSignature();
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:ProvisionIdentity)
+      // @@protoc_insertion_point(builder_scope:HandshakeVerification)
     }
 
     static {
-      defaultInstance = new ProvisionIdentity(true);
+      defaultInstance = new HandshakeVerification(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:ProvisionIdentity)
+    // @@protoc_insertion_point(class_scope:HandshakeVerification)
   }
 
-  public interface CertificateSetOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:CertificateSet)
+  public interface CertificateOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Certificate)
       com.google.protobuf.GeneratedMessage.
-          ExtendableMessageOrBuilder<CertificateSet> {
+          ExtendableMessageOrBuilder<Certificate> {
 
     /**
-     * <code>optional .Certificate publicCertificate = 1;</code>
+     * <code>optional string id = 1;</code>
      */
-    boolean hasPublicCertificate();
+    boolean hasId();
     /**
-     * <code>optional .Certificate publicCertificate = 1;</code>
+     * <code>optional string id = 1;</code>
      */
-    org.terasology.protobuf.NetData.Certificate getPublicCertificate();
+    java.lang.String getId();
     /**
-     * <code>optional .Certificate publicCertificate = 1;</code>
+     * <code>optional string id = 1;</code>
      */
-    org.terasology.protobuf.NetData.CertificateOrBuilder getPublicCertificateOrBuilder();
+    com.google.protobuf.ByteString
+        getIdBytes();
 
     /**
-     * <code>optional bytes privateExponent = 2;</code>
+     * <code>optional bytes modulus = 2;</code>
      */
-    boolean hasPrivateExponent();
+    boolean hasModulus();
     /**
-     * <code>optional bytes privateExponent = 2;</code>
+     * <code>optional bytes modulus = 2;</code>
      */
-    com.google.protobuf.ByteString getPrivateExponent();
+    com.google.protobuf.ByteString getModulus();
+
+    /**
+     * <code>optional bytes exponent = 3;</code>
+     */
+    boolean hasExponent();
+    /**
+     * <code>optional bytes exponent = 3;</code>
+     */
+    com.google.protobuf.ByteString getExponent();
+
+    /**
+     * <code>optional bytes signature = 4;</code>
+     */
+    boolean hasSignature();
+    /**
+     * <code>optional bytes signature = 4;</code>
+     */
+    com.google.protobuf.ByteString getSignature();
   }
   /**
-   * Protobuf type {@code CertificateSet}
+   * Protobuf type {@code Certificate}
    */
-  public static final class CertificateSet extends
+  public static final class Certificate extends
       com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        CertificateSet> implements
-      // @@protoc_insertion_point(message_implements:CertificateSet)
-      CertificateSetOrBuilder {
-    // Use CertificateSet.newBuilder() to construct.
-    private CertificateSet(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.CertificateSet, ?> builder) {
+        Certificate> implements
+      // @@protoc_insertion_point(message_implements:Certificate)
+      CertificateOrBuilder {
+    // Use Certificate.newBuilder() to construct.
+    private Certificate(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.Certificate, ?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private CertificateSet(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private Certificate(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final CertificateSet defaultInstance;
-    public static CertificateSet getDefaultInstance() {
+    private static final Certificate defaultInstance;
+    public static Certificate getDefaultInstance() {
       return defaultInstance;
     }
 
-    public CertificateSet getDefaultInstanceForType() {
+    public Certificate getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -7880,7 +9676,7 @@ public CertificateSet getDefaultInstanceForType() {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private CertificateSet(
+    private Certificate(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -7904,21 +9700,24 @@ private CertificateSet(
               break;
             }
             case 10: {
-              org.terasology.protobuf.NetData.Certificate.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000001) == 0x00000001)) {
-                subBuilder = publicCertificate_.toBuilder();
-              }
-              publicCertificate_ = input.readMessage(org.terasology.protobuf.NetData.Certificate.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(publicCertificate_);
-                publicCertificate_ = subBuilder.buildPartial();
-              }
+              com.google.protobuf.ByteString bs = input.readBytes();
               bitField0_ |= 0x00000001;
+              id_ = bs;
               break;
             }
             case 18: {
               bitField0_ |= 0x00000002;
-              privateExponent_ = input.readBytes();
+              modulus_ = input.readBytes();
+              break;
+            }
+            case 26: {
+              bitField0_ |= 0x00000004;
+              exponent_ = input.readBytes();
+              break;
+            }
+            case 34: {
+              bitField0_ |= 0x00000008;
+              signature_ = input.readBytes();
               break;
             }
           }
@@ -7935,84 +9734,131 @@ private CertificateSet(
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.terasology.protobuf.NetData.internal_static_CertificateSet_descriptor;
+      return org.terasology.protobuf.NetData.internal_static_Certificate_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.terasology.protobuf.NetData.internal_static_CertificateSet_fieldAccessorTable
+      return org.terasology.protobuf.NetData.internal_static_Certificate_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.terasology.protobuf.NetData.CertificateSet.class, org.terasology.protobuf.NetData.CertificateSet.Builder.class);
+              org.terasology.protobuf.NetData.Certificate.class, org.terasology.protobuf.NetData.Certificate.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<CertificateSet> PARSER =
-        new com.google.protobuf.AbstractParser<CertificateSet>() {
-      public CertificateSet parsePartialFrom(
+    public static com.google.protobuf.Parser<Certificate> PARSER =
+        new com.google.protobuf.AbstractParser<Certificate>() {
+      public Certificate parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new CertificateSet(input, extensionRegistry);
+        return new Certificate(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<CertificateSet> getParserForType() {
+    public com.google.protobuf.Parser<Certificate> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    public static final int PUBLICCERTIFICATE_FIELD_NUMBER = 1;
-    private org.terasology.protobuf.NetData.Certificate publicCertificate_;
+    public static final int ID_FIELD_NUMBER = 1;
+    private java.lang.Object id_;
     /**
-     * <code>optional .Certificate publicCertificate = 1;</code>
+     * <code>optional string id = 1;</code>
      */
-    public boolean hasPublicCertificate() {
+    public boolean hasId() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>optional .Certificate publicCertificate = 1;</code>
+     * <code>optional string id = 1;</code>
      */
-    public org.terasology.protobuf.NetData.Certificate getPublicCertificate() {
-      return publicCertificate_;
+    public java.lang.String getId() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          id_ = s;
+        }
+        return s;
+      }
     }
     /**
-     * <code>optional .Certificate publicCertificate = 1;</code>
+     * <code>optional string id = 1;</code>
      */
-    public org.terasology.protobuf.NetData.CertificateOrBuilder getPublicCertificateOrBuilder() {
-      return publicCertificate_;
+    public com.google.protobuf.ByteString
+        getIdBytes() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        id_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
     }
 
-    public static final int PRIVATEEXPONENT_FIELD_NUMBER = 2;
-    private com.google.protobuf.ByteString privateExponent_;
+    public static final int MODULUS_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString modulus_;
     /**
-     * <code>optional bytes privateExponent = 2;</code>
+     * <code>optional bytes modulus = 2;</code>
      */
-    public boolean hasPrivateExponent() {
+    public boolean hasModulus() {
       return ((bitField0_ & 0x00000002) == 0x00000002);
     }
     /**
-     * <code>optional bytes privateExponent = 2;</code>
+     * <code>optional bytes modulus = 2;</code>
      */
-    public com.google.protobuf.ByteString getPrivateExponent() {
-      return privateExponent_;
+    public com.google.protobuf.ByteString getModulus() {
+      return modulus_;
+    }
+
+    public static final int EXPONENT_FIELD_NUMBER = 3;
+    private com.google.protobuf.ByteString exponent_;
+    /**
+     * <code>optional bytes exponent = 3;</code>
+     */
+    public boolean hasExponent() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional bytes exponent = 3;</code>
+     */
+    public com.google.protobuf.ByteString getExponent() {
+      return exponent_;
+    }
+
+    public static final int SIGNATURE_FIELD_NUMBER = 4;
+    private com.google.protobuf.ByteString signature_;
+    /**
+     * <code>optional bytes signature = 4;</code>
+     */
+    public boolean hasSignature() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional bytes signature = 4;</code>
+     */
+    public com.google.protobuf.ByteString getSignature() {
+      return signature_;
     }
 
     private void initFields() {
-      publicCertificate_ = org.terasology.protobuf.NetData.Certificate.getDefaultInstance();
-      privateExponent_ = com.google.protobuf.ByteString.EMPTY;
+      id_ = "";
+      modulus_ = com.google.protobuf.ByteString.EMPTY;
+      exponent_ = com.google.protobuf.ByteString.EMPTY;
+      signature_ = com.google.protobuf.ByteString.EMPTY;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
       if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      if (hasPublicCertificate()) {
-        if (!getPublicCertificate().isInitialized()) {
-          memoizedIsInitialized = 0;
-          return false;
-        }
-      }
+      if (isInitialized == 0) return false;
+
       if (!extensionsAreInitialized()) {
         memoizedIsInitialized = 0;
         return false;
@@ -8025,13 +9871,19 @@ public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       getSerializedSize();
       com.google.protobuf.GeneratedMessage
-        .ExtendableMessage<org.terasology.protobuf.NetData.CertificateSet>.ExtensionWriter extensionWriter =
+        .ExtendableMessage<org.terasology.protobuf.NetData.Certificate>.ExtensionWriter extensionWriter =
           newExtensionWriter();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeMessage(1, publicCertificate_);
+        output.writeBytes(1, getIdBytes());
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeBytes(2, privateExponent_);
+        output.writeBytes(2, modulus_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBytes(3, exponent_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeBytes(4, signature_);
       }
       extensionWriter.writeUntil(536870912, output);
       getUnknownFields().writeTo(output);
@@ -8045,11 +9897,19 @@ public int getSerializedSize() {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, publicCertificate_);
+          .computeBytesSize(1, getIdBytes());
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(2, privateExponent_);
+          .computeBytesSize(2, modulus_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, exponent_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(4, signature_);
       }
       size += extensionsSerializedSize();
       size += getUnknownFields().getSerializedSize();
@@ -8064,53 +9924,53 @@ protected java.lang.Object writeReplace()
       return super.writeReplace();
     }
 
-    public static org.terasology.protobuf.NetData.CertificateSet parseFrom(
+    public static org.terasology.protobuf.NetData.Certificate parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.terasology.protobuf.NetData.CertificateSet parseFrom(
+    public static org.terasology.protobuf.NetData.Certificate parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.CertificateSet parseFrom(byte[] data)
+    public static org.terasology.protobuf.NetData.Certificate parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.terasology.protobuf.NetData.CertificateSet parseFrom(
+    public static org.terasology.protobuf.NetData.Certificate parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.CertificateSet parseFrom(java.io.InputStream input)
+    public static org.terasology.protobuf.NetData.Certificate parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.terasology.protobuf.NetData.CertificateSet parseFrom(
+    public static org.terasology.protobuf.NetData.Certificate parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.CertificateSet parseDelimitedFrom(java.io.InputStream input)
+    public static org.terasology.protobuf.NetData.Certificate parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.terasology.protobuf.NetData.CertificateSet parseDelimitedFrom(
+    public static org.terasology.protobuf.NetData.Certificate parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.CertificateSet parseFrom(
+    public static org.terasology.protobuf.NetData.Certificate parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.terasology.protobuf.NetData.CertificateSet parseFrom(
+    public static org.terasology.protobuf.NetData.Certificate parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -8119,7 +9979,7 @@ public static org.terasology.protobuf.NetData.CertificateSet parseFrom(
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.terasology.protobuf.NetData.CertificateSet prototype) {
+    public static Builder newBuilder(org.terasology.protobuf.NetData.Certificate prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -8131,26 +9991,26 @@ protected Builder newBuilderForType(
       return builder;
     }
     /**
-     * Protobuf type {@code CertificateSet}
+     * Protobuf type {@code Certificate}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.CertificateSet, Builder> implements
-        // @@protoc_insertion_point(builder_implements:CertificateSet)
-        org.terasology.protobuf.NetData.CertificateSetOrBuilder {
+          org.terasology.protobuf.NetData.Certificate, Builder> implements
+        // @@protoc_insertion_point(builder_implements:Certificate)
+        org.terasology.protobuf.NetData.CertificateOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.terasology.protobuf.NetData.internal_static_CertificateSet_descriptor;
+        return org.terasology.protobuf.NetData.internal_static_Certificate_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.terasology.protobuf.NetData.internal_static_CertificateSet_fieldAccessorTable
+        return org.terasology.protobuf.NetData.internal_static_Certificate_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.terasology.protobuf.NetData.CertificateSet.class, org.terasology.protobuf.NetData.CertificateSet.Builder.class);
+                org.terasology.protobuf.NetData.Certificate.class, org.terasology.protobuf.NetData.Certificate.Builder.class);
       }
 
-      // Construct using org.terasology.protobuf.NetData.CertificateSet.newBuilder()
+      // Construct using org.terasology.protobuf.NetData.Certificate.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -8162,7 +10022,6 @@ private Builder(
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getPublicCertificateFieldBuilder();
         }
       }
       private static Builder create() {
@@ -8171,14 +10030,14 @@ private static Builder create() {
 
       public Builder clear() {
         super.clear();
-        if (publicCertificateBuilder_ == null) {
-          publicCertificate_ = org.terasology.protobuf.NetData.Certificate.getDefaultInstance();
-        } else {
-          publicCertificateBuilder_.clear();
-        }
+        id_ = "";
         bitField0_ = (bitField0_ & ~0x00000001);
-        privateExponent_ = com.google.protobuf.ByteString.EMPTY;
+        modulus_ = com.google.protobuf.ByteString.EMPTY;
         bitField0_ = (bitField0_ & ~0x00000002);
+        exponent_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        signature_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
 
@@ -8188,58 +10047,70 @@ public Builder clone() {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.terasology.protobuf.NetData.internal_static_CertificateSet_descriptor;
+        return org.terasology.protobuf.NetData.internal_static_Certificate_descriptor;
       }
 
-      public org.terasology.protobuf.NetData.CertificateSet getDefaultInstanceForType() {
-        return org.terasology.protobuf.NetData.CertificateSet.getDefaultInstance();
+      public org.terasology.protobuf.NetData.Certificate getDefaultInstanceForType() {
+        return org.terasology.protobuf.NetData.Certificate.getDefaultInstance();
       }
 
-      public org.terasology.protobuf.NetData.CertificateSet build() {
-        org.terasology.protobuf.NetData.CertificateSet result = buildPartial();
+      public org.terasology.protobuf.NetData.Certificate build() {
+        org.terasology.protobuf.NetData.Certificate result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.terasology.protobuf.NetData.CertificateSet buildPartial() {
-        org.terasology.protobuf.NetData.CertificateSet result = new org.terasology.protobuf.NetData.CertificateSet(this);
+      public org.terasology.protobuf.NetData.Certificate buildPartial() {
+        org.terasology.protobuf.NetData.Certificate result = new org.terasology.protobuf.NetData.Certificate(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        if (publicCertificateBuilder_ == null) {
-          result.publicCertificate_ = publicCertificate_;
-        } else {
-          result.publicCertificate_ = publicCertificateBuilder_.build();
-        }
+        result.id_ = id_;
         if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
           to_bitField0_ |= 0x00000002;
         }
-        result.privateExponent_ = privateExponent_;
+        result.modulus_ = modulus_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.exponent_ = exponent_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.signature_ = signature_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.terasology.protobuf.NetData.CertificateSet) {
-          return mergeFrom((org.terasology.protobuf.NetData.CertificateSet)other);
+        if (other instanceof org.terasology.protobuf.NetData.Certificate) {
+          return mergeFrom((org.terasology.protobuf.NetData.Certificate)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.terasology.protobuf.NetData.CertificateSet other) {
-        if (other == org.terasology.protobuf.NetData.CertificateSet.getDefaultInstance()) return this;
-        if (other.hasPublicCertificate()) {
-          mergePublicCertificate(other.getPublicCertificate());
+      public Builder mergeFrom(org.terasology.protobuf.NetData.Certificate other) {
+        if (other == org.terasology.protobuf.NetData.Certificate.getDefaultInstance()) return this;
+        if (other.hasId()) {
+          bitField0_ |= 0x00000001;
+          id_ = other.id_;
+          onChanged();
         }
-        if (other.hasPrivateExponent()) {
-          setPrivateExponent(other.getPrivateExponent());
+        if (other.hasModulus()) {
+          setModulus(other.getModulus());
+        }
+        if (other.hasExponent()) {
+          setExponent(other.getExponent());
+        }
+        if (other.hasSignature()) {
+          setSignature(other.getSignature());
         }
         this.mergeExtensionFields(other);
         this.mergeUnknownFields(other.getUnknownFields());
@@ -8247,12 +10118,6 @@ public Builder mergeFrom(org.terasology.protobuf.NetData.CertificateSet other) {
       }
 
       public final boolean isInitialized() {
-        if (hasPublicCertificate()) {
-          if (!getPublicCertificate().isInitialized()) {
-            
-            return false;
-          }
-        }
         if (!extensionsAreInitialized()) {
           
           return false;
@@ -8264,11 +10129,11 @@ public Builder mergeFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.terasology.protobuf.NetData.CertificateSet parsedMessage = null;
+        org.terasology.protobuf.NetData.Certificate parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.terasology.protobuf.NetData.CertificateSet) e.getUnfinishedMessage();
+          parsedMessage = (org.terasology.protobuf.NetData.Certificate) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -8279,203 +10144,256 @@ public Builder mergeFrom(
       }
       private int bitField0_;
 
-      private org.terasology.protobuf.NetData.Certificate publicCertificate_ = org.terasology.protobuf.NetData.Certificate.getDefaultInstance();
-      private com.google.protobuf.SingleFieldBuilder<
-          org.terasology.protobuf.NetData.Certificate, org.terasology.protobuf.NetData.Certificate.Builder, org.terasology.protobuf.NetData.CertificateOrBuilder> publicCertificateBuilder_;
+      private java.lang.Object id_ = "";
       /**
-       * <code>optional .Certificate publicCertificate = 1;</code>
+       * <code>optional string id = 1;</code>
        */
-      public boolean hasPublicCertificate() {
+      public boolean hasId() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>optional .Certificate publicCertificate = 1;</code>
+       * <code>optional string id = 1;</code>
        */
-      public org.terasology.protobuf.NetData.Certificate getPublicCertificate() {
-        if (publicCertificateBuilder_ == null) {
-          return publicCertificate_;
+      public java.lang.String getId() {
+        java.lang.Object ref = id_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            id_ = s;
+          }
+          return s;
         } else {
-          return publicCertificateBuilder_.getMessage();
+          return (java.lang.String) ref;
         }
       }
       /**
-       * <code>optional .Certificate publicCertificate = 1;</code>
+       * <code>optional string id = 1;</code>
        */
-      public Builder setPublicCertificate(org.terasology.protobuf.NetData.Certificate value) {
-        if (publicCertificateBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          publicCertificate_ = value;
-          onChanged();
+      public com.google.protobuf.ByteString
+          getIdBytes() {
+        java.lang.Object ref = id_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          id_ = b;
+          return b;
         } else {
-          publicCertificateBuilder_.setMessage(value);
+          return (com.google.protobuf.ByteString) ref;
         }
-        bitField0_ |= 0x00000001;
+      }
+      /**
+       * <code>optional string id = 1;</code>
+       */
+      public Builder setId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        id_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>optional .Certificate publicCertificate = 1;</code>
+       * <code>optional string id = 1;</code>
        */
-      public Builder setPublicCertificate(
-          org.terasology.protobuf.NetData.Certificate.Builder builderForValue) {
-        if (publicCertificateBuilder_ == null) {
-          publicCertificate_ = builderForValue.build();
-          onChanged();
-        } else {
-          publicCertificateBuilder_.setMessage(builderForValue.build());
-        }
-        bitField0_ |= 0x00000001;
+      public Builder clearId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        id_ = getDefaultInstance().getId();
+        onChanged();
         return this;
       }
       /**
-       * <code>optional .Certificate publicCertificate = 1;</code>
+       * <code>optional string id = 1;</code>
        */
-      public Builder mergePublicCertificate(org.terasology.protobuf.NetData.Certificate value) {
-        if (publicCertificateBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) == 0x00000001) &&
-              publicCertificate_ != org.terasology.protobuf.NetData.Certificate.getDefaultInstance()) {
-            publicCertificate_ =
-              org.terasology.protobuf.NetData.Certificate.newBuilder(publicCertificate_).mergeFrom(value).buildPartial();
-          } else {
-            publicCertificate_ = value;
-          }
-          onChanged();
-        } else {
-          publicCertificateBuilder_.mergeFrom(value);
-        }
-        bitField0_ |= 0x00000001;
+      public Builder setIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        id_ = value;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString modulus_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes modulus = 2;</code>
+       */
+      public boolean hasModulus() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional bytes modulus = 2;</code>
+       */
+      public com.google.protobuf.ByteString getModulus() {
+        return modulus_;
+      }
+      /**
+       * <code>optional bytes modulus = 2;</code>
+       */
+      public Builder setModulus(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        modulus_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>optional .Certificate publicCertificate = 1;</code>
+       * <code>optional bytes modulus = 2;</code>
        */
-      public Builder clearPublicCertificate() {
-        if (publicCertificateBuilder_ == null) {
-          publicCertificate_ = org.terasology.protobuf.NetData.Certificate.getDefaultInstance();
-          onChanged();
-        } else {
-          publicCertificateBuilder_.clear();
-        }
-        bitField0_ = (bitField0_ & ~0x00000001);
+      public Builder clearModulus() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        modulus_ = getDefaultInstance().getModulus();
+        onChanged();
         return this;
       }
+
+      private com.google.protobuf.ByteString exponent_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>optional .Certificate publicCertificate = 1;</code>
+       * <code>optional bytes exponent = 3;</code>
        */
-      public org.terasology.protobuf.NetData.Certificate.Builder getPublicCertificateBuilder() {
-        bitField0_ |= 0x00000001;
-        onChanged();
-        return getPublicCertificateFieldBuilder().getBuilder();
+      public boolean hasExponent() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
       }
       /**
-       * <code>optional .Certificate publicCertificate = 1;</code>
+       * <code>optional bytes exponent = 3;</code>
        */
-      public org.terasology.protobuf.NetData.CertificateOrBuilder getPublicCertificateOrBuilder() {
-        if (publicCertificateBuilder_ != null) {
-          return publicCertificateBuilder_.getMessageOrBuilder();
-        } else {
-          return publicCertificate_;
-        }
+      public com.google.protobuf.ByteString getExponent() {
+        return exponent_;
       }
       /**
-       * <code>optional .Certificate publicCertificate = 1;</code>
+       * <code>optional bytes exponent = 3;</code>
        */
-      private com.google.protobuf.SingleFieldBuilder<
-          org.terasology.protobuf.NetData.Certificate, org.terasology.protobuf.NetData.Certificate.Builder, org.terasology.protobuf.NetData.CertificateOrBuilder> 
-          getPublicCertificateFieldBuilder() {
-        if (publicCertificateBuilder_ == null) {
-          publicCertificateBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              org.terasology.protobuf.NetData.Certificate, org.terasology.protobuf.NetData.Certificate.Builder, org.terasology.protobuf.NetData.CertificateOrBuilder>(
-                  getPublicCertificate(),
-                  getParentForChildren(),
-                  isClean());
-          publicCertificate_ = null;
-        }
-        return publicCertificateBuilder_;
+      public Builder setExponent(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        exponent_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes exponent = 3;</code>
+       */
+      public Builder clearExponent() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        exponent_ = getDefaultInstance().getExponent();
+        onChanged();
+        return this;
       }
 
-      private com.google.protobuf.ByteString privateExponent_ = com.google.protobuf.ByteString.EMPTY;
+      private com.google.protobuf.ByteString signature_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>optional bytes privateExponent = 2;</code>
+       * <code>optional bytes signature = 4;</code>
        */
-      public boolean hasPrivateExponent() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+      public boolean hasSignature() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
       }
       /**
-       * <code>optional bytes privateExponent = 2;</code>
+       * <code>optional bytes signature = 4;</code>
        */
-      public com.google.protobuf.ByteString getPrivateExponent() {
-        return privateExponent_;
+      public com.google.protobuf.ByteString getSignature() {
+        return signature_;
       }
       /**
-       * <code>optional bytes privateExponent = 2;</code>
+       * <code>optional bytes signature = 4;</code>
        */
-      public Builder setPrivateExponent(com.google.protobuf.ByteString value) {
+      public Builder setSignature(com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000002;
-        privateExponent_ = value;
+  bitField0_ |= 0x00000008;
+        signature_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional bytes privateExponent = 2;</code>
+       * <code>optional bytes signature = 4;</code>
        */
-      public Builder clearPrivateExponent() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        privateExponent_ = getDefaultInstance().getPrivateExponent();
+      public Builder clearSignature() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        signature_ = getDefaultInstance().getSignature();
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:CertificateSet)
+      // @@protoc_insertion_point(builder_scope:Certificate)
     }
 
     static {
-      defaultInstance = new CertificateSet(true);
+      defaultInstance = new Certificate(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:CertificateSet)
+    // @@protoc_insertion_point(class_scope:Certificate)
   }
 
-  public interface HandshakeVerificationOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:HandshakeVerification)
+  public interface BlockFamilyRegisteredMessageOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:BlockFamilyRegisteredMessage)
       com.google.protobuf.GeneratedMessage.
-          ExtendableMessageOrBuilder<HandshakeVerification> {
+          ExtendableMessageOrBuilder<BlockFamilyRegisteredMessage> {
 
     /**
-     * <code>optional bytes signature = 1;</code>
+     * <code>repeated string blockUri = 1;</code>
      */
-    boolean hasSignature();
+    com.google.protobuf.ProtocolStringList
+        getBlockUriList();
     /**
-     * <code>optional bytes signature = 1;</code>
+     * <code>repeated string blockUri = 1;</code>
      */
-    com.google.protobuf.ByteString getSignature();
+    int getBlockUriCount();
+    /**
+     * <code>repeated string blockUri = 1;</code>
+     */
+    java.lang.String getBlockUri(int index);
+    /**
+     * <code>repeated string blockUri = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getBlockUriBytes(int index);
+
+    /**
+     * <code>repeated int32 blockId = 2;</code>
+     */
+    java.util.List<java.lang.Integer> getBlockIdList();
+    /**
+     * <code>repeated int32 blockId = 2;</code>
+     */
+    int getBlockIdCount();
+    /**
+     * <code>repeated int32 blockId = 2;</code>
+     */
+    int getBlockId(int index);
   }
   /**
-   * Protobuf type {@code HandshakeVerification}
+   * Protobuf type {@code BlockFamilyRegisteredMessage}
    */
-  public static final class HandshakeVerification extends
+  public static final class BlockFamilyRegisteredMessage extends
       com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        HandshakeVerification> implements
-      // @@protoc_insertion_point(message_implements:HandshakeVerification)
-      HandshakeVerificationOrBuilder {
-    // Use HandshakeVerification.newBuilder() to construct.
-    private HandshakeVerification(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.HandshakeVerification, ?> builder) {
+        BlockFamilyRegisteredMessage> implements
+      // @@protoc_insertion_point(message_implements:BlockFamilyRegisteredMessage)
+      BlockFamilyRegisteredMessageOrBuilder {
+    // Use BlockFamilyRegisteredMessage.newBuilder() to construct.
+    private BlockFamilyRegisteredMessage(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage, ?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private HandshakeVerification(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private BlockFamilyRegisteredMessage(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final HandshakeVerification defaultInstance;
-    public static HandshakeVerification getDefaultInstance() {
+    private static final BlockFamilyRegisteredMessage defaultInstance;
+    public static BlockFamilyRegisteredMessage getDefaultInstance() {
       return defaultInstance;
     }
 
-    public HandshakeVerification getDefaultInstanceForType() {
+    public BlockFamilyRegisteredMessage getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -8485,7 +10403,7 @@ public HandshakeVerification getDefaultInstanceForType() {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private HandshakeVerification(
+    private BlockFamilyRegisteredMessage(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -8509,8 +10427,33 @@ private HandshakeVerification(
               break;
             }
             case 10: {
-              bitField0_ |= 0x00000001;
-              signature_ = input.readBytes();
+              com.google.protobuf.ByteString bs = input.readBytes();
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                blockUri_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              blockUri_.add(bs);
+              break;
+            }
+            case 16: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                blockId_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              blockId_.add(input.readInt32());
+              break;
+            }
+            case 18: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002) && input.getBytesUntilLimit() > 0) {
+                blockId_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                blockId_.add(input.readInt32());
+              }
+              input.popLimit(limit);
               break;
             }
           }
@@ -8521,55 +10464,97 @@ private HandshakeVerification(
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          blockUri_ = blockUri_.getUnmodifiableView();
+        }
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          blockId_ = java.util.Collections.unmodifiableList(blockId_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.terasology.protobuf.NetData.internal_static_HandshakeVerification_descriptor;
+      return org.terasology.protobuf.NetData.internal_static_BlockFamilyRegisteredMessage_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.terasology.protobuf.NetData.internal_static_HandshakeVerification_fieldAccessorTable
+      return org.terasology.protobuf.NetData.internal_static_BlockFamilyRegisteredMessage_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.terasology.protobuf.NetData.HandshakeVerification.class, org.terasology.protobuf.NetData.HandshakeVerification.Builder.class);
+              org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage.class, org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<HandshakeVerification> PARSER =
-        new com.google.protobuf.AbstractParser<HandshakeVerification>() {
-      public HandshakeVerification parsePartialFrom(
+    public static com.google.protobuf.Parser<BlockFamilyRegisteredMessage> PARSER =
+        new com.google.protobuf.AbstractParser<BlockFamilyRegisteredMessage>() {
+      public BlockFamilyRegisteredMessage parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new HandshakeVerification(input, extensionRegistry);
+        return new BlockFamilyRegisteredMessage(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<HandshakeVerification> getParserForType() {
+    public com.google.protobuf.Parser<BlockFamilyRegisteredMessage> getParserForType() {
       return PARSER;
     }
-
-    private int bitField0_;
-    public static final int SIGNATURE_FIELD_NUMBER = 1;
-    private com.google.protobuf.ByteString signature_;
+
+    public static final int BLOCKURI_FIELD_NUMBER = 1;
+    private com.google.protobuf.LazyStringList blockUri_;
+    /**
+     * <code>repeated string blockUri = 1;</code>
+     */
+    public com.google.protobuf.ProtocolStringList
+        getBlockUriList() {
+      return blockUri_;
+    }
+    /**
+     * <code>repeated string blockUri = 1;</code>
+     */
+    public int getBlockUriCount() {
+      return blockUri_.size();
+    }
+    /**
+     * <code>repeated string blockUri = 1;</code>
+     */
+    public java.lang.String getBlockUri(int index) {
+      return blockUri_.get(index);
+    }
+    /**
+     * <code>repeated string blockUri = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getBlockUriBytes(int index) {
+      return blockUri_.getByteString(index);
+    }
+
+    public static final int BLOCKID_FIELD_NUMBER = 2;
+    private java.util.List<java.lang.Integer> blockId_;
+    /**
+     * <code>repeated int32 blockId = 2;</code>
+     */
+    public java.util.List<java.lang.Integer>
+        getBlockIdList() {
+      return blockId_;
+    }
     /**
-     * <code>optional bytes signature = 1;</code>
+     * <code>repeated int32 blockId = 2;</code>
      */
-    public boolean hasSignature() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
+    public int getBlockIdCount() {
+      return blockId_.size();
     }
     /**
-     * <code>optional bytes signature = 1;</code>
+     * <code>repeated int32 blockId = 2;</code>
      */
-    public com.google.protobuf.ByteString getSignature() {
-      return signature_;
+    public int getBlockId(int index) {
+      return blockId_.get(index);
     }
 
     private void initFields() {
-      signature_ = com.google.protobuf.ByteString.EMPTY;
+      blockUri_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      blockId_ = java.util.Collections.emptyList();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -8589,10 +10574,13 @@ public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       getSerializedSize();
       com.google.protobuf.GeneratedMessage
-        .ExtendableMessage<org.terasology.protobuf.NetData.HandshakeVerification>.ExtensionWriter extensionWriter =
+        .ExtendableMessage<org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage>.ExtensionWriter extensionWriter =
           newExtensionWriter();
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, signature_);
+      for (int i = 0; i < blockUri_.size(); i++) {
+        output.writeBytes(1, blockUri_.getByteString(i));
+      }
+      for (int i = 0; i < blockId_.size(); i++) {
+        output.writeInt32(2, blockId_.get(i));
       }
       extensionWriter.writeUntil(536870912, output);
       getUnknownFields().writeTo(output);
@@ -8604,9 +10592,23 @@ public int getSerializedSize() {
       if (size != -1) return size;
 
       size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, signature_);
+      {
+        int dataSize = 0;
+        for (int i = 0; i < blockUri_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(blockUri_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getBlockUriList().size();
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < blockId_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(blockId_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getBlockIdList().size();
       }
       size += extensionsSerializedSize();
       size += getUnknownFields().getSerializedSize();
@@ -8621,53 +10623,53 @@ protected java.lang.Object writeReplace()
       return super.writeReplace();
     }
 
-    public static org.terasology.protobuf.NetData.HandshakeVerification parseFrom(
+    public static org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.terasology.protobuf.NetData.HandshakeVerification parseFrom(
+    public static org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.HandshakeVerification parseFrom(byte[] data)
+    public static org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.terasology.protobuf.NetData.HandshakeVerification parseFrom(
+    public static org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.HandshakeVerification parseFrom(java.io.InputStream input)
+    public static org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.terasology.protobuf.NetData.HandshakeVerification parseFrom(
+    public static org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.HandshakeVerification parseDelimitedFrom(java.io.InputStream input)
+    public static org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.terasology.protobuf.NetData.HandshakeVerification parseDelimitedFrom(
+    public static org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.HandshakeVerification parseFrom(
+    public static org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.terasology.protobuf.NetData.HandshakeVerification parseFrom(
+    public static org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -8676,7 +10678,7 @@ public static org.terasology.protobuf.NetData.HandshakeVerification parseFrom(
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.terasology.protobuf.NetData.HandshakeVerification prototype) {
+    public static Builder newBuilder(org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -8688,26 +10690,26 @@ protected Builder newBuilderForType(
       return builder;
     }
     /**
-     * Protobuf type {@code HandshakeVerification}
+     * Protobuf type {@code BlockFamilyRegisteredMessage}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.HandshakeVerification, Builder> implements
-        // @@protoc_insertion_point(builder_implements:HandshakeVerification)
-        org.terasology.protobuf.NetData.HandshakeVerificationOrBuilder {
+          org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage, Builder> implements
+        // @@protoc_insertion_point(builder_implements:BlockFamilyRegisteredMessage)
+        org.terasology.protobuf.NetData.BlockFamilyRegisteredMessageOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.terasology.protobuf.NetData.internal_static_HandshakeVerification_descriptor;
+        return org.terasology.protobuf.NetData.internal_static_BlockFamilyRegisteredMessage_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.terasology.protobuf.NetData.internal_static_HandshakeVerification_fieldAccessorTable
+        return org.terasology.protobuf.NetData.internal_static_BlockFamilyRegisteredMessage_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.terasology.protobuf.NetData.HandshakeVerification.class, org.terasology.protobuf.NetData.HandshakeVerification.Builder.class);
+                org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage.class, org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage.Builder.class);
       }
 
-      // Construct using org.terasology.protobuf.NetData.HandshakeVerification.newBuilder()
+      // Construct using org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -8727,8 +10729,10 @@ private static Builder create() {
 
       public Builder clear() {
         super.clear();
-        signature_ = com.google.protobuf.ByteString.EMPTY;
+        blockUri_ = com.google.protobuf.LazyStringArrayList.EMPTY;
         bitField0_ = (bitField0_ & ~0x00000001);
+        blockId_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
@@ -8738,47 +10742,68 @@ public Builder clone() {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.terasology.protobuf.NetData.internal_static_HandshakeVerification_descriptor;
+        return org.terasology.protobuf.NetData.internal_static_BlockFamilyRegisteredMessage_descriptor;
       }
 
-      public org.terasology.protobuf.NetData.HandshakeVerification getDefaultInstanceForType() {
-        return org.terasology.protobuf.NetData.HandshakeVerification.getDefaultInstance();
+      public org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage getDefaultInstanceForType() {
+        return org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage.getDefaultInstance();
       }
 
-      public org.terasology.protobuf.NetData.HandshakeVerification build() {
-        org.terasology.protobuf.NetData.HandshakeVerification result = buildPartial();
+      public org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage build() {
+        org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.terasology.protobuf.NetData.HandshakeVerification buildPartial() {
-        org.terasology.protobuf.NetData.HandshakeVerification result = new org.terasology.protobuf.NetData.HandshakeVerification(this);
+      public org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage buildPartial() {
+        org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage result = new org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage(this);
         int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-          to_bitField0_ |= 0x00000001;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          blockUri_ = blockUri_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000001);
         }
-        result.signature_ = signature_;
-        result.bitField0_ = to_bitField0_;
+        result.blockUri_ = blockUri_;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          blockId_ = java.util.Collections.unmodifiableList(blockId_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.blockId_ = blockId_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.terasology.protobuf.NetData.HandshakeVerification) {
-          return mergeFrom((org.terasology.protobuf.NetData.HandshakeVerification)other);
+        if (other instanceof org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage) {
+          return mergeFrom((org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.terasology.protobuf.NetData.HandshakeVerification other) {
-        if (other == org.terasology.protobuf.NetData.HandshakeVerification.getDefaultInstance()) return this;
-        if (other.hasSignature()) {
-          setSignature(other.getSignature());
+      public Builder mergeFrom(org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage other) {
+        if (other == org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage.getDefaultInstance()) return this;
+        if (!other.blockUri_.isEmpty()) {
+          if (blockUri_.isEmpty()) {
+            blockUri_ = other.blockUri_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureBlockUriIsMutable();
+            blockUri_.addAll(other.blockUri_);
+          }
+          onChanged();
+        }
+        if (!other.blockId_.isEmpty()) {
+          if (blockId_.isEmpty()) {
+            blockId_ = other.blockId_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureBlockIdIsMutable();
+            blockId_.addAll(other.blockId_);
+          }
+          onChanged();
         }
         this.mergeExtensionFields(other);
         this.mergeUnknownFields(other.getUnknownFields());
@@ -8797,11 +10822,11 @@ public Builder mergeFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.terasology.protobuf.NetData.HandshakeVerification parsedMessage = null;
+        org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.terasology.protobuf.NetData.HandshakeVerification) e.getUnfinishedMessage();
+          parsedMessage = (org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -8810,121 +10835,217 @@ public Builder mergeFrom(
         }
         return this;
       }
-      private int bitField0_;
-
-      private com.google.protobuf.ByteString signature_ = com.google.protobuf.ByteString.EMPTY;
+      private int bitField0_;
+
+      private com.google.protobuf.LazyStringList blockUri_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureBlockUriIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          blockUri_ = new com.google.protobuf.LazyStringArrayList(blockUri_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated string blockUri = 1;</code>
+       */
+      public com.google.protobuf.ProtocolStringList
+          getBlockUriList() {
+        return blockUri_.getUnmodifiableView();
+      }
+      /**
+       * <code>repeated string blockUri = 1;</code>
+       */
+      public int getBlockUriCount() {
+        return blockUri_.size();
+      }
+      /**
+       * <code>repeated string blockUri = 1;</code>
+       */
+      public java.lang.String getBlockUri(int index) {
+        return blockUri_.get(index);
+      }
+      /**
+       * <code>repeated string blockUri = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getBlockUriBytes(int index) {
+        return blockUri_.getByteString(index);
+      }
+      /**
+       * <code>repeated string blockUri = 1;</code>
+       */
+      public Builder setBlockUri(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureBlockUriIsMutable();
+        blockUri_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string blockUri = 1;</code>
+       */
+      public Builder addBlockUri(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureBlockUriIsMutable();
+        blockUri_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string blockUri = 1;</code>
+       */
+      public Builder addAllBlockUri(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureBlockUriIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, blockUri_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string blockUri = 1;</code>
+       */
+      public Builder clearBlockUri() {
+        blockUri_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string blockUri = 1;</code>
+       */
+      public Builder addBlockUriBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureBlockUriIsMutable();
+        blockUri_.add(value);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<java.lang.Integer> blockId_ = java.util.Collections.emptyList();
+      private void ensureBlockIdIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          blockId_ = new java.util.ArrayList<java.lang.Integer>(blockId_);
+          bitField0_ |= 0x00000002;
+         }
+      }
       /**
-       * <code>optional bytes signature = 1;</code>
+       * <code>repeated int32 blockId = 2;</code>
        */
-      public boolean hasSignature() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+      public java.util.List<java.lang.Integer>
+          getBlockIdList() {
+        return java.util.Collections.unmodifiableList(blockId_);
       }
       /**
-       * <code>optional bytes signature = 1;</code>
+       * <code>repeated int32 blockId = 2;</code>
        */
-      public com.google.protobuf.ByteString getSignature() {
-        return signature_;
+      public int getBlockIdCount() {
+        return blockId_.size();
       }
       /**
-       * <code>optional bytes signature = 1;</code>
+       * <code>repeated int32 blockId = 2;</code>
        */
-      public Builder setSignature(com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        signature_ = value;
+      public int getBlockId(int index) {
+        return blockId_.get(index);
+      }
+      /**
+       * <code>repeated int32 blockId = 2;</code>
+       */
+      public Builder setBlockId(
+          int index, int value) {
+        ensureBlockIdIsMutable();
+        blockId_.set(index, value);
         onChanged();
         return this;
       }
       /**
-       * <code>optional bytes signature = 1;</code>
+       * <code>repeated int32 blockId = 2;</code>
        */
-      public Builder clearSignature() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        signature_ = getDefaultInstance().getSignature();
+      public Builder addBlockId(int value) {
+        ensureBlockIdIsMutable();
+        blockId_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 blockId = 2;</code>
+       */
+      public Builder addAllBlockId(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureBlockIdIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, blockId_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 blockId = 2;</code>
+       */
+      public Builder clearBlockId() {
+        blockId_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:HandshakeVerification)
+      // @@protoc_insertion_point(builder_scope:BlockFamilyRegisteredMessage)
     }
 
     static {
-      defaultInstance = new HandshakeVerification(true);
+      defaultInstance = new BlockFamilyRegisteredMessage(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:HandshakeVerification)
+    // @@protoc_insertion_point(class_scope:BlockFamilyRegisteredMessage)
   }
 
-  public interface CertificateOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:Certificate)
+  public interface InvalidateChunkMessageOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:InvalidateChunkMessage)
       com.google.protobuf.GeneratedMessage.
-          ExtendableMessageOrBuilder<Certificate> {
-
-    /**
-     * <code>optional string id = 1;</code>
-     */
-    boolean hasId();
-    /**
-     * <code>optional string id = 1;</code>
-     */
-    java.lang.String getId();
-    /**
-     * <code>optional string id = 1;</code>
-     */
-    com.google.protobuf.ByteString
-        getIdBytes();
-
-    /**
-     * <code>optional bytes modulus = 2;</code>
-     */
-    boolean hasModulus();
-    /**
-     * <code>optional bytes modulus = 2;</code>
-     */
-    com.google.protobuf.ByteString getModulus();
+          ExtendableMessageOrBuilder<InvalidateChunkMessage> {
 
     /**
-     * <code>optional bytes exponent = 3;</code>
-     */
-    boolean hasExponent();
-    /**
-     * <code>optional bytes exponent = 3;</code>
+     * <code>optional .Vector3iData pos = 1;</code>
      */
-    com.google.protobuf.ByteString getExponent();
-
+    boolean hasPos();
     /**
-     * <code>optional bytes signature = 4;</code>
+     * <code>optional .Vector3iData pos = 1;</code>
      */
-    boolean hasSignature();
+    org.terasology.protobuf.NetData.Vector3iData getPos();
     /**
-     * <code>optional bytes signature = 4;</code>
+     * <code>optional .Vector3iData pos = 1;</code>
      */
-    com.google.protobuf.ByteString getSignature();
+    org.terasology.protobuf.NetData.Vector3iDataOrBuilder getPosOrBuilder();
   }
   /**
-   * Protobuf type {@code Certificate}
+   * Protobuf type {@code InvalidateChunkMessage}
    */
-  public static final class Certificate extends
+  public static final class InvalidateChunkMessage extends
       com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        Certificate> implements
-      // @@protoc_insertion_point(message_implements:Certificate)
-      CertificateOrBuilder {
-    // Use Certificate.newBuilder() to construct.
-    private Certificate(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.Certificate, ?> builder) {
+        InvalidateChunkMessage> implements
+      // @@protoc_insertion_point(message_implements:InvalidateChunkMessage)
+      InvalidateChunkMessageOrBuilder {
+    // Use InvalidateChunkMessage.newBuilder() to construct.
+    private InvalidateChunkMessage(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.InvalidateChunkMessage, ?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private Certificate(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private InvalidateChunkMessage(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final Certificate defaultInstance;
-    public static Certificate getDefaultInstance() {
+    private static final InvalidateChunkMessage defaultInstance;
+    public static InvalidateChunkMessage getDefaultInstance() {
       return defaultInstance;
     }
 
-    public Certificate getDefaultInstanceForType() {
+    public InvalidateChunkMessage getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -8934,7 +11055,7 @@ public Certificate getDefaultInstanceForType() {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private Certificate(
+    private InvalidateChunkMessage(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -8958,24 +11079,16 @@ private Certificate(
               break;
             }
             case 10: {
-              com.google.protobuf.ByteString bs = input.readBytes();
+              org.terasology.protobuf.NetData.Vector3iData.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                subBuilder = pos_.toBuilder();
+              }
+              pos_ = input.readMessage(org.terasology.protobuf.NetData.Vector3iData.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(pos_);
+                pos_ = subBuilder.buildPartial();
+              }
               bitField0_ |= 0x00000001;
-              id_ = bs;
-              break;
-            }
-            case 18: {
-              bitField0_ |= 0x00000002;
-              modulus_ = input.readBytes();
-              break;
-            }
-            case 26: {
-              bitField0_ |= 0x00000004;
-              exponent_ = input.readBytes();
-              break;
-            }
-            case 34: {
-              bitField0_ |= 0x00000008;
-              signature_ = input.readBytes();
               break;
             }
           }
@@ -8992,124 +11105,55 @@ private Certificate(
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.terasology.protobuf.NetData.internal_static_Certificate_descriptor;
+      return org.terasology.protobuf.NetData.internal_static_InvalidateChunkMessage_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.terasology.protobuf.NetData.internal_static_Certificate_fieldAccessorTable
+      return org.terasology.protobuf.NetData.internal_static_InvalidateChunkMessage_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.terasology.protobuf.NetData.Certificate.class, org.terasology.protobuf.NetData.Certificate.Builder.class);
+              org.terasology.protobuf.NetData.InvalidateChunkMessage.class, org.terasology.protobuf.NetData.InvalidateChunkMessage.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<Certificate> PARSER =
-        new com.google.protobuf.AbstractParser<Certificate>() {
-      public Certificate parsePartialFrom(
+    public static com.google.protobuf.Parser<InvalidateChunkMessage> PARSER =
+        new com.google.protobuf.AbstractParser<InvalidateChunkMessage>() {
+      public InvalidateChunkMessage parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Certificate(input, extensionRegistry);
+        return new InvalidateChunkMessage(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Certificate> getParserForType() {
+    public com.google.protobuf.Parser<InvalidateChunkMessage> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    public static final int ID_FIELD_NUMBER = 1;
-    private java.lang.Object id_;
+    public static final int POS_FIELD_NUMBER = 1;
+    private org.terasology.protobuf.NetData.Vector3iData pos_;
     /**
-     * <code>optional string id = 1;</code>
+     * <code>optional .Vector3iData pos = 1;</code>
      */
-    public boolean hasId() {
+    public boolean hasPos() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
-    }
-    /**
-     * <code>optional string id = 1;</code>
-     */
-    public java.lang.String getId() {
-      java.lang.Object ref = id_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          id_ = s;
-        }
-        return s;
-      }
-    }
-    /**
-     * <code>optional string id = 1;</code>
-     */
-    public com.google.protobuf.ByteString
-        getIdBytes() {
-      java.lang.Object ref = id_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        id_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int MODULUS_FIELD_NUMBER = 2;
-    private com.google.protobuf.ByteString modulus_;
-    /**
-     * <code>optional bytes modulus = 2;</code>
-     */
-    public boolean hasModulus() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
-    }
-    /**
-     * <code>optional bytes modulus = 2;</code>
-     */
-    public com.google.protobuf.ByteString getModulus() {
-      return modulus_;
-    }
-
-    public static final int EXPONENT_FIELD_NUMBER = 3;
-    private com.google.protobuf.ByteString exponent_;
-    /**
-     * <code>optional bytes exponent = 3;</code>
-     */
-    public boolean hasExponent() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
-    }
-    /**
-     * <code>optional bytes exponent = 3;</code>
-     */
-    public com.google.protobuf.ByteString getExponent() {
-      return exponent_;
-    }
-
-    public static final int SIGNATURE_FIELD_NUMBER = 4;
-    private com.google.protobuf.ByteString signature_;
+    }
     /**
-     * <code>optional bytes signature = 4;</code>
+     * <code>optional .Vector3iData pos = 1;</code>
      */
-    public boolean hasSignature() {
-      return ((bitField0_ & 0x00000008) == 0x00000008);
+    public org.terasology.protobuf.NetData.Vector3iData getPos() {
+      return pos_;
     }
     /**
-     * <code>optional bytes signature = 4;</code>
+     * <code>optional .Vector3iData pos = 1;</code>
      */
-    public com.google.protobuf.ByteString getSignature() {
-      return signature_;
+    public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getPosOrBuilder() {
+      return pos_;
     }
 
     private void initFields() {
-      id_ = "";
-      modulus_ = com.google.protobuf.ByteString.EMPTY;
-      exponent_ = com.google.protobuf.ByteString.EMPTY;
-      signature_ = com.google.protobuf.ByteString.EMPTY;
+      pos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -9129,19 +11173,10 @@ public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       getSerializedSize();
       com.google.protobuf.GeneratedMessage
-        .ExtendableMessage<org.terasology.protobuf.NetData.Certificate>.ExtensionWriter extensionWriter =
+        .ExtendableMessage<org.terasology.protobuf.NetData.InvalidateChunkMessage>.ExtensionWriter extensionWriter =
           newExtensionWriter();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, getIdBytes());
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeBytes(2, modulus_);
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeBytes(3, exponent_);
-      }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        output.writeBytes(4, signature_);
+        output.writeMessage(1, pos_);
       }
       extensionWriter.writeUntil(536870912, output);
       getUnknownFields().writeTo(output);
@@ -9155,19 +11190,7 @@ public int getSerializedSize() {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, getIdBytes());
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(2, modulus_);
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(3, exponent_);
-      }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(4, signature_);
+          .computeMessageSize(1, pos_);
       }
       size += extensionsSerializedSize();
       size += getUnknownFields().getSerializedSize();
@@ -9182,53 +11205,53 @@ protected java.lang.Object writeReplace()
       return super.writeReplace();
     }
 
-    public static org.terasology.protobuf.NetData.Certificate parseFrom(
+    public static org.terasology.protobuf.NetData.InvalidateChunkMessage parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.terasology.protobuf.NetData.Certificate parseFrom(
+    public static org.terasology.protobuf.NetData.InvalidateChunkMessage parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.Certificate parseFrom(byte[] data)
+    public static org.terasology.protobuf.NetData.InvalidateChunkMessage parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.terasology.protobuf.NetData.Certificate parseFrom(
+    public static org.terasology.protobuf.NetData.InvalidateChunkMessage parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.Certificate parseFrom(java.io.InputStream input)
+    public static org.terasology.protobuf.NetData.InvalidateChunkMessage parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.terasology.protobuf.NetData.Certificate parseFrom(
+    public static org.terasology.protobuf.NetData.InvalidateChunkMessage parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.Certificate parseDelimitedFrom(java.io.InputStream input)
+    public static org.terasology.protobuf.NetData.InvalidateChunkMessage parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.terasology.protobuf.NetData.Certificate parseDelimitedFrom(
+    public static org.terasology.protobuf.NetData.InvalidateChunkMessage parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.Certificate parseFrom(
+    public static org.terasology.protobuf.NetData.InvalidateChunkMessage parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.terasology.protobuf.NetData.Certificate parseFrom(
+    public static org.terasology.protobuf.NetData.InvalidateChunkMessage parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -9237,7 +11260,7 @@ public static org.terasology.protobuf.NetData.Certificate parseFrom(
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.terasology.protobuf.NetData.Certificate prototype) {
+    public static Builder newBuilder(org.terasology.protobuf.NetData.InvalidateChunkMessage prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -9249,26 +11272,26 @@ protected Builder newBuilderForType(
       return builder;
     }
     /**
-     * Protobuf type {@code Certificate}
+     * Protobuf type {@code InvalidateChunkMessage}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.Certificate, Builder> implements
-        // @@protoc_insertion_point(builder_implements:Certificate)
-        org.terasology.protobuf.NetData.CertificateOrBuilder {
+          org.terasology.protobuf.NetData.InvalidateChunkMessage, Builder> implements
+        // @@protoc_insertion_point(builder_implements:InvalidateChunkMessage)
+        org.terasology.protobuf.NetData.InvalidateChunkMessageOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.terasology.protobuf.NetData.internal_static_Certificate_descriptor;
+        return org.terasology.protobuf.NetData.internal_static_InvalidateChunkMessage_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.terasology.protobuf.NetData.internal_static_Certificate_fieldAccessorTable
+        return org.terasology.protobuf.NetData.internal_static_InvalidateChunkMessage_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.terasology.protobuf.NetData.Certificate.class, org.terasology.protobuf.NetData.Certificate.Builder.class);
+                org.terasology.protobuf.NetData.InvalidateChunkMessage.class, org.terasology.protobuf.NetData.InvalidateChunkMessage.Builder.class);
       }
 
-      // Construct using org.terasology.protobuf.NetData.Certificate.newBuilder()
+      // Construct using org.terasology.protobuf.NetData.InvalidateChunkMessage.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -9280,6 +11303,7 @@ private Builder(
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getPosFieldBuilder();
         }
       }
       private static Builder create() {
@@ -9288,14 +11312,12 @@ private static Builder create() {
 
       public Builder clear() {
         super.clear();
-        id_ = "";
+        if (posBuilder_ == null) {
+          pos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
+        } else {
+          posBuilder_.clear();
+        }
         bitField0_ = (bitField0_ & ~0x00000001);
-        modulus_ = com.google.protobuf.ByteString.EMPTY;
-        bitField0_ = (bitField0_ & ~0x00000002);
-        exponent_ = com.google.protobuf.ByteString.EMPTY;
-        bitField0_ = (bitField0_ & ~0x00000004);
-        signature_ = com.google.protobuf.ByteString.EMPTY;
-        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
 
@@ -9305,70 +11327,51 @@ public Builder clone() {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.terasology.protobuf.NetData.internal_static_Certificate_descriptor;
+        return org.terasology.protobuf.NetData.internal_static_InvalidateChunkMessage_descriptor;
       }
 
-      public org.terasology.protobuf.NetData.Certificate getDefaultInstanceForType() {
-        return org.terasology.protobuf.NetData.Certificate.getDefaultInstance();
+      public org.terasology.protobuf.NetData.InvalidateChunkMessage getDefaultInstanceForType() {
+        return org.terasology.protobuf.NetData.InvalidateChunkMessage.getDefaultInstance();
       }
 
-      public org.terasology.protobuf.NetData.Certificate build() {
-        org.terasology.protobuf.NetData.Certificate result = buildPartial();
+      public org.terasology.protobuf.NetData.InvalidateChunkMessage build() {
+        org.terasology.protobuf.NetData.InvalidateChunkMessage result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.terasology.protobuf.NetData.Certificate buildPartial() {
-        org.terasology.protobuf.NetData.Certificate result = new org.terasology.protobuf.NetData.Certificate(this);
+      public org.terasology.protobuf.NetData.InvalidateChunkMessage buildPartial() {
+        org.terasology.protobuf.NetData.InvalidateChunkMessage result = new org.terasology.protobuf.NetData.InvalidateChunkMessage(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.id_ = id_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-          to_bitField0_ |= 0x00000002;
-        }
-        result.modulus_ = modulus_;
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
-          to_bitField0_ |= 0x00000004;
-        }
-        result.exponent_ = exponent_;
-        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
-          to_bitField0_ |= 0x00000008;
+        if (posBuilder_ == null) {
+          result.pos_ = pos_;
+        } else {
+          result.pos_ = posBuilder_.build();
         }
-        result.signature_ = signature_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.terasology.protobuf.NetData.Certificate) {
-          return mergeFrom((org.terasology.protobuf.NetData.Certificate)other);
+        if (other instanceof org.terasology.protobuf.NetData.InvalidateChunkMessage) {
+          return mergeFrom((org.terasology.protobuf.NetData.InvalidateChunkMessage)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.terasology.protobuf.NetData.Certificate other) {
-        if (other == org.terasology.protobuf.NetData.Certificate.getDefaultInstance()) return this;
-        if (other.hasId()) {
-          bitField0_ |= 0x00000001;
-          id_ = other.id_;
-          onChanged();
-        }
-        if (other.hasModulus()) {
-          setModulus(other.getModulus());
-        }
-        if (other.hasExponent()) {
-          setExponent(other.getExponent());
-        }
-        if (other.hasSignature()) {
-          setSignature(other.getSignature());
+      public Builder mergeFrom(org.terasology.protobuf.NetData.InvalidateChunkMessage other) {
+        if (other == org.terasology.protobuf.NetData.InvalidateChunkMessage.getDefaultInstance()) return this;
+        if (other.hasPos()) {
+          mergePos(other.getPos());
         }
         this.mergeExtensionFields(other);
         this.mergeUnknownFields(other.getUnknownFields());
@@ -9387,11 +11390,11 @@ public Builder mergeFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.terasology.protobuf.NetData.Certificate parsedMessage = null;
+        org.terasology.protobuf.NetData.InvalidateChunkMessage parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.terasology.protobuf.NetData.Certificate) e.getUnfinishedMessage();
+          parsedMessage = (org.terasology.protobuf.NetData.InvalidateChunkMessage) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -9400,258 +11403,183 @@ public Builder mergeFrom(
         }
         return this;
       }
-      private int bitField0_;
-
-      private java.lang.Object id_ = "";
-      /**
-       * <code>optional string id = 1;</code>
-       */
-      public boolean hasId() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
-      }
-      /**
-       * <code>optional string id = 1;</code>
-       */
-      public java.lang.String getId() {
-        java.lang.Object ref = id_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            id_ = s;
-          }
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>optional string id = 1;</code>
-       */
-      public com.google.protobuf.ByteString
-          getIdBytes() {
-        java.lang.Object ref = id_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          id_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>optional string id = 1;</code>
-       */
-      public Builder setId(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        id_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string id = 1;</code>
-       */
-      public Builder clearId() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        id_ = getDefaultInstance().getId();
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string id = 1;</code>
-       */
-      public Builder setIdBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        id_ = value;
-        onChanged();
-        return this;
-      }
-
-      private com.google.protobuf.ByteString modulus_ = com.google.protobuf.ByteString.EMPTY;
-      /**
-       * <code>optional bytes modulus = 2;</code>
-       */
-      public boolean hasModulus() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
-      }
-      /**
-       * <code>optional bytes modulus = 2;</code>
-       */
-      public com.google.protobuf.ByteString getModulus() {
-        return modulus_;
-      }
-      /**
-       * <code>optional bytes modulus = 2;</code>
-       */
-      public Builder setModulus(com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
-        modulus_ = value;
-        onChanged();
-        return this;
-      }
+      private int bitField0_;
+
+      private org.terasology.protobuf.NetData.Vector3iData pos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder> posBuilder_;
       /**
-       * <code>optional bytes modulus = 2;</code>
+       * <code>optional .Vector3iData pos = 1;</code>
        */
-      public Builder clearModulus() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        modulus_ = getDefaultInstance().getModulus();
-        onChanged();
-        return this;
+      public boolean hasPos() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
-
-      private com.google.protobuf.ByteString exponent_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>optional bytes exponent = 3;</code>
+       * <code>optional .Vector3iData pos = 1;</code>
        */
-      public boolean hasExponent() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
+      public org.terasology.protobuf.NetData.Vector3iData getPos() {
+        if (posBuilder_ == null) {
+          return pos_;
+        } else {
+          return posBuilder_.getMessage();
+        }
       }
       /**
-       * <code>optional bytes exponent = 3;</code>
+       * <code>optional .Vector3iData pos = 1;</code>
        */
-      public com.google.protobuf.ByteString getExponent() {
-        return exponent_;
+      public Builder setPos(org.terasology.protobuf.NetData.Vector3iData value) {
+        if (posBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          pos_ = value;
+          onChanged();
+        } else {
+          posBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
       }
       /**
-       * <code>optional bytes exponent = 3;</code>
+       * <code>optional .Vector3iData pos = 1;</code>
        */
-      public Builder setExponent(com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
-        exponent_ = value;
-        onChanged();
+      public Builder setPos(
+          org.terasology.protobuf.NetData.Vector3iData.Builder builderForValue) {
+        if (posBuilder_ == null) {
+          pos_ = builderForValue.build();
+          onChanged();
+        } else {
+          posBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
         return this;
       }
       /**
-       * <code>optional bytes exponent = 3;</code>
+       * <code>optional .Vector3iData pos = 1;</code>
        */
-      public Builder clearExponent() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        exponent_ = getDefaultInstance().getExponent();
-        onChanged();
+      public Builder mergePos(org.terasology.protobuf.NetData.Vector3iData value) {
+        if (posBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001) &&
+              pos_ != org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance()) {
+            pos_ =
+              org.terasology.protobuf.NetData.Vector3iData.newBuilder(pos_).mergeFrom(value).buildPartial();
+          } else {
+            pos_ = value;
+          }
+          onChanged();
+        } else {
+          posBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
         return this;
       }
-
-      private com.google.protobuf.ByteString signature_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>optional bytes signature = 4;</code>
+       * <code>optional .Vector3iData pos = 1;</code>
        */
-      public boolean hasSignature() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
+      public Builder clearPos() {
+        if (posBuilder_ == null) {
+          pos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
+          onChanged();
+        } else {
+          posBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
       }
       /**
-       * <code>optional bytes signature = 4;</code>
+       * <code>optional .Vector3iData pos = 1;</code>
        */
-      public com.google.protobuf.ByteString getSignature() {
-        return signature_;
+      public org.terasology.protobuf.NetData.Vector3iData.Builder getPosBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getPosFieldBuilder().getBuilder();
       }
       /**
-       * <code>optional bytes signature = 4;</code>
+       * <code>optional .Vector3iData pos = 1;</code>
        */
-      public Builder setSignature(com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000008;
-        signature_ = value;
-        onChanged();
-        return this;
+      public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getPosOrBuilder() {
+        if (posBuilder_ != null) {
+          return posBuilder_.getMessageOrBuilder();
+        } else {
+          return pos_;
+        }
       }
       /**
-       * <code>optional bytes signature = 4;</code>
+       * <code>optional .Vector3iData pos = 1;</code>
        */
-      public Builder clearSignature() {
-        bitField0_ = (bitField0_ & ~0x00000008);
-        signature_ = getDefaultInstance().getSignature();
-        onChanged();
-        return this;
+      private com.google.protobuf.SingleFieldBuilder<
+          org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder> 
+          getPosFieldBuilder() {
+        if (posBuilder_ == null) {
+          posBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder>(
+                  getPos(),
+                  getParentForChildren(),
+                  isClean());
+          pos_ = null;
+        }
+        return posBuilder_;
       }
 
-      // @@protoc_insertion_point(builder_scope:Certificate)
+      // @@protoc_insertion_point(builder_scope:InvalidateChunkMessage)
     }
 
     static {
-      defaultInstance = new Certificate(true);
+      defaultInstance = new InvalidateChunkMessage(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:Certificate)
+    // @@protoc_insertion_point(class_scope:InvalidateChunkMessage)
   }
 
-  public interface BlockFamilyRegisteredMessageOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:BlockFamilyRegisteredMessage)
+  public interface BlockChangeMessageOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:BlockChangeMessage)
       com.google.protobuf.GeneratedMessage.
-          ExtendableMessageOrBuilder<BlockFamilyRegisteredMessage> {
+          ExtendableMessageOrBuilder<BlockChangeMessage> {
 
     /**
-     * <code>repeated string blockUri = 1;</code>
-     */
-    com.google.protobuf.ProtocolStringList
-        getBlockUriList();
-    /**
-     * <code>repeated string blockUri = 1;</code>
+     * <code>optional .Vector3iData pos = 1;</code>
      */
-    int getBlockUriCount();
+    boolean hasPos();
     /**
-     * <code>repeated string blockUri = 1;</code>
+     * <code>optional .Vector3iData pos = 1;</code>
      */
-    java.lang.String getBlockUri(int index);
+    org.terasology.protobuf.NetData.Vector3iData getPos();
     /**
-     * <code>repeated string blockUri = 1;</code>
+     * <code>optional .Vector3iData pos = 1;</code>
      */
-    com.google.protobuf.ByteString
-        getBlockUriBytes(int index);
+    org.terasology.protobuf.NetData.Vector3iDataOrBuilder getPosOrBuilder();
 
     /**
-     * <code>repeated int32 blockId = 2;</code>
-     */
-    java.util.List<java.lang.Integer> getBlockIdList();
-    /**
-     * <code>repeated int32 blockId = 2;</code>
+     * <code>optional int32 newBlock = 2;</code>
      */
-    int getBlockIdCount();
+    boolean hasNewBlock();
     /**
-     * <code>repeated int32 blockId = 2;</code>
+     * <code>optional int32 newBlock = 2;</code>
      */
-    int getBlockId(int index);
+    int getNewBlock();
   }
   /**
-   * Protobuf type {@code BlockFamilyRegisteredMessage}
+   * Protobuf type {@code BlockChangeMessage}
    */
-  public static final class BlockFamilyRegisteredMessage extends
+  public static final class BlockChangeMessage extends
       com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        BlockFamilyRegisteredMessage> implements
-      // @@protoc_insertion_point(message_implements:BlockFamilyRegisteredMessage)
-      BlockFamilyRegisteredMessageOrBuilder {
-    // Use BlockFamilyRegisteredMessage.newBuilder() to construct.
-    private BlockFamilyRegisteredMessage(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage, ?> builder) {
+        BlockChangeMessage> implements
+      // @@protoc_insertion_point(message_implements:BlockChangeMessage)
+      BlockChangeMessageOrBuilder {
+    // Use BlockChangeMessage.newBuilder() to construct.
+    private BlockChangeMessage(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.BlockChangeMessage, ?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private BlockFamilyRegisteredMessage(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private BlockChangeMessage(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final BlockFamilyRegisteredMessage defaultInstance;
-    public static BlockFamilyRegisteredMessage getDefaultInstance() {
+    private static final BlockChangeMessage defaultInstance;
+    public static BlockChangeMessage getDefaultInstance() {
       return defaultInstance;
     }
 
-    public BlockFamilyRegisteredMessage getDefaultInstanceForType() {
+    public BlockChangeMessage getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -9661,7 +11589,7 @@ public BlockFamilyRegisteredMessage getDefaultInstanceForType() {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private BlockFamilyRegisteredMessage(
+    private BlockChangeMessage(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -9685,33 +11613,21 @@ private BlockFamilyRegisteredMessage(
               break;
             }
             case 10: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-                blockUri_ = new com.google.protobuf.LazyStringArrayList();
-                mutable_bitField0_ |= 0x00000001;
+              org.terasology.protobuf.NetData.Vector3iData.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                subBuilder = pos_.toBuilder();
               }
-              blockUri_.add(bs);
-              break;
-            }
-            case 16: {
-              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-                blockId_ = new java.util.ArrayList<java.lang.Integer>();
-                mutable_bitField0_ |= 0x00000002;
+              pos_ = input.readMessage(org.terasology.protobuf.NetData.Vector3iData.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(pos_);
+                pos_ = subBuilder.buildPartial();
               }
-              blockId_.add(input.readInt32());
+              bitField0_ |= 0x00000001;
               break;
             }
-            case 18: {
-              int length = input.readRawVarint32();
-              int limit = input.pushLimit(length);
-              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002) && input.getBytesUntilLimit() > 0) {
-                blockId_ = new java.util.ArrayList<java.lang.Integer>();
-                mutable_bitField0_ |= 0x00000002;
-              }
-              while (input.getBytesUntilLimit() > 0) {
-                blockId_.add(input.readInt32());
-              }
-              input.popLimit(limit);
+            case 16: {
+              bitField0_ |= 0x00000002;
+              newBlock_ = input.readInt32();
               break;
             }
           }
@@ -9722,97 +11638,77 @@ private BlockFamilyRegisteredMessage(
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
-        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-          blockUri_ = blockUri_.getUnmodifiableView();
-        }
-        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-          blockId_ = java.util.Collections.unmodifiableList(blockId_);
-        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.terasology.protobuf.NetData.internal_static_BlockFamilyRegisteredMessage_descriptor;
+      return org.terasology.protobuf.NetData.internal_static_BlockChangeMessage_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.terasology.protobuf.NetData.internal_static_BlockFamilyRegisteredMessage_fieldAccessorTable
+      return org.terasology.protobuf.NetData.internal_static_BlockChangeMessage_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage.class, org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage.Builder.class);
+              org.terasology.protobuf.NetData.BlockChangeMessage.class, org.terasology.protobuf.NetData.BlockChangeMessage.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<BlockFamilyRegisteredMessage> PARSER =
-        new com.google.protobuf.AbstractParser<BlockFamilyRegisteredMessage>() {
-      public BlockFamilyRegisteredMessage parsePartialFrom(
+    public static com.google.protobuf.Parser<BlockChangeMessage> PARSER =
+        new com.google.protobuf.AbstractParser<BlockChangeMessage>() {
+      public BlockChangeMessage parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new BlockFamilyRegisteredMessage(input, extensionRegistry);
+        return new BlockChangeMessage(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<BlockFamilyRegisteredMessage> getParserForType() {
+    public com.google.protobuf.Parser<BlockChangeMessage> getParserForType() {
       return PARSER;
     }
 
-    public static final int BLOCKURI_FIELD_NUMBER = 1;
-    private com.google.protobuf.LazyStringList blockUri_;
-    /**
-     * <code>repeated string blockUri = 1;</code>
-     */
-    public com.google.protobuf.ProtocolStringList
-        getBlockUriList() {
-      return blockUri_;
-    }
+    private int bitField0_;
+    public static final int POS_FIELD_NUMBER = 1;
+    private org.terasology.protobuf.NetData.Vector3iData pos_;
     /**
-     * <code>repeated string blockUri = 1;</code>
+     * <code>optional .Vector3iData pos = 1;</code>
      */
-    public int getBlockUriCount() {
-      return blockUri_.size();
+    public boolean hasPos() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>repeated string blockUri = 1;</code>
+     * <code>optional .Vector3iData pos = 1;</code>
      */
-    public java.lang.String getBlockUri(int index) {
-      return blockUri_.get(index);
+    public org.terasology.protobuf.NetData.Vector3iData getPos() {
+      return pos_;
     }
     /**
-     * <code>repeated string blockUri = 1;</code>
+     * <code>optional .Vector3iData pos = 1;</code>
      */
-    public com.google.protobuf.ByteString
-        getBlockUriBytes(int index) {
-      return blockUri_.getByteString(index);
+    public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getPosOrBuilder() {
+      return pos_;
     }
 
-    public static final int BLOCKID_FIELD_NUMBER = 2;
-    private java.util.List<java.lang.Integer> blockId_;
-    /**
-     * <code>repeated int32 blockId = 2;</code>
-     */
-    public java.util.List<java.lang.Integer>
-        getBlockIdList() {
-      return blockId_;
-    }
+    public static final int NEWBLOCK_FIELD_NUMBER = 2;
+    private int newBlock_;
     /**
-     * <code>repeated int32 blockId = 2;</code>
+     * <code>optional int32 newBlock = 2;</code>
      */
-    public int getBlockIdCount() {
-      return blockId_.size();
+    public boolean hasNewBlock() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
     }
     /**
-     * <code>repeated int32 blockId = 2;</code>
+     * <code>optional int32 newBlock = 2;</code>
      */
-    public int getBlockId(int index) {
-      return blockId_.get(index);
+    public int getNewBlock() {
+      return newBlock_;
     }
 
     private void initFields() {
-      blockUri_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-      blockId_ = java.util.Collections.emptyList();
+      pos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
+      newBlock_ = 0;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -9832,13 +11728,13 @@ public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       getSerializedSize();
       com.google.protobuf.GeneratedMessage
-        .ExtendableMessage<org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage>.ExtensionWriter extensionWriter =
+        .ExtendableMessage<org.terasology.protobuf.NetData.BlockChangeMessage>.ExtensionWriter extensionWriter =
           newExtensionWriter();
-      for (int i = 0; i < blockUri_.size(); i++) {
-        output.writeBytes(1, blockUri_.getByteString(i));
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeMessage(1, pos_);
       }
-      for (int i = 0; i < blockId_.size(); i++) {
-        output.writeInt32(2, blockId_.get(i));
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt32(2, newBlock_);
       }
       extensionWriter.writeUntil(536870912, output);
       getUnknownFields().writeTo(output);
@@ -9850,23 +11746,13 @@ public int getSerializedSize() {
       if (size != -1) return size;
 
       size = 0;
-      {
-        int dataSize = 0;
-        for (int i = 0; i < blockUri_.size(); i++) {
-          dataSize += com.google.protobuf.CodedOutputStream
-            .computeBytesSizeNoTag(blockUri_.getByteString(i));
-        }
-        size += dataSize;
-        size += 1 * getBlockUriList().size();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, pos_);
       }
-      {
-        int dataSize = 0;
-        for (int i = 0; i < blockId_.size(); i++) {
-          dataSize += com.google.protobuf.CodedOutputStream
-            .computeInt32SizeNoTag(blockId_.get(i));
-        }
-        size += dataSize;
-        size += 1 * getBlockIdList().size();
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, newBlock_);
       }
       size += extensionsSerializedSize();
       size += getUnknownFields().getSerializedSize();
@@ -9881,53 +11767,53 @@ protected java.lang.Object writeReplace()
       return super.writeReplace();
     }
 
-    public static org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage parseFrom(
+    public static org.terasology.protobuf.NetData.BlockChangeMessage parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage parseFrom(
+    public static org.terasology.protobuf.NetData.BlockChangeMessage parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage parseFrom(byte[] data)
+    public static org.terasology.protobuf.NetData.BlockChangeMessage parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage parseFrom(
+    public static org.terasology.protobuf.NetData.BlockChangeMessage parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage parseFrom(java.io.InputStream input)
+    public static org.terasology.protobuf.NetData.BlockChangeMessage parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage parseFrom(
+    public static org.terasology.protobuf.NetData.BlockChangeMessage parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage parseDelimitedFrom(java.io.InputStream input)
+    public static org.terasology.protobuf.NetData.BlockChangeMessage parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage parseDelimitedFrom(
+    public static org.terasology.protobuf.NetData.BlockChangeMessage parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage parseFrom(
+    public static org.terasology.protobuf.NetData.BlockChangeMessage parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage parseFrom(
+    public static org.terasology.protobuf.NetData.BlockChangeMessage parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -9936,7 +11822,7 @@ public static org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage parse
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage prototype) {
+    public static Builder newBuilder(org.terasology.protobuf.NetData.BlockChangeMessage prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -9948,26 +11834,26 @@ protected Builder newBuilderForType(
       return builder;
     }
     /**
-     * Protobuf type {@code BlockFamilyRegisteredMessage}
+     * Protobuf type {@code BlockChangeMessage}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage, Builder> implements
-        // @@protoc_insertion_point(builder_implements:BlockFamilyRegisteredMessage)
-        org.terasology.protobuf.NetData.BlockFamilyRegisteredMessageOrBuilder {
+          org.terasology.protobuf.NetData.BlockChangeMessage, Builder> implements
+        // @@protoc_insertion_point(builder_implements:BlockChangeMessage)
+        org.terasology.protobuf.NetData.BlockChangeMessageOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.terasology.protobuf.NetData.internal_static_BlockFamilyRegisteredMessage_descriptor;
+        return org.terasology.protobuf.NetData.internal_static_BlockChangeMessage_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.terasology.protobuf.NetData.internal_static_BlockFamilyRegisteredMessage_fieldAccessorTable
+        return org.terasology.protobuf.NetData.internal_static_BlockChangeMessage_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage.class, org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage.Builder.class);
+                org.terasology.protobuf.NetData.BlockChangeMessage.class, org.terasology.protobuf.NetData.BlockChangeMessage.Builder.class);
       }
 
-      // Construct using org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage.newBuilder()
+      // Construct using org.terasology.protobuf.NetData.BlockChangeMessage.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -9979,6 +11865,7 @@ private Builder(
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getPosFieldBuilder();
         }
       }
       private static Builder create() {
@@ -9987,9 +11874,13 @@ private static Builder create() {
 
       public Builder clear() {
         super.clear();
-        blockUri_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        if (posBuilder_ == null) {
+          pos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
+        } else {
+          posBuilder_.clear();
+        }
         bitField0_ = (bitField0_ & ~0x00000001);
-        blockId_ = java.util.Collections.emptyList();
+        newBlock_ = 0;
         bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
@@ -10000,68 +11891,58 @@ public Builder clone() {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.terasology.protobuf.NetData.internal_static_BlockFamilyRegisteredMessage_descriptor;
+        return org.terasology.protobuf.NetData.internal_static_BlockChangeMessage_descriptor;
       }
 
-      public org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage getDefaultInstanceForType() {
-        return org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage.getDefaultInstance();
+      public org.terasology.protobuf.NetData.BlockChangeMessage getDefaultInstanceForType() {
+        return org.terasology.protobuf.NetData.BlockChangeMessage.getDefaultInstance();
       }
 
-      public org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage build() {
-        org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage result = buildPartial();
+      public org.terasology.protobuf.NetData.BlockChangeMessage build() {
+        org.terasology.protobuf.NetData.BlockChangeMessage result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage buildPartial() {
-        org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage result = new org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage(this);
+      public org.terasology.protobuf.NetData.BlockChangeMessage buildPartial() {
+        org.terasology.protobuf.NetData.BlockChangeMessage result = new org.terasology.protobuf.NetData.BlockChangeMessage(this);
         int from_bitField0_ = bitField0_;
-        if (((bitField0_ & 0x00000001) == 0x00000001)) {
-          blockUri_ = blockUri_.getUnmodifiableView();
-          bitField0_ = (bitField0_ & ~0x00000001);
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
         }
-        result.blockUri_ = blockUri_;
-        if (((bitField0_ & 0x00000002) == 0x00000002)) {
-          blockId_ = java.util.Collections.unmodifiableList(blockId_);
-          bitField0_ = (bitField0_ & ~0x00000002);
+        if (posBuilder_ == null) {
+          result.pos_ = pos_;
+        } else {
+          result.pos_ = posBuilder_.build();
         }
-        result.blockId_ = blockId_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.newBlock_ = newBlock_;
+        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage) {
-          return mergeFrom((org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage)other);
+        if (other instanceof org.terasology.protobuf.NetData.BlockChangeMessage) {
+          return mergeFrom((org.terasology.protobuf.NetData.BlockChangeMessage)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage other) {
-        if (other == org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage.getDefaultInstance()) return this;
-        if (!other.blockUri_.isEmpty()) {
-          if (blockUri_.isEmpty()) {
-            blockUri_ = other.blockUri_;
-            bitField0_ = (bitField0_ & ~0x00000001);
-          } else {
-            ensureBlockUriIsMutable();
-            blockUri_.addAll(other.blockUri_);
-          }
-          onChanged();
+      public Builder mergeFrom(org.terasology.protobuf.NetData.BlockChangeMessage other) {
+        if (other == org.terasology.protobuf.NetData.BlockChangeMessage.getDefaultInstance()) return this;
+        if (other.hasPos()) {
+          mergePos(other.getPos());
         }
-        if (!other.blockId_.isEmpty()) {
-          if (blockId_.isEmpty()) {
-            blockId_ = other.blockId_;
-            bitField0_ = (bitField0_ & ~0x00000002);
-          } else {
-            ensureBlockIdIsMutable();
-            blockId_.addAll(other.blockId_);
-          }
-          onChanged();
+        if (other.hasNewBlock()) {
+          setNewBlock(other.getNewBlock());
         }
         this.mergeExtensionFields(other);
         this.mergeUnknownFields(other.getUnknownFields());
@@ -10080,11 +11961,11 @@ public Builder mergeFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage parsedMessage = null;
+        org.terasology.protobuf.NetData.BlockChangeMessage parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage) e.getUnfinishedMessage();
+          parsedMessage = (org.terasology.protobuf.NetData.BlockChangeMessage) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -10095,180 +11976,169 @@ public Builder mergeFrom(
       }
       private int bitField0_;
 
-      private com.google.protobuf.LazyStringList blockUri_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-      private void ensureBlockUriIsMutable() {
-        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
-          blockUri_ = new com.google.protobuf.LazyStringArrayList(blockUri_);
-          bitField0_ |= 0x00000001;
-         }
-      }
-      /**
-       * <code>repeated string blockUri = 1;</code>
-       */
-      public com.google.protobuf.ProtocolStringList
-          getBlockUriList() {
-        return blockUri_.getUnmodifiableView();
-      }
-      /**
-       * <code>repeated string blockUri = 1;</code>
-       */
-      public int getBlockUriCount() {
-        return blockUri_.size();
-      }
-      /**
-       * <code>repeated string blockUri = 1;</code>
-       */
-      public java.lang.String getBlockUri(int index) {
-        return blockUri_.get(index);
-      }
+      private org.terasology.protobuf.NetData.Vector3iData pos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder> posBuilder_;
       /**
-       * <code>repeated string blockUri = 1;</code>
+       * <code>optional .Vector3iData pos = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getBlockUriBytes(int index) {
-        return blockUri_.getByteString(index);
+      public boolean hasPos() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>repeated string blockUri = 1;</code>
+       * <code>optional .Vector3iData pos = 1;</code>
        */
-      public Builder setBlockUri(
-          int index, java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureBlockUriIsMutable();
-        blockUri_.set(index, value);
-        onChanged();
-        return this;
+      public org.terasology.protobuf.NetData.Vector3iData getPos() {
+        if (posBuilder_ == null) {
+          return pos_;
+        } else {
+          return posBuilder_.getMessage();
+        }
       }
       /**
-       * <code>repeated string blockUri = 1;</code>
+       * <code>optional .Vector3iData pos = 1;</code>
        */
-      public Builder addBlockUri(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureBlockUriIsMutable();
-        blockUri_.add(value);
-        onChanged();
+      public Builder setPos(org.terasology.protobuf.NetData.Vector3iData value) {
+        if (posBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          pos_ = value;
+          onChanged();
+        } else {
+          posBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
         return this;
       }
       /**
-       * <code>repeated string blockUri = 1;</code>
+       * <code>optional .Vector3iData pos = 1;</code>
        */
-      public Builder addAllBlockUri(
-          java.lang.Iterable<java.lang.String> values) {
-        ensureBlockUriIsMutable();
-        com.google.protobuf.AbstractMessageLite.Builder.addAll(
-            values, blockUri_);
-        onChanged();
+      public Builder setPos(
+          org.terasology.protobuf.NetData.Vector3iData.Builder builderForValue) {
+        if (posBuilder_ == null) {
+          pos_ = builderForValue.build();
+          onChanged();
+        } else {
+          posBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
         return this;
       }
       /**
-       * <code>repeated string blockUri = 1;</code>
+       * <code>optional .Vector3iData pos = 1;</code>
        */
-      public Builder clearBlockUri() {
-        blockUri_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-        bitField0_ = (bitField0_ & ~0x00000001);
-        onChanged();
+      public Builder mergePos(org.terasology.protobuf.NetData.Vector3iData value) {
+        if (posBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001) &&
+              pos_ != org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance()) {
+            pos_ =
+              org.terasology.protobuf.NetData.Vector3iData.newBuilder(pos_).mergeFrom(value).buildPartial();
+          } else {
+            pos_ = value;
+          }
+          onChanged();
+        } else {
+          posBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
         return this;
       }
       /**
-       * <code>repeated string blockUri = 1;</code>
+       * <code>optional .Vector3iData pos = 1;</code>
        */
-      public Builder addBlockUriBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureBlockUriIsMutable();
-        blockUri_.add(value);
-        onChanged();
+      public Builder clearPos() {
+        if (posBuilder_ == null) {
+          pos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
+          onChanged();
+        } else {
+          posBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
-
-      private java.util.List<java.lang.Integer> blockId_ = java.util.Collections.emptyList();
-      private void ensureBlockIdIsMutable() {
-        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
-          blockId_ = new java.util.ArrayList<java.lang.Integer>(blockId_);
-          bitField0_ |= 0x00000002;
-         }
-      }
       /**
-       * <code>repeated int32 blockId = 2;</code>
+       * <code>optional .Vector3iData pos = 1;</code>
        */
-      public java.util.List<java.lang.Integer>
-          getBlockIdList() {
-        return java.util.Collections.unmodifiableList(blockId_);
+      public org.terasology.protobuf.NetData.Vector3iData.Builder getPosBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getPosFieldBuilder().getBuilder();
       }
       /**
-       * <code>repeated int32 blockId = 2;</code>
+       * <code>optional .Vector3iData pos = 1;</code>
        */
-      public int getBlockIdCount() {
-        return blockId_.size();
+      public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getPosOrBuilder() {
+        if (posBuilder_ != null) {
+          return posBuilder_.getMessageOrBuilder();
+        } else {
+          return pos_;
+        }
       }
       /**
-       * <code>repeated int32 blockId = 2;</code>
+       * <code>optional .Vector3iData pos = 1;</code>
        */
-      public int getBlockId(int index) {
-        return blockId_.get(index);
+      private com.google.protobuf.SingleFieldBuilder<
+          org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder> 
+          getPosFieldBuilder() {
+        if (posBuilder_ == null) {
+          posBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder>(
+                  getPos(),
+                  getParentForChildren(),
+                  isClean());
+          pos_ = null;
+        }
+        return posBuilder_;
       }
+
+      private int newBlock_ ;
       /**
-       * <code>repeated int32 blockId = 2;</code>
+       * <code>optional int32 newBlock = 2;</code>
        */
-      public Builder setBlockId(
-          int index, int value) {
-        ensureBlockIdIsMutable();
-        blockId_.set(index, value);
-        onChanged();
-        return this;
+      public boolean hasNewBlock() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>repeated int32 blockId = 2;</code>
+       * <code>optional int32 newBlock = 2;</code>
        */
-      public Builder addBlockId(int value) {
-        ensureBlockIdIsMutable();
-        blockId_.add(value);
-        onChanged();
-        return this;
+      public int getNewBlock() {
+        return newBlock_;
       }
       /**
-       * <code>repeated int32 blockId = 2;</code>
+       * <code>optional int32 newBlock = 2;</code>
        */
-      public Builder addAllBlockId(
-          java.lang.Iterable<? extends java.lang.Integer> values) {
-        ensureBlockIdIsMutable();
-        com.google.protobuf.AbstractMessageLite.Builder.addAll(
-            values, blockId_);
+      public Builder setNewBlock(int value) {
+        bitField0_ |= 0x00000002;
+        newBlock_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>repeated int32 blockId = 2;</code>
+       * <code>optional int32 newBlock = 2;</code>
        */
-      public Builder clearBlockId() {
-        blockId_ = java.util.Collections.emptyList();
+      public Builder clearNewBlock() {
         bitField0_ = (bitField0_ & ~0x00000002);
+        newBlock_ = 0;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:BlockFamilyRegisteredMessage)
+      // @@protoc_insertion_point(builder_scope:BlockChangeMessage)
     }
 
     static {
-      defaultInstance = new BlockFamilyRegisteredMessage(true);
+      defaultInstance = new BlockChangeMessage(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:BlockFamilyRegisteredMessage)
+    // @@protoc_insertion_point(class_scope:BlockChangeMessage)
   }
 
-  public interface InvalidateChunkMessageOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:InvalidateChunkMessage)
+  public interface BiomeChangeMessageOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:BiomeChangeMessage)
       com.google.protobuf.GeneratedMessage.
-          ExtendableMessageOrBuilder<InvalidateChunkMessage> {
+          ExtendableMessageOrBuilder<BiomeChangeMessage> {
 
     /**
      * <code>optional .Vector3iData pos = 1;</code>
@@ -10282,28 +12152,37 @@ public interface InvalidateChunkMessageOrBuilder extends
      * <code>optional .Vector3iData pos = 1;</code>
      */
     org.terasology.protobuf.NetData.Vector3iDataOrBuilder getPosOrBuilder();
+
+    /**
+     * <code>optional int32 newBiome = 2;</code>
+     */
+    boolean hasNewBiome();
+    /**
+     * <code>optional int32 newBiome = 2;</code>
+     */
+    int getNewBiome();
   }
   /**
-   * Protobuf type {@code InvalidateChunkMessage}
+   * Protobuf type {@code BiomeChangeMessage}
    */
-  public static final class InvalidateChunkMessage extends
+  public static final class BiomeChangeMessage extends
       com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        InvalidateChunkMessage> implements
-      // @@protoc_insertion_point(message_implements:InvalidateChunkMessage)
-      InvalidateChunkMessageOrBuilder {
-    // Use InvalidateChunkMessage.newBuilder() to construct.
-    private InvalidateChunkMessage(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.InvalidateChunkMessage, ?> builder) {
+        BiomeChangeMessage> implements
+      // @@protoc_insertion_point(message_implements:BiomeChangeMessage)
+      BiomeChangeMessageOrBuilder {
+    // Use BiomeChangeMessage.newBuilder() to construct.
+    private BiomeChangeMessage(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.BiomeChangeMessage, ?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private InvalidateChunkMessage(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private BiomeChangeMessage(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final InvalidateChunkMessage defaultInstance;
-    public static InvalidateChunkMessage getDefaultInstance() {
+    private static final BiomeChangeMessage defaultInstance;
+    public static BiomeChangeMessage getDefaultInstance() {
       return defaultInstance;
     }
 
-    public InvalidateChunkMessage getDefaultInstanceForType() {
+    public BiomeChangeMessage getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -10313,7 +12192,7 @@ public InvalidateChunkMessage getDefaultInstanceForType() {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private InvalidateChunkMessage(
+    private BiomeChangeMessage(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -10349,6 +12228,11 @@ private InvalidateChunkMessage(
               bitField0_ |= 0x00000001;
               break;
             }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              newBiome_ = input.readInt32();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -10363,28 +12247,28 @@ private InvalidateChunkMessage(
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.terasology.protobuf.NetData.internal_static_InvalidateChunkMessage_descriptor;
+      return org.terasology.protobuf.NetData.internal_static_BiomeChangeMessage_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.terasology.protobuf.NetData.internal_static_InvalidateChunkMessage_fieldAccessorTable
+      return org.terasology.protobuf.NetData.internal_static_BiomeChangeMessage_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.terasology.protobuf.NetData.InvalidateChunkMessage.class, org.terasology.protobuf.NetData.InvalidateChunkMessage.Builder.class);
+              org.terasology.protobuf.NetData.BiomeChangeMessage.class, org.terasology.protobuf.NetData.BiomeChangeMessage.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<InvalidateChunkMessage> PARSER =
-        new com.google.protobuf.AbstractParser<InvalidateChunkMessage>() {
-      public InvalidateChunkMessage parsePartialFrom(
+    public static com.google.protobuf.Parser<BiomeChangeMessage> PARSER =
+        new com.google.protobuf.AbstractParser<BiomeChangeMessage>() {
+      public BiomeChangeMessage parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new InvalidateChunkMessage(input, extensionRegistry);
+        return new BiomeChangeMessage(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<InvalidateChunkMessage> getParserForType() {
+    public com.google.protobuf.Parser<BiomeChangeMessage> getParserForType() {
       return PARSER;
     }
 
@@ -10410,8 +12294,24 @@ public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getPosOrBuilder() {
       return pos_;
     }
 
+    public static final int NEWBIOME_FIELD_NUMBER = 2;
+    private int newBiome_;
+    /**
+     * <code>optional int32 newBiome = 2;</code>
+     */
+    public boolean hasNewBiome() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional int32 newBiome = 2;</code>
+     */
+    public int getNewBiome() {
+      return newBiome_;
+    }
+
     private void initFields() {
       pos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
+      newBiome_ = 0;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -10431,11 +12331,14 @@ public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       getSerializedSize();
       com.google.protobuf.GeneratedMessage
-        .ExtendableMessage<org.terasology.protobuf.NetData.InvalidateChunkMessage>.ExtensionWriter extensionWriter =
+        .ExtendableMessage<org.terasology.protobuf.NetData.BiomeChangeMessage>.ExtensionWriter extensionWriter =
           newExtensionWriter();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         output.writeMessage(1, pos_);
       }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt32(2, newBiome_);
+      }
       extensionWriter.writeUntil(536870912, output);
       getUnknownFields().writeTo(output);
     }
@@ -10450,6 +12353,10 @@ public int getSerializedSize() {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(1, pos_);
       }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, newBiome_);
+      }
       size += extensionsSerializedSize();
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -10463,53 +12370,53 @@ protected java.lang.Object writeReplace()
       return super.writeReplace();
     }
 
-    public static org.terasology.protobuf.NetData.InvalidateChunkMessage parseFrom(
+    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.terasology.protobuf.NetData.InvalidateChunkMessage parseFrom(
+    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.InvalidateChunkMessage parseFrom(byte[] data)
+    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.terasology.protobuf.NetData.InvalidateChunkMessage parseFrom(
+    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.InvalidateChunkMessage parseFrom(java.io.InputStream input)
+    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.terasology.protobuf.NetData.InvalidateChunkMessage parseFrom(
+    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.InvalidateChunkMessage parseDelimitedFrom(java.io.InputStream input)
+    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.terasology.protobuf.NetData.InvalidateChunkMessage parseDelimitedFrom(
+    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.InvalidateChunkMessage parseFrom(
+    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.terasology.protobuf.NetData.InvalidateChunkMessage parseFrom(
+    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -10518,7 +12425,7 @@ public static org.terasology.protobuf.NetData.InvalidateChunkMessage parseFrom(
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.terasology.protobuf.NetData.InvalidateChunkMessage prototype) {
+    public static Builder newBuilder(org.terasology.protobuf.NetData.BiomeChangeMessage prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -10530,26 +12437,26 @@ protected Builder newBuilderForType(
       return builder;
     }
     /**
-     * Protobuf type {@code InvalidateChunkMessage}
+     * Protobuf type {@code BiomeChangeMessage}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.InvalidateChunkMessage, Builder> implements
-        // @@protoc_insertion_point(builder_implements:InvalidateChunkMessage)
-        org.terasology.protobuf.NetData.InvalidateChunkMessageOrBuilder {
+          org.terasology.protobuf.NetData.BiomeChangeMessage, Builder> implements
+        // @@protoc_insertion_point(builder_implements:BiomeChangeMessage)
+        org.terasology.protobuf.NetData.BiomeChangeMessageOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.terasology.protobuf.NetData.internal_static_InvalidateChunkMessage_descriptor;
+        return org.terasology.protobuf.NetData.internal_static_BiomeChangeMessage_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.terasology.protobuf.NetData.internal_static_InvalidateChunkMessage_fieldAccessorTable
+        return org.terasology.protobuf.NetData.internal_static_BiomeChangeMessage_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.terasology.protobuf.NetData.InvalidateChunkMessage.class, org.terasology.protobuf.NetData.InvalidateChunkMessage.Builder.class);
+                org.terasology.protobuf.NetData.BiomeChangeMessage.class, org.terasology.protobuf.NetData.BiomeChangeMessage.Builder.class);
       }
 
-      // Construct using org.terasology.protobuf.NetData.InvalidateChunkMessage.newBuilder()
+      // Construct using org.terasology.protobuf.NetData.BiomeChangeMessage.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -10576,6 +12483,8 @@ public Builder clear() {
           posBuilder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00000001);
+        newBiome_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
@@ -10585,23 +12494,23 @@ public Builder clone() {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.terasology.protobuf.NetData.internal_static_InvalidateChunkMessage_descriptor;
+        return org.terasology.protobuf.NetData.internal_static_BiomeChangeMessage_descriptor;
       }
 
-      public org.terasology.protobuf.NetData.InvalidateChunkMessage getDefaultInstanceForType() {
-        return org.terasology.protobuf.NetData.InvalidateChunkMessage.getDefaultInstance();
+      public org.terasology.protobuf.NetData.BiomeChangeMessage getDefaultInstanceForType() {
+        return org.terasology.protobuf.NetData.BiomeChangeMessage.getDefaultInstance();
       }
 
-      public org.terasology.protobuf.NetData.InvalidateChunkMessage build() {
-        org.terasology.protobuf.NetData.InvalidateChunkMessage result = buildPartial();
+      public org.terasology.protobuf.NetData.BiomeChangeMessage build() {
+        org.terasology.protobuf.NetData.BiomeChangeMessage result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.terasology.protobuf.NetData.InvalidateChunkMessage buildPartial() {
-        org.terasology.protobuf.NetData.InvalidateChunkMessage result = new org.terasology.protobuf.NetData.InvalidateChunkMessage(this);
+      public org.terasology.protobuf.NetData.BiomeChangeMessage buildPartial() {
+        org.terasology.protobuf.NetData.BiomeChangeMessage result = new org.terasology.protobuf.NetData.BiomeChangeMessage(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
@@ -10612,25 +12521,32 @@ public org.terasology.protobuf.NetData.InvalidateChunkMessage buildPartial() {
         } else {
           result.pos_ = posBuilder_.build();
         }
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.newBiome_ = newBiome_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.terasology.protobuf.NetData.InvalidateChunkMessage) {
-          return mergeFrom((org.terasology.protobuf.NetData.InvalidateChunkMessage)other);
+        if (other instanceof org.terasology.protobuf.NetData.BiomeChangeMessage) {
+          return mergeFrom((org.terasology.protobuf.NetData.BiomeChangeMessage)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.terasology.protobuf.NetData.InvalidateChunkMessage other) {
-        if (other == org.terasology.protobuf.NetData.InvalidateChunkMessage.getDefaultInstance()) return this;
+      public Builder mergeFrom(org.terasology.protobuf.NetData.BiomeChangeMessage other) {
+        if (other == org.terasology.protobuf.NetData.BiomeChangeMessage.getDefaultInstance()) return this;
         if (other.hasPos()) {
           mergePos(other.getPos());
         }
+        if (other.hasNewBiome()) {
+          setNewBiome(other.getNewBiome());
+        }
         this.mergeExtensionFields(other);
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
@@ -10648,11 +12564,11 @@ public Builder mergeFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.terasology.protobuf.NetData.InvalidateChunkMessage parsedMessage = null;
+        org.terasology.protobuf.NetData.BiomeChangeMessage parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.terasology.protobuf.NetData.InvalidateChunkMessage) e.getUnfinishedMessage();
+          parsedMessage = (org.terasology.protobuf.NetData.BiomeChangeMessage) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -10779,65 +12695,132 @@ public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getPosOrBuilder() {
         return posBuilder_;
       }
 
-      // @@protoc_insertion_point(builder_scope:InvalidateChunkMessage)
+      private int newBiome_ ;
+      /**
+       * <code>optional int32 newBiome = 2;</code>
+       */
+      public boolean hasNewBiome() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional int32 newBiome = 2;</code>
+       */
+      public int getNewBiome() {
+        return newBiome_;
+      }
+      /**
+       * <code>optional int32 newBiome = 2;</code>
+       */
+      public Builder setNewBiome(int value) {
+        bitField0_ |= 0x00000002;
+        newBiome_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 newBiome = 2;</code>
+       */
+      public Builder clearNewBiome() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        newBiome_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:BiomeChangeMessage)
     }
 
     static {
-      defaultInstance = new InvalidateChunkMessage(true);
+      defaultInstance = new BiomeChangeMessage(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:InvalidateChunkMessage)
+    // @@protoc_insertion_point(class_scope:BiomeChangeMessage)
   }
 
-  public interface BlockChangeMessageOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:BlockChangeMessage)
+  public interface BlockChangeBatchMessageOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:BlockChangeBatchMessage)
       com.google.protobuf.GeneratedMessage.
-          ExtendableMessageOrBuilder<BlockChangeMessage> {
+          ExtendableMessageOrBuilder<BlockChangeBatchMessage> {
 
     /**
-     * <code>optional .Vector3iData pos = 1;</code>
+     * <code>optional .Vector3iData chunkPos = 1;</code>
      */
-    boolean hasPos();
+    boolean hasChunkPos();
     /**
-     * <code>optional .Vector3iData pos = 1;</code>
+     * <code>optional .Vector3iData chunkPos = 1;</code>
      */
-    org.terasology.protobuf.NetData.Vector3iData getPos();
+    org.terasology.protobuf.NetData.Vector3iData getChunkPos();
     /**
-     * <code>optional .Vector3iData pos = 1;</code>
+     * <code>optional .Vector3iData chunkPos = 1;</code>
      */
-    org.terasology.protobuf.NetData.Vector3iDataOrBuilder getPosOrBuilder();
+    org.terasology.protobuf.NetData.Vector3iDataOrBuilder getChunkPosOrBuilder();
 
     /**
-     * <code>optional int32 newBlock = 2;</code>
+     * <code>repeated int32 blockIndexDelta = 2 [packed = true];</code>
      */
-    boolean hasNewBlock();
+    java.util.List<java.lang.Integer> getBlockIndexDeltaList();
     /**
-     * <code>optional int32 newBlock = 2;</code>
+     * <code>repeated int32 blockIndexDelta = 2 [packed = true];</code>
      */
-    int getNewBlock();
+    int getBlockIndexDeltaCount();
+    /**
+     * <code>repeated int32 blockIndexDelta = 2 [packed = true];</code>
+     */
+    int getBlockIndexDelta(int index);
+
+    /**
+     * <code>repeated int32 runLength = 3 [packed = true];</code>
+     */
+    java.util.List<java.lang.Integer> getRunLengthList();
+    /**
+     * <code>repeated int32 runLength = 3 [packed = true];</code>
+     */
+    int getRunLengthCount();
+    /**
+     * <code>repeated int32 runLength = 3 [packed = true];</code>
+     */
+    int getRunLength(int index);
+
+    /**
+     * <code>repeated int32 newBlock = 4 [packed = true];</code>
+     */
+    java.util.List<java.lang.Integer> getNewBlockList();
+    /**
+     * <code>repeated int32 newBlock = 4 [packed = true];</code>
+     */
+    int getNewBlockCount();
+    /**
+     * <code>repeated int32 newBlock = 4 [packed = true];</code>
+     */
+    int getNewBlock(int index);
   }
   /**
-   * Protobuf type {@code BlockChangeMessage}
+   * Protobuf type {@code BlockChangeBatchMessage}
+   *
+   * <pre>
+   * Block changes within one chunk. The chunk relative block indices are sorted, the first being absolute and the
+   * rest stored as the gap to the previous one. The new block ids are run length encoded over those indices.
+   * </pre>
    */
-  public static final class BlockChangeMessage extends
+  public static final class BlockChangeBatchMessage extends
       com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        BlockChangeMessage> implements
-      // @@protoc_insertion_point(message_implements:BlockChangeMessage)
-      BlockChangeMessageOrBuilder {
-    // Use BlockChangeMessage.newBuilder() to construct.
-    private BlockChangeMessage(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.BlockChangeMessage, ?> builder) {
+        BlockChangeBatchMessage> implements
+      // @@protoc_insertion_point(message_implements:BlockChangeBatchMessage)
+      BlockChangeBatchMessageOrBuilder {
+    // Use BlockChangeBatchMessage.newBuilder() to construct.
+    private BlockChangeBatchMessage(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.BlockChangeBatchMessage, ?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private BlockChangeMessage(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private BlockChangeBatchMessage(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final BlockChangeMessage defaultInstance;
-    public static BlockChangeMessage getDefaultInstance() {
+    private static final BlockChangeBatchMessage defaultInstance;
+    public static BlockChangeBatchMessage getDefaultInstance() {
       return defaultInstance;
     }
 
-    public BlockChangeMessage getDefaultInstanceForType() {
+    public BlockChangeBatchMessage getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -10847,7 +12830,7 @@ public BlockChangeMessage getDefaultInstanceForType() {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private BlockChangeMessage(
+    private BlockChangeBatchMessage(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -10873,19 +12856,77 @@ private BlockChangeMessage(
             case 10: {
               org.terasology.protobuf.NetData.Vector3iData.Builder subBuilder = null;
               if (((bitField0_ & 0x00000001) == 0x00000001)) {
-                subBuilder = pos_.toBuilder();
+                subBuilder = chunkPos_.toBuilder();
               }
-              pos_ = input.readMessage(org.terasology.protobuf.NetData.Vector3iData.PARSER, extensionRegistry);
+              chunkPos_ = input.readMessage(org.terasology.protobuf.NetData.Vector3iData.PARSER, extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(pos_);
-                pos_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom(chunkPos_);
+                chunkPos_ = subBuilder.buildPartial();
               }
               bitField0_ |= 0x00000001;
               break;
             }
             case 16: {
-              bitField0_ |= 0x00000002;
-              newBlock_ = input.readInt32();
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                blockIndexDelta_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              blockIndexDelta_.add(input.readInt32());
+              break;
+            }
+            case 18: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002) && input.getBytesUntilLimit() > 0) {
+                blockIndexDelta_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                blockIndexDelta_.add(input.readInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 24: {
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                runLength_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              runLength_.add(input.readInt32());
+              break;
+            }
+            case 26: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004) && input.getBytesUntilLimit() > 0) {
+                runLength_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                runLength_.add(input.readInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 32: {
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                newBlock_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              newBlock_.add(input.readInt32());
+              break;
+            }
+            case 34: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008) && input.getBytesUntilLimit() > 0) {
+                newBlock_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                newBlock_.add(input.readInt32());
+              }
+              input.popLimit(limit);
               break;
             }
           }
@@ -10896,77 +12937,142 @@ private BlockChangeMessage(
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          blockIndexDelta_ = java.util.Collections.unmodifiableList(blockIndexDelta_);
+        }
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          runLength_ = java.util.Collections.unmodifiableList(runLength_);
+        }
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          newBlock_ = java.util.Collections.unmodifiableList(newBlock_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.terasology.protobuf.NetData.internal_static_BlockChangeMessage_descriptor;
+      return org.terasology.protobuf.NetData.internal_static_BlockChangeBatchMessage_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.terasology.protobuf.NetData.internal_static_BlockChangeMessage_fieldAccessorTable
+      return org.terasology.protobuf.NetData.internal_static_BlockChangeBatchMessage_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.terasology.protobuf.NetData.BlockChangeMessage.class, org.terasology.protobuf.NetData.BlockChangeMessage.Builder.class);
+              org.terasology.protobuf.NetData.BlockChangeBatchMessage.class, org.terasology.protobuf.NetData.BlockChangeBatchMessage.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<BlockChangeMessage> PARSER =
-        new com.google.protobuf.AbstractParser<BlockChangeMessage>() {
-      public BlockChangeMessage parsePartialFrom(
+    public static com.google.protobuf.Parser<BlockChangeBatchMessage> PARSER =
+        new com.google.protobuf.AbstractParser<BlockChangeBatchMessage>() {
+      public BlockChangeBatchMessage parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new BlockChangeMessage(input, extensionRegistry);
+        return new BlockChangeBatchMessage(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<BlockChangeMessage> getParserForType() {
+    public com.google.protobuf.Parser<BlockChangeBatchMessage> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    public static final int POS_FIELD_NUMBER = 1;
-    private org.terasology.protobuf.NetData.Vector3iData pos_;
+    public static final int CHUNKPOS_FIELD_NUMBER = 1;
+    private org.terasology.protobuf.NetData.Vector3iData chunkPos_;
     /**
-     * <code>optional .Vector3iData pos = 1;</code>
+     * <code>optional .Vector3iData chunkPos = 1;</code>
      */
-    public boolean hasPos() {
+    public boolean hasChunkPos() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>optional .Vector3iData pos = 1;</code>
+     * <code>optional .Vector3iData chunkPos = 1;</code>
      */
-    public org.terasology.protobuf.NetData.Vector3iData getPos() {
-      return pos_;
+    public org.terasology.protobuf.NetData.Vector3iData getChunkPos() {
+      return chunkPos_;
     }
     /**
-     * <code>optional .Vector3iData pos = 1;</code>
+     * <code>optional .Vector3iData chunkPos = 1;</code>
      */
-    public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getPosOrBuilder() {
-      return pos_;
+    public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getChunkPosOrBuilder() {
+      return chunkPos_;
     }
 
-    public static final int NEWBLOCK_FIELD_NUMBER = 2;
-    private int newBlock_;
+    public static final int BLOCKINDEXDELTA_FIELD_NUMBER = 2;
+    private java.util.List<java.lang.Integer> blockIndexDelta_;
     /**
-     * <code>optional int32 newBlock = 2;</code>
+     * <code>repeated int32 blockIndexDelta = 2 [packed = true];</code>
      */
-    public boolean hasNewBlock() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+    public java.util.List<java.lang.Integer>
+        getBlockIndexDeltaList() {
+      return blockIndexDelta_;
     }
     /**
-     * <code>optional int32 newBlock = 2;</code>
+     * <code>repeated int32 blockIndexDelta = 2 [packed = true];</code>
      */
-    public int getNewBlock() {
+    public int getBlockIndexDeltaCount() {
+      return blockIndexDelta_.size();
+    }
+    /**
+     * <code>repeated int32 blockIndexDelta = 2 [packed = true];</code>
+     */
+    public int getBlockIndexDelta(int index) {
+      return blockIndexDelta_.get(index);
+    }
+    private int blockIndexDeltaMemoizedSerializedSize = -1;
+
+    public static final int RUNLENGTH_FIELD_NUMBER = 3;
+    private java.util.List<java.lang.Integer> runLength_;
+    /**
+     * <code>repeated int32 runLength = 3 [packed = true];</code>
+     */
+    public java.util.List<java.lang.Integer>
+        getRunLengthList() {
+      return runLength_;
+    }
+    /**
+     * <code>repeated int32 runLength = 3 [packed = true];</code>
+     */
+    public int getRunLengthCount() {
+      return runLength_.size();
+    }
+    /**
+     * <code>repeated int32 runLength = 3 [packed = true];</code>
+     */
+    public int getRunLength(int index) {
+      return runLength_.get(index);
+    }
+    private int runLengthMemoizedSerializedSize = -1;
+
+    public static final int NEWBLOCK_FIELD_NUMBER = 4;
+    private java.util.List<java.lang.Integer> newBlock_;
+    /**
+     * <code>repeated int32 newBlock = 4 [packed = true];</code>
+     */
+    public java.util.List<java.lang.Integer>
+        getNewBlockList() {
       return newBlock_;
     }
+    /**
+     * <code>repeated int32 newBlock = 4 [packed = true];</code>
+     */
+    public int getNewBlockCount() {
+      return newBlock_.size();
+    }
+    /**
+     * <code>repeated int32 newBlock = 4 [packed = true];</code>
+     */
+    public int getNewBlock(int index) {
+      return newBlock_.get(index);
+    }
+    private int newBlockMemoizedSerializedSize = -1;
 
     private void initFields() {
-      pos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
-      newBlock_ = 0;
+      chunkPos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
+      blockIndexDelta_ = java.util.Collections.emptyList();
+      runLength_ = java.util.Collections.emptyList();
+      newBlock_ = java.util.Collections.emptyList();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -10986,13 +13092,31 @@ public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       getSerializedSize();
       com.google.protobuf.GeneratedMessage
-        .ExtendableMessage<org.terasology.protobuf.NetData.BlockChangeMessage>.ExtensionWriter extensionWriter =
+        .ExtendableMessage<org.terasology.protobuf.NetData.BlockChangeBatchMessage>.ExtensionWriter extensionWriter =
           newExtensionWriter();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeMessage(1, pos_);
+        output.writeMessage(1, chunkPos_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeInt32(2, newBlock_);
+      if (getBlockIndexDeltaList().size() > 0) {
+        output.writeRawVarint32(18);
+        output.writeRawVarint32(blockIndexDeltaMemoizedSerializedSize);
+      }
+      for (int i = 0; i < blockIndexDelta_.size(); i++) {
+        output.writeInt32NoTag(blockIndexDelta_.get(i));
+      }
+      if (getRunLengthList().size() > 0) {
+        output.writeRawVarint32(26);
+        output.writeRawVarint32(runLengthMemoizedSerializedSize);
+      }
+      for (int i = 0; i < runLength_.size(); i++) {
+        output.writeInt32NoTag(runLength_.get(i));
+      }
+      if (getNewBlockList().size() > 0) {
+        output.writeRawVarint32(34);
+        output.writeRawVarint32(newBlockMemoizedSerializedSize);
+      }
+      for (int i = 0; i < newBlock_.size(); i++) {
+        output.writeInt32NoTag(newBlock_.get(i));
       }
       extensionWriter.writeUntil(536870912, output);
       getUnknownFields().writeTo(output);
@@ -11006,11 +13130,49 @@ public int getSerializedSize() {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, pos_);
+          .computeMessageSize(1, chunkPos_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(2, newBlock_);
+      {
+        int dataSize = 0;
+        for (int i = 0; i < blockIndexDelta_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(blockIndexDelta_.get(i));
+        }
+        size += dataSize;
+        if (!getBlockIndexDeltaList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        blockIndexDeltaMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < runLength_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(runLength_.get(i));
+        }
+        size += dataSize;
+        if (!getRunLengthList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        runLengthMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < newBlock_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(newBlock_.get(i));
+        }
+        size += dataSize;
+        if (!getNewBlockList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        newBlockMemoizedSerializedSize = dataSize;
       }
       size += extensionsSerializedSize();
       size += getUnknownFields().getSerializedSize();
@@ -11025,53 +13187,53 @@ protected java.lang.Object writeReplace()
       return super.writeReplace();
     }
 
-    public static org.terasology.protobuf.NetData.BlockChangeMessage parseFrom(
+    public static org.terasology.protobuf.NetData.BlockChangeBatchMessage parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.terasology.protobuf.NetData.BlockChangeMessage parseFrom(
+    public static org.terasology.protobuf.NetData.BlockChangeBatchMessage parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.BlockChangeMessage parseFrom(byte[] data)
+    public static org.terasology.protobuf.NetData.BlockChangeBatchMessage parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.terasology.protobuf.NetData.BlockChangeMessage parseFrom(
+    public static org.terasology.protobuf.NetData.BlockChangeBatchMessage parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.BlockChangeMessage parseFrom(java.io.InputStream input)
+    public static org.terasology.protobuf.NetData.BlockChangeBatchMessage parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.terasology.protobuf.NetData.BlockChangeMessage parseFrom(
+    public static org.terasology.protobuf.NetData.BlockChangeBatchMessage parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.BlockChangeMessage parseDelimitedFrom(java.io.InputStream input)
+    public static org.terasology.protobuf.NetData.BlockChangeBatchMessage parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.terasology.protobuf.NetData.BlockChangeMessage parseDelimitedFrom(
+    public static org.terasology.protobuf.NetData.BlockChangeBatchMessage parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.BlockChangeMessage parseFrom(
+    public static org.terasology.protobuf.NetData.BlockChangeBatchMessage parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.terasology.protobuf.NetData.BlockChangeMessage parseFrom(
+    public static org.terasology.protobuf.NetData.BlockChangeBatchMessage parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -11080,7 +13242,7 @@ public static org.terasology.protobuf.NetData.BlockChangeMessage parseFrom(
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.terasology.protobuf.NetData.BlockChangeMessage prototype) {
+    public static Builder newBuilder(org.terasology.protobuf.NetData.BlockChangeBatchMessage prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -11092,26 +13254,31 @@ protected Builder newBuilderForType(
       return builder;
     }
     /**
-     * Protobuf type {@code BlockChangeMessage}
+     * Protobuf type {@code BlockChangeBatchMessage}
+     *
+     * <pre>
+     * Block changes within one chunk. The chunk relative block indices are sorted, the first being absolute and the
+     * rest stored as the gap to the previous one. The new block ids are run length encoded over those indices.
+     * </pre>
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.BlockChangeMessage, Builder> implements
-        // @@protoc_insertion_point(builder_implements:BlockChangeMessage)
-        org.terasology.protobuf.NetData.BlockChangeMessageOrBuilder {
+          org.terasology.protobuf.NetData.BlockChangeBatchMessage, Builder> implements
+        // @@protoc_insertion_point(builder_implements:BlockChangeBatchMessage)
+        org.terasology.protobuf.NetData.BlockChangeBatchMessageOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.terasology.protobuf.NetData.internal_static_BlockChangeMessage_descriptor;
+        return org.terasology.protobuf.NetData.internal_static_BlockChangeBatchMessage_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.terasology.protobuf.NetData.internal_static_BlockChangeMessage_fieldAccessorTable
+        return org.terasology.protobuf.NetData.internal_static_BlockChangeBatchMessage_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.terasology.protobuf.NetData.BlockChangeMessage.class, org.terasology.protobuf.NetData.BlockChangeMessage.Builder.class);
+                org.terasology.protobuf.NetData.BlockChangeBatchMessage.class, org.terasology.protobuf.NetData.BlockChangeBatchMessage.Builder.class);
       }
 
-      // Construct using org.terasology.protobuf.NetData.BlockChangeMessage.newBuilder()
+      // Construct using org.terasology.protobuf.NetData.BlockChangeBatchMessage.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -11123,7 +13290,7 @@ private Builder(
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getPosFieldBuilder();
+          getChunkPosFieldBuilder();
         }
       }
       private static Builder create() {
@@ -11132,14 +13299,18 @@ private static Builder create() {
 
       public Builder clear() {
         super.clear();
-        if (posBuilder_ == null) {
-          pos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
+        if (chunkPosBuilder_ == null) {
+          chunkPos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
         } else {
-          posBuilder_.clear();
+          chunkPosBuilder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00000001);
-        newBlock_ = 0;
+        blockIndexDelta_ = java.util.Collections.emptyList();
         bitField0_ = (bitField0_ & ~0x00000002);
+        runLength_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        newBlock_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
 
@@ -11149,35 +13320,46 @@ public Builder clone() {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.terasology.protobuf.NetData.internal_static_BlockChangeMessage_descriptor;
+        return org.terasology.protobuf.NetData.internal_static_BlockChangeBatchMessage_descriptor;
       }
 
-      public org.terasology.protobuf.NetData.BlockChangeMessage getDefaultInstanceForType() {
-        return org.terasology.protobuf.NetData.BlockChangeMessage.getDefaultInstance();
+      public org.terasology.protobuf.NetData.BlockChangeBatchMessage getDefaultInstanceForType() {
+        return org.terasology.protobuf.NetData.BlockChangeBatchMessage.getDefaultInstance();
       }
 
-      public org.terasology.protobuf.NetData.BlockChangeMessage build() {
-        org.terasology.protobuf.NetData.BlockChangeMessage result = buildPartial();
+      public org.terasology.protobuf.NetData.BlockChangeBatchMessage build() {
+        org.terasology.protobuf.NetData.BlockChangeBatchMessage result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.terasology.protobuf.NetData.BlockChangeMessage buildPartial() {
-        org.terasology.protobuf.NetData.BlockChangeMessage result = new org.terasology.protobuf.NetData.BlockChangeMessage(this);
+      public org.terasology.protobuf.NetData.BlockChangeBatchMessage buildPartial() {
+        org.terasology.protobuf.NetData.BlockChangeBatchMessage result = new org.terasology.protobuf.NetData.BlockChangeBatchMessage(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        if (posBuilder_ == null) {
-          result.pos_ = pos_;
+        if (chunkPosBuilder_ == null) {
+          result.chunkPos_ = chunkPos_;
         } else {
-          result.pos_ = posBuilder_.build();
+          result.chunkPos_ = chunkPosBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-          to_bitField0_ |= 0x00000002;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          blockIndexDelta_ = java.util.Collections.unmodifiableList(blockIndexDelta_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.blockIndexDelta_ = blockIndexDelta_;
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          runLength_ = java.util.Collections.unmodifiableList(runLength_);
+          bitField0_ = (bitField0_ & ~0x00000004);
+        }
+        result.runLength_ = runLength_;
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          newBlock_ = java.util.Collections.unmodifiableList(newBlock_);
+          bitField0_ = (bitField0_ & ~0x00000008);
         }
         result.newBlock_ = newBlock_;
         result.bitField0_ = to_bitField0_;
@@ -11186,21 +13368,48 @@ public org.terasology.protobuf.NetData.BlockChangeMessage buildPartial() {
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.terasology.protobuf.NetData.BlockChangeMessage) {
-          return mergeFrom((org.terasology.protobuf.NetData.BlockChangeMessage)other);
+        if (other instanceof org.terasology.protobuf.NetData.BlockChangeBatchMessage) {
+          return mergeFrom((org.terasology.protobuf.NetData.BlockChangeBatchMessage)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.terasology.protobuf.NetData.BlockChangeMessage other) {
-        if (other == org.terasology.protobuf.NetData.BlockChangeMessage.getDefaultInstance()) return this;
-        if (other.hasPos()) {
-          mergePos(other.getPos());
+      public Builder mergeFrom(org.terasology.protobuf.NetData.BlockChangeBatchMessage other) {
+        if (other == org.terasology.protobuf.NetData.BlockChangeBatchMessage.getDefaultInstance()) return this;
+        if (other.hasChunkPos()) {
+          mergeChunkPos(other.getChunkPos());
         }
-        if (other.hasNewBlock()) {
-          setNewBlock(other.getNewBlock());
+        if (!other.blockIndexDelta_.isEmpty()) {
+          if (blockIndexDelta_.isEmpty()) {
+            blockIndexDelta_ = other.blockIndexDelta_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureBlockIndexDeltaIsMutable();
+            blockIndexDelta_.addAll(other.blockIndexDelta_);
+          }
+          onChanged();
+        }
+        if (!other.runLength_.isEmpty()) {
+          if (runLength_.isEmpty()) {
+            runLength_ = other.runLength_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+          } else {
+            ensureRunLengthIsMutable();
+            runLength_.addAll(other.runLength_);
+          }
+          onChanged();
+        }
+        if (!other.newBlock_.isEmpty()) {
+          if (newBlock_.isEmpty()) {
+            newBlock_ = other.newBlock_;
+            bitField0_ = (bitField0_ & ~0x00000008);
+          } else {
+            ensureNewBlockIsMutable();
+            newBlock_.addAll(other.newBlock_);
+          }
+          onChanged();
         }
         this.mergeExtensionFields(other);
         this.mergeUnknownFields(other.getUnknownFields());
@@ -11219,11 +13428,11 @@ public Builder mergeFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.terasology.protobuf.NetData.BlockChangeMessage parsedMessage = null;
+        org.terasology.protobuf.NetData.BlockChangeBatchMessage parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.terasology.protobuf.NetData.BlockChangeMessage) e.getUnfinishedMessage();
+          parsedMessage = (org.terasology.protobuf.NetData.BlockChangeBatchMessage) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -11234,213 +13443,413 @@ public Builder mergeFrom(
       }
       private int bitField0_;
 
-      private org.terasology.protobuf.NetData.Vector3iData pos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
+      private org.terasology.protobuf.NetData.Vector3iData chunkPos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
       private com.google.protobuf.SingleFieldBuilder<
-          org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder> posBuilder_;
+          org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder> chunkPosBuilder_;
       /**
-       * <code>optional .Vector3iData pos = 1;</code>
+       * <code>optional .Vector3iData chunkPos = 1;</code>
        */
-      public boolean hasPos() {
+      public boolean hasChunkPos() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>optional .Vector3iData pos = 1;</code>
+       * <code>optional .Vector3iData chunkPos = 1;</code>
        */
-      public org.terasology.protobuf.NetData.Vector3iData getPos() {
-        if (posBuilder_ == null) {
-          return pos_;
+      public org.terasology.protobuf.NetData.Vector3iData getChunkPos() {
+        if (chunkPosBuilder_ == null) {
+          return chunkPos_;
         } else {
-          return posBuilder_.getMessage();
+          return chunkPosBuilder_.getMessage();
         }
       }
       /**
-       * <code>optional .Vector3iData pos = 1;</code>
+       * <code>optional .Vector3iData chunkPos = 1;</code>
        */
-      public Builder setPos(org.terasology.protobuf.NetData.Vector3iData value) {
-        if (posBuilder_ == null) {
+      public Builder setChunkPos(org.terasology.protobuf.NetData.Vector3iData value) {
+        if (chunkPosBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          pos_ = value;
+          chunkPos_ = value;
           onChanged();
         } else {
-          posBuilder_.setMessage(value);
+          chunkPosBuilder_.setMessage(value);
         }
         bitField0_ |= 0x00000001;
         return this;
       }
       /**
-       * <code>optional .Vector3iData pos = 1;</code>
+       * <code>optional .Vector3iData chunkPos = 1;</code>
        */
-      public Builder setPos(
+      public Builder setChunkPos(
           org.terasology.protobuf.NetData.Vector3iData.Builder builderForValue) {
-        if (posBuilder_ == null) {
-          pos_ = builderForValue.build();
+        if (chunkPosBuilder_ == null) {
+          chunkPos_ = builderForValue.build();
           onChanged();
         } else {
-          posBuilder_.setMessage(builderForValue.build());
+          chunkPosBuilder_.setMessage(builderForValue.build());
         }
         bitField0_ |= 0x00000001;
         return this;
       }
       /**
-       * <code>optional .Vector3iData pos = 1;</code>
+       * <code>optional .Vector3iData chunkPos = 1;</code>
        */
-      public Builder mergePos(org.terasology.protobuf.NetData.Vector3iData value) {
-        if (posBuilder_ == null) {
+      public Builder mergeChunkPos(org.terasology.protobuf.NetData.Vector3iData value) {
+        if (chunkPosBuilder_ == null) {
           if (((bitField0_ & 0x00000001) == 0x00000001) &&
-              pos_ != org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance()) {
-            pos_ =
-              org.terasology.protobuf.NetData.Vector3iData.newBuilder(pos_).mergeFrom(value).buildPartial();
+              chunkPos_ != org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance()) {
+            chunkPos_ =
+              org.terasology.protobuf.NetData.Vector3iData.newBuilder(chunkPos_).mergeFrom(value).buildPartial();
           } else {
-            pos_ = value;
+            chunkPos_ = value;
           }
           onChanged();
         } else {
-          posBuilder_.mergeFrom(value);
+          chunkPosBuilder_.mergeFrom(value);
         }
         bitField0_ |= 0x00000001;
         return this;
       }
       /**
-       * <code>optional .Vector3iData pos = 1;</code>
+       * <code>optional .Vector3iData chunkPos = 1;</code>
        */
-      public Builder clearPos() {
-        if (posBuilder_ == null) {
-          pos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
+      public Builder clearChunkPos() {
+        if (chunkPosBuilder_ == null) {
+          chunkPos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
           onChanged();
         } else {
-          posBuilder_.clear();
+          chunkPosBuilder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
       /**
-       * <code>optional .Vector3iData pos = 1;</code>
+       * <code>optional .Vector3iData chunkPos = 1;</code>
        */
-      public org.terasology.protobuf.NetData.Vector3iData.Builder getPosBuilder() {
+      public org.terasology.protobuf.NetData.Vector3iData.Builder getChunkPosBuilder() {
         bitField0_ |= 0x00000001;
         onChanged();
-        return getPosFieldBuilder().getBuilder();
+        return getChunkPosFieldBuilder().getBuilder();
       }
       /**
-       * <code>optional .Vector3iData pos = 1;</code>
+       * <code>optional .Vector3iData chunkPos = 1;</code>
        */
-      public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getPosOrBuilder() {
-        if (posBuilder_ != null) {
-          return posBuilder_.getMessageOrBuilder();
+      public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getChunkPosOrBuilder() {
+        if (chunkPosBuilder_ != null) {
+          return chunkPosBuilder_.getMessageOrBuilder();
         } else {
-          return pos_;
+          return chunkPos_;
+        }
+      }
+      /**
+       * <code>optional .Vector3iData chunkPos = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder> 
+          getChunkPosFieldBuilder() {
+        if (chunkPosBuilder_ == null) {
+          chunkPosBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder>(
+                  getChunkPos(),
+                  getParentForChildren(),
+                  isClean());
+          chunkPos_ = null;
         }
+        return chunkPosBuilder_;
+      }
+
+      private java.util.List<java.lang.Integer> blockIndexDelta_ = java.util.Collections.emptyList();
+      private void ensureBlockIndexDeltaIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          blockIndexDelta_ = new java.util.ArrayList<java.lang.Integer>(blockIndexDelta_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <code>repeated int32 blockIndexDelta = 2 [packed = true];</code>
+       */
+      public java.util.List<java.lang.Integer>
+          getBlockIndexDeltaList() {
+        return java.util.Collections.unmodifiableList(blockIndexDelta_);
+      }
+      /**
+       * <code>repeated int32 blockIndexDelta = 2 [packed = true];</code>
+       */
+      public int getBlockIndexDeltaCount() {
+        return blockIndexDelta_.size();
+      }
+      /**
+       * <code>repeated int32 blockIndexDelta = 2 [packed = true];</code>
+       */
+      public int getBlockIndexDelta(int index) {
+        return blockIndexDelta_.get(index);
+      }
+      /**
+       * <code>repeated int32 blockIndexDelta = 2 [packed = true];</code>
+       */
+      public Builder setBlockIndexDelta(
+          int index, int value) {
+        ensureBlockIndexDeltaIsMutable();
+        blockIndexDelta_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 blockIndexDelta = 2 [packed = true];</code>
+       */
+      public Builder addBlockIndexDelta(int value) {
+        ensureBlockIndexDeltaIsMutable();
+        blockIndexDelta_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 blockIndexDelta = 2 [packed = true];</code>
+       */
+      public Builder addAllBlockIndexDelta(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureBlockIndexDeltaIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, blockIndexDelta_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 blockIndexDelta = 2 [packed = true];</code>
+       */
+      public Builder clearBlockIndexDelta() {
+        blockIndexDelta_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<java.lang.Integer> runLength_ = java.util.Collections.emptyList();
+      private void ensureRunLengthIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          runLength_ = new java.util.ArrayList<java.lang.Integer>(runLength_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+      /**
+       * <code>repeated int32 runLength = 3 [packed = true];</code>
+       */
+      public java.util.List<java.lang.Integer>
+          getRunLengthList() {
+        return java.util.Collections.unmodifiableList(runLength_);
+      }
+      /**
+       * <code>repeated int32 runLength = 3 [packed = true];</code>
+       */
+      public int getRunLengthCount() {
+        return runLength_.size();
+      }
+      /**
+       * <code>repeated int32 runLength = 3 [packed = true];</code>
+       */
+      public int getRunLength(int index) {
+        return runLength_.get(index);
+      }
+      /**
+       * <code>repeated int32 runLength = 3 [packed = true];</code>
+       */
+      public Builder setRunLength(
+          int index, int value) {
+        ensureRunLengthIsMutable();
+        runLength_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 runLength = 3 [packed = true];</code>
+       */
+      public Builder addRunLength(int value) {
+        ensureRunLengthIsMutable();
+        runLength_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 runLength = 3 [packed = true];</code>
+       */
+      public Builder addAllRunLength(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureRunLengthIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, runLength_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 runLength = 3 [packed = true];</code>
+       */
+      public Builder clearRunLength() {
+        runLength_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<java.lang.Integer> newBlock_ = java.util.Collections.emptyList();
+      private void ensureNewBlockIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          newBlock_ = new java.util.ArrayList<java.lang.Integer>(newBlock_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+      /**
+       * <code>repeated int32 newBlock = 4 [packed = true];</code>
+       */
+      public java.util.List<java.lang.Integer>
+          getNewBlockList() {
+        return java.util.Collections.unmodifiableList(newBlock_);
+      }
+      /**
+       * <code>repeated int32 newBlock = 4 [packed = true];</code>
+       */
+      public int getNewBlockCount() {
+        return newBlock_.size();
       }
       /**
-       * <code>optional .Vector3iData pos = 1;</code>
+       * <code>repeated int32 newBlock = 4 [packed = true];</code>
        */
-      private com.google.protobuf.SingleFieldBuilder<
-          org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder> 
-          getPosFieldBuilder() {
-        if (posBuilder_ == null) {
-          posBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder>(
-                  getPos(),
-                  getParentForChildren(),
-                  isClean());
-          pos_ = null;
-        }
-        return posBuilder_;
+      public int getNewBlock(int index) {
+        return newBlock_.get(index);
       }
-
-      private int newBlock_ ;
       /**
-       * <code>optional int32 newBlock = 2;</code>
+       * <code>repeated int32 newBlock = 4 [packed = true];</code>
        */
-      public boolean hasNewBlock() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+      public Builder setNewBlock(
+          int index, int value) {
+        ensureNewBlockIsMutable();
+        newBlock_.set(index, value);
+        onChanged();
+        return this;
       }
       /**
-       * <code>optional int32 newBlock = 2;</code>
+       * <code>repeated int32 newBlock = 4 [packed = true];</code>
        */
-      public int getNewBlock() {
-        return newBlock_;
+      public Builder addNewBlock(int value) {
+        ensureNewBlockIsMutable();
+        newBlock_.add(value);
+        onChanged();
+        return this;
       }
       /**
-       * <code>optional int32 newBlock = 2;</code>
+       * <code>repeated int32 newBlock = 4 [packed = true];</code>
        */
-      public Builder setNewBlock(int value) {
-        bitField0_ |= 0x00000002;
-        newBlock_ = value;
+      public Builder addAllNewBlock(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureNewBlockIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, newBlock_);
         onChanged();
         return this;
       }
       /**
-       * <code>optional int32 newBlock = 2;</code>
+       * <code>repeated int32 newBlock = 4 [packed = true];</code>
        */
       public Builder clearNewBlock() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        newBlock_ = 0;
+        newBlock_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:BlockChangeMessage)
+      // @@protoc_insertion_point(builder_scope:BlockChangeBatchMessage)
     }
 
     static {
-      defaultInstance = new BlockChangeMessage(true);
+      defaultInstance = new BlockChangeBatchMessage(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:BlockChangeMessage)
+    // @@protoc_insertion_point(class_scope:BlockChangeBatchMessage)
   }
 
-  public interface BiomeChangeMessageOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:BiomeChangeMessage)
+  public interface BiomeChangeBatchMessageOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:BiomeChangeBatchMessage)
       com.google.protobuf.GeneratedMessage.
-          ExtendableMessageOrBuilder<BiomeChangeMessage> {
+          ExtendableMessageOrBuilder<BiomeChangeBatchMessage> {
 
     /**
-     * <code>optional .Vector3iData pos = 1;</code>
+     * <code>optional .Vector3iData chunkPos = 1;</code>
      */
-    boolean hasPos();
+    boolean hasChunkPos();
     /**
-     * <code>optional .Vector3iData pos = 1;</code>
+     * <code>optional .Vector3iData chunkPos = 1;</code>
      */
-    org.terasology.protobuf.NetData.Vector3iData getPos();
+    org.terasology.protobuf.NetData.Vector3iData getChunkPos();
     /**
-     * <code>optional .Vector3iData pos = 1;</code>
+     * <code>optional .Vector3iData chunkPos = 1;</code>
      */
-    org.terasology.protobuf.NetData.Vector3iDataOrBuilder getPosOrBuilder();
+    org.terasology.protobuf.NetData.Vector3iDataOrBuilder getChunkPosOrBuilder();
 
     /**
-     * <code>optional int32 newBiome = 2;</code>
+     * <code>repeated int32 blockIndexDelta = 2 [packed = true];</code>
      */
-    boolean hasNewBiome();
+    java.util.List<java.lang.Integer> getBlockIndexDeltaList();
     /**
-     * <code>optional int32 newBiome = 2;</code>
+     * <code>repeated int32 blockIndexDelta = 2 [packed = true];</code>
      */
-    int getNewBiome();
+    int getBlockIndexDeltaCount();
+    /**
+     * <code>repeated int32 blockIndexDelta = 2 [packed = true];</code>
+     */
+    int getBlockIndexDelta(int index);
+
+    /**
+     * <code>repeated int32 runLength = 3 [packed = true];</code>
+     */
+    java.util.List<java.lang.Integer> getRunLengthList();
+    /**
+     * <code>repeated int32 runLength = 3 [packed = true];</code>
+     */
+    int getRunLengthCount();
+    /**
+     * <code>repeated int32 runLength = 3 [packed = true];</code>
+     */
+    int getRunLength(int index);
+
+    /**
+     * <code>repeated int32 newBiome = 4 [packed = true];</code>
+     */
+    java.util.List<java.lang.Integer> getNewBiomeList();
+    /**
+     * <code>repeated int32 newBiome = 4 [packed = true];</code>
+     */
+    int getNewBiomeCount();
+    /**
+     * <code>repeated int32 newBiome = 4 [packed = true];</code>
+     */
+    int getNewBiome(int index);
   }
   /**
-   * Protobuf type {@code BiomeChangeMessage}
+   * Protobuf type {@code BiomeChangeBatchMessage}
+   *
+   * <pre>
+   * Biome changes within one chunk, encoded the same way as BiomeChangeBatchMessage.
+   * </pre>
    */
-  public static final class BiomeChangeMessage extends
+  public static final class BiomeChangeBatchMessage extends
       com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        BiomeChangeMessage> implements
-      // @@protoc_insertion_point(message_implements:BiomeChangeMessage)
-      BiomeChangeMessageOrBuilder {
-    // Use BiomeChangeMessage.newBuilder() to construct.
-    private BiomeChangeMessage(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.BiomeChangeMessage, ?> builder) {
+        BiomeChangeBatchMessage> implements
+      // @@protoc_insertion_point(message_implements:BiomeChangeBatchMessage)
+      BiomeChangeBatchMessageOrBuilder {
+    // Use BiomeChangeBatchMessage.newBuilder() to construct.
+    private BiomeChangeBatchMessage(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.BiomeChangeBatchMessage, ?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private BiomeChangeMessage(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private BiomeChangeBatchMessage(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final BiomeChangeMessage defaultInstance;
-    public static BiomeChangeMessage getDefaultInstance() {
+    private static final BiomeChangeBatchMessage defaultInstance;
+    public static BiomeChangeBatchMessage getDefaultInstance() {
       return defaultInstance;
     }
 
-    public BiomeChangeMessage getDefaultInstanceForType() {
+    public BiomeChangeBatchMessage getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -11450,7 +13859,7 @@ public BiomeChangeMessage getDefaultInstanceForType() {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private BiomeChangeMessage(
+    private BiomeChangeBatchMessage(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -11476,19 +13885,77 @@ private BiomeChangeMessage(
             case 10: {
               org.terasology.protobuf.NetData.Vector3iData.Builder subBuilder = null;
               if (((bitField0_ & 0x00000001) == 0x00000001)) {
-                subBuilder = pos_.toBuilder();
+                subBuilder = chunkPos_.toBuilder();
               }
-              pos_ = input.readMessage(org.terasology.protobuf.NetData.Vector3iData.PARSER, extensionRegistry);
+              chunkPos_ = input.readMessage(org.terasology.protobuf.NetData.Vector3iData.PARSER, extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(pos_);
-                pos_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom(chunkPos_);
+                chunkPos_ = subBuilder.buildPartial();
               }
               bitField0_ |= 0x00000001;
               break;
             }
             case 16: {
-              bitField0_ |= 0x00000002;
-              newBiome_ = input.readInt32();
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                blockIndexDelta_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              blockIndexDelta_.add(input.readInt32());
+              break;
+            }
+            case 18: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002) && input.getBytesUntilLimit() > 0) {
+                blockIndexDelta_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                blockIndexDelta_.add(input.readInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 24: {
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                runLength_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              runLength_.add(input.readInt32());
+              break;
+            }
+            case 26: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004) && input.getBytesUntilLimit() > 0) {
+                runLength_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                runLength_.add(input.readInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 32: {
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                newBiome_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              newBiome_.add(input.readInt32());
+              break;
+            }
+            case 34: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008) && input.getBytesUntilLimit() > 0) {
+                newBiome_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                newBiome_.add(input.readInt32());
+              }
+              input.popLimit(limit);
               break;
             }
           }
@@ -11499,77 +13966,142 @@ private BiomeChangeMessage(
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          blockIndexDelta_ = java.util.Collections.unmodifiableList(blockIndexDelta_);
+        }
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          runLength_ = java.util.Collections.unmodifiableList(runLength_);
+        }
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          newBiome_ = java.util.Collections.unmodifiableList(newBiome_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.terasology.protobuf.NetData.internal_static_BiomeChangeMessage_descriptor;
+      return org.terasology.protobuf.NetData.internal_static_BiomeChangeBatchMessage_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.terasology.protobuf.NetData.internal_static_BiomeChangeMessage_fieldAccessorTable
+      return org.terasology.protobuf.NetData.internal_static_BiomeChangeBatchMessage_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.terasology.protobuf.NetData.BiomeChangeMessage.class, org.terasology.protobuf.NetData.BiomeChangeMessage.Builder.class);
+              org.terasology.protobuf.NetData.BiomeChangeBatchMessage.class, org.terasology.protobuf.NetData.BiomeChangeBatchMessage.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<BiomeChangeMessage> PARSER =
-        new com.google.protobuf.AbstractParser<BiomeChangeMessage>() {
-      public BiomeChangeMessage parsePartialFrom(
+    public static com.google.protobuf.Parser<BiomeChangeBatchMessage> PARSER =
+        new com.google.protobuf.AbstractParser<BiomeChangeBatchMessage>() {
+      public BiomeChangeBatchMessage parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new BiomeChangeMessage(input, extensionRegistry);
+        return new BiomeChangeBatchMessage(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<BiomeChangeMessage> getParserForType() {
+    public com.google.protobuf.Parser<BiomeChangeBatchMessage> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    public static final int POS_FIELD_NUMBER = 1;
-    private org.terasology.protobuf.NetData.Vector3iData pos_;
+    public static final int CHUNKPOS_FIELD_NUMBER = 1;
+    private org.terasology.protobuf.NetData.Vector3iData chunkPos_;
     /**
-     * <code>optional .Vector3iData pos = 1;</code>
+     * <code>optional .Vector3iData chunkPos = 1;</code>
      */
-    public boolean hasPos() {
+    public boolean hasChunkPos() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>optional .Vector3iData pos = 1;</code>
+     * <code>optional .Vector3iData chunkPos = 1;</code>
      */
-    public org.terasology.protobuf.NetData.Vector3iData getPos() {
-      return pos_;
+    public org.terasology.protobuf.NetData.Vector3iData getChunkPos() {
+      return chunkPos_;
     }
     /**
-     * <code>optional .Vector3iData pos = 1;</code>
+     * <code>optional .Vector3iData chunkPos = 1;</code>
      */
-    public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getPosOrBuilder() {
-      return pos_;
+    public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getChunkPosOrBuilder() {
+      return chunkPos_;
     }
 
-    public static final int NEWBIOME_FIELD_NUMBER = 2;
-    private int newBiome_;
+    public static final int BLOCKINDEXDELTA_FIELD_NUMBER = 2;
+    private java.util.List<java.lang.Integer> blockIndexDelta_;
     /**
-     * <code>optional int32 newBiome = 2;</code>
+     * <code>repeated int32 blockIndexDelta = 2 [packed = true];</code>
      */
-    public boolean hasNewBiome() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+    public java.util.List<java.lang.Integer>
+        getBlockIndexDeltaList() {
+      return blockIndexDelta_;
     }
     /**
-     * <code>optional int32 newBiome = 2;</code>
+     * <code>repeated int32 blockIndexDelta = 2 [packed = true];</code>
      */
-    public int getNewBiome() {
+    public int getBlockIndexDeltaCount() {
+      return blockIndexDelta_.size();
+    }
+    /**
+     * <code>repeated int32 blockIndexDelta = 2 [packed = true];</code>
+     */
+    public int getBlockIndexDelta(int index) {
+      return blockIndexDelta_.get(index);
+    }
+    private int blockIndexDeltaMemoizedSerializedSize = -1;
+
+    public static final int RUNLENGTH_FIELD_NUMBER = 3;
+    private java.util.List<java.lang.Integer> runLength_;
+    /**
+     * <code>repeated int32 runLength = 3 [packed = true];</code>
+     */
+    public java.util.List<java.lang.Integer>
+        getRunLengthList() {
+      return runLength_;
+    }
+    /**
+     * <code>repeated int32 runLength = 3 [packed = true];</code>
+     */
+    public int getRunLengthCount() {
+      return runLength_.size();
+    }
+    /**
+     * <code>repeated int32 runLength = 3 [packed = true];</code>
+     */
+    public int getRunLength(int index) {
+      return runLength_.get(index);
+    }
+    private int runLengthMemoizedSerializedSize = -1;
+
+    public static final int NEWBIOME_FIELD_NUMBER = 4;
+    private java.util.List<java.lang.Integer> newBiome_;
+    /**
+     * <code>repeated int32 newBiome = 4 [packed = true];</code>
+     */
+    public java.util.List<java.lang.Integer>
+        getNewBiomeList() {
       return newBiome_;
     }
+    /**
+     * <code>repeated int32 newBiome = 4 [packed = true];</code>
+     */
+    public int getNewBiomeCount() {
+      return newBiome_.size();
+    }
+    /**
+     * <code>repeated int32 newBiome = 4 [packed = true];</code>
+     */
+    public int getNewBiome(int index) {
+      return newBiome_.get(index);
+    }
+    private int newBiomeMemoizedSerializedSize = -1;
 
     private void initFields() {
-      pos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
-      newBiome_ = 0;
+      chunkPos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
+      blockIndexDelta_ = java.util.Collections.emptyList();
+      runLength_ = java.util.Collections.emptyList();
+      newBiome_ = java.util.Collections.emptyList();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -11589,13 +14121,31 @@ public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       getSerializedSize();
       com.google.protobuf.GeneratedMessage
-        .ExtendableMessage<org.terasology.protobuf.NetData.BiomeChangeMessage>.ExtensionWriter extensionWriter =
+        .ExtendableMessage<org.terasology.protobuf.NetData.BiomeChangeBatchMessage>.ExtensionWriter extensionWriter =
           newExtensionWriter();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeMessage(1, pos_);
+        output.writeMessage(1, chunkPos_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeInt32(2, newBiome_);
+      if (getBlockIndexDeltaList().size() > 0) {
+        output.writeRawVarint32(18);
+        output.writeRawVarint32(blockIndexDeltaMemoizedSerializedSize);
+      }
+      for (int i = 0; i < blockIndexDelta_.size(); i++) {
+        output.writeInt32NoTag(blockIndexDelta_.get(i));
+      }
+      if (getRunLengthList().size() > 0) {
+        output.writeRawVarint32(26);
+        output.writeRawVarint32(runLengthMemoizedSerializedSize);
+      }
+      for (int i = 0; i < runLength_.size(); i++) {
+        output.writeInt32NoTag(runLength_.get(i));
+      }
+      if (getNewBiomeList().size() > 0) {
+        output.writeRawVarint32(34);
+        output.writeRawVarint32(newBiomeMemoizedSerializedSize);
+      }
+      for (int i = 0; i < newBiome_.size(); i++) {
+        output.writeInt32NoTag(newBiome_.get(i));
       }
       extensionWriter.writeUntil(536870912, output);
       getUnknownFields().writeTo(output);
@@ -11609,11 +14159,49 @@ public int getSerializedSize() {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, pos_);
+          .computeMessageSize(1, chunkPos_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(2, newBiome_);
+      {
+        int dataSize = 0;
+        for (int i = 0; i < blockIndexDelta_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(blockIndexDelta_.get(i));
+        }
+        size += dataSize;
+        if (!getBlockIndexDeltaList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        blockIndexDeltaMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < runLength_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(runLength_.get(i));
+        }
+        size += dataSize;
+        if (!getRunLengthList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        runLengthMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < newBiome_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(newBiome_.get(i));
+        }
+        size += dataSize;
+        if (!getNewBiomeList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        newBiomeMemoizedSerializedSize = dataSize;
       }
       size += extensionsSerializedSize();
       size += getUnknownFields().getSerializedSize();
@@ -11628,53 +14216,53 @@ protected java.lang.Object writeReplace()
       return super.writeReplace();
     }
 
-    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseFrom(
+    public static org.terasology.protobuf.NetData.BiomeChangeBatchMessage parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseFrom(
+    public static org.terasology.protobuf.NetData.BiomeChangeBatchMessage parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseFrom(byte[] data)
+    public static org.terasology.protobuf.NetData.BiomeChangeBatchMessage parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseFrom(
+    public static org.terasology.protobuf.NetData.BiomeChangeBatchMessage parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseFrom(java.io.InputStream input)
+    public static org.terasology.protobuf.NetData.BiomeChangeBatchMessage parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseFrom(
+    public static org.terasology.protobuf.NetData.BiomeChangeBatchMessage parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseDelimitedFrom(java.io.InputStream input)
+    public static org.terasology.protobuf.NetData.BiomeChangeBatchMessage parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseDelimitedFrom(
+    public static org.terasology.protobuf.NetData.BiomeChangeBatchMessage parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseFrom(
+    public static org.terasology.protobuf.NetData.BiomeChangeBatchMessage parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseFrom(
+    public static org.terasology.protobuf.NetData.BiomeChangeBatchMessage parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -11683,7 +14271,7 @@ public static org.terasology.protobuf.NetData.BiomeChangeMessage parseFrom(
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.terasology.protobuf.NetData.BiomeChangeMessage prototype) {
+    public static Builder newBuilder(org.terasology.protobuf.NetData.BiomeChangeBatchMessage prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -11695,26 +14283,31 @@ protected Builder newBuilderForType(
       return builder;
     }
     /**
-     * Protobuf type {@code BiomeChangeMessage}
+     * Protobuf type {@code BiomeChangeBatchMessage}
+     *
+     * <pre>
+     * Block changes within one chunk. The chunk relative block indices are sorted, the first being absolute and the
+     * rest stored as the gap to the previous one. The new block ids are run length encoded over those indices.
+     * </pre>
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.BiomeChangeMessage, Builder> implements
-        // @@protoc_insertion_point(builder_implements:BiomeChangeMessage)
-        org.terasology.protobuf.NetData.BiomeChangeMessageOrBuilder {
+          org.terasology.protobuf.NetData.BiomeChangeBatchMessage, Builder> implements
+        // @@protoc_insertion_point(builder_implements:BiomeChangeBatchMessage)
+        org.terasology.protobuf.NetData.BiomeChangeBatchMessageOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.terasology.protobuf.NetData.internal_static_BiomeChangeMessage_descriptor;
+        return org.terasology.protobuf.NetData.internal_static_BiomeChangeBatchMessage_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.terasology.protobuf.NetData.internal_static_BiomeChangeMessage_fieldAccessorTable
+        return org.terasology.protobuf.NetData.internal_static_BiomeChangeBatchMessage_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.terasology.protobuf.NetData.BiomeChangeMessage.class, org.terasology.protobuf.NetData.BiomeChangeMessage.Builder.class);
+                org.terasology.protobuf.NetData.BiomeChangeBatchMessage.class, org.terasology.protobuf.NetData.BiomeChangeBatchMessage.Builder.class);
       }
 
-      // Construct using org.terasology.protobuf.NetData.BiomeChangeMessage.newBuilder()
+      // Construct using org.terasology.protobuf.NetData.BiomeChangeBatchMessage.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -11726,7 +14319,7 @@ private Builder(
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getPosFieldBuilder();
+          getChunkPosFieldBuilder();
         }
       }
       private static Builder create() {
@@ -11735,14 +14328,18 @@ private static Builder create() {
 
       public Builder clear() {
         super.clear();
-        if (posBuilder_ == null) {
-          pos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
+        if (chunkPosBuilder_ == null) {
+          chunkPos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
         } else {
-          posBuilder_.clear();
+          chunkPosBuilder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00000001);
-        newBiome_ = 0;
+        blockIndexDelta_ = java.util.Collections.emptyList();
         bitField0_ = (bitField0_ & ~0x00000002);
+        runLength_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        newBiome_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
 
@@ -11752,35 +14349,46 @@ public Builder clone() {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.terasology.protobuf.NetData.internal_static_BiomeChangeMessage_descriptor;
+        return org.terasology.protobuf.NetData.internal_static_BiomeChangeBatchMessage_descriptor;
       }
 
-      public org.terasology.protobuf.NetData.BiomeChangeMessage getDefaultInstanceForType() {
-        return org.terasology.protobuf.NetData.BiomeChangeMessage.getDefaultInstance();
+      public org.terasology.protobuf.NetData.BiomeChangeBatchMessage getDefaultInstanceForType() {
+        return org.terasology.protobuf.NetData.BiomeChangeBatchMessage.getDefaultInstance();
       }
 
-      public org.terasology.protobuf.NetData.BiomeChangeMessage build() {
-        org.terasology.protobuf.NetData.BiomeChangeMessage result = buildPartial();
+      public org.terasology.protobuf.NetData.BiomeChangeBatchMessage build() {
+        org.terasology.protobuf.NetData.BiomeChangeBatchMessage result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.terasology.protobuf.NetData.BiomeChangeMessage buildPartial() {
-        org.terasology.protobuf.NetData.BiomeChangeMessage result = new org.terasology.protobuf.NetData.BiomeChangeMessage(this);
+      public org.terasology.protobuf.NetData.BiomeChangeBatchMessage buildPartial() {
+        org.terasology.protobuf.NetData.BiomeChangeBatchMessage result = new org.terasology.protobuf.NetData.BiomeChangeBatchMessage(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        if (posBuilder_ == null) {
-          result.pos_ = pos_;
+        if (chunkPosBuilder_ == null) {
+          result.chunkPos_ = chunkPos_;
         } else {
-          result.pos_ = posBuilder_.build();
+          result.chunkPos_ = chunkPosBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-          to_bitField0_ |= 0x00000002;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          blockIndexDelta_ = java.util.Collections.unmodifiableList(blockIndexDelta_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.blockIndexDelta_ = blockIndexDelta_;
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          runLength_ = java.util.Collections.unmodifiableList(runLength_);
+          bitField0_ = (bitField0_ & ~0x00000004);
+        }
+        result.runLength_ = runLength_;
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          newBiome_ = java.util.Collections.unmodifiableList(newBiome_);
+          bitField0_ = (bitField0_ & ~0x00000008);
         }
         result.newBiome_ = newBiome_;
         result.bitField0_ = to_bitField0_;
@@ -11789,21 +14397,48 @@ public org.terasology.protobuf.NetData.BiomeChangeMessage buildPartial() {
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.terasology.protobuf.NetData.BiomeChangeMessage) {
-          return mergeFrom((org.terasology.protobuf.NetData.BiomeChangeMessage)other);
+        if (other instanceof org.terasology.protobuf.NetData.BiomeChangeBatchMessage) {
+          return mergeFrom((org.terasology.protobuf.NetData.BiomeChangeBatchMessage)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.terasology.protobuf.NetData.BiomeChangeMessage other) {
-        if (other == org.terasology.protobuf.NetData.BiomeChangeMessage.getDefaultInstance()) return this;
-        if (other.hasPos()) {
-          mergePos(other.getPos());
+      public Builder mergeFrom(org.terasology.protobuf.NetData.BiomeChangeBatchMessage other) {
+        if (other == org.terasology.protobuf.NetData.BiomeChangeBatchMessage.getDefaultInstance()) return this;
+        if (other.hasChunkPos()) {
+          mergeChunkPos(other.getChunkPos());
         }
-        if (other.hasNewBiome()) {
-          setNewBiome(other.getNewBiome());
+        if (!other.blockIndexDelta_.isEmpty()) {
+          if (blockIndexDelta_.isEmpty()) {
+            blockIndexDelta_ = other.blockIndexDelta_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureBlockIndexDeltaIsMutable();
+            blockIndexDelta_.addAll(other.blockIndexDelta_);
+          }
+          onChanged();
+        }
+        if (!other.runLength_.isEmpty()) {
+          if (runLength_.isEmpty()) {
+            runLength_ = other.runLength_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+          } else {
+            ensureRunLengthIsMutable();
+            runLength_.addAll(other.runLength_);
+          }
+          onChanged();
+        }
+        if (!other.newBiome_.isEmpty()) {
+          if (newBiome_.isEmpty()) {
+            newBiome_ = other.newBiome_;
+            bitField0_ = (bitField0_ & ~0x00000008);
+          } else {
+            ensureNewBiomeIsMutable();
+            newBiome_.addAll(other.newBiome_);
+          }
+          onChanged();
         }
         this.mergeExtensionFields(other);
         this.mergeUnknownFields(other.getUnknownFields());
@@ -11822,11 +14457,11 @@ public Builder mergeFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.terasology.protobuf.NetData.BiomeChangeMessage parsedMessage = null;
+        org.terasology.protobuf.NetData.BiomeChangeBatchMessage parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.terasology.protobuf.NetData.BiomeChangeMessage) e.getUnfinishedMessage();
+          parsedMessage = (org.terasology.protobuf.NetData.BiomeChangeBatchMessage) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -11837,163 +14472,329 @@ public Builder mergeFrom(
       }
       private int bitField0_;
 
-      private org.terasology.protobuf.NetData.Vector3iData pos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
+      private org.terasology.protobuf.NetData.Vector3iData chunkPos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
       private com.google.protobuf.SingleFieldBuilder<
-          org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder> posBuilder_;
+          org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder> chunkPosBuilder_;
       /**
-       * <code>optional .Vector3iData pos = 1;</code>
+       * <code>optional .Vector3iData chunkPos = 1;</code>
        */
-      public boolean hasPos() {
+      public boolean hasChunkPos() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>optional .Vector3iData pos = 1;</code>
+       * <code>optional .Vector3iData chunkPos = 1;</code>
        */
-      public org.terasology.protobuf.NetData.Vector3iData getPos() {
-        if (posBuilder_ == null) {
-          return pos_;
+      public org.terasology.protobuf.NetData.Vector3iData getChunkPos() {
+        if (chunkPosBuilder_ == null) {
+          return chunkPos_;
         } else {
-          return posBuilder_.getMessage();
+          return chunkPosBuilder_.getMessage();
         }
       }
       /**
-       * <code>optional .Vector3iData pos = 1;</code>
+       * <code>optional .Vector3iData chunkPos = 1;</code>
        */
-      public Builder setPos(org.terasology.protobuf.NetData.Vector3iData value) {
-        if (posBuilder_ == null) {
+      public Builder setChunkPos(org.terasology.protobuf.NetData.Vector3iData value) {
+        if (chunkPosBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          pos_ = value;
+          chunkPos_ = value;
           onChanged();
         } else {
-          posBuilder_.setMessage(value);
+          chunkPosBuilder_.setMessage(value);
         }
         bitField0_ |= 0x00000001;
         return this;
       }
       /**
-       * <code>optional .Vector3iData pos = 1;</code>
+       * <code>optional .Vector3iData chunkPos = 1;</code>
        */
-      public Builder setPos(
+      public Builder setChunkPos(
           org.terasology.protobuf.NetData.Vector3iData.Builder builderForValue) {
-        if (posBuilder_ == null) {
-          pos_ = builderForValue.build();
+        if (chunkPosBuilder_ == null) {
+          chunkPos_ = builderForValue.build();
           onChanged();
         } else {
-          posBuilder_.setMessage(builderForValue.build());
+          chunkPosBuilder_.setMessage(builderForValue.build());
         }
         bitField0_ |= 0x00000001;
         return this;
       }
       /**
-       * <code>optional .Vector3iData pos = 1;</code>
+       * <code>optional .Vector3iData chunkPos = 1;</code>
        */
-      public Builder mergePos(org.terasology.protobuf.NetData.Vector3iData value) {
-        if (posBuilder_ == null) {
+      public Builder mergeChunkPos(org.terasology.protobuf.NetData.Vector3iData value) {
+        if (chunkPosBuilder_ == null) {
           if (((bitField0_ & 0x00000001) == 0x00000001) &&
-              pos_ != org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance()) {
-            pos_ =
-              org.terasology.protobuf.NetData.Vector3iData.newBuilder(pos_).mergeFrom(value).buildPartial();
+              chunkPos_ != org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance()) {
+            chunkPos_ =
+              org.terasology.protobuf.NetData.Vector3iData.newBuilder(chunkPos_).mergeFrom(value).buildPartial();
           } else {
-            pos_ = value;
+            chunkPos_ = value;
           }
           onChanged();
         } else {
-          posBuilder_.mergeFrom(value);
+          chunkPosBuilder_.mergeFrom(value);
         }
         bitField0_ |= 0x00000001;
         return this;
       }
       /**
-       * <code>optional .Vector3iData pos = 1;</code>
+       * <code>optional .Vector3iData chunkPos = 1;</code>
        */
-      public Builder clearPos() {
-        if (posBuilder_ == null) {
-          pos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
+      public Builder clearChunkPos() {
+        if (chunkPosBuilder_ == null) {
+          chunkPos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
           onChanged();
         } else {
-          posBuilder_.clear();
+          chunkPosBuilder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
       /**
-       * <code>optional .Vector3iData pos = 1;</code>
+       * <code>optional .Vector3iData chunkPos = 1;</code>
        */
-      public org.terasology.protobuf.NetData.Vector3iData.Builder getPosBuilder() {
+      public org.terasology.protobuf.NetData.Vector3iData.Builder getChunkPosBuilder() {
         bitField0_ |= 0x00000001;
         onChanged();
-        return getPosFieldBuilder().getBuilder();
+        return getChunkPosFieldBuilder().getBuilder();
       }
       /**
-       * <code>optional .Vector3iData pos = 1;</code>
+       * <code>optional .Vector3iData chunkPos = 1;</code>
        */
-      public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getPosOrBuilder() {
-        if (posBuilder_ != null) {
-          return posBuilder_.getMessageOrBuilder();
+      public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getChunkPosOrBuilder() {
+        if (chunkPosBuilder_ != null) {
+          return chunkPosBuilder_.getMessageOrBuilder();
         } else {
-          return pos_;
+          return chunkPos_;
         }
       }
       /**
-       * <code>optional .Vector3iData pos = 1;</code>
+       * <code>optional .Vector3iData chunkPos = 1;</code>
        */
       private com.google.protobuf.SingleFieldBuilder<
           org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder> 
-          getPosFieldBuilder() {
-        if (posBuilder_ == null) {
-          posBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+          getChunkPosFieldBuilder() {
+        if (chunkPosBuilder_ == null) {
+          chunkPosBuilder_ = new com.google.protobuf.SingleFieldBuilder<
               org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder>(
-                  getPos(),
+                  getChunkPos(),
                   getParentForChildren(),
                   isClean());
-          pos_ = null;
+          chunkPos_ = null;
         }
-        return posBuilder_;
+        return chunkPosBuilder_;
       }
 
-      private int newBiome_ ;
+      private java.util.List<java.lang.Integer> blockIndexDelta_ = java.util.Collections.emptyList();
+      private void ensureBlockIndexDeltaIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          blockIndexDelta_ = new java.util.ArrayList<java.lang.Integer>(blockIndexDelta_);
+          bitField0_ |= 0x00000002;
+         }
+      }
       /**
-       * <code>optional int32 newBiome = 2;</code>
+       * <code>repeated int32 blockIndexDelta = 2 [packed = true];</code>
        */
-      public boolean hasNewBiome() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+      public java.util.List<java.lang.Integer>
+          getBlockIndexDeltaList() {
+        return java.util.Collections.unmodifiableList(blockIndexDelta_);
       }
       /**
-       * <code>optional int32 newBiome = 2;</code>
+       * <code>repeated int32 blockIndexDelta = 2 [packed = true];</code>
        */
-      public int getNewBiome() {
-        return newBiome_;
+      public int getBlockIndexDeltaCount() {
+        return blockIndexDelta_.size();
       }
       /**
-       * <code>optional int32 newBiome = 2;</code>
+       * <code>repeated int32 blockIndexDelta = 2 [packed = true];</code>
        */
-      public Builder setNewBiome(int value) {
-        bitField0_ |= 0x00000002;
-        newBiome_ = value;
+      public int getBlockIndexDelta(int index) {
+        return blockIndexDelta_.get(index);
+      }
+      /**
+       * <code>repeated int32 blockIndexDelta = 2 [packed = true];</code>
+       */
+      public Builder setBlockIndexDelta(
+          int index, int value) {
+        ensureBlockIndexDeltaIsMutable();
+        blockIndexDelta_.set(index, value);
         onChanged();
         return this;
       }
       /**
-       * <code>optional int32 newBiome = 2;</code>
+       * <code>repeated int32 blockIndexDelta = 2 [packed = true];</code>
        */
-      public Builder clearNewBiome() {
+      public Builder addBlockIndexDelta(int value) {
+        ensureBlockIndexDeltaIsMutable();
+        blockIndexDelta_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 blockIndexDelta = 2 [packed = true];</code>
+       */
+      public Builder addAllBlockIndexDelta(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureBlockIndexDeltaIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, blockIndexDelta_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 blockIndexDelta = 2 [packed = true];</code>
+       */
+      public Builder clearBlockIndexDelta() {
+        blockIndexDelta_ = java.util.Collections.emptyList();
         bitField0_ = (bitField0_ & ~0x00000002);
-        newBiome_ = 0;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:BiomeChangeMessage)
+      private java.util.List<java.lang.Integer> runLength_ = java.util.Collections.emptyList();
+      private void ensureRunLengthIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          runLength_ = new java.util.ArrayList<java.lang.Integer>(runLength_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+      /**
+       * <code>repeated int32 runLength = 3 [packed = true];</code>
+       */
+      public java.util.List<java.lang.Integer>
+          getRunLengthList() {
+        return java.util.Collections.unmodifiableList(runLength_);
+      }
+      /**
+       * <code>repeated int32 runLength = 3 [packed = true];</code>
+       */
+      public int getRunLengthCount() {
+        return runLength_.size();
+      }
+      /**
+       * <code>repeated int32 runLength = 3 [packed = true];</code>
+       */
+      public int getRunLength(int index) {
+        return runLength_.get(index);
+      }
+      /**
+       * <code>repeated int32 runLength = 3 [packed = true];</code>
+       */
+      public Builder setRunLength(
+          int index, int value) {
+        ensureRunLengthIsMutable();
+        runLength_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 runLength = 3 [packed = true];</code>
+       */
+      public Builder addRunLength(int value) {
+        ensureRunLengthIsMutable();
+        runLength_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 runLength = 3 [packed = true];</code>
+       */
+      public Builder addAllRunLength(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureRunLengthIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, runLength_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 runLength = 3 [packed = true];</code>
+       */
+      public Builder clearRunLength() {
+        runLength_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<java.lang.Integer> newBiome_ = java.util.Collections.emptyList();
+      private void ensureNewBiomeIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          newBiome_ = new java.util.ArrayList<java.lang.Integer>(newBiome_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+      /**
+       * <code>repeated int32 newBiome = 4 [packed = true];</code>
+       */
+      public java.util.List<java.lang.Integer>
+          getNewBiomeList() {
+        return java.util.Collections.unmodifiableList(newBiome_);
+      }
+      /**
+       * <code>repeated int32 newBiome = 4 [packed = true];</code>
+       */
+      public int getNewBiomeCount() {
+        return newBiome_.size();
+      }
+      /**
+       * <code>repeated int32 newBiome = 4 [packed = true];</code>
+       */
+      public int getNewBiome(int index) {
+        return newBiome_.get(index);
+      }
+      /**
+       * <code>repeated int32 newBiome = 4 [packed = true];</code>
+       */
+      public Builder setNewBiome(
+          int index, int value) {
+        ensureNewBiomeIsMutable();
+        newBiome_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 newBiome = 4 [packed = true];</code>
+       */
+      public Builder addNewBiome(int value) {
+        ensureNewBiomeIsMutable();
+        newBiome_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 newBiome = 4 [packed = true];</code>
+       */
+      public Builder addAllNewBiome(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureNewBiomeIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, newBiome_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 newBiome = 4 [packed = true];</code>
+       */
+      public Builder clearNewBiome() {
+        newBiome_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:BiomeChangeBatchMessage)
     }
 
     static {
-      defaultInstance = new BiomeChangeMessage(true);
+      defaultInstance = new BiomeChangeBatchMessage(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:BiomeChangeMessage)
+    // @@protoc_insertion_point(class_scope:BiomeChangeBatchMessage)
   }
 
   public interface Vector3iDataOrBuilder extends
@@ -25321,6 +28122,16 @@ public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getTargetBlockPosOr
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_BiomeChangeMessage_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_BlockChangeBatchMessage_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_BlockChangeBatchMessage_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_BiomeChangeBatchMessage_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_BiomeChangeBatchMessage_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_Vector3iData_descriptor;
   private static
@@ -25415,7 +28226,7 @@ public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getTargetBlockPosOr
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n\020NetMessage.proto\032\020EntityData.proto\"\377\006\n" +
+      "\n\020NetMessage.proto\032\020EntityData.proto\"\347\007\n" +
       "\nNetMessage\022\036\n\tchunkInfo\030\002 \003(\0132\013.ChunkSt" +
       "ore\0220\n\017invalidateChunk\030\003 \003(\0132\027.Invalidat" +
       "eChunkMessage\022(\n\013blockChange\030\004 \003(\0132\023.Blo" +
@@ -25433,69 +28244,79 @@ public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getTargetBlockPosOr
       "leRequest\022+\n\020moduleDataHeader\030\024 \001(\0132\021.Mo" +
       "duleDataHeader\022\037\n\nmoduleData\030\025 \001(\0132\013.Mod" +
       "uleData\022*\n\014joinComplete\030\026 \001(\0132\024.JoinComp" +
-      "leteMessage\022\'\n\016handshakeHello\030d \001(\0132\017.Ha" +
-      "ndshakeHello\022/\n\022newIdentityRequest\030e \001(\013",
-      "2\023.NewIdentityRequest\022-\n\021provisionIdenti" +
-      "ty\030f \001(\0132\022.ProvisionIdentity\0225\n\025handshak" +
-      "eVerification\030g \001(\0132\026.HandshakeVerificat" +
-      "ion*\t\010\210\'\020\200\200\200\200\002\"a\n\016HandshakeHello\022\016\n\006rand" +
-      "om\030\001 \001(\014\022!\n\013certificate\030\002 \001(\0132\014.Certific" +
-      "ate\022\021\n\ttimestamp\030\003 \001(\022*\t\010\210\'\020\200\200\200\200\002\"H\n\022New" +
-      "IdentityRequest\022\027\n\017preMasterSecret\030\001 \001(\014" +
-      "\022\016\n\006random\030\002 \001(\014*\t\010\210\'\020\200\200\200\200\002\"=\n\021Provision" +
-      "Identity\022\035\n\025encryptedCertificates\030\001 \001(\014*" +
-      "\t\010\210\'\020\200\200\200\200\002\"]\n\016CertificateSet\022\'\n\021publicCe",
-      "rtificate\030\001 \001(\0132\014.Certificate\022\027\n\017private" +
-      "Exponent\030\002 \001(\014*\t\010\210\'\020\200\200\200\200\002\"5\n\025HandshakeVe" +
-      "rification\022\021\n\tsignature\030\001 \001(\014*\t\010\210\'\020\200\200\200\200\002" +
-      "\"Z\n\013Certificate\022\n\n\002id\030\001 \001(\t\022\017\n\007modulus\030\002" +
-      " \001(\014\022\020\n\010exponent\030\003 \001(\014\022\021\n\tsignature\030\004 \001(" +
-      "\014*\t\010\210\'\020\200\200\200\200\002\"L\n\034BlockFamilyRegisteredMes" +
-      "sage\022\020\n\010blockUri\030\001 \003(\t\022\017\n\007blockId\030\002 \003(\005*" +
-      "\t\010\210\'\020\200\200\200\200\002\"?\n\026InvalidateChunkMessage\022\032\n\003" +
-      "pos\030\001 \001(\0132\r.Vector3iData*\t\010\210\'\020\200\200\200\200\002\"M\n\022B" +
-      "lockChangeMessage\022\032\n\003pos\030\001 \001(\0132\r.Vector3",
-      "iData\022\020\n\010newBlock\030\002 \001(\005*\t\010\210\'\020\200\200\200\200\002\"M\n\022Bi" +
-      "omeChangeMessage\022\032\n\003pos\030\001 \001(\0132\r.Vector3i" +
-      "Data\022\020\n\010newBiome\030\002 \001(\005*\t\010\210\'\020\200\200\200\200\002\"/\n\014Vec" +
-      "tor3iData\022\t\n\001x\030\001 \001(\005\022\t\n\001y\030\002 \001(\005\022\t\n\001z\030\003 \001" +
-      "(\005\"\036\n\021ServerInfoRequest*\t\010\210\'\020\200\200\200\200\002\"i\n\013Jo" +
-      "inMessage\022\014\n\004name\030\001 \001(\t\022\017\n\007version\030\002 \001(\t" +
-      "\022\031\n\021viewDistanceLevel\030\003 \001(\021\022\025\n\005color\030\004 \001" +
-      "(\0132\006.Color*\t\010\210\'\020\200\200\200\200\002\"\025\n\005Color\022\014\n\004rgba\030\001" +
-      " \001(\r\"2\n\023JoinCompleteMessage\022\020\n\010clientId\030" +
-      "\001 \001(\005*\t\010\210\'\020\200\200\200\200\002\"\261\003\n\021ServerInfoMessage\022\033",
-      "\n\006module\030\001 \003(\0132\013.ModuleInfo\022\023\n\007blockId\030\002" +
-      " \003(\021B\002\020\001\022\021\n\tblockName\030\003 \003(\t\022%\n\tcomponent" +
-      "\030\004 \003(\0132\022.SerializationInfo\022!\n\005event\030\005 \003(" +
-      "\0132\022.SerializationInfo\022\023\n\007assetId\030\006 \003(\005B\002" +
-      "\020\001\022\020\n\010assetUri\030\007 \003(\t\022\033\n\023registerBlockFam" +
-      "ily\030\010 \003(\t\022\035\n\tworldInfo\030\t \003(\0132\n.WorldInfo" +
-      "\022\030\n\014biomeShortId\030\n \003(\021B\002\020\001\022\017\n\007biomeId\030\013 " +
-      "\003(\t\022\017\n\007version\030\017 \001(\t\022\020\n\010gameName\030\020 \001(\t\022\014" +
-      "\n\004time\030\021 \001(\003\022\030\n\020reflectionHeight\030\022 \001(\002\022\014" +
-      "\n\004MOTD\030\023 \001(\t\022\033\n\023onlinePlayersAmount\030\024 \001(",
-      "\005*\t\010\210\'\020\200\200\200\200\002\"3\n\tWorldInfo\022\r\n\005title\030\001 \001(\t" +
-      "\022\014\n\004time\030\002 \001(\003*\t\010\210\'\020\200\200\200\200\002\"]\n\021Serializati" +
-      "onInfo\022\014\n\004name\030\001 \001(\t\022\n\n\002id\030\002 \001(\005\022\021\n\tfiel" +
-      "dName\030\003 \003(\t\022\020\n\010fieldIds\030\004 \001(\014*\t\010\210\'\020\200\200\200\200\002" +
-      "\"@\n\nModuleInfo\022\020\n\010moduleId\030\001 \001(\t\022\025\n\rmodu" +
-      "leVersion\030\002 \001(\t*\t\010\210\'\020\200\200\200\200\002\",\n\rModuleRequ" +
-      "est\022\020\n\010moduleId\030\001 \001(\t*\t\010\210\'\020\200\200\200\200\002\"W\n\020Modu" +
-      "leDataHeader\022\n\n\002id\030\001 \001(\t\022\017\n\007version\030\002 \001(" +
-      "\t\022\014\n\004size\030\003 \001(\003\022\r\n\005error\030\017 \001(\t*\t\010\210\'\020\200\200\200\200" +
-      "\002\"\'\n\nModuleData\022\016\n\006module\030\001 \001(\014*\t\010\210\'\020\200\200\200",
-      "\200\002\"-\n\017ModuleSendError\022\017\n\007message\030\001 \001(\t*\t" +
-      "\010\210\'\020\200\200\200\200\002\"`\n\023CreateEntityMessage\022\035\n\006enti" +
-      "ty\030\001 \001(\0132\r.PackedEntity\022\037\n\010blockPos\030\002 \001(" +
-      "\0132\r.Vector3iData*\t\010\210\'\020\200\200\200\200\002\"N\n\023UpdateEnt" +
-      "ityMessage\022\035\n\006entity\030\001 \001(\0132\r.PackedEntit" +
-      "y\022\r\n\005netId\030\002 \001(\005*\t\010\210\'\020\200\200\200\200\002\"/\n\023RemoveEnt" +
-      "ityMessage\022\r\n\005netId\030\001 \001(\005*\t\010\210\'\020\200\200\200\200\002\"i\n\014" +
-      "EventMessage\022\020\n\010targetId\030\001 \001(\005\022\025\n\005event\030" +
-      "\002 \001(\0132\006.Event\022%\n\016targetBlockPos\030\003 \001(\0132\r." +
-      "Vector3iData*\t\010\210\'\020\200\200\200\200\002B$\n\027org.terasolog",
-      "y.protobufB\007NetDataH\001"
+      "leteMessage\0222\n\020blockChangeBatch\030\027 \003(\0132\030." +
+      "BlockChangeBatchMessage\0222\n\020biomeChangeBa",
+      "tch\030\030 \003(\0132\030.BiomeChangeBatchMessage\022\'\n\016h" +
+      "andshakeHello\030d \001(\0132\017.HandshakeHello\022/\n\022" +
+      "newIdentityRequest\030e \001(\0132\023.NewIdentityRe" +
+      "quest\022-\n\021provisionIdentity\030f \001(\0132\022.Provi" +
+      "sionIdentity\0225\n\025handshakeVerification\030g " +
+      "\001(\0132\026.HandshakeVerification*\t\010\210\'\020\200\200\200\200\002\"a" +
+      "\n\016HandshakeHello\022\016\n\006random\030\001 \001(\014\022!\n\013cert" +
+      "ificate\030\002 \001(\0132\014.Certificate\022\021\n\ttimestamp" +
+      "\030\003 \001(\022*\t\010\210\'\020\200\200\200\200\002\"H\n\022NewIdentityRequest\022" +
+      "\027\n\017preMasterSecret\030\001 \001(\014\022\016\n\006random\030\002 \001(\014",
+      "*\t\010\210\'\020\200\200\200\200\002\"=\n\021ProvisionIdentity\022\035\n\025encr" +
+      "yptedCertificates\030\001 \001(\014*\t\010\210\'\020\200\200\200\200\002\"]\n\016Ce" +
+      "rtificateSet\022\'\n\021publicCertificate\030\001 \001(\0132" +
+      "\014.Certificate\022\027\n\017privateExponent\030\002 \001(\014*\t" +
+      "\010\210\'\020\200\200\200\200\002\"5\n\025HandshakeVerification\022\021\n\tsi" +
+      "gnature\030\001 \001(\014*\t\010\210\'\020\200\200\200\200\002\"Z\n\013Certificate\022" +
+      "\n\n\002id\030\001 \001(\t\022\017\n\007modulus\030\002 \001(\014\022\020\n\010exponent" +
+      "\030\003 \001(\014\022\021\n\tsignature\030\004 \001(\014*\t\010\210\'\020\200\200\200\200\002\"L\n\034" +
+      "BlockFamilyRegisteredMessage\022\020\n\010blockUri" +
+      "\030\001 \003(\t\022\017\n\007blockId\030\002 \003(\005*\t\010\210\'\020\200\200\200\200\002\"?\n\026In",
+      "validateChunkMessage\022\032\n\003pos\030\001 \001(\0132\r.Vect" +
+      "or3iData*\t\010\210\'\020\200\200\200\200\002\"M\n\022BlockChangeMessag" +
+      "e\022\032\n\003pos\030\001 \001(\0132\r.Vector3iData\022\020\n\010newBloc" +
+      "k\030\002 \001(\005*\t\010\210\'\020\200\200\200\200\002\"M\n\022BiomeChangeMessage" +
+      "\022\032\n\003pos\030\001 \001(\0132\r.Vector3iData\022\020\n\010newBiome" +
+      "\030\002 \001(\005*\t\010\210\'\020\200\200\200\200\002\"\217\001\n\027BlockChangeBatchMe" +
+      "ssage\022\037\n\010chunkPos\030\001 \001(\0132\r.Vector3iData\022\033" +
+      "\n\017blockIndexDelta\030\002 \003(\005B\002\020\001\022\025\n\trunLength" +
+      "\030\003 \003(\005B\002\020\001\022\024\n\010newBlock\030\004 \003(\005B\002\020\001*\t\010\210\'\020\200\200" +
+      "\200\200\002\"\217\001\n\027BiomeChangeBatchMessage\022\037\n\010chunk",
+      "Pos\030\001 \001(\0132\r.Vector3iData\022\033\n\017blockIndexDe" +
+      "lta\030\002 \003(\005B\002\020\001\022\025\n\trunLength\030\003 \003(\005B\002\020\001\022\024\n\010" +
+      "newBiome\030\004 \003(\005B\002\020\001*\t\010\210\'\020\200\200\200\200\002\"/\n\014Vector3" +
+      "iData\022\t\n\001x\030\001 \001(\005\022\t\n\001y\030\002 \001(\005\022\t\n\001z\030\003 \001(\005\"\036" +
+      "\n\021ServerInfoRequest*\t\010\210\'\020\200\200\200\200\002\"i\n\013JoinMe" +
+      "ssage\022\014\n\004name\030\001 \001(\t\022\017\n\007version\030\002 \001(\t\022\031\n\021" +
+      "viewDistanceLevel\030\003 \001(\021\022\025\n\005color\030\004 \001(\0132\006" +
+      ".Color*\t\010\210\'\020\200\200\200\200\002\"\025\n\005Color\022\014\n\004rgba\030\001 \001(\r" +
+      "\"2\n\023JoinCompleteMessage\022\020\n\010clientId\030\001 \001(" +
+      "\005*\t\010\210\'\020\200\200\200\200\002\"\261\003\n\021ServerInfoMessage\022\033\n\006mo",
+      "dule\030\001 \003(\0132\013.ModuleInfo\022\023\n\007blockId\030\002 \003(\021" +
+      "B\002\020\001\022\021\n\tblockName\030\003 \003(\t\022%\n\tcomponent\030\004 \003" +
+      "(\0132\022.SerializationInfo\022!\n\005event\030\005 \003(\0132\022." +
+      "SerializationInfo\022\023\n\007assetId\030\006 \003(\005B\002\020\001\022\020" +
+      "\n\010assetUri\030\007 \003(\t\022\033\n\023registerBlockFamily\030" +
+      "\010 \003(\t\022\035\n\tworldInfo\030\t \003(\0132\n.WorldInfo\022\030\n\014" +
+      "biomeShortId\030\n \003(\021B\002\020\001\022\017\n\007biomeId\030\013 \003(\t\022" +
+      "\017\n\007version\030\017 \001(\t\022\020\n\010gameName\030\020 \001(\t\022\014\n\004ti" +
+      "me\030\021 \001(\003\022\030\n\020reflectionHeight\030\022 \001(\002\022\014\n\004MO" +
+      "TD\030\023 \001(\t\022\033\n\023onlinePlayersAmount\030\024 \001(\005*\t\010",
+      "\210\'\020\200\200\200\200\002\"3\n\tWorldInfo\022\r\n\005title\030\001 \001(\t\022\014\n\004" +
+      "time\030\002 \001(\003*\t\010\210\'\020\200\200\200\200\002\"]\n\021SerializationIn" +
+      "fo\022\014\n\004name\030\001 \001(\t\022\n\n\002id\030\002 \001(\005\022\021\n\tfieldNam" +
+      "e\030\003 \003(\t\022\020\n\010fieldIds\030\004 \001(\014*\t\010\210\'\020\200\200\200\200\002\"@\n\n" +
+      "ModuleInfo\022\020\n\010moduleId\030\001 \001(\t\022\025\n\rmoduleVe" +
+      "rsion\030\002 \001(\t*\t\010\210\'\020\200\200\200\200\002\",\n\rModuleRequest\022" +
+      "\020\n\010moduleId\030\001 \001(\t*\t\010\210\'\020\200\200\200\200\002\"W\n\020ModuleDa" +
+      "taHeader\022\n\n\002id\030\001 \001(\t\022\017\n\007version\030\002 \001(\t\022\014\n" +
+      "\004size\030\003 \001(\003\022\r\n\005error\030\017 \001(\t*\t\010\210\'\020\200\200\200\200\002\"\'\n" +
+      "\nModuleData\022\016\n\006module\030\001 \001(\014*\t\010\210\'\020\200\200\200\200\002\"-",
+      "\n\017ModuleSendError\022\017\n\007message\030\001 \001(\t*\t\010\210\'\020" +
+      "\200\200\200\200\002\"`\n\023CreateEntityMessage\022\035\n\006entity\030\001" +
+      " \001(\0132\r.PackedEntity\022\037\n\010blockPos\030\002 \001(\0132\r." +
+      "Vector3iData*\t\010\210\'\020\200\200\200\200\002\"N\n\023UpdateEntityM" +
+      "essage\022\035\n\006entity\030\001 \001(\0132\r.PackedEntity\022\r\n" +
+      "\005netId\030\002 \001(\005*\t\010\210\'\020\200\200\200\200\002\"/\n\023RemoveEntityM" +
+      "essage\022\r\n\005netId\030\001 \001(\005*\t\010\210\'\020\200\200\200\200\002\"i\n\014Even" +
+      "tMessage\022\020\n\010targetId\030\001 \001(\005\022\025\n\005event\030\002 \001(" +
+      "\0132\006.Event\022%\n\016targetBlockPos\030\003 \001(\0132\r.Vect" +
+      "or3iData*\t\010\210\'\020\200\200\200\200\002B$\n\027org.terasology.pr",
+      "otobufB\007NetDataH\001"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -25515,7 +28336,7 @@ public com.google.protobuf.ExtensionRegistry assignDescriptors(
     internal_static_NetMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_NetMessage_descriptor,
-        new java.lang.String[] { "ChunkInfo", "InvalidateChunk", "BlockChange", "CreateEntity", "RemoveEntity", "UpdateEntity", "Event", "Time", "BiomeChange", "ServerInfoRequest", "ServerInfo", "BlockFamilyRegistered", "Join", "ModuleRequest", "ModuleDataHeader", "ModuleData", "JoinComplete", "HandshakeHello", "NewIdentityRequest", "ProvisionIdentity", "HandshakeVerification", });
+        new java.lang.String[] { "ChunkInfo", "InvalidateChunk", "BlockChange", "CreateEntity", "RemoveEntity", "UpdateEntity", "Event", "Time", "BiomeChange", "ServerInfoRequest", "ServerInfo", "BlockFamilyRegistered", "Join", "ModuleRequest", "ModuleDataHeader", "ModuleData", "JoinComplete", "BlockChangeBatch", "BiomeChangeBatch", "HandshakeHello", "NewIdentityRequest", "ProvisionIdentity", "HandshakeVerification", });
     internal_static_HandshakeHello_descriptor =
       getDescriptor().getMessageTypes().get(1);
     internal_static_HandshakeHello_fieldAccessorTable = new
@@ -25576,104 +28397,116 @@ public com.google.protobuf.ExtensionRegistry assignDescriptors(
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_BiomeChangeMessage_descriptor,
         new java.lang.String[] { "Pos", "NewBiome", });
-    internal_static_Vector3iData_descriptor =
+    internal_static_BlockChangeBatchMessage_descriptor =
       getDescriptor().getMessageTypes().get(11);
+    internal_static_BlockChangeBatchMessage_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_BlockChangeBatchMessage_descriptor,
+        new java.lang.String[] { "ChunkPos", "BlockIndexDelta", "RunLength", "NewBlock", });
+    internal_static_BiomeChangeBatchMessage_descriptor =
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_BiomeChangeBatchMessage_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_BiomeChangeBatchMessage_descriptor,
+        new java.lang.String[] { "ChunkPos", "BlockIndexDelta", "RunLength", "NewBiome", });
+    internal_static_Vector3iData_descriptor =
+      getDescriptor().getMessageTypes().get(13);
     internal_static_Vector3iData_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Vector3iData_descriptor,
         new java.lang.String[] { "X", "Y", "Z", });
     internal_static_ServerInfoRequest_descriptor =
-      getDescriptor().getMessageTypes().get(12);
+      getDescriptor().getMessageTypes().get(14);
     internal_static_ServerInfoRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_ServerInfoRequest_descriptor,
         new java.lang.String[] { });
     internal_static_JoinMessage_descriptor =
-      getDescriptor().getMessageTypes().get(13);
+      getDescriptor().getMessageTypes().get(15);
     internal_static_JoinMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_JoinMessage_descriptor,
         new java.lang.String[] { "Name", "Version", "ViewDistanceLevel", "Color", });
     internal_static_Color_descriptor =
-      getDescriptor().getMessageTypes().get(14);
+      getDescriptor().getMessageTypes().get(16);
     internal_static_Color_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Color_descriptor,
         new java.lang.String[] { "Rgba", });
     internal_static_JoinCompleteMessage_descriptor =
-      getDescriptor().getMessageTypes().get(15);
+      getDescriptor().getMessageTypes().get(17);
     internal_static_JoinCompleteMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_JoinCompleteMessage_descriptor,
         new java.lang.String[] { "ClientId", });
     internal_static_ServerInfoMessage_descriptor =
-      getDescriptor().getMessageTypes().get(16);
+      getDescriptor().getMessageTypes().get(18);
     internal_static_ServerInfoMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_ServerInfoMessage_descriptor,
         new java.lang.String[] { "Module", "BlockId", "BlockName", "Component", "Event", "AssetId", "AssetUri", "RegisterBlockFamily", "WorldInfo", "BiomeShortId", "BiomeId", "Version", "GameName", "Time", "ReflectionHeight", "MOTD", "OnlinePlayersAmount", });
     internal_static_WorldInfo_descriptor =
-      getDescriptor().getMessageTypes().get(17);
+      getDescriptor().getMessageTypes().get(19);
     internal_static_WorldInfo_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_WorldInfo_descriptor,
         new java.lang.String[] { "Title", "Time", });
     internal_static_SerializationInfo_descriptor =
-      getDescriptor().getMessageTypes().get(18);
+      getDescriptor().getMessageTypes().get(20);
     internal_static_SerializationInfo_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_SerializationInfo_descriptor,
         new java.lang.String[] { "Name", "Id", "FieldName", "FieldIds", });
     internal_static_ModuleInfo_descriptor =
-      getDescriptor().getMessageTypes().get(19);
+      getDescriptor().getMessageTypes().get(21);
     internal_static_ModuleInfo_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_ModuleInfo_descriptor,
         new java.lang.String[] { "ModuleId", "ModuleVersion", });
     internal_static_ModuleRequest_descriptor =
-      getDescriptor().getMessageTypes().get(20);
+      getDescriptor().getMessageTypes().get(22);
     internal_static_ModuleRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_ModuleRequest_descriptor,
         new java.lang.String[] { "ModuleId", });
     internal_static_ModuleDataHeader_descriptor =
-      getDescriptor().getMessageTypes().get(21);
+      getDescriptor().getMessageTypes().get(23);
     internal_static_ModuleDataHeader_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_ModuleDataHeader_descriptor,
         new java.lang.String[] { "Id", "Version", "Size", "Error", });
     internal_static_ModuleData_descriptor =
-      getDescriptor().getMessageTypes().get(22);
+      getDescriptor().getMessageTypes().get(24);
     internal_static_ModuleData_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_ModuleData_descriptor,
         new java.lang.String[] { "Module", });
     internal_static_ModuleSendError_descriptor =
-      getDescriptor().getMessageTypes().get(23);
+      getDescriptor().getMessageTypes().get(25);
     internal_static_ModuleSendError_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_ModuleSendError_descriptor,
         new java.lang.String[] { "Message", });
     internal_static_CreateEntityMessage_descriptor =
-      getDescriptor().getMessageTypes().get(24);
+      getDescriptor().getMessageTypes().get(26);
     internal_static_CreateEntityMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_CreateEntityMessage_descriptor,
         new java.lang.String[] { "Entity", "BlockPos", });
     internal_static_UpdateEntityMessage_descriptor =
-      getDescriptor().getMessageTypes().get(25);
+      getDescriptor().getMessageTypes().get(27);
     internal_static_UpdateEntityMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_UpdateEntityMessage_descriptor,
         new java.lang.String[] { "Entity", "NetId", });
     internal_static_RemoveEntityMessage_descriptor =
-      getDescriptor().getMessageTypes().get(26);
+      getDescriptor().getMessageTypes().get(28);
     internal_static_RemoveEntityMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_RemoveEntityMessage_descriptor,
         new java.lang.String[] { "NetId", });
     internal_static_EventMessage_descriptor =
-      getDescriptor().getMessageTypes().get(27);
+      getDescriptor().getMessageTypes().get(29);
     internal_static_EventMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_EventMessage_descriptor,
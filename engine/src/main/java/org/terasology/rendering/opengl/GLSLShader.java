@@ -39,6 +39,7 @@
 import org.terasology.rendering.assets.shader.ShaderData;
 import org.terasology.rendering.assets.shader.ShaderParameterMetadata;
 import org.terasology.rendering.assets.shader.ShaderProgramFeature;
+import org.terasology.rendering.primitives.ChunkTessellator;
 import org.terasology.rendering.primitives.ChunkVertexFlag;
 import org.terasology.rendering.world.WorldRenderer;
 import org.terasology.world.block.tiles.WorldAtlas;
@@ -146,6 +147,7 @@ private StringBuilder createShaderBuilder() {
         } else {
             preProcessorPreamble += "#define TEXTURE_OFFSET 0.06125\n";
         }
+        preProcessorPreamble += "#define MERGED_FACE_TILE_STRIDE " + (float) ChunkTessellator.MERGED_FACE_TILE_STRIDE + "\n";
         RenderingConfig renderConfig = config.getRendering();
 
         preProcessorPreamble += "#define BLOCK_LIGHT_POW " + WorldRenderer.BLOCK_LIGHT_POW + "\n";
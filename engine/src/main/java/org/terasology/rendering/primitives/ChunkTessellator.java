@@ -21,7 +21,6 @@
 import org.terasology.engine.subsystem.lwjgl.GLBufferPool;
 import org.terasology.math.Direction;
 import org.terasology.math.TeraMath;
-import org.terasology.math.geom.Vector3f;
 import org.terasology.monitoring.PerformanceMonitor;
 import org.terasology.rendering.RenderMath;
 import org.terasology.world.ChunkView;
@@ -36,26 +35,49 @@
  */
 public final class ChunkTessellator {
 
+    /**
+     * The spacing between atlas tiles in the texture coordinates of merged faces. Must be larger than the longest merged
+     * face, see {@link GreedyMesher}.
+     */
+    public static final int MERGED_FACE_TILE_STRIDE = 64;
+
     private static int statVertexArrayUpdateCount;
 
     private GLBufferPool bufferPool;
+    private volatile boolean greedyMeshing;
 
     public ChunkTessellator(GLBufferPool bufferPool) {
         this.bufferPool = bufferPool;
     }
 
+    public boolean isGreedyMeshing() {
+        return greedyMeshing;
+    }
+
+    /**
+     * @param greedyMeshing Whether adjacent faces of full cube blocks with the same appearance and lighting should be
+     *                      merged into larger quads. Blocks of other shapes are tessellated as usual.
+     */
+    public void setGreedyMeshing(boolean greedyMeshing) {
+        this.greedyMeshing = greedyMeshing;
+    }
+
     public ChunkMesh generateMesh(ChunkView chunkView, int meshHeight, int verticalOffset) {
         PerformanceMonitor.startActivity("GenerateMesh");
         ChunkMesh mesh = new ChunkMesh(bufferPool);
 
         final Stopwatch watch = Stopwatch.createStarted();
 
-        for (int x = 0; x < ChunkConstants.SIZE_X; x++) {
-            for (int z = 0; z < ChunkConstants.SIZE_Z; z++) {
-                for (int y = verticalOffset; y < verticalOffset + meshHeight; y++) {
-                    Block block = chunkView.getBlock(x, y, z);
-                    if (block != null && block.getMeshGenerator() != null) {
-                        block.getMeshGenerator().generateChunkMesh(chunkView, mesh, x, y, z);
+        if (greedyMeshing) {
+            new GreedyMesher(chunkView, mesh, meshHeight, verticalOffset).generate();
+        } else {
+            for (int x = 0; x < ChunkConstants.SIZE_X; x++) {
+                for (int z = 0; z < ChunkConstants.SIZE_Z; z++) {
+                    for (int y = verticalOffset; y < verticalOffset + meshHeight; y++) {
+                        Block block = chunkView.getBlock(x, y, z);
+                        if (block != null && block.getMeshGenerator() != null) {
+                            block.getMeshGenerator().generateChunkMesh(chunkView, mesh, x, y, z);
+                        }
                     }
                 }
             }
@@ -77,6 +99,7 @@ public ChunkMesh generateMesh(ChunkView chunkView, int meshHeight, int verticalO
     private void generateOptimizedBuffers(ChunkView chunkView, ChunkMesh mesh) {
         PerformanceMonitor.startActivity("OptimizeBuffers");
 
+        float[] result = new float[3];
         for (ChunkMesh.RenderType type : ChunkMesh.RenderType.values()) {
             ChunkMesh.VertexElements elements = mesh.getVertexElements(type);
             // Vertices double to account for light info
@@ -93,15 +116,14 @@ private void generateOptimizedBuffers(ChunkView chunkView, ChunkMesh mesh) {
             int cColor = 0;
             int cFlags = 0;
             for (int i = 0; i < elements.vertices.size(); i += 3, cTex += 2, cColor += 4, cFlags++) {
-                Vector3f vertexPos = new Vector3f(
-                        elements.vertices.get(i),
-                        elements.vertices.get(i + 1),
-                        elements.vertices.get(i + 2));
+                float vertexX = elements.vertices.get(i);
+                float vertexY = elements.vertices.get(i + 1);
+                float vertexZ = elements.vertices.get(i + 2);
 
                 /* POSITION */
-                elements.finalVertices.put(Float.floatToIntBits(vertexPos.x));
-                elements.finalVertices.put(Float.floatToIntBits(vertexPos.y));
-                elements.finalVertices.put(Float.floatToIntBits(vertexPos.z));
+                elements.finalVertices.put(Float.floatToIntBits(vertexX));
+                elements.finalVertices.put(Float.floatToIntBits(vertexY));
+                elements.finalVertices.put(Float.floatToIntBits(vertexZ));
 
                 /* UV0 - TEX DATA 0 */
                 elements.finalVertices.put(Float.floatToIntBits(elements.tex.get(cTex)));
@@ -110,9 +132,10 @@ private void generateOptimizedBuffers(ChunkView chunkView, ChunkMesh mesh) {
                 /* FLAGS */
                 elements.finalVertices.put(Float.floatToIntBits(elements.flags.get(cFlags)));
 
-                float[] result = new float[3];
-                Vector3f normal = new Vector3f(elements.normals.get(i), elements.normals.get(i + 1), elements.normals.get(i + 2));
-                calcLightingValuesForVertexPos(chunkView, vertexPos, result, normal);
+                float normalX = elements.normals.get(i);
+                float normalY = elements.normals.get(i + 1);
+                float normalZ = elements.normals.get(i + 2);
+                calcLightingValuesForVertexPos(chunkView, vertexX, vertexY, vertexZ, normalX, normalY, normalZ, result);
 
                 /* LIGHTING DATA / TEX DATA 1 */
                 elements.finalVertices.put(Float.floatToIntBits(result[0]));
@@ -128,9 +151,9 @@ private void generateOptimizedBuffers(ChunkView chunkView, ChunkMesh mesh) {
                 elements.finalVertices.put(packedColor);
 
                 /* NORMALS */
-                elements.finalVertices.put(Float.floatToIntBits(normal.x));
-                elements.finalVertices.put(Float.floatToIntBits(normal.y));
-                elements.finalVertices.put(Float.floatToIntBits(normal.z));
+                elements.finalVertices.put(Float.floatToIntBits(normalX));
+                elements.finalVertices.put(Float.floatToIntBits(normalY));
+                elements.finalVertices.put(Float.floatToIntBits(normalZ));
             }
 
             elements.finalIndices = BufferUtils.createIntBuffer(elements.indices.size());
@@ -145,83 +168,61 @@ private void generateOptimizedBuffers(ChunkView chunkView, ChunkMesh mesh) {
         PerformanceMonitor.endActivity();
     }
 
-    private void calcLightingValuesForVertexPos(ChunkView chunkView, Vector3f vertexPos, float[] output, Vector3f normal) {
+    /**
+     * Calculates the sunlight, block light and ambient occlusion of a vertex.
+     *
+     * @param output Receives the sunlight, block light and ambient occlusion values, in that order
+     */
+    static void calcLightingValuesForVertexPos(ChunkView chunkView, float vertexX, float vertexY, float vertexZ,
+                                               float normalX, float normalY, float normalZ, float[] output) {
         PerformanceMonitor.startActivity("calcLighting");
-        float[] lights = new float[8];
-        float[] blockLights = new float[8];
-        Block[] blocks = new Block[4];
-
-        PerformanceMonitor.startActivity("gatherLightInfo");
-        Direction dir = Direction.inDirection(normal);
-        switch (dir) {
-            case LEFT:
-            case RIGHT:
-                blocks[0] = chunkView.getBlock((vertexPos.x + 0.8f * normal.x), (vertexPos.y + 0.1f), (vertexPos.z + 0.1f));
-                blocks[1] = chunkView.getBlock((vertexPos.x + 0.8f * normal.x), (vertexPos.y + 0.1f), (vertexPos.z - 0.1f));
-                blocks[2] = chunkView.getBlock((vertexPos.x + 0.8f * normal.x), (vertexPos.y - 0.1f), (vertexPos.z - 0.1f));
-                blocks[3] = chunkView.getBlock((vertexPos.x + 0.8f * normal.x), (vertexPos.y - 0.1f), (vertexPos.z + 0.1f));
-                break;
-            case FORWARD:
-            case BACKWARD:
-                blocks[0] = chunkView.getBlock((vertexPos.x + 0.1f), (vertexPos.y + 0.1f), (vertexPos.z + 0.8f * normal.z));
-                blocks[1] = chunkView.getBlock((vertexPos.x + 0.1f), (vertexPos.y - 0.1f), (vertexPos.z + 0.8f * normal.z));
-                blocks[2] = chunkView.getBlock((vertexPos.x - 0.1f), (vertexPos.y - 0.1f), (vertexPos.z + 0.8f * normal.z));
-                blocks[3] = chunkView.getBlock((vertexPos.x - 0.1f), (vertexPos.y + 0.1f), (vertexPos.z + 0.8f * normal.z));
-                break;
-            default:
-                blocks[0] = chunkView.getBlock((vertexPos.x + 0.1f), (vertexPos.y + 0.8f * normal.y), (vertexPos.z + 0.1f));
-                blocks[1] = chunkView.getBlock((vertexPos.x + 0.1f), (vertexPos.y + 0.8f * normal.y), (vertexPos.z - 0.1f));
-                blocks[2] = chunkView.getBlock((vertexPos.x - 0.1f), (vertexPos.y + 0.8f * normal.y), (vertexPos.z - 0.1f));
-                blocks[3] = chunkView.getBlock((vertexPos.x - 0.1f), (vertexPos.y + 0.8f * normal.y), (vertexPos.z + 0.1f));
-        }
+        int occCounter = 0;
+        int occCounterBillboard = 0;
 
-        lights[0] = chunkView.getSunlight((vertexPos.x + 0.1f), (vertexPos.y + 0.8f), (vertexPos.z + 0.1f));
-        lights[1] = chunkView.getSunlight((vertexPos.x + 0.1f), (vertexPos.y + 0.8f), (vertexPos.z - 0.1f));
-        lights[2] = chunkView.getSunlight((vertexPos.x - 0.1f), (vertexPos.y + 0.8f), (vertexPos.z - 0.1f));
-        lights[3] = chunkView.getSunlight((vertexPos.x - 0.1f), (vertexPos.y + 0.8f), (vertexPos.z + 0.1f));
-
-        lights[4] = chunkView.getSunlight((vertexPos.x + 0.1f), (vertexPos.y - 0.1f), (vertexPos.z + 0.1f));
-        lights[5] = chunkView.getSunlight((vertexPos.x + 0.1f), (vertexPos.y - 0.1f), (vertexPos.z - 0.1f));
-        lights[6] = chunkView.getSunlight((vertexPos.x - 0.1f), (vertexPos.y - 0.1f), (vertexPos.z - 0.1f));
-        lights[7] = chunkView.getSunlight((vertexPos.x - 0.1f), (vertexPos.y - 0.1f), (vertexPos.z + 0.1f));
-
-        blockLights[0] = chunkView.getLight((vertexPos.x + 0.1f), (vertexPos.y + 0.8f), (vertexPos.z + 0.1f));
-        blockLights[1] = chunkView.getLight((vertexPos.x + 0.1f), (vertexPos.y + 0.8f), (vertexPos.z - 0.1f));
-        blockLights[2] = chunkView.getLight((vertexPos.x - 0.1f), (vertexPos.y + 0.8f), (vertexPos.z - 0.1f));
-        blockLights[3] = chunkView.getLight((vertexPos.x - 0.1f), (vertexPos.y + 0.8f), (vertexPos.z + 0.1f));
-
-        blockLights[4] = chunkView.getLight((vertexPos.x + 0.1f), (vertexPos.y - 0.1f), (vertexPos.z + 0.1f));
-        blockLights[5] = chunkView.getLight((vertexPos.x + 0.1f), (vertexPos.y - 0.1f), (vertexPos.z - 0.1f));
-        blockLights[6] = chunkView.getLight((vertexPos.x - 0.1f), (vertexPos.y - 0.1f), (vertexPos.z - 0.1f));
-        blockLights[7] = chunkView.getLight((vertexPos.x - 0.1f), (vertexPos.y - 0.1f), (vertexPos.z + 0.1f));
-        PerformanceMonitor.endActivity();
+        Direction dir = Direction.inDirection(normalX, normalY, normalZ);
+        for (int i = 0; i < 4; i++) {
+            float offsetA = (i == 0 || i == 1) ? 0.1f : -0.1f;
+            float offsetB = (i == 0 || i == 3) ? 0.1f : -0.1f;
+            Block b;
+            switch (dir) {
+                case LEFT:
+                case RIGHT:
+                    b = chunkView.getBlock(vertexX + 0.8f * normalX, vertexY + offsetA, vertexZ + offsetB);
+                    break;
+                case FORWARD:
+                case BACKWARD:
+                    b = chunkView.getBlock(vertexX + offsetA, vertexY + offsetB, vertexZ + 0.8f * normalZ);
+                    break;
+                default:
+                    b = chunkView.getBlock(vertexX + offsetA, vertexY + 0.8f * normalY, vertexZ + offsetB);
+            }
+
+            if (b.isShadowCasting() && !b.isTranslucent()) {
+                occCounter++;
+            } else if (b.isShadowCasting()) {
+                occCounterBillboard++;
+            }
+        }
 
         float resultLight = 0;
         float resultBlockLight = 0;
         int counterLight = 0;
         int counterBlockLight = 0;
 
-        int occCounter = 0;
-        int occCounterBillboard = 0;
         for (int i = 0; i < 8; i++) {
-            if (lights[i] > 0) {
-                resultLight += lights[i];
+            float offsetX = (i % 4 == 0 || i % 4 == 1) ? 0.1f : -0.1f;
+            float offsetY = (i < 4) ? 0.8f : -0.1f;
+            float offsetZ = (i % 4 == 0 || i % 4 == 3) ? 0.1f : -0.1f;
+            float light = chunkView.getSunlight(vertexX + offsetX, vertexY + offsetY, vertexZ + offsetZ);
+            float blockLight = chunkView.getLight(vertexX + offsetX, vertexY + offsetY, vertexZ + offsetZ);
+            if (light > 0) {
+                resultLight += light;
                 counterLight++;
             }
-            if (blockLights[i] > 0) {
-                resultBlockLight += blockLights[i];
+            if (blockLight > 0) {
+                resultBlockLight += blockLight;
                 counterBlockLight++;
             }
-
-            if (i < 4) {
-                Block b = blocks[i];
-
-                if (b.isShadowCasting() && !b.isTranslucent()) {
-                    occCounter++;
-                } else if (b.isShadowCasting()) {
-                    occCounterBillboard++;
-                }
-            }
         }
 
         double resultAmbientOcclusion = (TeraMath.pow(0.40, occCounter) + TeraMath.pow(0.80, occCounterBillboard)) / 2.0;
@@ -24,7 +24,8 @@ public enum ChunkVertexFlag {
     LAVA(3, "BLOCK_HINT_LAVA"),
     COLOR_MASK(4, "BLOCK_HINT_GRASS"),
     WAVING(5, "BLOCK_HINT_WAVING"),
-    WAVING_BLOCK(6, "BLOCK_HINT_WAVING_BLOCK");
+    WAVING_BLOCK(6, "BLOCK_HINT_WAVING_BLOCK"),
+    MERGED(7, "BLOCK_HINT_MERGED");
 
     private int value;
     private String defineName;
@@ -0,0 +1,504 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.rendering.primitives;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import gnu.trove.impl.Constants;
+import gnu.trove.list.TFloatList;
+import gnu.trove.list.array.TFloatArrayList;
+import gnu.trove.map.TIntIntMap;
+import gnu.trove.map.hash.TIntIntHashMap;
+import org.terasology.math.Side;
+import org.terasology.math.geom.Vector2f;
+import org.terasology.math.geom.Vector3f;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.math.geom.Vector4f;
+import org.terasology.world.ChunkView;
+import org.terasology.world.biomes.Biome;
+import org.terasology.world.block.Block;
+import org.terasology.world.block.BlockAppearance;
+import org.terasology.world.block.BlockPart;
+import org.terasology.world.block.shapes.BlockMeshPart;
+import org.terasology.world.chunks.ChunkConstants;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Tessellates a chunk, merging the adjacent visible faces of full cube blocks into larger quads.
+ * <p>
+ * Faces are only merged if they share the same block part, color, render type and lighting, and their lighting is
+ * uniform across the face, so that the merged quad is lit exactly like the faces it replaces. Merged quads are
+ * flagged with {@link ChunkVertexFlag#MERGED}, and their texture coordinates hold the atlas tile times
+ * {@link ChunkTessellator#MERGED_FACE_TILE_STRIDE} plus the position within the quad in blocks, so that the chunk
+ * shader can repeat the tile across the quad. All other blocks and faces are tessellated as usual.
+ * <p>
+ * A mesher is used for a single chunk mesh, and must not be shared between threads.
+ */
+final class GreedyMesher {
+    private static final int MAX_MERGE_LENGTH = ChunkTessellator.MERGED_FACE_TILE_STRIDE / 2;
+    /**
+     * The border that {@link BlockMeshPart#mapTexCoords} leaves around each atlas tile, relative to the tile size.
+     */
+    private static final float TEXTURE_BORDER = 1f / 128f;
+    private static final float EPSILON = 0.0001f;
+
+    private final ChunkView chunkView;
+    private final ChunkMesh mesh;
+    private final int meshHeight;
+    private final int verticalOffset;
+    private final int[] dimensions;
+    private final int[] strides;
+
+    private final Map<Block, Optional<CubeAppearance>> cubes = Maps.newIdentityHashMap();
+    private final Map<FaceKey, Integer> faceKeyIds = Maps.newHashMap();
+    private final List<FaceKey> faceKeys = Lists.newArrayList();
+    private final FaceKey probeKey = new FaceKey();
+    private final int[][] faces = new int[Side.values().length][];
+
+    private final TIntIntMap cornerLightIndices = new TIntIntHashMap(Constants.DEFAULT_CAPACITY, Constants.DEFAULT_LOAD_FACTOR, -1, -1);
+    private final TFloatList cornerLights = new TFloatArrayList();
+    private final float[] lightResult = new float[3];
+    private final float[] faceLight = new float[3];
+    private final float[] corner = new float[3];
+
+    GreedyMesher(ChunkView chunkView, ChunkMesh mesh, int meshHeight, int verticalOffset) {
+        this.chunkView = chunkView;
+        this.mesh = mesh;
+        this.meshHeight = meshHeight;
+        this.verticalOffset = verticalOffset;
+        this.dimensions = new int[]{ChunkConstants.SIZE_X, meshHeight, ChunkConstants.SIZE_Z};
+        this.strides = new int[]{1, ChunkConstants.SIZE_X * ChunkConstants.SIZE_Z, ChunkConstants.SIZE_X};
+        for (int i = 0; i < faces.length; ++i) {
+            faces[i] = new int[ChunkConstants.SIZE_X * ChunkConstants.SIZE_Z * meshHeight];
+        }
+    }
+
+    void generate() {
+        for (int x = 0; x < ChunkConstants.SIZE_X; x++) {
+            for (int z = 0; z < ChunkConstants.SIZE_Z; z++) {
+                for (int y = verticalOffset; y < verticalOffset + meshHeight; y++) {
+                    Block block = chunkView.getBlock(x, y, z);
+                    if (block != null && block.getMeshGenerator() != null) {
+                        Optional<CubeAppearance> cube = cubes.computeIfAbsent(block, GreedyMesher::createCubeAppearance);
+                        if (cube.isPresent()) {
+                            addCubeFaces(block, cube.get(), x, y, z);
+                        } else {
+                            block.getMeshGenerator().generateChunkMesh(chunkView, mesh, x, y, z);
+                        }
+                    }
+                }
+            }
+        }
+        for (Side side : Side.values()) {
+            mergeFaces(side);
+        }
+    }
+
+    private void addCubeFaces(Block block, CubeAppearance cube, int x, int y, int z) {
+        Biome biome = null;
+        for (Side side : Side.values()) {
+            Vector3i offset = side.getVector3i();
+            Block adjacent = chunkView.getBlock(x + offset.x, y + offset.y, z + offset.z);
+            if (!BlockMeshGeneratorSingleShape.isSideVisibleForBlockTypes(adjacent, block, side)) {
+                continue;
+            }
+            if (biome == null) {
+                biome = chunkView.getBiome(x, y, z);
+            }
+            MergeableFace face = cube.faces[side.ordinal()];
+            Vector4f colorOffset = block.calcColorOffsetFor(BlockPart.fromSide(side), biome);
+            if (calcUniformLighting(face, x, y, z)) {
+                probeKey.set(face, cube.renderType, colorOffset, faceLight);
+                faces[side.ordinal()][index(x, y - verticalOffset, z)] = getFaceKeyId(probeKey);
+            } else {
+                face.part.appendTo(mesh, x, y, z, colorOffset, cube.renderType, ChunkVertexFlag.NORMAL);
+            }
+        }
+    }
+
+    /**
+     * Calculates the lighting of the corners of a face into {@link #faceLight}.
+     *
+     * @return Whether all corners of the face have the same lighting
+     */
+    private boolean calcUniformLighting(MergeableFace face, int x, int y, int z) {
+        for (int i = 0; i < 4; ++i) {
+            Vector3f vertex = face.part.getVertex(i);
+            int cornerX = x + (vertex.x > 0 ? 1 : 0);
+            int cornerY = y - verticalOffset + (vertex.y > 0 ? 1 : 0);
+            int cornerZ = z + (vertex.z > 0 ? 1 : 0);
+            int cornerKey = ((face.side.ordinal() * (meshHeight + 1) + cornerY) * (ChunkConstants.SIZE_Z + 1) + cornerZ)
+                    * (ChunkConstants.SIZE_X + 1) + cornerX;
+
+            int lightIndex = cornerLightIndices.get(cornerKey);
+            if (lightIndex == -1) {
+                Vector3f normal = face.part.getNormal(i);
+                ChunkTessellator.calcLightingValuesForVertexPos(chunkView, x + vertex.x, y + vertex.y, z + vertex.z,
+                        normal.x, normal.y, normal.z, lightResult);
+                lightIndex = cornerLights.size();
+                cornerLights.add(lightResult);
+                cornerLightIndices.put(cornerKey, lightIndex);
+            }
+
+            if (i == 0) {
+                cornerLights.toArray(faceLight, lightIndex, 3);
+            } else if (faceLight[0] != cornerLights.get(lightIndex)
+                    || faceLight[1] != cornerLights.get(lightIndex + 1)
+                    || faceLight[2] != cornerLights.get(lightIndex + 2)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int getFaceKeyId(FaceKey key) {
+        Integer id = faceKeyIds.get(key);
+        if (id == null) {
+            FaceKey storedKey = key.copy();
+            faceKeys.add(storedKey);
+            id = faceKeys.size();
+            faceKeyIds.put(storedKey, id);
+        }
+        return id;
+    }
+
+    private int index(int x, int localY, int z) {
+        return x * strides[0] + localY * strides[1] + z * strides[2];
+    }
+
+    /**
+     * Greedily merges the recorded faces of one side, slice by slice, into the largest rectangles that grow first along
+     * the first axis of the slice and then along the second.
+     */
+    private void mergeFaces(Side side) {
+        int[] sideFaces = faces[side.ordinal()];
+        int normalAxis = getNormalAxis(side);
+        int axisA = (normalAxis == 0) ? 1 : 0;
+        int axisB = (normalAxis == 2) ? 1 : 2;
+        int strideA = strides[axisA];
+        int strideB = strides[axisB];
+        int[] pos = new int[3];
+
+        for (int d = 0; d < dimensions[normalAxis]; ++d) {
+            for (int b = 0; b < dimensions[axisB]; ++b) {
+                for (int a = 0; a < dimensions[axisA]; ++a) {
+                    int start = d * strides[normalAxis] + a * strideA + b * strideB;
+                    int keyId = sideFaces[start];
+                    if (keyId == 0) {
+                        continue;
+                    }
+
+                    int width = 1;
+                    while (a + width < dimensions[axisA] && width < MAX_MERGE_LENGTH && sideFaces[start + width * strideA] == keyId) {
+                        width++;
+                    }
+                    int height = 1;
+                    while (b + height < dimensions[axisB] && height < MAX_MERGE_LENGTH && isRowMergeable(sideFaces, start + height * strideB, strideA, width, keyId)) {
+                        height++;
+                    }
+                    for (int j = 0; j < height; ++j) {
+                        for (int i = 0; i < width; ++i) {
+                            sideFaces[start + j * strideB + i * strideA] = 0;
+                        }
+                    }
+
+                    pos[normalAxis] = d;
+                    pos[axisA] = a;
+                    pos[axisB] = b;
+                    FaceKey key = faceKeys.get(keyId - 1);
+                    if (width == 1 && height == 1) {
+                        key.face.part.appendTo(mesh, pos[0], pos[1] + verticalOffset, pos[2], key.colorOffset, key.renderType, ChunkVertexFlag.NORMAL);
+                    } else {
+                        appendMergedQuad(key, pos[0], pos[1] + verticalOffset, pos[2], axisA, axisB, width, height);
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean isRowMergeable(int[] sideFaces, int rowStart, int stride, int width, int keyId) {
+        for (int i = 0; i < width; ++i) {
+            if (sideFaces[rowStart + i * stride] != keyId) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Appends a quad covering width x height faces, starting with the face of the block at the given position.
+     */
+    private void appendMergedQuad(FaceKey key, int x, int y, int z, int axisA, int axisB, int width, int height) {
+        MergeableFace face = key.face;
+        ChunkMesh.VertexElements elements = mesh.getVertexElements(key.renderType);
+        int repeatU = face.uAlongA ? width : height;
+        int repeatV = face.uAlongA ? height : width;
+
+        int nextIndex = elements.vertexCount;
+        for (int i = 0; i < 4; ++i) {
+            Vector3f vertex = face.part.getVertex(i);
+            Vector3f normal = face.part.getNormal(i);
+            corner[0] = vertex.x + x;
+            corner[1] = vertex.y + y;
+            corner[2] = vertex.z + z;
+            corner[axisA] += face.cornerA[i] * (width - 1);
+            corner[axisB] += face.cornerB[i] * (height - 1);
+
+            elements.tex.add(face.tileU * ChunkTessellator.MERGED_FACE_TILE_STRIDE + face.localU[i] * repeatU);
+            elements.tex.add(face.tileV * ChunkTessellator.MERGED_FACE_TILE_STRIDE + face.localV[i] * repeatV);
+            elements.color.add(key.colorOffset.x);
+            elements.color.add(key.colorOffset.y);
+            elements.color.add(key.colorOffset.z);
+            elements.color.add(key.colorOffset.w);
+            elements.vertices.add(corner);
+            elements.normals.add(normal.x);
+            elements.normals.add(normal.y);
+            elements.normals.add(normal.z);
+            elements.flags.add(ChunkVertexFlag.MERGED.getValue());
+        }
+        elements.vertexCount += 4;
+
+        for (int i = 0; i < face.part.indicesSize(); ++i) {
+            elements.indices.add(face.part.getIndex(i) + nextIndex);
+        }
+    }
+
+    private static int getNormalAxis(Side side) {
+        Vector3i dir = side.getVector3i();
+        if (dir.x != 0) {
+            return 0;
+        }
+        return (dir.y != 0) ? 1 : 2;
+    }
+
+    /**
+     * @return The appearance of the block if it is a plain full cube that can be merged with its neighbours
+     */
+    private static Optional<CubeAppearance> createCubeAppearance(Block block) {
+        if (block.getMeshGenerator().getClass() != BlockMeshGeneratorSingleShape.class
+                || block.isLiquid() || block.isWater() || block.isLava() || block.isIce()
+                || block.isWaving() || block.isDoubleSided() || block.isGrass()) {
+            return Optional.empty();
+        }
+        BlockAppearance appearance = block.getPrimaryAppearance();
+        if (appearance == null || appearance.getPart(BlockPart.CENTER) != null) {
+            return Optional.empty();
+        }
+
+        MergeableFace[] faces = new MergeableFace[Side.values().length];
+        for (Side side : Side.values()) {
+            if (!block.isFullSide(side)) {
+                return Optional.empty();
+            }
+            MergeableFace face = createMergeableFace(appearance.getPart(BlockPart.fromSide(side)), side);
+            if (face == null) {
+                return Optional.empty();
+            }
+            faces[side.ordinal()] = face;
+        }
+        ChunkMesh.RenderType renderType = block.isTranslucent() ? ChunkMesh.RenderType.TRANSLUCENT : ChunkMesh.RenderType.OPAQUE;
+        return Optional.of(new CubeAppearance(faces, renderType));
+    }
+
+    /**
+     * @return How the given part can be stretched over several blocks, or null if it is not a full unit square facing
+     * the given side, textured with a whole atlas tile.
+     */
+    private static MergeableFace createMergeableFace(BlockMeshPart part, Side side) {
+        if (part == null || part.size() != 4) {
+            return null;
+        }
+        for (int i = 0; i < part.indicesSize(); ++i) {
+            if (part.getIndex(i) >= 4) {
+                return null;
+            }
+        }
+
+        float minU = Float.MAX_VALUE;
+        float minV = Float.MAX_VALUE;
+        float maxU = -Float.MAX_VALUE;
+        float maxV = -Float.MAX_VALUE;
+        for (int i = 0; i < 4; ++i) {
+            Vector2f texCoord = part.getTexCoord(i);
+            minU = Math.min(minU, texCoord.x);
+            minV = Math.min(minV, texCoord.y);
+            maxU = Math.max(maxU, texCoord.x);
+            maxV = Math.max(maxV, texCoord.y);
+        }
+        float tileSize = (maxU - minU) / (1 - 2 * TEXTURE_BORDER);
+        if (tileSize < EPSILON || Math.abs((maxV - minV) - (maxU - minU)) > EPSILON) {
+            return null;
+        }
+
+        int normalAxis = getNormalAxis(side);
+        int axisA = (normalAxis == 0) ? 1 : 0;
+        int axisB = (normalAxis == 2) ? 1 : 2;
+        Vector3i dir = side.getVector3i();
+        float[] dirComponents = {dir.x, dir.y, dir.z};
+
+        MergeableFace face = new MergeableFace(part, side);
+        face.tileU = Math.round((minU - TEXTURE_BORDER * tileSize) / tileSize);
+        face.tileV = Math.round((minV - TEXTURE_BORDER * tileSize) / tileSize);
+        for (int i = 0; i < 4; ++i) {
+            Vector3f vertex = part.getVertex(i);
+            Vector3f normal = part.getNormal(i);
+            float[] vertexComponents = {vertex.x, vertex.y, vertex.z};
+            float[] normalComponents = {normal.x, normal.y, normal.z};
+            for (int axis = 0; axis < 3; ++axis) {
+                if (Math.abs(Math.abs(vertexComponents[axis]) - 0.5f) > EPSILON
+                        || Math.abs(normalComponents[axis] - dirComponents[axis]) > EPSILON) {
+                    return null;
+                }
+            }
+            if (vertexComponents[normalAxis] * dirComponents[normalAxis] < 0) {
+                return null;
+            }
+            face.cornerA[i] = vertexComponents[axisA] > 0 ? 1 : 0;
+            face.cornerB[i] = vertexComponents[axisB] > 0 ? 1 : 0;
+
+            Vector2f texCoord = part.getTexCoord(i);
+            face.localU[i] = toTileCorner(texCoord.x, minU, maxU);
+            face.localV[i] = toTileCorner(texCoord.y, minV, maxV);
+            if (face.localU[i] == -1 || face.localV[i] == -1) {
+                return null;
+            }
+        }
+
+        if (followsCorners(face.localU, face.cornerA) && followsCorners(face.localV, face.cornerB)) {
+            face.uAlongA = true;
+        } else if (followsCorners(face.localU, face.cornerB) && followsCorners(face.localV, face.cornerA)) {
+            face.uAlongA = false;
+        } else {
+            return null;
+        }
+        return face;
+    }
+
+    private static int toTileCorner(float texCoord, float min, float max) {
+        if (Math.abs(texCoord - min) < EPSILON) {
+            return 0;
+        } else if (Math.abs(texCoord - max) < EPSILON) {
+            return 1;
+        }
+        return -1;
+    }
+
+    /**
+     * @return Whether the texture coordinate runs along the axis the corners lie on, possibly mirrored
+     */
+    private static boolean followsCorners(int[] texCorners, int[] corners) {
+        boolean same = true;
+        boolean mirrored = true;
+        for (int i = 0; i < 4; ++i) {
+            same &= texCorners[i] == corners[i];
+            mirrored &= texCorners[i] != corners[i];
+        }
+        return same || mirrored;
+    }
+
+    private static final class CubeAppearance {
+        private final MergeableFace[] faces;
+        private final ChunkMesh.RenderType renderType;
+
+        private CubeAppearance(MergeableFace[] faces, ChunkMesh.RenderType renderType) {
+            this.faces = faces;
+            this.renderType = renderType;
+        }
+    }
+
+    /**
+     * A side part of a cube, with its vertices described as corners of the slice it lies in and its texture coordinates
+     * as corners of its atlas tile.
+     */
+    private static final class MergeableFace {
+        private final BlockMeshPart part;
+        private final Side side;
+        private final int[] cornerA = new int[4];
+        private final int[] cornerB = new int[4];
+        private final int[] localU = new int[4];
+        private final int[] localV = new int[4];
+        private int tileU;
+        private int tileV;
+        private boolean uAlongA;
+
+        private MergeableFace(BlockMeshPart part, Side side) {
+            this.part = part;
+            this.side = side;
+        }
+    }
+
+    /**
+     * Everything two faces need to share to be merged.
+     */
+    private static final class FaceKey {
+        private MergeableFace face;
+        private ChunkMesh.RenderType renderType;
+        private Vector4f colorOffset = new Vector4f();
+        private float sunlight;
+        private float blockLight;
+        private float ambientOcclusion;
+
+        private void set(MergeableFace newFace, ChunkMesh.RenderType newRenderType, Vector4f newColorOffset, float[] light) {
+            this.face = newFace;
+            this.renderType = newRenderType;
+            this.colorOffset.set(newColorOffset.x, newColorOffset.y, newColorOffset.z, newColorOffset.w);
+            this.sunlight = light[0];
+            this.blockLight = light[1];
+            this.ambientOcclusion = light[2];
+        }
+
+        private FaceKey copy() {
+            FaceKey result = new FaceKey();
+            result.face = face;
+            result.renderType = renderType;
+            result.colorOffset.set(colorOffset.x, colorOffset.y, colorOffset.z, colorOffset.w);
+            result.sunlight = sunlight;
+            result.blockLight = blockLight;
+            result.ambientOcclusion = ambientOcclusion;
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o instanceof FaceKey) {
+                FaceKey other = (FaceKey) o;
+                return face == other.face && renderType == other.renderType
+                        && Objects.equals(colorOffset, other.colorOffset)
+                        && sunlight == other.sunlight && blockLight == other.blockLight
+                        && ambientOcclusion == other.ambientOcclusion;
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode(face);
+            result = 31 * result + renderType.hashCode();
+            result = 31 * result + colorOffset.hashCode();
+            result = 31 * result + Float.floatToIntBits(sunlight);
+            result = 31 * result + Float.floatToIntBits(blockLight);
+            result = 31 * result + Float.floatToIntBits(ambientOcclusion);
+            return result;
+        }
+    }
+}
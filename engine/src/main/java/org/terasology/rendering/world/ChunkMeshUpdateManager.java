@@ -94,13 +94,16 @@ public boolean queueChunkUpdate(RenderableChunk chunk) {
     /**
      * The method tells the chunk mesh update manager where the camera is, so that is able to prioritize chunks near the
      * camera. It stores the values in volatile variables so that the change is visible to the chunk updating threads
-     * immediately.
+     * immediately. Queued updates are reprioritized whenever the camera enters another chunk.
      */
     public void setCameraPosition(Vector3f cameraPosition) {
         Vector3i chunkPos = ChunkMath.calcChunkPos(cameraPosition);
-        cameraChunkPosX = chunkPos.x;
-        cameraChunkPosY = chunkPos.y;
-        cameraChunkPosZ = chunkPos.z;
+        if (chunkPos.x != cameraChunkPosX || chunkPos.y != cameraChunkPosY || chunkPos.z != cameraChunkPosZ) {
+            cameraChunkPosX = chunkPos.x;
+            cameraChunkPosY = chunkPos.y;
+            cameraChunkPosZ = chunkPos.z;
+            chunkUpdater.reprioritize();
+        }
     }
 
     public List<RenderableChunk> availableChunksForUpdate() {
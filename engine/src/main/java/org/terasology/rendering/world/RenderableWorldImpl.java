@@ -87,6 +87,7 @@ class RenderableWorldImpl implements RenderableWorld {
         this.worldProvider = worldProvider;
         this.chunkProvider = chunkProvider;
         chunkTessellator = new ChunkTessellator(bufferPool);
+        chunkTessellator.setGreedyMeshing(renderingConfig.isGreedyMeshing());
         chunkMeshUpdateManager = new ChunkMeshUpdateManager(chunkTessellator, worldProvider);
 
         this.playerCamera = playerCamera;
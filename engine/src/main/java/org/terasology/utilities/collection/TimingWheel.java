@@ -0,0 +1,334 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.utilities.collection;
+
+import com.google.common.collect.Lists;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A hierarchical timing wheel, which keeps values scheduled to expire at a point in time (in ms).
+ * <br><br>
+ * The wheel has a number of levels of 64 slots. A slot of the lowest level holds the values expiring in one
+ * millisecond, a slot of the next level those expiring in a span of 64 ms, and so on. A value is kept in the lowest
+ * level whose span reaches its expiry, and moves down a level each time time reaches the span of its slot. Scheduling
+ * and cancelling a value are constant time, and advancing the time skips over empty slots, so the cost of advancing
+ * depends on the number of values expiring rather than on the time passed.
+ * <br><br>
+ * This class is not thread safe.
+ *
+ * @param <T> The type of the scheduled values
+ */
+public final class TimingWheel<T> {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 7;
+    private static final int OVERFLOW = LEVELS;
+    private static final int DUE = LEVELS + 1;
+
+    private final Timer<T>[][] slots;
+    private final long[] occupiedSlots = new long[LEVELS];
+    private Timer<T> overflow;
+    private Timer<T> due;
+    private long currentTime;
+    private int size;
+
+    /**
+     * Creates a timing wheel at time 0.
+     */
+    public TimingWheel() {
+        this(0);
+    }
+
+    /**
+     * @param startTime The time no value has expired yet at
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long startTime) {
+        this.slots = new Timer[LEVELS][SLOTS];
+        this.currentTime = startTime;
+    }
+
+    /**
+     * Schedules a value. Values scheduled before the current time expire on the next call of {@link #advance(long)}.
+     *
+     * @param value  The value to schedule
+     * @param expiry The time the value expires at
+     * @return The timer of the value, which can be used to cancel it
+     */
+    public Timer<T> schedule(T value, long expiry) {
+        Timer<T> timer = new Timer<>(value, expiry);
+        if (expiry < currentTime) {
+            timer.level = DUE;
+            timer.next = due;
+            if (due != null) {
+                due.prev = timer;
+            }
+            due = timer;
+        } else {
+            insert(timer);
+        }
+        size++;
+        return timer;
+    }
+
+    /**
+     * @param timer A timer of this wheel
+     * @return Whether the timer was scheduled, i.e. has neither expired nor been cancelled before
+     */
+    public boolean cancel(Timer<T> timer) {
+        if (!timer.isScheduled()) {
+            return false;
+        }
+        unlink(timer);
+        size--;
+        return true;
+    }
+
+    /**
+     * Advances the time, expiring all values scheduled up to and including the given time.
+     *
+     * @param time The new current time. Times before the current time are ignored.
+     * @return The values that expired, ordered by expiry
+     */
+    public List<T> advance(long time) {
+        List<T> expired = Collections.emptyList();
+        if (due != null) {
+            expired = Lists.newArrayList();
+            expireAll(due, expired);
+            due = null;
+        }
+        while (currentTime <= time) {
+            long eventTime = nextEventTime();
+            if (eventTime > time) {
+                currentTime = time + 1;
+                cascade();
+                break;
+            }
+            currentTime = eventTime;
+            cascade();
+            int slot = (int) (currentTime & SLOT_MASK);
+            if ((occupiedSlots[0] & (1L << slot)) != 0) {
+                if (expired.isEmpty()) {
+                    expired = Lists.newArrayList();
+                }
+                expireAll(slots[0][slot], expired);
+                slots[0][slot] = null;
+                occupiedSlots[0] &= ~(1L << slot);
+                currentTime++;
+                cascade();
+            }
+        }
+        return expired;
+    }
+
+    private void expireAll(Timer<T> head, List<T> expired) {
+        Timer<T> timer = head;
+        while (timer != null) {
+            Timer<T> next = timer.next;
+            expired.add(timer.value);
+            timer.level = -1;
+            timer.prev = null;
+            timer.next = null;
+            size--;
+            timer = next;
+        }
+    }
+
+    /**
+     * @return The time no value has expired yet at
+     */
+    public long getCurrentTime() {
+        return currentTime;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                clearList(slots[level][slot]);
+                slots[level][slot] = null;
+            }
+            occupiedSlots[level] = 0;
+        }
+        clearList(overflow);
+        overflow = null;
+        clearList(due);
+        due = null;
+        size = 0;
+    }
+
+    private void clearList(Timer<T> head) {
+        Timer<T> timer = head;
+        while (timer != null) {
+            Timer<T> next = timer.next;
+            timer.level = -1;
+            timer.prev = null;
+            timer.next = null;
+            timer = next;
+        }
+    }
+
+    /**
+     * @return The earliest time at which either values expire or values have to move down a level.
+     */
+    private long nextEventTime() {
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = level * SLOT_BITS;
+            int currentSlot = (int) ((currentTime >>> shift) & SLOT_MASK);
+            // The current slot of a higher level has already been moved down when time entered its span
+            long candidates = (level == 0) ? -1L << currentSlot : (currentSlot == SLOT_MASK ? 0 : -1L << (currentSlot + 1));
+            long occupied = occupiedSlots[level] & candidates;
+            if (occupied != 0) {
+                int slot = Long.numberOfTrailingZeros(occupied);
+                long spanStart = (currentTime >>> (shift + SLOT_BITS)) << (shift + SLOT_BITS);
+                return spanStart | ((long) slot << shift);
+            }
+        }
+        if (overflow != null) {
+            int shift = LEVELS * SLOT_BITS;
+            return ((currentTime >>> shift) + 1) << shift;
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Moves the values in the slots whose span starts at the current time down to the lower levels.
+     */
+    private void cascade() {
+        if ((currentTime & SLOT_MASK) != 0) {
+            return;
+        }
+        int topLevel = 1;
+        while (topLevel < LEVELS && ((currentTime >>> (topLevel * SLOT_BITS)) & SLOT_MASK) == 0) {
+            topLevel++;
+        }
+        if (topLevel == LEVELS && overflow != null) {
+            Timer<T> timer = overflow;
+            overflow = null;
+            reinsertAll(timer);
+        }
+        for (int level = Math.min(topLevel, LEVELS - 1); level > 0; level--) {
+            int slot = (int) ((currentTime >>> (level * SLOT_BITS)) & SLOT_MASK);
+            if ((occupiedSlots[level] & (1L << slot)) != 0) {
+                Timer<T> timer = slots[level][slot];
+                slots[level][slot] = null;
+                occupiedSlots[level] &= ~(1L << slot);
+                reinsertAll(timer);
+            }
+        }
+    }
+
+    private void reinsertAll(Timer<T> head) {
+        Timer<T> timer = head;
+        while (timer != null) {
+            Timer<T> next = timer.next;
+            timer.prev = null;
+            timer.next = null;
+            insert(timer);
+            timer = next;
+        }
+    }
+
+    private void insert(Timer<T> timer) {
+        long expiry = timer.expiry;
+        long differingBits = expiry ^ currentTime;
+        int level = (differingBits == 0) ? 0 : (63 - Long.numberOfLeadingZeros(differingBits)) / SLOT_BITS;
+        if (level >= LEVELS) {
+            timer.level = OVERFLOW;
+            timer.next = overflow;
+            if (overflow != null) {
+                overflow.prev = timer;
+            }
+            overflow = timer;
+            return;
+        }
+        int slot = (int) ((expiry >>> (level * SLOT_BITS)) & SLOT_MASK);
+        timer.level = level;
+        timer.slot = slot;
+        Timer<T> head = slots[level][slot];
+        timer.next = head;
+        if (head != null) {
+            head.prev = timer;
+        }
+        slots[level][slot] = timer;
+        occupiedSlots[level] |= 1L << slot;
+    }
+
+    private void unlink(Timer<T> timer) {
+        if (timer.prev != null) {
+            timer.prev.next = timer.next;
+        } else if (timer.level == OVERFLOW) {
+            overflow = timer.next;
+        } else if (timer.level == DUE) {
+            due = timer.next;
+        } else {
+            slots[timer.level][timer.slot] = timer.next;
+            if (timer.next == null) {
+                occupiedSlots[timer.level] &= ~(1L << timer.slot);
+            }
+        }
+        if (timer.next != null) {
+            timer.next.prev = timer.prev;
+        }
+        timer.level = -1;
+        timer.prev = null;
+        timer.next = null;
+    }
+
+    /**
+     * A value scheduled in a timing wheel.
+     *
+     * @param <T> The type of the value
+     */
+    public static final class Timer<T> {
+        private final T value;
+        private final long expiry;
+        private int level = -1;
+        private int slot;
+        private Timer<T> prev;
+        private Timer<T> next;
+
+        private Timer(T value, long expiry) {
+            this.value = value;
+            this.expiry = expiry;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        public long getExpiry() {
+            return expiry;
+        }
+
+        /**
+         * @return Whether the value has neither expired nor been cancelled yet
+         */
+        public boolean isScheduled() {
+            return level != -1;
+        }
+    }
+}
@@ -15,22 +15,30 @@
  */
 package org.terasology.utilities.concurrency;
 
-import com.google.common.collect.Lists;
-
 import java.util.AbstractQueue;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
-import java.util.List;
-import java.util.ListIterator;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * A blocking priority queue for comparators whose ordering changes over time, such as the distance of a chunk to the
+ * player.
+ * <p>
+ * Elements are kept in a binary heap, so offering and taking elements is O(log n). The heap is only ordered correctly
+ * for the comparator's ordering at the time elements were inserted, so whenever the ordering changes
+ * {@link #reprioritize()} must be called to rebuild the heap in O(n).
+ */
 public class DynamicPriorityBlockingQueue<T> extends AbstractQueue<T> implements BlockingQueue<T> {
+    private static final int INITIAL_CAPACITY = 64;
+
     private Comparator<T> comparator;
-    private List<T> elements = Lists.newLinkedList();
+    private Object[] heap = new Object[INITIAL_CAPACITY];
+    private int size;
 
     /**
      * Lock used for all public operations
@@ -49,6 +57,20 @@ public DynamicPriorityBlockingQueue(Comparator<T> comparator) {
         notEmpty = lock.newCondition();
     }
 
+    /**
+     * Restores the order of the queue after the ordering of the comparator has changed.
+     */
+    public void reprioritize() {
+        lock.lock();
+        try {
+            for (int i = (size >>> 1) - 1; i >= 0; i--) {
+                siftDown(i, elementAt(i));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
     @Override
     public boolean add(T t) {
         return offer(t);
@@ -66,9 +88,15 @@ public boolean offer(T t, long timeout, TimeUnit unit) throws InterruptedExcepti
 
     @Override
     public boolean offer(T t) {
+        if (t == null) {
+            throw new NullPointerException();
+        }
         lock.lock();
         try {
-            elements.add(t);
+            if (size == heap.length) {
+                heap = Arrays.copyOf(heap, heap.length * 2);
+            }
+            siftUp(size++, t);
             notEmpty.signal();
             return true;
         } finally {
@@ -121,28 +149,64 @@ public T poll(long timeout, TimeUnit unit) throws InterruptedException {
     public T peek() {
         lock.lock();
         try {
-            return elements.size() == 0 ? null : elements.get(0);
+            return size == 0 ? null : elementAt(0);
         } finally {
             lock.unlock();
         }
     }
 
     private T dequeue() {
-        if (elements.size() == 0) {
+        if (size == 0) {
             return null;
         }
-        T smallest = elements.remove(0);
-        ListIterator<T> iterator = elements.listIterator();
-        while (iterator.hasNext()) {
-            T next = iterator.next();
-            if (comparator.compare(smallest, next) > 0) {
-                iterator.set(smallest);
-                smallest = next;
-            }
+        T smallest = elementAt(0);
+        T last = elementAt(--size);
+        heap[size] = null;
+        if (size > 0) {
+            siftDown(0, last);
         }
         return smallest;
     }
 
+    private void siftUp(int index, T element) {
+        int k = index;
+        while (k > 0) {
+            int parent = (k - 1) >>> 1;
+            T parentElement = elementAt(parent);
+            if (comparator.compare(element, parentElement) >= 0) {
+                break;
+            }
+            heap[k] = parentElement;
+            k = parent;
+        }
+        heap[k] = element;
+    }
+
+    private void siftDown(int index, T element) {
+        int k = index;
+        int half = size >>> 1;
+        while (k < half) {
+            int child = 2 * k + 1;
+            T childElement = elementAt(child);
+            int right = child + 1;
+            if (right < size && comparator.compare(childElement, elementAt(right)) > 0) {
+                child = right;
+                childElement = elementAt(right);
+            }
+            if (comparator.compare(element, childElement) <= 0) {
+                break;
+            }
+            heap[k] = childElement;
+            k = child;
+        }
+        heap[k] = element;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(int index) {
+        return (T) heap[index];
+    }
+
     @Override
     public int remainingCapacity() {
         return Integer.MAX_VALUE;
@@ -150,17 +214,7 @@ public int remainingCapacity() {
 
     @Override
     public int drainTo(Collection<? super T> c) {
-        lock.lock();
-        try {
-            int count = 0;
-            while (!elements.isEmpty()) {
-                c.add(elements.remove(0));
-                count++;
-            }
-            return count;
-        } finally {
-            lock.unlock();
-        }
+        return drainTo(c, Integer.MAX_VALUE);
     }
 
     @Override
@@ -168,8 +222,8 @@ public int drainTo(Collection<? super T> c, int maxElements) {
         lock.lock();
         try {
             int count = 0;
-            while (!elements.isEmpty() && count < maxElements) {
-                c.add(elements.remove(0));
+            while (size > 0 && count < maxElements) {
+                c.add(dequeue());
                 count++;
             }
             return count;
@@ -182,7 +236,7 @@ public int drainTo(Collection<? super T> c, int maxElements) {
     public int size() {
         lock.lock();
         try {
-            return elements.size();
+            return size;
         } finally {
             lock.unlock();
         }
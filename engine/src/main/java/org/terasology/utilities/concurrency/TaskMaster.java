@@ -95,6 +95,10 @@ public static <T extends Task> TaskMaster<T> createPriorityTaskMaster(String nam
         return new TaskMaster<>(name, threads, new PriorityBlockingQueue<>(queueSize, comparator));
     }
 
+    /**
+     * Creates a prioritized taskmaster whose comparator may change its ordering over time. {@link #reprioritize()} must
+     * be called whenever it does.
+     */
     public static <T extends Task> TaskMaster<T> createDynamicPriorityTaskMaster(String name, int threads, Comparator<T> comparator) {
         return new TaskMaster<>(name, threads, new DynamicPriorityBlockingQueue<>(comparator));
     }
@@ -118,6 +122,18 @@ public void put(T task) throws InterruptedException {
         taskQueue.put(task);
     }
 
+    /**
+     * Restores the order of the queued tasks after the priorities of a dynamic priority task master have changed.
+     * Does nothing for other task masters, whose priorities never change.
+     *
+     * @see #createDynamicPriorityTaskMaster(String, int, Comparator)
+     */
+    public void reprioritize() {
+        if (taskQueue instanceof DynamicPriorityBlockingQueue) {
+            ((DynamicPriorityBlockingQueue<T>) taskQueue).reprioritize();
+        }
+    }
+
     public void shutdown(T shutdownTask, boolean awaitComplete) {
         if (!shutdownTask.isTerminateSignal()) {
             throw new IllegalArgumentException("Expected task to provide terminate signal");
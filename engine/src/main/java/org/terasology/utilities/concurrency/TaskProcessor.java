@@ -19,6 +19,8 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.terasology.engine.GameThread;
+import org.terasology.monitoring.Activity;
+import org.terasology.monitoring.PerformanceMonitor;
 import org.terasology.monitoring.ThreadActivity;
 import org.terasology.monitoring.ThreadMonitor;
 
@@ -46,7 +48,8 @@ public void run() {
         while (running) {
             try {
                 T task = queue.take();
-                try (ThreadActivity ignored = ThreadMonitor.startThreadActivity(task.getName())) {
+                try (ThreadActivity ignored = ThreadMonitor.startThreadActivity(task.getName());
+                     Activity ignored2 = PerformanceMonitor.startActivity(task.getName())) {
                     task.run();
                 }
                 if (task.isTerminateSignal()) {
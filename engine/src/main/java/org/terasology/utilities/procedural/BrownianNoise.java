@@ -16,6 +16,8 @@
 
 package org.terasology.utilities.procedural;
 
+import java.util.Arrays;
+
 /**
  * Computes Brownian noise based on some noise generator.
  * Originally, Brown integrates white noise, but using other noises can be sometimes useful, too.
@@ -107,6 +109,64 @@ public float noise(float x, float y, float z) {
         return result * scale;
     }
 
+    /**
+     * Computes Fractional Brownian Motion for a grid of positions, one octave of the whole grid at a time.
+     */
+    @Override
+    public void noise(float[] xs, float[] ys, float[] result) {
+        float[] workingXs = xs.clone();
+        float[] workingYs = ys.clone();
+        float[] octave = new float[xs.length * ys.length];
+        Arrays.fill(result, 0, octave.length, 0.0f);
+        for (int i = 0; i < getOctaves(); i++) {
+            other.noise(workingXs, workingYs, octave);
+            addWeighted(result, octave, spectralWeights[i]);
+
+            multiply(workingXs, getLacunarity());
+            multiply(workingYs, getLacunarity());
+        }
+        multiply(result, octave.length, scale);
+    }
+
+    /**
+     * Computes Fractional Brownian Motion for a grid of positions, one octave of the whole grid at a time.
+     */
+    @Override
+    public void noise(float[] xs, float[] ys, float[] zs, float[] result) {
+        float[] workingXs = xs.clone();
+        float[] workingYs = ys.clone();
+        float[] workingZs = zs.clone();
+        float[] octave = new float[xs.length * ys.length * zs.length];
+        Arrays.fill(result, 0, octave.length, 0.0f);
+        for (int i = 0; i < getOctaves(); i++) {
+            other.noise(workingXs, workingYs, workingZs, octave);
+            addWeighted(result, octave, spectralWeights[i]);
+
+            multiply(workingXs, getLacunarity());
+            multiply(workingYs, getLacunarity());
+            multiply(workingZs, getLacunarity());
+        }
+        multiply(result, octave.length, scale);
+    }
+
+    private static void addWeighted(float[] result, float[] octave, float weight) {
+        for (int i = 0; i < octave.length; i++) {
+            result[i] += octave[i] * weight;
+        }
+    }
+
+    private static void multiply(float[] coordinates, double factor) {
+        for (int i = 0; i < coordinates.length; i++) {
+            coordinates[i] *= factor;
+        }
+    }
+
+    private static void multiply(float[] values, int length, float factor) {
+        for (int i = 0; i < length; i++) {
+            values[i] *= factor;
+        }
+    }
+
     private static float computeScale(float[] spectralWeights) {
         float sum = 0;
         for (float weight : spectralWeights) {
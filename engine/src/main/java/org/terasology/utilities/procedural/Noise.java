@@ -16,6 +16,9 @@
 
 package org.terasology.utilities.procedural;
 
+import org.terasology.math.Region3i;
+import org.terasology.math.geom.Rect2i;
+
 /**
  * Provides or generates noise
  *
@@ -59,4 +62,79 @@ public interface Noise {
      * @return The noise value in the range [-1..1]
      */
     float noise(float x, float y, float z);
+
+    /**
+     * Computes the noise values of a grid of positions, with one value for every combination of the given coordinates.
+     * The result is the same as evaluating each position with {@link #noise(float, float)}.
+     *
+     * @param xs     Positions on the x-axis
+     * @param ys     Positions on the y-axis
+     * @param result Receives the value of (xs[i], ys[j]) at index i + xs.length * j
+     */
+    default void noise(float[] xs, float[] ys, float[] result) {
+        int index = 0;
+        for (float y : ys) {
+            for (float x : xs) {
+                result[index++] = noise(x, y);
+            }
+        }
+    }
+
+    /**
+     * Computes the noise values of a grid of positions, with one value for every combination of the given coordinates.
+     * The result is the same as evaluating each position with {@link #noise(float, float, float)}.
+     *
+     * @param xs     Positions on the x-axis
+     * @param ys     Positions on the y-axis
+     * @param zs     Positions on the z-axis
+     * @param result Receives the value of (xs[i], ys[j], zs[k]) at index i + xs.length * (j + ys.length * k)
+     */
+    default void noise(float[] xs, float[] ys, float[] zs, float[] result) {
+        int index = 0;
+        for (float z : zs) {
+            for (float y : ys) {
+                for (float x : xs) {
+                    result[index++] = noise(x, y, z);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the noise values of all positions in the given region.
+     *
+     * @param region The region to compute the noise for
+     * @return The noise values, x-axis first
+     */
+    default float[] noise(Rect2i region) {
+        float[] result = new float[region.sizeX() * region.sizeY()];
+        noise(coordinates(region.minX(), region.sizeX()), coordinates(region.minY(), region.sizeY()), result);
+        return result;
+    }
+
+    /**
+     * Returns the noise values of all positions in the given region.
+     *
+     * @param region The region to compute the noise for
+     * @return The noise values, x-axis first, then y-axis
+     */
+    default float[] noise(Region3i region) {
+        float[] result = new float[region.sizeX() * region.sizeY() * region.sizeZ()];
+        noise(coordinates(region.minX(), region.sizeX()), coordinates(region.minY(), region.sizeY()),
+                coordinates(region.minZ(), region.sizeZ()), result);
+        return result;
+    }
+
+    /**
+     * @param min  The first position
+     * @param size The number of positions
+     * @return The consecutive integer positions starting at min, to be used with the grid methods
+     */
+    static float[] coordinates(int min, int size) {
+        float[] coordinates = new float[size];
+        for (int i = 0; i < size; i++) {
+            coordinates[i] = min + i;
+        }
+        return coordinates;
+    }
 }
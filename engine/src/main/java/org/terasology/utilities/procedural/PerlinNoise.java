@@ -24,6 +24,11 @@
  */
 public class PerlinNoise extends AbstractNoise implements Noise2D, Noise3D {
 
+    /**
+     * The z-coordinate of 2D noise
+     */
+    private static final float[] ZERO = {0};
+
     private final int[] noisePermutations;
 
     /**
@@ -77,6 +82,46 @@ public float noise(float posX, float posY, float posZ) {
         float y = posY - TeraMath.fastFloor(posY);
         float z = posZ - TeraMath.fastFloor(posZ);
 
+        return noise(xInt, yInt, zInt, x, y, z);
+    }
+
+    @Override
+    public void noise(float[] xs, float[] ys, float[] result) {
+        noise(xs, ys, ZERO, result);
+    }
+
+    /**
+     * Computes the noise values of a grid of positions. The integer and fractional parts of each coordinate are only
+     * computed once per axis instead of once per position.
+     */
+    @Override
+    public void noise(float[] xs, float[] ys, float[] zs, float[] result) {
+        int[] xInts = new int[xs.length];
+        float[] xFractions = new float[xs.length];
+        for (int i = 0; i < xs.length; i++) {
+            xInts[i] = (int) TeraMath.fastFloor(xs[i]) & 255;
+            xFractions[i] = xs[i] - TeraMath.fastFloor(xs[i]);
+        }
+
+        int index = 0;
+        for (float posZ : zs) {
+            int zInt = (int) TeraMath.fastFloor(posZ) & 255;
+            float z = posZ - TeraMath.fastFloor(posZ);
+            for (float posY : ys) {
+                int yInt = (int) TeraMath.fastFloor(posY) & 255;
+                float y = posY - TeraMath.fastFloor(posY);
+                for (int i = 0; i < xs.length; i++) {
+                    result[index++] = noise(xInts[i], yInt, zInt, xFractions[i], y, z);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param xInt The integer part of the x-coordinate, modulo 256
+     * @param x    The fractional part of the x-coordinate
+     */
+    private float noise(int xInt, int yInt, int zInt, float x, float y, float z) {
         float u = TeraMath.fadePerlin(x);
         float v = TeraMath.fadePerlin(y);
         float w = TeraMath.fadePerlin(z);
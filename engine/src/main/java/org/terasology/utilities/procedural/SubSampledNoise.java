@@ -66,6 +66,7 @@ public float noise(float x, float y) {
         return TeraMath.biLerp(q00, q10, q01, q11, xMod / sampleRate, yMod / sampleRate);
     }
 
+    @Override
     public float[] noise(Rect2i region) {
         Rect2i fullRegion = determineRequiredRegion(region);
         float[] keyData = getKeyValues(fullRegion);
@@ -111,14 +112,8 @@ private float[] getKeyValues(Rect2i fullRegion) {
         int xDim = fullRegion.sizeX() / sampleRate + 1;
         int yDim = fullRegion.sizeY() / sampleRate + 1;
         float[] fullData = new float[xDim * yDim];
-        for (int y = 0; y < yDim; y++) {
-            for (int x = 0; x < xDim; x++) {
-                int actualX = x * sampleRate + fullRegion.minX();
-                int actualY = y * sampleRate + fullRegion.minY();
-                fullData[x + y * xDim] = source.noise(zoom.x * actualX, zoom.y * actualY);
-            }
-        }
-
+        source.noise(sampleCoordinates(fullRegion.minX(), xDim, zoom.x), sampleCoordinates(fullRegion.minY(), yDim, zoom.y),
+                fullData);
         return fullData;
     }
 
@@ -155,6 +150,7 @@ public float noise(float x, float y, float z) {
         return TeraMath.triLerp(q000, q100, q010, q110, q001, q101, q011, q111, xMod / sampleRate, yMod / sampleRate, zMod / sampleRate);
     }
 
+    @Override
     public float[] noise(Region3i region) {
         Region3i fullRegion = determineRequiredRegion(region);
         float[] keyData = getKeyValues(fullRegion);
@@ -214,19 +210,23 @@ private float[] getKeyValues(Region3i fullRegion) {
         int yDim = fullRegion.sizeY() / sampleRate + 1;
         int zDim = fullRegion.sizeZ() / sampleRate + 1;
         float[] fullData = new float[xDim * yDim * zDim];
-        for (int z = 0; z < zDim; z++) {
-            for (int y = 0; y < yDim; y++) {
-                for (int x = 0; x < xDim; x++) {
-                    int actualX = x * sampleRate + fullRegion.minX();
-                    int actualY = y * sampleRate + fullRegion.minY();
-                    int actualZ = z * sampleRate + fullRegion.minZ();
-                    fullData[x + xDim * (y + yDim * z)] = source.noise(zoom.x * actualX, zoom.y * actualY, zoom.z * actualZ);
-                }
-            }
-        }
+        source.noise(sampleCoordinates(fullRegion.minX(), xDim, zoom.x), sampleCoordinates(fullRegion.minY(), yDim, zoom.y),
+                sampleCoordinates(fullRegion.minZ(), zDim, zoom.z), fullData);
         return fullData;
     }
 
+    /**
+     * @return the zoomed positions of the samples along one axis
+     */
+    private float[] sampleCoordinates(int min, int count, float axisZoom) {
+        float[] coordinates = new float[count];
+        for (int i = 0; i < count; i++) {
+            int actual = i * sampleRate + min;
+            coordinates[i] = axisZoom * actual;
+        }
+        return coordinates;
+    }
+
     private Region3i determineRequiredRegion(Region3i region) {
         int newMinX = region.minX() - IntMath.mod(region.minX(), sampleRate);
         int newMinY = region.minY() - IntMath.mod(region.minY(), sampleRate);
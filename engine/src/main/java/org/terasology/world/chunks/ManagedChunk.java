@@ -18,6 +18,8 @@
 import org.terasology.module.sandbox.API;
 import org.terasology.protobuf.EntityData;
 
+import java.util.function.Supplier;
+
 /**
  */
 @API
@@ -39,4 +41,18 @@ public interface ManagedChunk extends CoreChunk {
 
     // TODO: Expose appropriate iterators, remove this method
     EntityData.ChunkStore.Builder encode();
+
+    /**
+     * @return A number that changes whenever the block, liquid or biome data of this chunk changes
+     */
+    int getDataVersion();
+
+    /**
+     * Takes a cheap snapshot of the block, liquid and biome data of the chunk. This must be called from the thread
+     * that modifies the chunk, but the returned supplier can encode the snapshot on any thread while the chunk keeps
+     * being modified.
+     *
+     * @return A supplier that encodes the chunk data as it was when the snapshot was taken
+     */
+    Supplier<EntityData.ChunkStore.Builder> createEncodingSnapshot();
 }
@@ -0,0 +1,407 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.chunks.blockdata;
+
+import com.google.common.base.Preconditions;
+import gnu.trove.map.TShortIntMap;
+import gnu.trove.map.hash.TShortIntHashMap;
+import org.terasology.world.chunks.deflate.TeraVisitingDeflator;
+
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+import java.util.Arrays;
+
+/**
+ * TeraPaletteArray16Bit implements an array with elements of 16 bit size, which stores a palette of the values in use
+ * and a bit packed palette index per element.
+ * Its elements are in the range -32'768 through +32'767. Indices use 1, 2, 4 or 8 bits, depending on the size of the
+ * palette. Writing a value which does not fit into the palette drops unused palette entries or widens the indices.
+ * Beyond 256 values the palette is no longer used and the values are stored directly with 16 bits.
+ *
+ */
+public class TeraPaletteArray16Bit extends TeraArray {
+
+    private static final int MAX_PALETTE_BITS = 8;
+    private static final int DIRECT_BITS = 16;
+
+    // Replaced as a whole with the palette it refers to, so readers never see indices that don't match the palette
+    protected volatile PackedIndices indices;
+    // Only needed by writers, readers just look up the entries the indices refer to
+    protected int paletteSize;
+
+    public TeraPaletteArray16Bit() {
+        super();
+    }
+
+    public TeraPaletteArray16Bit(int sizeX, int sizeY, int sizeZ) {
+        super(sizeX, sizeY, sizeZ, true);
+    }
+
+    /**
+     * Packs the given values, with indices just wide enough for the number of distinct values.
+     *
+     * @param values The values of the elements, in the order of a dense array
+     */
+    public TeraPaletteArray16Bit(int sizeX, int sizeY, int sizeZ, short[] values) {
+        super(sizeX, sizeY, sizeZ, false);
+        Preconditions.checkNotNull(values);
+        Preconditions.checkArgument(values.length == getSizeXYZ(), "The length of parameter 'values' has to be " + getSizeXYZ() + " but is " + values.length);
+        TShortIntMap valueIndices = new TShortIntHashMap();
+        short[] distinct = new short[1 << MAX_PALETTE_BITS];
+        for (short value : values) {
+            if (!valueIndices.containsKey(value)) {
+                if (valueIndices.size() == distinct.length) {
+                    distinct = null;
+                    break;
+                }
+                distinct[valueIndices.size()] = value;
+                valueIndices.put(value, valueIndices.size());
+            }
+        }
+        PackedIndices packed;
+        if (distinct == null) {
+            paletteSize = 0;
+            packed = new PackedIndices(DIRECT_BITS, getSizeXYZ(), new short[0]);
+            for (int i = 0; i < values.length; i++) {
+                packed.write(i, values[i] & 0xFFFF);
+            }
+        } else {
+            paletteSize = valueIndices.size();
+            int bits = 1;
+            while ((1 << bits) < paletteSize) {
+                bits *= 2;
+            }
+            packed = new PackedIndices(bits, getSizeXYZ(), Arrays.copyOf(distinct, 1 << bits));
+            for (int i = 0; i < values.length; i++) {
+                packed.write(i, valueIndices.get(values[i]));
+            }
+        }
+        indices = packed;
+    }
+
+    protected TeraPaletteArray16Bit(int sizeX, int sizeY, int sizeZ, int bits, short[] palette, int paletteSize, long[] data) {
+        super(sizeX, sizeY, sizeZ, false);
+        Preconditions.checkArgument(bits == 1 || bits == 2 || bits == 4 || bits == MAX_PALETTE_BITS || bits == DIRECT_BITS,
+                "The parameter 'bits' has to be 1, 2, 4, 8 or 16 but is " + bits);
+        Preconditions.checkNotNull(data);
+        Preconditions.checkArgument(data.length == PackedIndices.wordsFor(bits, getSizeXYZ()),
+                "The length of parameter 'data' has to be " + PackedIndices.wordsFor(bits, getSizeXYZ()) + " but is " + data.length);
+        if (bits != DIRECT_BITS) {
+            Preconditions.checkNotNull(palette);
+            Preconditions.checkArgument(paletteSize > 0 && paletteSize <= palette.length && paletteSize <= (1 << bits),
+                    "The palette size " + paletteSize + " does not fit the palette or the index size");
+            this.paletteSize = paletteSize;
+            this.indices = new PackedIndices(bits, data, Arrays.copyOf(palette, 1 << bits));
+        } else {
+            this.paletteSize = 0;
+            this.indices = new PackedIndices(bits, data, new short[0]);
+        }
+    }
+
+    @Override
+    protected void initialize() {
+        paletteSize = 1;
+        indices = new PackedIndices(1, getSizeXYZ(), new short[2]);
+    }
+
+    @Override
+    public boolean isSparse() {
+        return false;
+    }
+
+    @Override
+    public TeraArray copy() {
+        PackedIndices current = indices;
+        return new TeraPaletteArray16Bit(getSizeX(), getSizeY(), getSizeZ(), current.bits, current.palette, paletteSize,
+                Arrays.copyOf(current.data, current.data.length));
+    }
+
+    /**
+     * Hands the values to the deflator, so it can pick the best representation again after the array has been changed.
+     */
+    @Override
+    public TeraArray deflate(TeraVisitingDeflator deflator) {
+        Preconditions.checkNotNull(deflator);
+        short[] values = new short[getSizeXYZ()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = valueAt(i);
+        }
+        return deflator.deflateDenseArray16Bit(values, getSizeXZ(), getSizeX(), getSizeY(), getSizeZ());
+    }
+
+    @Override
+    public int getEstimatedMemoryConsumptionInBytes() {
+        PackedIndices current = indices;
+        return 48 + current.palette.length * 2 + current.data.length * 8;
+    }
+
+    @Override
+    public int getElementSizeInBits() {
+        return 16;
+    }
+
+    /**
+     * @return The number of bits used per element, which is 16 if the values are stored without palette
+     */
+    public int getIndexSizeInBits() {
+        return indices.bits;
+    }
+
+    @Override
+    public int get(int x, int y, int z) {
+        return valueAt(pos(x, y, z));
+    }
+
+    @Override
+    public int set(int x, int y, int z, int value) {
+        int pos = pos(x, y, z);
+        int old = valueAt(pos);
+        if (old != (short) value) {
+            int index = indexFor((short) value, pos);
+            indices.write(pos, index);
+        }
+        return old;
+    }
+
+    @Override
+    public boolean set(int x, int y, int z, int value, int expected) {
+        int pos = pos(x, y, z);
+        int old = valueAt(pos);
+        if (old == expected) {
+            if (old != (short) value) {
+                int index = indexFor((short) value, pos);
+                indices.write(pos, index);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private short valueAt(int pos) {
+        // Read the indices once, so that their size and palette match their data even if another thread replaces them
+        PackedIndices current = indices;
+        int index = current.read(pos);
+        return (current.bits == DIRECT_BITS) ? (short) index : current.palette[index];
+    }
+
+    /**
+     * @param value     The value to store
+     * @param targetPos The position the value is stored at, whose current value does not need to be kept
+     * @return The index to store for the given value, after making room for it in the palette if necessary.
+     */
+    private int indexFor(short value, int targetPos) {
+        if (indices.bits == DIRECT_BITS) {
+            return value & 0xFFFF;
+        }
+        short[] palette = indices.palette;
+        for (int i = 0; i < paletteSize; i++) {
+            if (palette[i] == value) {
+                return i;
+            }
+        }
+        if (paletteSize == 1 << indices.bits) {
+            int index = removeUnusedPaletteEntries(value, targetPos);
+            if (index >= 0) {
+                return index;
+            }
+            widenIndices();
+            if (indices.bits == DIRECT_BITS) {
+                return value & 0xFFFF;
+            }
+        }
+        // The palette has room for every index, so the new entry is written before any index refers to it
+        indices.palette[paletteSize] = value;
+        return paletteSize++;
+    }
+
+    /**
+     * Drops the palette entries no element refers to anymore and stores the given value at the target position. The
+     * compacted palette and indices are built aside and published together, so concurrent readers see either the old
+     * or the new ones.
+     * <br><br>
+     * Only compacts if that frees a good part of the palette, to not repeat this on every write. The scan stops as soon
+     * as too many entries turn out to be in use.
+     *
+     * @param value     The value to add to the palette
+     * @param targetPos The position the value is stored at, whose current value does not need to be kept
+     * @return The index of the value in the compacted palette, or -1 if the indices should be widened instead
+     */
+    private int removeUnusedPaletteEntries(short value, int targetPos) {
+        PackedIndices current = indices;
+        int maxUsed = (3 << current.bits) / 4;
+        boolean[] used = new boolean[paletteSize];
+        int usedCount = 0;
+        for (int pos = 0; pos < getSizeXYZ(); pos++) {
+            int index = current.read(pos);
+            if (!used[index] && pos != targetPos) {
+                used[index] = true;
+                usedCount++;
+                if (usedCount > maxUsed) {
+                    return -1;
+                }
+            }
+        }
+        short[] palette = new short[current.palette.length];
+        int[] remap = new int[paletteSize];
+        int newSize = 0;
+        for (int i = 0; i < paletteSize; i++) {
+            if (used[i]) {
+                palette[newSize] = current.palette[i];
+                remap[i] = newSize++;
+            }
+        }
+        palette[newSize] = value;
+        PackedIndices compacted = new PackedIndices(current.bits, getSizeXYZ(), palette);
+        for (int pos = 0; pos < getSizeXYZ(); pos++) {
+            compacted.write(pos, (pos == targetPos) ? newSize : remap[current.read(pos)]);
+        }
+        paletteSize = newSize + 1;
+        indices = compacted;
+        return newSize;
+    }
+
+    private void widenIndices() {
+        PackedIndices current = indices;
+        int newBits = current.bits * 2;
+        PackedIndices widened;
+        if (newBits > MAX_PALETTE_BITS) {
+            widened = new PackedIndices(DIRECT_BITS, getSizeXYZ(), new short[0]);
+            for (int pos = 0; pos < getSizeXYZ(); pos++) {
+                widened.write(pos, current.palette[current.read(pos)] & 0xFFFF);
+            }
+            paletteSize = 0;
+        } else {
+            // The palette keeps its entries, so the indices keep their values
+            widened = new PackedIndices(newBits, getSizeXYZ(), Arrays.copyOf(current.palette, 1 << newBits));
+            for (int pos = 0; pos < getSizeXYZ(); pos++) {
+                widened.write(pos, current.read(pos));
+            }
+        }
+        indices = widened;
+    }
+
+    /**
+     * Indices of the given size in bits, packed into longs. The size is a power of two, so no index spans two longs.
+     * <br><br>
+     * The palette has an entry for every possible index, so it never needs to grow while the indices are in use.
+     * Without palette, when the values are stored directly, it is empty.
+     */
+    protected static final class PackedIndices {
+        private final int bits;
+        private final int mask;
+        private final long[] data;
+        private final short[] palette;
+
+        private PackedIndices(int bits, int count, short[] palette) {
+            this(bits, new long[wordsFor(bits, count)], palette);
+        }
+
+        private PackedIndices(int bits, long[] data, short[] palette) {
+            this.bits = bits;
+            this.mask = (1 << bits) - 1;
+            this.data = data;
+            this.palette = palette;
+        }
+
+        private static int wordsFor(int bits, int count) {
+            return (count * bits + 63) / 64;
+        }
+
+        private int read(int pos) {
+            int bitPos = pos * bits;
+            return (int) (data[bitPos >>> 6] >>> (bitPos & 63)) & mask;
+        }
+
+        private void write(int pos, int index) {
+            int bitPos = pos * bits;
+            int shift = bitPos & 63;
+            data[bitPos >>> 6] = (data[bitPos >>> 6] & ~((long) mask << shift)) | ((long) (index & mask) << shift);
+        }
+    }
+
+    public static class SerializationHandler extends TeraArray.BasicSerializationHandler<TeraPaletteArray16Bit> {
+
+        @Override
+        public boolean canHandle(Class<?> clazz) {
+            return TeraPaletteArray16Bit.class.equals(clazz);
+        }
+
+        @Override
+        protected int internalComputeMinimumBufferSize(TeraPaletteArray16Bit array) {
+            return 12 + array.paletteSize * 2 + array.indices.data.length * 8;
+        }
+
+        @Override
+        protected void internalSerialize(TeraPaletteArray16Bit array, ByteBuffer buffer) {
+            final PackedIndices indices = array.indices;
+            buffer.putInt(indices.bits);
+            buffer.putInt(array.paletteSize);
+            if (array.paletteSize > 0) {
+                final ShortBuffer sbuffer = buffer.asShortBuffer();
+                sbuffer.put(indices.palette, 0, array.paletteSize);
+                buffer.position(buffer.position() + array.paletteSize * 2);
+            }
+            final long[] data = indices.data;
+            buffer.putInt(data.length);
+            final LongBuffer lbuffer = buffer.asLongBuffer();
+            lbuffer.put(data);
+            buffer.position(buffer.position() + data.length * 8);
+        }
+
+        @Override
+        protected TeraPaletteArray16Bit internalDeserialize(int sizeX, int sizeY, int sizeZ, ByteBuffer buffer) {
+            final int bits = buffer.getInt();
+            final int paletteSize = buffer.getInt();
+            short[] palette = null;
+            if (paletteSize > 0) {
+                palette = new short[Math.max(2, paletteSize)];
+                final ShortBuffer sbuffer = buffer.asShortBuffer();
+                sbuffer.get(palette, 0, paletteSize);
+                buffer.position(buffer.position() + paletteSize * 2);
+            }
+            final int length = buffer.getInt();
+            final long[] data = new long[length];
+            final LongBuffer lbuffer = buffer.asLongBuffer();
+            lbuffer.get(data, 0, length);
+            buffer.position(buffer.position() + length * 8);
+            return new TeraPaletteArray16Bit(sizeX, sizeY, sizeZ, bits, palette, paletteSize, data);
+        }
+    }
+
+    public static class Factory implements TeraArray.Factory<TeraPaletteArray16Bit> {
+
+        @Override
+        public Class<TeraPaletteArray16Bit> getArrayClass() {
+            return TeraPaletteArray16Bit.class;
+        }
+
+        @Override
+        public SerializationHandler createSerializationHandler() {
+            return new SerializationHandler();
+        }
+
+        @Override
+        public TeraPaletteArray16Bit create() {
+            return new TeraPaletteArray16Bit();
+        }
+
+        @Override
+        public TeraPaletteArray16Bit create(int sizeX, int sizeY, int sizeZ) {
+            return new TeraPaletteArray16Bit(sizeX, sizeY, sizeZ);
+        }
+    }
+}
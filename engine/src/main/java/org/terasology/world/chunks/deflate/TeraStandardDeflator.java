@@ -17,12 +17,14 @@
 package org.terasology.world.chunks.deflate;
 
 import org.terasology.world.chunks.blockdata.TeraArray;
+import org.terasology.world.chunks.blockdata.TeraPaletteArray16Bit;
 import org.terasology.world.chunks.blockdata.TeraSparseArray16Bit;
 import org.terasology.world.chunks.blockdata.TeraSparseArray4Bit;
 import org.terasology.world.chunks.blockdata.TeraSparseArray8Bit;
 
 /**
  * TeraStandardDeflator implements a simple deflation algorithm for 4, 8 and 16-bit dense and sparse arrays.<br>
+ * 16-bit arrays are deflated into whichever of a sparse and a palette array needs less memory.<br>
  * <b>NOTE:</b> Currently it is optimized for chunks of size 16x256x16 blocks.<br>
  * TODO: Implement deflation for sparse arrays.
  *
@@ -103,10 +105,17 @@ public TeraArray deflateDenseArray16Bit(short[] data, int rowSize, int sizeX, in
                 return new TeraSparseArray16Bit(sizeX, sizeY, sizeZ, first);
             }
         }
+        TeraArray result = null;
+        int resultSize = 16 + data.length * 2;
         if (packed > DEFLATE_MINIMUM_16BIT) {
-            return new TeraSparseArray16Bit(sizeX, sizeY, sizeZ, inflated, deflated);
+            result = new TeraSparseArray16Bit(sizeX, sizeY, sizeZ, inflated, deflated);
+            resultSize = result.getEstimatedMemoryConsumptionInBytes();
         }
-        return null;
+        TeraArray paletted = new TeraPaletteArray16Bit(sizeX, sizeY, sizeZ, data);
+        if (paletted.getEstimatedMemoryConsumptionInBytes() < resultSize) {
+            result = paletted;
+        }
+        return result;
     }
 
     @Override
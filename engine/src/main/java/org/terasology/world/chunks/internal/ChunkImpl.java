@@ -43,6 +43,7 @@
 import org.terasology.world.liquid.LiquidData;
 
 import java.text.DecimalFormat;
+import java.util.function.Supplier;
 
 /**
  * Chunks are the basic components of the world. Each chunk contains a fixed amount of blocks
@@ -76,6 +77,12 @@ public class ChunkImpl implements Chunk {
     private TeraArray biomeData;
     private volatile TeraArray biomeDataSnapshot;
 
+    // Set when the data arrays have been handed to an encoding snapshot, so they get copied before the next change
+    private boolean blockDataShared;
+    private boolean extraDataShared;
+    private boolean biomeDataShared;
+    private volatile int dataVersion;
+
     private AABB aabb;
     private Region3i region;
 
@@ -156,11 +163,13 @@ public final Block getBlock(int x, int y, int z) {
 
     @Override
     public Block setBlock(int x, int y, int z, Block block) {
-        if (blockData == blockDataSnapshot) {
+        if (blockData == blockDataSnapshot || blockDataShared) {
             blockData = blockData.copy();
+            blockDataShared = false;
         }
         int oldValue = blockData.set(x, y, z, block.getId());
         if (oldValue != block.getId()) {
+            dataVersion++;
             if (!block.isLiquid()) {
                 setLiquid(x, y, z, new LiquidData());
             }
@@ -244,10 +253,13 @@ public void setLiquid(BaseVector3i pos, LiquidData state) {
     @Override
     public void setLiquid(int x, int y, int z, LiquidData newState) {
         byte newValue = newState.toByte();
-        if (extraData == extraDataSnapshot) {
+        if (extraData == extraDataSnapshot || extraDataShared) {
             extraData = extraData.copy();
+            extraDataShared = false;
+        }
+        if ((byte) extraData.set(x, y, z, newValue) != newValue) {
+            dataVersion++;
         }
-        extraData.set(x, y, z, newValue);
     }
 
     @Override
@@ -257,7 +269,7 @@ public LiquidData getLiquid(BaseVector3i pos) {
 
     @Override
     public LiquidData getLiquid(int x, int y, int z) {
-        return new LiquidData((byte) extraData.get(x, y, z));
+        return LiquidData.fromByte((byte) extraData.get(x, y, z));
     }
 
     @Override
@@ -267,11 +279,15 @@ public Biome getBiome(int x, int y, int z) {
 
     @Override
     public Biome setBiome(int x, int y, int z, Biome biome) {
-        if (biomeData == biomeDataSnapshot) {
+        if (biomeData == biomeDataSnapshot || biomeDataShared) {
             biomeData = biomeData.copy();
+            biomeDataShared = false;
         }
         short shortId = biomeManager.getBiomeShortId(biome);
         short previousShortId = (short) biomeData.set(x, y, z, shortId);
+        if (previousShortId != shortId) {
+            dataVersion++;
+        }
         return biomeManager.getBiomeByShortId(previousShortId);
     }
 
@@ -573,6 +589,23 @@ public EntityData.ChunkStore.Builder encode() {
         return ChunkSerializer.encode(chunkPos, blockData, extraData, biomeData);
     }
 
+    @Override
+    public int getDataVersion() {
+        return dataVersion;
+    }
+
+    @Override
+    public Supplier<EntityData.ChunkStore.Builder> createEncodingSnapshot() {
+        final Vector3i pos = new Vector3i(chunkPos);
+        final TeraArray blocks = blockData;
+        final TeraArray extra = extraData;
+        final TeraArray biomes = biomeData;
+        blockDataShared = true;
+        extraDataShared = true;
+        biomeDataShared = true;
+        return () -> ChunkSerializer.encode(pos, blocks, extra, biomes);
+    }
+
     /**
      * Calling this method results in a (cheap) snapshot to be taken of the current state of the chunk.
      * This snapshot can then be obtained and rleased by calling {@link #encodeAndReleaseSnapshot()}.
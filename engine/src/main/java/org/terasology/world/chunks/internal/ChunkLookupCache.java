@@ -0,0 +1,76 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.chunks.internal;
+
+import org.terasology.math.geom.Vector3i;
+import org.terasology.world.chunks.Chunk;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Looks up ready chunks by chunk coordinates without allocating.
+ * <p>
+ * Every thread remembers the last chunk it looked up, which serves the common case of many block accesses close to
+ * each other. Other lookups go to the chunk map of the chunk provider with a key vector that is reused per thread.
+ * The chunk provider must call {@link #invalidate()} whenever it adds chunks to or removes chunks from the map.
+ */
+public class ChunkLookupCache {
+
+    private final Map<Vector3i, Chunk> chunks;
+    private final AtomicInteger version = new AtomicInteger();
+    private final ThreadLocal<ThreadCache> threadCaches = ThreadLocal.withInitial(ThreadCache::new);
+
+    /**
+     * @param chunks The chunk map of the chunk provider. Must support concurrent lookups if chunks are looked up
+     *               outside of the thread modifying it.
+     */
+    public ChunkLookupCache(Map<Vector3i, Chunk> chunks) {
+        this.chunks = chunks;
+    }
+
+    /**
+     * @return The ready chunk at the given chunk position, or null if there is none.
+     */
+    public Chunk getReadyChunk(int x, int y, int z) {
+        ThreadCache cache = threadCaches.get();
+        int currentVersion = version.get();
+        Chunk chunk = cache.lastChunk;
+        if (chunk == null || cache.version != currentVersion || cache.key.x != x || cache.key.y != y || cache.key.z != z) {
+            cache.key.set(x, y, z);
+            chunk = chunks.get(cache.key);
+            cache.lastChunk = chunk;
+            cache.version = currentVersion;
+        }
+        if (chunk != null && chunk.isReady()) {
+            return chunk;
+        }
+        return null;
+    }
+
+    /**
+     * Drops the chunks remembered by all threads.
+     */
+    public void invalidate() {
+        version.incrementAndGet();
+    }
+
+    private static final class ThreadCache {
+        private final Vector3i key = new Vector3i();
+        private Chunk lastChunk;
+        private int version;
+    }
+}
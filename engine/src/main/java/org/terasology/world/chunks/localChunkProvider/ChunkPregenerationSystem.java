@@ -0,0 +1,167 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.chunks.localChunkProvider;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.engine.GameEngine;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.entitySystem.systems.BaseComponentSystem;
+import org.terasology.entitySystem.systems.RegisterMode;
+import org.terasology.entitySystem.systems.RegisterSystem;
+import org.terasology.entitySystem.systems.UpdateSubscriberSystem;
+import org.terasology.logic.console.commandSystem.annotations.Command;
+import org.terasology.logic.console.commandSystem.annotations.CommandParam;
+import org.terasology.logic.console.commandSystem.annotations.Sender;
+import org.terasology.logic.location.LocationComponent;
+import org.terasology.logic.permission.PermissionManager;
+import org.terasology.math.ChunkMath;
+import org.terasology.math.Region3i;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.network.ClientComponent;
+import org.terasology.registry.In;
+import org.terasology.world.chunks.ChunkProvider;
+
+/**
+ * Commands to pre-generate the chunks of a region, so that players do not have to wait for them to be generated.
+ * <p>
+ * When the {@link #PREGENERATE_RADIUS_PROPERTY} system property is set, the chunks around the origin are pre-generated
+ * as soon as the game has started, and the engine shuts down once they are stored. This is meant for generating
+ * worlds in bulk on a headless server.
+ */
+@RegisterSystem(RegisterMode.AUTHORITY)
+public class ChunkPregenerationSystem extends BaseComponentSystem implements UpdateSubscriberSystem {
+    public static final String PREGENERATE_RADIUS_PROPERTY = "org.terasology.pregenerateRadius";
+
+    /**
+     * The vertical extent in chunks of regions given by a radius. Covers the height of the largest view distance.
+     */
+    private static final int VERTICAL_EXTENT = 3;
+
+    private static final Logger logger = LoggerFactory.getLogger(ChunkPregenerationSystem.class);
+
+    @In
+    private ChunkProvider chunkProvider;
+
+    @In
+    private GameEngine gameEngine;
+
+    private boolean shutdownOnCompletion;
+
+    @Override
+    public void postBegin() {
+        String radius = System.getProperty(PREGENERATE_RADIUS_PROPERTY);
+        if (radius == null) {
+            return;
+        }
+        if (!(chunkProvider instanceof LocalChunkProvider)) {
+            logger.error("Cannot pre-generate chunks without a local chunk provider");
+            return;
+        }
+        try {
+            Region3i region = createRegion(Vector3i.zero(), Integer.parseInt(radius));
+            ((LocalChunkProvider) chunkProvider).startPregeneration(region);
+            shutdownOnCompletion = true;
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid pre-generation radius '{}'", radius, e);
+        }
+    }
+
+    /**
+     * Checks the current pre-generation rather than the one started with the game, which a command may have replaced.
+     */
+    @Override
+    public void update(float delta) {
+        if (!shutdownOnCompletion) {
+            return;
+        }
+        ChunkPregenerator pregenerator = ((LocalChunkProvider) chunkProvider).getPregenerator();
+        if (pregenerator != null && pregenerator.isFinished()) {
+            logger.info("Pre-generation done, shutting down");
+            shutdownOnCompletion = false;
+            gameEngine.shutdown();
+        }
+    }
+
+    @Command(shortDescription = "Pre-generates the chunks around you",
+            helpText = "Generates and stores all chunks within the given horizontal radius in chunks around the chunk " +
+                    "you are in. Chunks that are already stored are skipped, so an interrupted pre-generation can be " +
+                    "resumed by running the command again.",
+            runOnServer = true, requiredPermission = PermissionManager.SERVER_MANAGEMENT_PERMISSION)
+    public String pregenerate(@Sender EntityRef sender, @CommandParam("radius") int radius) {
+        Vector3i center = Vector3i.zero();
+        EntityRef character = sender.getComponent(ClientComponent.class).character;
+        LocationComponent location = character.getComponent(LocationComponent.class);
+        if (location != null) {
+            center = ChunkMath.calcChunkPos(location.getWorldPosition());
+        }
+        return start(createRegion(center, radius));
+    }
+
+    @Command(shortDescription = "Pre-generates the chunks of a box",
+            helpText = "Generates and stores all chunks between the given chunk positions, inclusive. Chunks that " +
+                    "are already stored are skipped.",
+            runOnServer = true, requiredPermission = PermissionManager.SERVER_MANAGEMENT_PERMISSION)
+    public String pregenerateBox(@CommandParam("minX") int minX, @CommandParam("minY") int minY,
+                                 @CommandParam("minZ") int minZ, @CommandParam("maxX") int maxX,
+                                 @CommandParam("maxY") int maxY, @CommandParam("maxZ") int maxZ) {
+        if (minX > maxX || minY > maxY || minZ > maxZ) {
+            throw new IllegalArgumentException("The minimum must not be larger than the maximum");
+        }
+        return start(Region3i.createFromMinMax(new Vector3i(minX, minY, minZ), new Vector3i(maxX, maxY, maxZ)));
+    }
+
+    @Command(shortDescription = "Shows the progress of the chunk pre-generation", runOnServer = true,
+            requiredPermission = PermissionManager.SERVER_MANAGEMENT_PERMISSION)
+    public String pregenerationStatus() {
+        ChunkPregenerator pregenerator = getLocalChunkProvider().getPregenerator();
+        if (pregenerator == null) {
+            return "No pre-generation has been started";
+        }
+        String state = pregenerator.isFinished() ? "Finished" : pregenerator.isCancelled() ? "Cancelling" : "Running";
+        return state + ": " + pregenerator.getStatus();
+    }
+
+    @Command(shortDescription = "Stops the chunk pre-generation", runOnServer = true,
+            requiredPermission = PermissionManager.SERVER_MANAGEMENT_PERMISSION)
+    public String cancelPregeneration() {
+        ChunkPregenerator pregenerator = getLocalChunkProvider().getPregenerator();
+        if (pregenerator == null || pregenerator.isFinished()) {
+            return "No pre-generation is running";
+        }
+        pregenerator.cancel();
+        return "Pre-generation cancelled after " + pregenerator.getGenerated() + " chunks";
+    }
+
+    private String start(Region3i region) {
+        ChunkPregenerator pregenerator = getLocalChunkProvider().startPregeneration(region);
+        return "Pre-generating " + pregenerator.getTotal() + " chunks in " + region;
+    }
+
+    private LocalChunkProvider getLocalChunkProvider() {
+        if (!(chunkProvider instanceof LocalChunkProvider)) {
+            throw new IllegalStateException("Chunks can only be pre-generated where the world is generated");
+        }
+        return (LocalChunkProvider) chunkProvider;
+    }
+
+    private static Region3i createRegion(Vector3i center, int radius) {
+        if (radius < 0) {
+            throw new IllegalArgumentException("The radius must not be negative");
+        }
+        return Region3i.createFromCenterExtents(center, new Vector3i(radius, VERTICAL_EXTENT, radius));
+    }
+}
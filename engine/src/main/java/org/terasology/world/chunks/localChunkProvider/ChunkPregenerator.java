@@ -0,0 +1,300 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.chunks.localChunkProvider;
+
+import com.google.common.collect.Queues;
+import com.google.common.collect.Sets;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.entitySystem.entity.EntityStore;
+import org.terasology.math.Region3i;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.persistence.StorageManager;
+import org.terasology.world.chunks.Chunk;
+import org.terasology.world.chunks.pipeline.AbstractChunkTask;
+import org.terasology.world.generation.impl.EntityBufferImpl;
+import org.terasology.world.propagation.light.InternalLightProcessor;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates, lights and stores every chunk of a region without making the chunks available to the world.
+ * <p>
+ * Chunks are generated on the chunk generation pipeline of the owning {@link LocalChunkProvider}, which ranks them
+ * behind every chunk requested by relevance regions. Only a bounded number of chunks is in flight
+ * at any time: finished chunks are handed straight to the storage manager as if they had been unloaded, and a save is
+ * requested every {@link #CHUNKS_PER_SAVE} chunks so that they do not pile up in memory. Submission pauses while twice
+ * that many chunks wait for a save that can't start yet, because the previous one is still running.
+ * <p>
+ * Chunks that are already stored are skipped, so an interrupted pre-generation resumes where it stopped when it is
+ * started again for the same region. Chunks that get loaded into the world while they are being pre-generated are
+ * discarded, the loaded chunk takes precedence.
+ * <p>
+ * All methods but the generation tasks run on the main thread.
+ */
+public class ChunkPregenerator {
+
+    static final int CHUNKS_PER_SAVE = 1024;
+
+    private static final Logger logger = LoggerFactory.getLogger(ChunkPregenerator.class);
+    private static final int MAX_TASKS_IN_FLIGHT = 2 * Runtime.getRuntime().availableProcessors();
+    private static final long STORE_NANOS_PER_UPDATE = TimeUnit.MILLISECONDS.toNanos(4);
+    private static final long PROGRESS_LOG_INTERVAL = TimeUnit.SECONDS.toNanos(5);
+
+    private final LocalChunkProvider chunkProvider;
+    private final StorageManager storageManager;
+    private final Region3i region;
+    private final int chunksPerSave;
+    private final int maxTasksInFlight;
+    private final int total;
+    private final Iterator<Vector3i> pendingPositions;
+
+    private final Set<Vector3i> positionsInFlight = Sets.newHashSet();
+    private final Set<Vector3i> supersededPositions = Sets.newHashSet();
+    private final Queue<GeneratedChunk> generatedChunks = Queues.newConcurrentLinkedQueue();
+
+    private int generated;
+    private int skipped;
+    private int failed;
+    private int storedSinceSave;
+    private boolean cancelled;
+    private boolean finished;
+
+    private final long startTime = System.nanoTime();
+    private long lastProgressLog = startTime;
+    private long finishTime;
+
+    /**
+     * @param chunkProvider  The chunk provider whose pipeline generates the chunks
+     * @param storageManager The storage manager receiving the chunks
+     * @param region         The region of chunk positions to pre-generate
+     */
+    ChunkPregenerator(LocalChunkProvider chunkProvider, StorageManager storageManager, Region3i region) {
+        this(chunkProvider, storageManager, region, CHUNKS_PER_SAVE, MAX_TASKS_IN_FLIGHT);
+    }
+
+    /**
+     * @param chunkProvider    The chunk provider whose pipeline generates the chunks
+     * @param storageManager   The storage manager receiving the chunks
+     * @param region           The region of chunk positions to pre-generate
+     * @param chunksPerSave    The number of chunks to store between two saves
+     * @param maxTasksInFlight The maximum number of chunks being generated at once
+     */
+    ChunkPregenerator(LocalChunkProvider chunkProvider, StorageManager storageManager, Region3i region, int chunksPerSave,
+                      int maxTasksInFlight) {
+        this.chunkProvider = chunkProvider;
+        this.storageManager = storageManager;
+        this.region = region;
+        this.chunksPerSave = chunksPerSave;
+        this.maxTasksInFlight = maxTasksInFlight;
+        this.total = region.sizeX() * region.sizeY() * region.sizeZ();
+        this.pendingPositions = region.iterator();
+        logger.info("Pre-generating {} chunks in {}", total, region);
+    }
+
+    /**
+     * Stores the chunks generated since the last update and keeps the pipeline busy with new ones.
+     */
+    void update() {
+        if (finished) {
+            return;
+        }
+        storeGeneratedChunks();
+        // Checked every update, so that a save that was due while the previous one was running is not missed
+        if (storedSinceSave >= chunksPerSave && !storageManager.isSaving()) {
+            storageManager.requestSaving();
+            storedSinceSave = 0;
+        }
+        submitTasks();
+
+        long now = System.nanoTime();
+        if (positionsInFlight.isEmpty() && (cancelled || !pendingPositions.hasNext())) {
+            finished = true;
+            finishTime = now;
+            storageManager.requestSaving();
+            logger.info("{} {}", cancelled ? "Cancelled pre-generation:" : "Finished pre-generation:", getStatus());
+        } else if (now - lastProgressLog >= PROGRESS_LOG_INTERVAL) {
+            lastProgressLog = now;
+            logger.info("Pre-generation progress: {}", getStatus());
+        }
+    }
+
+    /**
+     * Marks a chunk that is being loaded into the world, so that a pre-generated version of it does not overwrite it.
+     *
+     * @param chunkPos The position of the chunk being loaded
+     */
+    void onChunkRequested(Vector3i chunkPos) {
+        if (positionsInFlight.contains(chunkPos)) {
+            supersededPositions.add(chunkPos);
+        }
+    }
+
+    /**
+     * Stops submitting chunks. The chunks already in flight are still stored.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public Region3i getRegion() {
+        return region;
+    }
+
+    /**
+     * @return The number of chunks that have been generated and stored
+     */
+    public int getGenerated() {
+        return generated;
+    }
+
+    /**
+     * @return The number of chunks that were already stored or loaded, and the generated chunks that were discarded
+     */
+    public int getSkipped() {
+        return skipped;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * @return The number of chunks generated per second so far
+     */
+    public float getThroughput() {
+        long end = finished ? finishTime : System.nanoTime();
+        float seconds = (end - startTime) / (float) TimeUnit.SECONDS.toNanos(1);
+        return seconds > 0 ? generated / seconds : 0;
+    }
+
+    public String getStatus() {
+        int done = generated + skipped + failed;
+        return String.format(Locale.ROOT, "%d/%d chunks (%.1f%%), %d generated, %d skipped, %d failed, %.1f chunks/s",
+                done, total, total > 0 ? 100f * done / total : 100f, generated, skipped, failed, getThroughput());
+    }
+
+    private void storeGeneratedChunks() {
+        long deadline = System.nanoTime() + STORE_NANOS_PER_UPDATE;
+        GeneratedChunk result = generatedChunks.poll();
+        while (result != null) {
+            positionsInFlight.remove(result.position);
+            boolean superseded = supersededPositions.remove(result.position);
+            if (result.error != null) {
+                failed++;
+                logger.error("Failed to pre-generate chunk {}", result.position, result.error);
+            } else if (result.chunk == null) {
+                skipped++;
+            } else if (superseded || chunkProvider.isChunkLoadedOrPreparing(result.position)) {
+                result.chunk.dispose();
+                skipped++;
+            } else {
+                store(result);
+            }
+            if (System.nanoTime() >= deadline) {
+                break;
+            }
+            result = generatedChunks.poll();
+        }
+    }
+
+    private void store(GeneratedChunk result) {
+        result.entities.forEach(chunkProvider::generateQueuedEntities);
+        storageManager.deactivateChunk(result.chunk);
+        result.chunk.dispose();
+        generated++;
+        storedSinceSave++;
+    }
+
+    private void submitTasks() {
+        // Wait for a pending save rather than piling up unsaved chunks in memory
+        if (cancelled || storedSinceSave >= 2 * chunksPerSave) {
+            return;
+        }
+        while (positionsInFlight.size() < maxTasksInFlight && pendingPositions.hasNext()) {
+            Vector3i pos = pendingPositions.next();
+            if (chunkProvider.isChunkLoadedOrPreparing(pos)) {
+                skipped++;
+                continue;
+            }
+            positionsInFlight.add(pos);
+            chunkProvider.submitTask(new PregenerateChunkTask(pos));
+        }
+    }
+
+    class PregenerateChunkTask extends AbstractChunkTask {
+
+        PregenerateChunkTask(Vector3i position) {
+            super(position);
+        }
+
+        @Override
+        public String getName() {
+            return "Pre-generate Chunk";
+        }
+
+        @Override
+        public void run() {
+            GeneratedChunk result;
+            try {
+                if (storageManager.loadChunkStore(getPosition()) != null) {
+                    result = new GeneratedChunk(getPosition(), null, Collections.emptyList(), null);
+                } else {
+                    EntityBufferImpl buffer = new EntityBufferImpl();
+                    Chunk chunk = chunkProvider.generateChunk(getPosition(), buffer);
+                    InternalLightProcessor.generateInternalLighting(chunk);
+                    chunk.deflate();
+                    result = new GeneratedChunk(getPosition(), chunk, buffer.getAll(), null);
+                }
+            } catch (RuntimeException e) {
+                result = new GeneratedChunk(getPosition(), null, Collections.emptyList(), e);
+            }
+            generatedChunks.offer(result);
+        }
+    }
+
+    private static final class GeneratedChunk {
+        private final Vector3i position;
+        private final Chunk chunk;
+        private final List<EntityStore> entities;
+        private final Throwable error;
+
+        private GeneratedChunk(Vector3i position, Chunk chunk, List<EntityStore> entities, Throwable error) {
+            this.position = position;
+            this.chunk = chunk;
+            this.entities = entities;
+            this.error = error;
+        }
+    }
+}
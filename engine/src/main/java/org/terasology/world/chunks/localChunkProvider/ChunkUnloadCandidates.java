@@ -0,0 +1,94 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.chunks.localChunkProvider;
+
+import com.google.common.collect.Sets;
+import org.terasology.math.geom.Vector3i;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * The chunks that may have become irrelevant since the last check, in the order they were added.
+ * <p>
+ * Each tick, the candidates are unloaded until a time budget is used up. The remaining ones are kept for the next tick.
+ */
+class ChunkUnloadCandidates {
+    private final Set<Vector3i> candidates = Sets.newLinkedHashSet();
+    private final LongSupplier nanoTime;
+
+    ChunkUnloadCandidates() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * @param nanoTime the clock the time budget is measured with
+     */
+    ChunkUnloadCandidates(LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+    }
+
+    public void add(Vector3i pos) {
+        candidates.add(pos);
+    }
+
+    public boolean contains(Vector3i pos) {
+        return candidates.contains(pos);
+    }
+
+    public int size() {
+        return candidates.size();
+    }
+
+    public void clear() {
+        candidates.clear();
+    }
+
+    /**
+     * Unloads candidates until the time budget is used up. At least one chunk is unloaded, if any can be.
+     * <p>
+     * Candidates that are no longer irrelevant are dropped. Locked candidates, and those that failed to unload, stay
+     * candidates.
+     *
+     * @param isIrrelevant whether a candidate is loaded and no longer relevant to any region
+     * @param isLocked     whether a candidate must not be unloaded yet
+     * @param unload       unloads a candidate, and returns whether it succeeded
+     * @param budgetNanos  the time to spend unloading
+     * @return The number of unloaded chunks
+     */
+    public int unload(Predicate<Vector3i> isIrrelevant, Predicate<Vector3i> isLocked, Predicate<Vector3i> unload, long budgetNanos) {
+        long deadline = nanoTime.getAsLong() + budgetNanos;
+        int unloaded = 0;
+        Iterator<Vector3i> iterator = candidates.iterator();
+        while (iterator.hasNext()) {
+            Vector3i pos = iterator.next();
+            if (!isIrrelevant.test(pos)) {
+                iterator.remove();
+            } else if (!isLocked.test(pos)) {
+                if (unloaded > 0 && nanoTime.getAsLong() >= deadline) {
+                    break;
+                }
+                if (unload.test(pos)) {
+                    iterator.remove();
+                    unloaded++;
+                }
+            }
+        }
+        return unloaded;
+    }
+}
@@ -58,6 +58,7 @@
 import org.terasology.world.chunks.event.OnChunkLoaded;
 import org.terasology.world.chunks.event.PurgeWorldEvent;
 import org.terasology.world.chunks.internal.ChunkImpl;
+import org.terasology.world.chunks.internal.ChunkLookupCache;
 import org.terasology.world.chunks.internal.ChunkRelevanceRegion;
 import org.terasology.world.chunks.internal.GeneratingChunkProvider;
 import org.terasology.world.chunks.internal.ReadyChunkInfo;
@@ -79,6 +80,7 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -87,7 +89,8 @@
 public class LocalChunkProvider implements GeneratingChunkProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(LocalChunkProvider.class);
-    private static final int UNLOAD_PER_FRAME = 64;
+    private static final int DEFAULT_UNLOAD_MILLIS_PER_TICK = 2;
+    private static final int DEFAULT_MERGES_PER_TICK = 16;
     private static final Vector3i UNLOAD_LEEWAY = Vector3i.one();
 
     private StorageManager storageManager;
@@ -100,6 +103,15 @@ public class LocalChunkProvider implements GeneratingChunkProvider {
     private Map<EntityRef, ChunkRelevanceRegion> regions = Maps.newHashMap();
 
     private Map<Vector3i, Chunk> nearCache = Maps.newConcurrentMap();
+    private final ChunkLookupCache chunkLookupCache = new ChunkLookupCache(nearCache);
+
+    /**
+     * Loaded chunks that may no longer be relevant to any region. Guarded by the region lock.
+     */
+    private final ChunkUnloadCandidates unloadCandidates = new ChunkUnloadCandidates();
+    private final RelevanceRegionIndex relevanceIndex = new RelevanceRegionIndex();
+    private boolean relevanceIndexOutdated = true;
+    private long unloadNanosPerTick = TimeUnit.MILLISECONDS.toNanos(DEFAULT_UNLOAD_MILLIS_PER_TICK);
 
     private final Set<Vector3i> preparingChunks = Sets.newHashSet();
     private final BlockingQueue<ReadyChunkInfo> readyChunks = Queues.newLinkedBlockingQueue();
@@ -114,20 +126,50 @@ public class LocalChunkProvider implements GeneratingChunkProvider {
     private BiomeManager biomeManager;
     private BlockEntityRegistry registry;
 
-    private LightMerger<ReadyChunkInfo> lightMerger = new LightMerger<>(this);
+    private final int lightMergeThreads;
+    private final int maxMergesPerTick;
+    private LightMerger<ReadyChunkInfo> lightMerger;
+
+    private ChunkPregenerator pregenerator;
+    /**
+     * Replaced pre-generations that still have chunks in flight, kept up to date until those are stored.
+     */
+    private final List<ChunkPregenerator> replacedPregenerators = Lists.newArrayList();
 
     public LocalChunkProvider(StorageManager storageManager, EntityManager entityManager, WorldGenerator generator,
                               BlockManager blockManager, BiomeManager biomeManager) {
+        this(storageManager, entityManager, generator, blockManager, biomeManager, LightMerger.DEFAULT_THREADS, DEFAULT_MERGES_PER_TICK);
+    }
+
+    /**
+     * @param lightMergeThreads The number of threads used to merge the lighting of newly available chunks
+     * @param maxMergesPerTick  The maximum number of light merges started per update
+     */
+    public LocalChunkProvider(StorageManager storageManager, EntityManager entityManager, WorldGenerator generator,
+                              BlockManager blockManager, BiomeManager biomeManager, int lightMergeThreads, int maxMergesPerTick) {
         this.storageManager = storageManager;
         this.entityManager = entityManager;
         this.generator = generator;
         this.blockManager = blockManager;
         this.biomeManager = biomeManager;
+        this.lightMergeThreads = lightMergeThreads;
+        this.maxMergesPerTick = maxMergesPerTick;
+        this.lightMerger = new LightMerger<>(this, lightMergeThreads);
         this.pipeline = new ChunkGenerationPipeline(new ChunkTaskRelevanceComparator());
         this.unloadRequestTaskMaster = TaskMaster.createFIFOTaskMaster("Chunk-Unloader", 4);
         ChunkMonitor.fireChunkProviderInitialized(this);
     }
 
+    /**
+     * Sets how much time each update may spend unloading chunks that are no longer relevant. At least one chunk is
+     * unloaded per update regardless.
+     *
+     * @param milliseconds The time budget, or 0 or less to use the default
+     */
+    public void setMaxUnloadTimePerTick(int milliseconds) {
+        unloadNanosPerTick = TimeUnit.MILLISECONDS.toNanos(milliseconds > 0 ? milliseconds : DEFAULT_UNLOAD_MILLIS_PER_TICK);
+    }
+
     public void setBlockEntityRegistry(BlockEntityRegistry value) {
         this.registry = value;
     }
@@ -203,9 +245,11 @@ public void addRelevanceEntity(EntityRef entity, Vector3i distance, ChunkRegionL
         regionLock.writeLock().lock();
         try {
             regions.put(entity, region);
+            relevanceIndexOutdated = true;
         } finally {
             regionLock.writeLock().unlock();
         }
+        pipeline.reprioritize();
         for (Vector3i pos : region.getCurrentRegion()) {
             Chunk chunk = getChunk(pos);
             if (chunk != null) {
@@ -233,17 +277,25 @@ public void updateRelevanceEntity(EntityRef entity, Vector3i distance) {
     public void removeRelevanceEntity(EntityRef entity) {
         regionLock.writeLock().lock();
         try {
-            regions.remove(entity);
+            ChunkRelevanceRegion region = regions.remove(entity);
+            if (region != null) {
+                addUnloadCandidates(region.getCurrentRegion().expand(UNLOAD_LEEWAY).iterator());
+                relevanceIndexOutdated = true;
+            }
         } finally {
             regionLock.writeLock().unlock();
         }
+        pipeline.reprioritize();
     }
 
     @Override
     public void completeUpdate() {
-        ReadyChunkInfo readyChunkInfo = lightMerger.completeMerge();
-        if (readyChunkInfo != null) {
+        for (ReadyChunkInfo readyChunkInfo : lightMerger.completeMerges()) {
             Chunk chunk = readyChunkInfo.getChunk();
+            if (nearCache.get(readyChunkInfo.getPos()) != chunk) {
+                // Chunk was dropped or reloaded while its lighting was being merged
+                continue;
+            }
             chunk.markReady();
             updateAdjacentChunksReadyFieldOf(chunk);
             updateAdjacentChunksReadyFieldOfAdjChunks(chunk);
@@ -285,7 +337,7 @@ public void completeUpdate() {
         }
     }
 
-    private void generateQueuedEntities(EntityStore store) {
+    void generateQueuedEntities(EntityStore store) {
         Prefab prefab = store.getPrefab();
         EntityRef entity;
         if (prefab != null) {
@@ -309,6 +361,58 @@ public void beginUpdate() {
         } finally {
             regionLock.readLock().unlock();
         }
+        if (pregenerator != null) {
+            pregenerator.update();
+        }
+        Iterator<ChunkPregenerator> replaced = replacedPregenerators.iterator();
+        while (replaced.hasNext()) {
+            ChunkPregenerator replacedPregenerator = replaced.next();
+            replacedPregenerator.update();
+            if (replacedPregenerator.isFinished()) {
+                replaced.remove();
+            }
+        }
+    }
+
+    /**
+     * Starts generating and storing all chunks of the given region in the background, without loading them into the
+     * world. A pre-generation that is still running is cancelled, but kept updating until the chunks it has in flight
+     * are stored.
+     *
+     * @param chunkRegion The region of chunk positions to pre-generate
+     * @return The job, to follow its progress
+     */
+    public ChunkPregenerator startPregeneration(Region3i chunkRegion) {
+        if (pregenerator != null && !pregenerator.isFinished()) {
+            pregenerator.cancel();
+            replacedPregenerators.add(pregenerator);
+        }
+        pregenerator = new ChunkPregenerator(this, storageManager, chunkRegion);
+        return pregenerator;
+    }
+
+    /**
+     * @return The most recently started pre-generation, or null if none has been started
+     */
+    public ChunkPregenerator getPregenerator() {
+        return pregenerator;
+    }
+
+    void submitTask(ChunkTask task) {
+        pipeline.doTask(task);
+    }
+
+    boolean isChunkLoadedOrPreparing(Vector3i chunkPos) {
+        return nearCache.containsKey(chunkPos) || preparingChunks.contains(chunkPos);
+    }
+
+    /**
+     * Creates a new chunk and lets the world generator fill it. May be called from any thread.
+     */
+    Chunk generateChunk(Vector3i chunkPos, EntityBufferImpl buffer) {
+        Chunk chunk = new ChunkImpl(chunkPos, blockManager, biomeManager);
+        generator.createChunk(chunk, buffer);
+        return chunk;
     }
 
     private void makeChunksAvailable() {
@@ -316,7 +420,10 @@ private void makeChunksAvailable() {
         readyChunks.drainTo(newReadyChunks);
         for (ReadyChunkInfo readyChunkInfo : newReadyChunks) {
             nearCache.put(readyChunkInfo.getPos(), readyChunkInfo.getChunk());
+            chunkLookupCache.invalidate();
             preparingChunks.remove(readyChunkInfo.getPos());
+            // The regions may have moved on while the chunk was prepared
+            unloadCandidates.add(readyChunkInfo.getPos());
         }
         updateRelevanceRegionsWithNewChunks(newReadyChunks);
         if (!newReadyChunks.isEmpty()) {
@@ -324,16 +431,16 @@ private void makeChunksAvailable() {
             Collections.sort(sortedReadyChunks, new ReadyChunkRelevanceComparator());
         }
         if (!sortedReadyChunks.isEmpty()) {
-            boolean loaded = false;
-            for (int i = sortedReadyChunks.size() - 1; i >= 0 && !loaded; i--) {
+            PerformanceMonitor.startActivity("Make Chunk Available");
+            int started = 0;
+            for (int i = sortedReadyChunks.size() - 1; i >= 0 && started < maxMergesPerTick && !lightMerger.isSaturated(); i--) {
                 ReadyChunkInfo chunkInfo = sortedReadyChunks.get(i);
-                PerformanceMonitor.startActivity("Make Chunk Available");
                 if (makeChunkAvailable(chunkInfo)) {
                     sortedReadyChunks.remove(i);
-                    loaded = true;
+                    started++;
                 }
-                PerformanceMonitor.endActivity();
             }
+            PerformanceMonitor.endActivity();
         }
     }
 
@@ -358,34 +465,43 @@ private void deactivateBlocks() {
         }
     }
 
+    /**
+     * Unloads chunks that are no longer relevant to any region, until the time budget of this tick is used up.
+     * Instead of testing every loaded chunk against every region, only the chunks that regions have moved away from,
+     * or that were loaded since the last check, are tested.
+     */
     private void checkForUnload() {
         PerformanceMonitor.startActivity("Unloading irrelevant chunks");
-        int unloaded = 0;
-        logger.debug("Compacting cache");
-        Iterator<Vector3i> iterator = nearCache.keySet().iterator();
-        while (iterator.hasNext()) {
-            Vector3i pos = iterator.next();
-            boolean keep = false;
-            for (ChunkRelevanceRegion region : regions.values()) {
-                if (region.getCurrentRegion().expand(UNLOAD_LEEWAY).encompasses(pos)) {
-                    keep = true;
-                    break;
-                }
-            }
-            if (!keep) {
-                // TODO: need some way to not dispose chunks being edited or processed (or do so safely)
-                // Note: Above won't matter if all changes are on the main thread
-                if (unloadChunkInternal(pos)) {
-                    iterator.remove();
-                    if (++unloaded >= UNLOAD_PER_FRAME) {
-                        break;
-                    }
-                }
-            }
+        if (relevanceIndexOutdated) {
+            relevanceIndex.rebuild(regions.values(), UNLOAD_LEEWAY);
+            relevanceIndexOutdated = false;
         }
+        // Chunks locked by a light merge stay candidates until the merge has completed
+        unloadCandidates.unload(pos -> nearCache.containsKey(pos) && !relevanceIndex.isRelevant(pos),
+                lightMerger::isChunkLocked, this::unloadChunk, unloadNanosPerTick);
         PerformanceMonitor.endActivity();
     }
 
+    private boolean unloadChunk(Vector3i pos) {
+        // TODO: need some way to not dispose chunks being edited or processed (or do so safely)
+        // Note: Above won't matter if all changes are on the main thread
+        if (unloadChunkInternal(pos)) {
+            nearCache.remove(pos);
+            chunkLookupCache.invalidate();
+            return true;
+        }
+        return false;
+    }
+
+    private void addUnloadCandidates(Iterator<Vector3i> positions) {
+        while (positions.hasNext()) {
+            Vector3i pos = positions.next();
+            if (nearCache.containsKey(pos)) {
+                unloadCandidates.add(pos);
+            }
+        }
+    }
+
     private boolean unloadChunkInternal(Vector3i pos) {
         Chunk chunk = nearCache.get(pos);
         if (!chunk.isReady()) {
@@ -447,9 +563,15 @@ private void updateAdjacentChunksReadyFieldOfAdjChunks(Chunk chunkInCenter) {
 
 
     private void updateRelevance() {
+        boolean regionsChanged = false;
         for (ChunkRelevanceRegion chunkRelevanceRegion : regions.values()) {
             chunkRelevanceRegion.update();
             if (chunkRelevanceRegion.isDirty()) {
+                regionsChanged = true;
+                Region3i previousRegion = chunkRelevanceRegion.getPreviousRegion();
+                if (!previousRegion.isEmpty()) {
+                    addUnloadCandidates(previousRegion.expand(UNLOAD_LEEWAY).subtract(chunkRelevanceRegion.getCurrentRegion().expand(UNLOAD_LEEWAY)));
+                }
                 for (Vector3i pos : chunkRelevanceRegion.getNeededChunks()) {
                     Chunk chunk = nearCache.get(pos);
                     if (chunk != null) {
@@ -461,6 +583,11 @@ private void updateRelevance() {
                 chunkRelevanceRegion.setUpToDate();
             }
         }
+        if (regionsChanged) {
+            relevanceIndexOutdated = true;
+            // Chunks are prioritized by their distance to the regions, which have moved
+            pipeline.reprioritize();
+        }
     }
 
     private boolean makeChunkAvailable(final ReadyChunkInfo readyChunkInfo) {
@@ -473,8 +600,7 @@ private boolean makeChunkAvailable(final ReadyChunkInfo readyChunkInfo) {
                 return false;
             }
         }
-        lightMerger.beginMerge(chunk, readyChunkInfo);
-        return true;
+        return lightMerger.beginMerge(chunk, readyChunkInfo);
     }
 
     void gatherBlockPositionsForDeactivate(Chunk chunk) {
@@ -504,7 +630,7 @@ private TShortObjectMap<TIntList> createBatchBlockEventMappings(Chunk chunk) {
 
     @Override
     public Chunk getChunk(int x, int y, int z) {
-        return getChunk(new Vector3i(x, y, z));
+        return chunkLookupCache.getReadyChunk(x, y, z);
     }
 
     @Override
@@ -545,6 +671,8 @@ public void dispose() {
             chunk.dispose();
         }
         nearCache.clear();
+        chunkLookupCache.invalidate();
+        unloadCandidates.clear();
         /*
          * The chunk monitor needs to clear chunk references, so it's important
          * that no new chunk get created
@@ -560,6 +688,7 @@ public boolean reloadChunk(Vector3i coords) {
 
         if (unloadChunkInternal(coords)) {
             nearCache.remove(coords);
+            chunkLookupCache.invalidate();
             createOrLoadChunk(coords);
             return true;
         }
@@ -571,6 +700,9 @@ public boolean reloadChunk(Vector3i coords) {
     public void purgeWorld() {
         ChunkMonitor.fireChunkProviderDisposed(this);
         pipeline.shutdown();
+        // The tasks of the old pipeline are dropped, so the pre-generations could never finish
+        pregenerator = null;
+        replacedPregenerators.clear();
         unloadRequestTaskMaster.shutdown(new ChunkUnloadRequest(), true);
         lightMerger.shutdown();
 
@@ -580,6 +712,8 @@ public void purgeWorld() {
             chunk.dispose();
         });
         nearCache.clear();
+        chunkLookupCache.invalidate();
+        unloadCandidates.clear();
         readyChunks.clear();
         sortedReadyChunks.clear();
         storageManager.deleteWorld();
@@ -588,8 +722,7 @@ public void purgeWorld() {
 
         pipeline = new ChunkGenerationPipeline(new ChunkTaskRelevanceComparator());
         unloadRequestTaskMaster = TaskMaster.createFIFOTaskMaster("Chunk-Unloader", 8);
-        lightMerger = new LightMerger<>(this);
-        lightMerger.restart();
+        lightMerger = new LightMerger<>(this, lightMergeThreads);
         ChunkMonitor.fireChunkProviderInitialized(this);
 
         for (ChunkRelevanceRegion chunkRelevanceRegion : regions.values()) {
@@ -604,6 +737,10 @@ private void createOrLoadChunk(Vector3i chunkPos) {
         Chunk chunk = nearCache.get(chunkPos);
         if (chunk == null && !preparingChunks.contains(chunkPos)) {
             preparingChunks.add(chunkPos);
+            if (pregenerator != null) {
+                pregenerator.onChunkRequested(chunkPos);
+            }
+            replacedPregenerators.forEach(replaced -> replaced.onChunkRequested(chunkPos));
             pipeline.doTask(new AbstractChunkTask(chunkPos) {
                 @Override
                 public String getName() {
@@ -616,8 +753,7 @@ public void run() {
                     Chunk chunk;
                     EntityBufferImpl buffer = new EntityBufferImpl();
                     if (chunkStore == null) {
-                        chunk = new ChunkImpl(getPosition(), blockManager, biomeManager);
-                        generator.createChunk(chunk, buffer);
+                        chunk = generateChunk(getPosition(), buffer);
                     } else {
                         chunk = chunkStore.getChunk();
                     }
@@ -655,7 +791,13 @@ private class ChunkTaskRelevanceComparator implements Comparator<ChunkTask> {
 
         @Override
         public int compare(ChunkTask o1, ChunkTask o2) {
-            return score(o1) - score(o2);
+            // Pre-generation only runs when no chunk is waited for by a relevance region
+            boolean background1 = o1 instanceof ChunkPregenerator.PregenerateChunkTask;
+            boolean background2 = o2 instanceof ChunkPregenerator.PregenerateChunkTask;
+            if (background1 != background2) {
+                return background1 ? 1 : -1;
+            }
+            return Integer.compare(score(o1), score(o2));
         }
 
         private int score(ChunkTask task) {
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.chunks.localChunkProvider;
+
+import com.google.common.collect.Lists;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import org.terasology.math.Region3i;
+import org.terasology.math.geom.BaseVector3i;
+import org.terasology.world.chunks.internal.ChunkRelevanceRegion;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Spatial index over the bounds of chunk relevance regions, to find out whether a chunk is kept loaded by any of them
+ * without testing every region.
+ * <p>
+ * The bounds are bucketed into cells of 8x8x8 chunks, and a query only tests the bounds overlapping the cell of the
+ * queried chunk. Queries do not allocate.
+ */
+class RelevanceRegionIndex {
+    private static final int CELL_SHIFT = 3;
+    private static final long KEY_MASK = (1L << 21) - 1;
+
+    private final TLongObjectMap<List<Region3i>> cells = new TLongObjectHashMap<>();
+
+    /**
+     * Replaces the indexed bounds with those of the given regions.
+     *
+     * @param regions the relevance regions to index
+     * @param leeway  the distance in chunks by which each region is expanded before indexing
+     */
+    public void rebuild(Collection<ChunkRelevanceRegion> regions, BaseVector3i leeway) {
+        cells.clear();
+        for (ChunkRelevanceRegion region : regions) {
+            Region3i current = region.getCurrentRegion();
+            if (current.isEmpty()) {
+                continue;
+            }
+            Region3i bounds = current.expand(leeway);
+            for (int x = bounds.minX() >> CELL_SHIFT; x <= bounds.maxX() >> CELL_SHIFT; x++) {
+                for (int y = bounds.minY() >> CELL_SHIFT; y <= bounds.maxY() >> CELL_SHIFT; y++) {
+                    for (int z = bounds.minZ() >> CELL_SHIFT; z <= bounds.maxZ() >> CELL_SHIFT; z++) {
+                        long key = cellKey(x, y, z);
+                        List<Region3i> cell = cells.get(key);
+                        if (cell == null) {
+                            cell = Lists.newArrayListWithCapacity(2);
+                            cells.put(key, cell);
+                        }
+                        cell.add(bounds);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @param chunkPos the position of a chunk
+     * @return Whether the chunk lies within the expanded bounds of any indexed region
+     */
+    public boolean isRelevant(BaseVector3i chunkPos) {
+        List<Region3i> cell = cells.get(cellKey(chunkPos.x() >> CELL_SHIFT, chunkPos.y() >> CELL_SHIFT, chunkPos.z() >> CELL_SHIFT));
+        if (cell == null) {
+            return false;
+        }
+        for (int i = 0; i < cell.size(); i++) {
+            if (cell.get(i).encompasses(chunkPos.x(), chunkPos.y(), chunkPos.z())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long cellKey(int x, int y, int z) {
+        return ((x & KEY_MASK) << 42) | ((y & KEY_MASK) << 21) | (z & KEY_MASK);
+    }
+}
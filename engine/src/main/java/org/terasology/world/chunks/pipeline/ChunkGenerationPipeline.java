@@ -42,6 +42,13 @@ public void doTask(ChunkTask task) {
         }
     }
 
+    /**
+     * Restores the order of the queued tasks after the priorities of the comparator have changed.
+     */
+    public void reprioritize() {
+        chunkGenerator.reprioritize();
+    }
+
     public void shutdown() {
         chunkGenerator.shutdown(new ShutdownChunkTask(), false);
     }
@@ -38,6 +38,7 @@
 import org.terasology.world.chunks.ChunkProvider;
 import org.terasology.world.chunks.ChunkRegionListener;
 import org.terasology.world.chunks.event.OnChunkLoaded;
+import org.terasology.world.chunks.internal.ChunkLookupCache;
 import org.terasology.world.chunks.internal.GeneratingChunkProvider;
 import org.terasology.world.chunks.pipeline.AbstractChunkTask;
 import org.terasology.world.chunks.pipeline.ChunkGenerationPipeline;
@@ -59,9 +60,10 @@
  */
 public class RemoteChunkProvider implements ChunkProvider, GeneratingChunkProvider {
 
-    private static final int LOAD_PER_FRAME = 1;
+    private static final int LOAD_PER_FRAME = 4;
     private static final Logger logger = LoggerFactory.getLogger(RemoteChunkProvider.class);
     private Map<Vector3i, Chunk> chunkCache = Maps.newHashMap();
+    private final ChunkLookupCache chunkLookupCache = new ChunkLookupCache(chunkCache);
     private final BlockingQueue<Chunk> readyChunks = Queues.newLinkedBlockingQueue();
     private List<Chunk> sortedReadyChunks = Lists.newArrayList();
     private ChunkReadyListener listener;
@@ -104,6 +106,7 @@ public void run() {
 
     public void invalidateChunks(Vector3i pos) {
         Chunk removed = chunkCache.remove(pos);
+        chunkLookupCache.invalidate();
         if (removed != null && !removed.isReady()) {
             sortedReadyChunks.remove(removed);
         }
@@ -120,6 +123,7 @@ public void beginUpdate() {
                 Collections.sort(sortedReadyChunks, new ReadyChunkRelevanceComparator());
                 for (Chunk chunk : newReadyChunks) {
                     Chunk oldChunk = chunkCache.put(chunk.getPosition(), chunk);
+                    chunkLookupCache.invalidate();
                     if (oldChunk != null) {
                         oldChunk.dispose();
                         updateAdjacentChunksReadyFieldOfAdjChunks(chunk);
@@ -128,7 +132,7 @@ public void beginUpdate() {
             }
             if (!sortedReadyChunks.isEmpty()) {
                 int loaded = 0;
-                for (int i = sortedReadyChunks.size() - 1; i >= 0 && loaded < LOAD_PER_FRAME; i--) {
+                for (int i = sortedReadyChunks.size() - 1; i >= 0 && loaded < LOAD_PER_FRAME && !lightMerger.isSaturated(); i--) {
                     Chunk chunkInfo = sortedReadyChunks.get(i);
                     PerformanceMonitor.startActivity("Make Chunk Available");
                     if (makeChunkAvailable(chunkInfo)) {
@@ -148,14 +152,13 @@ private boolean makeChunkAvailable(final Chunk chunk) {
             }
         }
 
-        lightMerger.beginMerge(chunk, chunk);
-        return true;
+        return lightMerger.beginMerge(chunk, chunk);
     }
 
 
     @Override
     public Chunk getChunk(int x, int y, int z) {
-        return getChunk(new Vector3i(x, y, z));
+        return chunkLookupCache.getReadyChunk(x, y, z);
     }
 
     @Override
@@ -265,8 +268,11 @@ public void removeRelevanceEntity(EntityRef entity) {
 
     @Override
     public void completeUpdate() {
-        Chunk chunk = lightMerger.completeMerge();
-        if (chunk != null) {
+        for (Chunk chunk : lightMerger.completeMerges()) {
+            if (chunkCache.get(chunk.getPosition()) != chunk) {
+                // Chunk was invalidated or replaced while its lighting was being merged
+                continue;
+            }
             chunk.markReady();
             updateAdjacentChunksReadyFieldOf(chunk);
             updateAdjacentChunksReadyFieldOfAdjChunks(chunk);
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.generation;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.math.Region3i;
+import org.terasology.utilities.collection.TypeMap;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shares the 2D facets generated for a region with all regions of the same horizontal extent, so that the vertically
+ * stacked chunks of a column do not generate them again each.
+ * <p>
+ * Only facets whose whole provider chain produces and updates nothing but {@link WorldFacet2D}s are cached, as only
+ * those cannot depend on the vertical extent of a region. A chain is not cached either if a provider outside of it
+ * updates one of its outputs, as that provider would modify the shared instances. Entries are keyed by the facet type,
+ * the horizontal extent of the region and the border of the facet. The least recently used entries are evicted once
+ * the cache is full.
+ * <p>
+ * Every region of a column is handed the same facet instances, which may be in use by several chunk generation
+ * threads at once. Consumers must treat cached facets as read-only.
+ */
+class ColumnFacetCache {
+    static final int DEFAULT_MAXIMUM_SIZE = 2048;
+
+    private static final Logger logger = LoggerFactory.getLogger(ColumnFacetCache.class);
+    private static final long STATS_LOG_INTERVAL = 4096;
+
+    private final ListMultimap<Class<? extends WorldFacet>, FacetProvider> facetProviderChains;
+    private final Map<Class<? extends WorldFacet>, Border3D> borders;
+
+    /**
+     * The facets produced or updated by the provider chain of each cacheable facet.
+     */
+    private final Map<Class<? extends WorldFacet>, Set<Class<? extends WorldFacet>>> chainOutputs = Maps.newHashMap();
+    private final Cache<Key, TypeMap<WorldFacet>> cache;
+    private final AtomicLong requests = new AtomicLong();
+
+    ColumnFacetCache(ListMultimap<Class<? extends WorldFacet>, FacetProvider> facetProviderChains,
+                     Map<Class<? extends WorldFacet>, Border3D> borders, int maximumSize) {
+        this.facetProviderChains = facetProviderChains;
+        this.borders = borders;
+        this.cache = CacheBuilder.newBuilder()
+                .concurrencyLevel(Runtime.getRuntime().availableProcessors())
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+
+        for (Class<? extends WorldFacet> facet : facetProviderChains.keySet()) {
+            Set<Class<? extends WorldFacet>> outputs = determineChainOutputs(facet);
+            if (outputs != null) {
+                chainOutputs.put(facet, outputs);
+            }
+        }
+        logger.debug("Sharing the facets {} between chunks of the same column", chainOutputs.keySet());
+    }
+
+    /**
+     * @return the facets produced and updated by the chain of the given facet, or null if any of them is not 2D or is
+     * updated by a provider outside the chain
+     */
+    private Set<Class<? extends WorldFacet>> determineChainOutputs(Class<? extends WorldFacet> facet) {
+        if (!WorldFacet2D.class.isAssignableFrom(facet)) {
+            return null;
+        }
+        Set<Class<? extends WorldFacet>> outputs = Sets.newHashSet();
+        for (FacetProvider provider : facetProviderChains.get(facet)) {
+            Produces produces = provider.getClass().getAnnotation(Produces.class);
+            if (produces != null) {
+                outputs.addAll(Arrays.asList(produces.value()));
+            }
+            Updates updates = provider.getClass().getAnnotation(Updates.class);
+            if (updates != null) {
+                for (Facet updated : updates.value()) {
+                    outputs.add(updated.value());
+                }
+            }
+        }
+        for (Class<? extends WorldFacet> output : outputs) {
+            if (!WorldFacet2D.class.isAssignableFrom(output)) {
+                return null;
+            }
+        }
+        Set<FacetProvider> chain = Sets.newHashSet(facetProviderChains.get(facet));
+        for (FacetProvider provider : Sets.newHashSet(facetProviderChains.values())) {
+            Updates updates = provider.getClass().getAnnotation(Updates.class);
+            if (updates != null && !chain.contains(provider)) {
+                for (Facet updated : updates.value()) {
+                    if (outputs.contains(updated.value())) {
+                        return null;
+                    }
+                }
+            }
+        }
+        return outputs;
+    }
+
+    public boolean isCacheable(Class<? extends WorldFacet> facet) {
+        return chainOutputs.containsKey(facet);
+    }
+
+    /**
+     * Retrieves the facets generated by the provider chain of a cacheable facet, generating them on a miss. Concurrent
+     * requests for the same column wait for a single generation.
+     *
+     * @param facet  the requested facet, must be cacheable
+     * @param region the region the facet is requested for
+     * @return the facets generated by the provider chain of the requested facet, including itself
+     */
+    public TypeMap<WorldFacet> getFacets(Class<? extends WorldFacet> facet, Region3i region) {
+        Border3D border = borders.containsKey(facet) ? borders.get(facet) : new Border3D(0, 0, 0);
+        Key key = new Key(facet, region.minX(), region.minZ(), region.sizeX(), region.sizeZ(), border);
+        try {
+            return cache.get(key, () -> generate(facet, region));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            throw new RuntimeException("Failed to generate " + facet.getSimpleName() + " for " + region, e.getCause());
+        } finally {
+            if (requests.incrementAndGet() % STATS_LOG_INTERVAL == 0 && logger.isDebugEnabled()) {
+                CacheStats stats = cache.stats();
+                logger.debug("Column facet cache: {} entries, hit rate {}, {} evictions",
+                        cache.size(), String.format("%.2f", stats.hitRate()), stats.evictionCount());
+            }
+        }
+    }
+
+    private TypeMap<WorldFacet> generate(Class<? extends WorldFacet> facet, Region3i region) {
+        RegionImpl columnRegion = new RegionImpl(region, facetProviderChains, borders);
+        columnRegion.getFacet(facet);
+        TypeMap<WorldFacet> result = TypeMap.create();
+        for (Class<? extends WorldFacet> output : chainOutputs.get(facet)) {
+            copyFacet(output, columnRegion, result);
+        }
+        return result;
+    }
+
+    private static <T extends WorldFacet> void copyFacet(Class<T> type, RegionImpl from, TypeMap<WorldFacet> to) {
+        T value = from.getRegionFacet(type);
+        if (value != null) {
+            to.put(type, value);
+        }
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static final class Key {
+        private final Class<? extends WorldFacet> facet;
+        private final int minX;
+        private final int minZ;
+        private final int sizeX;
+        private final int sizeZ;
+        private final Border3D border;
+
+        private Key(Class<? extends WorldFacet> facet, int minX, int minZ, int sizeX, int sizeZ, Border3D border) {
+            this.facet = facet;
+            this.minX = minX;
+            this.minZ = minZ;
+            this.sizeX = sizeX;
+            this.sizeZ = sizeZ;
+            this.border = border;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof Key) {
+                Key other = (Key) obj;
+                return facet == other.facet && minX == other.minX && minZ == other.minZ
+                        && sizeX == other.sizeX && sizeZ == other.sizeZ && Objects.equals(border, other.border);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(facet, minX, minZ, sizeX, sizeZ, border);
+        }
+    }
+}
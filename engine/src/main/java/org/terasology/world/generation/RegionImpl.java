@@ -35,26 +35,57 @@ public class RegionImpl implements Region, GeneratingRegion {
     private final Set<FacetProvider> processedProviders = Sets.newHashSet();
     private final TypeMap<WorldFacet> generatedFacets = TypeMap.create();
 
+    private final ColumnFacetCache columnFacetCache;
+
     public RegionImpl(Region3i region, ListMultimap<Class<? extends WorldFacet>, FacetProvider> facetProviderChains, Map<Class<? extends WorldFacet>, Border3D> borders) {
+        this(region, facetProviderChains, borders, null);
+    }
+
+    RegionImpl(Region3i region, ListMultimap<Class<? extends WorldFacet>, FacetProvider> facetProviderChains, Map<Class<? extends WorldFacet>, Border3D> borders,
+               ColumnFacetCache columnFacetCache) {
         this.region = region;
         this.facetProviderChains = facetProviderChains;
         this.borders = borders;
+        this.columnFacetCache = columnFacetCache;
     }
 
     @Override
     public <T extends WorldFacet> T getFacet(Class<T> dataType) {
         T facet = generatedFacets.get(dataType);
         if (facet == null) {
-            facetProviderChains.get(dataType).stream().filter(provider -> !processedProviders.contains(provider)).forEach(provider -> {
-                provider.process(this);
-                processedProviders.add(provider);
-            });
+            if (columnFacetCache != null && columnFacetCache.isCacheable(dataType)) {
+                useColumnFacets(dataType);
+            } else {
+                facetProviderChains.get(dataType).stream().filter(provider -> !processedProviders.contains(provider)).forEach(provider -> {
+                    provider.process(this);
+                    processedProviders.add(provider);
+                });
+            }
             facet = generatingFacets.get(dataType);
             generatedFacets.put(dataType, facet);
         }
         return facet;
     }
 
+    /**
+     * Takes the facets generated by the chain of the given facet from the column cache, as if the chain had been
+     * processed for this region. Facets this region already generated itself are kept, as they may have been updated
+     * by providers outside the chain.
+     */
+    private void useColumnFacets(Class<? extends WorldFacet> dataType) {
+        TypeMap<WorldFacet> columnFacets = columnFacetCache.getFacets(dataType, region);
+        for (Class<? extends WorldFacet> type : columnFacets.keySet()) {
+            if (type == dataType || !generatingFacets.containsKey(type)) {
+                copyFacet(type, columnFacets);
+            }
+        }
+        processedProviders.addAll(facetProviderChains.get(dataType));
+    }
+
+    private <T extends WorldFacet> void copyFacet(Class<T> type, TypeMap<WorldFacet> from) {
+        generatingFacets.put(type, from.get(type));
+    }
+
     @Override
     public Region3i getRegion() {
         return region;
@@ -15,6 +15,7 @@
  */
 package org.terasology.world.generation;
 
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Sets;
 import org.terasology.math.Region3i;
@@ -34,6 +35,7 @@ public class WorldImpl implements World {
     private final List<EntityProvider> entityProviders;
     private final Map<Class<? extends WorldFacet>, Border3D> borders;
     private final int seaLevel;
+    private final ColumnFacetCache columnFacetCache;
 
     public WorldImpl(ListMultimap<Class<? extends WorldFacet>, FacetProvider> facetProviderChains,
                      List<WorldRasterizer> worldRasterizers,
@@ -45,6 +47,7 @@ public WorldImpl(ListMultimap<Class<? extends WorldFacet>, FacetProvider> facetP
         this.entityProviders = entityProviders;
         this.borders = borders;
         this.seaLevel = seaLevel;
+        this.columnFacetCache = new ColumnFacetCache(facetProviderChains, borders, ColumnFacetCache.DEFAULT_MAXIMUM_SIZE);
     }
 
     @Override
@@ -59,7 +62,9 @@ public int getSeaLevel() {
 
     @Override
     public void rasterizeChunk(CoreChunk chunk, EntityBuffer buffer) {
-        Region chunkRegion = getWorldData(chunk.getRegion());
+        // 2D facets are shared between the chunks of a column, the world data of other regions is generated on its own
+        // so that it reflects changes to the configuration of the facet providers
+        Region chunkRegion = new RegionImpl(chunk.getRegion(), facetProviderChains, borders, columnFacetCache);
         for (WorldRasterizer rasterizer : worldRasterizers) {
             rasterizer.generateChunk(chunk, chunkRegion);
         }
@@ -68,6 +73,13 @@ public void rasterizeChunk(CoreChunk chunk, EntityBuffer buffer) {
         }
     }
 
+    /**
+     * @return the statistics of the cache sharing 2D facets between the chunks of a column
+     */
+    public CacheStats getColumnFacetCacheStats() {
+        return columnFacetCache.getStats();
+    }
+
     @Override
     public Set<Class<? extends WorldFacet>> getAllFacets() {
         return Sets.newHashSet(facetProviderChains.keySet());
@@ -75,6 +87,8 @@ public Set<Class<? extends WorldFacet>> getAllFacets() {
 
     @Override
     public void initialize() {
+        columnFacetCache.invalidateAll();
+
         // throw them all in a set to remove duplicates
         Collection<FacetProvider> facetProviders = new LinkedHashSet<>(facetProviderChains.values());
 
@@ -171,7 +171,7 @@ public ChunkViewCore getWorldViewAround(Vector3i chunk) {
 
     @Override
     public boolean isBlockRelevant(int x, int y, int z) {
-        return chunkProvider.isChunkReady(ChunkMath.calcChunkPos(x, y, z));
+        return chunkProvider.getChunk(ChunkMath.calcChunkPosX(x), ChunkMath.calcChunkPosY(y), ChunkMath.calcChunkPosZ(z)) != null;
     }
 
     @Override
@@ -288,13 +288,14 @@ private void notifyBiomeChanged(Vector3i pos, Biome newBiome, Biome originalBiom
 
     @Override
     public boolean setLiquid(int x, int y, int z, LiquidData newState, LiquidData oldState) {
-        Vector3i chunkPos = ChunkMath.calcChunkPos(x, y, z);
-        CoreChunk chunk = chunkProvider.getChunk(chunkPos);
+        CoreChunk chunk = chunkProvider.getChunk(ChunkMath.calcChunkPosX(x), ChunkMath.calcChunkPosY(y), ChunkMath.calcChunkPosZ(z));
         if (chunk != null) {
-            Vector3i blockPos = ChunkMath.calcBlockPos(x, y, z);
-            LiquidData liquidState = chunk.getLiquid(blockPos);
+            int blockX = ChunkMath.calcBlockPosX(x);
+            int blockY = ChunkMath.calcBlockPosY(y);
+            int blockZ = ChunkMath.calcBlockPosZ(z);
+            LiquidData liquidState = chunk.getLiquid(blockX, blockY, blockZ);
             if (liquidState.equals(oldState)) {
-                chunk.setLiquid(blockPos, newState);
+                chunk.setLiquid(blockX, blockY, blockZ, newState);
                 return true;
             }
         }
@@ -303,13 +304,11 @@ public boolean setLiquid(int x, int y, int z, LiquidData newState, LiquidData ol
 
     @Override
     public LiquidData getLiquid(int x, int y, int z) {
-        Vector3i chunkPos = ChunkMath.calcChunkPos(x, y, z);
-        CoreChunk chunk = chunkProvider.getChunk(chunkPos);
+        CoreChunk chunk = chunkProvider.getChunk(ChunkMath.calcChunkPosX(x), ChunkMath.calcChunkPosY(y), ChunkMath.calcChunkPosZ(z));
         if (chunk != null) {
-            Vector3i blockPos = ChunkMath.calcBlockPos(x, y, z);
-            return chunk.getLiquid(blockPos);
+            return chunk.getLiquid(ChunkMath.calcBlockPosX(x), ChunkMath.calcBlockPosY(y), ChunkMath.calcBlockPosZ(z));
         }
-        return new LiquidData();
+        return LiquidData.fromByte((byte) 0);
     }
 
     @Override
@@ -362,33 +361,30 @@ public Biome setBiome(Vector3i worldPos, Biome biome) {
 
     @Override
     public byte getLight(int x, int y, int z) {
-        Vector3i chunkPos = ChunkMath.calcChunkPos(x, y, z);
-        LitChunk chunk = chunkProvider.getChunk(chunkPos);
+        LitChunk chunk = chunkProvider.getChunk(ChunkMath.calcChunkPosX(x), ChunkMath.calcChunkPosY(y), ChunkMath.calcChunkPosZ(z));
         if (chunk != null) {
-            Vector3i blockPos = ChunkMath.calcBlockPos(x, y, z);
-            return chunk.getLight(blockPos);
+            return chunk.getLight(ChunkMath.calcBlockPosX(x), ChunkMath.calcBlockPosY(y), ChunkMath.calcBlockPosZ(z));
         }
         return 0;
     }
 
     @Override
     public byte getSunlight(int x, int y, int z) {
-        Vector3i chunkPos = ChunkMath.calcChunkPos(x, y, z);
-        LitChunk chunk = chunkProvider.getChunk(chunkPos);
+        LitChunk chunk = chunkProvider.getChunk(ChunkMath.calcChunkPosX(x), ChunkMath.calcChunkPosY(y), ChunkMath.calcChunkPosZ(z));
         if (chunk != null) {
-            Vector3i blockPos = ChunkMath.calcBlockPos(x, y, z);
-            return chunk.getSunlight(blockPos);
+            return chunk.getSunlight(ChunkMath.calcBlockPosX(x), ChunkMath.calcBlockPosY(y), ChunkMath.calcBlockPosZ(z));
         }
         return 0;
     }
 
     @Override
     public byte getTotalLight(int x, int y, int z) {
-        Vector3i chunkPos = ChunkMath.calcChunkPos(x, y, z);
-        LitChunk chunk = chunkProvider.getChunk(chunkPos);
+        LitChunk chunk = chunkProvider.getChunk(ChunkMath.calcChunkPosX(x), ChunkMath.calcChunkPosY(y), ChunkMath.calcChunkPosZ(z));
         if (chunk != null) {
-            Vector3i blockPos = ChunkMath.calcBlockPos(x, y, z);
-            return (byte) Math.max(chunk.getSunlight(blockPos), chunk.getLight(blockPos));
+            int blockX = ChunkMath.calcBlockPosX(x);
+            int blockY = ChunkMath.calcBlockPosY(y);
+            int blockZ = ChunkMath.calcBlockPosZ(z);
+            return (byte) Math.max(chunk.getSunlight(blockX, blockY, blockZ), chunk.getLight(blockX, blockY, blockZ));
         }
         return 0;
     }
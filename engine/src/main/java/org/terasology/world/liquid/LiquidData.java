@@ -26,6 +26,13 @@
 public class LiquidData {
     public static final byte MAX_LIQUID_DEPTH = 0x07;
     private static final byte LIQUID_DEPTH_FILTER = 0x07;
+    private static final LiquidData[] FROM_RAW_DATA = new LiquidData[256];
+
+    static {
+        for (int i = 0; i < FROM_RAW_DATA.length; i++) {
+            FROM_RAW_DATA[i] = new LiquidData((byte) i);
+        }
+    }
 
     private LiquidType type;
     private byte depth;
@@ -50,6 +57,13 @@ public LiquidData(byte rawData) {
         this.depth = (byte) (rawData & LIQUID_DEPTH_FILTER);
     }
 
+    /**
+     * @return The liquid state described by the given raw data. The instances are shared, as liquid data is immutable.
+     */
+    public static LiquidData fromByte(byte rawData) {
+        return FROM_RAW_DATA[rawData & 0xFF];
+    }
+
     public LiquidType getType() {
         return type;
     }
@@ -16,10 +16,15 @@
 package org.terasology.world.propagation.light;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Queues;
+import com.google.common.collect.Sets;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.terasology.math.Region3i;
 import org.terasology.math.Side;
 import org.terasology.math.geom.Vector3i;
+import org.terasology.monitoring.Activity;
+import org.terasology.monitoring.PerformanceMonitor;
 import org.terasology.world.chunks.Chunk;
 import org.terasology.world.chunks.LitChunk;
 import org.terasology.world.chunks.internal.GeneratingChunkProvider;
@@ -31,19 +36,41 @@
 import org.terasology.world.propagation.SunlightRegenBatchPropagator;
 
 import java.util.List;
-import java.util.concurrent.ExecutionException;
+import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Merges the lighting of newly available chunks with their neighbours.
+ * <p>
+ * Merges are run on a pool of worker threads. Each merge works on the 3x3x3 neighbourhood of chunks around the chunk
+ * being merged, so merges are only started if their neighbourhood does not overlap with one that is still in flight.
+ * Finished merges are collected by the main thread through {@link #completeMerges()}, which never blocks. Failed merges
+ * are logged and unlock their neighbourhood, but their data is not handed back.
+ * <p>
+ * {@link #beginMerge(Chunk, Object)} and {@link #completeMerges()} must be called from the same thread.
+ *
+ * @param <T> The type of data handed back when a merge completes
+ */
 public class LightMerger<T> {
+    public static final int DEFAULT_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
     private static final int CENTER_INDEX = 13;
+    private static final int MAX_QUEUED_MERGES_PER_THREAD = 2;
 
     private static final Logger logger = LoggerFactory.getLogger(LightMerger.class);
 
-    private ExecutorService executorService = Executors.newSingleThreadExecutor();
-    private Future<T> resultFuture;
+    private final int threads;
+    private ExecutorService executorService;
+
+    private final Queue<MergeResult<T>> completedMerges = Queues.newConcurrentLinkedQueue();
+    private final Set<Vector3i> lockedChunks = Sets.newHashSet();
+    private int mergesInFlight;
 
     private GeneratingChunkProvider chunkProvider;
     private LightPropagationRules lightRules = new LightPropagationRules();
@@ -52,27 +79,111 @@
     private boolean running = true;
 
     public LightMerger(GeneratingChunkProvider chunkProvider) {
+        this(chunkProvider, DEFAULT_THREADS);
+    }
+
+    public LightMerger(GeneratingChunkProvider chunkProvider, int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Must have at least one thread.");
+        }
         this.chunkProvider = chunkProvider;
+        this.threads = threads;
+        this.executorService = createExecutorService();
     }
 
-    public void beginMerge(final Chunk chunk, final T data) {
-        resultFuture = executorService.submit(() -> {
-            merge(chunk);
-            return data;
-        });
+    /**
+     * @param chunkPos The position of a chunk
+     * @return Whether a merge centered on the given chunk could be started now, without overlapping a running merge.
+     */
+    public boolean canBeginMerge(Vector3i chunkPos) {
+        if (isSaturated()) {
+            return false;
+        }
+        for (Vector3i pos : Region3i.createFromCenterExtents(chunkPos, 1)) {
+            if (lockedChunks.contains(pos)) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    public T completeMerge() {
-        if (resultFuture != null) {
-            try {
-                T result = resultFuture.get();
-                resultFuture = null;
-                return result;
-            } catch (InterruptedException | ExecutionException e) {
-                throw new RuntimeException("Error completing lighting merge", e);
+    /**
+     * Starts merging the given chunk with its neighbours, unless its neighbourhood is in use by another merge or the
+     * worker pool already has enough work queued.
+     *
+     * @param chunk The chunk to merge
+     * @param data  The data to hand back from {@link #completeMerges()} once the merge is done
+     * @return Whether the merge was started
+     */
+    public boolean beginMerge(final Chunk chunk, final T data) {
+        if (!canBeginMerge(chunk.getPosition())) {
+            return false;
+        }
+        final List<Vector3i> neighbourhood = Lists.newArrayListWithCapacity(27);
+        for (Vector3i pos : Region3i.createFromCenterExtents(chunk.getPosition(), 1)) {
+            neighbourhood.add(pos);
+        }
+        lockedChunks.addAll(neighbourhood);
+        mergesInFlight++;
+        try {
+            executorService.execute(() -> {
+                Throwable error = null;
+                try (Activity ignored = PerformanceMonitor.startActivity("Merge Chunk Lighting")) {
+                    merge(chunk);
+                } catch (Throwable e) {
+                    error = e;
+                } finally {
+                    // Always hand the neighbourhood back, so that it gets unlocked by completeMerges()
+                    completedMerges.add(new MergeResult<>(data, chunk.getPosition(), neighbourhood, error));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            lockedChunks.removeAll(neighbourhood);
+            mergesInFlight--;
+            throw e;
+        }
+        return true;
+    }
+
+    /**
+     * Collects the data of all merges that have finished since the last call. Does not wait for running merges.
+     * Merges that failed are logged and left out.
+     *
+     * @return The data of the successfully finished merges, in completion order
+     */
+    public List<T> completeMerges() {
+        List<T> results = Lists.newArrayList();
+        MergeResult<T> result = completedMerges.poll();
+        while (result != null) {
+            lockedChunks.removeAll(result.neighbourhood);
+            mergesInFlight--;
+            if (result.error != null) {
+                logger.error("Error merging lighting of chunk {}", result.position, result.error);
+            } else {
+                results.add(result.data);
             }
+            result = completedMerges.poll();
         }
-        return null;
+        return results;
+    }
+
+    /**
+     * @param chunkPos The position of a chunk
+     * @return Whether the chunk is part of the neighbourhood of a merge that has not been completed yet.
+     */
+    public boolean isChunkLocked(Vector3i chunkPos) {
+        return lockedChunks.contains(chunkPos);
+    }
+
+    /**
+     * @return Whether the worker pool has as much work queued as it should take.
+     */
+    public boolean isSaturated() {
+        return mergesInFlight >= threads * MAX_QUEUED_MERGES_PER_THREAD;
+    }
+
+    public int getMergesInFlight() {
+        return mergesInFlight;
     }
 
     private void merge(Chunk chunk) {
@@ -135,14 +246,41 @@ public void shutdown() {
         try {
             executorService.awaitTermination(10, TimeUnit.SECONDS);
         } catch (InterruptedException e) {
-            logger.error("Failed to shutdown light merge thread in a timely manner");
+            logger.error("Failed to shutdown light merge threads in a timely manner");
         }
+        completedMerges.clear();
+        lockedChunks.clear();
+        mergesInFlight = 0;
     }
 
     public void restart() {
         if (!running) {
-            executorService = Executors.newSingleThreadExecutor();
+            executorService = createExecutorService();
             running = true;
         }
     }
+
+    private ExecutorService createExecutorService() {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "Light-Merger-" + threadCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return Executors.newFixedThreadPool(threads, threadFactory);
+    }
+
+    private static final class MergeResult<T> {
+        private final T data;
+        private final Vector3i position;
+        private final List<Vector3i> neighbourhood;
+        private final Throwable error;
+
+        private MergeResult(T data, Vector3i position, List<Vector3i> neighbourhood, Throwable error) {
+            this.data = data;
+            this.position = position;
+            this.neighbourhood = neighbourhood;
+            this.error = error;
+        }
+    }
 }
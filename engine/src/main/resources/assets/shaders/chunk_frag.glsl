@@ -76,6 +76,13 @@ uniform sampler2D textureLava;
 
 uniform float clip;
 
+// Merged faces store their atlas tile times MERGED_FACE_TILE_STRIDE plus their position in blocks as texture coordinates
+vec2 mergedFaceTexCoord(vec2 encodedTexCoord) {
+    vec2 tile = floor(encodedTexCoord / MERGED_FACE_TILE_STRIDE);
+    float border = TEXTURE_OFFSET / 128.0;
+    return tile * TEXTURE_OFFSET + border + fract(encodedTexCoord) * (TEXTURE_OFFSET - 2.0 * border);
+}
+
 void main() {
 
 // Only necessary for opaque objects
@@ -86,6 +93,9 @@ void main() {
 #endif
 
     vec2 texCoord = gl_TexCoord[0].xy;
+    if (checkFlag(BLOCK_HINT_MERGED, blockHint)) {
+        texCoord = mergedFaceTexCoord(texCoord);
+    }
 
     vec3 normalizedVPos = -normalize(vertexViewPos.xyz);
     vec2 projectedPos = projectVertexToTexCoord(vertexProjPos);
@@ -49,6 +49,7 @@
 import org.terasology.splash.overlay.RectOverlay;
 import org.terasology.splash.overlay.TextOverlay;
 import org.terasology.splash.overlay.TriggerImageOverlay;
+import org.terasology.world.chunks.localChunkProvider.ChunkPregenerationSystem;
 
 import java.awt.GraphicsEnvironment;
 import java.awt.Point;
@@ -82,6 +83,7 @@
  * <tr><td>-noSound</td><td>Disable sound.</td></tr>
  * <tr><td>-noSplash</td><td>Disable splash screen.</td></tr>
  * <tr><td>-serverPort=xxxxx</td><td>Change the server port.</td></tr>
+ * <tr><td>-pregenerate=radius</td><td>Pre-generate the chunks around the origin, then shut down.</td></tr>
  * </tbody>
  * </table>
  * <br><br>
@@ -104,6 +106,7 @@ public final class Terasology {
     private static final String NO_SPLASH = "-noSplash";
     private static final String SERVER_PORT = "-serverPort=";
     private static final String OVERRIDE_DEFAULT_CONFIG = "-overrideDefaultConfig=";
+    private static final String PREGENERATE = "-pregenerate=";
 
     private static boolean isHeadless;
     private static boolean crashReportEnabled = true;
@@ -253,7 +256,8 @@ private static void printUsageAndExit() {
                 NO_SOUND,
                 NO_SPLASH,
                 OVERRIDE_DEFAULT_CONFIG + "<path>",
-                SERVER_PORT + "<port>");
+                SERVER_PORT + "<port>",
+                PREGENERATE + "<radius>");
 
         StringBuilder optText = new StringBuilder();
 
@@ -289,6 +293,9 @@ private static void printUsageAndExit() {
         System.out.println();
         System.out.println("To override the default generated config (useful for headless server) use the " + OVERRIDE_DEFAULT_CONFIG + " launch argument");
         System.out.println();
+        System.out.println("To generate and save all chunks within a radius (in chunks) around the origin and shut down afterwards,");
+        System.out.println("use the " + PREGENERATE + " launch argument. Running it again resumes an interrupted pre-generation.");
+        System.out.println();
         System.out.println("Examples:");
         System.out.println();
         System.out.println("    Use the current directory as the home directory:");
@@ -303,6 +310,9 @@ private static void printUsageAndExit() {
         System.out.println("    Load the latest game on startup and disable crash reporting");
         System.out.println("    terasology " + LOAD_LAST_GAME + " " + NO_CRASH_REPORT);
         System.out.println();
+        System.out.println("    Pre-generate the chunks within 32 chunks of the origin in headless mode:");
+        System.out.println("    terasology " + START_HEADLESS + " " + PREGENERATE + "32");
+        System.out.println();
         System.out.println("    Don't start Terasology, just print this help:");
         System.out.println("    terasology " + PRINT_USAGE_FLAGS[1]);
         System.out.println();
@@ -341,6 +351,8 @@ private static void handleLaunchArguments(String[] args) {
                 System.setProperty(ConfigurationSubsystem.SERVER_PORT_PROPERTY, arg.substring(SERVER_PORT.length()));
             } else if (arg.startsWith(OVERRIDE_DEFAULT_CONFIG)) {
                 System.setProperty(Config.PROPERTY_OVERRIDE_DEFAULT_CONFIG, arg.substring(OVERRIDE_DEFAULT_CONFIG.length()));
+            } else if (arg.startsWith(PREGENERATE)) {
+                System.setProperty(ChunkPregenerationSystem.PREGENERATE_RADIUS_PROPERTY, arg.substring(PREGENERATE.length()));
             } else {
                 recognized = false;
             }
@@ -23,6 +23,7 @@
 import org.terasology.math.geom.Vector2f;
 import org.terasology.rendering.nui.properties.Range;
 import org.terasology.utilities.procedural.BrownianNoise;
+import org.terasology.utilities.procedural.Noise;
 import org.terasology.utilities.procedural.PerlinNoise;
 import org.terasology.utilities.procedural.SubSampledNoise;
 import org.terasology.world.generation.ConfigurableFacetProvider;
@@ -41,8 +42,8 @@
 @Updates(@Facet(SurfaceHeightFacet.class))
 public class PerlinHillsAndMountainsProvider implements ConfigurableFacetProvider {
 
-    private SubSampledNoise mountainNoise;
-    private SubSampledNoise hillNoise;
+    private Noise mountainNoise;
+    private Noise hillNoise;
     private PerlinHillsAndMountainsProviderConfiguration configuration = new PerlinHillsAndMountainsProviderConfiguration();
 
     @Override
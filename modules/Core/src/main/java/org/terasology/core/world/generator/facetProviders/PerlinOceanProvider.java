@@ -20,6 +20,7 @@
 import org.terasology.math.geom.Vector2f;
 import org.terasology.rendering.nui.properties.Range;
 import org.terasology.utilities.procedural.BrownianNoise;
+import org.terasology.utilities.procedural.Noise;
 import org.terasology.utilities.procedural.PerlinNoise;
 import org.terasology.utilities.procedural.SubSampledNoise;
 import org.terasology.world.generation.ConfigurableFacetProvider;
@@ -35,7 +36,7 @@
 public class PerlinOceanProvider implements ConfigurableFacetProvider {
     private static final int SAMPLE_RATE = 4;
 
-    private SubSampledNoise oceanNoise;
+    private Noise oceanNoise;
     private PerlinOceanConfiguration configuration = new PerlinOceanConfiguration();
 
     @Override
@@ -18,6 +18,7 @@
 import org.terasology.math.TeraMath;
 import org.terasology.math.geom.Vector2f;
 import org.terasology.utilities.procedural.BrownianNoise;
+import org.terasology.utilities.procedural.Noise;
 import org.terasology.utilities.procedural.PerlinNoise;
 import org.terasology.utilities.procedural.SubSampledNoise;
 import org.terasology.world.generation.FacetProvider;
@@ -31,7 +32,7 @@
 public class PerlinSurfaceTemperatureProvider implements FacetProvider {
     private static final int SAMPLE_RATE = 4;
 
-    private SubSampledNoise temperatureNoise;
+    private Noise temperatureNoise;
 
     @Override
     public void setSeed(long seed) {